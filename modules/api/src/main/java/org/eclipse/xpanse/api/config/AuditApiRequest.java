@@ -29,4 +29,10 @@ public @interface AuditApiRequest {
 
     /** Identifies whether csp can be obtained directly. */
     boolean enabled() default true;
+
+    /**
+     * Identifies whether the request operates on many services, then one audit log is written for
+     * each service with the csp of the service.
+     */
+    boolean perService() default false;
 }
@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.api.config;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.audit.AuditLogsWrittenEvent;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.audit.AuditLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to write the audit logs to the plugins outside the request threads. The audit logs are
+ * queued in a bounded lock-free queue and written in batches per cloud service provider by a single
+ * drain job, which is started when the first audit log is queued and stops when the queue is empty.
+ * Audit logs are dropped instead of blocking the requests when the queue is full. The params and
+ * the result of the requests are converted to strings before the audit logs are queued, so that the
+ * queue doesn't keep the request objects alive. Audit logs left in the queue are written when the
+ * application is stopped, and audit logs dispatched afterward are written directly.
+ */
+@Slf4j
+@Component
+public class AuditLogDispatcher {
+
+    private final Queue<AuditLog> queuedAuditLogs = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicLong droppedAuditLogs = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private final ExecutorService drainExecutor =
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("xpanse-audit-log-", 0).factory());
+
+    @Value("${audit.log.queue.max.size:10000}")
+    private int maxQueueSize;
+
+    @Value("${audit.log.batch.size:100}")
+    private int batchSize;
+
+    @Resource private PluginManager pluginManager;
+    @Resource private ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Queue the audit log to be written by the plugin of its cloud service provider.
+     *
+     * @param auditLog audit log of the request.
+     * @return true if the audit log is queued, false if it is dropped as the queue is full.
+     */
+    public boolean dispatch(AuditLog auditLog) {
+        AuditLog queuedAuditLog = toQueuedAuditLog(auditLog);
+        if (stopped.get()) {
+            // the drain job is not started any more when the application is stopped.
+            writeBatch(List.of(queuedAuditLog));
+            return true;
+        }
+        if (queueSize.incrementAndGet() > maxQueueSize) {
+            queueSize.decrementAndGet();
+            long dropped = droppedAuditLogs.incrementAndGet();
+            if (dropped == 1) {
+                log.warn("Audit log queue is full, audit logs are dropped.");
+            }
+            return false;
+        }
+        queuedAuditLogs.offer(queuedAuditLog);
+        startDraining();
+        return true;
+    }
+
+    /** Write the audit logs left in the queue before the application is stopped. */
+    @PreDestroy
+    public void shutdown() {
+        stopped.set(true);
+        drainExecutor.shutdown();
+        try {
+            if (!drainExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Audit logs are still written when the application is stopped.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // the queue is drained even if the drain job is still running, each audit log is polled
+        // once.
+        drainQueue();
+    }
+
+    private void startDraining() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                drainExecutor.execute(this::drainUntilEmpty);
+            } catch (Exception e) {
+                draining.set(false);
+                if (stopped.get()) {
+                    // audit logs queued while the application is being stopped.
+                    drainQueue();
+                } else {
+                    log.warn("Failed to start the job to write the audit logs.", e);
+                }
+            }
+        }
+    }
+
+    private void drainUntilEmpty() {
+        drain();
+        // audit logs queued after the queue was seen empty and before the flag was reset.
+        if (!queuedAuditLogs.isEmpty()) {
+            startDraining();
+        }
+    }
+
+    private void drain() {
+        try {
+            drainQueue();
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private void drainQueue() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        AuditLog auditLog;
+        while ((auditLog = queuedAuditLogs.poll()) != null) {
+            queueSize.decrementAndGet();
+            batch.add(auditLog);
+            if (batch.size() >= batchSize) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+    }
+
+    private AuditLog toQueuedAuditLog(AuditLog auditLog) {
+        AuditLog queuedAuditLog = new AuditLog();
+        queuedAuditLog.setMethodName(auditLog.getMethodName());
+        queuedAuditLog.setMethodType(auditLog.getMethodType());
+        queuedAuditLog.setUrl(auditLog.getUrl());
+        if (Objects.nonNull(auditLog.getParams())) {
+            queuedAuditLog.setParams(
+                    Arrays.stream(auditLog.getParams()).map(String::valueOf).toArray());
+        }
+        if (Objects.nonNull(auditLog.getResult())) {
+            queuedAuditLog.setResult(String.valueOf(auditLog.getResult()));
+        }
+        queuedAuditLog.setCsp(auditLog.getCsp());
+        queuedAuditLog.setUserId(auditLog.getUserId());
+        queuedAuditLog.setOperatingTime(auditLog.getOperatingTime());
+        return queuedAuditLog;
+    }
+
+    private void writeBatch(List<AuditLog> batch) {
+        long startTime = System.nanoTime();
+        Map<Csp, List<AuditLog>> auditLogsByCsp = new EnumMap<>(Csp.class);
+        for (AuditLog auditLog : batch) {
+            auditLogsByCsp
+                    .computeIfAbsent(auditLog.getCsp(), csp -> new ArrayList<>())
+                    .add(auditLog);
+        }
+        int failedAuditLogs = 0;
+        for (Map.Entry<Csp, List<AuditLog>> entry : auditLogsByCsp.entrySet()) {
+            try {
+                pluginManager
+                        .getOrchestratorPlugin(entry.getKey())
+                        .auditApiRequests(entry.getValue());
+            } catch (Exception e) {
+                failedAuditLogs += entry.getValue().size();
+                log.error(
+                        "Write {} audit logs of csp {} failed.",
+                        entry.getValue().size(),
+                        entry.getKey(),
+                        e);
+            }
+        }
+        applicationEventPublisher.publishEvent(
+                new AuditLogsWrittenEvent(
+                        batch.size(),
+                        failedAuditLogs,
+                        droppedAuditLogs.getAndSet(0),
+                        queueSize.get(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+    }
+}
@@ -9,7 +9,10 @@ import jakarta.annotation.Resource;
 import jakarta.servlet.http.HttpServletRequest;
 import java.lang.reflect.Method;
 import java.time.OffsetDateTime;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -22,9 +25,13 @@ import org.eclipse.xpanse.modules.models.policy.servicepolicy.ServicePolicyCreat
 import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyCreateRequest;
 import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyUpdateRequest;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployRequest;
+import org.eclipse.xpanse.modules.models.service.order.BulkServiceOperationProgress;
+import org.eclipse.xpanse.modules.models.service.order.BulkServiceOperationResult;
+import org.eclipse.xpanse.modules.models.service.order.RejectedServiceOperation;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrder;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrderDetails;
 import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
 import org.eclipse.xpanse.modules.models.workflow.serviceporting.ServicePortingRequest;
-import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
 import org.eclipse.xpanse.modules.orchestrator.PluginManager;
 import org.eclipse.xpanse.modules.orchestrator.audit.AuditLog;
 import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
@@ -32,15 +39,29 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-/** Writer for audit logs. */
+/**
+ * Writer for audit logs. The way to get the csp of each controller method is resolved once and
+ * reused, the audit logs are handed over to the {@link AuditLogDispatcher} so that the plugins
+ * write them outside the request threads. Requests operating on many services are audited with one
+ * audit log per service, so that each log is written by the plugin of the csp of the service.
+ */
 @Slf4j
 @Aspect
 @Component
 public class AuditLogWriter {
 
     private static final String DEFAULT_GET_CSP_METHOD_NAME = "getCspFromRequestUri";
+    private static final AuditedEndpoint NOT_AUDITED_ENDPOINT =
+            new AuditedEndpoint(false, null, new int[0], false);
+    private static final AuditedEndpoint CSP_FROM_PARAMS_ENDPOINT =
+            new AuditedEndpoint(true, null, new int[0], false);
+    private static final AuditedEndpoint PER_SERVICE_ENDPOINT =
+            new AuditedEndpoint(true, null, new int[0], true);
+
+    private final Map<Method, AuditedEndpoint> auditedEndpoints = new ConcurrentHashMap<>();
 
     @Resource private PluginManager pluginManager;
+    @Resource private AuditLogDispatcher auditLogDispatcher;
     @Resource private UserServiceHelper userServiceHelper;
     @Resource private GetCspInfoFromRequest getCspInfoFromRequest;
 
@@ -55,56 +76,133 @@ public class AuditLogWriter {
      */
     @Around("controllerMethods()")
     public Object auditRequest(ProceedingJoinPoint joinPoint) throws Throwable {
-        Csp csp = getCsp(joinPoint);
+        Method requestMethod = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        AuditedEndpoint auditedEndpoint =
+                auditedEndpoints.computeIfAbsent(requestMethod, this::resolveAuditedEndpoint);
+        if (auditedEndpoint.perService()) {
+            Object result = joinPoint.proceed();
+            auditServiceOperations(joinPoint.getSignature().getName(), result);
+            return result;
+        }
+        Csp csp = getCsp(joinPoint, auditedEndpoint);
         Object result = joinPoint.proceed();
         if (Objects.nonNull(csp)) {
-            HttpServletRequest request =
-                    ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
-                            .getRequest();
-            OrchestratorPlugin orchestratorPlugin = pluginManager.getOrchestratorPlugin(csp);
-            orchestratorPlugin.auditApiRequest(
+            auditLogDispatcher.dispatch(
                     getAuditLog(
                             csp,
                             joinPoint.getSignature().getName(),
-                            request,
+                            getCurrentRequest(),
                             joinPoint.getArgs(),
                             result));
         }
         return result;
     }
 
-    private Csp getCsp(ProceedingJoinPoint joinPoint) {
+    private void auditServiceOperations(String methodName, Object result) {
+        HttpServletRequest request = getCurrentRequest();
+        if (result instanceof BulkServiceOperationResult bulkResult) {
+            for (ServiceOrder order : bulkResult.getOrders()) {
+                auditServiceOperation(
+                        methodName,
+                        request,
+                        order.getServiceId(),
+                        new Object[] {
+                            bulkResult.getBatchId(), bulkResult.getOperation(), order.getServiceId()
+                        },
+                        order);
+            }
+            for (RejectedServiceOperation rejected : bulkResult.getRejectedServices()) {
+                auditServiceOperation(
+                        methodName,
+                        request,
+                        rejected.getServiceId(),
+                        new Object[] {
+                            bulkResult.getBatchId(),
+                            bulkResult.getOperation(),
+                            rejected.getServiceId()
+                        },
+                        rejected);
+            }
+        } else if (result instanceof BulkServiceOperationProgress progress) {
+            for (ServiceOrderDetails order : progress.getOrders()) {
+                auditServiceOperation(
+                        methodName,
+                        request,
+                        order.getServiceId(),
+                        new Object[] {progress.getBatchId(), order.getServiceId()},
+                        order);
+            }
+        }
+    }
+
+    private void auditServiceOperation(
+            String methodName,
+            HttpServletRequest request,
+            UUID serviceId,
+            Object[] params,
+            Object result) {
+        Csp csp =
+                pluginManager.getPluginsMap().size() == 1
+                        ? pluginManager.getPluginsMap().keySet().iterator().next()
+                        : getCspInfoFromRequest.getCspOfService(serviceId);
+        if (Objects.nonNull(csp)) {
+            auditLogDispatcher.dispatch(getAuditLog(csp, methodName, request, params, result));
+        }
+    }
+
+    private HttpServletRequest getCurrentRequest() {
+        return ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
+                .getRequest();
+    }
+
+    private Csp getCsp(ProceedingJoinPoint joinPoint, AuditedEndpoint auditedEndpoint) {
         if (pluginManager.getPluginsMap().size() == 1) {
             return pluginManager.getPluginsMap().keySet().iterator().next();
         }
-        Method requestMethod = ((MethodSignature) joinPoint.getSignature()).getMethod();
-        AuditApiRequest auditApiRequest = requestMethod.getAnnotation(AuditApiRequest.class);
-        if (Objects.isNull(auditApiRequest) || !auditApiRequest.enabled()) {
+        if (!auditedEndpoint.enabled()) {
             return null;
         }
-        return getCspFromMethodInfo(auditApiRequest, joinPoint.getArgs());
+        if (Objects.isNull(auditedEndpoint.cspMethod())) {
+            return getCspFromRequestParams(joinPoint.getArgs());
+        }
+        return getCspFromMethod(auditedEndpoint, joinPoint.getArgs());
     }
 
-    private Csp getCspFromMethodInfo(AuditApiRequest auditApiRequest, Object[] args) {
+    private AuditedEndpoint resolveAuditedEndpoint(Method requestMethod) {
+        AuditApiRequest auditApiRequest = requestMethod.getAnnotation(AuditApiRequest.class);
+        if (Objects.isNull(auditApiRequest) || !auditApiRequest.enabled()) {
+            return NOT_AUDITED_ENDPOINT;
+        }
+        if (auditApiRequest.perService()) {
+            return PER_SERVICE_ENDPOINT;
+        }
         String methodName = auditApiRequest.methodName();
         if (DEFAULT_GET_CSP_METHOD_NAME.equals(methodName)) {
-            return getCspFromRequestParams(args);
+            return CSP_FROM_PARAMS_ENDPOINT;
         }
         try {
-            Class<?> clazz = auditApiRequest.clazz();
-            Class<?>[] paramTypes = auditApiRequest.paramTypes();
-            Method method = clazz.getMethod(methodName, paramTypes);
-            int[] paramIndexes = auditApiRequest.paramIndexes();
+            Method method =
+                    auditApiRequest.clazz().getMethod(methodName, auditApiRequest.paramTypes());
+            return new AuditedEndpoint(true, method, auditApiRequest.paramIndexes(), false);
+        } catch (Exception e) {
+            log.error("Get csp with method {} error.", methodName, e);
+            return NOT_AUDITED_ENDPOINT;
+        }
+    }
+
+    private Csp getCspFromMethod(AuditedEndpoint auditedEndpoint, Object[] args) {
+        try {
+            int[] paramIndexes = auditedEndpoint.paramIndexes();
             Object[] paramValues = new Object[paramIndexes.length];
             for (int i = 0; i < paramIndexes.length; i++) {
                 paramValues[i] = args[paramIndexes[i]];
             }
-            Object result = method.invoke(getCspInfoFromRequest, paramValues);
+            Object result = auditedEndpoint.cspMethod().invoke(getCspInfoFromRequest, paramValues);
             if (result instanceof Csp csp) {
                 return csp;
             }
         } catch (Exception e) {
-            log.error("Get csp with method {} error.", methodName, e);
+            log.error("Get csp with method {} error.", auditedEndpoint.cspMethod().getName(), e);
         }
         return null;
     }
@@ -145,4 +243,16 @@ public class AuditLogWriter {
         }
         return auditLog;
     }
+
+    /**
+     * Resolved way to get the csp of a controller method.
+     *
+     * @param enabled if the requests of the method are audited.
+     * @param cspMethod method of {@link GetCspInfoFromRequest} to get the csp, null when the csp is
+     *     got from the request params.
+     * @param paramIndexes indexes of the request params passed to the method.
+     * @param perService if one audit log is written for each service of the request.
+     */
+    private record AuditedEndpoint(
+            boolean enabled, Method cspMethod, int[] paramIndexes, boolean perService) {}
 }
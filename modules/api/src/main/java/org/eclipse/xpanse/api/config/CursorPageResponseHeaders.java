@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.api.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.xpanse.modules.models.common.pagination.CursorPage;
+
+/**
+ * Writes the paging information of a cursor page to the response headers. The body of the list APIs
+ * stays a plain list, so that clients which don't request pages are not affected.
+ */
+public final class CursorPageResponseHeaders {
+
+    /** Header with the cursor of the next page. Missing when there is no next page. */
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+
+    /** Header with the total count of the items. Only set when the count was requested. */
+    public static final String TOTAL_COUNT = "X-Total-Count";
+
+    private CursorPageResponseHeaders() {
+        // utility class
+    }
+
+    /**
+     * Sets the paging headers and returns the items of the page.
+     *
+     * @param response HTTP response.
+     * @param page cursor page.
+     * @return items of the page.
+     */
+    public static <T> List<T> writePage(HttpServletResponse response, CursorPage<T> page) {
+        if (Objects.nonNull(page.getNextCursor())) {
+            response.setHeader(NEXT_CURSOR, page.getNextCursor());
+        }
+        if (Objects.nonNull(page.getTotalCount())) {
+            response.setHeader(TOTAL_COUNT, String.valueOf(page.getTotalCount()));
+        }
+        return page.getItems();
+    }
+}
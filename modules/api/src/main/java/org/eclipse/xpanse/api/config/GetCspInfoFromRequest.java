@@ -10,9 +10,12 @@ import static org.eclipse.xpanse.modules.logging.LoggingKeyConstant.SERVICE_ID;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.annotation.Resource;
 import java.net.URI;
 import java.net.URL;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -37,15 +40,21 @@ import org.eclipse.xpanse.modules.database.userpolicy.UserPolicyStorage;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
-/** Bean provide methods to get the csp info. */
+/**
+ * Bean provide methods to get the csp info. The csp of the ids does not change, so the found
+ * results are cached and the same ids of the following requests are not queried again. The csp of
+ * Ocl locations is cached as well, until the cached results expire.
+ */
 @Slf4j
 @Component
 public class GetCspInfoFromRequest {
 
     private final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
+    private final Cache<CspLookupKey, CspLookupResult> cspLookupResults;
     @Resource private ServiceTemplateStorage serviceTemplateStorage;
     @Resource private ServiceDeploymentStorage deployServiceStorage;
     @Resource private ServicePolicyStorage servicePolicyStorage;
@@ -55,6 +64,23 @@ public class GetCspInfoFromRequest {
     @Resource private ServiceTemplateRequestHistoryStorage serviceTemplateHistoryStorage;
     @Resource private ServiceChangeRequestStorage serviceChangeRequestStorage;
 
+    /**
+     * Constructor of GetCspInfoFromRequest.
+     *
+     * @param maxSize maximum number of cached results.
+     * @param expireAfterWriteInMinutes minutes after which the cached results are evicted.
+     */
+    public GetCspInfoFromRequest(
+            @Value("${audit.csp.lookup.cache.max.size:10000}") long maxSize,
+            @Value("${audit.csp.lookup.cache.expire.after.write.in.minutes:60}")
+                    long expireAfterWriteInMinutes) {
+        this.cspLookupResults =
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(Duration.ofMinutes(expireAfterWriteInMinutes))
+                        .build();
+    }
+
     /**
      * Get Csp with the URL of Ocl.
      *
@@ -63,9 +89,13 @@ public class GetCspInfoFromRequest {
      */
     public Csp getCspFromOclLocation(String url) {
         try {
-            URL urlObj = URI.create(url).toURL();
-            Ocl ocl = yamlMapper.readValue(urlObj, Ocl.class);
-            return ocl.getCloudServiceProvider().getName();
+            return getCsp(
+                    new CspLookupKey("oclLocation", url),
+                    () -> {
+                        URL urlObj = URI.create(url).toURL();
+                        Ocl ocl = yamlMapper.readValue(urlObj, Ocl.class);
+                        return new CspLookupResult(ocl.getCloudServiceProvider().getName(), null);
+                    });
         } catch (Exception e) {
             log.error("Get Csp of Ocl with url:{} failed.", url, e);
         }
@@ -80,11 +110,15 @@ public class GetCspInfoFromRequest {
      */
     public Csp getCspFromServiceTemplateId(UUID serviceTemplateId) {
         try {
-            ServiceTemplateEntity serviceTemplate =
-                    serviceTemplateStorage.getServiceTemplateById(serviceTemplateId);
-            if (Objects.nonNull(serviceTemplate)) {
-                return serviceTemplate.getCsp();
-            }
+            return getCsp(
+                    new CspLookupKey("serviceTemplateId", serviceTemplateId),
+                    () -> {
+                        ServiceTemplateEntity serviceTemplate =
+                                serviceTemplateStorage.getServiceTemplateById(serviceTemplateId);
+                        return Objects.nonNull(serviceTemplate)
+                                ? new CspLookupResult(serviceTemplate.getCsp(), null)
+                                : null;
+                    });
         } catch (Exception e) {
             log.error("Get csp with service template id:{} failed.", serviceTemplateId, e);
         }
@@ -99,11 +133,10 @@ public class GetCspInfoFromRequest {
      */
     public Csp getCspFromServiceId(UUID serviceId) {
         try {
-            ServiceDeploymentEntity deployService =
-                    deployServiceStorage.findServiceDeploymentById(serviceId);
-            if (Objects.nonNull(deployService)) {
+            CspLookupResult result = getServiceCspLookupResult(serviceId);
+            if (Objects.nonNull(result)) {
                 MDC.put(SERVICE_ID, serviceId.toString());
-                return deployService.getCsp();
+                return result.csp();
             }
         } catch (Exception e) {
             log.error("Get csp with service id:{} failed.", serviceId, e);
@@ -111,6 +144,23 @@ public class GetCspInfoFromRequest {
         return null;
     }
 
+    /**
+     * Get Csp of one of many services of a request. Unlike {@link #getCspFromServiceId(UUID)}, the
+     * id of the service is not added to the logging context.
+     *
+     * @param serviceId id of the service.
+     * @return csp.
+     */
+    public Csp getCspOfService(UUID serviceId) {
+        try {
+            CspLookupResult result = getServiceCspLookupResult(serviceId);
+            return Objects.nonNull(result) ? result.csp() : null;
+        } catch (Exception e) {
+            log.error("Get csp with service id:{} failed.", serviceId, e);
+        }
+        return null;
+    }
+
     /**
      * Get Csp with id of user policy.
      *
@@ -119,10 +169,15 @@ public class GetCspInfoFromRequest {
      */
     public Csp getCspFromUserPolicyId(UUID userPolicyId) {
         try {
-            UserPolicyEntity userPolicy = userPolicyStorage.findUserPolicyById(userPolicyId);
-            if (Objects.nonNull(userPolicy)) {
-                return userPolicy.getCsp();
-            }
+            return getCsp(
+                    new CspLookupKey("userPolicyId", userPolicyId),
+                    () -> {
+                        UserPolicyEntity userPolicy =
+                                userPolicyStorage.findUserPolicyById(userPolicyId);
+                        return Objects.nonNull(userPolicy)
+                                ? new CspLookupResult(userPolicy.getCsp(), null)
+                                : null;
+                    });
         } catch (Exception e) {
             log.error("Get csp with user policy id:{} failed.", userPolicyId, e);
         }
@@ -137,11 +192,16 @@ public class GetCspInfoFromRequest {
      */
     public Csp getCspFromServicePolicyId(UUID servicePolicyId) {
         try {
-            ServicePolicyEntity servicePolicy =
-                    servicePolicyStorage.findPolicyById(servicePolicyId);
-            if (Objects.nonNull(servicePolicy)) {
-                return servicePolicy.getServiceTemplate().getCsp();
-            }
+            return getCsp(
+                    new CspLookupKey("servicePolicyId", servicePolicyId),
+                    () -> {
+                        ServicePolicyEntity servicePolicy =
+                                servicePolicyStorage.findPolicyById(servicePolicyId);
+                        return Objects.nonNull(servicePolicy)
+                                ? new CspLookupResult(
+                                        servicePolicy.getServiceTemplate().getCsp(), null)
+                                : null;
+                    });
         } catch (Exception e) {
             log.error("Get csp with service policy id:{} failed.", servicePolicyId, e);
         }
@@ -156,22 +216,24 @@ public class GetCspInfoFromRequest {
      */
     public Csp getCspFromWorkflowTaskId(String taskId) {
         try {
-            Task task = taskService.createTaskQuery().taskId(taskId).singleResult();
-            if (Objects.nonNull(task)) {
-                String processInstanceId = task.getProcessInstanceId();
-                if (StringUtils.isNotBlank(processInstanceId)) {
-                    ServiceOrderEntity queryOrderEntity = new ServiceOrderEntity();
-                    queryOrderEntity.setWorkflowId(processInstanceId);
-                    List<ServiceOrderEntity> orderEntities =
-                            serviceOrderStorage.queryEntities(queryOrderEntity);
-                    if (!CollectionUtils.isEmpty(orderEntities)) {
-                        UUID serviceId = orderEntities.getFirst().getOriginalServiceId();
-                        ServiceDeploymentEntity deployService =
-                                deployServiceStorage.findServiceDeploymentById(serviceId);
-                        return deployService.getCsp();
-                    }
-                }
-            }
+            return getCsp(
+                    new CspLookupKey("workflowTaskId", taskId),
+                    () -> {
+                        Task task = taskService.createTaskQuery().taskId(taskId).singleResult();
+                        if (Objects.isNull(task)
+                                || StringUtils.isBlank(task.getProcessInstanceId())) {
+                            return null;
+                        }
+                        ServiceOrderEntity queryOrderEntity = new ServiceOrderEntity();
+                        queryOrderEntity.setWorkflowId(task.getProcessInstanceId());
+                        List<ServiceOrderEntity> orderEntities =
+                                serviceOrderStorage.queryEntities(queryOrderEntity);
+                        if (CollectionUtils.isEmpty(orderEntities)) {
+                            return null;
+                        }
+                        return getServiceCspLookupResult(
+                                orderEntities.getFirst().getOriginalServiceId());
+                    });
         } catch (Exception e) {
             log.error("Get csp with workflow task id:{} failed.", taskId, e);
         }
@@ -186,15 +248,24 @@ public class GetCspInfoFromRequest {
      */
     public Csp getCspFromServiceOrderId(UUID orderId) {
         try {
-            ServiceOrderEntity order = serviceOrderStorage.getEntityById(orderId);
-            if (Objects.nonNull(order)
-                    && Objects.nonNull(order.getServiceDeploymentEntity().getId())) {
-                ServiceDeploymentEntity deployService =
-                        deployServiceStorage.findServiceDeploymentById(
-                                order.getServiceDeploymentEntity().getId());
-                MDC.put(SERVICE_ID, deployService.getId().toString());
+            CspLookupResult result =
+                    cspLookupResults.get(
+                            new CspLookupKey("serviceOrderId", orderId),
+                            key -> {
+                                ServiceOrderEntity order =
+                                        serviceOrderStorage.getEntityById(orderId);
+                                if (Objects.isNull(order)
+                                        || Objects.isNull(
+                                                order.getServiceDeploymentEntity().getId())) {
+                                    return null;
+                                }
+                                return getServiceCspLookupResult(
+                                        order.getServiceDeploymentEntity().getId());
+                            });
+            if (Objects.nonNull(result)) {
+                MDC.put(SERVICE_ID, result.serviceId().toString());
                 MDC.put(ORDER_ID, orderId.toString());
-                return deployService.getCsp();
+                return result.csp();
             }
         } catch (Exception e) {
             log.error("Get csp with service order id:{} failed.", orderId, e);
@@ -210,12 +281,18 @@ public class GetCspInfoFromRequest {
      */
     public Csp getCspFromServiceTemplateRequestId(UUID requestId) {
         try {
-            ServiceTemplateRequestHistoryEntity serviceTemplateHistory =
-                    serviceTemplateHistoryStorage.getEntityByRequestId(requestId);
-            if (Objects.nonNull(serviceTemplateHistory)
-                    && Objects.nonNull(serviceTemplateHistory.getServiceTemplate())) {
-                return serviceTemplateHistory.getServiceTemplate().getCsp();
-            }
+            return getCsp(
+                    new CspLookupKey("serviceTemplateRequestId", requestId),
+                    () -> {
+                        ServiceTemplateRequestHistoryEntity serviceTemplateHistory =
+                                serviceTemplateHistoryStorage.getEntityByRequestId(requestId);
+                        if (Objects.isNull(serviceTemplateHistory)
+                                || Objects.isNull(serviceTemplateHistory.getServiceTemplate())) {
+                            return null;
+                        }
+                        return new CspLookupResult(
+                                serviceTemplateHistory.getServiceTemplate().getCsp(), null);
+                    });
         } catch (Exception e) {
             log.error("Get csp with service template request id:{} failed.", requestId, e);
         }
@@ -230,15 +307,60 @@ public class GetCspInfoFromRequest {
      */
     public Csp getCspFromServiceChangeRequestId(UUID changeId) {
         try {
-            ServiceChangeRequestEntity serviceChangeRequestEntity =
-                    serviceChangeRequestStorage.findById(changeId);
-            if (Objects.nonNull(serviceChangeRequestEntity)
-                    && Objects.nonNull(serviceChangeRequestEntity.getServiceDeploymentEntity())) {
-                return serviceChangeRequestEntity.getServiceDeploymentEntity().getCsp();
-            }
+            return getCsp(
+                    new CspLookupKey("serviceChangeRequestId", changeId),
+                    () -> {
+                        ServiceChangeRequestEntity serviceChangeRequestEntity =
+                                serviceChangeRequestStorage.findById(changeId);
+                        if (Objects.isNull(serviceChangeRequestEntity)
+                                || Objects.isNull(
+                                        serviceChangeRequestEntity.getServiceDeploymentEntity())) {
+                            return null;
+                        }
+                        return new CspLookupResult(
+                                serviceChangeRequestEntity.getServiceDeploymentEntity().getCsp(),
+                                null);
+                    });
         } catch (Exception e) {
             log.error("Get csp with service change request id:{} failed.", changeId, e);
         }
         return null;
     }
+
+    private CspLookupResult getServiceCspLookupResult(UUID serviceId) {
+        return cspLookupResults.get(
+                new CspLookupKey("serviceId", serviceId),
+                key -> {
+                    ServiceDeploymentEntity deployService =
+                            deployServiceStorage.findServiceDeploymentById(serviceId);
+                    return Objects.nonNull(deployService)
+                            ? new CspLookupResult(deployService.getCsp(), serviceId)
+                            : null;
+                });
+    }
+
+    private Csp getCsp(CspLookupKey key, CspLookup lookup) {
+        CspLookupResult result =
+                cspLookupResults.get(
+                        key,
+                        k -> {
+                            try {
+                                return lookup.get();
+                            } catch (Exception e) {
+                                throw new IllegalStateException(e.getMessage(), e);
+                            }
+                        });
+        return Objects.nonNull(result) ? result.csp() : null;
+    }
+
+    /** Lookup of the csp which may fail with checked exceptions. */
+    @FunctionalInterface
+    private interface CspLookup {
+
+        CspLookupResult get() throws Exception;
+    }
+
+    private record CspLookupKey(String type, Object id) {}
+
+    private record CspLookupResult(Csp csp, UUID serviceId) {}
 }
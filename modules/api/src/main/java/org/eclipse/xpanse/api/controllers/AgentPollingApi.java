@@ -17,6 +17,7 @@ import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.api.config.AuditApiRequest;
 import org.eclipse.xpanse.modules.deployment.ServiceChangeManager;
+import org.eclipse.xpanse.modules.deployment.polling.AgentServiceChangeRequestPolling;
 import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeRequest;
 import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeResult;
 import org.springframework.http.HttpStatus;
@@ -30,6 +31,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 /** Agent Polling Api. */
 @Slf4j
@@ -39,6 +41,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AgentPollingApi {
 
     @Resource private ServiceChangeManager serviceChangeManager;
+    @Resource private AgentServiceChangeRequestPolling agentServiceChangeRequestPolling;
 
     /**
      * Query pending service change request for agent.
@@ -77,6 +80,48 @@ public class AgentPollingApi {
         return serviceChangeManager.getPendingServiceChangeRequest(serviceId, resourceName);
     }
 
+    /**
+     * Wait for pending service change request for agent.
+     *
+     * @param serviceId the id of service.
+     * @param resourceName the name of service`s resource.
+     * @return ServiceChangeRequest.
+     */
+    @Tag(
+            name = "AgentApis",
+            description = "APIs for agent to poll pending service change requests.")
+    @GetMapping(
+            value = "/poll/{serviceId}/{resourceName}/wait",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            description =
+                    "Long-polling method for agents to wait for a pending service change request."
+                            + " The request is returned as soon as it is queued, no content is"
+                            + " returned when there is no request within the configured period.")
+    @ApiResponses({
+        @ApiResponse(
+                responseCode = "204",
+                description = "no pending service change update requests",
+                content = @Content),
+        @ApiResponse(
+                responseCode = "200",
+                description = "pending service change update request details",
+                content = @Content(schema = @Schema(implementation = ServiceChangeRequest.class)))
+    })
+    @AuditApiRequest(methodName = "getCspFromServiceId", paramTypes = UUID.class)
+    public DeferredResult<ResponseEntity<ServiceChangeRequest>> waitForPendingServiceChangeRequest(
+            @Parameter(name = "serviceId", description = "The id of the deployed service")
+                    @PathVariable("serviceId")
+                    UUID serviceId,
+            @Parameter(
+                            name = "resourceName",
+                            description = "The name of the resource of deployed service")
+                    @PathVariable("resourceName")
+                    String resourceName) {
+        return agentServiceChangeRequestPolling.waitForPendingServiceChangeRequest(
+                serviceId, resourceName);
+    }
+
     /**
      * Method to update service change result.
      *
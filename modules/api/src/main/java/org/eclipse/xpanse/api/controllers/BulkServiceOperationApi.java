@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.api.controllers;
+
+import static org.eclipse.xpanse.modules.security.auth.common.RoleConstants.ROLE_ADMIN;
+import static org.eclipse.xpanse.modules.security.auth.common.RoleConstants.ROLE_USER;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.Resource;
+import jakarta.validation.Valid;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.api.config.AuditApiRequest;
+import org.eclipse.xpanse.modules.deployment.BulkServiceOperationManager;
+import org.eclipse.xpanse.modules.models.service.order.BulkServiceOperationProgress;
+import org.eclipse.xpanse.modules.models.service.order.BulkServiceOperationRequest;
+import org.eclipse.xpanse.modules.models.service.order.BulkServiceOperationResult;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/** REST API to execute operations on many services at once. */
+@Slf4j
+@RestController
+@RequestMapping("/xpanse")
+@CrossOrigin
+@Secured({ROLE_ADMIN, ROLE_USER})
+@ConditionalOnProperty(name = "enable.agent.api.only", havingValue = "false", matchIfMissing = true)
+public class BulkServiceOperationApi {
+
+    @Resource private BulkServiceOperationManager bulkServiceOperationManager;
+
+    /**
+     * Start orders to execute the operation on the services.
+     *
+     * @param request request of the bulk service operation.
+     * @return batch id, created orders and rejected services.
+     */
+    @Tag(
+            name = "BulkServiceOperations",
+            description = "APIs to execute operations on many service instances at once")
+    @Operation(description = "Start orders to execute an operation on many service instances.")
+    @PostMapping(value = "/services/bulk", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @AuditApiRequest(perService = true)
+    public BulkServiceOperationResult executeBulkServiceOperation(
+            @Valid @RequestBody BulkServiceOperationRequest request) {
+        return bulkServiceOperationManager.executeBulkOperation(request);
+    }
+
+    /**
+     * Get the progress of the orders of a bulk service operation.
+     *
+     * @param batchId id of the batch.
+     * @return progress of the orders of the batch.
+     */
+    @Tag(
+            name = "BulkServiceOperations",
+            description = "APIs to execute operations on many service instances at once")
+    @Operation(description = "Get the progress of the orders of a bulk service operation.")
+    @GetMapping(value = "/services/bulk/{batchId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @AuditApiRequest(perService = true)
+    public BulkServiceOperationProgress getBulkServiceOperationProgress(
+            @Parameter(name = "batchId", description = "id of the batch") @PathVariable("batchId")
+                    UUID batchId) {
+        return bulkServiceOperationManager.getBulkOperationProgress(batchId);
+    }
+}
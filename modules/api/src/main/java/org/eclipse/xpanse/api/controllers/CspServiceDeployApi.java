@@ -12,11 +12,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.annotation.Resource;
+import jakarta.servlet.http.HttpServletResponse;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.api.config.AuditApiRequest;
+import org.eclipse.xpanse.api.config.CursorPageResponseHeaders;
 import org.eclipse.xpanse.modules.deployment.ServiceDetailsViewManager;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
+import org.eclipse.xpanse.modules.models.common.pagination.CursorPageRequest;
 import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
 import org.eclipse.xpanse.modules.models.service.view.DeployedService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -34,7 +37,11 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 @RestController
 @RequestMapping("/xpanse")
-@CrossOrigin
+@CrossOrigin(
+        exposedHeaders = {
+            CursorPageResponseHeaders.NEXT_CURSOR,
+            CursorPageResponseHeaders.TOTAL_COUNT
+        })
 @Secured({ROLE_CSP})
 @ConditionalOnProperty(name = "enable.agent.api.only", havingValue = "false", matchIfMissing = true)
 public class CspServiceDeployApi {
@@ -63,8 +70,36 @@ public class CspServiceDeployApi {
                     String serviceVersion,
             @Parameter(name = "serviceState", description = "deployment state of the service")
                     @RequestParam(name = "serviceState", required = false)
-                    ServiceDeploymentState serviceState) {
-        return this.serviceDetailsViewManager.getAllDeployedServicesByCsp(
-                category, serviceName, serviceVersion, serviceState);
+                    ServiceDeploymentState serviceState,
+            @Parameter(
+                            name = "pageSize",
+                            description =
+                                    "maximum number of services to be returned. All services are"
+                                            + " returned when not set.")
+                    @RequestParam(name = "pageSize", required = false)
+                    Integer pageSize,
+            @Parameter(
+                            name = "cursor",
+                            description =
+                                    "cursor of the page to be returned, taken from the"
+                                            + " X-Next-Cursor header of the previous page.")
+                    @RequestParam(name = "cursor", required = false)
+                    String cursor,
+            @Parameter(
+                            name = "includeTotalCount",
+                            description =
+                                    "return the total count of services in the X-Total-Count"
+                                            + " header.")
+                    @RequestParam(name = "includeTotalCount", defaultValue = "false")
+                    boolean includeTotalCount,
+            HttpServletResponse response) {
+        return CursorPageResponseHeaders.writePage(
+                response,
+                this.serviceDetailsViewManager.getAllDeployedServicesByCsp(
+                        category,
+                        serviceName,
+                        serviceVersion,
+                        serviceState,
+                        new CursorPageRequest(pageSize, cursor, includeTotalCount)));
     }
 }
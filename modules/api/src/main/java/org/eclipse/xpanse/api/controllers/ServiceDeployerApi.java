@@ -16,6 +16,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.annotation.Resource;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.util.Collections;
 import java.util.List;
@@ -24,6 +25,7 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.api.config.AuditApiRequest;
+import org.eclipse.xpanse.api.config.CursorPageResponseHeaders;
 import org.eclipse.xpanse.api.config.OrderFailedApiResponses;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
 import org.eclipse.xpanse.modules.deployment.DeployService;
@@ -31,6 +33,7 @@ import org.eclipse.xpanse.modules.deployment.ServiceDetailsViewManager;
 import org.eclipse.xpanse.modules.deployment.servicelock.ServiceLockConfigService;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.common.pagination.CursorPageRequest;
 import org.eclipse.xpanse.modules.models.service.config.ServiceLockConfig;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployRequest;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
@@ -62,12 +65,17 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /** REST interface methods for processing OCL. */
 @Slf4j
 @RestController
 @RequestMapping("/xpanse")
-@CrossOrigin
+@CrossOrigin(
+        exposedHeaders = {
+            CursorPageResponseHeaders.NEXT_CURSOR,
+            CursorPageResponseHeaders.TOTAL_COUNT
+        })
 @Secured({ROLE_ADMIN, ROLE_USER})
 @ConditionalOnProperty(name = "enable.agent.api.only", havingValue = "false", matchIfMissing = true)
 public class ServiceDeployerApi {
@@ -143,9 +151,38 @@ public class ServiceDeployerApi {
                     String serviceVersion,
             @Parameter(name = "serviceState", description = "deployment state of the service")
                     @RequestParam(name = "serviceState", required = false)
-                    ServiceDeploymentState serviceState) {
-        return this.serviceDetailsViewManager.listDeployedServices(
-                category, csp, serviceName, serviceVersion, serviceState);
+                    ServiceDeploymentState serviceState,
+            @Parameter(
+                            name = "pageSize",
+                            description =
+                                    "maximum number of services to be returned. All services are"
+                                            + " returned when not set.")
+                    @RequestParam(name = "pageSize", required = false)
+                    Integer pageSize,
+            @Parameter(
+                            name = "cursor",
+                            description =
+                                    "cursor of the page to be returned, taken from the"
+                                            + " X-Next-Cursor header of the previous page.")
+                    @RequestParam(name = "cursor", required = false)
+                    String cursor,
+            @Parameter(
+                            name = "includeTotalCount",
+                            description =
+                                    "return the total count of services in the X-Total-Count"
+                                            + " header.")
+                    @RequestParam(name = "includeTotalCount", defaultValue = "false")
+                    boolean includeTotalCount,
+            HttpServletResponse response) {
+        return CursorPageResponseHeaders.writePage(
+                response,
+                this.serviceDetailsViewManager.listDeployedServices(
+                        category,
+                        csp,
+                        serviceName,
+                        serviceVersion,
+                        serviceState,
+                        new CursorPageRequest(pageSize, cursor, includeTotalCount)));
     }
 
     /**
@@ -173,11 +210,40 @@ public class ServiceDeployerApi {
                     String serviceVersion,
             @Parameter(name = "serviceState", description = "deployment state of the service")
                     @RequestParam(name = "serviceState", required = false)
-                    ServiceDeploymentState serviceState) {
+                    ServiceDeploymentState serviceState,
+            @Parameter(
+                            name = "pageSize",
+                            description =
+                                    "maximum number of services to be returned. All services are"
+                                            + " returned when not set.")
+                    @RequestParam(name = "pageSize", required = false)
+                    Integer pageSize,
+            @Parameter(
+                            name = "cursor",
+                            description =
+                                    "cursor of the page to be returned, taken from the"
+                                            + " X-Next-Cursor header of the previous page.")
+                    @RequestParam(name = "cursor", required = false)
+                    String cursor,
+            @Parameter(
+                            name = "includeTotalCount",
+                            description =
+                                    "return the total count of services in the X-Total-Count"
+                                            + " header.")
+                    @RequestParam(name = "includeTotalCount", defaultValue = "false")
+                    boolean includeTotalCount,
+            HttpServletResponse response) {
         // return type is DeployedService but actually returns one of the child types
         // VendorHostedDeployedServiceDetails or DeployedServiceDetails
-        return this.serviceDetailsViewManager.listDeployedServicesDetails(
-                category, csp, serviceName, serviceVersion, serviceState);
+        return CursorPageResponseHeaders.writePage(
+                response,
+                this.serviceDetailsViewManager.listDeployedServicesDetails(
+                        category,
+                        csp,
+                        serviceName,
+                        serviceVersion,
+                        serviceState,
+                        new CursorPageRequest(pageSize, cursor, includeTotalCount)));
     }
 
     /**
@@ -368,6 +434,25 @@ public class ServiceDeployerApi {
                 serviceId, lastKnownServiceDeploymentState);
     }
 
+    /** Method to stream status updates of the service deployment. */
+    @Tag(name = "Service", description = "APIs to manage the services")
+    @GetMapping(
+            value = "/services/{serviceId}/deployment/status/stream",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            description =
+                    "Server-sent events stream of the service deployment status updates. The"
+                            + " stream is completed once the deployment reaches a final state.")
+    @AuditApiRequest(methodName = "getCspFromServiceId", paramTypes = UUID.class)
+    @ResponseStatus(HttpStatus.OK)
+    @Secured({ROLE_ADMIN, ROLE_ISV, ROLE_USER})
+    public SseEmitter streamServiceDeploymentStatus(
+            @Parameter(name = "serviceId", description = "ID of the service")
+                    @PathVariable(name = "serviceId")
+                    UUID serviceId) {
+        return deployService.streamServiceDeploymentStatus(serviceId);
+    }
+
     /**
      * Get service template details by service id.
      *
@@ -13,11 +13,13 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import java.util.List;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.api.config.AuditApiRequest;
 import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.eclipse.xpanse.modules.models.monitor.ServiceMetrics;
 import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
 import org.eclipse.xpanse.modules.monitor.ServiceMetricsAdapter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -107,4 +109,58 @@ public class ServiceMetricsApi {
         return serviceMetricsAdapter.getMetricsByServiceId(
                 serviceId, monitorResourceType, from, to, granularity, onlyLastKnownMetric);
     }
+
+    /** Get metrics of multiple deployed services. */
+    @Tag(name = "Monitor", description = "APIs for getting metrics of deployed services.")
+    @Operation(description = "Get metrics of multiple deployed services.")
+    @GetMapping(value = "/metrics/services", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @AuditApiRequest(enabled = false)
+    public List<ServiceMetrics> getMetricsOfServices(
+            @Parameter(name = "serviceIds", description = "Ids of the deployed services")
+                    @RequestParam(name = "serviceIds")
+                    @NotEmpty
+                    List<UUID> serviceIds,
+            @Parameter(name = "monitorResourceType", description = "Types of the monitor resource.")
+                    @RequestParam(name = "monitorResourceType", required = false)
+                    MonitorResourceType monitorResourceType,
+            @Parameter(
+                            name = "from",
+                            description =
+                                    "Start UNIX timestamp in milliseconds. If no value filled,the"
+                                        + " default value is the UNIX timestamp in milliseconds of"
+                                        + " the five minutes ago.")
+                    @RequestParam(name = "from", required = false)
+                    @Min(value = 0, message = "The value cannot be less than 0")
+                    Long from,
+            @Parameter(
+                            name = "to",
+                            description =
+                                    "End UNIX timestamp in milliseconds. If no value filled,the"
+                                        + " default value is the UNIX timestamp in milliseconds of"
+                                        + " the current time.")
+                    @RequestParam(name = "to", required = false)
+                    @Min(value = 0, message = "The value cannot be less than 0")
+                    Long to,
+            @Parameter(
+                            name = "granularity",
+                            description =
+                                    "Return metrics collected in provided time interval. This"
+                                            + " depends on how the source systems have"
+                                            + " generated/collected metrics.")
+                    @RequestParam(name = "granularity", required = false)
+                    Integer granularity,
+            @Parameter(
+                            name = "onlyLastKnownMetric",
+                            description =
+                                    "Returns only the last known metric. When this parameter is set"
+                                            + " then all other query parameters are ignored.")
+                    @RequestParam(
+                            name = "onlyLastKnownMetric",
+                            required = false,
+                            defaultValue = "false")
+                    boolean onlyLastKnownMetric) {
+        return serviceMetricsAdapter.getMetricsOfServices(
+                serviceIds, monitorResourceType, from, to, granularity, onlyLastKnownMetric);
+    }
 }
@@ -36,6 +36,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /** Service Orders Management REST API. */
 @Slf4j
@@ -156,4 +157,22 @@ public class ServiceOrderManageApi {
         return serviceOrderManager.getLatestServiceOrderStatus(
                 orderId, lastKnownServiceOrderStatus);
     }
+
+    /** Method to stream status updates of the service order. */
+    @Tag(name = "ServiceOrders", description = "APIs to manage orders of services")
+    @GetMapping(
+            value = "/services/orders/{orderId}/status/stream",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            description =
+                    "Server-sent events stream of the task status updates of the service order."
+                            + " The stream is completed once the order is completed.")
+    @AuditApiRequest(methodName = "getCspFromServiceOrderId", paramTypes = UUID.class)
+    @ResponseStatus(HttpStatus.OK)
+    public SseEmitter streamServiceOrderStatus(
+            @Parameter(name = "orderId", description = "Id of the service order")
+                    @PathVariable(name = "orderId")
+                    UUID orderId) {
+        return serviceOrderManager.streamServiceOrderStatus(orderId);
+    }
 }
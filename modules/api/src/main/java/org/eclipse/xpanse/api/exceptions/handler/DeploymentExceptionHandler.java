@@ -19,6 +19,7 @@ import org.eclipse.xpanse.modules.models.response.ErrorType;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.ActivitiTaskNotFoundException;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.BillingModeNotSupported;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.DeployerNotFoundException;
+import org.eclipse.xpanse.modules.models.service.deployment.exceptions.DeploymentJobRejectedException;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.EulaNotAccepted;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.FileLockedException;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.FlavorInvalidException;
@@ -255,4 +256,13 @@ public class DeploymentExceptionHandler {
                 ErrorType.DEPLOYMENT_SCRIPTS_CREATION_FAILED,
                 Collections.singletonList(ex.getMessage()));
     }
+
+    /** Exception handler for DeploymentJobRejectedException. */
+    @ExceptionHandler({DeploymentJobRejectedException.class})
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ResponseBody
+    public ErrorResponse handleDeploymentJobRejectedException(DeploymentJobRejectedException ex) {
+        return getErrorResponse(
+                ErrorType.DEPLOYMENT_JOB_QUEUE_FULL, Collections.singletonList(ex.getMessage()));
+    }
 }
@@ -0,0 +1,148 @@
+package org.eclipse.xpanse.api.config;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.xpanse.modules.models.audit.AuditLogsWrittenEvent;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.audit.AuditLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogDispatcherTest {
+
+    @Mock private PluginManager mockPluginManager;
+    @Mock private ApplicationEventPublisher mockApplicationEventPublisher;
+    @Mock private OrchestratorPlugin mockHuaweiCloudPlugin;
+    @Mock private OrchestratorPlugin mockOpenstackPlugin;
+    @InjectMocks private AuditLogDispatcher dispatcherUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dispatcherUnderTest, "maxQueueSize", 10);
+        ReflectionTestUtils.setField(dispatcherUnderTest, "batchSize", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcherUnderTest.shutdown();
+    }
+
+    @Test
+    void testDispatchWritesAuditLogsOfEachCspInOrder() {
+        when(mockPluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD))
+                .thenReturn(mockHuaweiCloudPlugin);
+        when(mockPluginManager.getOrchestratorPlugin(Csp.OPENSTACK_TESTLAB))
+                .thenReturn(mockOpenstackPlugin);
+        doThrow(new IllegalStateException("sink not available"))
+                .when(mockOpenstackPlugin)
+                .auditApiRequests(any());
+        AuditLog first = getAuditLog(Csp.HUAWEI_CLOUD, "deploy");
+        AuditLog second = getAuditLog(Csp.OPENSTACK_TESTLAB, "deploy");
+        AuditLog third = getAuditLog(Csp.HUAWEI_CLOUD, "destroy");
+        // queue all audit logs before they are drained to write them in one batch.
+        AtomicBoolean draining =
+                (AtomicBoolean) ReflectionTestUtils.getField(dispatcherUnderTest, "draining");
+        draining.set(true);
+
+        assertTrue(dispatcherUnderTest.dispatch(first));
+        assertTrue(dispatcherUnderTest.dispatch(second));
+        assertTrue(dispatcherUnderTest.dispatch(third));
+        draining.set(false);
+        dispatcherUnderTest.shutdown();
+
+        verify(mockHuaweiCloudPlugin).auditApiRequests(List.of(first, third));
+        verify(mockOpenstackPlugin).auditApiRequests(List.of(second));
+        ArgumentCaptor<AuditLogsWrittenEvent> captor =
+                ArgumentCaptor.forClass(AuditLogsWrittenEvent.class);
+        verify(mockApplicationEventPublisher).publishEvent(captor.capture());
+        assertEquals(3, captor.getValue().getWrittenAuditLogs());
+        assertEquals(1, captor.getValue().getFailedAuditLogs());
+        assertEquals(0, captor.getValue().getQueuedAuditLogs());
+    }
+
+    @Test
+    void testDispatchDropsAuditLogsWhenQueueIsFull() {
+        when(mockPluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD))
+                .thenReturn(mockHuaweiCloudPlugin);
+        ReflectionTestUtils.setField(dispatcherUnderTest, "maxQueueSize", 0);
+
+        assertFalse(dispatcherUnderTest.dispatch(getAuditLog(Csp.HUAWEI_CLOUD, "deploy")));
+        assertFalse(dispatcherUnderTest.dispatch(getAuditLog(Csp.HUAWEI_CLOUD, "deploy")));
+
+        ReflectionTestUtils.setField(dispatcherUnderTest, "maxQueueSize", 10);
+        AuditLog auditLog = getAuditLog(Csp.HUAWEI_CLOUD, "destroy");
+        assertTrue(dispatcherUnderTest.dispatch(auditLog));
+
+        verify(mockHuaweiCloudPlugin, timeout(5000)).auditApiRequests(List.of(auditLog));
+        ArgumentCaptor<AuditLogsWrittenEvent> captor =
+                ArgumentCaptor.forClass(AuditLogsWrittenEvent.class);
+        verify(mockApplicationEventPublisher, timeout(5000)).publishEvent(captor.capture());
+        assertEquals(1, captor.getValue().getWrittenAuditLogs());
+        assertEquals(2, captor.getValue().getDroppedAuditLogs());
+    }
+
+    @Test
+    void testDispatchQueuesParamsAndResultAsStrings() {
+        when(mockPluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD))
+                .thenReturn(mockHuaweiCloudPlugin);
+        AuditLog auditLog = getAuditLog(Csp.HUAWEI_CLOUD, "deploy");
+        StringBuilder param = new StringBuilder("request");
+        auditLog.setParams(new Object[] {param, null});
+        auditLog.setResult(List.of("result"));
+        AtomicBoolean draining =
+                (AtomicBoolean) ReflectionTestUtils.getField(dispatcherUnderTest, "draining");
+        draining.set(true);
+
+        assertTrue(dispatcherUnderTest.dispatch(auditLog));
+        // changes of the request objects after the dispatch are not written.
+        param.append("-changed");
+        draining.set(false);
+        dispatcherUnderTest.shutdown();
+
+        ArgumentCaptor<List<AuditLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mockHuaweiCloudPlugin).auditApiRequests(captor.capture());
+        AuditLog writtenAuditLog = captor.getValue().getFirst();
+        assertArrayEquals(new Object[] {"request", "null"}, writtenAuditLog.getParams());
+        assertEquals("[result]", writtenAuditLog.getResult());
+    }
+
+    @Test
+    void testDispatchWritesAuditLogsDirectlyAfterShutdown() {
+        when(mockPluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD))
+                .thenReturn(mockHuaweiCloudPlugin);
+        dispatcherUnderTest.shutdown();
+
+        AuditLog auditLog = getAuditLog(Csp.HUAWEI_CLOUD, "deploy");
+        assertTrue(dispatcherUnderTest.dispatch(auditLog));
+
+        verify(mockHuaweiCloudPlugin).auditApiRequests(List.of(auditLog));
+    }
+
+    private AuditLog getAuditLog(Csp csp, String methodName) {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setCsp(csp);
+        auditLog.setMethodName(methodName);
+        return auditLog;
+    }
+}
@@ -0,0 +1,129 @@
+package org.eclipse.xpanse.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.eclipse.xpanse.api.controllers.BulkServiceOperationApi;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.order.BulkServiceOperationRequest;
+import org.eclipse.xpanse.modules.models.service.order.BulkServiceOperationResult;
+import org.eclipse.xpanse.modules.models.service.order.RejectedServiceOperation;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrder;
+import org.eclipse.xpanse.modules.models.service.order.enums.BulkServiceOperation;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.audit.AuditLog;
+import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+
+    @Mock private PluginManager mockPluginManager;
+    @Mock private AuditLogDispatcher mockAuditLogDispatcher;
+    @Mock private UserServiceHelper mockUserServiceHelper;
+    @Mock private GetCspInfoFromRequest mockGetCspInfoFromRequest;
+    @Mock private ProceedingJoinPoint mockJoinPoint;
+    @Mock private MethodSignature mockMethodSignature;
+    @InjectMocks private AuditLogWriter auditLogWriterUnderTest;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(
+                        new MockHttpServletRequest("POST", "/xpanse/services/bulk")));
+        when(mockJoinPoint.getSignature()).thenReturn(mockMethodSignature);
+        when(mockMethodSignature.getMethod())
+                .thenReturn(
+                        BulkServiceOperationApi.class.getMethod(
+                                "executeBulkServiceOperation", BulkServiceOperationRequest.class));
+        when(mockMethodSignature.getName()).thenReturn("executeBulkServiceOperation");
+        when(mockPluginManager.getPluginsMap())
+                .thenReturn(
+                        Map.of(
+                                Csp.HUAWEI_CLOUD, mock(OrchestratorPlugin.class),
+                                Csp.OPENSTACK_TESTLAB, mock(OrchestratorPlugin.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testAuditBulkServiceOperationWritesAuditLogOfEachService() throws Throwable {
+        UUID huaweiServiceId = UUID.randomUUID();
+        UUID openstackServiceId = UUID.randomUUID();
+        UUID rejectedServiceId = UUID.randomUUID();
+        BulkServiceOperationResult bulkResult = new BulkServiceOperationResult();
+        bulkResult.setBatchId(UUID.randomUUID());
+        bulkResult.setOperation(BulkServiceOperation.DESTROY);
+        ServiceOrder huaweiOrder = new ServiceOrder(UUID.randomUUID(), huaweiServiceId);
+        ServiceOrder openstackOrder = new ServiceOrder(UUID.randomUUID(), openstackServiceId);
+        RejectedServiceOperation rejected =
+                new RejectedServiceOperation(rejectedServiceId, "service is being deployed.");
+        bulkResult.setOrders(List.of(huaweiOrder, openstackOrder));
+        bulkResult.setRejectedServices(List.of(rejected));
+        when(mockJoinPoint.proceed()).thenReturn(bulkResult);
+        when(mockGetCspInfoFromRequest.getCspOfService(huaweiServiceId))
+                .thenReturn(Csp.HUAWEI_CLOUD);
+        when(mockGetCspInfoFromRequest.getCspOfService(openstackServiceId))
+                .thenReturn(Csp.OPENSTACK_TESTLAB);
+        when(mockGetCspInfoFromRequest.getCspOfService(rejectedServiceId))
+                .thenReturn(Csp.HUAWEI_CLOUD);
+
+        Object result = auditLogWriterUnderTest.auditRequest(mockJoinPoint);
+
+        assertThat(result).isSameAs(bulkResult);
+        ArgumentCaptor<AuditLog> captor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(mockAuditLogDispatcher, times(3)).dispatch(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(AuditLog::getCsp)
+                .containsExactly(Csp.HUAWEI_CLOUD, Csp.OPENSTACK_TESTLAB, Csp.HUAWEI_CLOUD);
+        assertThat(captor.getAllValues())
+                .extracting(AuditLog::getResult)
+                .containsExactly(huaweiOrder, openstackOrder, rejected);
+        assertThat(captor.getAllValues().getFirst().getParams())
+                .containsExactly(
+                        bulkResult.getBatchId(), BulkServiceOperation.DESTROY, huaweiServiceId);
+        assertThat(captor.getAllValues())
+                .extracting(AuditLog::getMethodName)
+                .containsOnly("executeBulkServiceOperation");
+    }
+
+    @Test
+    void testAuditBulkServiceOperationSkipsServicesWithoutCsp() throws Throwable {
+        UUID serviceId = UUID.randomUUID();
+        BulkServiceOperationResult bulkResult = new BulkServiceOperationResult();
+        bulkResult.setBatchId(UUID.randomUUID());
+        bulkResult.setOperation(BulkServiceOperation.STOP);
+        bulkResult.setOrders(List.of(new ServiceOrder(UUID.randomUUID(), serviceId)));
+        bulkResult.setRejectedServices(List.of());
+        when(mockJoinPoint.proceed()).thenReturn(bulkResult);
+        when(mockGetCspInfoFromRequest.getCspOfService(serviceId)).thenReturn(null);
+
+        auditLogWriterUnderTest.auditRequest(mockJoinPoint);
+
+        verify(mockAuditLogDispatcher, never()).dispatch(any());
+    }
+}
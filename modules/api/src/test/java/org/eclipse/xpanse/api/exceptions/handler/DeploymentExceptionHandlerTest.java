@@ -25,6 +25,7 @@ import org.eclipse.xpanse.modules.deployment.ServiceOrderManager;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.exceptions.TerraformExecutorException;
 import org.eclipse.xpanse.modules.deployment.servicelock.ServiceLockConfigService;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.DeployerNotFoundException;
+import org.eclipse.xpanse.modules.models.service.deployment.exceptions.DeploymentJobRejectedException;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.EulaNotAccepted;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.FlavorInvalidException;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.InvalidDeploymentVariableException;
@@ -90,7 +91,8 @@ class DeploymentExceptionHandlerTest {
 
     @Test
     void testFlavorInvalidException() throws Exception {
-        when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(), any()))
+        when(serviceDetailsViewManager.listDeployedServices(
+                        any(), any(), any(), any(), any(), any()))
                 .thenThrow(new FlavorInvalidException("test error"));
 
         this.mockMvc
@@ -102,7 +104,8 @@ class DeploymentExceptionHandlerTest {
 
     @Test
     void testTerraformExecutorException() throws Exception {
-        when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(), any()))
+        when(serviceDetailsViewManager.listDeployedServices(
+                        any(), any(), any(), any(), any(), any()))
                 .thenThrow(new TerraformExecutorException("test error"));
 
         this.mockMvc
@@ -114,7 +117,8 @@ class DeploymentExceptionHandlerTest {
 
     @Test
     void testPluginNotFoundException() throws Exception {
-        when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(), any()))
+        when(serviceDetailsViewManager.listDeployedServices(
+                        any(), any(), any(), any(), any(), any()))
                 .thenThrow(new PluginNotFoundException("test error"));
 
         this.mockMvc
@@ -126,7 +130,8 @@ class DeploymentExceptionHandlerTest {
 
     @Test
     void testDeployerNotFoundException() throws Exception {
-        when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(), any()))
+        when(serviceDetailsViewManager.listDeployedServices(
+                        any(), any(), any(), any(), any(), any()))
                 .thenThrow(new DeployerNotFoundException("test error"));
 
         this.mockMvc
@@ -138,7 +143,8 @@ class DeploymentExceptionHandlerTest {
 
     @Test
     void testInvalidServiceStateException() throws Exception {
-        when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(), any()))
+        when(serviceDetailsViewManager.listDeployedServices(
+                        any(), any(), any(), any(), any(), any()))
                 .thenThrow(new InvalidServiceStateException("test error"));
 
         this.mockMvc
@@ -150,7 +156,8 @@ class DeploymentExceptionHandlerTest {
 
     @Test
     void testInvalidServiceDeploymentStateException() throws Exception {
-        when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(), any()))
+        when(serviceDetailsViewManager.listDeployedServices(
+                        any(), any(), any(), any(), any(), any()))
                 .thenThrow(new InvalidServiceDeploymentStateException("test error"));
 
         this.mockMvc
@@ -174,7 +181,8 @@ class DeploymentExceptionHandlerTest {
 
     @Test
     void testInvalidDeploymentVariableException() throws Exception {
-        when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(), any()))
+        when(serviceDetailsViewManager.listDeployedServices(
+                        any(), any(), any(), any(), any(), any()))
                 .thenThrow(new InvalidDeploymentVariableException("test error"));
 
         this.mockMvc
@@ -186,7 +194,8 @@ class DeploymentExceptionHandlerTest {
 
     @Test
     void testVariableInvalidException() throws Exception {
-        when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(), any()))
+        when(serviceDetailsViewManager.listDeployedServices(
+                        any(), any(), any(), any(), any(), any()))
                 .thenThrow(new VariableValidationFailedException(List.of("test error")));
 
         this.mockMvc
@@ -199,7 +208,8 @@ class DeploymentExceptionHandlerTest {
 
     @Test
     void testServiceIsLockedException() throws Exception {
-        when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(), any()))
+        when(serviceDetailsViewManager.listDeployedServices(
+                        any(), any(), any(), any(), any(), any()))
                 .thenThrow(new ServiceLockedException("test error"));
 
         this.mockMvc
@@ -211,7 +221,8 @@ class DeploymentExceptionHandlerTest {
 
     @Test
     void testEulaNotAcceptedException() throws Exception {
-        when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(), any()))
+        when(serviceDetailsViewManager.listDeployedServices(
+                        any(), any(), any(), any(), any(), any()))
                 .thenThrow(new EulaNotAccepted("test error"));
 
         this.mockMvc
@@ -223,7 +234,8 @@ class DeploymentExceptionHandlerTest {
 
     @Test
     void testServiceFlavorDowngradeNotAllowed() throws Exception {
-        when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(), any()))
+        when(serviceDetailsViewManager.listDeployedServices(
+                        any(), any(), any(), any(), any(), any()))
                 .thenThrow(new ServiceFlavorDowngradeNotAllowed("test error"));
 
         this.mockMvc
@@ -232,4 +244,17 @@ class DeploymentExceptionHandlerTest {
                 .andExpect(jsonPath("$.errorType").value("Service Flavor Downgrade Not Allowed"))
                 .andExpect(jsonPath("$.details[0]").value("test error"));
     }
+
+    @Test
+    void testDeploymentJobRejectedException() throws Exception {
+        when(serviceDetailsViewManager.listDeployedServices(
+                        any(), any(), any(), any(), any(), any()))
+                .thenThrow(new DeploymentJobRejectedException("test error"));
+
+        this.mockMvc
+                .perform(get("/xpanse/services"))
+                .andExpect(status().is(429))
+                .andExpect(jsonPath("$.errorType").value("Deployment Job Queue Full"))
+                .andExpect(jsonPath("$.details[0]").value("test error"));
+    }
 }
@@ -8,25 +8,38 @@ package org.eclipse.xpanse.modules.cache;
 
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.CREDENTIAL_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_METRICS_WINDOW_CACHE_EXPIRE_TIME_IN_MINUTES;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_METRIC_CATALOG_CACHE_EXPIRE_TIME_IN_MINUTES;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_TOKEN_INTROSPECTION_CACHE_MAX_SIZE;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEPLOYER_VERSIONS_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.METRIC_CATALOG_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.MONITOR_METRICS_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.MONITOR_METRICS_WINDOW_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.POLICY_EVALUATION_RESULT_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.REGION_AZS_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_FLAVOR_PRICE_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_POLICY_SET_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.TOKEN_INTROSPECTION_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.USER_POLICY_SET_CACHE_NAME;
 
-import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.cache.credential.CredentialCacheKey;
 import org.eclipse.xpanse.modules.cache.credential.CredentialCaffeineCacheExpiry;
 import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsCacheKey;
+import org.eclipse.xpanse.modules.cache.token.IntrospectedTokenCacheExpiry;
+import org.eclipse.xpanse.modules.cache.twolevel.TwoLevelCacheCoordinator;
+import org.eclipse.xpanse.modules.cache.twolevel.TwoLevelCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheManager;
 
 /** Caffeine cache configuration class. */
 @Slf4j
@@ -42,44 +55,120 @@ public class CaffeineCacheConfig {
     @Value("${service.monitor.metrics.cache.expire.time.in.minutes:60}")
     private long monitorMetricsCacheDuration;
 
+    @Value("${service.monitor.metrics.window.cache.expire.time.in.minutes:10}")
+    private long monitorMetricsWindowCacheDuration;
+
+    @Value("${service.monitor.metric.catalog.cache.expire.time.in.minutes:1440}")
+    private long metricCatalogCacheDuration;
+
+    @Value("${policy.set.cache.expire.time.in.minutes:60}")
+    private long policySetCacheDuration;
+
+    @Value("${policy.evaluation.result.cache.expire.time.in.minutes:60}")
+    private long policyEvaluationResultCacheDuration;
+
+    @Value("${authorization.token.introspection.cache.max.size:10000}")
+    private long tokenIntrospectionCacheMaxSize;
+
+    @Value("${region.azs.cache.refresh.time.in.minutes:50}")
+    private long regionAzsCacheRefreshTime;
+
+    @Value("${service.flavor.price.cache.refresh.time.in.minutes:50}")
+    private long flavorPriceCacheRefreshTime;
+
     /**
-     * Config cache manager with caffeine.
+     * Config two-level cache manager with caffeine as local cache and the redis cache manager as
+     * remote cache when redis is enabled.
      *
-     * @return caffeineCacheManager
+     * @param redisCacheManager manager of the redis caches.
+     * @param coordinator coordinator of the caches of all nodes.
+     * @return twoLevelCacheManager
      */
+    @Primary
     @Bean
-    public CacheManager caffeineCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.registerCustomCache(REGION_AZS_CACHE_NAME, getRegionAzsCache());
-        cacheManager.registerCustomCache(
-                SERVICE_FLAVOR_PRICE_CACHE_NAME, getServiceFlavorPriceCache());
-        cacheManager.registerCustomCache(CREDENTIAL_CACHE_NAME, getCredentialsCache());
-        cacheManager.registerCustomCache(MONITOR_METRICS_CACHE_NAME, getMonitorMetricsCache());
-        cacheManager.registerCustomCache(DEPLOYER_VERSIONS_CACHE_NAME, getDeployerVersionsCache());
+    public TwoLevelCacheManager twoLevelCacheManager(
+            ObjectProvider<RedisCacheManager> redisCacheManager,
+            ObjectProvider<TwoLevelCacheCoordinator> coordinator) {
+        TwoLevelCacheManager cacheManager =
+                new TwoLevelCacheManager(
+                        redisCacheManager.getIfAvailable(), coordinator.getIfAvailable());
+        cacheManager.registerCache(
+                REGION_AZS_CACHE_NAME,
+                getRegionAzsCache(),
+                getRefreshAfterWrite(regionAzsCacheRefreshTime, regionAzsCacheDuration));
+        cacheManager.registerCache(
+                SERVICE_FLAVOR_PRICE_CACHE_NAME,
+                getServiceFlavorPriceCache(),
+                getRefreshAfterWrite(flavorPriceCacheRefreshTime, flavorPriceCacheDuration));
+        cacheManager.registerCache(CREDENTIAL_CACHE_NAME, getCredentialsCache(), null);
+        cacheManager.registerCache(MONITOR_METRICS_CACHE_NAME, getMonitorMetricsCache(), null);
+        cacheManager.registerCache(
+                MONITOR_METRICS_WINDOW_CACHE_NAME, getMonitorMetricsWindowCache(), null);
+        cacheManager.registerCache(METRIC_CATALOG_CACHE_NAME, getMetricCatalogCache(), null);
+        cacheManager.registerCache(DEPLOYER_VERSIONS_CACHE_NAME, getDeployerVersionsCache(), null);
+        cacheManager.registerCache(
+                SERVICE_POLICY_SET_CACHE_NAME, getPolicyCache(policySetCacheDuration), null);
+        cacheManager.registerCache(
+                USER_POLICY_SET_CACHE_NAME, getPolicyCache(policySetCacheDuration), null);
+        cacheManager.registerCache(
+                POLICY_EVALUATION_RESULT_CACHE_NAME,
+                getPolicyCache(policyEvaluationResultCacheDuration),
+                null);
+        cacheManager.registerCache(
+                TOKEN_INTROSPECTION_CACHE_NAME, getTokenIntrospectionCache(), null);
         return cacheManager;
     }
 
-    private Cache<Object, Object> getRegionAzsCache() {
+    private Duration getRefreshAfterWrite(long refreshTime, long cacheDuration) {
+        long duration = cacheDuration > 0 ? cacheDuration : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+        // refresh-ahead is only useful before the entries expire.
+        return refreshTime > 0 && refreshTime < duration ? Duration.ofMinutes(refreshTime) : null;
+    }
+
+    private Caffeine<Object, Object> getRegionAzsCache() {
         long duration =
                 regionAzsCacheDuration > 0
                         ? regionAzsCacheDuration
                         : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
-        return Caffeine.newBuilder().expireAfterWrite(duration, TimeUnit.MINUTES).build();
+        return Caffeine.newBuilder().expireAfterWrite(duration, TimeUnit.MINUTES);
     }
 
-    private Cache<Object, Object> getServiceFlavorPriceCache() {
+    private Caffeine<Object, Object> getServiceFlavorPriceCache() {
         long duration =
                 flavorPriceCacheDuration > 0
                         ? flavorPriceCacheDuration
                         : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
-        return Caffeine.newBuilder().expireAfterWrite(duration, TimeUnit.MINUTES).build();
+        return Caffeine.newBuilder().expireAfterWrite(duration, TimeUnit.MINUTES);
+    }
+
+    private Caffeine<Object, Object> getMetricCatalogCache() {
+        long duration =
+                metricCatalogCacheDuration > 0
+                        ? metricCatalogCacheDuration
+                        : DEFAULT_METRIC_CATALOG_CACHE_EXPIRE_TIME_IN_MINUTES;
+        return Caffeine.newBuilder().expireAfterWrite(duration, TimeUnit.MINUTES);
+    }
+
+    private Caffeine<Object, Object> getDeployerVersionsCache() {
+        return Caffeine.newBuilder();
+    }
+
+    private Caffeine<Object, Object> getPolicyCache(long cacheDuration) {
+        long duration = cacheDuration > 0 ? cacheDuration : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+        return Caffeine.newBuilder().expireAfterWrite(duration, TimeUnit.MINUTES);
     }
 
-    private Cache<Object, Object> getDeployerVersionsCache() {
-        return Caffeine.newBuilder().build();
+    private Caffeine<Object, Object> getTokenIntrospectionCache() {
+        long maxSize =
+                tokenIntrospectionCacheMaxSize > 0
+                        ? tokenIntrospectionCacheMaxSize
+                        : DEFAULT_TOKEN_INTROSPECTION_CACHE_MAX_SIZE;
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new IntrospectedTokenCacheExpiry());
     }
 
-    private Cache<Object, Object> getCredentialsCache() {
+    private Caffeine<Object, Object> getCredentialsCache() {
         return Caffeine.newBuilder()
                 .expireAfter(new CredentialCaffeineCacheExpiry())
                 .removalListener(
@@ -88,11 +177,10 @@ public class CaffeineCacheConfig {
                                 log.info(
                                         "Credential cache removed, key: {}, cause: {}", key, cause);
                             }
-                        })
-                .build();
+                        });
     }
 
-    private Cache<Object, Object> getMonitorMetricsCache() {
+    private Caffeine<Object, Object> getMonitorMetricsCache() {
         long duration =
                 monitorMetricsCacheDuration > 0
                         ? monitorMetricsCacheDuration
@@ -107,7 +195,14 @@ public class CaffeineCacheConfig {
                                         key,
                                         cause);
                             }
-                        })
-                .build();
+                        });
+    }
+
+    private Caffeine<Object, Object> getMonitorMetricsWindowCache() {
+        long duration =
+                monitorMetricsWindowCacheDuration > 0
+                        ? monitorMetricsWindowCacheDuration
+                        : DEFAULT_METRICS_WINDOW_CACHE_EXPIRE_TIME_IN_MINUTES;
+        return Caffeine.newBuilder().expireAfterWrite(duration, TimeUnit.MINUTES);
     }
 }
@@ -10,24 +10,35 @@ import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.CACHE_PROVI
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.CREDENTIAL_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_CREDENTIAL_CACHE_EXPIRE_TIME_IN_SECONDS;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_METRICS_WINDOW_CACHE_EXPIRE_TIME_IN_MINUTES;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_METRIC_CATALOG_CACHE_EXPIRE_TIME_IN_MINUTES;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEPLOYER_VERSIONS_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.METRIC_CATALOG_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.MONITOR_METRICS_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.MONITOR_METRICS_WINDOW_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.POLICY_EVALUATION_RESULT_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.REGION_AZS_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_FLAVOR_PRICE_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_POLICY_SET_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.TOKEN_INTROSPECTION_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.USER_POLICY_SET_CACHE_NAME;
 
 import jakarta.annotation.Resource;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsWindow;
+import org.eclipse.xpanse.modules.cache.token.IntrospectedTokenCacheExpiry;
+import org.eclipse.xpanse.modules.cache.twolevel.TimeToLiveAwareRedisCacheManager;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
 import org.eclipse.xpanse.modules.models.system.BackendSystemStatus;
 import org.eclipse.xpanse.modules.models.system.enums.BackendSystemType;
 import org.eclipse.xpanse.modules.models.system.enums.HealthStatus;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
@@ -36,6 +47,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -58,6 +70,18 @@ public class RedisCacheConfig {
     @Value("${service.monitor.metrics.cache.expire.time.in.minutes:60}")
     private long monitorMetricsCacheDuration;
 
+    @Value("${service.monitor.metrics.window.cache.expire.time.in.minutes:10}")
+    private long monitorMetricsWindowCacheDuration;
+
+    @Value("${service.monitor.metric.catalog.cache.expire.time.in.minutes:1440}")
+    private long metricCatalogCacheDuration;
+
+    @Value("${policy.set.cache.expire.time.in.minutes:60}")
+    private long policySetCacheDuration;
+
+    @Value("${policy.evaluation.result.cache.expire.time.in.minutes:60}")
+    private long policyEvaluationResultCacheDuration;
+
     @Value("${spring.data.redis.host}")
     private String redisHost;
 
@@ -65,24 +89,32 @@ public class RedisCacheConfig {
     private String redisPort;
 
     /**
-     * Config cache manager with caffeine.
+     * Config cache manager with redis. The redis caches are used as remote level of the two-level
+     * caches.
      *
-     * @return caffeineCacheManager
+     * @return redisCacheManager
      */
-    @Primary
     @Bean
-    public CacheManager redisCacheManager() {
+    public RedisCacheManager redisCacheManager() {
         checkRedisIsAvailable();
         log.info("Enable cache manager with Redis.");
-        RedisCacheManager.RedisCacheManagerBuilder builder =
-                RedisCacheManager.builder(connectionFactory);
-        builder.withCacheConfiguration(REGION_AZS_CACHE_NAME, getRegionAzsCache());
-        builder.withCacheConfiguration(
-                SERVICE_FLAVOR_PRICE_CACHE_NAME, getServiceFlavorPriceCache());
-        builder.withCacheConfiguration(CREDENTIAL_CACHE_NAME, getCredentialCache());
-        builder.withCacheConfiguration(MONITOR_METRICS_CACHE_NAME, getMonitorMetricsCache());
-        builder.withCacheConfiguration(DEPLOYER_VERSIONS_CACHE_NAME, getDeployerVersionsCache());
-        return builder.build();
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        cacheConfigurations.put(REGION_AZS_CACHE_NAME, getRegionAzsCache());
+        cacheConfigurations.put(SERVICE_FLAVOR_PRICE_CACHE_NAME, getServiceFlavorPriceCache());
+        cacheConfigurations.put(CREDENTIAL_CACHE_NAME, getCredentialCache());
+        cacheConfigurations.put(MONITOR_METRICS_CACHE_NAME, getMonitorMetricsCache());
+        cacheConfigurations.put(MONITOR_METRICS_WINDOW_CACHE_NAME, getMonitorMetricsWindowCache());
+        cacheConfigurations.put(METRIC_CATALOG_CACHE_NAME, getMetricCatalogCache());
+        cacheConfigurations.put(DEPLOYER_VERSIONS_CACHE_NAME, getDeployerVersionsCache());
+        cacheConfigurations.put(
+                SERVICE_POLICY_SET_CACHE_NAME, getPolicyCache(policySetCacheDuration));
+        cacheConfigurations.put(USER_POLICY_SET_CACHE_NAME, getPolicyCache(policySetCacheDuration));
+        cacheConfigurations.put(
+                POLICY_EVALUATION_RESULT_CACHE_NAME,
+                getPolicyCache(policyEvaluationResultCacheDuration));
+        cacheConfigurations.put(TOKEN_INTROSPECTION_CACHE_NAME, getTokenIntrospectionCache());
+        // the two-level caches cap the local expiry at the time to live of the redis entries.
+        return new TimeToLiveAwareRedisCacheManager(connectionFactory, cacheConfigurations);
     }
 
     /**
@@ -158,6 +190,50 @@ public class RedisCacheConfig {
                 .serializeValuesWith(getJsonRedisSerializer());
     }
 
+    private RedisCacheConfiguration getMonitorMetricsWindowCache() {
+        long duration =
+                monitorMetricsWindowCacheDuration > 0
+                        ? monitorMetricsWindowCacheDuration
+                        : DEFAULT_METRICS_WINDOW_CACHE_EXPIRE_TIME_IN_MINUTES;
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(duration))
+                .serializeKeysWith(getStringRedisSerializer())
+                .serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(
+                                new Jackson2JsonRedisSerializer<>(MonitorMetricsWindow.class)));
+    }
+
+    private RedisCacheConfiguration getMetricCatalogCache() {
+        long duration =
+                metricCatalogCacheDuration > 0
+                        ? metricCatalogCacheDuration
+                        : DEFAULT_METRIC_CATALOG_CACHE_EXPIRE_TIME_IN_MINUTES;
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(duration))
+                .serializeKeysWith(getStringRedisSerializer())
+                .serializeValuesWith(getJdkRedisSerializer());
+    }
+
+    private RedisCacheConfiguration getPolicyCache(long cacheDuration) {
+        long duration = cacheDuration > 0 ? cacheDuration : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(duration))
+                .serializeKeysWith(getStringRedisSerializer())
+                .serializeValuesWith(getJdkRedisSerializer());
+    }
+
+    private RedisCacheConfiguration getTokenIntrospectionCache() {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(
+                        (key, value) -> {
+                            // a zero ttl would keep the entry forever.
+                            Duration timeToLive = IntrospectedTokenCacheExpiry.getTimeToLive(value);
+                            return timeToLive.isZero() ? Duration.ofMillis(1) : timeToLive;
+                        })
+                .serializeKeysWith(getStringRedisSerializer())
+                .serializeValuesWith(getJdkRedisSerializer());
+    }
+
     private RedisCacheConfiguration getDeployerVersionsCache() {
         return RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(getStringRedisSerializer())
@@ -179,6 +255,18 @@ public class RedisCacheConfig {
         return template;
     }
 
+    /**
+     * Config redis message listener container used for the pub/sub channels.
+     *
+     * @return redisMessageListenerContainer
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     /**
      * Config redis template for credential.
      *
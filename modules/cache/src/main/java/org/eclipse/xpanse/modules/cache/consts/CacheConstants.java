@@ -17,12 +17,31 @@ public class CacheConstants {
 
     public static final String MONITOR_METRICS_CACHE_NAME = "MONITOR_METRICS_CACHE";
 
+    public static final String MONITOR_METRICS_WINDOW_CACHE_NAME = "MONITOR_METRICS_WINDOW_CACHE";
+
+    public static final String METRIC_CATALOG_CACHE_NAME = "METRIC_CATALOG_CACHE";
+
     public static final String DEPLOYER_VERSIONS_CACHE_NAME = "DEPLOYER_VERSIONS_CACHE";
 
+    public static final String SERVICE_POLICY_SET_CACHE_NAME = "SERVICE_POLICY_SET_CACHE";
+
+    public static final String USER_POLICY_SET_CACHE_NAME = "USER_POLICY_SET_CACHE";
+
+    public static final String POLICY_EVALUATION_RESULT_CACHE_NAME =
+            "POLICY_EVALUATION_RESULT_CACHE";
+
+    public static final String TOKEN_INTROSPECTION_CACHE_NAME = "TOKEN_INTROSPECTION_CACHE";
+
     public static final int DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES = 60;
 
+    public static final int DEFAULT_METRICS_WINDOW_CACHE_EXPIRE_TIME_IN_MINUTES = 10;
+
+    public static final int DEFAULT_METRIC_CATALOG_CACHE_EXPIRE_TIME_IN_MINUTES = 1440;
+
     public static final int DEFAULT_CREDENTIAL_CACHE_EXPIRE_TIME_IN_SECONDS = 3600;
 
+    public static final int DEFAULT_TOKEN_INTROSPECTION_CACHE_MAX_SIZE = 10000;
+
     public static final String CACHE_PROVIDER_CAFFEINE = "Caffeine";
 
     public static final String CACHE_PROVIDER_REDIS = "Redis";
@@ -9,16 +9,19 @@ import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.CREDENTIAL_
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_CREDENTIAL_CACHE_EXPIRE_TIME_IN_SECONDS;
 
 import jakarta.annotation.Nullable;
+import jakarta.annotation.Resource;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.cache.exceptions.CacheNotFoundException;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
+import org.eclipse.xpanse.modules.models.credential.CredentialChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
@@ -29,6 +32,7 @@ public class CredentialsStore {
 
     private final RedisTemplate<String, AbstractCredentialInfo> credentialRedisTemplate;
     private final Boolean redisCacheEnabled;
+    @Resource private ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * Constructor for CredentialsStore.
@@ -53,6 +57,7 @@ public class CredentialsStore {
     public AbstractCredentialInfo storeCredential(
             CredentialCacheKey key, AbstractCredentialInfo credentialInfo) {
         log.info("Store credential cache entry with key:{}", key);
+        publishCredentialChangedEvent(key);
         return credentialInfo;
     }
 
@@ -76,6 +81,7 @@ public class CredentialsStore {
     public void deleteCredential(CredentialCacheKey key) {
         // This method body is not required when using @CacheEvict.
         log.info("Delete credential cache entry with key:{}", key.toString());
+        publishCredentialChangedEvent(key);
     }
 
     /**
@@ -113,4 +119,11 @@ public class CredentialsStore {
                     timeToLive);
         }
     }
+
+    private void publishCredentialChangedEvent(CredentialCacheKey key) {
+        if (Objects.nonNull(applicationEventPublisher) && Objects.nonNull(key)) {
+            applicationEventPublisher.publishEvent(
+                    new CredentialChangedEvent(key.csp(), key.site(), key.userId()));
+        }
+    }
 }
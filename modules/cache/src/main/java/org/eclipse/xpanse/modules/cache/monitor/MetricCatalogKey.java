@@ -0,0 +1,16 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.monitor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+
+/** Defines the cache key of the metric catalog of a resource. */
+public record MetricCatalogKey(Csp csp, String resourceId) implements Serializable {
+
+    @Serial private static final long serialVersionUID = 6034712859346021874L;
+}
@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.monitor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Descriptor of a metric which the cloud provider has for a resource.
+ *
+ * @param namespace namespace of the metric.
+ * @param metricName name of the metric.
+ * @param unit unit of the metric.
+ * @param dimensions dimensions of the metric.
+ */
+public record MetricDescriptor(
+        String namespace, String metricName, String unit, List<Dimension> dimensions)
+        implements Serializable {
+
+    @Serial private static final long serialVersionUID = 4172094512386470125L;
+
+    /**
+     * Dimension of a metric.
+     *
+     * @param name name of the dimension.
+     * @param value value of the dimension.
+     */
+    public record Dimension(String name, String value) implements Serializable {
+
+        @Serial private static final long serialVersionUID = 8251843092187640351L;
+    }
+}
@@ -6,9 +6,12 @@
 package org.eclipse.xpanse.modules.cache.monitor;
 
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.METRIC_CATALOG_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.MONITOR_METRICS_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.MONITOR_METRICS_WINDOW_CACHE_NAME;
 
 import jakarta.annotation.Nullable;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
@@ -80,6 +83,64 @@ public class MonitorMetricsStore {
         log.info("Delete monitor metric cache entry with key:{}", key);
     }
 
+    /**
+     * Methods to add the metrics of a resource in a time window into store.
+     *
+     * @param key cache key.
+     * @param window metrics of the resource in the time window.
+     */
+    @CachePut(cacheNames = MONITOR_METRICS_WINDOW_CACHE_NAME, key = "#key")
+    public MonitorMetricsWindow storeMonitorMetricsWindow(
+            MonitorMetricsWindowKey key, MonitorMetricsWindow window) {
+        return window;
+    }
+
+    /**
+     * Methods to get the metrics of a resource in the last stored time window from store.
+     *
+     * @param key cache key.
+     * @return metrics of the resource in the time window.
+     */
+    @Cacheable(cacheNames = MONITOR_METRICS_WINDOW_CACHE_NAME, key = "#key")
+    public MonitorMetricsWindow getMonitorMetricsWindow(MonitorMetricsWindowKey key) {
+        throw new CacheNotFoundException("No monitor metrics window found with key: " + key);
+    }
+
+    /**
+     * Methods to add the metric catalog of a resource into store.
+     *
+     * @param key cache key.
+     * @param metricDescriptors descriptors of the metrics which the resource has.
+     * @return descriptors of the metrics.
+     */
+    @CachePut(cacheNames = METRIC_CATALOG_CACHE_NAME, key = "#key")
+    public List<MetricDescriptor> storeMetricCatalog(
+            MetricCatalogKey key, List<MetricDescriptor> metricDescriptors) {
+        log.debug("Store metric catalog cache entry with key:{}", key);
+        return metricDescriptors;
+    }
+
+    /**
+     * Methods to get the metric catalog of a resource from store.
+     *
+     * @param key cache key.
+     * @return descriptors of the metrics which the resource has.
+     */
+    @Cacheable(cacheNames = METRIC_CATALOG_CACHE_NAME, key = "#key")
+    public List<MetricDescriptor> getMetricCatalog(MetricCatalogKey key) {
+        throw new CacheNotFoundException("No metric catalog cache entry found with key: " + key);
+    }
+
+    /**
+     * Methods to remove the metric catalog of a resource from store.
+     *
+     * @param key cache key.
+     */
+    @CacheEvict(cacheNames = METRIC_CATALOG_CACHE_NAME, key = "#key")
+    public void deleteMetricCatalog(MetricCatalogKey key) {
+        log.info("Delete metric catalog cache entry with key:{}", key);
+    }
+
     /**
      * Method to update the time-to-live of the metrics in the redis cache.
      *
@@ -0,0 +1,17 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.monitor;
+
+import org.eclipse.xpanse.modules.models.monitor.Metric;
+
+/**
+ * Metrics of a resource in the time window between from and to.
+ *
+ * @param from start UNIX timestamp in milliseconds of the window.
+ * @param to end UNIX timestamp in milliseconds of the window.
+ * @param metric metric with the items of the window. Null if the resource has no such metric.
+ */
+public record MonitorMetricsWindow(long from, long to, Metric metric) {}
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.monitor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
+
+/** Defines the cache key of the metrics of a resource in a time window. */
+public record MonitorMetricsWindowKey(
+        Csp csp,
+        String monitorResourceId,
+        MonitorResourceType monitorResourceType,
+        Integer granularity)
+        implements Serializable {
+
+    @Serial private static final long serialVersionUID = 2795416352847340617L;
+}
@@ -0,0 +1,212 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.sdkclient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.credential.CredentialChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to cache the clients of the cloud SDKs. The clients are keyed by the cloud service provider,
+ * the fingerprint of the credential, the region and the cloud service, so that the clients and
+ * their connection pools are reused by all requests with the same credential.
+ *
+ * <p>The clients expire after a fixed time since they were created and after a time without use.
+ * The expiry is not bound to the lifetime of the credentials, as the clients are looked up with the
+ * fingerprint of the credential: a client can't be found any more once its credential expired or
+ * was rotated, it just stays in the cache until it expires. The clients of a cloud service provider
+ * are also evicted when one of its credentials is changed.
+ */
+@Slf4j
+@Component
+public class CloudSdkClientCache {
+
+    private final Cache<CloudSdkClientKey, Object> clients;
+    private final Map<CloudSdkClientKey, CompletableFuture<Object>> inFlightCreations =
+            new ConcurrentHashMap<>();
+    private final Map<Csp, ClientCounters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor of CloudSdkClientCache.
+     *
+     * @param maxSize maximum number of cached clients.
+     * @param expireAfterAccessInMinutes minutes after which unused clients are evicted.
+     * @param expireAfterWriteInMinutes minutes after creation after which clients are evicted, also
+     *     when they are still used.
+     */
+    public CloudSdkClientCache(
+            @Value("${cloud.sdk.client.cache.max.size:500}") long maxSize,
+            @Value("${cloud.sdk.client.cache.expire.after.access.in.minutes:30}")
+                    long expireAfterAccessInMinutes,
+            @Value("${cloud.sdk.client.cache.expire.after.write.in.minutes:60}")
+                    long expireAfterWriteInMinutes) {
+        this.clients =
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterAccess(Duration.ofMinutes(expireAfterAccessInMinutes))
+                        .expireAfterWrite(Duration.ofMinutes(expireAfterWriteInMinutes))
+                        .build();
+    }
+
+    /**
+     * Get the cached client or create it. Concurrent lookups of the same key create the client only
+     * once. The client is not cached when the credential has no fingerprint.
+     *
+     * @param key key of the client.
+     * @param clientType type of the client.
+     * @param clientCreator creates the client.
+     * @return the client.
+     */
+    public <T> T getClient(CloudSdkClientKey key, Class<T> clientType, Supplier<T> clientCreator) {
+        if (Objects.isNull(key.credentialFingerprint())) {
+            return createClient(key, clientCreator);
+        }
+        Object client = clients.getIfPresent(key);
+        if (clientType.isInstance(client)) {
+            getCounters(key.csp()).hits.increment();
+            return clientType.cast(client);
+        }
+        // clients are created outside of the cache, so creators may look up other clients.
+        CompletableFuture<Object> newCreation = new CompletableFuture<>();
+        CompletableFuture<Object> runningCreation = inFlightCreations.putIfAbsent(key, newCreation);
+        if (Objects.nonNull(runningCreation)) {
+            return clientType.cast(joinCreation(runningCreation));
+        }
+        try {
+            T createdClient = createClient(key, clientCreator);
+            if (Objects.nonNull(createdClient)) {
+                clients.put(key, createdClient);
+            }
+            newCreation.complete(createdClient);
+        } catch (RuntimeException e) {
+            newCreation.completeExceptionally(e);
+        } finally {
+            inFlightCreations.remove(key, newCreation);
+        }
+        return clientType.cast(joinCreation(newCreation));
+    }
+
+    /**
+     * Evicts all cached clients of the cloud service provider.
+     *
+     * @param csp cloud service provider.
+     */
+    public void evictClients(Csp csp) {
+        clients.asMap().keySet().removeIf(key -> key.csp() == csp);
+        log.info("Evicted cached cloud SDK clients of {}.", csp);
+    }
+
+    /**
+     * Evicts the cached clients of the cloud service provider of the changed credential.
+     *
+     * @param event event of the changed credential.
+     */
+    @EventListener
+    public void onCredentialChanged(CredentialChangedEvent event) {
+        if (Objects.nonNull(event.getCsp())) {
+            evictClients(event.getCsp());
+        }
+    }
+
+    /**
+     * Get number of the cached clients.
+     *
+     * @return number of the cached clients.
+     */
+    public long getCachedClientCount() {
+        return clients.estimatedSize();
+    }
+
+    /**
+     * Get statistics of the clients by cloud service provider.
+     *
+     * @return statistics of the clients by cloud service provider.
+     */
+    public Map<Csp, CloudSdkClientStatistics> getStatistics() {
+        Map<Csp, CloudSdkClientStatistics> statistics = new EnumMap<>(Csp.class);
+        counters.forEach(
+                (csp, clientCounters) ->
+                        statistics.put(
+                                csp,
+                                new CloudSdkClientStatistics(
+                                        clientCounters.hits.sum(),
+                                        clientCounters.creations.sum(),
+                                        clientCounters.creationTimeNanos.sum())));
+        return statistics;
+    }
+
+    /**
+     * Get fingerprint of the parts of a credential. The secrets of the credential are not kept in
+     * the keys of the cache.
+     *
+     * @param parts parts of the credential.
+     * @return fingerprint of the credential.
+     */
+    public static String fingerprint(String... parts) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                if (Objects.nonNull(part)) {
+                    messageDigest.update(part.getBytes(StandardCharsets.UTF_8));
+                }
+                messageDigest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T createClient(CloudSdkClientKey key, Supplier<T> clientCreator) {
+        long startTime = System.nanoTime();
+        final T client = clientCreator.get();
+        ClientCounters clientCounters = getCounters(key.csp());
+        clientCounters.creations.increment();
+        clientCounters.creationTimeNanos.add(System.nanoTime() - startTime);
+        log.debug("Created cloud SDK client {}.", key);
+        return client;
+    }
+
+    private Object joinCreation(CompletableFuture<Object> creation) {
+        try {
+            return creation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private ClientCounters getCounters(Csp csp) {
+        return counters.computeIfAbsent(csp, c -> new ClientCounters());
+    }
+
+    /** Counters of the clients of one cloud service provider. */
+    private static final class ClientCounters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder creations = new LongAdder();
+        private final LongAdder creationTimeNanos = new LongAdder();
+    }
+}
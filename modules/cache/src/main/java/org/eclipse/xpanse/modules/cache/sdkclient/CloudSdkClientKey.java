@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.sdkclient;
+
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+
+/**
+ * Key of a cached client of a cloud SDK.
+ *
+ * @param csp cloud service provider.
+ * @param credentialFingerprint hash of the credential the client is created with.
+ * @param region region of the client.
+ * @param service name of the cloud service of the client.
+ */
+public record CloudSdkClientKey(
+        Csp csp, String credentialFingerprint, String region, String service) {
+
+    @Override
+    public String toString() {
+        // the fingerprint is not logged.
+        return csp + ":" + region + ":" + service;
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.sdkclient;
+
+/**
+ * Statistics of the cached clients of the cloud SDK of one cloud service provider.
+ *
+ * @param hitCount number of lookups answered with a cached client.
+ * @param creationCount number of clients created.
+ * @param totalCreationTimeNanos total time spent creating clients.
+ */
+public record CloudSdkClientStatistics(
+        long hitCount, long creationCount, long totalCreationTimeNanos) {}
@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.statuschange;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.service.deployment.ServiceDeploymentStatusChangedEvent;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrderStatusChangedEvent;
+import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeRequestsQueuedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Fans out the service deployment and service order status change events and the queued service
+ * change requests events to all nodes of the cluster with Redis pub/sub. Events published locally
+ * are sent to Redis and events received from the other nodes are published locally, so clients
+ * waiting on any node are notified.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "enable.redis.distributed.cache", havingValue = "true")
+public class RedisStatusChangeEventRelay implements MessageListener {
+
+    public static final String SERVICE_DEPLOYMENT_STATUS_CHANNEL =
+            "xpanse:service-deployment-status";
+    public static final String SERVICE_ORDER_STATUS_CHANNEL = "xpanse:service-order-status";
+    public static final String SERVICE_CHANGE_REQUESTS_QUEUED_CHANNEL =
+            "xpanse:service-change-requests-queued";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ObjectMapper objectMapper =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Resource private StringRedisTemplate stringRedisTemplate;
+    @Resource private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Resource private ApplicationEventPublisher applicationEventPublisher;
+
+    /** Subscribe to the status change channels. */
+    @PostConstruct
+    public void subscribeStatusChangeChannels() {
+        redisMessageListenerContainer.addMessageListener(
+                this,
+                List.of(
+                        new ChannelTopic(SERVICE_DEPLOYMENT_STATUS_CHANNEL),
+                        new ChannelTopic(SERVICE_ORDER_STATUS_CHANNEL),
+                        new ChannelTopic(SERVICE_CHANGE_REQUESTS_QUEUED_CHANNEL)));
+        log.info("Relaying service status change events with Redis. Node id: {}", nodeId);
+    }
+
+    /**
+     * Sends the locally published service deployment status change to the other nodes.
+     *
+     * @param event service deployment status changed event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void relayServiceDeploymentStatusChanged(ServiceDeploymentStatusChangedEvent event) {
+        if (Objects.isNull(event.getSourceNodeId())) {
+            relay(
+                    SERVICE_DEPLOYMENT_STATUS_CHANNEL,
+                    new ServiceDeploymentStatusChangedEvent(
+                            event.getServiceId(), event.getServiceDeploymentState(), nodeId));
+        }
+    }
+
+    /**
+     * Sends the locally published service order status change to the other nodes.
+     *
+     * @param event service order status changed event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void relayServiceOrderStatusChanged(ServiceOrderStatusChangedEvent event) {
+        if (Objects.isNull(event.getSourceNodeId())) {
+            relay(
+                    SERVICE_ORDER_STATUS_CHANNEL,
+                    new ServiceOrderStatusChangedEvent(
+                            event.getOrderId(),
+                            event.getOrderStatus(),
+                            event.getErrorResponse(),
+                            nodeId));
+        }
+    }
+
+    /**
+     * Sends the locally queued service change requests to the other nodes.
+     *
+     * @param event service change requests queued event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void relayServiceChangeRequestsQueued(ServiceChangeRequestsQueuedEvent event) {
+        if (Objects.isNull(event.getSourceNodeId())) {
+            relay(
+                    SERVICE_CHANGE_REQUESTS_QUEUED_CHANNEL,
+                    new ServiceChangeRequestsQueuedEvent(
+                            event.getServiceId(), event.getResourceNames(), nodeId));
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        try {
+            Object event = null;
+            if (SERVICE_DEPLOYMENT_STATUS_CHANNEL.equals(channel)) {
+                event =
+                        objectMapper.readValue(
+                                message.getBody(), ServiceDeploymentStatusChangedEvent.class);
+            } else if (SERVICE_ORDER_STATUS_CHANNEL.equals(channel)) {
+                event =
+                        objectMapper.readValue(
+                                message.getBody(), ServiceOrderStatusChangedEvent.class);
+            } else if (SERVICE_CHANGE_REQUESTS_QUEUED_CHANNEL.equals(channel)) {
+                event =
+                        objectMapper.readValue(
+                                message.getBody(), ServiceChangeRequestsQueuedEvent.class);
+            }
+            if (Objects.nonNull(event) && !nodeId.equals(getSourceNodeId(event))) {
+                applicationEventPublisher.publishEvent(event);
+            }
+        } catch (Exception e) {
+            log.error("Failed to process status change message from channel {}.", channel, e);
+        }
+    }
+
+    private String getSourceNodeId(Object event) {
+        if (event instanceof ServiceDeploymentStatusChangedEvent deploymentEvent) {
+            return deploymentEvent.getSourceNodeId();
+        }
+        if (event instanceof ServiceChangeRequestsQueuedEvent queuedEvent) {
+            return queuedEvent.getSourceNodeId();
+        }
+        return ((ServiceOrderStatusChangedEvent) event).getSourceNodeId();
+    }
+
+    private void relay(String channel, Object event) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // waiting clients on other nodes still get the result when their wait time ends.
+            log.error("Failed to relay status change event to channel {}.", channel, e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.token;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.eclipse.xpanse.modules.models.security.IntrospectedToken;
+
+/**
+ * Class to configure caffeine cache eviction policy for the token introspection results. Entries
+ * expire at the time set in the cached result, which is never after the expiry of the token.
+ */
+public class IntrospectedTokenCacheExpiry implements Expiry<Object, Object> {
+
+    /**
+     * Get the remaining time the cached value can be used.
+     *
+     * @param value cached value.
+     * @return remaining time to live, zero when the value must not be used anymore.
+     */
+    public static Duration getTimeToLive(Object value) {
+        if (value instanceof IntrospectedToken introspectedToken
+                && Objects.nonNull(introspectedToken.getExpiresAt())) {
+            Duration timeToLive = Duration.between(Instant.now(), introspectedToken.getExpiresAt());
+            return timeToLive.isNegative() ? Duration.ZERO : timeToLive;
+        }
+        return Duration.ZERO;
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return getTimeToLive(value).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(
+            Object key, Object value, long currentTime, @NonNegative long currentDuration) {
+        return getTimeToLive(value).toNanos();
+    }
+
+    @Override
+    public long expireAfterRead(
+            Object key, Object value, long currentTime, @NonNegative long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.twolevel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coordinates the two-level caches of the nodes with Redis. Changed entries are published to the
+ * other nodes with Redis pub/sub, and a Redis key with the refresh time as time-to-live makes sure
+ * only one node refreshes an entry from the source.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "enable.redis.distributed.cache", havingValue = "true")
+public class RedisTwoLevelCacheCoordinator implements TwoLevelCacheCoordinator, MessageListener {
+
+    public static final String CACHE_INVALIDATION_CHANNEL = "xpanse:cache-invalidation";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final JdkSerializationRedisSerializer keySerializer =
+            new JdkSerializationRedisSerializer();
+    private final ObjectMapper objectMapper =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Resource private StringRedisTemplate stringRedisTemplate;
+    @Resource private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Resource private ObjectProvider<TwoLevelCacheManager> twoLevelCacheManager;
+
+    /** Subscribe to the cache invalidation channel. */
+    @PostConstruct
+    public void subscribeCacheInvalidationChannel() {
+        redisMessageListenerContainer.addMessageListener(
+                this, new ChannelTopic(CACHE_INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public void publishInvalidation(String cacheName, @Nullable Object key) {
+        CacheInvalidationMessage message =
+                new CacheInvalidationMessage(cacheName, serializeKey(cacheName, key), nodeId);
+        try {
+            stringRedisTemplate.convertAndSend(
+                    CACHE_INVALIDATION_CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize cache invalidation of cache {}.", cacheName, e);
+        }
+    }
+
+    @Override
+    public boolean tryAcquireRefresh(String cacheName, Object key, Duration refreshAfterWrite) {
+        try {
+            return Boolean.TRUE.equals(
+                    stringRedisTemplate
+                            .opsForValue()
+                            .setIfAbsent(
+                                    cacheName + "::" + key + "::refresh",
+                                    nodeId,
+                                    refreshAfterWrite));
+        } catch (RuntimeException e) {
+            // refresh the entry locally when Redis is not available.
+            log.error("Failed to acquire refresh of cache {}. {}", cacheName, e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation =
+                    objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+            TwoLevelCacheManager cacheManager = twoLevelCacheManager.getIfAvailable();
+            if (!nodeId.equals(invalidation.sourceNodeId()) && Objects.nonNull(cacheManager)) {
+                cacheManager.evictLocal(
+                        invalidation.cacheName(), deserializeKey(invalidation.key()));
+            }
+        } catch (Exception e) {
+            log.error("Failed to process cache invalidation message.", e);
+        }
+    }
+
+    /**
+     * Serializes the key, so that the other nodes evict the entry with the same key object. Keys
+     * which can't be serialized evict all entries of the cache.
+     */
+    @Nullable
+    private String serializeKey(String cacheName, @Nullable Object key) {
+        if (!(key instanceof Serializable)) {
+            if (Objects.nonNull(key)) {
+                log.warn("Key of cache {} is not serializable, evicting all entries.", cacheName);
+            }
+            return null;
+        }
+        try {
+            return Base64.getEncoder().encodeToString(keySerializer.serialize(key));
+        } catch (SerializationException e) {
+            log.warn("Failed to serialize key of cache {}, evicting all entries.", cacheName, e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private Object deserializeKey(@Nullable String serializedKey) {
+        return Objects.isNull(serializedKey)
+                ? null
+                : keySerializer.deserialize(Base64.getDecoder().decode(serializedKey));
+    }
+
+    /**
+     * Message to evict the entries of a cache changed by another node.
+     *
+     * @param cacheName name of the cache.
+     * @param key serialized key of the entry. Null to evict all entries.
+     * @param sourceNodeId id of the node which changed the entry.
+     */
+    record CacheInvalidationMessage(String cacheName, String key, String sourceNodeId) {}
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.twolevel;
+
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import org.springframework.cache.Cache.ValueWrapper;
+
+/** Remote cache which can tell how long its entries live. */
+public interface TimeToLiveAwareCache {
+
+    /**
+     * Get the value of the entry together with its remaining time to live in one round trip.
+     *
+     * @param key key of the entry.
+     * @return value with the remaining time to live. Null when the entry doesn't exist.
+     */
+    @Nullable
+    TimeToLiveValueWrapper getWithTimeToLive(Object key);
+
+    /**
+     * Value of an entry with its remaining time to live.
+     *
+     * @param value value of the entry.
+     * @param timeToLive remaining time to live. Null when the entry never expires.
+     */
+    record TimeToLiveValueWrapper(@Nullable Object value, @Nullable Duration timeToLive)
+            implements ValueWrapper {
+
+        @Override
+        @Nullable
+        public Object get() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.twolevel;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+
+/**
+ * Redis cache manager whose caches read their entries together with the remaining time to live, so
+ * that the local level of the two-level caches doesn't keep the values longer than Redis.
+ */
+public class TimeToLiveAwareRedisCacheManager extends RedisCacheManager {
+
+    private final RedisConnectionFactory connectionFactory;
+
+    /**
+     * Constructor for TimeToLiveAwareRedisCacheManager.
+     *
+     * @param connectionFactory factory of the Redis connections.
+     * @param cacheConfigurations configurations of the caches by name.
+     */
+    public TimeToLiveAwareRedisCacheManager(
+            RedisConnectionFactory connectionFactory,
+            Map<String, RedisCacheConfiguration> cacheConfigurations) {
+        super(
+                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory),
+                RedisCacheConfiguration.defaultCacheConfig(),
+                cacheConfigurations);
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    @Nonnull
+    protected RedisCache createRedisCache(
+            @Nonnull String name, @Nullable RedisCacheConfiguration cacheConfiguration) {
+        return new TimeToLiveAwareRedisCache(
+                name,
+                getCacheWriter(),
+                Objects.nonNull(cacheConfiguration)
+                        ? cacheConfiguration
+                        : RedisCacheConfiguration.defaultCacheConfig(),
+                connectionFactory);
+    }
+
+    /** Redis cache which reads the entries together with their remaining time to live. */
+    static class TimeToLiveAwareRedisCache extends RedisCache implements TimeToLiveAwareCache {
+
+        // reads the value and the time to live atomically in one round trip.
+        private static final byte[] GET_WITH_TIME_TO_LIVE_SCRIPT =
+                "return {redis.call('GET', KEYS[1]), redis.call('PTTL', KEYS[1])}"
+                        .getBytes(StandardCharsets.UTF_8);
+
+        private final RedisConnectionFactory connectionFactory;
+
+        TimeToLiveAwareRedisCache(
+                String name,
+                RedisCacheWriter cacheWriter,
+                RedisCacheConfiguration cacheConfiguration,
+                RedisConnectionFactory connectionFactory) {
+            super(name, cacheWriter, cacheConfiguration);
+            this.connectionFactory = connectionFactory;
+        }
+
+        @Override
+        @Nullable
+        public TimeToLiveValueWrapper getWithTimeToLive(Object key) {
+            List<Object> results;
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                results =
+                        connection
+                                .scriptingCommands()
+                                .eval(
+                                        GET_WITH_TIME_TO_LIVE_SCRIPT,
+                                        ReturnType.MULTI,
+                                        1,
+                                        serializeCacheKey(createCacheKey(key)));
+            }
+            if (Objects.isNull(results)
+                    || results.size() < 2
+                    || !(results.getFirst() instanceof byte[] value)) {
+                return null;
+            }
+            // -1 for entries which never expire.
+            Duration timeToLive =
+                    results.get(1) instanceof Long timeToLiveInMillis && timeToLiveInMillis >= 0
+                            ? Duration.ofMillis(timeToLiveInMillis)
+                            : null;
+            return new TimeToLiveValueWrapper(
+                    fromStoreValue(deserializeCacheValue(value)), timeToLive);
+        }
+    }
+}
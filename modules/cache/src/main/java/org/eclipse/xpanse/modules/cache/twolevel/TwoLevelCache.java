@@ -0,0 +1,385 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.twolevel;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.cache.twolevel.TimeToLiveAwareCache.TimeToLiveValueWrapper;
+import org.slf4j.MDC;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Cache with a local Caffeine cache in front of an optional remote cache shared by all nodes.
+ *
+ * <p>Lookups are answered by the local cache first and then by the remote cache. Concurrent misses
+ * of the same key are coalesced into one load of the value. When refresh-ahead is enabled, the
+ * values loaded with a value loader are reloaded in the background once they are older than the
+ * refresh time in the context of the callers, so callers get the current value without waiting for
+ * the source. Changes are published with the coordinator to evict the stale local entries of the
+ * other nodes. Values found in the remote cache are kept locally no longer than they live in the
+ * remote cache.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final LoadingCache<Object, Object> localCache;
+    private final Cache remoteCache;
+    private final TwoLevelCacheCoordinator coordinator;
+    private final Duration refreshAfterWrite;
+    private final Map<Object, Callable<?>> valueLoaders = new ConcurrentHashMap<>();
+    private final TwoLevelCacheStatistics statistics = new TwoLevelCacheStatistics();
+    private volatile TaskDecorator valueLoaderDecorator;
+
+    /**
+     * Constructor for TwoLevelCache.
+     *
+     * @param name name of the cache.
+     * @param localCacheBuilder builder of the local cache with the expiration policy.
+     * @param refreshAfterWrite time after which values are refreshed. Null to disable refresh.
+     * @param refreshExecutor executor of the background refreshes.
+     * @param remoteCache remote cache shared by all nodes. Null to use the local cache only.
+     * @param coordinator coordinator of the nodes. Null to use the local cache only.
+     */
+    public TwoLevelCache(
+            String name,
+            Caffeine<Object, Object> localCacheBuilder,
+            @Nullable Duration refreshAfterWrite,
+            Executor refreshExecutor,
+            @Nullable Cache remoteCache,
+            @Nullable TwoLevelCacheCoordinator coordinator) {
+        super(true);
+        this.name = name;
+        this.remoteCache = remoteCache;
+        this.coordinator = coordinator;
+        this.refreshAfterWrite = refreshAfterWrite;
+        if (Objects.nonNull(refreshAfterWrite)) {
+            localCacheBuilder.refreshAfterWrite(refreshAfterWrite);
+        }
+        this.localCache =
+                localCacheBuilder
+                        .executor(refreshExecutor)
+                        .evictionListener((key, value, cause) -> valueLoaders.remove(key))
+                        .build(new RefreshingCacheLoader());
+    }
+
+    @Override
+    @Nonnull
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    @Nonnull
+    public Object getNativeCache() {
+        return this.localCache;
+    }
+
+    /** Get the statistics of the cache. */
+    public TwoLevelCacheStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Set the decorator which adds the context of the callers to the refreshes of their values,
+     * e.g. the security context. The MDC of the callers is always kept.
+     *
+     * @param valueLoaderDecorator decorator of the value loaders. Null to keep the MDC only.
+     */
+    public void setValueLoaderDecorator(@Nullable TaskDecorator valueLoaderDecorator) {
+        this.valueLoaderDecorator = valueLoaderDecorator;
+    }
+
+    @Override
+    protected Object lookup(@Nonnull Object key) {
+        Object storeValue = getFromLocalCache(key);
+        if (Objects.nonNull(storeValue)) {
+            statistics.recordLocalHit();
+            return storeValue;
+        }
+        Object localStoreValue = getFromRemoteCache(key);
+        if (Objects.nonNull(localStoreValue)) {
+            statistics.recordRemoteHit();
+            localCache.put(key, localStoreValue);
+            return fromLocalStoreValue(localStoreValue);
+        }
+        statistics.recordMiss();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@Nonnull Object key, @Nonnull Callable<T> valueLoader) {
+        if (Objects.nonNull(refreshAfterWrite)) {
+            // the value is refreshed later in the background with the context of the caller.
+            valueLoaders.put(key, new CallerContextValueLoader(valueLoader, valueLoaderDecorator));
+        }
+        Object storeValue = getFromLocalCache(key);
+        if (Objects.nonNull(storeValue)) {
+            statistics.recordLocalHit();
+        } else {
+            // concurrent misses of the key wait for the same load.
+            storeValue = fromLocalStoreValue(localCache.get(key, k -> loadValue(k, valueLoader)));
+        }
+        return (T) fromStoreValue(storeValue);
+    }
+
+    @Override
+    public void put(@Nonnull Object key, @Nullable Object value) {
+        localCache.put(key, toStoreValue(value));
+        putToRemoteCache(key, value);
+        publishInvalidation(key);
+    }
+
+    @Override
+    public void evict(@Nonnull Object key) {
+        localCache.invalidate(key);
+        valueLoaders.remove(key);
+        if (Objects.nonNull(remoteCache)) {
+            try {
+                remoteCache.evict(key);
+            } catch (RuntimeException e) {
+                log.error("Evict entry from remote cache {} failed. {}", name, e.getMessage());
+            }
+        }
+        publishInvalidation(key);
+    }
+
+    @Override
+    public void clear() {
+        localCache.invalidateAll();
+        valueLoaders.clear();
+        if (Objects.nonNull(remoteCache)) {
+            try {
+                remoteCache.clear();
+            } catch (RuntimeException e) {
+                log.error("Clear remote cache {} failed. {}", name, e.getMessage());
+            }
+        }
+        publishInvalidation(null);
+    }
+
+    /**
+     * Evicts entries changed by another node from the local cache only.
+     *
+     * @param key key of the entry. Null to evict all entries.
+     */
+    public void evictLocal(@Nullable Object key) {
+        if (Objects.isNull(key)) {
+            localCache.invalidateAll();
+            valueLoaders.clear();
+            return;
+        }
+        localCache.invalidate(key);
+        valueLoaders.remove(key);
+    }
+
+    private Object getFromLocalCache(Object key) {
+        Object localStoreValue = localCache.getIfPresent(key);
+        if (localStoreValue instanceof RemoteStoreValue remoteStoreValue
+                && remoteStoreValue.isExpired()) {
+            localCache.asMap().remove(key, localStoreValue);
+            return null;
+        }
+        return fromLocalStoreValue(localStoreValue);
+    }
+
+    private Object fromLocalStoreValue(Object localStoreValue) {
+        return localStoreValue instanceof RemoteStoreValue remoteStoreValue
+                ? remoteStoreValue.storeValue()
+                : localStoreValue;
+    }
+
+    private Object loadValue(Object key, Callable<?> valueLoader) {
+        Object localStoreValue = getFromRemoteCache(key);
+        if (Objects.nonNull(localStoreValue)) {
+            statistics.recordRemoteHit();
+            return localStoreValue;
+        }
+        statistics.recordMiss();
+        Object value = loadFromSource(key, valueLoader);
+        putToRemoteCache(key, value);
+        return toStoreValue(value);
+    }
+
+    private Object refreshValue(Object key, Object oldStoreValue) {
+        Callable<?> valueLoader = valueLoaders.get(key);
+        if (Objects.isNull(valueLoader)) {
+            // values which were put directly can't be refreshed.
+            return oldStoreValue;
+        }
+        if (Objects.nonNull(coordinator)
+                && !coordinator.tryAcquireRefresh(name, key, refreshAfterWrite)) {
+            // another node refreshes the value and shares it with the remote cache.
+            Object localStoreValue = getFromRemoteCache(key);
+            return Objects.nonNull(localStoreValue) ? localStoreValue : oldStoreValue;
+        }
+        statistics.recordRefresh();
+        Object value = loadFromSource(key, valueLoader);
+        putToRemoteCache(key, value);
+        publishInvalidation(key);
+        return toStoreValue(value);
+    }
+
+    private Object loadFromSource(Object key, Callable<?> valueLoader) {
+        long startTime = System.nanoTime();
+        try {
+            Object value = valueLoader.call();
+            statistics.recordLoad(true, System.nanoTime() - startTime);
+            return value;
+        } catch (Exception e) {
+            statistics.recordLoad(false, System.nanoTime() - startTime);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * Get the value of the remote cache to be stored locally until it expires in the remote cache.
+     */
+    private Object getFromRemoteCache(Object key) {
+        if (Objects.isNull(remoteCache)) {
+            return null;
+        }
+        try {
+            if (remoteCache instanceof TimeToLiveAwareCache timeToLiveAwareCache) {
+                TimeToLiveValueWrapper valueWrapper = timeToLiveAwareCache.getWithTimeToLive(key);
+                if (Objects.isNull(valueWrapper)) {
+                    return null;
+                }
+                Object storeValue = toStoreValue(valueWrapper.get());
+                return Objects.nonNull(valueWrapper.timeToLive())
+                        ? new RemoteStoreValue(
+                                storeValue, System.nanoTime() + valueWrapper.timeToLive().toNanos())
+                        : storeValue;
+            }
+            ValueWrapper valueWrapper = remoteCache.get(key);
+            return Objects.nonNull(valueWrapper) ? toStoreValue(valueWrapper.get()) : null;
+        } catch (RuntimeException e) {
+            log.error("Get entry from remote cache {} failed. {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putToRemoteCache(Object key, Object value) {
+        if (Objects.isNull(remoteCache)) {
+            return;
+        }
+        try {
+            remoteCache.put(key, value);
+        } catch (RuntimeException e) {
+            log.error("Put entry to remote cache {} failed. {}", name, e.getMessage());
+        }
+    }
+
+    private void publishInvalidation(Object key) {
+        if (Objects.isNull(coordinator)) {
+            return;
+        }
+        try {
+            coordinator.publishInvalidation(name, key);
+        } catch (RuntimeException e) {
+            log.error("Publish invalidation of cache {} failed. {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Value found in the remote cache with the time when it expires there.
+     *
+     * @param storeValue value of the remote cache.
+     * @param expiresAtNanos value of {@link System#nanoTime()} when the value expires.
+     */
+    private record RemoteStoreValue(Object storeValue, long expiresAtNanos) {
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+
+    /**
+     * Value loader of a caller which loads the value in the context of the caller, with the MDC of
+     * the caller and the context added by the value loader decorator.
+     */
+    private static final class CallerContextValueLoader implements Callable<Object> {
+
+        private final Runnable loadInCallerContext;
+        private Object value;
+        private Exception failure;
+
+        private CallerContextValueLoader(
+                Callable<?> valueLoader, @Nullable TaskDecorator valueLoaderDecorator) {
+            Map<String, String> callerMdcContext = MDC.getCopyOfContextMap();
+            Runnable load =
+                    () -> {
+                        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+                        setMdcContext(callerMdcContext);
+                        try {
+                            value = valueLoader.call();
+                        } catch (Exception e) {
+                            failure = e;
+                        } finally {
+                            setMdcContext(mdcContext);
+                        }
+                    };
+            this.loadInCallerContext =
+                    Objects.nonNull(valueLoaderDecorator)
+                            ? valueLoaderDecorator.decorate(load)
+                            : load;
+        }
+
+        private static void setMdcContext(@Nullable Map<String, String> mdcContext) {
+            if (Objects.isNull(mdcContext)) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(mdcContext);
+            }
+        }
+
+        @Override
+        public synchronized Object call() throws Exception {
+            try {
+                loadInCallerContext.run();
+                if (Objects.nonNull(failure)) {
+                    throw failure;
+                }
+                return value;
+            } finally {
+                value = null;
+                failure = null;
+            }
+        }
+    }
+
+    /** Loader which loads and refreshes the values with the value loaders of the callers. */
+    private class RefreshingCacheLoader implements CacheLoader<Object, Object> {
+
+        @Override
+        public Object load(@Nonnull Object key) {
+            Callable<?> valueLoader = valueLoaders.get(key);
+            if (Objects.isNull(valueLoader)) {
+                // without a value loader of a caller only the remote cache can provide the value.
+                return getFromRemoteCache(key);
+            }
+            return loadValue(key, valueLoader);
+        }
+
+        @Override
+        public Object reload(@Nonnull Object key, @Nonnull Object oldValue) {
+            return refreshValue(key, oldValue);
+        }
+    }
+}
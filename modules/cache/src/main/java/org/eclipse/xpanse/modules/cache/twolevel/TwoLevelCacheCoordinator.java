@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.twolevel;
+
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+
+/** Coordinates the two-level caches of all nodes of the cluster. */
+public interface TwoLevelCacheCoordinator {
+
+    /**
+     * Notifies the other nodes to evict the entry from their local caches.
+     *
+     * @param cacheName name of the cache.
+     * @param key key of the entry. Null to evict all entries of the cache.
+     */
+    void publishInvalidation(String cacheName, @Nullable Object key);
+
+    /**
+     * Tries to acquire the right to refresh the entry for the whole cluster.
+     *
+     * @param cacheName name of the cache.
+     * @param key key of the entry.
+     * @param refreshAfterWrite time after which the entry is refreshed again.
+     * @return true if this node must refresh the entry.
+     */
+    boolean tryAcquireRefresh(String cacheName, Object key, Duration refreshAfterWrite);
+}
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.twolevel;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Cache manager of the two-level caches. The local level of each cache is a Caffeine cache, the
+ * remote level is the cache with the same name of the remote cache manager when it is configured.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, DisposableBean {
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor =
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("xpanse-cache-refresh-", 0).factory());
+    private final CacheManager remoteCacheManager;
+    private final TwoLevelCacheCoordinator coordinator;
+    private volatile TaskDecorator valueLoaderDecorator;
+
+    /**
+     * Constructor for TwoLevelCacheManager.
+     *
+     * @param remoteCacheManager manager of the remote caches. Null to use local caches only.
+     * @param coordinator coordinator of the nodes. Null to use local caches only.
+     */
+    public TwoLevelCacheManager(
+            @Nullable CacheManager remoteCacheManager,
+            @Nullable TwoLevelCacheCoordinator coordinator) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.coordinator = coordinator;
+    }
+
+    /**
+     * Registers a cache.
+     *
+     * @param name name of the cache.
+     * @param localCacheBuilder builder of the local cache with the expiration policy.
+     * @param refreshAfterWrite time after which values are refreshed. Null to disable refresh.
+     */
+    public void registerCache(
+            String name,
+            Caffeine<Object, Object> localCacheBuilder,
+            @Nullable Duration refreshAfterWrite) {
+        Cache remoteCache =
+                Objects.nonNull(remoteCacheManager) ? remoteCacheManager.getCache(name) : null;
+        TwoLevelCache cache =
+                new TwoLevelCache(
+                        name,
+                        localCacheBuilder,
+                        refreshAfterWrite,
+                        refreshExecutor,
+                        remoteCache,
+                        Objects.nonNull(remoteCache) ? coordinator : null);
+        cache.setValueLoaderDecorator(valueLoaderDecorator);
+        caches.put(name, cache);
+        log.info(
+                "Registered cache {} with remote level: {}, refresh after write: {}.",
+                name,
+                Objects.nonNull(remoteCache),
+                refreshAfterWrite);
+    }
+
+    /**
+     * Set the decorator which adds the context of the callers to the refreshes of their values,
+     * e.g. the security context.
+     *
+     * @param valueLoaderDecorator decorator of the value loaders.
+     */
+    public void setValueLoaderDecorator(TaskDecorator valueLoaderDecorator) {
+        this.valueLoaderDecorator = valueLoaderDecorator;
+        caches.values().forEach(cache -> cache.setValueLoaderDecorator(valueLoaderDecorator));
+    }
+
+    @Override
+    public Cache getCache(@Nonnull String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    @Nonnull
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Evicts entries changed by another node from the local level of the cache.
+     *
+     * @param name name of the cache.
+     * @param key key of the entry. Null to evict all entries.
+     */
+    public void evictLocal(String name, @Nullable Object key) {
+        TwoLevelCache cache = caches.get(name);
+        if (Objects.nonNull(cache)) {
+            cache.evictLocal(key);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.twolevel;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Statistics of the hits, misses and loads of one two-level cache. */
+public class TwoLevelCacheStatistics {
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    void recordLocalHit() {
+        localHits.increment();
+    }
+
+    void recordRemoteHit() {
+        remoteHits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordLoad(boolean successful, long loadTimeNanos) {
+        if (successful) {
+            loadSuccesses.increment();
+        } else {
+            loadFailures.increment();
+        }
+        totalLoadTimeNanos.add(loadTimeNanos);
+    }
+
+    void recordRefresh() {
+        refreshes.increment();
+    }
+
+    /** Number of lookups answered by the local cache. */
+    public long getLocalHitCount() {
+        return localHits.sum();
+    }
+
+    /** Number of lookups answered by the remote cache. */
+    public long getRemoteHitCount() {
+        return remoteHits.sum();
+    }
+
+    /** Number of lookups answered by none of the cache levels. */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /** Number of values loaded successfully from the source. */
+    public long getLoadSuccessCount() {
+        return loadSuccesses.sum();
+    }
+
+    /** Number of values failed to load from the source. */
+    public long getLoadFailureCount() {
+        return loadFailures.sum();
+    }
+
+    /** Total time spent loading values from the source in nanoseconds. */
+    public long getTotalLoadTimeNanos() {
+        return totalLoadTimeNanos.sum();
+    }
+
+    /** Number of values refreshed ahead of their expiration. */
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+}
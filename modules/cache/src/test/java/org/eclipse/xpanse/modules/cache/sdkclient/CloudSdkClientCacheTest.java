@@ -0,0 +1,75 @@
+package org.eclipse.xpanse.modules.cache.sdkclient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.credential.CredentialChangedEvent;
+import org.junit.jupiter.api.Test;
+
+class CloudSdkClientCacheTest {
+
+    private final CloudSdkClientCache cache = new CloudSdkClientCache(100, 30, 60);
+    private final AtomicInteger creations = new AtomicInteger();
+
+    @Test
+    void testClientIsReusedForSameCredentialAndRegion() {
+        String fingerprint = CloudSdkClientCache.fingerprint("ak", "sk", "project");
+        Object client1 = getClient(Csp.HUAWEI_CLOUD, fingerprint, "cn-southwest-2");
+        Object client2 = getClient(Csp.HUAWEI_CLOUD, fingerprint, "cn-southwest-2");
+        Object client3 = getClient(Csp.HUAWEI_CLOUD, fingerprint, "cn-north-4");
+
+        assertSame(client1, client2);
+        assertNotSame(client1, client3);
+        assertEquals(2, creations.get());
+        CloudSdkClientStatistics statistics = cache.getStatistics().get(Csp.HUAWEI_CLOUD);
+        assertEquals(1, statistics.hitCount());
+        assertEquals(2, statistics.creationCount());
+    }
+
+    @Test
+    void testRotatedCredentialGetsNewClient() {
+        String oldFingerprint = CloudSdkClientCache.fingerprint("ak", "sk1", "project");
+        String newFingerprint = CloudSdkClientCache.fingerprint("ak", "sk2", "project");
+        assertNotEquals(oldFingerprint, newFingerprint);
+
+        Object client1 = getClient(Csp.HUAWEI_CLOUD, oldFingerprint, "cn-southwest-2");
+        Object client2 = getClient(Csp.HUAWEI_CLOUD, newFingerprint, "cn-southwest-2");
+
+        assertNotSame(client1, client2);
+    }
+
+    @Test
+    void testClientsAreEvictedWhenCredentialChanged() {
+        String fingerprint = CloudSdkClientCache.fingerprint("ak", "sk", "project");
+        Object huaweiClient = getClient(Csp.HUAWEI_CLOUD, fingerprint, "region");
+        Object flexibleEngineClient = getClient(Csp.FLEXIBLE_ENGINE, fingerprint, "region");
+
+        cache.onCredentialChanged(new CredentialChangedEvent(Csp.HUAWEI_CLOUD, "site", "user"));
+
+        assertNotSame(huaweiClient, getClient(Csp.HUAWEI_CLOUD, fingerprint, "region"));
+        assertSame(flexibleEngineClient, getClient(Csp.FLEXIBLE_ENGINE, fingerprint, "region"));
+    }
+
+    @Test
+    void testClientWithoutFingerprintIsNotCached() {
+        Object client1 = getClient(Csp.HUAWEI_CLOUD, null, "region");
+        Object client2 = getClient(Csp.HUAWEI_CLOUD, null, "region");
+
+        assertNotSame(client1, client2);
+        assertEquals(0, cache.getCachedClientCount());
+    }
+
+    private Object getClient(Csp csp, String fingerprint, String region) {
+        return cache.getClient(
+                new CloudSdkClientKey(csp, fingerprint, region, "ecs"),
+                Object.class,
+                () -> {
+                    creations.incrementAndGet();
+                    return new Object();
+                });
+    }
+}
@@ -0,0 +1,262 @@
+package org.eclipse.xpanse.modules.cache.twolevel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.xpanse.modules.cache.monitor.MetricCatalogKey;
+import org.eclipse.xpanse.modules.cache.twolevel.TimeToLiveAwareCache.TimeToLiveValueWrapper;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "testCache";
+    @Mock private Cache remoteCache;
+    @Mock private TwoLevelCacheCoordinator coordinator;
+
+    @Test
+    void testGetLoadsValueOnceAndStoresItInBothLevels() {
+        TwoLevelCache cache = getCache(null, remoteCache, coordinator);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(
+                "value",
+                cache.get(
+                        "key",
+                        () -> {
+                            loads.incrementAndGet();
+                            return "value";
+                        }));
+        assertEquals("value", cache.get("key", () -> "other"));
+
+        assertEquals(1, loads.get());
+        verify(remoteCache).put("key", "value");
+        assertEquals(1, cache.getStatistics().getMissCount());
+        assertEquals(1, cache.getStatistics().getLocalHitCount());
+        assertEquals(1, cache.getStatistics().getLoadSuccessCount());
+    }
+
+    @Test
+    void testGetUsesValueOfRemoteCache() {
+        when(remoteCache.get("key")).thenReturn(new SimpleValueWrapper("remote"));
+        TwoLevelCache cache = getCache(null, remoteCache, coordinator);
+
+        assertEquals("remote", cache.get("key", () -> "source"));
+        assertEquals("remote", cache.get("key", String.class));
+
+        verify(remoteCache, never()).put(any(), any());
+        assertEquals(1, cache.getStatistics().getRemoteHitCount());
+        assertEquals(0, cache.getStatistics().getLoadSuccessCount());
+    }
+
+    @Test
+    void testConcurrentMissesAreLoadedOnce() throws Exception {
+        TwoLevelCache cache = getCache(null, null, null);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 4; i++) {
+                results.add(
+                        executor.submit(
+                                () ->
+                                        cache.get(
+                                                "key",
+                                                () -> {
+                                                    loads.incrementAndGet();
+                                                    release.await(10, TimeUnit.SECONDS);
+                                                    return "value";
+                                                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(10, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        TwoLevelCache cache = getCache(null, null, null);
+
+        assertThrows(
+                Cache.ValueRetrievalException.class,
+                () ->
+                        cache.get(
+                                "key",
+                                () -> {
+                                    throw new IllegalStateException("source unavailable");
+                                }));
+
+        assertEquals("value", cache.get("key", () -> "value"));
+        assertEquals(1, cache.getStatistics().getLoadFailureCount());
+    }
+
+    @Test
+    void testChangesArePublishedAndEvictLocalKeepsRemoteCache() {
+        TwoLevelCache cache = getCache(null, remoteCache, coordinator);
+
+        cache.put("key", "value");
+        verify(remoteCache).put("key", "value");
+        verify(coordinator).publishInvalidation(CACHE_NAME, "key");
+
+        cache.evictLocal("key");
+        assertNull(cache.get("key"));
+        verify(remoteCache, never()).evict(any());
+
+        cache.evict("key");
+        verify(remoteCache).evict("key");
+        verify(coordinator, times(2)).publishInvalidation(CACHE_NAME, "key");
+    }
+
+    @Test
+    void testValueIsRefreshedAfterRefreshTime() throws Exception {
+        when(coordinator.tryAcquireRefresh(any(), any(), any())).thenReturn(true);
+        TwoLevelCache cache = getCache(Duration.ofMillis(50), remoteCache, coordinator);
+        AtomicInteger version = new AtomicInteger();
+
+        assertEquals(0, cache.get("key", version::getAndIncrement));
+        Thread.sleep(100);
+        // the refresh runs in the caller thread as the test uses a direct executor.
+        assertEquals(1, cache.get("key", version::getAndIncrement));
+        assertEquals(1, cache.get("key", version::getAndIncrement));
+        assertEquals(1, cache.getStatistics().getRefreshCount());
+    }
+
+    @Test
+    void testRefreshOfOtherNodeIsReadFromRemoteCache() throws Exception {
+        when(coordinator.tryAcquireRefresh(any(), any(), any())).thenReturn(false);
+        TwoLevelCache cache = getCache(Duration.ofMillis(50), remoteCache, coordinator);
+
+        assertEquals("value", cache.get("key", () -> "value"));
+        when(remoteCache.get("key")).thenReturn(new SimpleValueWrapper("shared"));
+        Thread.sleep(100);
+        cache.get("key", () -> "local");
+
+        assertEquals("shared", cache.get("key", () -> "local"));
+        assertEquals(0, cache.getStatistics().getRefreshCount());
+    }
+
+    @Test
+    void testValueOfRemoteCacheExpiresLocallyWithRemoteEntry() throws Exception {
+        Cache timeToLiveAwareCache =
+                mock(Cache.class, withSettings().extraInterfaces(TimeToLiveAwareCache.class));
+        when(((TimeToLiveAwareCache) timeToLiveAwareCache).getWithTimeToLive("key"))
+                .thenReturn(new TimeToLiveValueWrapper("remote", Duration.ofMillis(50)));
+        TwoLevelCache cache = getCache(null, timeToLiveAwareCache, coordinator);
+
+        assertEquals("remote", cache.get("key", () -> "source"));
+        assertEquals("remote", cache.get("key", () -> "source"));
+        when(((TimeToLiveAwareCache) timeToLiveAwareCache).getWithTimeToLive("key"))
+                .thenReturn(null);
+        Thread.sleep(100);
+
+        assertEquals("source", cache.get("key", () -> "source"));
+        assertEquals(1, cache.getStatistics().getMissCount());
+        // the value and its time to live are read together.
+        verify(timeToLiveAwareCache, never()).get(any());
+    }
+
+    @Test
+    void testValueIsRefreshedInContextOfCaller() throws Exception {
+        when(coordinator.tryAcquireRefresh(any(), any(), any())).thenReturn(true);
+        TwoLevelCache cache = getCache(Duration.ofMillis(50), remoteCache, coordinator);
+        ThreadLocal<String> callerContext = new ThreadLocal<>();
+        cache.setValueLoaderDecorator(
+                runnable -> {
+                    String context = callerContext.get();
+                    return () -> {
+                        callerContext.set(context);
+                        try {
+                            runnable.run();
+                        } finally {
+                            callerContext.remove();
+                        }
+                    };
+                });
+        Callable<String> valueLoader = () -> MDC.get("requestId") + ":" + callerContext.get();
+
+        MDC.put("requestId", "caller");
+        callerContext.set("user");
+        try {
+            assertEquals("caller:user", cache.get("key", valueLoader));
+        } finally {
+            MDC.remove("requestId");
+            callerContext.remove();
+        }
+        Thread.sleep(100);
+
+        // the refresh runs in the test thread without the context of the caller.
+        assertEquals("caller:user", cache.get("key", String.class));
+        assertEquals(1, cache.getStatistics().getRefreshCount());
+        assertNull(MDC.get("requestId"));
+        assertNull(callerContext.get());
+    }
+
+    @Test
+    void testEvictLocalComparesKeyObjects() {
+        TwoLevelCache cache = getCache(null, null, null);
+        cache.put(new MetricCatalogKey(Csp.HUAWEI_CLOUD, "resource"), "value");
+        cache.put("MetricCatalogKey[csp=HUAWEI_CLOUD, resourceId=resource]", "other");
+
+        cache.evictLocal(new MetricCatalogKey(Csp.HUAWEI_CLOUD, "resource"));
+
+        assertNull(cache.get(new MetricCatalogKey(Csp.HUAWEI_CLOUD, "resource")));
+        assertEquals(
+                "other",
+                cache.get("MetricCatalogKey[csp=HUAWEI_CLOUD, resourceId=resource]", String.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testLoadWithoutValueLoaderUsesRemoteCache() {
+        when(remoteCache.get("key")).thenReturn(new SimpleValueWrapper("remote"));
+        TwoLevelCache cache = getCache(Duration.ofMinutes(1), remoteCache, coordinator);
+        LoadingCache<Object, Object> localCache =
+                (LoadingCache<Object, Object>) cache.getNativeCache();
+
+        assertEquals("remote", localCache.get("key"));
+        assertNull(localCache.get("other"));
+        assertEquals("remote", cache.get("key", String.class));
+    }
+
+    private TwoLevelCache getCache(
+            Duration refreshAfterWrite, Cache remoteCache, TwoLevelCacheCoordinator coordinator) {
+        return new TwoLevelCache(
+                CACHE_NAME,
+                Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(10)),
+                refreshAfterWrite,
+                Runnable::run,
+                remoteCache,
+                coordinator);
+    }
+}
@@ -6,33 +6,51 @@
 
 package org.eclipse.xpanse.common.systemcmd;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 
-/** Executes operating system commands. */
+/**
+ * Executes operating system commands. The output streams are read by the shared {@link
+ * SystemCmdOutputPump}, captured with bounded head/tail buffers and forwarded to the configured
+ * {@link SystemCmdOutputSink}s. When the command times out or the calling thread is interrupted,
+ * the whole process tree is killed.
+ */
 @Setter
 @Getter
 @Slf4j
 public class SystemCmd {
 
+    /** Default number of lines kept from the beginning and from the end of each stream. */
+    public static final int DEFAULT_CAPTURED_LINES = 10000;
+
+    /** Default time to wait for the output to be read once the command is completed. */
+    public static final int DEFAULT_OUTPUT_READ_TIMEOUT_SECONDS = 30;
+
     private Map<String, String> env;
 
     private String workDir = "";
 
+    private int capturedHeadLines = DEFAULT_CAPTURED_LINES;
+
+    private int capturedTailLines = DEFAULT_CAPTURED_LINES;
+
+    private List<SystemCmdOutputSink> outputSinks = new ArrayList<>();
+
+    private int outputReadTimeoutSeconds = DEFAULT_OUTPUT_READ_TIMEOUT_SECONDS;
+
     public SystemCmdResult execute(String cmd) {
         return execute(cmd, 0);
     }
@@ -41,13 +59,15 @@ public class SystemCmd {
      * Executes operating system command.
      *
      * @param cmd command to be executed.
-     * @param waitSecond time to wait for the command to be completed.
+     * @param waitSecond time to wait for the command to be completed. The process tree is killed
+     *     when the command is not completed in time.
      * @return returns SystemCmdResult object which has all the execution details.
      */
     public SystemCmdResult execute(String cmd, int waitSecond) {
         SystemCmdResult systemCmdResult = new SystemCmdResult();
         systemCmdResult.setCommandExecuted(cmd);
         log.info("SystemCmd executing cmd: " + String.join(" ", cmd));
+        Process process = null;
         try {
             String[] safeCmd = cmd.split(" +");
             ProcessBuilder processBuilder = new ProcessBuilder(safeCmd);
@@ -59,18 +79,32 @@ public class SystemCmd {
             if (!Objects.equals(workDir, "")) {
                 processBuilder.directory(new File(workDir));
             }
-            Process process = processBuilder.start();
-            readProcessOutput(process, systemCmdResult);
+            process = processBuilder.start();
+            // close stdin so that commands waiting for input fail instead of hanging.
+            process.getOutputStream().close();
+            SystemCmdOutputCapture stdOutCapture =
+                    new SystemCmdOutputCapture(capturedHeadLines, capturedTailLines);
+            SystemCmdOutputCapture stdErrCapture =
+                    new SystemCmdOutputCapture(capturedHeadLines, capturedTailLines);
+            List<Future<?>> pumps = startOutputPumps(process, stdOutCapture, stdErrCapture);
 
+            boolean completed = true;
             if (waitSecond <= 0) {
                 process.waitFor();
-            } else {
-                if (!process.waitFor(waitSecond, TimeUnit.SECONDS)) {
-                    log.error("SystemCmd wait process failed");
-                    systemCmdResult.setCommandSuccessful(false);
-                }
+            } else if (!process.waitFor(waitSecond, TimeUnit.SECONDS)) {
+                log.error("SystemCmd process not completed in {} seconds.", waitSecond);
+                completed = false;
+                destroyProcessTree(process);
             }
-            if (process.exitValue() != 0) {
+            // streams are closed once the process tree has exited.
+            for (Future<?> pump : pumps) {
+                waitForOutputPump(pump);
+            }
+            systemCmdResult.setCommandStdOutput(stdOutCapture.toString());
+            systemCmdResult.setCommandStdError(stdErrCapture.toString());
+            if (!completed) {
+                systemCmdResult.setCommandSuccessful(false);
+            } else if (process.exitValue() != 0) {
                 log.error("SystemCmd process finished with abnormal value.");
                 systemCmdResult.setCommandSuccessful(false);
             } else {
@@ -79,10 +113,12 @@ public class SystemCmd {
             log.debug("stdout of the command: " + systemCmdResult.getCommandStdOutput());
             log.debug("stderr of the command: " + systemCmdResult.getCommandStdError());
         } catch (final IOException | ExecutionException ex) {
+            destroyProcessTree(process);
             systemCmdResult.setCommandSuccessful(false);
             systemCmdResult.setCommandStdError(ex.getMessage());
         } catch (final InterruptedException ex) {
             log.error("SystemCmd process be interrupted.");
+            destroyProcessTree(process);
             Thread.currentThread().interrupt();
             systemCmdResult.setCommandSuccessful(false);
             systemCmdResult.setCommandStdError(ex.getMessage());
@@ -90,61 +126,52 @@ public class SystemCmd {
         return systemCmdResult;
     }
 
-    private String readStream(BufferedReader bufferedReader, Map<String, String> contextMap) {
-        // copying MDC context of the main deployment thread to the stream reader thread.
-        MDC.setContextMap(contextMap);
-        StringBuilder stringBuilder = new StringBuilder();
-        bufferedReader
-                .lines()
-                .forEach(
-                        line -> {
-                            log.info(line);
-                            // skip adding new line for the first line.
-                            if (!stringBuilder.isEmpty()) {
-                                stringBuilder.append(System.lineSeparator());
-                            }
-                            stringBuilder.append(line);
-                        });
-        return stringBuilder.toString();
-    }
-
-    private void readProcessOutput(Process process, SystemCmdResult systemCmdResult)
-            throws IOException, ExecutionException, InterruptedException {
-        if (Objects.isNull(process)) {
-            return;
-        }
+    private List<Future<?>> startOutputPumps(
+            Process process,
+            SystemCmdOutputCapture stdOutCapture,
+            SystemCmdOutputCapture stdErrCapture) {
         final Map<String, String> contextMap =
                 new HashMap<>(
                         Objects.nonNull(MDC.getCopyOfContextMap())
                                 ? MDC.getCopyOfContextMap()
                                 : new HashMap<>());
+        List<SystemCmdOutputSink> sinks =
+                Objects.nonNull(outputSinks) ? List.copyOf(outputSinks) : List.of();
+        // stdout and stderr must be read in parallel, otherwise the process blocks as soon as
+        // the buffer of the stream which is not being read is full.
+        return List.of(
+                SystemCmdOutputPump.pump(
+                        process.getInputStream(),
+                        stdOutCapture,
+                        sinks,
+                        SystemCmdOutputSink::onStdOutLine,
+                        contextMap),
+                SystemCmdOutputPump.pump(
+                        process.getErrorStream(),
+                        stdErrCapture,
+                        sinks,
+                        SystemCmdOutputSink::onStdErrLine,
+                        contextMap));
+    }
 
-        // Starting threads in parallel to read stdout and stderr. This is needed because in
-        // some cases reading stdout first works and in some cases reading stderr first works.
-        // we now let both stdout and stderr streams to be fully read in parallel and then read
-        // the output after the buffers are fully read.
-        BufferedReader stdoutReader =
-                new BufferedReader(new InputStreamReader(process.getInputStream()));
-        ExecutorService threadToReadStdout = Executors.newSingleThreadExecutor();
-        Future<String> stdOutFuture =
-                threadToReadStdout.submit(() -> readStream(stdoutReader, contextMap));
-
-        BufferedReader stdErrorReader =
-                new BufferedReader(new InputStreamReader(process.getErrorStream()));
-        ExecutorService threadToReadStdErr = Executors.newSingleThreadExecutor();
-        Future<String> stdErrFuture =
-                threadToReadStdErr.submit(() -> readStream(stdErrorReader, contextMap));
-
-        int count = 0;
-        while (!stdOutFuture.isDone() || !stdErrFuture.isDone()) {
-            if (count++ < 10 || count % 100000 == 0) {
-                log.debug("Command output and error streams are still being read.");
-            }
+    private void waitForOutputPump(Future<?> pump) throws InterruptedException, ExecutionException {
+        try {
+            pump.get(outputReadTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            // processes which left the process tree may keep the streams open.
+            log.warn(
+                    "Reading command output not completed in {} seconds, stop waiting for it.",
+                    outputReadTimeoutSeconds);
+            pump.cancel(true);
         }
+    }
 
-        systemCmdResult.setCommandStdError(stdErrFuture.get());
-        systemCmdResult.setCommandStdOutput(stdOutFuture.get());
-        threadToReadStdout.shutdown();
-        threadToReadStdErr.shutdown();
+    private void destroyProcessTree(Process process) {
+        if (Objects.isNull(process) || !process.isAlive()) {
+            return;
+        }
+        log.warn("Killing process tree of the command with pid {}.", process.pid());
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
     }
 }
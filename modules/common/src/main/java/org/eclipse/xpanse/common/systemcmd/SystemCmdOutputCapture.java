@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.common.systemcmd;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Bounded in-memory capture of a command output stream. Keeps the first {@code headLines} lines and
+ * a ring buffer of the last {@code tailLines} lines, so that very long outputs don't build
+ * unbounded strings. Lines in between are counted and replaced by a marker line.
+ */
+public class SystemCmdOutputCapture {
+
+    private final int headLines;
+    private final int tailLines;
+    private final List<String> head = new ArrayList<>();
+    private final Deque<String> tail = new ArrayDeque<>();
+    @Getter private long omittedLines;
+
+    /**
+     * Constructor.
+     *
+     * @param headLines number of lines to keep from the beginning of the output.
+     * @param tailLines number of lines to keep from the end of the output.
+     */
+    public SystemCmdOutputCapture(int headLines, int tailLines) {
+        if (headLines < 0 || tailLines < 0) {
+            throw new IllegalArgumentException("Capture limits must not be negative.");
+        }
+        this.headLines = headLines;
+        this.tailLines = tailLines;
+    }
+
+    /**
+     * Adds a line to the capture.
+     *
+     * @param line line of the output.
+     */
+    public synchronized void add(String line) {
+        if (head.size() < headLines) {
+            head.add(line);
+            return;
+        }
+        if (tailLines == 0) {
+            omittedLines++;
+            return;
+        }
+        if (tail.size() == tailLines) {
+            tail.removeFirst();
+            omittedLines++;
+        }
+        tail.addLast(line);
+    }
+
+    /**
+     * Returns the captured output with lines joined by the system line separator.
+     *
+     * @return captured output.
+     */
+    @Override
+    public synchronized String toString() {
+        List<String> lines = new ArrayList<>(head.size() + tail.size() + 1);
+        lines.addAll(head);
+        if (omittedLines > 0) {
+            lines.add("... " + omittedLines + " lines omitted ...");
+        }
+        lines.addAll(tail);
+        return String.join(System.lineSeparator(), lines);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.common.systemcmd;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+/**
+ * Shared pump which streams the output of running commands to sinks. Each stream is read by a
+ * virtual thread that blocks on I/O without holding a platform thread, so concurrently running
+ * commands don't pin CPU cores while their output is being read. The number of pump threads is
+ * bounded, streams beyond the limit are read once a pump thread is free.
+ */
+@Slf4j
+final class SystemCmdOutputPump {
+
+    /** Max number of streams read at the same time, two streams per running command. */
+    static final int MAX_PUMP_THREADS = 512;
+
+    private static final ThreadPoolExecutor PUMP_EXECUTOR = createPumpExecutor();
+
+    private SystemCmdOutputPump() {}
+
+    private static ThreadPoolExecutor createPumpExecutor() {
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        MAX_PUMP_THREADS,
+                        MAX_PUMP_THREADS,
+                        60,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        Thread.ofVirtual().name("systemcmd-output-pump-", 0).factory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Starts reading the stream line by line and forwards every line to the capture and sinks.
+     *
+     * @param inputStream stream of the process to be read.
+     * @param capture bounded capture of the stream.
+     * @param sinks additional sinks the lines must be passed to.
+     * @param sinkMethod method of the sink which must be called for each line.
+     * @param contextMap MDC context of the thread which started the command.
+     * @return future completed when the stream is closed.
+     */
+    static Future<?> pump(
+            InputStream inputStream,
+            SystemCmdOutputCapture capture,
+            List<SystemCmdOutputSink> sinks,
+            BiConsumer<SystemCmdOutputSink, String> sinkMethod,
+            Map<String, String> contextMap) {
+        return PUMP_EXECUTOR.submit(
+                () -> {
+                    // copying MDC context of the main deployment thread to the pump thread.
+                    MDC.setContextMap(contextMap);
+                    try (BufferedReader reader =
+                            new BufferedReader(
+                                    new InputStreamReader(inputStream, Charset.defaultCharset()))) {
+                        String line;
+                        while (Objects.nonNull(line = reader.readLine())) {
+                            log.info(line);
+                            capture.add(line);
+                            for (SystemCmdOutputSink sink : sinks) {
+                                try {
+                                    sinkMethod.accept(sink, line);
+                                } catch (RuntimeException e) {
+                                    log.error("Command output sink failed.", e);
+                                }
+                            }
+                        }
+                    } catch (IOException e) {
+                        // stream is closed when the process is killed.
+                        log.debug("Reading command output stopped. {}", e.getMessage());
+                    } finally {
+                        MDC.clear();
+                    }
+                });
+    }
+}
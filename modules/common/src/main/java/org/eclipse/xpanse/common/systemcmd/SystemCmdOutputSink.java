@@ -0,0 +1,25 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.common.systemcmd;
+
+/** Receives the output of a running system command line by line. */
+public interface SystemCmdOutputSink {
+
+    /**
+     * Called for every line the command writes to its standard output stream.
+     *
+     * @param line line without the line terminator.
+     */
+    default void onStdOutLine(String line) {}
+
+    /**
+     * Called for every line the command writes to its standard error stream.
+     *
+     * @param line line without the line terminator.
+     */
+    default void onStdErrLine(String line) {}
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.common.systemcmd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/** Test of SystemCmdOutputCapture. */
+class SystemCmdOutputCaptureTest {
+
+    @Test
+    void testCaptureWithinLimits() {
+        SystemCmdOutputCapture capture = new SystemCmdOutputCapture(2, 2);
+        capture.add("line1");
+        capture.add("line2");
+        capture.add("line3");
+
+        assertEquals(0, capture.getOmittedLines());
+        assertEquals(
+                String.join(System.lineSeparator(), "line1", "line2", "line3"), capture.toString());
+    }
+
+    @Test
+    void testCaptureKeepsHeadAndTail() {
+        SystemCmdOutputCapture capture = new SystemCmdOutputCapture(2, 2);
+        for (int i = 1; i <= 10; i++) {
+            capture.add("line" + i);
+        }
+
+        assertEquals(6, capture.getOmittedLines());
+        assertEquals(
+                String.join(
+                        System.lineSeparator(),
+                        "line1",
+                        "line2",
+                        "... 6 lines omitted ...",
+                        "line9",
+                        "line10"),
+                capture.toString());
+    }
+
+    @Test
+    void testCaptureWithoutTail() {
+        SystemCmdOutputCapture capture = new SystemCmdOutputCapture(1, 0);
+        capture.add("line1");
+        capture.add("line2");
+
+        assertEquals(1, capture.getOmittedLines());
+        assertEquals(
+                String.join(System.lineSeparator(), "line1", "... 1 lines omitted ..."),
+                capture.toString());
+    }
+
+    @Test
+    void testEmptyCapture() {
+        assertEquals("", new SystemCmdOutputCapture(1, 1).toString());
+        assertThrows(IllegalArgumentException.class, () -> new SystemCmdOutputCapture(-1, 1));
+    }
+}
@@ -5,13 +5,23 @@
 
 package org.eclipse.xpanse.common.systemcmd;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.commons.lang3.SystemUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 /** Test of SystemCmd. */
 public class SystemCmdTest {
 
+    @TempDir private Path tempDir;
+
     @Test
     void systemCommandExecute() {
         SystemCmd systemCmd = new SystemCmd();
@@ -28,4 +38,65 @@ public class SystemCmdTest {
         Assertions.assertNull(systemCmd.getEnv());
         Assertions.assertNotNull(systemCmd.getWorkDir());
     }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void systemCommandOutputIsPassedToSinks() {
+        List<String> stdOutLines = new ArrayList<>();
+        List<String> stdErrLines = new ArrayList<>();
+        SystemCmd systemCmd = new SystemCmd();
+        systemCmd.setCapturedHeadLines(1);
+        systemCmd.setCapturedTailLines(1);
+        systemCmd
+                .getOutputSinks()
+                .add(
+                        new SystemCmdOutputSink() {
+                            @Override
+                            public void onStdOutLine(String line) {
+                                stdOutLines.add(line);
+                            }
+
+                            @Override
+                            public void onStdErrLine(String line) {
+                                stdErrLines.add(line);
+                            }
+                        });
+
+        SystemCmdResult systemCmdResult = systemCmd.execute("seq 1 5");
+
+        Assertions.assertTrue(systemCmdResult.isCommandSuccessful());
+        Assertions.assertEquals(List.of("1", "2", "3", "4", "5"), stdOutLines);
+        Assertions.assertTrue(stdErrLines.isEmpty());
+        Assertions.assertEquals(
+                String.join(System.lineSeparator(), "1", "... 3 lines omitted ...", "5"),
+                systemCmdResult.getCommandStdOutput());
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void systemCommandIsKilledAfterTimeout() {
+        SystemCmd systemCmd = new SystemCmd();
+        long start = System.currentTimeMillis();
+
+        SystemCmdResult systemCmdResult = systemCmd.execute("sleep 30", 1);
+
+        Assertions.assertFalse(systemCmdResult.isCommandSuccessful());
+        Assertions.assertTrue(System.currentTimeMillis() - start < 10000);
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void systemCommandDoesNotWaitForOutputOfProcessesLeftBehind() throws IOException {
+        Path script = tempDir.resolve("background.sh");
+        Files.writeString(script, "echo started\nsleep 20 &\n");
+        SystemCmd systemCmd = new SystemCmd();
+        systemCmd.setOutputReadTimeoutSeconds(1);
+        long start = System.currentTimeMillis();
+
+        SystemCmdResult systemCmdResult = systemCmd.execute("sh " + script);
+
+        Assertions.assertTrue(systemCmdResult.isCommandSuccessful());
+        Assertions.assertEquals("started", systemCmdResult.getCommandStdOutput());
+        Assertions.assertTrue(System.currentTimeMillis() - start < 10000);
+    }
 }
@@ -31,4 +31,6 @@ public interface CustomJpaRepository<T, ID> extends Repository<T, ID> {
     List<T> findAllById(Iterable<ID> ids);
 
     <S extends T> List<S> saveAll(Iterable<S> entities);
+
+    <S extends T> List<S> saveAllAndFlush(Iterable<S> entities);
 }
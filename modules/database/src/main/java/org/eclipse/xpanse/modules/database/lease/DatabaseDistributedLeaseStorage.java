@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.lease;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Implementation of the DistributedLeaseStorage. Leases are acquired with a conditional update, so
+ * only one node can win an expired lease. A missing lease is created with a native insert, the
+ * primary key makes the insert of all but one node fail. The statements are not wrapped in one
+ * transaction because a failed insert must not roll back anything else.
+ */
+@Slf4j
+@Component
+public class DatabaseDistributedLeaseStorage implements DistributedLeaseStorage {
+
+    private final DistributedLeaseRepository repository;
+
+    @Autowired
+    public DatabaseDistributedLeaseStorage(DistributedLeaseRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public boolean tryAcquire(String leaseName, String ownerId, Duration duration) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime lockedUntil = now.plus(duration);
+        if (repository.acquireIfAvailable(leaseName, ownerId, now, lockedUntil) > 0) {
+            return true;
+        }
+        if (repository.existsById(leaseName)) {
+            return false;
+        }
+        try {
+            // a plain insert, a merge would overwrite the lease inserted by another node.
+            return repository.insertLease(leaseName, ownerId, now, lockedUntil) > 0;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Lease {} was created by another node.", leaseName);
+            return false;
+        }
+    }
+
+    @Override
+    public void release(String leaseName, String ownerId, Duration keepFor) {
+        repository.releaseOwnedLease(leaseName, ownerId, OffsetDateTime.now().plus(keepFor));
+    }
+
+    @Override
+    public List<String> listOwnersOfActiveLeases(String leaseNamePrefix) {
+        return repository.findOwnersOfActiveLeases(leaseNamePrefix + "%", OffsetDateTime.now());
+    }
+
+    @Override
+    public int deleteLeasesExpiredBefore(OffsetDateTime expiredBefore) {
+        return repository.deleteLeasesExpiredBefore(expiredBefore);
+    }
+}
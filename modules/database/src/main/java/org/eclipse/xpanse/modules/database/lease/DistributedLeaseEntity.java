@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.lease;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.Data;
+
+/**
+ * DistributedLeaseEntity for persistence. A lease is held by one node of the cluster until it
+ * expires, the lease of a node which died is taken over by another node after it expired.
+ */
+@Data
+@Table(name = "DISTRIBUTED_LEASE")
+@Entity
+public class DistributedLeaseEntity {
+
+    /** The unique name of the lease. */
+    @Id
+    @Column(name = "LEASE_NAME", nullable = false)
+    private String leaseName;
+
+    /** The id of the node which holds the lease. */
+    @Column(name = "OWNER_ID", nullable = false)
+    private String ownerId;
+
+    /** The time when the lease was acquired or renewed. */
+    @Column(name = "LOCKED_AT", nullable = false)
+    private OffsetDateTime lockedAt;
+
+    /** The time when the lease expires. */
+    @Column(name = "LOCKED_UNTIL", nullable = false)
+    private OffsetDateTime lockedUntil;
+}
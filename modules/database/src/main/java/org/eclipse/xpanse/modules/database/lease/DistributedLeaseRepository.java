@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.lease;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.eclipse.xpanse.modules.database.CustomJpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Interface to access default JPA methods. */
+@Repository
+public interface DistributedLeaseRepository
+        extends CustomJpaRepository<DistributedLeaseEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query(
+            "update DistributedLeaseEntity l set l.ownerId = :ownerId, l.lockedAt = :now,"
+                    + " l.lockedUntil = :lockedUntil where l.leaseName = :leaseName"
+                    + " and (l.lockedUntil <= :now or l.ownerId = :ownerId)")
+    int acquireIfAvailable(
+            @Param("leaseName") String leaseName,
+            @Param("ownerId") String ownerId,
+            @Param("now") OffsetDateTime now,
+            @Param("lockedUntil") OffsetDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query(
+            value =
+                    "insert into DISTRIBUTED_LEASE (LEASE_NAME, OWNER_ID, LOCKED_AT, LOCKED_UNTIL)"
+                            + " values (:leaseName, :ownerId, :now, :lockedUntil)",
+            nativeQuery = true)
+    int insertLease(
+            @Param("leaseName") String leaseName,
+            @Param("ownerId") String ownerId,
+            @Param("now") OffsetDateTime now,
+            @Param("lockedUntil") OffsetDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query(
+            "update DistributedLeaseEntity l set l.lockedUntil = :lockedUntil"
+                    + " where l.leaseName = :leaseName and l.ownerId = :ownerId"
+                    + " and l.lockedUntil > :lockedUntil")
+    int releaseOwnedLease(
+            @Param("leaseName") String leaseName,
+            @Param("ownerId") String ownerId,
+            @Param("lockedUntil") OffsetDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("delete from DistributedLeaseEntity l where l.lockedUntil < :expiredBefore")
+    int deleteLeasesExpiredBefore(@Param("expiredBefore") OffsetDateTime expiredBefore);
+
+    @Query(
+            "select l.ownerId from DistributedLeaseEntity l where l.leaseName like :prefix"
+                    + " and l.lockedUntil > :now order by l.ownerId")
+    List<String> findOwnersOfActiveLeases(
+            @Param("prefix") String prefix, @Param("now") OffsetDateTime now);
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.lease;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/** Interface for persist of the leases shared by the nodes of the cluster. */
+public interface DistributedLeaseStorage {
+
+    /**
+     * Acquire the lease for the owner. The lease is acquired when it doesn't exist, when it is
+     * expired or when it is held by the owner already, in the last case it is renewed.
+     *
+     * @param leaseName unique name of the lease.
+     * @param ownerId id of the node which acquires the lease.
+     * @param duration duration after which the lease expires.
+     * @return true if the lease is held by the owner now.
+     */
+    boolean tryAcquire(String leaseName, String ownerId, Duration duration);
+
+    /**
+     * Release the lease held by the owner. The lease is held until now plus the given duration at
+     * most, a duration of zero lets other nodes acquire it immediately.
+     *
+     * @param leaseName unique name of the lease.
+     * @param ownerId id of the node which holds the lease.
+     * @param keepFor duration for which the lease is kept after release.
+     */
+    void release(String leaseName, String ownerId, Duration keepFor);
+
+    /**
+     * List the owners of the leases which are not expired and whose names start with the prefix.
+     *
+     * @param leaseNamePrefix prefix of the names of the leases.
+     * @return ids of the owners sorted.
+     */
+    List<String> listOwnersOfActiveLeases(String leaseNamePrefix);
+
+    /**
+     * Delete the leases which expired before the given time.
+     *
+     * @param expiredBefore time before which the leases expired.
+     * @return number of the deleted leases.
+     */
+    int deleteLeasesExpiredBefore(OffsetDateTime expiredBefore);
+}
@@ -8,8 +8,15 @@ package org.eclipse.xpanse.modules.database.resource;
 
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -74,4 +81,37 @@ public class DatabaseServiceResourceStorage implements ServiceResourceStorage {
         }
         return null;
     }
+
+    @Override
+    public Map<UUID, List<DeployResource>> getDeployResourcesOfServices(
+            Collection<UUID> serviceIds, DeployResourceKind resourceKind) {
+        Map<UUID, List<DeployResource>> resourcesOfServices = new LinkedHashMap<>();
+        if (CollectionUtils.isEmpty(serviceIds)) {
+            return resourcesOfServices;
+        }
+        Map<UUID, DeployResource> resourcesById = new HashMap<>();
+        for (Object[] row :
+                serviceResourceRepository.findResourcesByServiceIds(serviceIds, resourceKind)) {
+            DeployResource deployResource = new DeployResource();
+            deployResource.setGroupType((String) row[2]);
+            deployResource.setGroupName((String) row[3]);
+            deployResource.setResourceId((String) row[4]);
+            deployResource.setResourceName((String) row[5]);
+            deployResource.setResourceKind((DeployResourceKind) row[6]);
+            deployResource.setProperties(new HashMap<>());
+            resourcesById.put((UUID) row[1], deployResource);
+            resourcesOfServices
+                    .computeIfAbsent((UUID) row[0], id -> new ArrayList<>())
+                    .add(deployResource);
+        }
+        for (Object[] row :
+                serviceResourceRepository.findResourcePropertiesByServiceIds(
+                        serviceIds, resourceKind)) {
+            DeployResource deployResource = resourcesById.get((UUID) row[0]);
+            if (Objects.nonNull(deployResource)) {
+                deployResource.getProperties().put((String) row[1], (String) row[2]);
+            }
+        }
+        return resourcesOfServices;
+    }
 }
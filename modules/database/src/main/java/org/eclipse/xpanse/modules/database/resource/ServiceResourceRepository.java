@@ -6,13 +6,52 @@
 
 package org.eclipse.xpanse.modules.database.resource;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.eclipse.xpanse.modules.database.CustomJpaRepository;
+import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /** Interface to access default JPA methods. */
 @Repository
 public interface ServiceResourceRepository
         extends CustomJpaRepository<ServiceResourceEntity, UUID>,
-                JpaSpecificationExecutor<ServiceResourceEntity> {}
+                JpaSpecificationExecutor<ServiceResourceEntity> {
+
+    /**
+     * Find resources of the service deployments with one query, without loading the service
+     * deployments.
+     *
+     * @param serviceIds IDs of the service deployments.
+     * @param resourceKind kind of the resources.
+     * @return rows of service deployment ID, ID, group type, group name, resource ID, resource name
+     *     and kind of the resources.
+     */
+    @Query(
+            "select r.serviceDeploymentEntity.id, r.id, r.groupType, r.groupName, r.resourceId,"
+                    + " r.resourceName, r.resourceKind from ServiceResourceEntity r"
+                    + " where r.serviceDeploymentEntity.id in :serviceIds"
+                    + " and r.resourceKind = :resourceKind")
+    List<Object[]> findResourcesByServiceIds(
+            @Param("serviceIds") Collection<UUID> serviceIds,
+            @Param("resourceKind") DeployResourceKind resourceKind);
+
+    /**
+     * Find properties of the resources of the service deployments with one query.
+     *
+     * @param serviceIds IDs of the service deployments.
+     * @param resourceKind kind of the resources.
+     * @return rows of resource ID, property name and property value.
+     */
+    @Query(
+            "select r.id, key(p), value(p) from ServiceResourceEntity r join r.properties p"
+                    + " where r.serviceDeploymentEntity.id in :serviceIds"
+                    + " and r.resourceKind = :resourceKind")
+    List<Object[]> findResourcePropertiesByServiceIds(
+            @Param("serviceIds") Collection<UUID> serviceIds,
+            @Param("resourceKind") DeployResourceKind resourceKind);
+}
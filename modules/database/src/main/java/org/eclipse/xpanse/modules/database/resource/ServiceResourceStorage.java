@@ -6,7 +6,12 @@
 
 package org.eclipse.xpanse.modules.database.resource;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
 
 /** Interface for persist of ServiceResource. */
 public interface ServiceResourceStorage {
@@ -28,4 +33,14 @@ public interface ServiceResourceStorage {
      * @return DeployResourceEntity
      */
     ServiceResourceEntity findServiceResourceByResourceId(String resourceId);
+
+    /**
+     * Get resources of the service deployments without loading the service deployments.
+     *
+     * @param serviceIds IDs of the service deployments.
+     * @param resourceKind kind of the resources.
+     * @return resources by ID of the service deployment.
+     */
+    Map<UUID, List<DeployResource>> getDeployResourcesOfServices(
+            Collection<UUID> serviceIds, DeployResourceKind resourceKind);
 }
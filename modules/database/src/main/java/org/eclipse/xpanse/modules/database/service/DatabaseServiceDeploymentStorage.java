@@ -6,17 +6,41 @@
 
 package org.eclipse.xpanse.modules.database.service;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
+import org.eclipse.xpanse.modules.models.common.enums.Category;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.common.pagination.CursorPage;
+import org.eclipse.xpanse.modules.models.common.pagination.CursorPageRequest;
+import org.eclipse.xpanse.modules.models.service.config.ServiceLockConfig;
+import org.eclipse.xpanse.modules.models.service.deployment.ServiceDeploymentStatusChangedEvent;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.eclipse.xpanse.modules.models.service.statemanagement.enums.ServiceState;
+import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
 /** Implementation of the ServiceDeploymentStorage. */
 @Component
@@ -24,21 +48,47 @@ import org.springframework.transaction.annotation.Transactional;
 public class DatabaseServiceDeploymentStorage implements ServiceDeploymentStorage {
 
     private final ServiceDeploymentRepository serviceDeploymentRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final EntityManager entityManager;
 
+    /** Constructor method. */
     @Autowired
-    public DatabaseServiceDeploymentStorage(ServiceDeploymentRepository repository) {
+    public DatabaseServiceDeploymentStorage(
+            ServiceDeploymentRepository repository,
+            ApplicationEventPublisher applicationEventPublisher,
+            EntityManager entityManager) {
         this.serviceDeploymentRepository = repository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.entityManager = entityManager;
     }
 
     /**
-     * Store the entity to the database and flush the data immediately.
+     * Store the entity to the database and flush the data immediately. A status changed event is
+     * published when the deployment state differs from the state last stored.
      *
      * @param serviceDeploymentEntity the entity of service.
      * @return serviceDeploymentEntity the entity of service.
      */
     @Override
     public ServiceDeploymentEntity storeAndFlush(ServiceDeploymentEntity serviceDeploymentEntity) {
-        return this.serviceDeploymentRepository.saveAndFlush(serviceDeploymentEntity);
+        ServiceDeploymentState previousState =
+                serviceDeploymentEntity.getStoredServiceDeploymentState();
+        ServiceDeploymentEntity storedEntity =
+                this.serviceDeploymentRepository.saveAndFlush(serviceDeploymentEntity);
+        if (Objects.isNull(storedEntity)) {
+            return null;
+        }
+        // a detached entity of the caller is merged into a copy, so its stored state is kept too.
+        serviceDeploymentEntity.setStoredServiceDeploymentState(
+                storedEntity.getServiceDeploymentState());
+        if (Objects.nonNull(storedEntity.getServiceDeploymentState())
+                && storedEntity.getServiceDeploymentState() != previousState) {
+            // clients waiting for status changes are notified once the transaction is committed.
+            applicationEventPublisher.publishEvent(
+                    new ServiceDeploymentStatusChangedEvent(
+                            storedEntity.getId(), storedEntity.getServiceDeploymentState()));
+        }
+        return storedEntity;
     }
 
     /**
@@ -49,69 +99,264 @@ public class DatabaseServiceDeploymentStorage implements ServiceDeploymentStorag
      */
     @Override
     public List<ServiceDeploymentEntity> listServices(ServiceQueryModel serviceQuery) {
+        return serviceDeploymentRepository.findAll(getSpecification(serviceQuery, null, true));
+    }
 
+    /**
+     * Method to list a page of database entries based ServiceDeploymentEntity.
+     *
+     * @param serviceQuery query model for search service deployment entity.
+     * @param pageRequest request of the page.
+     * @return Returns the page of database entries for the provided arguments.
+     */
+    @Override
+    public CursorPage<ServiceDeploymentEntity> listServices(
+            ServiceQueryModel serviceQuery, CursorPageRequest pageRequest) {
         Specification<ServiceDeploymentEntity> specification =
-                (root, query, criteriaBuilder) -> {
-                    List<Predicate> predicateList = new ArrayList<>();
-                    if (Objects.nonNull(serviceQuery.getServiceTemplateId())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("serviceTemplateEntity").get("id"),
-                                        serviceQuery.getServiceTemplateId()));
-                    }
-                    if (Objects.nonNull(serviceQuery.getCategory())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("category"), serviceQuery.getCategory()));
-                    }
-                    if (Objects.nonNull(serviceQuery.getCsp())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(root.get("csp"), serviceQuery.getCsp()));
-                    }
-                    if (StringUtils.isNotBlank(serviceQuery.getServiceName())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("name"),
-                                        StringUtils.lowerCase(serviceQuery.getServiceName())));
-                    }
-                    if (StringUtils.isNotBlank(serviceQuery.getServiceVersion())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("version"),
-                                        StringUtils.lowerCase(serviceQuery.getServiceVersion())));
-                    }
-
-                    if (Objects.nonNull(serviceQuery.getServiceState())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("serviceDeploymentState"),
-                                        serviceQuery.getServiceState()));
-                    }
-                    predicateList.add(
-                            criteriaBuilder.isNotNull(root.get("serviceDeploymentState")));
-
-                    if (Objects.nonNull(serviceQuery.getUserId())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("userId"), serviceQuery.getUserId()));
-                    }
-
-                    if (Objects.nonNull(serviceQuery.getServiceVendor())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(
-                                        root.get("serviceVendor"),
-                                        serviceQuery.getServiceVendor()));
-                    }
-
-                    query.where(criteriaBuilder.and(predicateList.toArray(new Predicate[0])))
-                            .getRestriction();
-
-                    query.orderBy(criteriaBuilder.desc(root.get("createdTime")));
-
-                    return query.getRestriction();
-                };
-
-        return serviceDeploymentRepository.findAll(specification);
+                getSpecification(serviceQuery, getCursor(pageRequest), true);
+        List<ServiceDeploymentEntity> entities =
+                pageRequest.isPaged()
+                        ? serviceDeploymentRepository.findBy(
+                                specification,
+                                query -> query.limit(getPageSize(pageRequest) + 1).all())
+                        : serviceDeploymentRepository.findAll(specification);
+        return getPage(
+                entities,
+                serviceQuery,
+                pageRequest,
+                entity -> new ServiceListCursor(entity.getCreatedTime(), entity.getId()));
+    }
+
+    /**
+     * Method to list a page of summaries of service deployments. Only the columns of the service
+     * deployment table are read, the collections, resources and orders are not loaded.
+     *
+     * @param serviceQuery query model for search service deployment entity.
+     * @param pageRequest request of the page.
+     * @return Returns the page of service deployment summaries for the provided arguments.
+     */
+    @Override
+    public CursorPage<ServiceDeploymentSummary> listServiceSummaries(
+            ServiceQueryModel serviceQuery, CursorPageRequest pageRequest) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<ServiceDeploymentEntity> root = query.from(ServiceDeploymentEntity.class);
+        selectSummaryColumns(query, root);
+        Predicate predicate =
+                getSpecification(serviceQuery, getCursor(pageRequest), true)
+                        .toPredicate(root, query, criteriaBuilder);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageRequest.isPaged()) {
+            typedQuery.setMaxResults(getPageSize(pageRequest) + 1);
+        }
+        List<ServiceDeploymentSummary> summaries =
+                typedQuery.getResultList().stream().map(this::getServiceDeploymentSummary).toList();
+        return getPage(
+                summaries,
+                serviceQuery,
+                pageRequest,
+                summary -> new ServiceListCursor(summary.getCreatedTime(), summary.getId()));
+    }
+
+    /**
+     * Get summaries of the service deployments with one query. Only the columns of the service
+     * deployment table are read, services which are not found are not contained.
+     *
+     * @param serviceIds IDs of the service deployments.
+     * @return summaries of the found service deployments.
+     */
+    @Override
+    public List<ServiceDeploymentSummary> findServiceSummariesByIds(Collection<UUID> serviceIds) {
+        if (CollectionUtils.isEmpty(serviceIds)) {
+            return new ArrayList<>();
+        }
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<ServiceDeploymentEntity> root = query.from(ServiceDeploymentEntity.class);
+        selectSummaryColumns(query, root);
+        query.where(root.get("id").in(serviceIds));
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(this::getServiceDeploymentSummary)
+                .toList();
+    }
+
+    @Override
+    public Map<UUID, Map<String, String>> getInputPropertiesOfServices(
+            Collection<UUID> serviceIds) {
+        Map<UUID, Map<String, String>> inputProperties = new HashMap<>();
+        if (CollectionUtils.isEmpty(serviceIds)) {
+            return inputProperties;
+        }
+        for (Object[] row : serviceDeploymentRepository.findInputPropertiesByIds(serviceIds)) {
+            inputProperties
+                    .computeIfAbsent((UUID) row[0], id -> new HashMap<>())
+                    .put((String) row[1], (String) row[2]);
+        }
+        return inputProperties;
+    }
+
+    private void selectSummaryColumns(
+            CriteriaQuery<Tuple> query, Root<ServiceDeploymentEntity> root) {
+        // JSON columns can't be passed to a constructor expression, so the rows are mapped later.
+        query.multiselect(
+                root.get("id"),
+                root.get("serviceTemplateEntity").get("id"),
+                root.get("userId"),
+                root.get("category"),
+                root.get("name"),
+                root.get("version"),
+                root.get("customerServiceName"),
+                root.get("serviceVendor"),
+                root.get("csp"),
+                root.get("serviceHostingType"),
+                root.get("region"),
+                root.get("availabilityZones"),
+                root.get("flavor"),
+                root.get("billingMode"),
+                root.get("serviceDeploymentState"),
+                root.get("serviceState"),
+                root.get("createdTime"),
+                root.get("lastModifiedTime"),
+                root.get("lastStartedAt"),
+                root.get("lastStoppedAt"),
+                root.get("lockConfig"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ServiceDeploymentSummary getServiceDeploymentSummary(Tuple row) {
+        return new ServiceDeploymentSummary(
+                row.get(0, UUID.class),
+                row.get(1, UUID.class),
+                row.get(2, String.class),
+                row.get(3, Category.class),
+                row.get(4, String.class),
+                row.get(5, String.class),
+                row.get(6, String.class),
+                row.get(7, String.class),
+                row.get(8, Csp.class),
+                row.get(9, ServiceHostingType.class),
+                row.get(10, Region.class),
+                (Map<String, String>) row.get(11),
+                row.get(12, String.class),
+                row.get(13, BillingMode.class),
+                row.get(14, ServiceDeploymentState.class),
+                row.get(15, ServiceState.class),
+                row.get(16, OffsetDateTime.class),
+                row.get(17, OffsetDateTime.class),
+                row.get(18, OffsetDateTime.class),
+                row.get(19, OffsetDateTime.class),
+                row.get(20, ServiceLockConfig.class));
+    }
+
+    private <T> CursorPage<T> getPage(
+            List<T> items,
+            ServiceQueryModel serviceQuery,
+            CursorPageRequest pageRequest,
+            Function<T, ServiceListCursor> cursorOfItem) {
+        String nextCursor = null;
+        List<T> pageItems = items;
+        if (pageRequest.isPaged() && items.size() > getPageSize(pageRequest)) {
+            pageItems = items.subList(0, getPageSize(pageRequest));
+            nextCursor = cursorOfItem.apply(pageItems.getLast()).encode();
+        }
+        Long totalCount =
+                pageRequest.isIncludeTotalCount()
+                        ? serviceDeploymentRepository.count(
+                                getSpecification(serviceQuery, null, false))
+                        : null;
+        return new CursorPage<>(new ArrayList<>(pageItems), nextCursor, totalCount);
+    }
+
+    private int getPageSize(CursorPageRequest pageRequest) {
+        int pageSize = pageRequest.getPageSize();
+        if (pageSize < 1 || pageSize > CursorPageRequest.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    "Page size must be between 1 and " + CursorPageRequest.MAX_PAGE_SIZE + ".");
+        }
+        return pageSize;
+    }
+
+    private ServiceListCursor getCursor(CursorPageRequest pageRequest) {
+        if (pageRequest.isPaged()) {
+            getPageSize(pageRequest);
+        }
+        return StringUtils.isNotBlank(pageRequest.getCursor())
+                ? ServiceListCursor.decode(pageRequest.getCursor())
+                : null;
+    }
+
+    private Specification<ServiceDeploymentEntity> getSpecification(
+            ServiceQueryModel serviceQuery, ServiceListCursor cursor, boolean isOrdered) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicateList = new ArrayList<>();
+            if (Objects.nonNull(serviceQuery.getServiceTemplateId())) {
+                predicateList.add(
+                        criteriaBuilder.equal(
+                                root.get("serviceTemplateEntity").get("id"),
+                                serviceQuery.getServiceTemplateId()));
+            }
+            if (Objects.nonNull(serviceQuery.getCategory())) {
+                predicateList.add(
+                        criteriaBuilder.equal(root.get("category"), serviceQuery.getCategory()));
+            }
+            if (Objects.nonNull(serviceQuery.getCsp())) {
+                predicateList.add(criteriaBuilder.equal(root.get("csp"), serviceQuery.getCsp()));
+            }
+            if (StringUtils.isNotBlank(serviceQuery.getServiceName())) {
+                predicateList.add(
+                        criteriaBuilder.equal(
+                                root.get("name"),
+                                StringUtils.lowerCase(serviceQuery.getServiceName())));
+            }
+            if (StringUtils.isNotBlank(serviceQuery.getServiceVersion())) {
+                predicateList.add(
+                        criteriaBuilder.equal(
+                                root.get("version"),
+                                StringUtils.lowerCase(serviceQuery.getServiceVersion())));
+            }
+
+            if (Objects.nonNull(serviceQuery.getServiceState())) {
+                predicateList.add(
+                        criteriaBuilder.equal(
+                                root.get("serviceDeploymentState"),
+                                serviceQuery.getServiceState()));
+            }
+            predicateList.add(criteriaBuilder.isNotNull(root.get("serviceDeploymentState")));
+
+            if (Objects.nonNull(serviceQuery.getUserId())) {
+                predicateList.add(
+                        criteriaBuilder.equal(root.get("userId"), serviceQuery.getUserId()));
+            }
+
+            if (Objects.nonNull(serviceQuery.getServiceVendor())) {
+                predicateList.add(
+                        criteriaBuilder.equal(
+                                root.get("serviceVendor"), serviceQuery.getServiceVendor()));
+            }
+
+            // keyset of the cursor: (createdTime, id) < (cursor.createdTime, cursor.id)
+            if (Objects.nonNull(cursor)) {
+                predicateList.add(
+                        criteriaBuilder.or(
+                                criteriaBuilder.lessThan(
+                                        root.get("createdTime"), cursor.createdTime()),
+                                criteriaBuilder.and(
+                                        criteriaBuilder.equal(
+                                                root.get("createdTime"), cursor.createdTime()),
+                                        criteriaBuilder.lessThan(root.get("id"), cursor.id()))));
+            }
+
+            if (isOrdered) {
+                query.orderBy(
+                        criteriaBuilder.desc(root.get("createdTime")),
+                        criteriaBuilder.desc(root.get("id")));
+            }
+
+            return criteriaBuilder.and(predicateList.toArray(new Predicate[0]));
+        };
     }
 
     /**
@@ -126,6 +371,11 @@ public class DatabaseServiceDeploymentStorage implements ServiceDeploymentStorag
         return optional.orElse(null);
     }
 
+    @Override
+    public List<ServiceDeploymentEntity> findServiceDeploymentsByIds(Collection<UUID> ids) {
+        return this.serviceDeploymentRepository.findAllById(ids);
+    }
+
     @Override
     public void deleteServiceDeployment(ServiceDeploymentEntity serviceDeploymentEntity) {
         this.serviceDeploymentRepository.delete(serviceDeploymentEntity);
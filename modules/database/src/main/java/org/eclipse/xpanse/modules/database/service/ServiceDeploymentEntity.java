@@ -11,27 +11,37 @@ import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Convert;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapKeyColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 import org.eclipse.xpanse.modules.database.common.CreatedModifiedTime;
 import org.eclipse.xpanse.modules.database.common.ObjectJsonConverter;
@@ -39,6 +49,7 @@ import org.eclipse.xpanse.modules.database.resource.ServiceResourceEntity;
 import org.eclipse.xpanse.modules.database.serviceconfiguration.ServiceConfigurationEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.database.tfstate.ServiceTfStateEntity;
 import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
@@ -53,7 +64,18 @@ import org.hibernate.annotations.Type;
 import org.springframework.format.annotation.DateTimeFormat;
 
 /** ServiceDeploymentEntity for persistence. */
-@Table(name = "SERVICE_DEPLOYMENT")
+@Table(
+        name = "SERVICE_DEPLOYMENT",
+        indexes = {
+            @Index(
+                    name = "SERVICE_DEPLOYMENT_CREATED_TIME_ID_INDEX",
+                    columnList = "CREATED_TIME, ID"),
+            @Index(name = "SERVICE_DEPLOYMENT_USER_ID_INDEX", columnList = "USER_ID"),
+            @Index(name = "SERVICE_DEPLOYMENT_CSP_INDEX", columnList = "CSP"),
+            @Index(name = "SERVICE_DEPLOYMENT_CATEGORY_INDEX", columnList = "CATEGORY"),
+            @Index(name = "SERVICE_DEPLOYMENT_SERVICE_VENDOR_INDEX", columnList = "SERVICE_VENDOR"),
+            @Index(name = "SERVICE_DEPLOYMENT_STATE_INDEX", columnList = "SERVICE_DEPLOYMENT_STATE")
+        })
 @Entity
 @Data
 @EqualsAndHashCode(callSuper = true)
@@ -177,7 +199,8 @@ public class ServiceDeploymentEntity extends CreatedModifiedTime {
 
     /**
      * The deployment generated files of the service deployment. This is not returned to the
-     * customer. This can be used by the deployer for storing any internal data.
+     * customer. This can be used by the deployer for storing any internal data. The state of the
+     * deployment is stored in {@link #currentTfState} instead.
      */
     @ElementCollection
     @CollectionTable(
@@ -188,6 +211,18 @@ public class ServiceDeploymentEntity extends CreatedModifiedTime {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Map<String, String> deploymentGeneratedFiles;
 
+    /**
+     * The current revision of the state of the service deployment. The content is only loaded when
+     * it is used by the deployers.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(
+            name = "CURRENT_TF_STATE_ID",
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ServiceTfStateEntity currentTfState;
+
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss XXX")
     @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss XXX")
     @Column(name = "LAST_STARTED_AT")
@@ -202,4 +237,19 @@ public class ServiceDeploymentEntity extends CreatedModifiedTime {
     @Type(value = JsonType.class)
     @Convert(converter = ObjectJsonConverter.class)
     private ServiceLockConfig lockConfig;
+
+    /** The deployment state last loaded from or stored to the database. */
+    @Transient
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient ServiceDeploymentState storedServiceDeploymentState;
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void trackStoredServiceDeploymentState() {
+        this.storedServiceDeploymentState = this.serviceDeploymentState;
+    }
 }
@@ -6,13 +6,46 @@
 
 package org.eclipse.xpanse.modules.database.service;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.eclipse.xpanse.modules.database.CustomJpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /** Interface to access default JPA methods. */
 @Repository
 public interface ServiceDeploymentRepository
         extends CustomJpaRepository<ServiceDeploymentEntity, UUID>,
-                JpaSpecificationExecutor<ServiceDeploymentEntity> {}
+                JpaSpecificationExecutor<ServiceDeploymentEntity> {
+
+    /**
+     * Find input properties of the service deployments with one query.
+     *
+     * @param serviceIds IDs of the service deployments.
+     * @return rows of service deployment ID, property name and property value.
+     */
+    @Query(
+            "select s.id, key(p), value(p) from ServiceDeploymentEntity s join s.inputProperties p"
+                    + " where s.id in :serviceIds")
+    List<Object[]> findInputPropertiesByIds(@Param("serviceIds") Collection<UUID> serviceIds);
+
+    /**
+     * Lock the row of the service deployment until the end of the transaction.
+     *
+     * @param serviceId ID of the service deployment.
+     * @return the locked service deployment.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // it is not possible to read this config from spring properties.
+    @QueryHints({@QueryHint(name = "javax.persistence.lock.timeout", value = "10000")})
+    @Query("select s from ServiceDeploymentEntity s where s.id = :serviceId")
+    Optional<ServiceDeploymentEntity> lockById(@Param("serviceId") UUID serviceId);
+}
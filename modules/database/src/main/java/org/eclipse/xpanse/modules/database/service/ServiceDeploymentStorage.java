@@ -6,8 +6,12 @@
 
 package org.eclipse.xpanse.modules.database.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.models.common.pagination.CursorPage;
+import org.eclipse.xpanse.modules.models.common.pagination.CursorPageRequest;
 
 /** Interface for persist of serviceDeployment. */
 public interface ServiceDeploymentStorage {
@@ -28,6 +32,46 @@ public interface ServiceDeploymentStorage {
      */
     List<ServiceDeploymentEntity> listServices(ServiceQueryModel query);
 
+    /**
+     * Method to get a page of stored database entries by query model. The entries are ordered by
+     * created time and ID descending.
+     *
+     * @param query service query model.
+     * @param pageRequest request of the page.
+     * @return Returns the page of rows from the service deployment table.
+     */
+    CursorPage<ServiceDeploymentEntity> listServices(
+            ServiceQueryModel query, CursorPageRequest pageRequest);
+
+    /**
+     * Method to get a page of summaries of service deployments by query model. Only the columns of
+     * the service deployment table are read. The summaries are ordered by created time and ID
+     * descending.
+     *
+     * @param query service query model.
+     * @param pageRequest request of the page.
+     * @return Returns the page of service deployment summaries.
+     */
+    CursorPage<ServiceDeploymentSummary> listServiceSummaries(
+            ServiceQueryModel query, CursorPageRequest pageRequest);
+
+    /**
+     * Get summaries of service deployments using IDs. Only the columns of the service deployment
+     * table are read.
+     *
+     * @param serviceIds IDs of the service deployments.
+     * @return summaries of the found service deployments.
+     */
+    List<ServiceDeploymentSummary> findServiceSummariesByIds(Collection<UUID> serviceIds);
+
+    /**
+     * Get input properties of the service deployments.
+     *
+     * @param serviceIds IDs of the service deployments.
+     * @return input properties by ID of the service deployment.
+     */
+    Map<UUID, Map<String, String>> getInputPropertiesOfServices(Collection<UUID> serviceIds);
+
     /**
      * Get detail of service deployment using ID.
      *
@@ -36,6 +80,14 @@ public interface ServiceDeploymentStorage {
      */
     ServiceDeploymentEntity findServiceDeploymentById(UUID id);
 
+    /**
+     * Get details of service deployments using IDs.
+     *
+     * @param ids the IDs of deployed services.
+     * @return the found service deployments.
+     */
+    List<ServiceDeploymentEntity> findServiceDeploymentsByIds(Collection<UUID> ids);
+
     /**
      * purge service deployment using service model.
      *
@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the list of service deployments, which is ordered by created time and ID. The cursor
+ * is passed to clients as an opaque string.
+ *
+ * @param createdTime created time of the last service deployment of the previous page.
+ * @param id ID of the last service deployment of the previous page.
+ */
+public record ServiceListCursor(OffsetDateTime createdTime, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encode the cursor to an opaque string.
+     *
+     * @return encoded cursor.
+     */
+    public String encode() {
+        String value = createdTime.toString() + SEPARATOR + id.toString();
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode the cursor from the opaque string.
+     *
+     * @param cursor encoded cursor.
+     * @return decoded cursor.
+     * @throws IllegalArgumentException if the cursor is not valid.
+     */
+    public static ServiceListCursor decode(String cursor) {
+        try {
+            String value =
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = value.lastIndexOf(SEPARATOR);
+            return new ServiceListCursor(
+                    OffsetDateTime.parse(value.substring(0, separatorIndex)),
+                    UUID.fromString(value.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor of the service list: " + cursor);
+        }
+    }
+}
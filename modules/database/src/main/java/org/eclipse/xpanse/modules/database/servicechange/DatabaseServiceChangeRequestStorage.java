@@ -8,10 +8,15 @@ package org.eclipse.xpanse.modules.database.servicechange;
 
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.models.servicechange.enums.ServiceChangeStatus;
 import org.eclipse.xpanse.modules.models.servicechange.exceptions.ServiceChangeRequestEntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
@@ -94,4 +99,16 @@ public class DatabaseServiceChangeRequestStorage implements ServiceChangeRequest
                                                 "Service change request with id %s not found.",
                                                 changeId)));
     }
+
+    @Override
+    public Map<UUID, Set<String>> getResourceNamesWithPendingRequests() {
+        Map<UUID, Set<String>> resourceNames = new HashMap<>();
+        for (Object[] row :
+                repository.findServiceIdsAndResourceNamesByStatus(ServiceChangeStatus.PENDING)) {
+            resourceNames
+                    .computeIfAbsent((UUID) row[0], id -> new HashSet<>())
+                    .add((String) row[1]);
+        }
+        return resourceNames;
+    }
 }
@@ -11,10 +11,13 @@ import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
 import org.eclipse.xpanse.modules.database.CustomJpaRepository;
+import org.eclipse.xpanse.modules.models.servicechange.enums.ServiceChangeStatus;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.Nullable;
 
 /** Interface to access default JPA methods. */
@@ -28,4 +31,10 @@ public interface ServiceChangeRequestRepository
     @Override
     List<ServiceChangeRequestEntity> findAll(
             @Nullable Specification<ServiceChangeRequestEntity> spec);
+
+    @Query(
+            "select distinct r.serviceDeploymentEntity.id, r.resourceName"
+                    + " from ServiceChangeRequestEntity r where r.status = :status")
+    List<Object[]> findServiceIdsAndResourceNamesByStatus(
+            @Param("status") ServiceChangeStatus status);
 }
@@ -7,6 +7,8 @@
 package org.eclipse.xpanse.modules.database.servicechange;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /** Interface for persist of serviceChangeRequestEntity. */
@@ -33,4 +35,12 @@ public interface ServiceChangeRequestStorage {
      * @return serviceChangeRequestEntity.
      */
     ServiceChangeRequestEntity findById(UUID changeId);
+
+    /**
+     * Get the names of the resources which have pending requests, grouped by service id. Only the
+     * two columns are read, the requests are not loaded.
+     *
+     * @return names of the resources with pending requests by service id.
+     */
+    Map<UUID, Set<String>> getResourceNamesWithPendingRequests();
 }
@@ -7,17 +7,22 @@
 package org.eclipse.xpanse.modules.database.serviceorder;
 
 import jakarta.persistence.criteria.Predicate;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.service.enums.Handler;
 import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrderStatusChangedEvent;
 import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
 import org.eclipse.xpanse.modules.models.service.order.exceptions.ServiceOrderNotFound;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,16 +34,57 @@ import org.springframework.transaction.annotation.Transactional;
 public class DatabaseServiceOrderStorage implements ServiceOrderStorage {
 
     private final ServiceOrderRepository repository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
+    /** Constructor method. */
     @Autowired
-    public DatabaseServiceOrderStorage(ServiceOrderRepository repository) {
+    public DatabaseServiceOrderStorage(
+            ServiceOrderRepository repository,
+            ApplicationEventPublisher applicationEventPublisher) {
         this.repository = repository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
     public ServiceOrderEntity storeAndFlush(ServiceOrderEntity serviceOrderEntity) {
         checkEntityData(serviceOrderEntity);
-        return repository.saveAndFlush(serviceOrderEntity);
+        OrderStatus previousStatus = serviceOrderEntity.getStoredOrderStatus();
+        ServiceOrderEntity storedEntity = repository.saveAndFlush(serviceOrderEntity);
+        publishStatusChangedEvent(serviceOrderEntity, previousStatus, storedEntity);
+        return storedEntity;
+    }
+
+    @Override
+    public List<ServiceOrderEntity> storeAllAndFlush(List<ServiceOrderEntity> entities) {
+        entities.forEach(this::checkEntityData);
+        List<OrderStatus> previousStatuses =
+                entities.stream().map(ServiceOrderEntity::getStoredOrderStatus).toList();
+        List<ServiceOrderEntity> storedEntities = repository.saveAllAndFlush(entities);
+        for (int i = 0; i < storedEntities.size(); i++) {
+            publishStatusChangedEvent(
+                    entities.get(i), previousStatuses.get(i), storedEntities.get(i));
+        }
+        return storedEntities;
+    }
+
+    /** Clients waiting for status changes are notified once the transaction is committed. */
+    private void publishStatusChangedEvent(
+            ServiceOrderEntity serviceOrderEntity,
+            OrderStatus previousStatus,
+            ServiceOrderEntity storedEntity) {
+        if (Objects.isNull(storedEntity)) {
+            return;
+        }
+        // a detached entity of the caller is merged into a copy, so its stored status is kept too.
+        serviceOrderEntity.setStoredOrderStatus(storedEntity.getOrderStatus());
+        if (Objects.nonNull(storedEntity.getOrderStatus())
+                && storedEntity.getOrderStatus() != previousStatus) {
+            applicationEventPublisher.publishEvent(
+                    new ServiceOrderStatusChangedEvent(
+                            storedEntity.getOrderId(),
+                            storedEntity.getOrderStatus(),
+                            storedEntity.getErrorResponse()));
+        }
     }
 
     @Override
@@ -70,6 +116,10 @@ public class DatabaseServiceOrderStorage implements ServiceOrderStorage {
                                 criteriaBuilder.equal(
                                         root.get("parentOrderId"), entity.getParentOrderId()));
                     }
+                    if (Objects.nonNull(entity.getBatchId())) {
+                        predicateList.add(
+                                criteriaBuilder.equal(root.get("batchId"), entity.getBatchId()));
+                    }
                     if (Objects.nonNull(entity.getWorkflowId())) {
                         predicateList.add(
                                 criteriaBuilder.equal(
@@ -84,6 +134,46 @@ public class DatabaseServiceOrderStorage implements ServiceOrderStorage {
         return repository.findAll(specification);
     }
 
+    @Override
+    public List<ServiceOrderEntity> listInProgressOrdersStartedBefore(
+            OffsetDateTime startedBefore,
+            Collection<Handler> handlers,
+            ServiceOrderEntity afterOrder,
+            int pageSize) {
+        // the predicates on order status and started time are covered by one index.
+        Specification<ServiceOrderEntity> specification =
+                (root, query, criteriaBuilder) -> {
+                    List<Predicate> predicateList = new ArrayList<>();
+                    predicateList.add(
+                            criteriaBuilder.equal(
+                                    root.get("orderStatus"), OrderStatus.IN_PROGRESS));
+                    predicateList.add(
+                            criteriaBuilder.lessThan(root.get("startedTime"), startedBefore));
+                    predicateList.add(root.get("handler").in(handlers));
+                    // keyset of the page: (startedTime, orderId) > (last.startedTime, last.orderId)
+                    if (Objects.nonNull(afterOrder)) {
+                        predicateList.add(
+                                criteriaBuilder.or(
+                                        criteriaBuilder.greaterThan(
+                                                root.get("startedTime"),
+                                                afterOrder.getStartedTime()),
+                                        criteriaBuilder.and(
+                                                criteriaBuilder.equal(
+                                                        root.get("startedTime"),
+                                                        afterOrder.getStartedTime()),
+                                                criteriaBuilder.greaterThan(
+                                                        root.get("orderId"),
+                                                        afterOrder.getOrderId()))));
+                    }
+                    assert query != null;
+                    query.orderBy(
+                            criteriaBuilder.asc(root.get("startedTime")),
+                            criteriaBuilder.asc(root.get("orderId")));
+                    return criteriaBuilder.and(predicateList.toArray(new Predicate[0]));
+                };
+        return repository.findBy(specification, query -> query.limit(pageSize).all());
+    }
+
     @Override
     public ServiceOrderEntity getEntityById(UUID uuid) {
         Optional<ServiceOrderEntity> optional = repository.findById(uuid);
@@ -19,13 +19,22 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.io.Serial;
 import java.io.Serializable;
 import java.time.OffsetDateTime;
 import java.util.Map;
 import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import org.eclipse.xpanse.modules.database.common.ObjectJsonConverter;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.models.response.ErrorResponse;
@@ -104,4 +113,22 @@ public class ServiceOrderEntity implements Serializable {
     @Enumerated(EnumType.STRING)
     @Column(name = "HANDLER", nullable = false)
     private Handler handler;
+
+    @Column(name = "BATCH_ID")
+    private UUID batchId;
+
+    /** The order status last loaded from or stored to the database. */
+    @Transient
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient OrderStatus storedOrderStatus;
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void trackStoredOrderStatus() {
+        this.storedOrderStatus = this.orderStatus;
+    }
 }
@@ -6,8 +6,11 @@
 
 package org.eclipse.xpanse.modules.database.serviceorder;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.models.service.enums.Handler;
 
 /** Interface for persist of ServiceModificationAudit. */
 public interface ServiceOrderStorage {
@@ -20,6 +23,14 @@ public interface ServiceOrderStorage {
      */
     ServiceOrderEntity storeAndFlush(ServiceOrderEntity entity);
 
+    /**
+     * Add or update service orders to database together.
+     *
+     * @param entities the data of the service orders.
+     * @return Returns the stored database entries.
+     */
+    List<ServiceOrderEntity> storeAllAndFlush(List<ServiceOrderEntity> entities);
+
     /**
      * Method to list database entry based ServiceOrderEntity.
      *
@@ -28,6 +39,22 @@ public interface ServiceOrderStorage {
      */
     List<ServiceOrderEntity> queryEntities(ServiceOrderEntity query);
 
+    /**
+     * List a page of the in progress orders of the handlers which started before the given time.
+     * The orders are sorted by started time and order id, the page starts after the given order.
+     *
+     * @param startedBefore time before which the orders started.
+     * @param handlers handlers of the orders.
+     * @param afterOrder last order of the previous page, null for the first page.
+     * @param pageSize maximum number of orders of the page.
+     * @return Returns the page of orders.
+     */
+    List<ServiceOrderEntity> listInProgressOrdersStartedBefore(
+            OffsetDateTime startedBefore,
+            Collection<Handler> handlers,
+            ServiceOrderEntity afterOrder,
+            int pageSize);
+
     /**
      * Method to get database entry based ServiceOrderEntity.
      *
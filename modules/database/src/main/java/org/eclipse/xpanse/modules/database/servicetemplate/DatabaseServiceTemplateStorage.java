@@ -8,10 +8,15 @@ package org.eclipse.xpanse.modules.database.servicetemplate;
 
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.xpanse.modules.models.servicetemplate.exceptions.ServiceTemplateNotRegistered;
@@ -19,6 +24,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
 /** Bean to manage all service task to database. */
 @Slf4j
@@ -122,6 +128,15 @@ public class DatabaseServiceTemplateStorage implements ServiceTemplateStorage {
                                 String.format("Service template with id %s not found.", uuid)));
     }
 
+    @Override
+    public Map<UUID, ServiceTemplateEntity> getServiceTemplatesByIds(Collection<UUID> uuids) {
+        if (CollectionUtils.isEmpty(uuids)) {
+            return new HashMap<>();
+        }
+        return repository.findAllById(uuids).stream()
+                .collect(Collectors.toMap(ServiceTemplateEntity::getId, Function.identity()));
+    }
+
     /**
      * Remove register service entity from database by entity.
      *
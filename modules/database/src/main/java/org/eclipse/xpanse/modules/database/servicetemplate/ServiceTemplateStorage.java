@@ -6,7 +6,9 @@
 
 package org.eclipse.xpanse.modules.database.servicetemplate;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /** Interface for persist of ServiceTemplate. */
@@ -35,6 +37,14 @@ public interface ServiceTemplateStorage {
      */
     ServiceTemplateEntity getServiceTemplateById(UUID uuid);
 
+    /**
+     * Get the service templates with the IDs using one query.
+     *
+     * @param uuids IDs of the service templates.
+     * @return found service templates by ID, missing templates are not contained.
+     */
+    Map<UUID, ServiceTemplateEntity> getServiceTemplatesByIds(Collection<UUID> uuids);
+
     /**
      * Remove service template entity from database by entity.
      *
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.tfstate;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Implementation of the ServiceTfStateStorage. */
+@Slf4j
+@Component
+@Transactional
+public class DatabaseServiceTfStateStorage implements ServiceTfStateStorage {
+
+    private final ServiceTfStateRepository serviceTfStateRepository;
+    private final ServiceDeploymentRepository serviceDeploymentRepository;
+
+    @Value("${deployment.tfstate.max.revisions:10}")
+    private int maxRevisions;
+
+    /** Constructor method. */
+    @Autowired
+    public DatabaseServiceTfStateStorage(
+            ServiceTfStateRepository serviceTfStateRepository,
+            ServiceDeploymentRepository serviceDeploymentRepository) {
+        this.serviceTfStateRepository = serviceTfStateRepository;
+        this.serviceDeploymentRepository = serviceDeploymentRepository;
+    }
+
+    @Override
+    public ServiceTfStateEntity storeTfState(
+            ServiceDeploymentEntity serviceDeployment, String tfState) {
+        String contentHash = TfStateContentUtils.getContentHash(tfState);
+        ServiceTfStateEntity currentTfState = serviceDeployment.getCurrentTfState();
+        if (Objects.nonNull(currentTfState)
+                && Objects.equals(currentTfState.getContentHash(), contentHash)) {
+            return currentTfState;
+        }
+        UUID serviceId = serviceDeployment.getId();
+        // concurrent results of the same service must not get the same revision.
+        serviceDeploymentRepository.lockById(serviceId);
+        int revision = serviceTfStateRepository.findLatestRevision(serviceId).orElse(0) + 1;
+        ServiceTfStateEntity tfStateEntity = new ServiceTfStateEntity();
+        tfStateEntity.setServiceDeploymentEntity(serviceDeployment);
+        tfStateEntity.setRevision(revision);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        tfStateEntity.setContentSize(TfStateContentUtils.compress(tfState, compressed));
+        tfStateEntity.setContent(compressed.toByteArray());
+        tfStateEntity.setContentHash(contentHash);
+        ServiceTfStateEntity storedTfState = serviceTfStateRepository.saveAndFlush(tfStateEntity);
+        log.info(
+                "Stored revision {} of state of service {}. Size: {} bytes, compressed: {} bytes.",
+                revision,
+                serviceId,
+                storedTfState.getContentSize(),
+                storedTfState.getContent().length);
+        if (maxRevisions > 0 && revision > maxRevisions) {
+            serviceTfStateRepository.deleteRevisionsUpTo(serviceId, revision - maxRevisions);
+        }
+        return storedTfState;
+    }
+
+    @Override
+    public ServiceTfStateEntity getTfStateByRevision(UUID serviceId, int revision) {
+        return serviceTfStateRepository.findByRevision(serviceId, revision).orElse(null);
+    }
+
+    @Override
+    public List<ServiceTfStateEntity> listTfStateRevisions(UUID serviceId) {
+        return serviceTfStateRepository.findAllRevisions(serviceId);
+    }
+}
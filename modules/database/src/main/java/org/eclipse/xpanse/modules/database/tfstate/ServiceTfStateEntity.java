@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.tfstate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.UUID;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.eclipse.xpanse.modules.database.common.CreatedModifiedTime;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/** ServiceTfStateEntity for persistence. One revision of the state of a service deployment. */
+@Data
+@Table(
+        name = "SERVICE_TF_STATE",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "UK_SERVICE_TF_STATE_SERVICE_ID_REVISION",
+                    columnNames = {"SERVICE_ID", "REVISION"})
+        })
+@Entity
+@EqualsAndHashCode(callSuper = true)
+public class ServiceTfStateEntity extends CreatedModifiedTime {
+
+    /** The id of the entity. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "ID", nullable = false)
+    private UUID id;
+
+    /** The service deployment which the state belongs to. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "SERVICE_ID", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ServiceDeploymentEntity serviceDeploymentEntity;
+
+    /** The revision of the state. Revisions of a service deployment start with 1. */
+    @Column(name = "REVISION", nullable = false)
+    private Integer revision;
+
+    /** The gzip compressed content of the state. */
+    @Lob
+    @Column(name = "CONTENT", nullable = false)
+    @ToString.Exclude
+    private byte[] content;
+
+    /** The size of the uncompressed content in bytes. */
+    @Column(name = "CONTENT_SIZE", nullable = false)
+    private Long contentSize;
+
+    /** The SHA-256 hash of the uncompressed content. */
+    @Column(name = "CONTENT_HASH", nullable = false)
+    private String contentHash;
+}
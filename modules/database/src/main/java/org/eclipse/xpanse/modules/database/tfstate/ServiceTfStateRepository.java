@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.tfstate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.CustomJpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/** Interface to access default JPA methods. */
+@Repository
+public interface ServiceTfStateRepository extends CustomJpaRepository<ServiceTfStateEntity, UUID> {
+
+    @Query(
+            "select max(s.revision) from ServiceTfStateEntity s"
+                    + " where s.serviceDeploymentEntity.id = :serviceId")
+    Optional<Integer> findLatestRevision(@Param("serviceId") UUID serviceId);
+
+    @Query(
+            "select s from ServiceTfStateEntity s where s.serviceDeploymentEntity.id = :serviceId"
+                    + " and s.revision = :revision")
+    Optional<ServiceTfStateEntity> findByRevision(
+            @Param("serviceId") UUID serviceId, @Param("revision") int revision);
+
+    @Query(
+            "select s from ServiceTfStateEntity s where s.serviceDeploymentEntity.id = :serviceId"
+                    + " order by s.revision desc")
+    List<ServiceTfStateEntity> findAllRevisions(@Param("serviceId") UUID serviceId);
+
+    @Modifying
+    @Query(
+            "delete from ServiceTfStateEntity s where s.serviceDeploymentEntity.id = :serviceId"
+                    + " and s.revision <= :revision")
+    void deleteRevisionsUpTo(@Param("serviceId") UUID serviceId, @Param("revision") int revision);
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.tfstate;
+
+import java.util.List;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+
+/** Interface for persist of the states of service deployments. */
+public interface ServiceTfStateStorage {
+
+    /**
+     * Store the state as a new revision of the service deployment. When the state is equal to the
+     * current state of the service deployment, no new revision is created.
+     *
+     * @param serviceDeployment service deployment which the state belongs to.
+     * @param tfState content of the state.
+     * @return the stored revision of the state.
+     */
+    ServiceTfStateEntity storeTfState(ServiceDeploymentEntity serviceDeployment, String tfState);
+
+    /**
+     * Get the revision of the state of the service deployment.
+     *
+     * @param serviceId ID of the service deployment.
+     * @param revision revision of the state.
+     * @return the revision of the state or null if it doesn't exist.
+     */
+    ServiceTfStateEntity getTfStateByRevision(UUID serviceId, int revision);
+
+    /**
+     * List the stored revisions of the state of the service deployment, the latest first.
+     *
+     * @param serviceId ID of the service deployment.
+     * @return revisions of the state.
+     */
+    List<ServiceTfStateEntity> listTfStateRevisions(UUID serviceId);
+}
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.tfstate;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+
+/** Utils to compress and read the states of service deployments. */
+public final class TfStateContentUtils {
+
+    /**
+     * Key of the state in the deployment generated files. The states were stored there before they
+     * were moved to the SERVICE_TF_STATE table.
+     */
+    public static final String TF_STATE_FILE_NAME = "terraform.tfstate";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private TfStateContentUtils() {
+        // utility class
+    }
+
+    /**
+     * Get the current state of the service deployment. The state is loaded lazily from the stored
+     * revision. States of deployments which are not updated since the state was moved out of the
+     * deployment generated files are read from the deployment generated files.
+     *
+     * @param serviceDeployment service deployment.
+     * @return content of the state or null if no state is stored.
+     */
+    public static String getStoredTfStateContent(ServiceDeploymentEntity serviceDeployment) {
+        if (Objects.isNull(serviceDeployment)) {
+            return null;
+        }
+        if (Objects.nonNull(serviceDeployment.getCurrentTfState())) {
+            return decompress(serviceDeployment.getCurrentTfState().getContent());
+        }
+        Map<String, String> generatedFiles = serviceDeployment.getDeploymentGeneratedFiles();
+        return Objects.isNull(generatedFiles) ? null : generatedFiles.get(TF_STATE_FILE_NAME);
+    }
+
+    /**
+     * Compress the content of the state with gzip into the byte array stored in the entity.
+     *
+     * @param content content of the state.
+     * @return compressed content.
+     */
+    public static byte[] compress(String content) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        compress(content, compressed);
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Compress the content of the state with gzip. The content is encoded and compressed in chunks,
+     * without a copy of the whole encoded content.
+     *
+     * @param content content of the state.
+     * @param compressed stream to write the compressed content to.
+     * @return size of the uncompressed content in bytes.
+     */
+    public static long compress(String content, OutputStream compressed) {
+        try {
+            CountingOutputStream counter =
+                    new CountingOutputStream(new GZIPOutputStream(compressed, BUFFER_SIZE));
+            try (Writer writer =
+                    new BufferedWriter(
+                            new OutputStreamWriter(counter, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                writer.write(content);
+            }
+            return counter.count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress state.", e);
+        }
+    }
+
+    /**
+     * Decompress the content of the state.
+     *
+     * @param compressedContent gzip compressed content of the state.
+     * @return content of the state.
+     */
+    public static String decompress(byte[] compressedContent) {
+        return decompress(new ByteArrayInputStream(compressedContent));
+    }
+
+    /**
+     * Decompress the content of the state while reading it from the stream.
+     *
+     * @param compressedContent stream of the gzip compressed content of the state.
+     * @return content of the state.
+     */
+    public static String decompress(InputStream compressedContent) {
+        StringWriter content = new StringWriter();
+        try (Reader reader =
+                new InputStreamReader(
+                        new GZIPInputStream(compressedContent, BUFFER_SIZE),
+                        StandardCharsets.UTF_8)) {
+            reader.transferTo(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress state.", e);
+        }
+        return content.toString();
+    }
+
+    /**
+     * Get the SHA-256 hash of the content of the state. The content is encoded and hashed in
+     * chunks, without a copy of the whole encoded content.
+     *
+     * @param content content of the state.
+     * @return hex encoded hash.
+     */
+    public static String getContentHash(String content) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (Writer writer =
+                new BufferedWriter(
+                        new OutputStreamWriter(
+                                new DigestOutputStream(OutputStream.nullOutputStream(), digest),
+                                StandardCharsets.UTF_8),
+                        BUFFER_SIZE)) {
+            writer.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to hash state.", e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /** Counts the bytes written to the stream. */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
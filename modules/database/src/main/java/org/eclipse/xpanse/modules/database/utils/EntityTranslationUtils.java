@@ -16,6 +16,7 @@ import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.resource.ServiceResourceEntity;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentSummary;
 import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestEntity;
 import org.eclipse.xpanse.modules.database.serviceconfiguration.ServiceConfigurationEntity;
 import org.eclipse.xpanse.modules.database.serviceobject.ServiceObjectEntity;
@@ -82,6 +83,24 @@ public class EntityTranslationUtils {
         return null;
     }
 
+    /**
+     * ServiceDeploymentSummary converted to DeployedService.
+     *
+     * @param summary summary of the service deployment.
+     * @param inputProperties input properties of the service deployment.
+     * @return result
+     */
+    public static DeployedService convertToDeployedService(
+            ServiceDeploymentSummary summary, Map<String, String> inputProperties) {
+        DeployedService deployedService = new DeployedService();
+        BeanUtils.copyProperties(summary, deployedService);
+        setServiceIdAndServiceTemplateId(
+                deployedService, summary.getId(), summary.getServiceTemplateId());
+        deployedService.setInputProperties(
+                Objects.nonNull(inputProperties) ? inputProperties : new HashMap<>());
+        return deployedService;
+    }
+
     /**
      * DeployServiceEntity converted to DeployedServiceDetails.
      *
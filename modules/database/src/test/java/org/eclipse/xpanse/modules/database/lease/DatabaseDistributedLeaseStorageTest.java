@@ -0,0 +1,100 @@
+package org.eclipse.xpanse.modules.database.lease;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseDistributedLeaseStorageTest {
+
+    private final String leaseName = "scheduled-job:test";
+    private final String ownerId = "node-1";
+    @Mock private DistributedLeaseRepository mockDistributedLeaseRepository;
+    @InjectMocks private DatabaseDistributedLeaseStorage databaseDistributedLeaseStorageUnderTest;
+
+    @Test
+    void testTryAcquireAvailableLease() {
+        when(mockDistributedLeaseRepository.acquireIfAvailable(
+                        eq(leaseName), eq(ownerId), any(), any()))
+                .thenReturn(1);
+
+        assertTrue(
+                databaseDistributedLeaseStorageUnderTest.tryAcquire(
+                        leaseName, ownerId, Duration.ofSeconds(30)));
+        verify(mockDistributedLeaseRepository, never()).insertLease(any(), any(), any(), any());
+    }
+
+    @Test
+    void testTryAcquireLeaseHeldByOtherOwner() {
+        when(mockDistributedLeaseRepository.acquireIfAvailable(
+                        eq(leaseName), eq(ownerId), any(), any()))
+                .thenReturn(0);
+        when(mockDistributedLeaseRepository.existsById(leaseName)).thenReturn(true);
+
+        assertFalse(
+                databaseDistributedLeaseStorageUnderTest.tryAcquire(
+                        leaseName, ownerId, Duration.ofSeconds(30)));
+        verify(mockDistributedLeaseRepository, never()).insertLease(any(), any(), any(), any());
+    }
+
+    @Test
+    void testTryAcquireNewLease() {
+        when(mockDistributedLeaseRepository.acquireIfAvailable(
+                        eq(leaseName), eq(ownerId), any(), any()))
+                .thenReturn(0);
+        when(mockDistributedLeaseRepository.existsById(leaseName)).thenReturn(false);
+        ArgumentCaptor<OffsetDateTime> lockedAt = ArgumentCaptor.forClass(OffsetDateTime.class);
+        ArgumentCaptor<OffsetDateTime> lockedUntil = ArgumentCaptor.forClass(OffsetDateTime.class);
+        when(mockDistributedLeaseRepository.insertLease(
+                        eq(leaseName), eq(ownerId), lockedAt.capture(), lockedUntil.capture()))
+                .thenReturn(1);
+
+        assertTrue(
+                databaseDistributedLeaseStorageUnderTest.tryAcquire(
+                        leaseName, ownerId, Duration.ofSeconds(30)));
+        assertEquals(
+                Duration.ofSeconds(30),
+                Duration.between(lockedAt.getValue(), lockedUntil.getValue()));
+    }
+
+    @Test
+    void testTryAcquireNewLeaseCreatedByOtherOwner() {
+        when(mockDistributedLeaseRepository.acquireIfAvailable(
+                        eq(leaseName), eq(ownerId), any(), any()))
+                .thenReturn(0);
+        when(mockDistributedLeaseRepository.existsById(leaseName)).thenReturn(false);
+        when(mockDistributedLeaseRepository.insertLease(eq(leaseName), eq(ownerId), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertFalse(
+                databaseDistributedLeaseStorageUnderTest.tryAcquire(
+                        leaseName, ownerId, Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void testListOwnersOfActiveLeases() {
+        when(mockDistributedLeaseRepository.findOwnersOfActiveLeases(eq("cluster-member:%"), any()))
+                .thenReturn(List.of("node-1", "node-2"));
+
+        assertEquals(
+                List.of("node-1", "node-2"),
+                databaseDistributedLeaseStorageUnderTest.listOwnersOfActiveLeases(
+                        "cluster-member:"));
+    }
+}
@@ -12,9 +12,11 @@ import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
 import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -110,4 +112,40 @@ class DatabaseServiceResourceStorageTest {
                         "resourceId");
         assertThat(result).isNull();
     }
+
+    @Test
+    void testGetDeployResourcesOfServices() {
+        final UUID serviceId = UUID.fromString("f23db79e-fe0c-425e-97c6-1ebb64958cc5");
+        final UUID id = UUID.fromString("f523205e-c10a-4060-a147-d94532ada0f2");
+        final List<UUID> serviceIds = List.of(serviceId);
+        final List<Object[]> resourceRows =
+                Collections.singletonList(
+                        new Object[] {
+                            serviceId,
+                            id,
+                            "huaweicloud_compute_instance",
+                            "vm",
+                            "resourceId",
+                            "name",
+                            DeployResourceKind.VM
+                        });
+        final List<Object[]> propertyRows =
+                Collections.singletonList(new Object[] {id, "region", "cn-southwest-2"});
+        when(mockServiceResourceRepository.findResourcesByServiceIds(
+                        serviceIds, DeployResourceKind.VM))
+                .thenReturn(resourceRows);
+        when(mockServiceResourceRepository.findResourcePropertiesByServiceIds(
+                        serviceIds, DeployResourceKind.VM))
+                .thenReturn(propertyRows);
+
+        final Map<UUID, List<DeployResource>> result =
+                databaseDeployResourceStorageUnderTest.getDeployResourcesOfServices(
+                        serviceIds, DeployResourceKind.VM);
+
+        assertThat(result).containsOnlyKeys(serviceId);
+        final DeployResource deployResource = result.get(serviceId).getFirst();
+        assertThat(deployResource.getResourceId()).isEqualTo("resourceId");
+        assertThat(deployResource.getGroupName()).isEqualTo("vm");
+        assertThat(deployResource.getProperties()).containsEntry("region", "cn-southwest-2");
+    }
 }
@@ -1,19 +1,32 @@
 package org.eclipse.xpanse.modules.database.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import jakarta.persistence.EntityManager;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
+import org.eclipse.xpanse.modules.models.common.pagination.CursorPage;
+import org.eclipse.xpanse.modules.models.common.pagination.CursorPageRequest;
+import org.eclipse.xpanse.modules.models.service.deployment.ServiceDeploymentStatusChangedEvent;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
 class DatabaseServiceDeploymentStorageTest {
@@ -21,6 +34,8 @@ class DatabaseServiceDeploymentStorageTest {
     private final UUID id = UUID.fromString("9803512b-16b7-4eef-8aba-5e2495aa6fd2");
     private final String userId = "defaultUserId";
     @Mock private ServiceDeploymentRepository mockServiceDeploymentRepository;
+    @Mock private ApplicationEventPublisher mockApplicationEventPublisher;
+    @Mock private EntityManager mockEntityManager;
 
     @InjectMocks private DatabaseServiceDeploymentStorage databaseServiceDeploymentStorageUnderTest;
 
@@ -42,6 +57,36 @@ class DatabaseServiceDeploymentStorageTest {
         verify(mockServiceDeploymentRepository).saveAndFlush(entity);
     }
 
+    @Test
+    void testStoreAndFlushPublishesStatusChangedEvent() {
+        final ServiceDeploymentEntity serviceDeploymentEntity = new ServiceDeploymentEntity();
+        serviceDeploymentEntity.setId(id);
+        serviceDeploymentEntity.setServiceDeploymentState(ServiceDeploymentState.DEPLOYING);
+        when(mockServiceDeploymentRepository.saveAndFlush(serviceDeploymentEntity))
+                .thenReturn(serviceDeploymentEntity);
+
+        databaseServiceDeploymentStorageUnderTest.storeAndFlush(serviceDeploymentEntity);
+
+        verify(mockApplicationEventPublisher)
+                .publishEvent(
+                        new ServiceDeploymentStatusChangedEvent(
+                                id, ServiceDeploymentState.DEPLOYING));
+    }
+
+    @Test
+    void testStoreAndFlushWithUnchangedStatePublishesNoEvent() {
+        final ServiceDeploymentEntity serviceDeploymentEntity = new ServiceDeploymentEntity();
+        serviceDeploymentEntity.setId(id);
+        serviceDeploymentEntity.setServiceDeploymentState(ServiceDeploymentState.DEPLOYING);
+        serviceDeploymentEntity.trackStoredServiceDeploymentState();
+        when(mockServiceDeploymentRepository.saveAndFlush(serviceDeploymentEntity))
+                .thenReturn(serviceDeploymentEntity);
+
+        databaseServiceDeploymentStorageUnderTest.storeAndFlush(serviceDeploymentEntity);
+
+        verify(mockApplicationEventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     void testFindServiceDeploymentById() {
         final ServiceDeploymentEntity expectedResult = new ServiceDeploymentEntity();
@@ -80,4 +125,91 @@ class DatabaseServiceDeploymentStorageTest {
 
         verify(mockServiceDeploymentRepository, times(1)).delete(expectedResult);
     }
+
+    @Test
+    void testListServicesWithPageRequest() {
+        final ServiceDeploymentEntity first = getServiceDeploymentEntity(UUID.randomUUID(), 3);
+        final ServiceDeploymentEntity second = getServiceDeploymentEntity(UUID.randomUUID(), 2);
+        final ServiceDeploymentEntity third = getServiceDeploymentEntity(UUID.randomUUID(), 1);
+        when(mockServiceDeploymentRepository.findBy(any(Specification.class), any()))
+                .thenReturn(List.of(first, second, third));
+        when(mockServiceDeploymentRepository.count(any(Specification.class))).thenReturn(10L);
+
+        final CursorPage<ServiceDeploymentEntity> result =
+                databaseServiceDeploymentStorageUnderTest.listServices(
+                        new ServiceQueryModel(), new CursorPageRequest(2, null, true));
+
+        assertThat(result.getItems()).containsExactly(first, second);
+        assertThat(ServiceListCursor.decode(result.getNextCursor()))
+                .isEqualTo(new ServiceListCursor(second.getCreatedTime(), second.getId()));
+        assertThat(result.getTotalCount()).isEqualTo(10L);
+    }
+
+    @Test
+    void testListServicesWithLastPage() {
+        final ServiceDeploymentEntity first = getServiceDeploymentEntity(UUID.randomUUID(), 1);
+        when(mockServiceDeploymentRepository.findBy(any(Specification.class), any()))
+                .thenReturn(List.of(first));
+        final String cursor = new ServiceListCursor(OffsetDateTime.now(), id).encode();
+
+        final CursorPage<ServiceDeploymentEntity> result =
+                databaseServiceDeploymentStorageUnderTest.listServices(
+                        new ServiceQueryModel(), new CursorPageRequest(2, cursor, false));
+
+        assertThat(result.getItems()).containsExactly(first);
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getTotalCount()).isNull();
+        verify(mockServiceDeploymentRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void testListServicesWithInvalidPageRequest() {
+        final ServiceQueryModel query = new ServiceQueryModel();
+        final CursorPageRequest invalidPageSize =
+                new CursorPageRequest(CursorPageRequest.MAX_PAGE_SIZE + 1, null, false);
+        final CursorPageRequest invalidCursor = new CursorPageRequest(10, "invalid", false);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        databaseServiceDeploymentStorageUnderTest.listServices(
+                                query, invalidPageSize));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> databaseServiceDeploymentStorageUnderTest.listServices(query, invalidCursor));
+    }
+
+    @Test
+    void testGetInputPropertiesOfServices() {
+        final UUID otherId = UUID.randomUUID();
+        when(mockServiceDeploymentRepository.findInputPropertiesByIds(List.of(id, otherId)))
+                .thenReturn(
+                        List.of(
+                                new Object[] {id, "admin_passwd", "111111"},
+                                new Object[] {id, "vpc_name", "vpc"},
+                                new Object[] {otherId, "vpc_name", "other-vpc"}));
+
+        final Map<UUID, Map<String, String>> result =
+                databaseServiceDeploymentStorageUnderTest.getInputPropertiesOfServices(
+                        List.of(id, otherId));
+
+        assertThat(result)
+                .isEqualTo(
+                        Map.of(
+                                id,
+                                Map.of("admin_passwd", "111111", "vpc_name", "vpc"),
+                                otherId,
+                                Map.of("vpc_name", "other-vpc")));
+        assertThat(
+                        databaseServiceDeploymentStorageUnderTest.getInputPropertiesOfServices(
+                                List.of()))
+                .isEmpty();
+    }
+
+    private ServiceDeploymentEntity getServiceDeploymentEntity(UUID serviceId, int hoursAgo) {
+        final ServiceDeploymentEntity entity = new ServiceDeploymentEntity();
+        entity.setId(serviceId);
+        entity.setCreatedTime(OffsetDateTime.now().minusHours(hoursAgo));
+        return entity;
+    }
 }
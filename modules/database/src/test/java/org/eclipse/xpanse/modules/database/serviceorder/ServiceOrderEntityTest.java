@@ -56,6 +56,7 @@ class ServiceOrderEntityTest {
         test.setRequestBody(mockRequestBody);
         test.setResultProperties(mockResultProperties);
         test.setHandler(handler);
+        test.setBatchId(uuid);
     }
 
     @Test
@@ -74,6 +75,7 @@ class ServiceOrderEntityTest {
         assertThat(test.getRequestBody()).isEqualTo(mockRequestBody);
         assertThat(test.getResultProperties()).isEqualTo(mockResultProperties);
         assertThat(test.getHandler()).isEqualTo(handler);
+        assertThat(test.getBatchId()).isEqualTo(uuid);
     }
 
     @Test
@@ -122,6 +124,8 @@ class ServiceOrderEntityTest {
                         + mockResultProperties
                         + ", handler="
                         + handler
+                        + ", batchId="
+                        + uuid
                         + ")";
         assertThat(test.toString()).isEqualTo(result);
     }
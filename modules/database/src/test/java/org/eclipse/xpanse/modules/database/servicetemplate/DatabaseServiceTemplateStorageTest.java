@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
@@ -172,6 +173,25 @@ class DatabaseServiceTemplateStorageTest {
         assertThat(result).isEqualTo(expectedResult);
     }
 
+    @Test
+    void testGetServiceTemplatesByIds() {
+        // Setup
+        final UUID missingId = UUID.randomUUID();
+        final ServiceTemplateEntity serviceTemplateEntity = new ServiceTemplateEntity();
+        serviceTemplateEntity.setId(id);
+        serviceTemplateEntity.setName("name");
+        when(mockServiceTemplateRepository.findAllById(List.of(id, missingId)))
+                .thenReturn(List.of(serviceTemplateEntity));
+
+        // Run the test
+        final Map<UUID, ServiceTemplateEntity> result =
+                test.getServiceTemplatesByIds(List.of(id, missingId));
+
+        // Verify the results
+        assertThat(result).isEqualTo(Map.of(id, serviceTemplateEntity));
+        assertThat(test.getServiceTemplatesByIds(List.of())).isEmpty();
+    }
+
     @Test
     void testDeleteServiceTemplate() {
         // Setup
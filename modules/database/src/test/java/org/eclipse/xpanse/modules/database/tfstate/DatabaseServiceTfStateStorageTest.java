@@ -0,0 +1,81 @@
+package org.eclipse.xpanse.modules.database.tfstate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseServiceTfStateStorageTest {
+
+    private final UUID serviceId = UUID.fromString("9803512b-16b7-4eef-8aba-5e2495aa6fd2");
+    private final ServiceDeploymentEntity serviceDeployment = new ServiceDeploymentEntity();
+    @Mock private ServiceTfStateRepository mockServiceTfStateRepository;
+    @Mock private ServiceDeploymentRepository mockServiceDeploymentRepository;
+    @InjectMocks private DatabaseServiceTfStateStorage databaseServiceTfStateStorageUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        serviceDeployment.setId(serviceId);
+        ReflectionTestUtils.setField(databaseServiceTfStateStorageUnderTest, "maxRevisions", 3);
+    }
+
+    @Test
+    void testStoreTfState() {
+        when(mockServiceTfStateRepository.findLatestRevision(serviceId))
+                .thenReturn(Optional.empty());
+        when(mockServiceTfStateRepository.saveAndFlush(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        ServiceTfStateEntity result =
+                databaseServiceTfStateStorageUnderTest.storeTfState(serviceDeployment, "state");
+
+        assertEquals(1, result.getRevision());
+        assertEquals("state", TfStateContentUtils.decompress(result.getContent()));
+        assertEquals(5L, result.getContentSize());
+        assertSame(serviceDeployment, result.getServiceDeploymentEntity());
+        verify(mockServiceDeploymentRepository).lockById(serviceId);
+        verify(mockServiceTfStateRepository, never()).deleteRevisionsUpTo(any(), anyInt());
+    }
+
+    @Test
+    void testStoreTfStateDeletesOldRevisions() {
+        when(mockServiceTfStateRepository.findLatestRevision(serviceId)).thenReturn(Optional.of(4));
+        when(mockServiceTfStateRepository.saveAndFlush(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        ServiceTfStateEntity result =
+                databaseServiceTfStateStorageUnderTest.storeTfState(serviceDeployment, "state");
+
+        assertEquals(5, result.getRevision());
+        verify(mockServiceTfStateRepository).deleteRevisionsUpTo(serviceId, 2);
+    }
+
+    @Test
+    void testStoreUnchangedTfState() {
+        ServiceTfStateEntity currentTfState = new ServiceTfStateEntity();
+        currentTfState.setContentHash(TfStateContentUtils.getContentHash("state"));
+        serviceDeployment.setCurrentTfState(currentTfState);
+
+        ServiceTfStateEntity result =
+                databaseServiceTfStateStorageUnderTest.storeTfState(serviceDeployment, "state");
+
+        assertSame(currentTfState, result);
+        verify(mockServiceTfStateRepository, never()).saveAndFlush(any());
+    }
+}
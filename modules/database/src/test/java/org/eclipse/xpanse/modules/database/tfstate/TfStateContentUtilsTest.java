@@ -0,0 +1,75 @@
+package org.eclipse.xpanse.modules.database.tfstate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.junit.jupiter.api.Test;
+
+class TfStateContentUtilsTest {
+
+    private static final String TF_STATE =
+            "{\"version\":4,\"resources\":["
+                    + "{\"type\":\"huaweicloud_vpc\"},".repeat(1000)
+                    + "]}";
+
+    @Test
+    void testCompressAndDecompress() {
+        byte[] compressed = TfStateContentUtils.compress(TF_STATE);
+
+        assertTrue(compressed.length < TF_STATE.length() / 10);
+        assertEquals(TF_STATE, TfStateContentUtils.decompress(compressed));
+    }
+
+    @Test
+    void testCompressToStream() {
+        String content = TF_STATE + "\u00e4\u6c34";
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        long contentSize = TfStateContentUtils.compress(content, compressed);
+
+        assertEquals(content.getBytes(StandardCharsets.UTF_8).length, contentSize);
+        assertEquals(
+                content,
+                TfStateContentUtils.decompress(new ByteArrayInputStream(compressed.toByteArray())));
+    }
+
+    @Test
+    void testGetContentHash() throws Exception {
+        assertEquals(
+                HexFormat.of()
+                        .formatHex(
+                                MessageDigest.getInstance("SHA-256")
+                                        .digest(TF_STATE.getBytes(StandardCharsets.UTF_8))),
+                TfStateContentUtils.getContentHash(TF_STATE));
+        assertEquals(
+                TfStateContentUtils.getContentHash(TF_STATE),
+                TfStateContentUtils.getContentHash(TF_STATE));
+        assertNotEquals(
+                TfStateContentUtils.getContentHash(TF_STATE),
+                TfStateContentUtils.getContentHash(TF_STATE + " "));
+    }
+
+    @Test
+    void testGetStoredTfStateContent() {
+        ServiceDeploymentEntity serviceDeployment = new ServiceDeploymentEntity();
+        assertNull(TfStateContentUtils.getStoredTfStateContent(serviceDeployment));
+
+        serviceDeployment.setDeploymentGeneratedFiles(
+                Map.of(TfStateContentUtils.TF_STATE_FILE_NAME, "legacy"));
+        assertEquals("legacy", TfStateContentUtils.getStoredTfStateContent(serviceDeployment));
+
+        ServiceTfStateEntity tfState = new ServiceTfStateEntity();
+        tfState.setContent(TfStateContentUtils.compress(TF_STATE));
+        serviceDeployment.setCurrentTfState(tfState);
+        assertEquals(TF_STATE, TfStateContentUtils.getStoredTfStateContent(serviceDeployment));
+    }
+}
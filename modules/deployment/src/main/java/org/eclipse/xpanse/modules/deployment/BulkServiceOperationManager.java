@@ -0,0 +1,279 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment;
+
+import static org.eclipse.xpanse.modules.async.TaskConfiguration.ASYNC_EXECUTOR_NAME;
+
+import jakarta.annotation.Resource;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
+import org.eclipse.xpanse.modules.models.service.enums.Handler;
+import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
+import org.eclipse.xpanse.modules.models.service.order.BulkServiceOperationProgress;
+import org.eclipse.xpanse.modules.models.service.order.BulkServiceOperationRequest;
+import org.eclipse.xpanse.modules.models.service.order.BulkServiceOperationResult;
+import org.eclipse.xpanse.modules.models.service.order.RejectedServiceOperation;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrder;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrderDetails;
+import org.eclipse.xpanse.modules.models.service.order.enums.BulkServiceOperation;
+import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
+import org.eclipse.xpanse.modules.models.service.order.exceptions.ServiceOrderNotFound;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingType;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
+import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to execute an operation on many services at once. The services are validated and the orders
+ * of all accepted services are created in one batch with a common batch id. The orders are executed
+ * asynchronously in chunks of services of the same cloud service provider, region and user, and
+ * only a limited number of chunks is executed at the same time.
+ */
+@Slf4j
+@Component
+public class BulkServiceOperationManager {
+
+    @Resource private ServiceDeploymentStorage serviceDeploymentStorage;
+    @Resource private ServiceStateManager serviceStateManager;
+    @Resource private DeployService deployService;
+    @Resource private ServiceOrderManager serviceOrderManager;
+    @Resource private PluginManager pluginManager;
+    @Resource private UserServiceHelper userServiceHelper;
+
+    @Resource(name = ASYNC_EXECUTOR_NAME)
+    private Executor taskExecutor;
+
+    @Value("${bulk.service.operation.max.services:500}")
+    private int maxServices;
+
+    @Value("${bulk.service.operation.batch.size:50}")
+    private int batchSize;
+
+    @Value("${bulk.service.operation.max.concurrency:4}")
+    private int maxConcurrency;
+
+    /**
+     * Validate the services and create the orders of the bulk service operation. The orders are
+     * executed asynchronously.
+     *
+     * @param request request of the bulk service operation.
+     * @return result with the batch id, the created orders and the rejected services.
+     */
+    public BulkServiceOperationResult executeBulkOperation(BulkServiceOperationRequest request) {
+        List<UUID> serviceIds = new ArrayList<>(new LinkedHashSet<>(request.getServiceIds()));
+        if (serviceIds.size() > maxServices) {
+            String errorMsg =
+                    String.format(
+                            "Bulk service operation supports at most %d services, but %d"
+                                    + " services are requested.",
+                            maxServices, serviceIds.size());
+            log.error(errorMsg);
+            throw new IllegalArgumentException(errorMsg);
+        }
+        BulkServiceOperation operation = request.getOperation();
+        UUID batchId = UUID.randomUUID();
+        Map<UUID, ServiceDeploymentEntity> servicesById =
+                serviceDeploymentStorage.findServiceDeploymentsByIds(serviceIds).stream()
+                        .collect(
+                                Collectors.toMap(
+                                        ServiceDeploymentEntity::getId, Function.identity()));
+        List<BulkServiceOrder> bulkOrders = new ArrayList<>();
+        List<RejectedServiceOperation> rejectedServices = new ArrayList<>();
+        for (UUID serviceId : serviceIds) {
+            ServiceDeploymentEntity service = servicesById.get(serviceId);
+            if (Objects.isNull(service)) {
+                rejectedServices.add(
+                        new RejectedServiceOperation(
+                                serviceId,
+                                String.format("Service with id %s not found.", serviceId)));
+                continue;
+            }
+            try {
+                bulkOrders.add(getBulkServiceOrder(operation, service, batchId));
+            } catch (RuntimeException e) {
+                rejectedServices.add(new RejectedServiceOperation(serviceId, e.getMessage()));
+            }
+        }
+        if (!bulkOrders.isEmpty()) {
+            serviceOrderManager.storeNewServiceOrderEntities(bulkOrders);
+            dispatchBulkOrders(operation, bulkOrders);
+        }
+        log.info(
+                "Bulk service operation {} with batch id {} created {} orders, {} services"
+                        + " rejected.",
+                operation.toValue(),
+                batchId,
+                bulkOrders.size(),
+                rejectedServices.size());
+        BulkServiceOperationResult result = new BulkServiceOperationResult();
+        result.setBatchId(batchId);
+        result.setOperation(operation);
+        result.setOrders(
+                bulkOrders.stream()
+                        .map(
+                                bulkOrder ->
+                                        new ServiceOrder(
+                                                bulkOrder.getTask().getOrderId(),
+                                                bulkOrder.getService().getId()))
+                        .toList());
+        result.setRejectedServices(rejectedServices);
+        return result;
+    }
+
+    /**
+     * Get the progress of the orders of a bulk service operation.
+     *
+     * @param batchId id of the batch.
+     * @return progress of the orders which the current user can view.
+     */
+    public BulkServiceOperationProgress getBulkOperationProgress(UUID batchId) {
+        List<ServiceOrderDetails> orders = serviceOrderManager.listServiceOrdersOfBatch(batchId);
+        if (orders.isEmpty()) {
+            String errorMsg = String.format("Service orders of batch %s not found.", batchId);
+            log.error(errorMsg);
+            throw new ServiceOrderNotFound(errorMsg);
+        }
+        Map<OrderStatus, Long> orderStatusCounts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus orderStatus : OrderStatus.values()) {
+            orderStatusCounts.put(orderStatus, 0L);
+        }
+        orders.forEach(order -> orderStatusCounts.merge(order.getOrderStatus(), 1L, Long::sum));
+        BulkServiceOperationProgress progress = new BulkServiceOperationProgress();
+        progress.setBatchId(batchId);
+        progress.setTotalOrders(orders.size());
+        progress.setOrderStatusCounts(orderStatusCounts);
+        progress.setCompleted(
+                orderStatusCounts.get(OrderStatus.SUCCESSFUL)
+                                + orderStatusCounts.get(OrderStatus.FAILED)
+                        == orders.size());
+        progress.setOrders(orders);
+        return progress;
+    }
+
+    private BulkServiceOrder getBulkServiceOrder(
+            BulkServiceOperation operation, ServiceDeploymentEntity service, UUID batchId) {
+        ServiceOrderType orderType = operation.getOrderType();
+        BulkServiceOrder bulkOrder;
+        if (orderType == ServiceOrderType.DESTROY || orderType == ServiceOrderType.PURGE) {
+            DeployTask task = deployService.getTaskToDestroyOrPurgeService(service, orderType);
+            task.setBatchId(batchId);
+            bulkOrder = new BulkServiceOrder(task, service, deployService.getHandlerOfTask(task));
+        } else {
+            serviceStateManager.validateServiceState(service, orderType);
+            DeployTask task = new DeployTask();
+            task.setServiceId(service.getId());
+            task.setTaskType(orderType);
+            task.setUserId(userServiceHelper.getCurrentUserId());
+            task.setBatchId(batchId);
+            bulkOrder = new BulkServiceOrder(task, service, Handler.PLUGIN);
+            bulkOrder.setStateManageRequest(serviceStateManager.getServiceManagerRequest(service));
+        }
+        return bulkOrder;
+    }
+
+    /**
+     * Split the orders into chunks of services of the same cloud service provider, region and user,
+     * and execute the chunks in a limited number of lanes. Each lane executes the chunks one after
+     * the other.
+     */
+    private void dispatchBulkOrders(
+            BulkServiceOperation operation, List<BulkServiceOrder> bulkOrders) {
+        Map<List<String>, List<BulkServiceOrder>> ordersGroups = new LinkedHashMap<>();
+        for (BulkServiceOrder bulkOrder : bulkOrders) {
+            ordersGroups
+                    .computeIfAbsent(getGroupKey(bulkOrder.getService()), key -> new ArrayList<>())
+                    .add(bulkOrder);
+        }
+        Queue<List<BulkServiceOrder>> chunks = new ConcurrentLinkedQueue<>();
+        for (List<BulkServiceOrder> ordersGroup : ordersGroups.values()) {
+            for (int i = 0; i < ordersGroup.size(); i += batchSize) {
+                chunks.add(ordersGroup.subList(i, Math.min(i + batchSize, ordersGroup.size())));
+            }
+        }
+        int lanes = Math.max(1, Math.min(maxConcurrency, chunks.size()));
+        for (int i = 0; i < lanes; i++) {
+            taskExecutor.execute(
+                    () -> {
+                        List<BulkServiceOrder> chunk;
+                        while (Objects.nonNull(chunk = chunks.poll())) {
+                            executeChunk(operation, chunk);
+                        }
+                    });
+        }
+    }
+
+    private List<String> getGroupKey(ServiceDeploymentEntity service) {
+        String userId =
+                service.getServiceHostingType() == ServiceHostingType.SELF
+                        ? service.getUserId()
+                        : null;
+        return List.of(
+                service.getCsp().toValue(),
+                Objects.toString(service.getRegion().getSite(), ""),
+                Objects.toString(service.getRegion().getName(), ""),
+                Objects.toString(userId, ""));
+    }
+
+    private void executeChunk(BulkServiceOperation operation, List<BulkServiceOrder> chunk) {
+        ServiceOrderType orderType = operation.getOrderType();
+        if (orderType == ServiceOrderType.DESTROY || orderType == ServiceOrderType.PURGE) {
+            for (BulkServiceOrder bulkOrder : chunk) {
+                try {
+                    if (orderType == ServiceOrderType.DESTROY) {
+                        deployService.destroyServiceWithOrder(
+                                bulkOrder.getTask(),
+                                bulkOrder.getService(),
+                                bulkOrder.getOrderEntity(),
+                                bulkOrder.getHandler());
+                    } else {
+                        deployService.purgeServiceWithOrder(
+                                bulkOrder.getTask(),
+                                bulkOrder.getService(),
+                                bulkOrder.getOrderEntity(),
+                                bulkOrder.getHandler());
+                    }
+                } catch (RuntimeException e) {
+                    log.error(
+                            "Order {} to {} service {} failed. {}",
+                            bulkOrder.getTask().getOrderId(),
+                            operation.toValue(),
+                            bulkOrder.getService().getId(),
+                            e.getMessage());
+                }
+            }
+            return;
+        }
+        try {
+            OrchestratorPlugin plugin =
+                    pluginManager.getOrchestratorPlugin(chunk.getFirst().getService().getCsp());
+            serviceStateManager.manageServicesState(orderType, plugin, chunk);
+        } catch (RuntimeException e) {
+            log.error(
+                    "Execute {} orders to {} services failed. {}",
+                    chunk.size(),
+                    operation.toValue(),
+                    e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment;
+
+import lombok.Data;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
+import org.eclipse.xpanse.modules.models.service.enums.Handler;
+import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRequest;
+
+/** The order of one service in a bulk service operation. */
+@Data
+class BulkServiceOrder {
+
+    /** The task of the order. */
+    private final DeployTask task;
+
+    /** The service of the order. */
+    private final ServiceDeploymentEntity service;
+
+    /** The handler of the order. */
+    private final Handler handler;
+
+    /** The request to manage the state of the service, only for start, stop and restart. */
+    private ServiceStateManageRequest stateManageRequest;
+
+    /** The stored order entity. */
+    private ServiceOrderEntity orderEntity;
+}
@@ -11,27 +11,32 @@ import static org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelpe
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.Resource;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.xpanse.modules.database.resource.ServiceResourceEntity;
+import org.eclipse.xpanse.modules.cache.monitor.MetricCatalogKey;
+import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsStore;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
 import org.eclipse.xpanse.modules.database.serviceconfiguration.ServiceConfigurationEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.database.tfstate.ServiceTfStateStorage;
+import org.eclipse.xpanse.modules.database.tfstate.TfStateContentUtils;
 import org.eclipse.xpanse.modules.deployment.recreate.consts.RecreateConstants;
 import org.eclipse.xpanse.modules.deployment.serviceporting.consts.ServicePortingConstants;
+import org.eclipse.xpanse.modules.deployment.utils.ServiceResourcesMerger;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.response.ErrorResponse;
 import org.eclipse.xpanse.modules.models.response.ErrorType;
-import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResult;
 import org.eclipse.xpanse.modules.models.service.deployment.ModifyRequest;
 import org.eclipse.xpanse.modules.models.service.enums.Handler;
@@ -56,6 +61,7 @@ public class DeployResultManager {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
     @Resource private ServiceDeploymentStorage serviceDeploymentStorage;
+    @Resource private ServiceTfStateStorage serviceTfStateStorage;
     @Resource private ServiceOrderStorage serviceOrderStorage;
     @Resource private ResourceHandlerManager resourceHandlerManager;
     @Resource private WorkflowUtils workflowUtils;
@@ -63,6 +69,7 @@ public class DeployResultManager {
     @Resource private ServiceDeploymentEntityConverter serviceDeploymentEntityConverter;
     @Resource private ServiceOrderManager serviceOrderManager;
     @Resource private DeployerKindManager deployerKindManager;
+    @Resource private MonitorMetricsStore monitorMetricsStore;
 
     /**
      * Get failed deploy result.
@@ -223,16 +230,33 @@ public class DeployResultManager {
         }
         if (CollectionUtils.isEmpty(deployResult.getDeploymentGeneratedFiles())) {
             if (isTaskSuccessful) {
-                serviceDeploymentToUpdate.setDeploymentGeneratedFiles(Collections.emptyMap());
+                updateMapIfChanged(
+                        serviceDeploymentToUpdate.getDeploymentGeneratedFiles(),
+                        Collections.emptyMap(),
+                        serviceDeploymentToUpdate::setDeploymentGeneratedFiles);
+                serviceDeploymentToUpdate.setCurrentTfState(null);
             }
         } else {
-            serviceDeploymentToUpdate.setDeploymentGeneratedFiles(
-                    deployResult.getDeploymentGeneratedFiles());
+            // the state is stored as a revision of its own instead of a deployment generated file.
+            Map<String, String> deploymentGeneratedFiles =
+                    new HashMap<>(deployResult.getDeploymentGeneratedFiles());
+            String tfState = deploymentGeneratedFiles.remove(TF_STATE_FILE_NAME);
+            if (StringUtils.isNotBlank(tfState)) {
+                serviceDeploymentToUpdate.setCurrentTfState(
+                        serviceTfStateStorage.storeTfState(serviceDeploymentToUpdate, tfState));
+            }
+            updateMapIfChanged(
+                    serviceDeploymentToUpdate.getDeploymentGeneratedFiles(),
+                    deploymentGeneratedFiles,
+                    serviceDeploymentToUpdate::setDeploymentGeneratedFiles);
         }
 
         if (CollectionUtils.isEmpty(deployResult.getOutputProperties())) {
             if (isTaskSuccessful) {
-                serviceDeploymentToUpdate.setOutputProperties(Collections.emptyMap());
+                updateMapIfChanged(
+                        serviceDeploymentToUpdate.getOutputProperties(),
+                        Collections.emptyMap(),
+                        serviceDeploymentToUpdate::setOutputProperties);
             }
         } else {
             if (Objects.nonNull(
@@ -247,22 +271,32 @@ public class DeployResultManager {
                 sensitiveDataHandler.encodeOutputVariables(
                         outputVariables, deployResult.getOutputProperties());
             }
-            serviceDeploymentToUpdate.setOutputProperties(deployResult.getOutputProperties());
+            updateMapIfChanged(
+                    serviceDeploymentToUpdate.getOutputProperties(),
+                    deployResult.getOutputProperties(),
+                    serviceDeploymentToUpdate::setOutputProperties);
         }
 
-        if (CollectionUtils.isEmpty(deployResult.getResources())) {
-            if (isTaskSuccessful) {
-                serviceDeploymentToUpdate.setDeployResources(Collections.emptyList());
-            }
-        } else {
-            serviceDeploymentToUpdate.setDeployResources(
-                    getDeployResourceEntities(
-                            deployResult.getResources(), serviceDeploymentToUpdate));
+        if (!CollectionUtils.isEmpty(deployResult.getResources()) || isTaskSuccessful) {
+            Set<String> changedResourceIds =
+                    ServiceResourcesMerger.mergeDeployResources(
+                            serviceDeploymentToUpdate, deployResult.getResources());
+            evictMetricCatalogs(serviceDeploymentToUpdate.getCsp(), changedResourceIds);
         }
 
         return serviceDeploymentStorage.storeAndFlush(serviceDeploymentToUpdate);
     }
 
+    /** Keep the stored map when it is unchanged, so that its rows are not rewritten. */
+    private void updateMapIfChanged(
+            Map<String, String> storedMap,
+            Map<String, String> newMap,
+            Consumer<Map<String, String>> setter) {
+        if (Objects.isNull(storedMap) || !storedMap.equals(newMap)) {
+            setter.accept(newMap);
+        }
+    }
+
     private boolean isFailedDeployTask(boolean isTaskSuccessful, ServiceOrderType taskType) {
         return !isTaskSuccessful
                 && (taskType == ServiceOrderType.DEPLOY || taskType == ServiceOrderType.RETRY);
@@ -272,14 +306,10 @@ public class DeployResultManager {
             DeployResult deployResult, ServiceDeploymentEntity serviceDeploymentEntity) {
         // If the tfState is null, try to use the stored tfState
         if (Objects.isNull(deployResult.getTfStateContent())) {
-            if (Objects.nonNull(serviceDeploymentEntity.getDeploymentGeneratedFiles())) {
-                String storedTfStateContent =
-                        serviceDeploymentEntity
-                                .getDeploymentGeneratedFiles()
-                                .get(TF_STATE_FILE_NAME);
-                if (StringUtils.isNotBlank(storedTfStateContent)) {
-                    deployResult.setTfStateContent(storedTfStateContent);
-                }
+            String storedTfStateContent =
+                    TfStateContentUtils.getStoredTfStateContent(serviceDeploymentEntity);
+            if (StringUtils.isNotBlank(storedTfStateContent)) {
+                deployResult.setTfStateContent(storedTfStateContent);
             }
         }
 
@@ -358,20 +388,20 @@ public class DeployResultManager {
         };
     }
 
-    /** Convert service resources to deploy resource entities. */
-    private List<ServiceResourceEntity> getDeployResourceEntities(
-            List<DeployResource> deployResources, ServiceDeploymentEntity serviceDeploymentEntity) {
-        List<ServiceResourceEntity> deployResourceEntities = new ArrayList<>();
-        if (CollectionUtils.isEmpty(deployResources)) {
-            return deployResourceEntities;
-        }
-        for (DeployResource resource : deployResources) {
-            ServiceResourceEntity deployResource = new ServiceResourceEntity();
-            BeanUtils.copyProperties(resource, deployResource);
-            deployResource.setServiceDeploymentEntity(serviceDeploymentEntity);
-            deployResourceEntities.add(deployResource);
+    /** Evict the metric catalogs of the resources which are added or removed. */
+    private void evictMetricCatalogs(Csp csp, Set<String> changedResourceIds) {
+        for (String resourceId : changedResourceIds) {
+            if (StringUtils.isNotBlank(resourceId)) {
+                try {
+                    monitorMetricsStore.deleteMetricCatalog(new MetricCatalogKey(csp, resourceId));
+                } catch (RuntimeException e) {
+                    log.warn(
+                            "Evicting metric catalog of resource {} failed. {}",
+                            resourceId,
+                            e.getMessage());
+                }
+            }
         }
-        return deployResourceEntities;
     }
 
     /**
@@ -6,8 +6,6 @@
 
 package org.eclipse.xpanse.modules.deployment;
 
-import static org.eclipse.xpanse.modules.async.TaskConfiguration.ASYNC_EXECUTOR_NAME;
-
 import jakarta.annotation.Resource;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -18,7 +16,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -31,6 +28,7 @@ import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateQueryModel;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
 import org.eclipse.xpanse.modules.database.utils.EntityTranslationUtils;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.scheduler.DeploymentJobScheduler;
 import org.eclipse.xpanse.modules.deployment.polling.ServiceDeploymentStatusChangePolling;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.common.enums.UserOperation;
@@ -68,6 +66,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Main class which orchestrates the OCL request processing. Calls the available plugins to deploy
@@ -89,9 +88,7 @@ public class DeployService {
     @Resource private ServiceDeploymentEntityConverter serviceDeploymentEntityConverter;
     @Resource private ServiceOrderManager serviceOrderManager;
     @Resource private ServiceDeploymentStatusChangePolling serviceDeploymentStatusChangePolling;
-
-    @Resource(name = ASYNC_EXECUTOR_NAME)
-    private Executor taskExecutor;
+    @Resource private DeploymentJobScheduler deploymentJobScheduler;
 
     @Value("${spring.profiles.active}")
     private String activeProfiles;
@@ -235,6 +232,12 @@ public class DeployService {
             UUID serviceId, UserOperation userOperation) {
         ServiceDeploymentEntity deployedService =
                 serviceDeploymentEntityHandler.getServiceDeploymentEntity(serviceId);
+        validateServiceOwnedByCurrentUser(deployedService, userOperation);
+        return deployedService;
+    }
+
+    private void validateServiceOwnedByCurrentUser(
+            ServiceDeploymentEntity deployedService, UserOperation userOperation) {
         boolean currentUserIsOwner =
                 userServiceHelper.currentUserIsOwner(deployedService.getUserId());
         if (!currentUserIsOwner) {
@@ -244,7 +247,6 @@ public class DeployService {
             log.error(errorMsg);
             throw new AccessDeniedException(errorMsg);
         }
-        return deployedService;
     }
 
     /**
@@ -410,21 +412,30 @@ public class DeployService {
         RuntimeException exception = null;
         DeployerKind kind = deployTask.getOcl().getDeployment().getDeployerTool().getKind();
         Deployer deployer = deployerKindManager.getDeployment(kind);
-        ServiceDeploymentEntity serviceEntity = storeNewDeployServiceEntity(deployTask);
-        Handler handler = getHandler(activeProfiles, kind);
-        ServiceOrderEntity serviceOrderEntity =
-                serviceOrderManager.storeNewServiceOrderEntity(deployTask, serviceEntity, handler);
+        // reserve the place in the job queue before storing anything for the order.
+        deploymentJobScheduler.reserveJob(deployTask);
         try {
-            policyValidator.validateDeploymentWithPolicies(deployTask);
-            serviceOrderManager.startOrderProgress(serviceOrderEntity);
-            deployResult = deployer.deploy(deployTask);
-        } catch (RuntimeException e) {
-            exception = e;
-            deployResult = deployResultManager.getFailedDeployResult(deployTask, exception);
-        }
-        deployResultManager.updateServiceWithDeployResult(deployResult, handler);
-        if (Objects.nonNull(exception)) {
-            throw exception;
+            ServiceDeploymentEntity serviceEntity = storeNewDeployServiceEntity(deployTask);
+            Handler handler = getHandler(activeProfiles, kind);
+            ServiceOrderEntity serviceOrderEntity =
+                    serviceOrderManager.storeNewServiceOrderEntity(
+                            deployTask, serviceEntity, handler);
+            try {
+                String planJson = policyValidator.validateDeploymentWithPolicies(deployTask);
+                serviceOrderManager.storeDeploymentPlan(serviceOrderEntity, planJson);
+                serviceOrderManager.startOrderProgress(serviceOrderEntity);
+                deployResult = deployer.deploy(deployTask);
+            } catch (RuntimeException e) {
+                exception = e;
+                deployResult = deployResultManager.getFailedDeployResult(deployTask, exception);
+            }
+            deployResultManager.updateServiceWithDeployResult(deployResult, handler);
+            if (Objects.nonNull(exception)) {
+                throw exception;
+            }
+        } finally {
+            // the reservation is taken when the job is submitted by the deployer.
+            deploymentJobScheduler.releaseJob(deployTask.getOrderId());
         }
     }
 
@@ -442,22 +453,28 @@ public class DeployService {
         Deployer deployer = deployerKindManager.getDeployment(kind);
         Handler handler = getHandler(activeProfiles, kind);
         redeployTask.setRequest(redeployTask.getDeployRequest());
-        ServiceOrderEntity serviceOrderEntity =
-                serviceOrderManager.storeNewServiceOrderEntity(
-                        redeployTask, serviceDeploymentEntity, handler);
+        deploymentJobScheduler.reserveJob(redeployTask);
         try {
-            policyValidator.validateDeploymentWithPolicies(redeployTask);
-            serviceDeploymentEntityHandler.updateServiceDeploymentStatus(
-                    serviceDeploymentEntity, ServiceDeploymentState.DEPLOYING);
-            serviceOrderManager.startOrderProgress(serviceOrderEntity);
-            redeployResult = deployer.deploy(redeployTask);
-        } catch (RuntimeException e) {
-            exception = e;
-            redeployResult = deployResultManager.getFailedDeployResult(redeployTask, exception);
-        }
-        deployResultManager.updateServiceWithDeployResult(redeployResult, handler);
-        if (Objects.nonNull(exception)) {
-            throw exception;
+            ServiceOrderEntity serviceOrderEntity =
+                    serviceOrderManager.storeNewServiceOrderEntity(
+                            redeployTask, serviceDeploymentEntity, handler);
+            try {
+                String planJson = policyValidator.validateDeploymentWithPolicies(redeployTask);
+                serviceOrderManager.storeDeploymentPlan(serviceOrderEntity, planJson);
+                serviceDeploymentEntityHandler.updateServiceDeploymentStatus(
+                        serviceDeploymentEntity, ServiceDeploymentState.DEPLOYING);
+                serviceOrderManager.startOrderProgress(serviceOrderEntity);
+                redeployResult = deployer.deploy(redeployTask);
+            } catch (RuntimeException e) {
+                exception = e;
+                redeployResult = deployResultManager.getFailedDeployResult(redeployTask, exception);
+            }
+            deployResultManager.updateServiceWithDeployResult(redeployResult, handler);
+            if (Objects.nonNull(exception)) {
+                throw exception;
+            }
+        } finally {
+            deploymentJobScheduler.releaseJob(redeployTask.getOrderId());
         }
     }
 
@@ -550,21 +567,26 @@ public class DeployService {
         DeployerKind kind = modifyTask.getOcl().getDeployment().getDeployerTool().getKind();
         Deployer deployer = deployerKindManager.getDeployment(kind);
         Handler handler = getHandler(activeProfiles, kind);
-        ServiceOrderEntity serviceOrderEntity =
-                serviceOrderManager.storeNewServiceOrderEntity(
-                        modifyTask, serviceDeployment, handler);
+        deploymentJobScheduler.reserveJob(modifyTask);
         try {
-            serviceDeploymentEntityHandler.updateServiceDeploymentStatus(
-                    serviceDeployment, ServiceDeploymentState.MODIFYING);
-            serviceOrderManager.startOrderProgress(serviceOrderEntity);
-            modifyResult = deployer.modify(modifyTask);
-        } catch (RuntimeException e) {
-            exception = e;
-            modifyResult = deployResultManager.getFailedDeployResult(modifyTask, e);
-        }
-        deployResultManager.updateServiceWithDeployResult(modifyResult, handler);
-        if (Objects.nonNull(exception)) {
-            throw exception;
+            ServiceOrderEntity serviceOrderEntity =
+                    serviceOrderManager.storeNewServiceOrderEntity(
+                            modifyTask, serviceDeployment, handler);
+            try {
+                serviceDeploymentEntityHandler.updateServiceDeploymentStatus(
+                        serviceDeployment, ServiceDeploymentState.MODIFYING);
+                serviceOrderManager.startOrderProgress(serviceOrderEntity);
+                modifyResult = deployer.modify(modifyTask);
+            } catch (RuntimeException e) {
+                exception = e;
+                modifyResult = deployResultManager.getFailedDeployResult(modifyTask, e);
+            }
+            deployResultManager.updateServiceWithDeployResult(modifyResult, handler);
+            if (Objects.nonNull(exception)) {
+                throw exception;
+            }
+        } finally {
+            deploymentJobScheduler.releaseJob(modifyTask.getOrderId());
         }
     }
 
@@ -576,14 +598,29 @@ public class DeployService {
      */
     public void destroyService(
             DeployTask destroyTask, ServiceDeploymentEntity serviceDeploymentEntity) {
-        DeployResult destroyResult;
-        RuntimeException exception = null;
-        DeployerKind kind = destroyTask.getOcl().getDeployment().getDeployerTool().getKind();
-        Deployer deployer = deployerKindManager.getDeployment(kind);
-        Handler handler = getHandler(activeProfiles, kind);
+        Handler handler = getHandlerOfTask(destroyTask);
         ServiceOrderEntity serviceOrderEntity =
                 serviceOrderManager.storeNewServiceOrderEntity(
                         destroyTask, serviceDeploymentEntity, handler);
+        destroyServiceWithOrder(destroyTask, serviceDeploymentEntity, serviceOrderEntity, handler);
+    }
+
+    /**
+     * Destroy the service with the stored order.
+     *
+     * @param destroyTask destroy task.
+     * @param serviceDeploymentEntity service to destroy.
+     * @param serviceOrderEntity stored order of the destroy task.
+     * @param handler handler of the order.
+     */
+    void destroyServiceWithOrder(
+            DeployTask destroyTask,
+            ServiceDeploymentEntity serviceDeploymentEntity,
+            ServiceOrderEntity serviceOrderEntity,
+            Handler handler) {
+        DeployResult destroyResult;
+        RuntimeException exception = null;
+        Deployer deployer = getDeployerOfTask(destroyTask);
         try {
             if (ServiceOrderType.ROLLBACK != destroyTask.getTaskType()) {
                 serviceDeploymentEntityHandler.updateServiceDeploymentStatus(
@@ -608,14 +645,29 @@ public class DeployService {
      * @param serviceDeployment deployServiceEntity
      */
     private void purgeService(DeployTask purgeTask, ServiceDeploymentEntity serviceDeployment) {
-        RuntimeException exception = null;
-        DeployResult purgeResult;
-        DeployerKind kind = purgeTask.getOcl().getDeployment().getDeployerTool().getKind();
-        Deployer deployer = deployerKindManager.getDeployment(kind);
-        Handler handler = getHandler(activeProfiles, kind);
+        Handler handler = getHandlerOfTask(purgeTask);
         ServiceOrderEntity serviceOrderEntity =
                 serviceOrderManager.storeNewServiceOrderEntity(
                         purgeTask, serviceDeployment, handler);
+        purgeServiceWithOrder(purgeTask, serviceDeployment, serviceOrderEntity, handler);
+    }
+
+    /**
+     * Purge the service with the stored order.
+     *
+     * @param purgeTask purge task.
+     * @param serviceDeployment service to purge.
+     * @param serviceOrderEntity stored order of the purge task.
+     * @param handler handler of the order.
+     */
+    void purgeServiceWithOrder(
+            DeployTask purgeTask,
+            ServiceDeploymentEntity serviceDeployment,
+            ServiceOrderEntity serviceOrderEntity,
+            Handler handler) {
+        RuntimeException exception = null;
+        DeployResult purgeResult;
+        Deployer deployer = getDeployerOfTask(purgeTask);
         if (!CollectionUtils.isEmpty(serviceDeployment.getDeployResources())) {
             try {
                 log.info(
@@ -690,6 +742,39 @@ public class DeployService {
         return new ServiceOrder(destroyTask.getOrderId(), destroyTask.getServiceId());
     }
 
+    /**
+     * Validate that the current user can destroy or purge the service and get the task of it.
+     *
+     * @param serviceDeploymentEntity service to destroy or purge.
+     * @param orderType type of the order, destroy or purge.
+     * @return deploy task.
+     */
+    DeployTask getTaskToDestroyOrPurgeService(
+            ServiceDeploymentEntity serviceDeploymentEntity, ServiceOrderType orderType) {
+        if (orderType == ServiceOrderType.PURGE) {
+            validateServiceOwnedByCurrentUser(serviceDeploymentEntity, UserOperation.PURGE_SERVICE);
+            return getPurgeTask(serviceDeploymentEntity);
+        }
+        validateServiceOwnedByCurrentUser(serviceDeploymentEntity, UserOperation.DESTROY_SERVICE);
+        return getDestroyTask(serviceDeploymentEntity);
+    }
+
+    /**
+     * Get the handler of the order of the task.
+     *
+     * @param deployTask deploy task.
+     * @return handler of the order.
+     */
+    Handler getHandlerOfTask(DeployTask deployTask) {
+        return getHandler(
+                activeProfiles, deployTask.getOcl().getDeployment().getDeployerTool().getKind());
+    }
+
+    private Deployer getDeployerOfTask(DeployTask deployTask) {
+        return deployerKindManager.getDeployment(
+                deployTask.getOcl().getDeployment().getDeployerTool().getKind());
+    }
+
     /**
      * Get destroy task by stored deploy service entity.
      *
@@ -748,19 +833,22 @@ public class DeployService {
     public DeferredResult<DeploymentStatusUpdate> getLatestServiceDeploymentStatus(
             UUID serviceId, ServiceDeploymentState lastKnownDeploymentState) {
         DeferredResult<DeploymentStatusUpdate> stateDeferredResult = new DeferredResult<>();
-        taskExecutor.execute(
-                () -> {
-                    try {
-                        this.serviceDeploymentStatusChangePolling
-                                .fetchServiceDeploymentStatusWithPolling(
-                                        stateDeferredResult, serviceId, lastKnownDeploymentState);
-                    } catch (RuntimeException exception) {
-                        stateDeferredResult.setErrorResult(exception);
-                    }
-                });
+        // the result is completed by the deployment status change events without blocking threads.
+        this.serviceDeploymentStatusChangePolling.fetchServiceDeploymentStatusWithPolling(
+                stateDeferredResult, serviceId, lastKnownDeploymentState);
         return stateDeferredResult;
     }
 
+    /**
+     * Stream the service deployment status updates.
+     *
+     * @param serviceId service id.
+     * @return emitter of the service deployment status updates.
+     */
+    public SseEmitter streamServiceDeploymentStatus(UUID serviceId) {
+        return this.serviceDeploymentStatusChangePolling.streamServiceDeploymentStatus(serviceId);
+    }
+
     /**
      * Get used service template entity by service id.
      *
@@ -7,25 +7,20 @@
 package org.eclipse.xpanse.modules.deployment;
 
 import jakarta.annotation.Resource;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
-import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.plan.SavedDeploymentPlanManager;
 import org.eclipse.xpanse.modules.models.policy.exceptions.PoliciesEvaluationFailedException;
-import org.eclipse.xpanse.modules.models.policy.servicepolicy.ServicePolicy;
-import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicy;
-import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyQueryRequest;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
-import org.eclipse.xpanse.modules.policy.PolicyManager;
-import org.eclipse.xpanse.modules.policy.ServicePolicyManager;
-import org.eclipse.xpanse.modules.policy.UserPolicyManager;
-import org.eclipse.xpanse.modules.policy.policyman.generated.model.EvalResult;
+import org.eclipse.xpanse.modules.policy.evaluation.CachedPolicy;
+import org.eclipse.xpanse.modules.policy.evaluation.PolicyEvaluationManager;
+import org.eclipse.xpanse.modules.policy.evaluation.PolicyEvaluationResult;
+import org.eclipse.xpanse.modules.policy.evaluation.PolicySet;
+import org.eclipse.xpanse.modules.policy.evaluation.PolicySetCache;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
@@ -34,57 +29,52 @@ import org.springframework.util.CollectionUtils;
 @Slf4j
 public class PolicyValidator {
 
-    @Resource private PolicyManager policyManager;
-    @Resource private UserPolicyManager userPolicyManager;
-    @Resource private ServicePolicyManager servicePolicyManager;
-    @Resource private ServiceTemplateStorage serviceTemplateStorage;
+    @Resource private PolicySetCache policySetCache;
+    @Resource private PolicyEvaluationManager policyEvaluationManager;
     @Resource private DeployerKindManager deployerKindManager;
+    @Resource private SavedDeploymentPlanManager savedDeploymentPlanManager;
 
-    private List<ServicePolicy> getServicePolicies(UUID serviceTemplateId) {
-        ServiceTemplateEntity existedServiceTemplate =
-                serviceTemplateStorage.getServiceTemplateById(serviceTemplateId);
-        if (Objects.nonNull(existedServiceTemplate)
-                && Objects.nonNull(existedServiceTemplate.getServicePolicyList())) {
-            return existedServiceTemplate.getServicePolicyList().stream()
-                    .filter(
-                            servicePolicyEntity ->
-                                    servicePolicyEntity.getEnabled()
-                                            && StringUtils.isNotBlank(
-                                                    servicePolicyEntity.getPolicy()))
-                    .map(
-                            servicePolicyEntity ->
-                                    servicePolicyManager.conventToServicePolicy(
-                                            servicePolicyEntity))
-                    .toList();
-        }
-        return Collections.emptyList();
+    private List<CachedPolicy> getServicePolicies(PolicySet servicePolicySet, String flavorName) {
+        return servicePolicySet.policies().stream()
+                .filter(
+                        servicePolicy ->
+                                CollectionUtils.isEmpty(servicePolicy.flavorNameList())
+                                        || servicePolicy.flavorNameList().contains(flavorName))
+                .toList();
     }
 
-    private List<UserPolicy> getUserPolicies(DeployTask deployTask) {
+    private PolicySet getUserPolicySet(DeployTask deployTask) {
         if (Objects.nonNull(deployTask.getDeployRequest())) {
-            String userId = deployTask.getUserId();
-            Csp csp = deployTask.getDeployRequest().getCsp();
-            UserPolicyQueryRequest queryRequest = new UserPolicyQueryRequest();
-            queryRequest.setUserId(userId);
-            queryRequest.setCsp(csp);
-            queryRequest.setEnabled(true);
-            return userPolicyManager.listUserPolicies(queryRequest);
+            return policySetCache.getUserPolicySet(
+                    deployTask.getUserId(), deployTask.getDeployRequest().getCsp());
         }
-        return Collections.emptyList();
+        return PolicySet.of(Collections.emptyList());
     }
 
     /**
-     * Validate deployment with policies.
+     * Validate deployment with policies. The service policies and the user policies are evaluated
+     * with one call.
      *
      * @param deployTask deploy task.
+     * @return deployment plan which was evaluated, null if there are no policies to evaluate.
      */
-    public void validateDeploymentWithPolicies(DeployTask deployTask) {
-
-        List<ServicePolicy> servicePolicies = getServicePolicies(deployTask.getServiceTemplateId());
-        List<UserPolicy> userPolicies = getUserPolicies(deployTask);
+    public String validateDeploymentWithPolicies(DeployTask deployTask) {
+        PolicySet servicePolicySet =
+                policySetCache.getServicePolicySet(deployTask.getServiceTemplateId());
+        PolicySet userPolicySet = getUserPolicySet(deployTask);
+        if (servicePolicySet.isEmpty() && userPolicySet.isEmpty()) {
+            log.info("No service or user policies found.");
+            return null;
+        }
+        String flavorName =
+                Objects.nonNull(deployTask.getDeployRequest())
+                        ? deployTask.getDeployRequest().getFlavor()
+                        : null;
+        List<CachedPolicy> servicePolicies = getServicePolicies(servicePolicySet, flavorName);
+        List<CachedPolicy> userPolicies = userPolicySet.policies();
         if (CollectionUtils.isEmpty(userPolicies) && CollectionUtils.isEmpty(servicePolicies)) {
             log.info("No service or user policies found.");
-            return;
+            return null;
         }
         String planJson =
                 deployerKindManager
@@ -92,100 +82,74 @@ public class PolicyValidator {
                                 deployTask.getOcl().getDeployment().getDeployerTool().getKind())
                         .getDeploymentPlanAsJson(deployTask);
         if (StringUtils.isEmpty(planJson)) {
-            return;
+            return null;
         }
-        evaluateDeploymentPlanWithServicePolicies(
-                servicePolicies, planJson, deployTask.getDeployRequest().getFlavor());
-        evaluateDeploymentPlanWithUserPolicies(userPolicies, planJson);
-    }
-
-    private void evaluateDeploymentPlanWithServicePolicies(
-            List<ServicePolicy> servicePolicies, String planJson, String flavorName) {
-        if (!CollectionUtils.isEmpty(servicePolicies)) {
-            List<String> policyList = new ArrayList<>();
-            for (ServicePolicy servicePolicy : servicePolicies) {
-                if (CollectionUtils.isEmpty(servicePolicy.getFlavorNameList())) {
-                    policyList.add(servicePolicy.getPolicy());
-                } else if (servicePolicy.getFlavorNameList().contains(flavorName)) {
-                    policyList.add(servicePolicy.getPolicy());
-                }
-            }
-
-            String errMsg = "Evaluate deployment plan with service policies failed.";
-            EvalResult evalResult = policyManager.evaluatePolicies(policyList, planJson);
-            if (!evalResult.getIsSuccessful()) {
-                ServicePolicy failedServicePolicy =
-                        servicePolicies.stream()
-                                .filter(
-                                        servicePolicy ->
-                                                servicePolicy
-                                                        .getPolicy()
-                                                        .equals(evalResult.getPolicy()))
-                                .findFirst()
-                                .orElse(null);
-                if (Objects.nonNull(failedServicePolicy)) {
-                    errMsg =
-                            String.format(
-                                    errMsg
-                                            + "\n Failed by the service policy with id: %s."
-                                            + "\n Deployment plan: %s",
-                                    failedServicePolicy.getServicePolicyId(),
-                                    planJson);
-                } else {
-                    errMsg =
-                            String.format(
-                                    errMsg
-                                            + "\n Failed by the service policy with context"
-                                            + ": %s.\"\nDeployment plan: %s",
-                                    evalResult.getPolicy(),
-                                    planJson);
-                }
+        try {
+            List<String> policies =
+                    Stream.concat(servicePolicies.stream(), userPolicies.stream())
+                            .map(CachedPolicy::policy)
+                            .distinct()
+                            .toList();
+            // the evaluated policies are given by the versions of the policy sets and the flavor.
+            String policiesVersion =
+                    String.join(
+                            ":",
+                            servicePolicySet.version(),
+                            String.valueOf(flavorName),
+                            userPolicySet.version());
+            PolicyEvaluationResult evaluationResult =
+                    policyEvaluationManager.evaluatePolicies(policiesVersion, policies, planJson);
+            if (!evaluationResult.successful()) {
+                String errMsg =
+                        getEvaluationFailedMessage(
+                                evaluationResult.failedPolicy(),
+                                servicePolicies,
+                                userPolicies,
+                                planJson);
                 log.error(errMsg);
                 throw new PoliciesEvaluationFailedException(errMsg);
-            } else {
-                log.info("Evaluate deployment plan with service policies successful.");
             }
+            log.info("Evaluate deployment plan with service and user policies successful.");
+        } catch (RuntimeException e) {
+            // the rejected plan will never be applied.
+            savedDeploymentPlanManager.discardPlan(deployTask.getOrderId());
+            throw e;
         }
+        return planJson;
     }
 
-    private void evaluateDeploymentPlanWithUserPolicies(
-            List<UserPolicy> userPolicies, String planJson) {
-        if (!CollectionUtils.isEmpty(userPolicies)) {
-            String errMsg = "Evaluate deployment plan with user policies failed.";
-            List<String> userPolicyList = userPolicies.stream().map(UserPolicy::getPolicy).toList();
-            EvalResult evalResult = policyManager.evaluatePolicies(userPolicyList, planJson);
-            if (!evalResult.getIsSuccessful()) {
-                UserPolicy failedUserPolicy =
-                        userPolicies.stream()
-                                .filter(
-                                        userPolicy ->
-                                                userPolicy
-                                                        .getPolicy()
-                                                        .equals(evalResult.getPolicy()))
-                                .findFirst()
-                                .orElse(null);
-                if (Objects.nonNull(failedUserPolicy)) {
-                    errMsg =
-                            String.format(
-                                    errMsg
-                                            + "\n Failed by the user policy with id: %s."
-                                            + "\n Deployment plan: %s",
-                                    failedUserPolicy.getUserPolicyId(),
-                                    planJson);
-                } else {
-                    errMsg =
-                            String.format(
-                                    errMsg
-                                            + "\n Failed by the user policy with context: %s."
-                                            + "\nDeployment plan: %s",
-                                    evalResult.getPolicy(),
-                                    planJson);
-                }
-                log.error(errMsg);
-                throw new PoliciesEvaluationFailedException(errMsg);
-            } else {
-                log.info("Evaluate deployment plan with user policies successful.");
-            }
+    private String getEvaluationFailedMessage(
+            String failedPolicy,
+            List<CachedPolicy> servicePolicies,
+            List<CachedPolicy> userPolicies,
+            String planJson) {
+        CachedPolicy failedServicePolicy = findPolicy(servicePolicies, failedPolicy);
+        if (Objects.nonNull(failedServicePolicy)) {
+            return String.format(
+                    "Evaluate deployment plan with service policies failed."
+                            + "\n Failed by the service policy with id: %s."
+                            + "\n Deployment plan: %s",
+                    failedServicePolicy.policyId(), planJson);
         }
+        CachedPolicy failedUserPolicy = findPolicy(userPolicies, failedPolicy);
+        if (Objects.nonNull(failedUserPolicy)) {
+            return String.format(
+                    "Evaluate deployment plan with user policies failed."
+                            + "\n Failed by the user policy with id: %s."
+                            + "\n Deployment plan: %s",
+                    failedUserPolicy.policyId(), planJson);
+        }
+        return String.format(
+                "Evaluate deployment plan with policies failed."
+                        + "\n Failed by the policy with context: %s."
+                        + "\nDeployment plan: %s",
+                failedPolicy, planJson);
+    }
+
+    private CachedPolicy findPolicy(List<CachedPolicy> policies, String policy) {
+        return policies.stream()
+                .filter(cachedPolicy -> StringUtils.equals(cachedPolicy.policy(), policy))
+                .findFirst()
+                .orElse(null);
     }
 }
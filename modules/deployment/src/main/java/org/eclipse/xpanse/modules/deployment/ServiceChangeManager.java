@@ -26,6 +26,7 @@ import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestQue
 import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestStorage;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
 import org.eclipse.xpanse.modules.database.utils.EntityTranslationUtils;
+import org.eclipse.xpanse.modules.deployment.polling.PendingServiceChangeRequestIndex;
 import org.eclipse.xpanse.modules.models.response.ErrorResponse;
 import org.eclipse.xpanse.modules.models.response.ErrorType;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
@@ -34,6 +35,7 @@ import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
 import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
 import org.eclipse.xpanse.modules.models.servicechange.AnsibleHostInfo;
 import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeRequest;
+import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeRequestsQueuedEvent;
 import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeResult;
 import org.eclipse.xpanse.modules.models.servicechange.enums.ServiceChangeStatus;
 import org.eclipse.xpanse.modules.models.servicechange.exceptions.ServiceChangeRequestEntityNotFoundException;
@@ -41,6 +43,7 @@ import org.eclipse.xpanse.modules.models.serviceconfiguration.exceptions.Service
 import org.eclipse.xpanse.modules.models.servicetemplate.AnsibleScriptConfig;
 import org.eclipse.xpanse.modules.models.servicetemplate.ServiceChangeScript;
 import org.hibernate.exception.LockTimeoutException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -63,15 +66,55 @@ public class ServiceChangeManager {
     @Resource private ServiceActionManager serviceActionManager;
     @Resource private ServiceObjectManager serviceObjectManager;
     @Resource private ServiceDeploymentEntityHandler serviceDeploymentEntityHandler;
+    @Resource private PendingServiceChangeRequestIndex pendingServiceChangeRequestIndex;
+    @Resource private ApplicationEventPublisher applicationEventPublisher;
 
-    /** returns the oldest pending request for a specific resource of the service. */
+    /**
+     * returns the oldest pending request for a specific resource of the service. When the queued
+     * requests are not relayed between the nodes, the database is queried even if the index has no
+     * pending requests of the resource, as requests queued on other nodes are added to the index
+     * only when it is reloaded.
+     */
     @Transactional
     public ResponseEntity<ServiceChangeRequest> getPendingServiceChangeRequest(
             UUID serviceId, String resourceName) {
+        if (pendingServiceChangeRequestIndex.isRelayedBetweenNodes()) {
+            return getIndexedPendingServiceChangeRequest(serviceId, resourceName);
+        }
+        Long pendingGeneration =
+                pendingServiceChangeRequestIndex.getPendingGeneration(serviceId, resourceName);
+        return claimPendingServiceChangeRequest(
+                serviceId,
+                resourceName,
+                Objects.nonNull(pendingGeneration)
+                        ? pendingGeneration
+                        : PendingServiceChangeRequestIndex.UNKNOWN_GENERATION);
+    }
+
+    /**
+     * returns the oldest pending request for a specific resource of the service. The database is
+     * queried only when the resource may have pending requests according to the index, used by the
+     * agents waiting to be woken up when requests are queued.
+     */
+    @Transactional
+    public ResponseEntity<ServiceChangeRequest> getIndexedPendingServiceChangeRequest(
+            UUID serviceId, String resourceName) {
+        Long pendingGeneration =
+                pendingServiceChangeRequestIndex.getPendingGeneration(serviceId, resourceName);
+        if (Objects.isNull(pendingGeneration)) {
+            return ResponseEntity.status(HttpStatus.NO_CONTENT).body(null);
+        }
+        return claimPendingServiceChangeRequest(serviceId, resourceName, pendingGeneration);
+    }
+
+    private ResponseEntity<ServiceChangeRequest> claimPendingServiceChangeRequest(
+            UUID serviceId, String resourceName, long pendingGeneration) {
         try {
             ServiceChangeRequestEntity oldestRequest =
                     getOldestPendingServiceChangeRequest(serviceId, resourceName);
             if (Objects.isNull(oldestRequest)) {
+                pendingServiceChangeRequestIndex.clearPending(
+                        serviceId, resourceName, pendingGeneration);
                 return ResponseEntity.status(HttpStatus.NO_CONTENT).body(null);
             }
             List<DeployResource> deployResources =
@@ -94,6 +137,29 @@ public class ServiceChangeManager {
         }
     }
 
+    /**
+     * Put the claimed service change request back to pending when it could not be delivered to the
+     * agent, for example because the agent disconnected or its wait time ended in the meantime.
+     *
+     * @param changeId id of the service change request.
+     */
+    @Transactional
+    public void returnServiceChangeRequestToPending(UUID changeId) {
+        ServiceChangeRequestEntity request = serviceChangeRequestStorage.findById(changeId);
+        if (ServiceChangeStatus.PROCESSING != request.getStatus()) {
+            return;
+        }
+        request.setStatus(ServiceChangeStatus.PENDING);
+        request.setLastModifiedTime(OffsetDateTime.now());
+        serviceChangeRequestStorage.storeAndFlush(request);
+        log.info("Service change request {} is put back to pending.", changeId);
+        // the next poll of the agent claims the request again.
+        applicationEventPublisher.publishEvent(
+                new ServiceChangeRequestsQueuedEvent(
+                        request.getServiceDeploymentEntity().getId(),
+                        List.of(request.getResourceName())));
+    }
+
     private ServiceChangeRequestEntity getOldestPendingServiceChangeRequest(
             UUID serviceId, String resourceName) {
         ServiceChangeRequestQueryModel model =
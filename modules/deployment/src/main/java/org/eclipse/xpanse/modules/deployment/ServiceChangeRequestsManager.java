@@ -27,9 +27,11 @@ import org.eclipse.xpanse.modules.models.service.enums.Handler;
 import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
 import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
 import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeOrderDetails;
+import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeRequestsQueuedEvent;
 import org.eclipse.xpanse.modules.models.servicechange.enums.ServiceChangeStatus;
 import org.eclipse.xpanse.modules.models.servicechange.exceptions.ServiceChangeRequestEntityNotFoundException;
 import org.eclipse.xpanse.modules.models.servicetemplate.ServiceChangeScript;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
@@ -42,6 +44,8 @@ public class ServiceChangeRequestsManager {
 
     @Resource private ServiceOrderManager serviceOrderManager;
 
+    @Resource private ApplicationEventPublisher applicationEventPublisher;
+
     /**
      * creates one service order and then one or more service change requests in database depending
      * on the service template configuration and the changes requested by the user. The method also
@@ -112,6 +116,14 @@ public class ServiceChangeRequestsManager {
                                 }));
         if (!requests.isEmpty()) {
             serviceChangeRequestStorage.saveAll(requests);
+            // waiting agents are woken up once the requests are committed.
+            applicationEventPublisher.publishEvent(
+                    new ServiceChangeRequestsQueuedEvent(
+                            serviceDeploymentEntity.getId(),
+                            requests.stream()
+                                    .map(ServiceChangeRequestEntity::getResourceName)
+                                    .distinct()
+                                    .toList()));
         } else {
             // if no requests were created, then the order is completed as failed.
             serviceOrderManager.completeOrderProgress(
@@ -14,16 +14,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentSummary;
 import org.eclipse.xpanse.modules.database.service.ServiceQueryModel;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
 import org.eclipse.xpanse.modules.database.utils.EntityTranslationUtils;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.common.enums.UserOperation;
+import org.eclipse.xpanse.modules.models.common.pagination.CursorPage;
+import org.eclipse.xpanse.modules.models.common.pagination.CursorPageRequest;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.ServiceDetailsNotAccessible;
 import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
 import org.eclipse.xpanse.modules.models.service.view.DeployedService;
@@ -49,6 +54,7 @@ public class ServiceDetailsViewManager {
     @Resource private ServiceDeploymentStorage serviceDeploymentStorage;
     @Resource private ServiceResultReFetchManager serviceResultReFetchManager;
     @Resource private SensitiveDataHandler sensitiveDataHandler;
+    @Resource private ServiceTemplateStorage serviceTemplateStorage;
 
     /**
      * Get deploy service detail by id.
@@ -89,34 +95,20 @@ public class ServiceDetailsViewManager {
      * @param serviceName of the services to be filtered.
      * @param serviceVersion of the services to be filtered.
      * @param state of the services to be filtered.
-     * @return serviceVos
+     * @param pageRequest request of the page.
+     * @return page of serviceVos
      */
-    public List<DeployedService> listDeployedServices(
+    public CursorPage<DeployedService> listDeployedServices(
             Category category,
             Csp csp,
             String serviceName,
             String serviceVersion,
-            ServiceDeploymentState state) {
-        List<ServiceDeploymentEntity> serviceDeploymentEntities =
-                queryServiceDeploymentEntities(category, csp, serviceName, serviceVersion, state);
-        return setServiceConfigurationForDeployedServiceList(serviceDeploymentEntities);
-    }
-
-    private List<ServiceDeploymentEntity> queryServiceDeploymentEntities(
-            Category category,
-            Csp csp,
-            String serviceName,
-            String serviceVersion,
-            ServiceDeploymentState state) {
+            ServiceDeploymentState state,
+            CursorPageRequest pageRequest) {
         ServiceQueryModel query =
                 getServiceQueryModel(category, csp, serviceName, serviceVersion, state);
-        String currentUserId = userServiceHelper.getCurrentUserId();
-        query.setUserId(currentUserId);
-        List<ServiceDeploymentEntity> serviceDeploymentEntities =
-                serviceDeploymentStorage.listServices(query);
-        serviceResultReFetchManager.batchReFetchDeploymentStateForMissingOrdersFromDeployers(
-                serviceDeploymentEntities);
-        return serviceDeploymentEntities;
+        query.setUserId(userServiceHelper.getCurrentUserId());
+        return listDeployedServiceSummaries(query, pageRequest);
     }
 
     /**
@@ -126,29 +118,31 @@ public class ServiceDetailsViewManager {
      * @param csp of the services to be filtered.
      * @param serviceName of the services to be filtered.
      * @param serviceVersion of the services to be filtered.
-     * @return serviceVos
+     * @param pageRequest request of the page.
+     * @return page of serviceVos
      */
-    public List<DeployedService> listDeployedServicesDetails(
+    public CursorPage<DeployedService> listDeployedServicesDetails(
             Category category,
             Csp csp,
             String serviceName,
             String serviceVersion,
-            ServiceDeploymentState serviceState) {
+            ServiceDeploymentState serviceState,
+            CursorPageRequest pageRequest) {
+        ServiceQueryModel query =
+                getServiceQueryModel(category, csp, serviceName, serviceVersion, serviceState);
+        query.setUserId(userServiceHelper.getCurrentUserId());
+        CursorPage<ServiceDeploymentEntity> services =
+                serviceDeploymentStorage.listServices(query, pageRequest);
         List<DeployedService> servicesDetails = new ArrayList<>();
-        List<ServiceDeploymentEntity> services =
-                queryServiceDeploymentEntities(
-                        category, csp, serviceName, serviceVersion, serviceState);
-        if (!CollectionUtils.isEmpty(services)) {
-            for (ServiceDeploymentEntity serviceDeployment : services) {
-                if (serviceDeployment.getServiceHostingType()
-                        == ServiceHostingType.SERVICE_VENDOR) {
-                    servicesDetails.add(getVendorHostedServiceDetails(serviceDeployment));
-                } else {
-                    servicesDetails.add(getSelfHostedServiceDetails(serviceDeployment));
-                }
+        for (ServiceDeploymentEntity serviceDeployment : services.getItems()) {
+            if (serviceDeployment.getServiceHostingType() == ServiceHostingType.SERVICE_VENDOR) {
+                servicesDetails.add(getVendorHostedServiceDetails(serviceDeployment));
+            } else {
+                servicesDetails.add(getSelfHostedServiceDetails(serviceDeployment));
             }
         }
-        return servicesDetails;
+        return new CursorPage<>(
+                servicesDetails, services.getNextCursor(), services.getTotalCount());
     }
 
     /**
@@ -241,23 +235,22 @@ public class ServiceDetailsViewManager {
      * @param serviceName of the services to be filtered.
      * @param serviceVersion of the services to be filtered.
      * @param state of the services to be filtered.
-     * @return serviceVos
+     * @param pageRequest request of the page.
+     * @return page of serviceVos
      */
-    public List<DeployedService> getAllDeployedServicesByIsv(
+    public CursorPage<DeployedService> getAllDeployedServicesByIsv(
             Category category,
             Csp csp,
             String serviceName,
             String serviceVersion,
-            ServiceDeploymentState state) {
+            ServiceDeploymentState state,
+            CursorPageRequest pageRequest) {
 
         ServiceQueryModel query =
                 getServiceQueryModel(category, csp, serviceName, serviceVersion, state);
         String isv = userServiceHelper.getIsvManagedByCurrentUser();
         query.setServiceVendor(isv);
-        List<ServiceDeploymentEntity> deployServices = serviceDeploymentStorage.listServices(query);
-        serviceResultReFetchManager.batchReFetchDeploymentStateForMissingOrdersFromDeployers(
-                deployServices);
-        return setServiceConfigurationForDeployedServiceList(deployServices);
+        return listDeployedServiceSummaries(query, pageRequest);
     }
 
     /**
@@ -267,40 +260,57 @@ public class ServiceDetailsViewManager {
      * @param serviceName of the services to be filtered.
      * @param serviceVersion of the services to be filtered.
      * @param state of the services to be filtered.
-     * @return serviceVos
+     * @param pageRequest request of the page.
+     * @return page of serviceVos
      */
-    public List<DeployedService> getAllDeployedServicesByCsp(
+    public CursorPage<DeployedService> getAllDeployedServicesByCsp(
             Category category,
             String serviceName,
             String serviceVersion,
-            ServiceDeploymentState state) {
+            ServiceDeploymentState state,
+            CursorPageRequest pageRequest) {
         Csp csp = userServiceHelper.getCspManagedByCurrentUser();
         ServiceQueryModel query =
                 getServiceQueryModel(category, csp, serviceName, serviceVersion, state);
-        List<ServiceDeploymentEntity> deployServices = serviceDeploymentStorage.listServices(query);
-        serviceResultReFetchManager.batchReFetchDeploymentStateForMissingOrdersFromDeployers(
-                deployServices);
-        return setServiceConfigurationForDeployedServiceList(deployServices);
+        return listDeployedServiceSummaries(query, pageRequest);
     }
 
-    private List<DeployedService> setServiceConfigurationForDeployedServiceList(
-            List<ServiceDeploymentEntity> deployServices) {
-        return deployServices.stream()
-                .map(
-                        serviceDeployment -> {
-                            DeployedService deployedService =
-                                    EntityTranslationUtils.convertToDeployedService(
-                                            serviceDeployment);
-                            if (Objects.nonNull(deployedService)) {
-                                ServiceTemplateEntity serviceTemplate =
-                                        serviceDeployment.getServiceTemplateEntity();
-                                setServiceConfigurationDetailsForDeployedService(
-                                        deployedService, serviceTemplate);
-                                handleSensitiveDataInDetails(deployedService, serviceTemplate);
-                            }
-                            return deployedService;
-                        })
-                .toList();
+    /**
+     * Lists the services with the summaries of the service deployments. The input properties and
+     * the service templates are loaded with one query each for the whole page. The missing results
+     * of orders in progress are re-fetched by the ServiceOrderResultReFetchSweeper.
+     */
+    private CursorPage<DeployedService> listDeployedServiceSummaries(
+            ServiceQueryModel query, CursorPageRequest pageRequest) {
+        CursorPage<ServiceDeploymentSummary> summaries =
+                serviceDeploymentStorage.listServiceSummaries(query, pageRequest);
+        Map<UUID, Map<String, String>> inputProperties =
+                serviceDeploymentStorage.getInputPropertiesOfServices(
+                        summaries.getItems().stream()
+                                .map(ServiceDeploymentSummary::getId)
+                                .toList());
+        Map<UUID, ServiceTemplateEntity> serviceTemplates =
+                serviceTemplateStorage.getServiceTemplatesByIds(
+                        summaries.getItems().stream()
+                                .map(ServiceDeploymentSummary::getServiceTemplateId)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.toSet()));
+        List<DeployedService> deployedServices = new ArrayList<>();
+        for (ServiceDeploymentSummary summary : summaries.getItems()) {
+            DeployedService deployedService =
+                    EntityTranslationUtils.convertToDeployedService(
+                            summary, inputProperties.get(summary.getId()));
+            // fails as before for templates which are not registered.
+            ServiceTemplateEntity serviceTemplate =
+                    serviceTemplates.computeIfAbsent(
+                            summary.getServiceTemplateId(),
+                            id -> serviceTemplateStorage.getServiceTemplateById(id));
+            setServiceConfigurationDetailsForDeployedService(deployedService, serviceTemplate);
+            handleSensitiveDataInDetails(deployedService, serviceTemplate);
+            deployedServices.add(deployedService);
+        }
+        return new CursorPage<>(
+                deployedServices, summaries.getNextCursor(), summaries.getTotalCount());
     }
 
     private void setServiceConfigurationDetailsForDeployedService(
@@ -6,21 +6,22 @@
 
 package org.eclipse.xpanse.modules.deployment;
 
-import static org.eclipse.xpanse.modules.async.TaskConfiguration.ASYNC_EXECUTOR_NAME;
 import static org.eclipse.xpanse.modules.security.auth.common.RoleConstants.ROLE_ADMIN;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.Resource;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
@@ -44,12 +45,15 @@ import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /** Bean to manage service order tasks. */
 @Slf4j
 @Component
 public class ServiceOrderManager {
 
+    private static final String DEPLOYMENT_PLAN_KEY = "Deployment Plan";
+
     private final ObjectMapper objectMapper =
             new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
     @Resource private ServiceOrderStorage serviceOrderStorage;
@@ -57,9 +61,6 @@ public class ServiceOrderManager {
     @Resource private UserServiceHelper userServiceHelper;
     @Resource private ServiceOrderStatusChangePolling serviceOrderStatusChangePolling;
 
-    @Resource(name = ASYNC_EXECUTOR_NAME)
-    private Executor taskExecutor;
-
     /**
      * Create service order entity and store into the database.
      *
@@ -68,6 +69,43 @@ public class ServiceOrderManager {
      */
     public ServiceOrderEntity storeNewServiceOrderEntity(
             DeployTask task, ServiceDeploymentEntity serviceDeploymentEntity, Handler handler) {
+        ServiceOrderEntity orderTask =
+                serviceOrderStorage.storeAndFlush(
+                        getNewServiceOrderEntity(task, serviceDeploymentEntity, handler));
+        MdcUtils.putServiceIdAndOrderId(
+                serviceDeploymentEntity.getId().toString(), orderTask.getOrderId().toString());
+        task.setOrderId(orderTask.getOrderId());
+        task.setServiceId(serviceDeploymentEntity.getId());
+        return orderTask;
+    }
+
+    /**
+     * Create and store the new orders of a bulk service operation in one batch.
+     *
+     * @param bulkOrders orders of the bulk service operation.
+     */
+    void storeNewServiceOrderEntities(List<BulkServiceOrder> bulkOrders) {
+        List<ServiceOrderEntity> orderEntities =
+                serviceOrderStorage.storeAllAndFlush(
+                        bulkOrders.stream()
+                                .map(
+                                        bulkOrder ->
+                                                getNewServiceOrderEntity(
+                                                        bulkOrder.getTask(),
+                                                        bulkOrder.getService(),
+                                                        bulkOrder.getHandler()))
+                                .toList());
+        for (int i = 0; i < bulkOrders.size(); i++) {
+            BulkServiceOrder bulkOrder = bulkOrders.get(i);
+            ServiceOrderEntity orderEntity = orderEntities.get(i);
+            bulkOrder.setOrderEntity(orderEntity);
+            bulkOrder.getTask().setOrderId(orderEntity.getOrderId());
+            bulkOrder.getTask().setServiceId(bulkOrder.getService().getId());
+        }
+    }
+
+    private ServiceOrderEntity getNewServiceOrderEntity(
+            DeployTask task, ServiceDeploymentEntity serviceDeploymentEntity, Handler handler) {
         ServiceOrderEntity orderTask = new ServiceOrderEntity();
         orderTask.setParentOrderId(task.getParentOrderId());
         orderTask.setTaskType(task.getTaskType());
@@ -75,15 +113,11 @@ public class ServiceOrderManager {
         orderTask.setServiceDeploymentEntity(serviceDeploymentEntity);
         orderTask.setOriginalServiceId(task.getOriginalServiceId());
         orderTask.setWorkflowId(task.getWorkflowId());
+        orderTask.setBatchId(task.getBatchId());
         orderTask.setOrderStatus(OrderStatus.CREATED);
         orderTask.setStartedTime(OffsetDateTime.now());
         orderTask.setRequestBody(getRequestBody(task.getRequest()));
         orderTask.setHandler(handler);
-        orderTask = serviceOrderStorage.storeAndFlush(orderTask);
-        MdcUtils.putServiceIdAndOrderId(
-                serviceDeploymentEntity.getId().toString(), orderTask.getOrderId().toString());
-        task.setOrderId(orderTask.getOrderId());
-        task.setServiceId(serviceDeploymentEntity.getId());
         return orderTask;
     }
 
@@ -182,7 +216,7 @@ public class ServiceOrderManager {
             serviceOrder.setErrorResponse(errorResponse);
         }
         serviceOrder.setCompletedTime(OffsetDateTime.now());
-        serviceOrder.setResultProperties(getResultProperties(deployResult));
+        serviceOrder.setResultProperties(getResultProperties(serviceOrder, deployResult));
         serviceOrderStorage.storeAndFlush(serviceOrder);
     }
 
@@ -194,7 +228,7 @@ public class ServiceOrderManager {
      */
     public void updateOrderWithDeployResult(
             ServiceOrderEntity serviceOrder, DeployResult deployResult) {
-        serviceOrder.setResultProperties(getResultProperties(deployResult));
+        serviceOrder.setResultProperties(getResultProperties(serviceOrder, deployResult));
         serviceOrderStorage.storeAndFlush(serviceOrder);
     }
 
@@ -222,6 +256,28 @@ public class ServiceOrderManager {
                 .toList();
     }
 
+    /**
+     * List the service orders of a batch of bulk service operations.
+     *
+     * @param batchId id of the batch.
+     * @return orders of the batch which the current user can view.
+     */
+    public List<ServiceOrderDetails> listServiceOrdersOfBatch(UUID batchId) {
+        ServiceOrderEntity query = new ServiceOrderEntity();
+        query.setBatchId(batchId);
+        List<ServiceOrderEntity> orderEntities = serviceOrderStorage.queryEntities(query);
+        if (!userServiceHelper.currentUserHasRole(ROLE_ADMIN)) {
+            String currentUserId = userServiceHelper.getCurrentUserId();
+            orderEntities =
+                    orderEntities.stream()
+                            .filter(order -> StringUtils.equals(currentUserId, order.getUserId()))
+                            .toList();
+        }
+        return orderEntities.stream()
+                .map(EntityTranslationUtils::transToServiceOrderDetails)
+                .toList();
+    }
+
     /**
      * Get the task status update of the service order.
      *
@@ -232,18 +288,22 @@ public class ServiceOrderManager {
     public DeferredResult<ServiceOrderStatusUpdate> getLatestServiceOrderStatus(
             UUID orderId, OrderStatus lastKnownOrderStatus) {
         DeferredResult<ServiceOrderStatusUpdate> stateDeferredResult = new DeferredResult<>();
-        taskExecutor.execute(
-                () -> {
-                    try {
-                        this.serviceOrderStatusChangePolling.fetchServiceOrderStatusWithPolling(
-                                stateDeferredResult, orderId, lastKnownOrderStatus);
-                    } catch (Exception exception) {
-                        stateDeferredResult.setErrorResult(exception);
-                    }
-                });
+        // the result is completed by the order status change events without blocking threads.
+        this.serviceOrderStatusChangePolling.fetchServiceOrderStatusWithPolling(
+                stateDeferredResult, orderId, lastKnownOrderStatus);
         return stateDeferredResult;
     }
 
+    /**
+     * Stream the task status updates of the service order.
+     *
+     * @param orderId id of the service order.
+     * @return emitter of the service order status updates.
+     */
+    public SseEmitter streamServiceOrderStatus(UUID orderId) {
+        return this.serviceOrderStatusChangePolling.streamServiceOrderStatus(orderId);
+    }
+
     /**
      * Delete the service orders by the service id.
      *
@@ -336,10 +396,57 @@ public class ServiceOrderManager {
         }
     }
 
-    private Map<String, Object> getResultProperties(DeployResult deployResult) {
+    /**
+     * Store the summary of the deployment plan which was evaluated for the order. Only the resource
+     * changes are stored, the plan itself contains the values of the input variables.
+     *
+     * @param serviceOrder service order entity.
+     * @param planJson deployment plan as json.
+     */
+    public void storeDeploymentPlan(ServiceOrderEntity serviceOrder, String planJson) {
+        if (StringUtils.isBlank(planJson)) {
+            return;
+        }
+        List<Map<String, Object>> resourceChanges = new ArrayList<>();
+        try {
+            for (JsonNode resourceChange :
+                    objectMapper.readTree(planJson).path("resource_changes")) {
+                Map<String, Object> change = new HashMap<>();
+                change.put("address", resourceChange.path("address").asText());
+                change.put("type", resourceChange.path("type").asText());
+                List<String> actions = new ArrayList<>();
+                resourceChange
+                        .path("change")
+                        .path("actions")
+                        .forEach(action -> actions.add(action.asText()));
+                change.put("actions", actions);
+                resourceChanges.add(change);
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Reading deployment plan of order {} failed.", serviceOrder.getOrderId(), e);
+            return;
+        }
+        Map<String, Object> resultProperties =
+                Objects.nonNull(serviceOrder.getResultProperties())
+                        ? new HashMap<>(serviceOrder.getResultProperties())
+                        : new HashMap<>();
+        resultProperties.put(DEPLOYMENT_PLAN_KEY, Map.of("resource_changes", resourceChanges));
+        serviceOrder.setResultProperties(resultProperties);
+        serviceOrderStorage.storeAndFlush(serviceOrder);
+    }
+
+    private Map<String, Object> getResultProperties(
+            ServiceOrderEntity serviceOrder, DeployResult deployResult) {
         Map<String, Object> resultProperties = new HashMap<>();
         resultProperties.put("Output Properties", deployResult.getOutputProperties());
         resultProperties.put("Deployed Resources", deployResult.getResources());
+        // keep the plan which was stored when the order was started.
+        if (Objects.nonNull(serviceOrder.getResultProperties())
+                && serviceOrder.getResultProperties().containsKey(DEPLOYMENT_PLAN_KEY)) {
+            resultProperties.put(
+                    DEPLOYMENT_PLAN_KEY,
+                    serviceOrder.getResultProperties().get(DEPLOYMENT_PLAN_KEY));
+        }
         return resultProperties;
     }
 }
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment;
+
+import static org.eclipse.xpanse.modules.async.TaskConfiguration.ASYNC_EXECUTOR_NAME;
+
+import jakarta.annotation.Resource;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
+import org.eclipse.xpanse.modules.deployment.cluster.ClusterLeaseManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to re-fetch the results of the orders which are in progress for longer than the maximum
+ * processing duration. The orders are found with one indexed query per page and shared among the
+ * nodes of the cluster by the hash of their order ids. The orders of each page are re-fetched in
+ * batches, and only a limited number of batches is re-fetched at the same time.
+ */
+@Slf4j
+@Component
+public class ServiceOrderResultReFetchSweeper {
+
+    @Resource private ServiceOrderStorage serviceOrderStorage;
+    @Resource private ServiceResultReFetchManager serviceResultReFetchManager;
+    @Resource private ClusterLeaseManager clusterLeaseManager;
+
+    @Resource(name = ASYNC_EXECUTOR_NAME)
+    private Executor taskExecutor;
+
+    @Value("${max.service.order.processing.duration.in.seconds}")
+    private int maxServiceOrderProcessingDuration;
+
+    @Value("${service.order.refetch.sweeper.page.size:200}")
+    private int pageSize;
+
+    @Value("${service.order.refetch.sweeper.batch.size:20}")
+    private int batchSize;
+
+    @Value("${service.order.refetch.sweeper.max.concurrency:4}")
+    private int maxConcurrency;
+
+    /** Sweep the stuck orders, the next sweep starts after the previous one is finished. */
+    @Scheduled(
+            initialDelayString = "${service.order.refetch.sweeper.interval.in.seconds:60}",
+            fixedDelayString = "${service.order.refetch.sweeper.interval.in.seconds:60}",
+            timeUnit = TimeUnit.SECONDS)
+    public void sweepStuckOrders() {
+        OffsetDateTime startedBefore =
+                OffsetDateTime.now().minusSeconds(maxServiceOrderProcessingDuration);
+        int stuckOrders = 0;
+        int assignedOrders = 0;
+        ServiceOrderEntity lastOrder = null;
+        List<ServiceOrderEntity> page;
+        do {
+            page =
+                    serviceOrderStorage.listInProgressOrdersStartedBefore(
+                            startedBefore,
+                            ServiceResultReFetchManager.RE_FETCHABLE_HANDLERS,
+                            lastOrder,
+                            pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            lastOrder = page.getLast();
+            List<ServiceOrderEntity> assigned =
+                    page.stream()
+                            .filter(
+                                    order ->
+                                            clusterLeaseManager.isAssignedToCurrentNode(
+                                                    order.getOrderId()))
+                            .toList();
+            stuckOrders += page.size();
+            assignedOrders += assigned.size();
+            reFetchResultsOfOrders(assigned);
+        } while (page.size() == pageSize);
+        if (stuckOrders > 0) {
+            log.info(
+                    "Swept {} stuck orders, re-fetched results of {} orders assigned to node {}.",
+                    stuckOrders,
+                    assignedOrders,
+                    clusterLeaseManager.getNodeId());
+        }
+    }
+
+    /**
+     * Re-fetch the results of the orders of a page in batches with bounded parallelism, and wait
+     * until all batches are finished before the next page is loaded.
+     */
+    private void reFetchResultsOfOrders(List<ServiceOrderEntity> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        Queue<List<ServiceOrderEntity>> batches = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < orders.size(); i += batchSize) {
+            batches.add(orders.subList(i, Math.min(i + batchSize, orders.size())));
+        }
+        int lanes = Math.max(1, Math.min(maxConcurrency, batches.size()));
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < lanes; i++) {
+            futures.add(
+                    CompletableFuture.runAsync(
+                            () -> {
+                                List<ServiceOrderEntity> batch;
+                                while (Objects.nonNull(batch = batches.poll())) {
+                                    reFetchResultsOfBatch(batch);
+                                }
+                            },
+                            taskExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    private void reFetchResultsOfBatch(List<ServiceOrderEntity> batch) {
+        try {
+            serviceResultReFetchManager.batchReFetchResultsOfOrdersFromDeployers(batch);
+        } catch (RuntimeException e) {
+            log.error("Failed to re-fetch results of {} orders. {}", batch.size(), e.getMessage());
+        }
+    }
+}
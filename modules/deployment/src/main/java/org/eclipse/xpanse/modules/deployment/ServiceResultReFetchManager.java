@@ -15,28 +15,44 @@ import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
+import org.eclipse.xpanse.modules.deployment.cluster.ClusterLeaseManager;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.TofuMakerResultReFetchManager;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraboot.TerraBootResultReFetchManager;
+import org.eclipse.xpanse.modules.models.service.enums.Handler;
 import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
 import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
 import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
 import org.eclipse.xpanse.modules.models.service.order.exceptions.ServiceOrderNotFound;
-import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
-/** Bean to manage all methods used by the service operation result re-fetch manager. */
+/**
+ * Bean to manage all methods used by the service operation result re-fetch manager. The result of
+ * an order is re-fetched only by the node which holds the re-fetch lease of the order, so the nodes
+ * of a cluster don't re-fetch the same order at the same time.
+ */
 @Slf4j
 @Component
 public class ServiceResultReFetchManager {
 
+    /** Handlers of the orders whose results can be re-fetched from the deployers. */
+    public static final List<Handler> RE_FETCHABLE_HANDLERS =
+            List.of(Handler.TERRA_BOOT, Handler.TOFU_MAKER);
+
+    private static final String REFETCH_LEASE_PREFIX = "service-order-refetch:";
+
     @Value("${max.service.order.processing.duration.in.seconds}")
     private int maxServiceOrderProcessingDuration;
 
+    @Value("${cluster.lease.refetch.duration.in.seconds:60}")
+    private long refetchLeaseDurationInSeconds;
+
     @Resource private TerraBootResultReFetchManager terraBootResultRefetchManager;
     @Resource private TofuMakerResultReFetchManager tofuMakerResultRefetchManager;
+    @Resource private ClusterLeaseManager clusterLeaseManager;
+    @Resource private ServiceOrderStorage serviceOrderStorage;
 
     /** ReFetch deploymentState for missing service orders. */
     public void reFetchDeploymentStateForMissingOrdersFromDeployers(
@@ -47,13 +63,12 @@ public class ServiceResultReFetchManager {
             if (Objects.isNull(serviceOrderEntity)) {
                 return;
             }
-            DeployerKind deployerKind =
-                    getDeployerKind(serviceOrderEntity.getServiceDeploymentEntity());
-            if (waitTimeExceedMaxServiceOrderProcessingDuration(serviceOrderEntity)) {
-                if (DeployerKind.TERRAFORM == deployerKind) {
+            if (waitTimeExceedMaxServiceOrderProcessingDuration(serviceOrderEntity)
+                    && tryAcquireReFetchLease(serviceOrderEntity)) {
+                if (Handler.TERRA_BOOT == serviceOrderEntity.getHandler()) {
                     terraBootResultRefetchManager.retrieveTerraformResult(serviceOrderEntity);
                 }
-                if (DeployerKind.OPEN_TOFU == deployerKind) {
+                if (Handler.TOFU_MAKER == serviceOrderEntity.getHandler()) {
                     tofuMakerResultRefetchManager.retrieveOpenTofuResult(serviceOrderEntity);
                 }
             }
@@ -63,96 +78,74 @@ public class ServiceResultReFetchManager {
     }
 
     /**
-     * Batch reFetch deploymentState for missing service orders.
+     * Batch reFetch the results of the in progress orders from the deployers. Orders whose re-fetch
+     * lease is held by another node are skipped.
      *
-     * @param serviceDeploymentEntities serviceDeploymentEntities.
+     * @param serviceOrders in progress orders handled by terra-boot or tofu-maker.
      */
-    public void batchReFetchDeploymentStateForMissingOrdersFromDeployers(
-            List<ServiceDeploymentEntity> serviceDeploymentEntities) {
-        List<ServiceOrderEntity> serviceOrders = new ArrayList<>();
-        serviceDeploymentEntities.forEach(
-                serviceDeploymentEntity -> {
-                    try {
-                        ServiceOrderEntity serviceOrderEntity =
-                                getServiceOrderEntityForDeployedService(serviceDeploymentEntity);
-                        if (Objects.nonNull(serviceOrderEntity)) {
-                            serviceOrders.add(serviceOrderEntity);
-                        }
-                    } catch (ServiceOrderNotFound e) {
-                        log.error(e.getMessage());
-                    }
-                });
-        batchFeFetchDeploymentStateForMissingOrdersFromDeployers(serviceOrders);
+    public void batchReFetchResultsOfOrdersFromDeployers(List<ServiceOrderEntity> serviceOrders) {
+        if (CollectionUtils.isEmpty(serviceOrders)) {
+            return;
+        }
+        List<ServiceOrderEntity> terraformServiceOrders = new ArrayList<>();
+        List<ServiceOrderEntity> tofuServiceOrders = new ArrayList<>();
+        for (ServiceOrderEntity serviceOrder : serviceOrders) {
+            if (!RE_FETCHABLE_HANDLERS.contains(serviceOrder.getHandler())
+                    || !tryAcquireReFetchLease(serviceOrder)) {
+                continue;
+            }
+            if (Handler.TERRA_BOOT == serviceOrder.getHandler()) {
+                terraformServiceOrders.add(serviceOrder);
+            } else {
+                tofuServiceOrders.add(serviceOrder);
+            }
+        }
+        if (!CollectionUtils.isEmpty(terraformServiceOrders)) {
+            terraBootResultRefetchManager.batchRetrieveTerraformResults(terraformServiceOrders);
+        }
+        if (!CollectionUtils.isEmpty(tofuServiceOrders)) {
+            tofuMakerResultRefetchManager.batchRetrieveOpenTofuResults(tofuServiceOrders);
+        }
     }
 
+    /**
+     * Find the in progress order of the service with one query, instead of loading all orders of
+     * the service.
+     */
     private ServiceOrderEntity getServiceOrderEntityForDeployedService(
             ServiceDeploymentEntity serviceDeployment) {
-        List<ServiceOrderEntity> serviceOrderEntities = serviceDeployment.getServiceOrders();
-        ServiceOrderEntity serviceOrderEntity = null;
-        if (serviceDeployment
-                .getServiceDeploymentState()
-                .equals(ServiceDeploymentState.DEPLOYING)) {
-            serviceOrderEntity =
-                    serviceOrderEntities.stream()
-                            .filter(
-                                    serviceOrder ->
-                                            serviceOrder.getTaskType() == ServiceOrderType.DEPLOY
-                                                    && serviceOrder.getOrderStatus()
-                                                            == OrderStatus.IN_PROGRESS)
-                            .findFirst()
-                            .orElseThrow(
-                                    () ->
-                                            new ServiceOrderNotFound(
-                                                    String.format(
-                                                            "No ServiceOrderEntity found with"
-                                                                + " serviceId %s, ServiceOrderType"
-                                                                + " DEPLOY",
-                                                            serviceDeployment.getId())));
-        } else if (serviceDeployment
-                .getServiceDeploymentState()
-                .equals(ServiceDeploymentState.DESTROYING)) {
-            serviceOrderEntity =
-                    serviceOrderEntities.stream()
-                            .filter(
-                                    serviceOrder ->
-                                            serviceOrder.getTaskType() == ServiceOrderType.DESTROY
-                                                    && serviceOrder.getOrderStatus()
-                                                            == OrderStatus.IN_PROGRESS)
-                            .findFirst()
-                            .orElseThrow(
-                                    () ->
-                                            new ServiceOrderNotFound(
-                                                    String.format(
-                                                            "No ServiceOrderEntity found with"
-                                                                + " serviceId %s, ServiceOrderType"
-                                                                + " DESTROY",
-                                                            serviceDeployment.getId())));
-        } else if (serviceDeployment
-                .getServiceDeploymentState()
-                .equals(ServiceDeploymentState.MODIFYING)) {
-            serviceOrderEntity =
-                    serviceOrderEntities.stream()
-                            .filter(
-                                    serviceOrder ->
-                                            serviceOrder.getTaskType() == ServiceOrderType.MODIFY
-                                                    && serviceOrder.getOrderStatus()
-                                                            == OrderStatus.IN_PROGRESS)
-                            .findFirst()
-                            .orElseThrow(
-                                    () ->
-                                            new ServiceOrderNotFound(
-                                                    String.format(
-                                                            "No ServiceOrderEntity found with"
-                                                                + " serviceId %s, ServiceOrderType"
-                                                                + " MODIFY",
-                                                            serviceDeployment.getId())));
+        ServiceOrderType taskType =
+                getTaskTypeOfServiceDeploymentState(serviceDeployment.getServiceDeploymentState());
+        if (Objects.isNull(taskType)) {
+            return null;
         }
-        return serviceOrderEntity;
+        ServiceDeploymentEntity serviceQuery = new ServiceDeploymentEntity();
+        serviceQuery.setId(serviceDeployment.getId());
+        ServiceOrderEntity query = new ServiceOrderEntity();
+        query.setServiceDeploymentEntity(serviceQuery);
+        query.setTaskType(taskType);
+        query.setOrderStatus(OrderStatus.IN_PROGRESS);
+        return serviceOrderStorage.queryEntities(query).stream()
+                .findFirst()
+                .orElseThrow(
+                        () ->
+                                new ServiceOrderNotFound(
+                                        String.format(
+                                                "No ServiceOrderEntity found with serviceId %s,"
+                                                        + " ServiceOrderType %s",
+                                                serviceDeployment.getId(), taskType.name())));
     }
 
-    private DeployerKind getDeployerKind(ServiceDeploymentEntity serviceDeployment) {
-        ServiceTemplateEntity serviceTemplate = serviceDeployment.getServiceTemplateEntity();
-        return serviceTemplate.getOcl().getDeployment().getDeployerTool().getKind();
+    private ServiceOrderType getTaskTypeOfServiceDeploymentState(
+            ServiceDeploymentState serviceDeploymentState) {
+        if (serviceDeploymentState == ServiceDeploymentState.DEPLOYING) {
+            return ServiceOrderType.DEPLOY;
+        } else if (serviceDeploymentState == ServiceDeploymentState.DESTROYING) {
+            return ServiceOrderType.DESTROY;
+        } else if (serviceDeploymentState == ServiceDeploymentState.MODIFYING) {
+            return ServiceOrderType.MODIFY;
+        }
+        return null;
     }
 
     private boolean waitTimeExceedMaxServiceOrderProcessingDuration(
@@ -161,29 +154,19 @@ public class ServiceResultReFetchManager {
                 > maxServiceOrderProcessingDuration;
     }
 
-    private void batchFeFetchDeploymentStateForMissingOrdersFromDeployers(
-            List<ServiceOrderEntity> serviceOrders) {
-        if (CollectionUtils.isEmpty(serviceOrders)) {
-            return;
-        }
-        List<ServiceOrderEntity> terraformServiceOrders = new ArrayList<>();
-        List<ServiceOrderEntity> tofuServiceOrders = new ArrayList<>();
-        for (ServiceOrderEntity serviceOrder : serviceOrders) {
-            if (waitTimeExceedMaxServiceOrderProcessingDuration(serviceOrder)) {
-                DeployerKind deployerKind =
-                        getDeployerKind(serviceOrder.getServiceDeploymentEntity());
-                if (DeployerKind.TERRAFORM == deployerKind) {
-                    terraformServiceOrders.add(serviceOrder);
-                } else if (DeployerKind.OPEN_TOFU == deployerKind) {
-                    tofuServiceOrders.add(serviceOrder);
-                }
-            }
-        }
-        if (!CollectionUtils.isEmpty(terraformServiceOrders)) {
-            terraBootResultRefetchManager.batchRetrieveTerraformResults(terraformServiceOrders);
-        }
-        if (!CollectionUtils.isEmpty(tofuServiceOrders)) {
-            tofuMakerResultRefetchManager.batchRetrieveOpenTofuResults(tofuServiceOrders);
+    /**
+     * The lease is kept until it expires, so other nodes skip the order for the lease duration
+     * instead of re-fetching it again.
+     */
+    private boolean tryAcquireReFetchLease(ServiceOrderEntity serviceOrder) {
+        boolean acquired =
+                clusterLeaseManager.tryAcquireLease(
+                        REFETCH_LEASE_PREFIX + serviceOrder.getOrderId(),
+                        Duration.ofSeconds(refetchLeaseDurationInSeconds));
+        if (!acquired) {
+            log.debug(
+                    "Result of order {} is re-fetched by another node.", serviceOrder.getOrderId());
         }
+        return acquired;
     }
 }
@@ -10,8 +10,11 @@ import static org.eclipse.xpanse.modules.async.TaskConfiguration.ASYNC_EXECUTOR_
 
 import jakarta.annotation.Resource;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.Executor;
@@ -36,6 +39,7 @@ import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
 import org.eclipse.xpanse.modules.orchestrator.PluginManager;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
 import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRequest;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageResult;
 import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
@@ -61,13 +65,122 @@ public class ServiceStateManager {
      * @return service order.
      */
     public ServiceOrder startService(UUID serviceId) {
-        ServiceOrderType taskType = ServiceOrderType.SERVICE_START;
-        ServiceDeploymentEntity service = getDeployedServiceAndValidateState(serviceId, taskType);
+        return manageServiceState(serviceId, ServiceOrderType.SERVICE_START);
+    }
+
+    /**
+     * Stop the service by the deployed service id.
+     *
+     * @param serviceId service id.
+     * @return service order.
+     */
+    public ServiceOrder stopService(UUID serviceId) {
+        return manageServiceState(serviceId, ServiceOrderType.SERVICE_STOP);
+    }
+
+    /**
+     * Restart the service by the deployed service id.
+     *
+     * @param serviceId service id.
+     * @return service order.
+     */
+    public ServiceOrder restartService(UUID serviceId) {
+        return manageServiceState(serviceId, ServiceOrderType.SERVICE_RESTART);
+    }
+
+    /**
+     * Manage the state of the services of a bulk service operation with one plugin call. The orders
+     * must be stored already. The results of the plugin are matched to the orders by the service
+     * id. Orders whose service got no result, also when the batch failed partway through, are
+     * completed as failed, so that no service or order is left in progress.
+     *
+     * @param taskType type of the orders.
+     * @param plugin plugin of the cloud service provider of the services.
+     * @param bulkOrders orders of the services.
+     */
+    void manageServicesState(
+            ServiceOrderType taskType,
+            OrchestratorPlugin plugin,
+            List<BulkServiceOrder> bulkOrders) {
+        List<ServiceOrderEntity> orderEntities = new ArrayList<>(bulkOrders.size());
+        Map<UUID, ServiceStateManageResult> resultsByServiceId = new HashMap<>();
+        String batchErrorMessage = null;
+        try {
+            for (BulkServiceOrder bulkOrder : bulkOrders) {
+                orderEntities.add(
+                        beginStateManagement(
+                                taskType, bulkOrder.getOrderEntity(), bulkOrder.getService()));
+            }
+            List<ServiceStateManageRequest> requests =
+                    bulkOrders.stream().map(BulkServiceOrder::getStateManageRequest).toList();
+            List<ServiceStateManageResult> results;
+            if (taskType == ServiceOrderType.SERVICE_START) {
+                results = plugin.startServices(requests);
+            } else if (taskType == ServiceOrderType.SERVICE_STOP) {
+                results = plugin.stopServices(requests);
+            } else {
+                results = plugin.restartServices(requests);
+            }
+            if (Objects.nonNull(results)) {
+                for (ServiceStateManageResult result : results) {
+                    if (Objects.nonNull(result) && Objects.nonNull(result.serviceId())) {
+                        resultsByServiceId.putIfAbsent(result.serviceId(), result);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            batchErrorMessage = e.getMessage();
+            log.error(
+                    "Manage state of {} services with order type {} failed. {}",
+                    bulkOrders.size(),
+                    taskType.toValue(),
+                    batchErrorMessage);
+        }
+        for (int i = 0; i < bulkOrders.size(); i++) {
+            BulkServiceOrder bulkOrder = bulkOrders.get(i);
+            ServiceOrderEntity orderEntity =
+                    i < orderEntities.size() ? orderEntities.get(i) : bulkOrder.getOrderEntity();
+            ServiceStateManageResult result =
+                    resultsByServiceId.get(bulkOrder.getService().getId());
+            try {
+                if (Objects.nonNull(result)) {
+                    completeStateManagement(
+                            taskType,
+                            orderEntity,
+                            bulkOrder.getService(),
+                            result.successful(),
+                            result.errorMessage());
+                } else {
+                    completeStateManagement(
+                            taskType,
+                            orderEntity,
+                            bulkOrder.getService(),
+                            false,
+                            Objects.nonNull(batchErrorMessage)
+                                    ? batchErrorMessage
+                                    : "No result of the state management of the service.");
+                }
+            } catch (Exception e) {
+                log.error(
+                        "Complete order {} of service {} failed. {}",
+                        orderEntity.getOrderId(),
+                        bulkOrder.getService().getId(),
+                        e.getMessage());
+            }
+        }
+    }
+
+    private ServiceOrder manageServiceState(UUID serviceId, ServiceOrderType taskType) {
+        ServiceDeploymentEntity service =
+                serviceDeploymentHandler.getServiceDeploymentEntity(serviceId);
+        validateServiceState(service, taskType);
         OrchestratorPlugin plugin = pluginManager.getOrchestratorPlugin(service.getCsp());
-        ServiceStateManageRequest startRequest = getServiceManagerRequest(service);
+        ServiceStateManageRequest request = getServiceManagerRequest(service);
         ServiceOrderEntity serviceOrderEntity = createNewManagementTask(taskType, service);
         taskExecutor.execute(
-                () -> asyncStartService(serviceOrderEntity, plugin, startRequest, service));
+                () ->
+                        asyncManageServiceState(
+                                taskType, serviceOrderEntity, plugin, request, service));
         ServiceOrder serviceOrder = new ServiceOrder();
         serviceOrder.setServiceId(serviceId);
         serviceOrder.setOrderId(serviceOrderEntity.getOrderId());
@@ -83,132 +196,77 @@ public class ServiceStateManager {
         return serviceOrderManager.storeNewServiceOrderEntity(deployTask, service, Handler.PLUGIN);
     }
 
-    private void asyncStartService(
+    private void asyncManageServiceState(
+            ServiceOrderType taskType,
             ServiceOrderEntity serviceOrderTaskEntity,
             OrchestratorPlugin plugin,
             ServiceStateManageRequest request,
             ServiceDeploymentEntity service) {
-        serviceOrderTaskEntity = serviceOrderManager.startOrderProgress(serviceOrderTaskEntity);
-        service.setServiceState(ServiceState.STARTING);
-        serviceDeploymentHandler.storeAndFlush(service);
+        serviceOrderTaskEntity = beginStateManagement(taskType, serviceOrderTaskEntity, service);
         boolean result = false;
+        String errorMessage = null;
         try {
-            result = plugin.startService(request);
+            if (taskType == ServiceOrderType.SERVICE_START) {
+                result = plugin.startService(request);
+            } else if (taskType == ServiceOrderType.SERVICE_STOP) {
+                result = plugin.stopService(request);
+            } else {
+                result = plugin.restartService(request);
+            }
         } catch (Exception e) {
-            serviceOrderTaskEntity.setErrorResponse(
-                    ErrorResponse.errorResponse(
-                            ErrorType.ASYNC_START_SERVICE_ERROR, List.of(e.getMessage())));
-        }
-        if (result) {
-            serviceOrderTaskEntity.setOrderStatus(OrderStatus.SUCCESSFUL);
-            service.setLastStartedAt(OffsetDateTime.now());
-            service.setServiceState(ServiceState.RUNNING);
-        } else {
-            serviceOrderTaskEntity.setOrderStatus(OrderStatus.FAILED);
-            service.setServiceState(ServiceState.STOPPED);
+            errorMessage = e.getMessage();
         }
-        serviceOrderManager.completeOrderProgress(
-                serviceOrderTaskEntity.getOrderId(),
-                serviceOrderTaskEntity.getOrderStatus(),
-                serviceOrderTaskEntity.getErrorResponse());
-        serviceDeploymentHandler.storeAndFlush(service);
+        completeStateManagement(taskType, serviceOrderTaskEntity, service, result, errorMessage);
     }
 
-    /**
-     * Stop the service by the deployed service id.
-     *
-     * @param serviceId service id.
-     * @return service order.
-     */
-    public ServiceOrder stopService(UUID serviceId) {
-        ServiceOrderType taskType = ServiceOrderType.SERVICE_STOP;
-        ServiceDeploymentEntity service = getDeployedServiceAndValidateState(serviceId, taskType);
-        OrchestratorPlugin plugin = pluginManager.getOrchestratorPlugin(service.getCsp());
-        ServiceStateManageRequest stopRequest = getServiceManagerRequest(service);
-        ServiceOrderEntity serviceOrderEntity = createNewManagementTask(taskType, service);
-        taskExecutor.execute(
-                () -> asyncStopService(serviceOrderEntity, plugin, stopRequest, service));
-        ServiceOrder serviceOrder = new ServiceOrder();
-        serviceOrder.setServiceId(serviceId);
-        serviceOrder.setOrderId(serviceOrderEntity.getOrderId());
-        return serviceOrder;
-    }
-
-    private void asyncStopService(
+    private ServiceOrderEntity beginStateManagement(
+            ServiceOrderType taskType,
             ServiceOrderEntity serviceOrderTaskEntity,
-            OrchestratorPlugin plugin,
-            ServiceStateManageRequest request,
             ServiceDeploymentEntity service) {
-        serviceOrderTaskEntity.setOrderStatus(OrderStatus.IN_PROGRESS);
-        serviceOrderTaskEntity = serviceOrderManager.startOrderProgress(serviceOrderTaskEntity);
-        service.setServiceState(ServiceState.STOPPING);
-        serviceDeploymentHandler.storeAndFlush(service);
-        boolean result = false;
-        try {
-            result = plugin.stopService(request);
-        } catch (Exception e) {
-            serviceOrderTaskEntity.setErrorResponse(
-                    ErrorResponse.errorResponse(
-                            ErrorType.ASYNC_STOP_SERVICE_ERROR, List.of(e.getMessage())));
-        }
-        if (result) {
-            serviceOrderTaskEntity.setOrderStatus(OrderStatus.SUCCESSFUL);
-            service.setLastStoppedAt(OffsetDateTime.now());
-            service.setServiceState(ServiceState.STOPPED);
+        ServiceOrderEntity startedOrder =
+                serviceOrderManager.startOrderProgress(serviceOrderTaskEntity);
+        if (taskType == ServiceOrderType.SERVICE_START) {
+            service.setServiceState(ServiceState.STARTING);
+        } else if (taskType == ServiceOrderType.SERVICE_STOP) {
+            service.setServiceState(ServiceState.STOPPING);
         } else {
-            serviceOrderTaskEntity.setOrderStatus(OrderStatus.FAILED);
-            service.setServiceState(ServiceState.RUNNING);
+            service.setServiceState(ServiceState.RESTARTING);
         }
-        serviceOrderManager.completeOrderProgress(
-                serviceOrderTaskEntity.getOrderId(),
-                serviceOrderTaskEntity.getOrderStatus(),
-                serviceOrderTaskEntity.getErrorResponse());
         serviceDeploymentHandler.storeAndFlush(service);
+        return startedOrder;
     }
 
-    /**
-     * Restart the service by the deployed service id.
-     *
-     * @param serviceId service id.
-     * @return service order.
-     */
-    public ServiceOrder restartService(UUID serviceId) {
-        ServiceOrderType taskType = ServiceOrderType.SERVICE_RESTART;
-        ServiceDeploymentEntity service = getDeployedServiceAndValidateState(serviceId, taskType);
-        OrchestratorPlugin plugin = pluginManager.getOrchestratorPlugin(service.getCsp());
-        ServiceStateManageRequest restartRequest = getServiceManagerRequest(service);
-        ServiceOrderEntity serviceOrderEntity = createNewManagementTask(taskType, service);
-        taskExecutor.execute(
-                () -> asyncRestartService(serviceOrderEntity, plugin, restartRequest, service));
-        ServiceOrder serviceOrder = new ServiceOrder();
-        serviceOrder.setServiceId(serviceId);
-        serviceOrder.setOrderId(serviceOrderEntity.getOrderId());
-        return serviceOrder;
-    }
-
-    private void asyncRestartService(
+    private void completeStateManagement(
+            ServiceOrderType taskType,
             ServiceOrderEntity serviceOrderTaskEntity,
-            OrchestratorPlugin plugin,
-            ServiceStateManageRequest request,
-            ServiceDeploymentEntity service) {
-        serviceOrderTaskEntity = serviceOrderManager.startOrderProgress(serviceOrderTaskEntity);
-        service.setServiceState(ServiceState.RESTARTING);
-        serviceDeploymentHandler.storeAndFlush(service);
-        boolean result = false;
-        try {
-            result = plugin.restartService(request);
-        } catch (Exception e) {
+            ServiceDeploymentEntity service,
+            boolean result,
+            String errorMessage) {
+        if (Objects.nonNull(errorMessage)) {
+            ErrorType errorType = ErrorType.ASYNC_RESTART_SERVICE_ERROR;
+            if (taskType == ServiceOrderType.SERVICE_START) {
+                errorType = ErrorType.ASYNC_START_SERVICE_ERROR;
+            } else if (taskType == ServiceOrderType.SERVICE_STOP) {
+                errorType = ErrorType.ASYNC_STOP_SERVICE_ERROR;
+            }
             serviceOrderTaskEntity.setErrorResponse(
-                    ErrorResponse.errorResponse(
-                            ErrorType.ASYNC_RESTART_SERVICE_ERROR, List.of(e.getMessage())));
+                    ErrorResponse.errorResponse(errorType, List.of(errorMessage)));
         }
         if (result) {
             serviceOrderTaskEntity.setOrderStatus(OrderStatus.SUCCESSFUL);
-            service.setLastStartedAt(OffsetDateTime.now());
-            service.setServiceState(ServiceState.RUNNING);
+            if (taskType == ServiceOrderType.SERVICE_STOP) {
+                service.setLastStoppedAt(OffsetDateTime.now());
+                service.setServiceState(ServiceState.STOPPED);
+            } else {
+                service.setLastStartedAt(OffsetDateTime.now());
+                service.setServiceState(ServiceState.RUNNING);
+            }
         } else {
             serviceOrderTaskEntity.setOrderStatus(OrderStatus.FAILED);
-            service.setServiceState(ServiceState.RUNNING);
+            service.setServiceState(
+                    taskType == ServiceOrderType.SERVICE_START
+                            ? ServiceState.STOPPED
+                            : ServiceState.RUNNING);
         }
         serviceOrderManager.completeOrderProgress(
                 serviceOrderTaskEntity.getOrderId(),
@@ -217,10 +275,13 @@ public class ServiceStateManager {
         serviceDeploymentHandler.storeAndFlush(service);
     }
 
-    private ServiceDeploymentEntity getDeployedServiceAndValidateState(
-            UUID serviceId, ServiceOrderType taskType) {
-        ServiceDeploymentEntity service =
-                serviceDeploymentHandler.getServiceDeploymentEntity(serviceId);
+    /**
+     * Validate that the current user can change the state of the service with the order type.
+     *
+     * @param service service to validate.
+     * @param taskType type of the order, start, stop or restart.
+     */
+    void validateServiceState(ServiceDeploymentEntity service, ServiceOrderType taskType) {
         if (service.getServiceHostingType() == ServiceHostingType.SELF) {
             boolean currentUserIsOwner = userServiceHelper.currentUserIsOwner(service.getUserId());
             if (!currentUserIsOwner) {
@@ -242,7 +303,7 @@ public class ServiceStateManager {
                     String.format(
                             "Service %s with a running management task, please try again"
                                     + " later.",
-                            serviceId));
+                            service.getId()));
         }
         // validate powers state for service start/stop/restart
         if (taskType == ServiceOrderType.SERVICE_START) {
@@ -252,7 +313,6 @@ public class ServiceStateManager {
         } else if (taskType == ServiceOrderType.SERVICE_RESTART) {
             validateRestartActionForService(service);
         }
-        return service;
     }
 
     private void validateStartActionForService(ServiceDeploymentEntity service) {
@@ -303,7 +363,13 @@ public class ServiceStateManager {
         }
     }
 
-    private ServiceStateManageRequest getServiceManagerRequest(ServiceDeploymentEntity service) {
+    /**
+     * Get the request to manage the state of the vm resources of the service.
+     *
+     * @param service service to manage.
+     * @return request of the service.
+     */
+    ServiceStateManageRequest getServiceManagerRequest(ServiceDeploymentEntity service) {
         ServiceStateManageRequest serviceStateManageRequest = new ServiceStateManageRequest();
         serviceStateManageRequest.setServiceId(service.getId());
         List<ServiceResourceEntity> vmResources =
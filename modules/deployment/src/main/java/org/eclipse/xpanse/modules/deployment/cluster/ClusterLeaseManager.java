@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment.cluster;
+
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.database.lease.DistributedLeaseStorage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to coordinate the nodes of a cluster with leases stored in the database. Each node renews
+ * its member lease periodically, so the live nodes are known to all nodes. Jobs which must run only
+ * once per cluster acquire a lease per job, and work items are shared among the live nodes by the
+ * hash of their ids.
+ */
+@Slf4j
+@Component
+public class ClusterLeaseManager {
+
+    private static final String MEMBER_LEASE_PREFIX = "cluster-member:";
+    private static final String JOB_LEASE_PREFIX = "scheduled-job:";
+    private static final String EXPIRED_LEASES_CLEANUP_JOB = "expired-leases-cleanup";
+
+    private final DistributedLeaseStorage distributedLeaseStorage;
+
+    @Getter private final String nodeId;
+
+    @Value("${cluster.lease.member.ttl.in.seconds:30}")
+    private long memberTtlInSeconds;
+
+    @Value("${cluster.lease.expired.retention.in.hours:24}")
+    private long expiredLeasesRetentionInHours;
+
+    private volatile List<String> liveMembers = List.of();
+
+    /** Constructor method. */
+    @Autowired
+    public ClusterLeaseManager(
+            DistributedLeaseStorage distributedLeaseStorage,
+            @Value("${cluster.node.id:}") String nodeId) {
+        this.distributedLeaseStorage = distributedLeaseStorage;
+        this.nodeId = StringUtils.isNotBlank(nodeId) ? nodeId : generateNodeId();
+        log.info("Node id of current node in the cluster is {}.", this.nodeId);
+    }
+
+    /** Renew the member lease of the current node and refresh the list of live nodes. */
+    @Scheduled(
+            initialDelay = 0,
+            fixedDelayString = "${cluster.lease.member.heartbeat.interval.in.seconds:10}",
+            timeUnit = TimeUnit.SECONDS)
+    public void heartbeat() {
+        try {
+            distributedLeaseStorage.tryAcquire(
+                    MEMBER_LEASE_PREFIX + nodeId, nodeId, Duration.ofSeconds(memberTtlInSeconds));
+            liveMembers = distributedLeaseStorage.listOwnersOfActiveLeases(MEMBER_LEASE_PREFIX);
+        } catch (Exception e) {
+            log.error("Failed to renew member lease of node {}. {}", nodeId, e.getMessage());
+        }
+    }
+
+    /** Delete the leases which expired long ago, this job runs once per cluster every hour. */
+    @Scheduled(cron = "0 20 * * * ?")
+    public void deleteExpiredLeases() {
+        runOncePerCluster(
+                EXPIRED_LEASES_CLEANUP_JOB,
+                Duration.ofMinutes(5),
+                () -> {
+                    int count =
+                            distributedLeaseStorage.deleteLeasesExpiredBefore(
+                                    OffsetDateTime.now().minusHours(expiredLeasesRetentionInHours));
+                    log.info("Deleted {} expired leases.", count);
+                });
+    }
+
+    /**
+     * Run the job only if no other node of the cluster has run it within the lease duration. The
+     * lease is not released after the job is finished, so the nodes which are triggered a bit later
+     * by the same schedule skip the job.
+     *
+     * @param jobName unique name of the job.
+     * @param lockAtLeastFor duration for which the job is not run again by any node.
+     * @param job the job to run.
+     * @return true if the job was run by the current node.
+     */
+    public boolean runOncePerCluster(String jobName, Duration lockAtLeastFor, Runnable job) {
+        if (!tryAcquireLease(JOB_LEASE_PREFIX + jobName, lockAtLeastFor)) {
+            log.info("Job {} is run by another node of the cluster, skipped.", jobName);
+            return false;
+        }
+        job.run();
+        return true;
+    }
+
+    /**
+     * Acquire the lease for the current node.
+     *
+     * @param leaseName unique name of the lease.
+     * @param duration duration after which the lease expires.
+     * @return true if the lease is held by the current node.
+     */
+    public boolean tryAcquireLease(String leaseName, Duration duration) {
+        try {
+            return distributedLeaseStorage.tryAcquire(leaseName, nodeId, duration);
+        } catch (Exception e) {
+            log.error("Failed to acquire lease {}. {}", leaseName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Release the lease held by the current node, so other nodes can acquire it immediately.
+     *
+     * @param leaseName unique name of the lease.
+     */
+    public void releaseLease(String leaseName) {
+        try {
+            distributedLeaseStorage.release(leaseName, nodeId, Duration.ZERO);
+        } catch (Exception e) {
+            log.error("Failed to release lease {}. {}", leaseName, e.getMessage());
+        }
+    }
+
+    /**
+     * Check if the work item with the id is assigned to the current node. The work items are
+     * assigned to the live nodes by the hash of their ids, the current node is always seen as live.
+     *
+     * @param id id of the work item.
+     * @return true if the current node is responsible for the work item.
+     */
+    public boolean isAssignedToCurrentNode(UUID id) {
+        List<String> members = liveMembers;
+        if (!members.contains(nodeId)) {
+            members = new ArrayList<>(members);
+            members.add(nodeId);
+            members.sort(String::compareTo);
+        }
+        return nodeId.equals(members.get(Math.floorMod(id.hashCode(), members.size())));
+    }
+
+    /** Release the member lease when the node is shut down. */
+    @PreDestroy
+    public void leaveCluster() {
+        releaseLease(MEMBER_LEASE_PREFIX + nodeId);
+    }
+
+    private String generateNodeId() {
+        String hostName;
+        try {
+            hostName = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            hostName = "unknown-host";
+        }
+        return hostName + "-" + UUID.randomUUID();
+    }
+}
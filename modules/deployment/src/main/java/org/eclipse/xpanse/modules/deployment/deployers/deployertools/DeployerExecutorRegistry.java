@@ -0,0 +1,347 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registry of the deployer tool executors in the installation dirs. The version of each executor is
+ * verified once by running it, later lookups of executors which match a required version are
+ * answered from the registry without running any executor. The installation dirs are watched, so
+ * executors added or removed by other processes are picked up with the next lookup. Concurrent
+ * installations of the same version are done only once.
+ */
+@Slf4j
+@Component
+public class DeployerExecutorRegistry {
+
+    private final Map<Path, InstallationDir> installationDirs = new ConcurrentHashMap<>();
+    private final Map<Path, VerifiedExecutor> verifiedExecutors = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<File>> inFlightInstallations =
+            new ConcurrentHashMap<>();
+    private volatile WatchService watchService;
+
+    @Value("${deployer.executor.registry.watch.enabled:true}")
+    private boolean watchEnabled;
+
+    @Resource private DeployerToolUtils deployerToolUtils;
+
+    /**
+     * Register the installation dir of a deployer tool and verify the executors in it.
+     *
+     * @param executorNamePrefix executor name prefix.
+     * @param versionCommandOutputPattern pattern to get version from command output.
+     * @param installationDir installation directory.
+     */
+    public void registerInstallationDir(
+            String executorNamePrefix,
+            Pattern versionCommandOutputPattern,
+            String installationDir) {
+        InstallationDir dir =
+                getInstallationDir(
+                        executorNamePrefix, versionCommandOutputPattern, installationDir);
+        refreshIfStale(dir);
+        log.info(
+                "Registered {} verified executors in the installation dir {}.",
+                getVersionsOfExecutors(dir).size(),
+                dir.getPath());
+    }
+
+    /**
+     * Get path of the executor which matches the required version.
+     *
+     * @param executorNamePrefix executor name prefix.
+     * @param versionCommandOutputPattern pattern to get version from command output.
+     * @param installationDir installation directory.
+     * @param requiredOperator operator in required version.
+     * @param requiredNumber number in required version.
+     * @return path of the best matching executor, otherwise return null.
+     */
+    public String getExecutorPathMatchedRequiredVersion(
+            String executorNamePrefix,
+            Pattern versionCommandOutputPattern,
+            String installationDir,
+            String requiredOperator,
+            String requiredNumber) {
+        InstallationDir dir =
+                getInstallationDir(
+                        executorNamePrefix, versionCommandOutputPattern, installationDir);
+        refreshIfStale(dir);
+        Map<String, Path> executorsByVersion = getVersionsOfExecutors(dir);
+        String bestVersion =
+                DeployerToolUtils.findBestVersion(
+                        executorsByVersion.keySet(), requiredOperator, requiredNumber);
+        if (StringUtils.isBlank(bestVersion)) {
+            return null;
+        }
+        String executorPath = executorsByVersion.get(bestVersion).toString();
+        log.info(
+                "Found the installed executor {} matched the required version {} successfully.",
+                executorPath,
+                requiredOperator + requiredNumber);
+        return executorPath;
+    }
+
+    /**
+     * Get exact version of the executor. The version is only read from the executor when it was not
+     * verified before or the executor has changed since.
+     *
+     * @param executorPath executor path.
+     * @param versionCommandOutputPattern pattern to get version from command output.
+     * @return exact version of executor.
+     */
+    public String getExactVersionOfExecutor(
+            String executorPath, Pattern versionCommandOutputPattern) {
+        if (StringUtils.isBlank(executorPath) || !Path.of(executorPath).isAbsolute()) {
+            // executors resolved from PATH can change at any time.
+            return deployerToolUtils.getExactVersionOfExecutor(
+                    executorPath, versionCommandOutputPattern);
+        }
+        VerifiedExecutor verifiedExecutor =
+                verifyExecutor(Path.of(executorPath).normalize(), versionCommandOutputPattern);
+        return Objects.nonNull(verifiedExecutor) ? verifiedExecutor.version() : null;
+    }
+
+    /**
+     * Install the executor with the version once. Concurrent installations of the same version into
+     * the same installation dir wait for the first one.
+     *
+     * @param executorNamePrefix executor name prefix.
+     * @param versionCommandOutputPattern pattern to get version from command output.
+     * @param installationDir installation directory.
+     * @param versionNumber version to install.
+     * @param installation installs the executor and returns its file.
+     * @return file of the installed executor.
+     */
+    public File installExecutorOnce(
+            String executorNamePrefix,
+            Pattern versionCommandOutputPattern,
+            String installationDir,
+            String versionNumber,
+            Supplier<File> installation) {
+        InstallationDir dir =
+                getInstallationDir(
+                        executorNamePrefix, versionCommandOutputPattern, installationDir);
+        String installationKey = dir.getPath() + "@" + versionNumber;
+        CompletableFuture<File> newInstallation = new CompletableFuture<>();
+        CompletableFuture<File> runningInstallation =
+                inFlightInstallations.putIfAbsent(installationKey, newInstallation);
+        if (Objects.nonNull(runningInstallation)) {
+            log.info("Waiting for the running installation of the executor {}.", installationKey);
+            return joinInstallation(runningInstallation);
+        }
+        try {
+            // installed by a previous task in the meantime.
+            dir.setStale(true);
+            refreshIfStale(dir);
+            Path installedExecutor = getVersionsOfExecutors(dir).get(versionNumber);
+            File executorFile =
+                    Objects.nonNull(installedExecutor)
+                            ? installedExecutor.toFile()
+                            : installation.get();
+            dir.setStale(true);
+            newInstallation.complete(executorFile);
+        } catch (RuntimeException e) {
+            newInstallation.completeExceptionally(e);
+        } finally {
+            inFlightInstallations.remove(installationKey, newInstallation);
+        }
+        return joinInstallation(newInstallation);
+    }
+
+    /** Stop watching the installation dirs. */
+    @PreDestroy
+    public void close() {
+        WatchService currentWatchService = watchService;
+        watchService = null;
+        if (Objects.nonNull(currentWatchService)) {
+            try {
+                currentWatchService.close();
+            } catch (IOException e) {
+                log.warn("Closing watch service of the installation dirs failed.", e);
+            }
+        }
+    }
+
+    private InstallationDir getInstallationDir(
+            String executorNamePrefix,
+            Pattern versionCommandOutputPattern,
+            String installationDir) {
+        Path path = Path.of(installationDir).toAbsolutePath().normalize();
+        return installationDirs.computeIfAbsent(
+                path,
+                dirPath ->
+                        new InstallationDir(
+                                dirPath, executorNamePrefix, versionCommandOutputPattern));
+    }
+
+    private void refreshIfStale(InstallationDir dir) {
+        synchronized (dir) {
+            if (!dir.isStale()) {
+                return;
+            }
+            watch(dir);
+            File[] files = dir.getPath().toFile().listFiles();
+            Set<Path> executorPaths = new HashSet<>();
+            if (Objects.nonNull(files)) {
+                Arrays.stream(files)
+                        .filter(
+                                file ->
+                                        file.isFile()
+                                                && file.canExecute()
+                                                && file.getName()
+                                                        .startsWith(dir.getExecutorNamePrefix()))
+                        .forEach(file -> executorPaths.add(file.toPath()));
+            }
+            verifiedExecutors
+                    .keySet()
+                    .removeIf(
+                            path ->
+                                    dir.getPath().equals(path.getParent())
+                                            && !executorPaths.contains(path));
+            executorPaths.forEach(
+                    path -> verifyExecutor(path, dir.getVersionCommandOutputPattern()));
+            // without a watch the dir is listed again with each lookup, executors are not rerun.
+            dir.setStale(Objects.isNull(dir.getWatchKey()));
+        }
+    }
+
+    private VerifiedExecutor verifyExecutor(
+            Path executorPath, Pattern versionCommandOutputPattern) {
+        File executorFile = executorPath.toFile();
+        long lastModified = executorFile.lastModified();
+        long size = executorFile.length();
+        VerifiedExecutor verifiedExecutor = verifiedExecutors.get(executorPath);
+        if (Objects.nonNull(verifiedExecutor)
+                && verifiedExecutor.lastModified() == lastModified
+                && verifiedExecutor.size() == size) {
+            return verifiedExecutor;
+        }
+        String version =
+                deployerToolUtils.getExactVersionOfExecutor(
+                        executorPath.toString(), versionCommandOutputPattern);
+        if (StringUtils.isBlank(version)) {
+            verifiedExecutors.remove(executorPath);
+            return null;
+        }
+        verifiedExecutor = new VerifiedExecutor(version, lastModified, size);
+        verifiedExecutors.put(executorPath, verifiedExecutor);
+        return verifiedExecutor;
+    }
+
+    private Map<String, Path> getVersionsOfExecutors(InstallationDir dir) {
+        Map<String, Path> executorsByVersion = new HashMap<>();
+        verifiedExecutors.forEach(
+                (path, verifiedExecutor) -> {
+                    if (dir.getPath().equals(path.getParent())) {
+                        executorsByVersion.putIfAbsent(verifiedExecutor.version(), path);
+                    }
+                });
+        return executorsByVersion;
+    }
+
+    private File joinInstallation(CompletableFuture<File> installation) {
+        try {
+            return installation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void watch(InstallationDir dir) {
+        if (!watchEnabled
+                || Objects.nonNull(dir.getWatchKey())
+                || !Files.isDirectory(dir.getPath())) {
+            return;
+        }
+        try {
+            dir.setWatchKey(
+                    dir.getPath()
+                            .register(getWatchService(), ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Watching installation dir {} failed. {}", dir.getPath(), e.getMessage());
+        }
+    }
+
+    private synchronized WatchService getWatchService() throws IOException {
+        if (Objects.isNull(watchService)) {
+            watchService = FileSystems.getDefault().newWatchService();
+            Thread watchThread = new Thread(this::processWatchEvents, "deployer-executor-watcher");
+            watchThread.setDaemon(true);
+            watchThread.start();
+        }
+        return watchService;
+    }
+
+    private void processWatchEvents() {
+        try {
+            while (Objects.nonNull(watchService)) {
+                WatchKey watchKey = watchService.take();
+                watchKey.pollEvents();
+                for (InstallationDir dir : installationDirs.values()) {
+                    if (watchKey.equals(dir.getWatchKey())) {
+                        if (!watchKey.reset()) {
+                            dir.setWatchKey(null);
+                        }
+                        dir.setStale(true);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Watch service of the installation dirs closed.");
+        }
+    }
+
+    private record VerifiedExecutor(String version, long lastModified, long size) {}
+
+    /** Installation dir of a deployer tool. */
+    @Getter
+    @Setter
+    @RequiredArgsConstructor
+    private static final class InstallationDir {
+        private final Path path;
+        private final String executorNamePrefix;
+        private final Pattern versionCommandOutputPattern;
+        private volatile boolean stale = true;
+        private volatile WatchKey watchKey;
+    }
+}
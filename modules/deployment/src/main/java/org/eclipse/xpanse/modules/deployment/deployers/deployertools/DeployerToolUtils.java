@@ -17,11 +17,7 @@ import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
-import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -51,65 +47,6 @@ public class DeployerToolUtils {
     private final SystemCmd systemCmd = new SystemCmd();
     @Resource private DeployerToolVersionsCacheManager versionsCacheManager;
 
-    /**
-     * Get executor path which matches the required version.
-     *
-     * @param executorNamePrefix executor name prefix
-     * @param versionCommandOutputPattern pattern to get version from command output
-     * @param installationDir installation directory
-     * @param requiredOperator operator in required version
-     * @param requiredNumber number in required version
-     * @return return the version of which is matched required, otherwise return null.
-     */
-    public String getExecutorPathMatchedRequiredVersion(
-            String executorNamePrefix,
-            Pattern versionCommandOutputPattern,
-            String installationDir,
-            String requiredOperator,
-            String requiredNumber) {
-        // Get path of executor matched required version in the installation dir.
-        File installDir = new File(installationDir);
-        if (!installDir.exists() || !installDir.isDirectory()) {
-            return null;
-        }
-        File[] files = installDir.listFiles();
-        if (Objects.isNull(files) || files.length == 0) {
-            return null;
-        }
-        Map<String, File> executorVersionFileMap = new HashMap<>();
-        Arrays.stream(files)
-                .filter(
-                        f ->
-                                f.isFile()
-                                        && f.canExecute()
-                                        && f.getName().startsWith(executorNamePrefix))
-                .forEach(
-                        f -> {
-                            String versionNumber =
-                                    getVersionFromExecutorPath(
-                                            f.getAbsolutePath(), executorNamePrefix);
-                            executorVersionFileMap.put(versionNumber, f);
-                        });
-        if (CollectionUtils.isEmpty(executorVersionFileMap)) {
-            return null;
-        }
-        String findBestVersion =
-                findBestVersion(executorVersionFileMap.keySet(), requiredOperator, requiredNumber);
-        if (StringUtils.isNotBlank(findBestVersion)) {
-            File executorFile = executorVersionFileMap.get(findBestVersion);
-            if (checkIfExecutorIsMatchedRequiredVersion(
-                    executorFile, versionCommandOutputPattern, requiredOperator, requiredNumber)) {
-                log.info(
-                        "Found the installed executor {} matched the required version {} "
-                                + "successfully.",
-                        executorFile.getAbsolutePath(),
-                        requiredOperator + requiredNumber);
-                return executorFile.getAbsolutePath();
-            }
-        }
-        return null;
-    }
-
     /**
      * Install the executor with specific version into the path.
      *
@@ -311,7 +248,7 @@ public class DeployerToolUtils {
      * @param requiredNumber number of the required version.
      * @return the best version.
      */
-    private String findBestVersion(
+    static String findBestVersion(
             Set<String> allAvailableVersions, String requiredOperator, String requiredNumber) {
         if (CollectionUtils.isEmpty(allAvailableVersions)
                 || StringUtils.isBlank(requiredOperator)
@@ -339,39 +276,6 @@ public class DeployerToolUtils {
         };
     }
 
-    /**
-     * Check the version of installed executor is matched required version.
-     *
-     * @param executorFile executor file
-     * @param requiredOperator operator in required version
-     * @param requiredNumber number in required version
-     * @return true if the version is valid, otherwise return false.
-     */
-    public boolean checkIfExecutorIsMatchedRequiredVersion(
-            File executorFile,
-            Pattern versionCommandOutputPattern,
-            String requiredOperator,
-            String requiredNumber) {
-        String versionNumber =
-                getExactVersionOfExecutor(
-                        executorFile.getAbsolutePath(), versionCommandOutputPattern);
-        if (StringUtils.isNotBlank(versionNumber)) {
-            return isVersionSatisfied(versionNumber, requiredOperator, requiredNumber);
-        }
-        return false;
-    }
-
-    /**
-     * Check if the executor can be executed.
-     *
-     * @param executorFile executor file
-     * @return If true, the executor can be executed, otherwise return false.
-     */
-    public boolean checkIfExecutorCanBeExecuted(File executorFile) {
-        String versionOutput = getVersionCommandOutput(executorFile);
-        return StringUtils.isNotBlank(versionOutput);
-    }
-
     /**
      * Get exact version of executor.
      *
@@ -418,27 +322,6 @@ public class DeployerToolUtils {
         }
     }
 
-    private String getVersionFromExecutorPath(String executorPath, String executorNamePrefix) {
-        if (executorPath.contains(executorNamePrefix)) {
-            return Arrays.asList(executorPath.split(executorNamePrefix)).getLast();
-        }
-        return null;
-    }
-
-    private boolean isVersionSatisfied(
-            String actualNumber, String requiredOperator, String requiredNumber) {
-        Semver actualSemver = new Semver(actualNumber);
-        Semver requiredSemver = new Semver(requiredNumber);
-        if ("=".equals(requiredOperator)) {
-            return actualSemver.isEqualTo(requiredSemver);
-        } else if (">=".equals(requiredOperator)) {
-            return actualSemver.isGreaterThanOrEqualTo(requiredSemver);
-        } else if ("<=".equals(requiredOperator)) {
-            return actualSemver.isLowerThanOrEqualTo(requiredSemver);
-        }
-        return false;
-    }
-
     /**
      * Get executor name with version.
      *
@@ -7,12 +7,15 @@ package org.eclipse.xpanse.modules.deployment.deployers.deployertools.cache;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Resource;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.deployment.cluster.ClusterLeaseManager;
 import org.eclipse.xpanse.modules.deployment.deployers.deployertools.DeployerToolVersionsFetcher;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -26,6 +29,10 @@ public class DeployerToolVersionsCacheManager
         implements ApplicationListener<ApplicationStartedEvent> {
     @Resource private DeployerToolVersionsCache versionsCache;
     @Resource private DeployerToolVersionsFetcher versionsFetcher;
+    @Resource private ClusterLeaseManager clusterLeaseManager;
+
+    @Value("${enable.redis.distributed.cache:false}")
+    private boolean redisDistributedCacheEnabled;
 
     /** Initialize the versions caches for all deployer tools. */
     @Override
@@ -56,6 +63,13 @@ public class DeployerToolVersionsCacheManager
      */
     @Scheduled(cron = "0 0 1 * * ?")
     public void fetchVersionsFromWebsiteAndLoadCache() {
+        runScheduledJob(
+                "fetch-deployer-tool-versions",
+                Duration.ofMinutes(30),
+                this::fetchVersionsFromWebsiteAndLoadCacheForAllDeployerTools);
+    }
+
+    private void fetchVersionsFromWebsiteAndLoadCacheForAllDeployerTools() {
         log.info("Scheduled to fetch versions from website and update the cache.");
         Arrays.stream(DeployerKind.values())
                 .forEach(
@@ -82,6 +96,13 @@ public class DeployerToolVersionsCacheManager
      */
     @Scheduled(cron = "0 1 * * * ?")
     public void fetchVersionsFromWebsiteAndLoadCacheIfCacheHasOnlyDefaultVersions() {
+        runScheduledJob(
+                "fetch-deployer-tool-versions-if-default",
+                Duration.ofMinutes(30),
+                this::fetchVersionsFromWebsiteAndLoadCacheOfDeployerToolsWithDefaultVersions);
+    }
+
+    private void fetchVersionsFromWebsiteAndLoadCacheOfDeployerToolsWithDefaultVersions() {
         Arrays.stream(DeployerKind.values())
                 .forEach(
                         deployerKind -> {
@@ -106,6 +127,18 @@ public class DeployerToolVersionsCacheManager
                         });
     }
 
+    /**
+     * The versions cache is shared by all nodes only when the Redis cache is enabled, then the job
+     * runs once per cluster. Otherwise, each node has its own cache and must update it itself.
+     */
+    private void runScheduledJob(String jobName, Duration lockAtLeastFor, Runnable job) {
+        if (redisDistributedCacheEnabled) {
+            clusterLeaseManager.runOncePerCluster(jobName, lockAtLeastFor, job);
+        } else {
+            job.run();
+        }
+    }
+
     /**
      * Get the available versions cache of deployer tool. when the cached versions is empty, or the
      * cached versions is the same as the default versions, then fetch the versions from the website
@@ -0,0 +1,18 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools.plan;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Deployment plan saved in the workspace of an order.
+ *
+ * @param workspace workspace of the order which contains the initialized scripts and the plan.
+ * @param preparedFiles files prepared in the workspace for the deployment.
+ * @param createdTime time in milliseconds when the plan was saved.
+ */
+public record SavedDeploymentPlan(String workspace, List<File> preparedFiles, long createdTime) {}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools.plan;
+
+import jakarta.annotation.Resource;
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to keep the workspaces of the deployment plans which are created for the policy evaluation
+ * of an order. The deployment of the order then applies the saved plan instead of initializing and
+ * planning the scripts again. Plans which are not applied within the expiry time are deleted with
+ * their workspaces.
+ */
+@Slf4j
+@Component
+public class SavedDeploymentPlanManager {
+
+    private final Map<UUID, SavedDeploymentPlan> savedPlans = new ConcurrentHashMap<>();
+
+    @Value("${deployment.saved.plan.enabled:true}")
+    private boolean savedPlanEnabled;
+
+    @Value("${deployment.saved.plan.expire.time.in.minutes:30}")
+    private long savedPlanExpireTimeInMinutes;
+
+    @Resource private DeploymentScriptsHelper scriptsHelper;
+
+    /**
+     * Check if the deployment plans are saved to be applied later.
+     *
+     * @return true if the plans are saved.
+     */
+    public boolean isSavedPlanEnabled() {
+        return savedPlanEnabled;
+    }
+
+    /**
+     * Save the deployment plan in the workspace of the order.
+     *
+     * @param orderId id of the order.
+     * @param workspace workspace which contains the plan.
+     * @param preparedFiles files prepared in the workspace for the deployment.
+     */
+    public void savePlan(UUID orderId, String workspace, List<File> preparedFiles) {
+        SavedDeploymentPlan previousPlan =
+                savedPlans.put(
+                        orderId,
+                        new SavedDeploymentPlan(
+                                workspace, preparedFiles, System.currentTimeMillis()));
+        if (Objects.nonNull(previousPlan) && !previousPlan.workspace().equals(workspace)) {
+            scriptsHelper.deleteTaskWorkspace(previousPlan.workspace());
+        }
+        log.info("Saved deployment plan of order {} in workspace {}.", orderId, workspace);
+    }
+
+    /**
+     * Take the saved deployment plan of the order. The plan can be taken only once.
+     *
+     * @param orderId id of the order.
+     * @return saved plan, null if there is no plan or the plan has expired.
+     */
+    public SavedDeploymentPlan takePlan(UUID orderId) {
+        SavedDeploymentPlan savedPlan = savedPlans.remove(orderId);
+        if (Objects.isNull(savedPlan)) {
+            return null;
+        }
+        if (isExpired(savedPlan)) {
+            log.info("Saved deployment plan of order {} has expired.", orderId);
+            scriptsHelper.deleteTaskWorkspace(savedPlan.workspace());
+            return null;
+        }
+        log.info("Using saved deployment plan of order {}.", orderId);
+        return savedPlan;
+    }
+
+    /**
+     * Discard the saved deployment plan of the order and delete its workspace.
+     *
+     * @param orderId id of the order.
+     */
+    public void discardPlan(UUID orderId) {
+        SavedDeploymentPlan savedPlan = savedPlans.remove(orderId);
+        if (Objects.nonNull(savedPlan)) {
+            log.info("Discarding deployment plan of order {}.", orderId);
+            scriptsHelper.deleteTaskWorkspace(savedPlan.workspace());
+        }
+    }
+
+    /** Delete the workspaces of the expired plans which were not applied. Runs every 5 minutes. */
+    @Scheduled(cron = "0 */5 * * * ?")
+    public void deleteExpiredPlans() {
+        savedPlans
+                .keySet()
+                .forEach(
+                        orderId ->
+                                // the workspace is deleted before the order can take the plan.
+                                savedPlans.computeIfPresent(
+                                        orderId,
+                                        (id, savedPlan) -> {
+                                            if (!isExpired(savedPlan)) {
+                                                return savedPlan;
+                                            }
+                                            log.info(
+                                                    "Deleting unused deployment plan of order {}.",
+                                                    id);
+                                            scriptsHelper.deleteTaskWorkspace(
+                                                    savedPlan.workspace());
+                                            return null;
+                                        }));
+    }
+
+    private boolean isExpired(SavedDeploymentPlan savedPlan) {
+        return System.currentTimeMillis() - savedPlan.createdTime()
+                > TimeUnit.MINUTES.toMillis(savedPlanExpireTimeInMinutes);
+    }
+}
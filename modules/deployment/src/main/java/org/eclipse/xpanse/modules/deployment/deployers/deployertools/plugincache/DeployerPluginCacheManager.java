@@ -0,0 +1,439 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools.plugincache;
+
+import jakarta.annotation.Resource;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.common.systemcmd.SystemCmdOutputSink;
+import org.eclipse.xpanse.common.systemcmd.SystemCmdResult;
+import org.eclipse.xpanse.modules.deployment.utils.FileCacheUtils;
+import org.eclipse.xpanse.modules.deployment.utils.FileCacheUtils.CachedEntry;
+import org.eclipse.xpanse.modules.models.service.deployment.DeploymentFileCacheUsedEvent;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to manage the provider plugin caches shared by all task workspaces of the local Terraform
+ * and OpenTofu deployers. Each deployer kind gets its own plugin cache directory, which the
+ * deployer tools populate with the layout {@code host/namespace/type/version/os_arch}. So every
+ * provider version is stored only once and is verified against the checksums of the dependency lock
+ * file when it is linked into a workspace. Optionally, a local filesystem mirror is used as the
+ * first provider installation source.
+ */
+@Slf4j
+@Component
+public class DeployerPluginCacheManager {
+
+    public static final String TF_PLUGIN_CACHE_DIR = "TF_PLUGIN_CACHE_DIR";
+    public static final String TF_PLUGIN_CACHE_MAY_BREAK_DEPENDENCY_LOCK_FILE =
+            "TF_PLUGIN_CACHE_MAY_BREAK_DEPENDENCY_LOCK_FILE";
+    public static final String TF_CLI_CONFIG_FILE = "TF_CLI_CONFIG_FILE";
+    private static final String LOCK_FILE_NAME = ".lock";
+    private static final String CLI_CONFIG_FILE_NAME = "plugin-mirror.tfrc";
+    private static final String DEPENDENCY_LOCK_FILE_NAME = ".terraform.lock.hcl";
+    private static final int PLUGIN_VERSION_DIR_DEPTH = 4;
+    private static final String PLUGIN_CACHE_NAME_SUFFIX = "-plugins";
+    private static final Pattern CACHE_HIT_PATTERN =
+            Pattern.compile("^- Using (\\S+) v(\\S+) from the shared cache directory");
+    private static final Pattern CACHE_MISS_PATTERN =
+            Pattern.compile("^- Installing (\\S+) v(\\S+)\\.\\.\\.");
+    private static final Pattern LOCKED_PROVIDER_PATTERN =
+            Pattern.compile("provider\\s+\"([^\"]+)\"\\s*\\{[^}]*?version\\s*=\\s*\"([^\"]+)\"");
+    private static final Map<DeployerKind, String> DEFAULT_REGISTRY_HOSTS =
+            Map.of(
+                    DeployerKind.TERRAFORM, "registry.terraform.io",
+                    DeployerKind.OPEN_TOFU, "registry.opentofu.org");
+
+    private final Map<DeployerKind, ReadWriteLock> pluginCacheLocks = new ConcurrentHashMap<>();
+    private final Map<Path, Set<Path>> pluginVersionsInUse = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    @Getter
+    @Value("${deployer.plugin.cache.enabled:true}")
+    private boolean pluginCacheEnabled;
+
+    @Value("${deployer.plugin.cache.directory:xpanse_plugin_cache}")
+    private String pluginCacheDirectory;
+
+    @Value("${deployer.plugin.cache.max.size.in.mb:4096}")
+    private long pluginCacheMaxSizeInMb;
+
+    @Value("${deployer.plugin.mirror.directory:}")
+    private String pluginMirrorDirectory;
+
+    @Resource private ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Get the environment variables which make the deployer tool use the shared plugin cache.
+     *
+     * @param deployerKind kind of the deployer tool.
+     * @return environment variables to be added to the command line of the deployer tool.
+     */
+    public Map<String, String> getPluginCacheEnv(DeployerKind deployerKind) {
+        Map<String, String> env = new HashMap<>();
+        if (!pluginCacheEnabled) {
+            return env;
+        }
+        try {
+            Path pluginCacheDir = getPluginCacheDir(deployerKind);
+            Files.createDirectories(pluginCacheDir);
+            env.put(TF_PLUGIN_CACHE_DIR, pluginCacheDir.toString());
+            // without this the cache is not used for workspaces without a dependency lock file.
+            env.put(TF_PLUGIN_CACHE_MAY_BREAK_DEPENDENCY_LOCK_FILE, "true");
+            if (StringUtils.isNotBlank(pluginMirrorDirectory)) {
+                env.put(TF_CLI_CONFIG_FILE, getPluginMirrorCliConfigFile().toString());
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Preparing plugin cache of {} failed.", deployerKind.toValue(), e);
+            return new HashMap<>();
+        }
+        return env;
+    }
+
+    /**
+     * Runs the init command of the deployer tool with the plugin cache. Terraform and OpenTofu
+     * don't support concurrent writes to the same plugin cache, so an init which has to install
+     * providers into the cache gets exclusive access to it, locked within this JVM and with a file
+     * lock for other nodes sharing the directory. An init whose dependency lock file only needs
+     * providers already in the cache just links them and runs concurrently with the other inits
+     * which only read the cache. The output of the command is used to count cache hits and misses
+     * and to track the last usage of the cached plugins for the LRU eviction.
+     *
+     * @param deployerKind kind of the deployer tool.
+     * @param taskWorkspace workspace in which the init command runs.
+     * @param initCommand runs the init command with the given output sink.
+     * @return result of the init command.
+     */
+    public SystemCmdResult executeInit(
+            DeployerKind deployerKind,
+            String taskWorkspace,
+            Function<SystemCmdOutputSink, SystemCmdResult> initCommand) {
+        if (!pluginCacheEnabled) {
+            return initCommand.apply(new SystemCmdOutputSink() {});
+        }
+        Set<Path> lockedPluginVersions = getLockedPluginVersions(deployerKind, taskWorkspace);
+        // versions used by the workspace are not evicted while it exists.
+        markPluginVersionsAsInUse(taskWorkspace, lockedPluginVersions);
+        boolean cacheWriteNeeded =
+                lockedPluginVersions.isEmpty()
+                        || !lockedPluginVersions.stream().allMatch(Files::isDirectory);
+        InitOutputCounter counter = new InitOutputCounter();
+        Supplier<SystemCmdResult> init =
+                () -> {
+                    final SystemCmdResult result = initCommand.apply(counter);
+                    markPluginVersionsAsInUse(
+                            taskWorkspace, getLockedPluginVersions(deployerKind, taskWorkspace));
+                    hitCount.addAndGet(counter.cacheHits.size());
+                    missCount.addAndGet(counter.cacheMisses.size());
+                    publishCacheUsedEvent(
+                            deployerKind, counter.cacheHits.size(), counter.cacheMisses.size(), 0);
+                    log.info(
+                            "Plugin cache of {} used by init with {} hits and {} misses.",
+                            deployerKind.toValue(),
+                            counter.cacheHits.size(),
+                            counter.cacheMisses.size());
+                    counter.cacheHits.forEach(provider -> markPluginAsUsed(deployerKind, provider));
+                    return result;
+                };
+        if (!cacheWriteNeeded) {
+            return runWithPluginCacheReadLock(deployerKind, init);
+        }
+        return runWithPluginCacheWriteLock(
+                deployerKind,
+                () -> {
+                    SystemCmdResult result = init.get();
+                    if (!counter.cacheMisses.isEmpty()) {
+                        evictLeastRecentlyUsedPluginsOfCacheDir(deployerKind);
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Evicts the least recently used plugins of all deployer tools. Runs once an hour. Provider
+     * versions used by the existing task workspaces of this node are never evicted.
+     */
+    @Scheduled(cron = "0 30 * * * ?")
+    public void evictLeastRecentlyUsedPlugins() {
+        if (!pluginCacheEnabled) {
+            return;
+        }
+        for (DeployerKind deployerKind : DeployerKind.values()) {
+            Path pluginCacheDir = getPluginCacheDir(deployerKind);
+            if (Files.isDirectory(pluginCacheDir)) {
+                runWithPluginCacheWriteLock(
+                        deployerKind,
+                        () -> {
+                            evictLeastRecentlyUsedPluginsOfCacheDir(deployerKind);
+                            return null;
+                        });
+            }
+        }
+    }
+
+    /**
+     * Get number of providers which were linked from the plugin cache.
+     *
+     * @return number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Get number of providers which had to be installed from the registry or the mirror.
+     *
+     * @return number of cache misses.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Get number of provider versions removed from the plugin caches.
+     *
+     * @return number of evicted provider versions.
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Get the plugin cache directory of the deployer tool.
+     *
+     * @param deployerKind kind of the deployer tool.
+     * @return absolute path of the plugin cache directory.
+     */
+    public Path getPluginCacheDir(DeployerKind deployerKind) {
+        return getPluginCacheRootDir().resolve(deployerKind.toValue());
+    }
+
+    private Path getPluginCacheRootDir() {
+        return FileCacheUtils.getCacheRootDir(pluginCacheDirectory);
+    }
+
+    private synchronized Path getPluginMirrorCliConfigFile() throws IOException {
+        Path cliConfigFile = getPluginCacheRootDir().resolve(CLI_CONFIG_FILE_NAME);
+        String mirrorPath =
+                new File(pluginMirrorDirectory).getAbsolutePath().replace(File.separatorChar, '/');
+        String cliConfig =
+                String.format(
+                        "provider_installation {%n"
+                                + "  filesystem_mirror {%n"
+                                + "    path = \"%s\"%n"
+                                + "  }%n"
+                                + "  direct {}%n"
+                                + "}%n",
+                        mirrorPath);
+        if (!Files.exists(cliConfigFile) || !cliConfig.equals(Files.readString(cliConfigFile))) {
+            Files.writeString(cliConfigFile, cliConfig);
+        }
+        return cliConfigFile;
+    }
+
+    private <T> T runWithPluginCacheReadLock(DeployerKind deployerKind, Supplier<T> action) {
+        Lock lock = getPluginCacheLock(deployerKind).readLock();
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> T runWithPluginCacheWriteLock(DeployerKind deployerKind, Supplier<T> action) {
+        Lock lock = getPluginCacheLock(deployerKind).writeLock();
+        lock.lock();
+        try (FileChannel ignored = lockPluginCacheDir(getPluginCacheDir(deployerKind))) {
+            return action.get();
+        } catch (IOException e) {
+            log.error("Releasing lock of plugin cache {} failed.", deployerKind.toValue(), e);
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private FileChannel lockPluginCacheDir(Path pluginCacheDir) {
+        try {
+            Files.createDirectories(pluginCacheDir);
+            FileChannel channel =
+                    FileChannel.open(
+                            pluginCacheDir.resolve(LOCK_FILE_NAME),
+                            StandardOpenOption.CREATE,
+                            StandardOpenOption.WRITE);
+            channel.lock();
+            return channel;
+        } catch (IOException e) {
+            // still guarded by the lock within this JVM.
+            log.warn("Locking plugin cache {} failed. {}", pluginCacheDir, e.getMessage());
+            return null;
+        }
+    }
+
+    private ReadWriteLock getPluginCacheLock(DeployerKind deployerKind) {
+        return pluginCacheLocks.computeIfAbsent(deployerKind, kind -> new ReentrantReadWriteLock());
+    }
+
+    private Set<Path> getLockedPluginVersions(DeployerKind deployerKind, String taskWorkspace) {
+        Path dependencyLockFile = Path.of(taskWorkspace, DEPENDENCY_LOCK_FILE_NAME);
+        Set<Path> versionDirs = new HashSet<>();
+        if (!Files.isRegularFile(dependencyLockFile)) {
+            return versionDirs;
+        }
+        try {
+            Matcher matcher = LOCKED_PROVIDER_PATTERN.matcher(Files.readString(dependencyLockFile));
+            while (matcher.find()) {
+                versionDirs.add(
+                        getPluginVersionDir(deployerKind, matcher.group(1), matcher.group(2)));
+            }
+        } catch (IOException e) {
+            log.warn("Reading dependency lock file {} failed.", dependencyLockFile, e);
+        }
+        return versionDirs;
+    }
+
+    private void markPluginVersionsAsInUse(String taskWorkspace, Set<Path> versionDirs) {
+        if (!versionDirs.isEmpty()) {
+            pluginVersionsInUse.merge(
+                    Path.of(taskWorkspace).toAbsolutePath(),
+                    Set.copyOf(versionDirs),
+                    (oldDirs, newDirs) ->
+                            Stream.concat(oldDirs.stream(), newDirs.stream())
+                                    .collect(Collectors.toUnmodifiableSet()));
+        }
+    }
+
+    private Set<Path> getPluginVersionsInUse() {
+        // workspaces deleted after their job are no longer linked to the cache.
+        pluginVersionsInUse.keySet().removeIf(workspace -> !Files.isDirectory(workspace));
+        Set<Path> versionDirs = new HashSet<>();
+        pluginVersionsInUse.values().forEach(versionDirs::addAll);
+        return versionDirs;
+    }
+
+    private Path getPluginVersionDir(DeployerKind deployerKind, String address, String version) {
+        List<String> addressParts = new ArrayList<>(List.of(address.split("/")));
+        if (addressParts.size() == 2) {
+            addressParts.addFirst(DEFAULT_REGISTRY_HOSTS.get(deployerKind));
+        }
+        return getPluginCacheDir(deployerKind)
+                .resolve(String.join(File.separator, addressParts))
+                .resolve(version);
+    }
+
+    private void markPluginAsUsed(DeployerKind deployerKind, String provider) {
+        String[] addressAndVersion = provider.split(" ");
+        Path versionDir =
+                getPluginVersionDir(deployerKind, addressAndVersion[0], addressAndVersion[1]);
+        try {
+            if (Files.isDirectory(versionDir)) {
+                FileCacheUtils.markAsUsed(versionDir);
+            }
+        } catch (IOException e) {
+            log.warn("Updating last usage of cached plugin {} failed.", versionDir, e);
+        }
+    }
+
+    private void evictLeastRecentlyUsedPluginsOfCacheDir(DeployerKind deployerKind) {
+        Path pluginCacheDir = getPluginCacheDir(deployerKind);
+        List<CachedEntry> cachedVersions = new ArrayList<>();
+        try (Stream<Path> versionDirs =
+                Files.find(
+                        pluginCacheDir,
+                        PLUGIN_VERSION_DIR_DEPTH,
+                        (path, attributes) ->
+                                attributes.isDirectory()
+                                        && pluginCacheDir.relativize(path).getNameCount()
+                                                == PLUGIN_VERSION_DIR_DEPTH)) {
+            for (Path versionDir : versionDirs.toList()) {
+                cachedVersions.add(FileCacheUtils.getCachedEntry(versionDir));
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Reading plugin cache {} failed.", pluginCacheDir, e);
+            return;
+        }
+        Set<Path> versionDirsInUse = getPluginVersionsInUse();
+        int evictedVersions =
+                FileCacheUtils.evictLeastRecentlyUsedEntries(
+                        cachedVersions,
+                        pluginCacheMaxSizeInMb * 1024 * 1024,
+                        versionDir -> {
+                            // still linked into the workspace of a running job or a kept plan.
+                            if (versionDirsInUse.contains(versionDir)
+                                    || !FileCacheUtils.deleteDirectory(versionDir)) {
+                                return false;
+                            }
+                            log.info("Evicted plugin {} from plugin cache.", versionDir);
+                            return true;
+                        });
+        if (evictedVersions > 0) {
+            evictionCount.addAndGet(evictedVersions);
+            publishCacheUsedEvent(deployerKind, 0, 0, evictedVersions);
+        }
+    }
+
+    private void publishCacheUsedEvent(
+            DeployerKind deployerKind, long hits, long misses, long evictions) {
+        applicationEventPublisher.publishEvent(
+                new DeploymentFileCacheUsedEvent(
+                        deployerKind.toValue() + PLUGIN_CACHE_NAME_SUFFIX,
+                        hits,
+                        misses,
+                        evictions));
+    }
+
+    /** Collects the providers reported by the init command as linked from or added to cache. */
+    private static class InitOutputCounter implements SystemCmdOutputSink {
+
+        private final Set<String> cacheHits = ConcurrentHashMap.newKeySet();
+        private final Set<String> cacheMisses = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void onStdOutLine(String line) {
+            Matcher hitMatcher = CACHE_HIT_PATTERN.matcher(line);
+            if (hitMatcher.find()) {
+                cacheHits.add(hitMatcher.group(1) + " " + hitMatcher.group(2));
+                return;
+            }
+            Matcher missMatcher = CACHE_MISS_PATTERN.matcher(line);
+            if (missMatcher.find()) {
+                cacheMisses.add(missMatcher.group(1) + " " + missMatcher.group(2));
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools.plugincache;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Resource;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateQueryModel;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
+import org.eclipse.xpanse.modules.deployment.DeployerKindManager;
+import org.eclipse.xpanse.modules.deployment.deployers.opentofu.opentofulocal.OpenTofuLocalDeployment;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformlocal.TerraformLocalDeployment;
+import org.eclipse.xpanse.modules.models.servicetemplate.Deployment;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceTemplateRegistrationState;
+import org.eclipse.xpanse.modules.orchestrator.deployment.Deployer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to pre-warm the plugin caches at startup. The scripts of all approved service templates are
+ * initialized once by the local deployers, so that the first orders of each service don't have to
+ * download the providers.
+ */
+@Slf4j
+@Component
+public class DeployerPluginCachePreWarmer implements ApplicationListener<ApplicationReadyEvent> {
+
+    @Value("${deployer.plugin.cache.prewarm.enabled:true}")
+    private boolean preWarmEnabled;
+
+    @Resource private DeployerPluginCacheManager pluginCacheManager;
+    @Resource private ServiceTemplateStorage serviceTemplateStorage;
+    @Resource private DeployerKindManager deployerKindManager;
+
+    @Override
+    public void onApplicationEvent(@Nonnull ApplicationReadyEvent event) {
+        if (preWarmEnabled && pluginCacheManager.isPluginCacheEnabled()) {
+            // providers are downloaded in the background to not delay the startup.
+            Thread.ofVirtual().name("plugin-cache-prewarm").start(this::preWarmPluginCaches);
+        }
+    }
+
+    /** Initializes the deployment scripts of all approved service templates once. */
+    public void preWarmPluginCaches() {
+        ServiceTemplateQueryModel query =
+                ServiceTemplateQueryModel.builder()
+                        .serviceTemplateRegistrationState(ServiceTemplateRegistrationState.APPROVED)
+                        .build();
+        Set<List<Object>> initializedScripts = new HashSet<>();
+        for (ServiceTemplateEntity serviceTemplate :
+                serviceTemplateStorage.listServiceTemplates(query)) {
+            if (Objects.isNull(serviceTemplate.getOcl())
+                    || Objects.isNull(serviceTemplate.getOcl().getDeployment())) {
+                continue;
+            }
+            Deployment deployment = serviceTemplate.getOcl().getDeployment();
+            // templates sharing the same scripts need the same providers.
+            List<Object> scriptsKey =
+                    Arrays.asList(
+                            deployment.getDeployerTool(),
+                            deployment.getScriptFiles(),
+                            deployment.getScriptsRepo());
+            if (initializedScripts.add(scriptsKey)) {
+                preWarmPluginCache(serviceTemplate, deployment);
+            }
+        }
+        log.info(
+                "Pre-warmed plugin caches with scripts of {} service templates. Cache hits: {},"
+                        + " misses: {}.",
+                initializedScripts.size(),
+                pluginCacheManager.getHitCount(),
+                pluginCacheManager.getMissCount());
+    }
+
+    private void preWarmPluginCache(ServiceTemplateEntity serviceTemplate, Deployment deployment) {
+        try {
+            Deployer deployer =
+                    deployerKindManager.getDeployment(deployment.getDeployerTool().getKind());
+            // only the local deployers use the plugin caches of this node.
+            if (deployer instanceof TerraformLocalDeployment
+                    || deployer instanceof OpenTofuLocalDeployment) {
+                deployer.validate(deployment);
+            }
+        } catch (Exception e) {
+            log.warn(
+                    "Pre-warming plugin cache with scripts of service template {} failed. {}",
+                    serviceTemplate.getId(),
+                    e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,422 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.async.ThreadMdcUtil;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.deployment.DeploymentJobQueueChangedEvent;
+import org.eclipse.xpanse.modules.models.service.deployment.exceptions.DeploymentJobRejectedException;
+import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
+import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to schedule the jobs of the local deployers separately from the generic async thread pool.
+ * The jobs are executed with bounded concurrency in total, per cloud service provider, per user and
+ * per deployer kind. Waiting jobs are queued per user and dispatched round-robin between the users.
+ * Destroy, purge and rollback jobs are dispatched ahead of the other jobs and have a queue limit of
+ * their own. Jobs are rejected when the queue is full instead of being executed by the calling
+ * thread. A place in the queue can be reserved before the order is stored, so that the order is not
+ * rejected after it was accepted. Jobs still waiting when the application is stopped are discarded,
+ * so that their orders are failed instead of staying in progress.
+ */
+@Slf4j
+@Component
+public class DeploymentJobScheduler {
+
+    private static final Set<ServiceOrderType> HIGH_PRIORITY_TASK_TYPES =
+            EnumSet.of(ServiceOrderType.DESTROY, ServiceOrderType.PURGE, ServiceOrderType.ROLLBACK);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<JobPriority, LinkedHashMap<String, Deque<DeploymentJob>>> queuedJobsByUser =
+            new EnumMap<>(JobPriority.class);
+    private final Map<JobPriority, Integer> queuedJobsPerPriority =
+            new EnumMap<>(JobPriority.class);
+    private final Map<UUID, JobPriority> reservedJobs = new HashMap<>();
+    private final Map<String, Integer> runningJobsPerUser = new HashMap<>();
+    private final Map<Csp, Integer> runningJobsPerCsp = new EnumMap<>(Csp.class);
+    private final Map<DeployerKind, Integer> runningJobsPerDeployerKind =
+            new EnumMap<>(DeployerKind.class);
+    private final ExecutorService jobExecutor =
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("xpanse-deployment-job-", 0).factory());
+    private int queuedJobs;
+    private int runningJobs;
+    private boolean stopped;
+
+    @Value("${deployment.job.scheduler.max.concurrent.jobs:20}")
+    private int maxConcurrentJobs;
+
+    @Value("${deployment.job.scheduler.max.concurrent.jobs.per.csp:10}")
+    private int maxConcurrentJobsPerCsp;
+
+    @Value("${deployment.job.scheduler.max.concurrent.jobs.per.user:5}")
+    private int maxConcurrentJobsPerUser;
+
+    @Value("${deployment.job.scheduler.max.concurrent.jobs.per.deployer.kind:20}")
+    private int maxConcurrentJobsPerDeployerKind;
+
+    @Value("${deployment.job.scheduler.max.queued.jobs:200}")
+    private int maxQueuedJobs;
+
+    @Value("${deployment.job.scheduler.max.queued.high.priority.jobs:1000}")
+    private int maxQueuedHighPriorityJobs;
+
+    @Value("${deployment.job.scheduler.shutdown.wait.time.in.seconds:300}")
+    private long shutdownWaitTime;
+
+    @Resource private ApplicationEventPublisher applicationEventPublisher;
+
+    /** Constructor to create the empty queues of all priorities. */
+    public DeploymentJobScheduler() {
+        for (JobPriority priority : JobPriority.values()) {
+            queuedJobsByUser.put(priority, new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Reserves a place in the queue for the job of the task. Used to reject the order before
+     * anything is stored for it. The reservation is taken by {@link #submit} and must be released
+     * with {@link #releaseJob} when the job of the task is not submitted.
+     *
+     * @param task the task for the deployment.
+     * @throws DeploymentJobRejectedException if the queue is full.
+     */
+    public void reserveJob(DeployTask task) {
+        JobPriority priority = getJobPriority(task);
+        DeploymentJobQueueChangedEvent rejectedEvent = null;
+        lock.lock();
+        try {
+            if (isQueueFull(priority)) {
+                rejectedEvent = newQueueChangedEvent(getDeployerKind(task), null, true);
+            } else {
+                reservedJobs.put(task.getOrderId(), priority);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (Objects.nonNull(rejectedEvent)) {
+            publishQueueChangedEvent(rejectedEvent);
+            throw rejectJob(task);
+        }
+    }
+
+    /**
+     * Releases the place in the queue reserved for the job of the order. Does nothing when the job
+     * was submitted already.
+     *
+     * @param orderId id of the order.
+     */
+    public void releaseJob(UUID orderId) {
+        lock.lock();
+        try {
+            reservedJobs.remove(orderId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Submits the job of the task. The job is started immediately if the concurrency limits allow
+     * it, otherwise it waits in the queue. Jobs with a reserved place are never rejected unless the
+     * application is being stopped.
+     *
+     * @param task the task for the deployment.
+     * @param job the job to execute the task.
+     * @param discardHandler called with the reason when the queued job is discarded without being
+     *     executed.
+     * @throws DeploymentJobRejectedException if the queue is full.
+     */
+    public void submit(DeployTask task, Runnable job, Consumer<Exception> discardHandler) {
+        DeploymentJob deploymentJob =
+                new DeploymentJob(
+                        task.getOrderId(),
+                        getJobPriority(task),
+                        task.getUserId(),
+                        getCsp(task),
+                        getDeployerKind(task),
+                        ThreadMdcUtil.wrap(job, MDC.getCopyOfContextMap()),
+                        discardHandler,
+                        System.nanoTime());
+        List<DeploymentJobQueueChangedEvent> events = new ArrayList<>();
+        boolean rejected = false;
+        lock.lock();
+        try {
+            boolean reserved = Objects.nonNull(reservedJobs.remove(task.getOrderId()));
+            boolean accepted = reserved ? !stopped : !isQueueFull(deploymentJob.priority());
+            if (!accepted) {
+                rejected = true;
+                events.add(newQueueChangedEvent(deploymentJob.deployerKind(), null, true));
+            } else {
+                queuedJobsByUser
+                        .get(deploymentJob.priority())
+                        .computeIfAbsent(getUserKey(deploymentJob), user -> new ArrayDeque<>())
+                        .add(deploymentJob);
+                queuedJobsPerPriority.merge(deploymentJob.priority(), 1, Integer::sum);
+                queuedJobs++;
+                log.info(
+                        "Submitted job of order {}. Queued jobs: {}, running jobs: {}.",
+                        task.getOrderId(),
+                        queuedJobs,
+                        runningJobs);
+                dispatchJobs(events);
+                events.add(newQueueChangedEvent(deploymentJob.deployerKind(), null, false));
+            }
+        } finally {
+            lock.unlock();
+        }
+        events.forEach(this::publishQueueChangedEvent);
+        if (rejected) {
+            throw rejectJob(task);
+        }
+    }
+
+    /**
+     * Discards the queued jobs before the beans are destroyed, so that their orders can still be
+     * failed.
+     *
+     * @param event context closed event.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void onContextClosed(ContextClosedEvent event) {
+        discardQueuedJobs();
+    }
+
+    /**
+     * Discards the queued jobs, stops the job executor and waits for the running jobs to complete.
+     */
+    @PreDestroy
+    public void shutdown() {
+        discardQueuedJobs();
+        jobExecutor.shutdown();
+        try {
+            if (!jobExecutor.awaitTermination(shutdownWaitTime, TimeUnit.SECONDS)) {
+                log.warn("Deployment jobs are not completed before shutdown.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void discardQueuedJobs() {
+        List<DeploymentJob> discardedJobs = new ArrayList<>();
+        lock.lock();
+        try {
+            // queued jobs are not started anymore after the shutdown started.
+            stopped = true;
+            reservedJobs.clear();
+            for (LinkedHashMap<String, Deque<DeploymentJob>> userQueues :
+                    queuedJobsByUser.values()) {
+                userQueues.values().forEach(discardedJobs::addAll);
+                userQueues.clear();
+            }
+            queuedJobsPerPriority.clear();
+            queuedJobs = 0;
+        } finally {
+            lock.unlock();
+        }
+        for (DeploymentJob discardedJob : discardedJobs) {
+            try {
+                discardedJob
+                        .discardHandler()
+                        .accept(
+                                new DeploymentJobRejectedException(
+                                        String.format(
+                                                "Job of order %s is discarded as the application"
+                                                        + " is stopped.",
+                                                discardedJob.orderId())));
+                log.warn("Discarded queued job of order {}.", discardedJob.orderId());
+            } catch (Exception e) {
+                log.error(
+                        "Discard queued job of order {} failed. {}",
+                        discardedJob.orderId(),
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Starts the queued jobs as long as the concurrency limits allow it. The head jobs of the users
+     * are checked in round-robin order, jobs of a user are started in the order of submission. Must
+     * be called with the lock held, the events are published after the lock is released.
+     */
+    private void dispatchJobs(List<DeploymentJobQueueChangedEvent> events) {
+        while (runningJobs < maxConcurrentJobs && !stopped) {
+            DeploymentJob nextJob = pollNextJob();
+            if (Objects.isNull(nextJob)) {
+                return;
+            }
+            queuedJobsPerPriority.merge(
+                    nextJob.priority(), -1, (count, decrement) -> count > 1 ? count - 1 : null);
+            queuedJobs--;
+            runningJobs++;
+            runningJobsPerUser.merge(getUserKey(nextJob), 1, Integer::sum);
+            runningJobsPerCsp.merge(nextJob.csp(), 1, Integer::sum);
+            runningJobsPerDeployerKind.merge(nextJob.deployerKind(), 1, Integer::sum);
+            long waitTimeInMillis =
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - nextJob.submittedAt());
+            events.add(newQueueChangedEvent(nextJob.deployerKind(), waitTimeInMillis, false));
+            jobExecutor.execute(() -> runJob(nextJob));
+        }
+    }
+
+    private DeploymentJob pollNextJob() {
+        for (JobPriority priority : JobPriority.values()) {
+            LinkedHashMap<String, Deque<DeploymentJob>> userQueues = queuedJobsByUser.get(priority);
+            Iterator<Map.Entry<String, Deque<DeploymentJob>>> iterator =
+                    userQueues.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Deque<DeploymentJob>> userQueue = iterator.next();
+                DeploymentJob job = userQueue.getValue().peek();
+                if (Objects.nonNull(job) && isJobAllowedToStart(job)) {
+                    userQueue.getValue().poll();
+                    // move the user to the end of the queue to start jobs of other users first.
+                    iterator.remove();
+                    if (!userQueue.getValue().isEmpty()) {
+                        userQueues.put(userQueue.getKey(), userQueue.getValue());
+                    }
+                    return job;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean isJobAllowedToStart(DeploymentJob job) {
+        return runningJobsPerUser.getOrDefault(getUserKey(job), 0) < maxConcurrentJobsPerUser
+                && runningJobsPerCsp.getOrDefault(job.csp(), 0) < maxConcurrentJobsPerCsp
+                && runningJobsPerDeployerKind.getOrDefault(job.deployerKind(), 0)
+                        < maxConcurrentJobsPerDeployerKind;
+    }
+
+    private void runJob(DeploymentJob job) {
+        try {
+            job.job().run();
+        } catch (Exception e) {
+            log.error("Execute deployment job failed. {}", e.getMessage(), e);
+        } finally {
+            List<DeploymentJobQueueChangedEvent> events = new ArrayList<>();
+            lock.lock();
+            try {
+                runningJobs--;
+                decrementRunningJobs(runningJobsPerUser, getUserKey(job));
+                decrementRunningJobs(runningJobsPerCsp, job.csp());
+                decrementRunningJobs(runningJobsPerDeployerKind, job.deployerKind());
+                events.add(newQueueChangedEvent(job.deployerKind(), null, false));
+                dispatchJobs(events);
+            } finally {
+                lock.unlock();
+            }
+            events.forEach(this::publishQueueChangedEvent);
+        }
+    }
+
+    private <K> void decrementRunningJobs(Map<K, Integer> runningJobsPerKey, K key) {
+        runningJobsPerKey.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /** Must be called with the lock held. */
+    private boolean isQueueFull(JobPriority priority) {
+        long reservedJobsOfPriority =
+                reservedJobs.values().stream().filter(priority::equals).count();
+        int maxQueuedJobsOfPriority =
+                priority == JobPriority.HIGH ? maxQueuedHighPriorityJobs : maxQueuedJobs;
+        return stopped
+                || queuedJobsPerPriority.getOrDefault(priority, 0) + reservedJobsOfPriority
+                        >= maxQueuedJobsOfPriority;
+    }
+
+    private DeploymentJobRejectedException rejectJob(DeployTask task) {
+        String errorMsg =
+                String.format(
+                        "Too many deployment jobs are waiting. Order %s of service %s is rejected,"
+                                + " please try again later.",
+                        task.getOrderId(), task.getServiceId());
+        log.warn(errorMsg);
+        return new DeploymentJobRejectedException(errorMsg);
+    }
+
+    /** Must be called with the lock held to read the numbers of jobs. */
+    private DeploymentJobQueueChangedEvent newQueueChangedEvent(
+            DeployerKind deployerKind, Long jobWaitTimeInMillis, boolean jobRejected) {
+        return new DeploymentJobQueueChangedEvent(
+                deployerKind, queuedJobs, runningJobs, jobWaitTimeInMillis, jobRejected);
+    }
+
+    /** Must be called without the lock held, the listeners may be slow. */
+    private void publishQueueChangedEvent(DeploymentJobQueueChangedEvent event) {
+        try {
+            applicationEventPublisher.publishEvent(event);
+        } catch (Exception e) {
+            log.warn("Publish deployment job queue changed event failed. {}", e.getMessage());
+        }
+    }
+
+    private JobPriority getJobPriority(DeployTask task) {
+        return HIGH_PRIORITY_TASK_TYPES.contains(task.getTaskType())
+                ? JobPriority.HIGH
+                : JobPriority.NORMAL;
+    }
+
+    private DeployerKind getDeployerKind(DeployTask task) {
+        return task.getOcl().getDeployment().getDeployerTool().getKind();
+    }
+
+    private Csp getCsp(DeployTask task) {
+        if (Objects.nonNull(task.getDeployRequest())
+                && Objects.nonNull(task.getDeployRequest().getCsp())) {
+            return task.getDeployRequest().getCsp();
+        }
+        return task.getOcl().getCloudServiceProvider().getName();
+    }
+
+    private String getUserKey(DeploymentJob job) {
+        return Objects.requireNonNullElse(job.userId(), "");
+    }
+
+    /** Priorities of the jobs in the order of dispatching. */
+    private enum JobPriority {
+        HIGH,
+        NORMAL
+    }
+
+    private record DeploymentJob(
+            UUID orderId,
+            JobPriority priority,
+            String userId,
+            Csp csp,
+            DeployerKind deployerKind,
+            Runnable job,
+            Consumer<Exception> discardHandler,
+            long submittedAt) {}
+}
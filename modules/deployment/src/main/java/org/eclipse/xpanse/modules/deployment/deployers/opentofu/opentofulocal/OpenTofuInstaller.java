@@ -5,11 +5,13 @@
 
 package org.eclipse.xpanse.modules.deployment.deployers.opentofu.opentofulocal;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Resource;
 import java.io.File;
 import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.DeployerExecutorRegistry;
 import org.eclipse.xpanse.modules.deployment.deployers.deployertools.DeployerToolUtils;
 import org.eclipse.xpanse.modules.models.common.exceptions.InvalidDeployerToolException;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
@@ -38,6 +40,16 @@ public class OpenTofuInstaller {
     private String openTofuInstallDir;
 
     @Resource private DeployerToolUtils deployerToolUtils;
+    @Resource private DeployerExecutorRegistry deployerExecutorRegistry;
+
+    /** Register the installed OpenTofu executors at startup. */
+    @PostConstruct
+    public void registerInstalledExecutors() {
+        deployerExecutorRegistry.registerInstallationDir(
+                OPEN_TOFU_EXECUTOR_NAME_PREFIX,
+                OPEN_TOFU_VERSION_OUTPUT_PATTERN,
+                this.openTofuInstallDir);
+    }
 
     /**
      * Find the executable binary path of the Terraform tool that matches the required version. If
@@ -62,7 +74,7 @@ public class OpenTofuInstaller {
         String requiredNumber = operatorAndNumber[1];
         // Get path of the executor matched required version in the environment.
         String matchedVersionExecutorPath =
-                deployerToolUtils.getExecutorPathMatchedRequiredVersion(
+                deployerExecutorRegistry.getExecutorPathMatchedRequiredVersion(
                         OPEN_TOFU_EXECUTOR_NAME_PREFIX,
                         OPEN_TOFU_VERSION_OUTPUT_PATTERN,
                         this.openTofuInstallDir,
@@ -86,7 +98,7 @@ public class OpenTofuInstaller {
      * @return version number of OpenTofu
      */
     public String getExactVersionOfOpenTofu(String executorPath) {
-        return deployerToolUtils.getExactVersionOfExecutor(
+        return deployerExecutorRegistry.getExactVersionOfExecutor(
                 executorPath, OPEN_TOFU_VERSION_OUTPUT_PATTERN);
     }
 
@@ -95,14 +107,24 @@ public class OpenTofuInstaller {
         String bestVersionNumber =
                 deployerToolUtils.getBestAvailableVersionMatchingRequiredVersion(
                         DeployerKind.OPEN_TOFU, requiredOperator, requiredNumber);
+        // concurrent tasks requiring the same missing version download it only once.
         File installedExecutorFile =
-                deployerToolUtils.installDeployerToolWithVersion(
+                deployerExecutorRegistry.installExecutorOnce(
                         OPEN_TOFU_EXECUTOR_NAME_PREFIX,
+                        OPEN_TOFU_VERSION_OUTPUT_PATTERN,
+                        this.openTofuInstallDir,
                         bestVersionNumber,
-                        OPEN_TOFU_BINARY_DOWNLOAD_URL_FORMAT,
-                        this.openTofuDownloadBaseUrl,
-                        this.openTofuInstallDir);
-        if (deployerToolUtils.checkIfExecutorCanBeExecuted(installedExecutorFile)) {
+                        () ->
+                                deployerToolUtils.installDeployerToolWithVersion(
+                                        OPEN_TOFU_EXECUTOR_NAME_PREFIX,
+                                        bestVersionNumber,
+                                        OPEN_TOFU_BINARY_DOWNLOAD_URL_FORMAT,
+                                        this.openTofuDownloadBaseUrl,
+                                        this.openTofuInstallDir));
+        String installedVersion =
+                deployerExecutorRegistry.getExactVersionOfExecutor(
+                        installedExecutorFile.getAbsolutePath(), OPEN_TOFU_VERSION_OUTPUT_PATTERN);
+        if (StringUtils.isNotBlank(installedVersion)) {
             log.info("OpenTofu with version {}  installed successfully.", installedExecutorFile);
             return installedExecutorFile.getAbsolutePath();
         }
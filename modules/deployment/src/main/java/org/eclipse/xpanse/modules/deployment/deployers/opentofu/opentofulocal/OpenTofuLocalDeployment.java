@@ -6,8 +6,6 @@
 
 package org.eclipse.xpanse.modules.deployment.deployers.opentofu.opentofulocal;
 
-import static org.eclipse.xpanse.modules.async.TaskConfiguration.ASYNC_EXECUTOR_NAME;
-
 import jakarta.annotation.Resource;
 import java.io.File;
 import java.util.HashMap;
@@ -15,10 +13,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.deployment.ServiceDeploymentEntityHandler;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.plan.SavedDeploymentPlan;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.plan.SavedDeploymentPlanManager;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.plugincache.DeployerPluginCacheManager;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.scheduler.DeploymentJobScheduler;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.callbacks.OpenTofuDeploymentResultCallbackManager;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.opentofulocal.config.OpenTofuLocalConfig;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.TofuMakerDeployment;
@@ -27,6 +28,7 @@ import org.eclipse.xpanse.modules.deployment.deployers.opentofu.utils.TfResource
 import org.eclipse.xpanse.modules.deployment.utils.DeployEnvironments;
 import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResult;
+import org.eclipse.xpanse.modules.models.service.deployment.exceptions.DeploymentJobRejectedException;
 import org.eclipse.xpanse.modules.models.servicetemplate.Deployment;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
@@ -45,12 +47,12 @@ public class OpenTofuLocalDeployment implements Deployer {
     @Resource private DeployEnvironments deployEnvironments;
     @Resource private OpenTofuLocalConfig openTofuLocalConfig;
 
-    @Resource(name = ASYNC_EXECUTOR_NAME)
-    private Executor taskExecutor;
-
     @Resource private OpenTofuDeploymentResultCallbackManager openTofuResultCallbackManager;
     @Resource private ServiceDeploymentEntityHandler serviceDeploymentEntityHandler;
     @Resource private DeploymentScriptsHelper scriptsHelper;
+    @Resource private DeployerPluginCacheManager pluginCacheManager;
+    @Resource private DeploymentJobScheduler deploymentJobScheduler;
+    @Resource private SavedDeploymentPlanManager savedDeploymentPlanManager;
 
     /**
      * Deploy the DeployTask.
@@ -98,19 +100,34 @@ public class OpenTofuLocalDeployment implements Deployer {
     }
 
     private void asyncExecDeploy(DeployTask task) {
-        String workspace =
-                scriptsHelper.createWorkspaceForTask(
-                        getDeployerConfigWorkspace(), task.getOrderId());
-        List<File> preparedFiles =
-                scriptsHelper.prepareDeploymentScripts(
-                        workspace, task.getOcl().getDeployment(), null);
+        // apply the plan created for the policy evaluation of the order if there is one.
+        SavedDeploymentPlan savedPlan = savedDeploymentPlanManager.takePlan(task.getOrderId());
+        String workspace;
+        List<File> preparedFiles;
+        if (Objects.nonNull(savedPlan)) {
+            workspace = savedPlan.workspace();
+            preparedFiles = savedPlan.preparedFiles();
+        } else {
+            workspace =
+                    scriptsHelper.createWorkspaceForTask(
+                            getDeployerConfigWorkspace(), task.getOrderId());
+            preparedFiles =
+                    scriptsHelper.prepareDeploymentScripts(
+                            workspace, task.getOcl().getDeployment(), null);
+        }
         OpenTofuLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
-        // Execute the openTofu command asynchronously.
-        taskExecutor.execute(
+        // Execute the openTofu command with the deployment job scheduler.
+        submitJob(
+                task,
+                workspace,
                 () -> {
                     Exception exception = null;
                     try {
-                        executor.deploy();
+                        if (Objects.nonNull(savedPlan)) {
+                            executor.deployWithSavedPlan();
+                        } else {
+                            executor.deploy();
+                        }
                     } catch (Exception tfEx) {
                         log.error("Execute OpenTofu deploy script failed. {}", tfEx.getMessage());
                         exception = tfEx;
@@ -158,8 +175,10 @@ public class OpenTofuLocalDeployment implements Deployer {
                 scriptsHelper.prepareDeploymentScripts(
                         workspace, task.getOcl().getDeployment(), tfState);
         OpenTofuLocalExecutor executor = getExecutorForDeployTask(task, workspace, false);
-        // Execute the openTofu command asynchronously.
-        taskExecutor.execute(
+        // Execute the openTofu command with the deployment job scheduler.
+        submitJob(
+                task,
+                workspace,
                 () -> {
                     Exception exception = null;
                     try {
@@ -184,8 +203,10 @@ public class OpenTofuLocalDeployment implements Deployer {
                 scriptsHelper.prepareDeploymentScripts(
                         workspace, task.getOcl().getDeployment(), tfState);
         OpenTofuLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
-        // Execute the terraform command asynchronously.
-        taskExecutor.execute(
+        // Execute the terraform command with the deployment job scheduler.
+        submitJob(
+                task,
+                workspace,
                 () -> {
                     Exception exception = null;
                     try {
@@ -202,15 +223,51 @@ public class OpenTofuLocalDeployment implements Deployer {
                 });
     }
 
+    private void submitJob(DeployTask task, String workspace, Runnable job) {
+        try {
+            deploymentJobScheduler.submit(
+                    task, job, exception -> discardJob(task, workspace, exception));
+        } catch (DeploymentJobRejectedException e) {
+            scriptsHelper.deleteTaskWorkspace(workspace);
+            throw e;
+        }
+    }
+
+    private void discardJob(DeployTask task, String workspace, Exception exception) {
+        OpenTofuResult openTofuResult = new OpenTofuResult();
+        openTofuResult.setRequestId(task.getOrderId());
+        openTofuResult.setCommandSuccessful(false);
+        openTofuResult.setCommandStdError(exception.getMessage());
+        try {
+            openTofuResultCallbackManager.orderCallback(task.getOrderId(), openTofuResult);
+        } finally {
+            scriptsHelper.deleteTaskWorkspace(workspace);
+        }
+    }
+
     @Override
     public String getDeploymentPlanAsJson(DeployTask task) {
         String workspace =
                 scriptsHelper.createWorkspaceForTask(
                         getDeployerConfigWorkspace(), task.getOrderId());
-        scriptsHelper.prepareDeploymentScripts(workspace, task.getOcl().getDeployment(), null);
-        // Execute the openTofu command.
-        OpenTofuLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
-        return executor.getOpenTofuPlanAsJson();
+        try {
+            List<File> preparedFiles =
+                    scriptsHelper.prepareDeploymentScripts(
+                            workspace, task.getOcl().getDeployment(), null);
+            // Execute the openTofu command.
+            OpenTofuLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
+            String planJson = executor.getOpenTofuPlanAsJson();
+            if (savedDeploymentPlanManager.isSavedPlanEnabled()) {
+                // keep the initialized workspace and the plan for the deployment of the order.
+                savedDeploymentPlanManager.savePlan(task.getOrderId(), workspace, preparedFiles);
+            } else {
+                scriptsHelper.deleteTaskWorkspace(workspace);
+            }
+            return planJson;
+        } catch (RuntimeException e) {
+            scriptsHelper.deleteTaskWorkspace(workspace);
+            throw e;
+        }
     }
 
     /**
@@ -242,11 +299,13 @@ public class OpenTofuLocalDeployment implements Deployer {
         String executorPath =
                 openTofuInstaller.getExecutorPathThatMatchesRequiredVersion(
                         deployment.getDeployerTool().getVersion());
+        envVariables.putAll(pluginCacheManager.getPluginCacheEnv(DeployerKind.OPEN_TOFU));
         return new OpenTofuLocalExecutor(
                 executorPath,
                 envVariables,
                 inputVariables,
-                scriptsHelper.getScriptsLocationInWorkspace(workspace, deployment));
+                scriptsHelper.getScriptsLocationInWorkspace(workspace, deployment),
+                pluginCacheManager);
     }
 
     /** Get the deployer kind. */
@@ -261,13 +320,17 @@ public class OpenTofuLocalDeployment implements Deployer {
         String workspace =
                 scriptsHelper.createWorkspaceForTask(
                         getDeployerConfigWorkspace(), UUID.randomUUID());
-        scriptsHelper.prepareDeploymentScripts(workspace, deployment, null);
-        OpenTofuLocalExecutor executor =
-                getExecutor(new HashMap<>(), new HashMap<>(), workspace, deployment);
-        DeploymentScriptValidationResult validationResult = executor.tfValidate();
-        validationResult.setDeployerVersionUsed(
-                openTofuInstaller.getExactVersionOfOpenTofu(executor.getExecutorPath()));
-        return validationResult;
+        try {
+            scriptsHelper.prepareDeploymentScripts(workspace, deployment, null);
+            OpenTofuLocalExecutor executor =
+                    getExecutor(new HashMap<>(), new HashMap<>(), workspace, deployment);
+            DeploymentScriptValidationResult validationResult = executor.tfValidate();
+            validationResult.setDeployerVersionUsed(
+                    openTofuInstaller.getExactVersionOfOpenTofu(executor.getExecutorPath()));
+            return validationResult;
+        } finally {
+            scriptsHelper.deleteTaskWorkspace(workspace);
+        }
     }
 
     private String getDeployerConfigWorkspace() {
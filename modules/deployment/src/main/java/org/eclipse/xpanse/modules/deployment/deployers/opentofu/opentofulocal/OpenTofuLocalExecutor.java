@@ -14,18 +14,26 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.common.systemcmd.SystemCmd;
+import org.eclipse.xpanse.common.systemcmd.SystemCmdOutputSink;
 import org.eclipse.xpanse.common.systemcmd.SystemCmdResult;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.plugincache.DeployerPluginCacheManager;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.exceptions.OpenTofuExecutorException;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeploymentScriptValidationResult;
 
 /** An executor for OpenTofu. */
 @Slf4j
 public class OpenTofuLocalExecutor {
 
+    /** Name of the plan file which is saved in the workspace. */
+    public static final String TF_PLAN_FILE_NAME = "tfplan.binary";
+
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     static {
@@ -36,6 +44,7 @@ public class OpenTofuLocalExecutor {
     @Getter private final String taskWorkspace;
     private final Map<String, String> env;
     private final Map<String, Object> variables;
+    private final DeployerPluginCacheManager pluginCacheManager;
 
     /**
      * Constructor for openTofuExecutor.
@@ -50,10 +59,29 @@ public class OpenTofuLocalExecutor {
             Map<String, String> env,
             Map<String, Object> variables,
             String taskWorkspace) {
+        this(executorPath, env, variables, taskWorkspace, null);
+    }
+
+    /**
+     * Constructor for openTofuExecutor.
+     *
+     * @param executorPath path of the open tofu executor.
+     * @param env environment for the open tofu command line.
+     * @param variables variables for the open tofu command line.
+     * @param taskWorkspace workspace with scripts for the open tofu command line.
+     * @param pluginCacheManager manager of the shared plugin cache used by the init command.
+     */
+    OpenTofuLocalExecutor(
+            String executorPath,
+            Map<String, String> env,
+            Map<String, Object> variables,
+            String taskWorkspace,
+            DeployerPluginCacheManager pluginCacheManager) {
         this.executorPath = executorPath;
         this.env = env;
         this.variables = variables;
         this.taskWorkspace = taskWorkspace;
+        this.pluginCacheManager = pluginCacheManager;
         log.info(
                 "Created OpenTofuLocalExecutor with executorPath: {} and taskWorkspace: {}",
                 executorPath,
@@ -66,7 +94,14 @@ public class OpenTofuLocalExecutor {
      * @return Returns result of SystemCmd executed.
      */
     public SystemCmdResult tfInit() {
-        return execute(this.executorPath + " init -no-color");
+        String initCommand = this.executorPath + " init -no-color";
+        if (Objects.isNull(pluginCacheManager)) {
+            return execute(initCommand);
+        }
+        return pluginCacheManager.executeInit(
+                DeployerKind.OPEN_TOFU,
+                taskWorkspace,
+                outputSink -> execute(initCommand, outputSink));
     }
 
     /**
@@ -87,7 +122,9 @@ public class OpenTofuLocalExecutor {
     public SystemCmdResult tfPlanWithOutput() {
         return executeWithVariables(
                 new StringBuilder(
-                        this.executorPath + " plan -input=false -no-color --out tfplan.binary"));
+                        this.executorPath
+                                + " plan -input=false -no-color --out "
+                                + TF_PLAN_FILE_NAME));
     }
 
     /**
@@ -101,6 +138,19 @@ public class OpenTofuLocalExecutor {
                         this.executorPath + " apply -auto-approve -input=false -no-color "));
     }
 
+    /**
+     * Executes open tofu apply command with the saved plan. Variables are part of the saved plan
+     * and must not be passed again.
+     *
+     * @return Returns result of SystemCmd executed.
+     */
+    public SystemCmdResult tfApplySavedPlan() {
+        return execute(
+                this.executorPath
+                        + " apply -auto-approve -input=false -no-color "
+                        + TF_PLAN_FILE_NAME);
+    }
+
     /**
      * Executes open tofu destroy command.
      *
@@ -151,10 +201,11 @@ public class OpenTofuLocalExecutor {
      *
      * @return SystemCmdResult
      */
-    private SystemCmdResult execute(String cmd) {
+    private SystemCmdResult execute(String cmd, SystemCmdOutputSink... outputSinks) {
         SystemCmd systemCmd = new SystemCmd();
         systemCmd.setEnv(env);
         systemCmd.setWorkDir(taskWorkspace);
+        systemCmd.setOutputSinks(List.of(outputSinks));
         return systemCmd.execute(cmd);
     }
 
@@ -180,6 +231,17 @@ public class OpenTofuLocalExecutor {
         }
     }
 
+    /** Deploy source by applying the plan saved in the workspace by getOpenTofuPlanAsJson. */
+    public void deployWithSavedPlan() {
+        SystemCmdResult applyResult = tfApplySavedPlan();
+        if (!applyResult.isCommandSuccessful()) {
+            log.error("OpenTofuExecutor.tfApply with saved plan failed.");
+            throw new OpenTofuExecutorException(
+                    "OpenTofuExecutor.tfApply with saved plan failed.",
+                    applyResult.getCommandStdError());
+        }
+    }
+
     /** Destroy resource of the service. */
     public void destroy() {
         SystemCmdResult initResult = tfInit();
@@ -216,7 +278,8 @@ public class OpenTofuLocalExecutor {
             throw new OpenTofuExecutorException(
                     "OpenTofuExecutor.tfPlan failed.", tfPlanResult.getCommandStdError());
         }
-        SystemCmdResult planJsonResult = execute(this.executorPath + " show -json tfplan.binary");
+        SystemCmdResult planJsonResult =
+                execute(this.executorPath + " show -json " + TF_PLAN_FILE_NAME);
         if (!planJsonResult.isCommandSuccessful()) {
             log.error("Reading OpenTofu plan as JSON failed.");
             throw new OpenTofuExecutorException(
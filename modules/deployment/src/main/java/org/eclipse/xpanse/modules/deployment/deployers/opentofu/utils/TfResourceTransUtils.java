@@ -6,18 +6,16 @@
 
 package org.eclipse.xpanse.modules.deployment.deployers.opentofu.utils;
 
-import static org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper.TF_STATE_FILE_NAME;
-
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.tfstate.TfStateContentUtils;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.resources.TfStateResourceInstance;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.ServiceNotDeployedException;
-import org.springframework.util.CollectionUtils;
 
 /** Utils Define methods to transform TfResource into DeployResource. */
 @Slf4j
@@ -73,15 +71,12 @@ public class TfResourceTransUtils {
      * @return returns the resource state stored in the database.
      */
     public static String getStoredStateContent(ServiceDeploymentEntity serviceDeploymentEntity) {
-        if (Objects.isNull(serviceDeploymentEntity)
-                || CollectionUtils.isEmpty(serviceDeploymentEntity.getDeploymentGeneratedFiles())
-                || StringUtils.isEmpty(
-                        serviceDeploymentEntity
-                                .getDeploymentGeneratedFiles()
-                                .get(TF_STATE_FILE_NAME))) {
+        String storedStateContent =
+                TfStateContentUtils.getStoredTfStateContent(serviceDeploymentEntity);
+        if (StringUtils.isEmpty(storedStateContent)) {
             throw new ServiceNotDeployedException(
                     "Can't find valid state context in stored deployed service.");
         }
-        return serviceDeploymentEntity.getDeploymentGeneratedFiles().get(TF_STATE_FILE_NAME);
+        return storedStateContent;
     }
 }
@@ -5,11 +5,13 @@
 
 package org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformlocal;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Resource;
 import java.io.File;
 import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.DeployerExecutorRegistry;
 import org.eclipse.xpanse.modules.deployment.deployers.deployertools.DeployerToolUtils;
 import org.eclipse.xpanse.modules.models.common.exceptions.InvalidDeployerToolException;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
@@ -38,6 +40,16 @@ public class TerraformInstaller {
     private String terraformInstallDir;
 
     @Resource private DeployerToolUtils deployerToolUtils;
+    @Resource private DeployerExecutorRegistry deployerExecutorRegistry;
+
+    /** Register the installed Terraform executors at startup. */
+    @PostConstruct
+    public void registerInstalledExecutors() {
+        deployerExecutorRegistry.registerInstallationDir(
+                TERRAFORM_EXECUTOR_NAME_PREFIX,
+                TERRAFORM_VERSION_OUTPUT_PATTERN,
+                this.terraformInstallDir);
+    }
 
     /**
      * Find the executable binary path of the Terraform tool that matches the required version. If
@@ -62,7 +74,7 @@ public class TerraformInstaller {
         String requiredNumber = operatorAndNumber[1];
         // Get path of the executor matched required version in the environment.
         String matchedVersionExecutorPath =
-                deployerToolUtils.getExecutorPathMatchedRequiredVersion(
+                deployerExecutorRegistry.getExecutorPathMatchedRequiredVersion(
                         TERRAFORM_EXECUTOR_NAME_PREFIX,
                         TERRAFORM_VERSION_OUTPUT_PATTERN,
                         this.terraformInstallDir,
@@ -86,7 +98,7 @@ public class TerraformInstaller {
      * @return version of terraform
      */
     public String getExactVersionOfTerraform(String executorPath) {
-        return deployerToolUtils.getExactVersionOfExecutor(
+        return deployerExecutorRegistry.getExactVersionOfExecutor(
                 executorPath, TERRAFORM_VERSION_OUTPUT_PATTERN);
     }
 
@@ -95,14 +107,24 @@ public class TerraformInstaller {
         String bestVersionNumber =
                 deployerToolUtils.getBestAvailableVersionMatchingRequiredVersion(
                         DeployerKind.TERRAFORM, requiredOperator, requiredNumber);
+        // concurrent tasks requiring the same missing version download it only once.
         File installedExecutorFile =
-                deployerToolUtils.installDeployerToolWithVersion(
+                deployerExecutorRegistry.installExecutorOnce(
                         TERRAFORM_EXECUTOR_NAME_PREFIX,
+                        TERRAFORM_VERSION_OUTPUT_PATTERN,
+                        this.terraformInstallDir,
                         bestVersionNumber,
-                        TERRAFORM_BINARY_DOWNLOAD_URL_FORMAT,
-                        this.terraformDownloadBaseUrl,
-                        this.terraformInstallDir);
-        if (deployerToolUtils.checkIfExecutorCanBeExecuted(installedExecutorFile)) {
+                        () ->
+                                deployerToolUtils.installDeployerToolWithVersion(
+                                        TERRAFORM_EXECUTOR_NAME_PREFIX,
+                                        bestVersionNumber,
+                                        TERRAFORM_BINARY_DOWNLOAD_URL_FORMAT,
+                                        this.terraformDownloadBaseUrl,
+                                        this.terraformInstallDir));
+        String installedVersion =
+                deployerExecutorRegistry.getExactVersionOfExecutor(
+                        installedExecutorFile.getAbsolutePath(), TERRAFORM_VERSION_OUTPUT_PATTERN);
+        if (StringUtils.isNotBlank(installedVersion)) {
             log.info("Terraform with version {}  installed successfully.", installedExecutorFile);
             return installedExecutorFile.getAbsolutePath();
         }
@@ -5,8 +5,6 @@
 
 package org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformlocal;
 
-import static org.eclipse.xpanse.modules.async.TaskConfiguration.ASYNC_EXECUTOR_NAME;
-
 import jakarta.annotation.Resource;
 import java.io.File;
 import java.util.HashMap;
@@ -14,10 +12,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.deployment.ServiceDeploymentEntityHandler;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.plan.SavedDeploymentPlan;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.plan.SavedDeploymentPlanManager;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.plugincache.DeployerPluginCacheManager;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.scheduler.DeploymentJobScheduler;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.callbacks.TerraformDeploymentResultCallbackManager;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraboot.TerraBootDeployment;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraboot.generated.model.TerraformResult;
@@ -26,6 +27,7 @@ import org.eclipse.xpanse.modules.deployment.deployers.terraform.utils.TfResourc
 import org.eclipse.xpanse.modules.deployment.utils.DeployEnvironments;
 import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResult;
+import org.eclipse.xpanse.modules.models.service.deployment.exceptions.DeploymentJobRejectedException;
 import org.eclipse.xpanse.modules.models.servicetemplate.Deployment;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
@@ -44,12 +46,12 @@ public class TerraformLocalDeployment implements Deployer {
     @Resource private DeployEnvironments deployEnvironments;
     @Resource private TerraformLocalConfig terraformLocalConfig;
 
-    @Resource(name = ASYNC_EXECUTOR_NAME)
-    private Executor taskExecutor;
-
     @Resource private TerraformDeploymentResultCallbackManager terraformResultCallbackManager;
     @Resource private ServiceDeploymentEntityHandler serviceDeploymentEntityHandler;
     @Resource private DeploymentScriptsHelper scriptsHelper;
+    @Resource private DeployerPluginCacheManager pluginCacheManager;
+    @Resource private DeploymentJobScheduler deploymentJobScheduler;
+    @Resource private SavedDeploymentPlanManager savedDeploymentPlanManager;
 
     /**
      * Deploy the DeployTask.
@@ -97,19 +99,34 @@ public class TerraformLocalDeployment implements Deployer {
     }
 
     private void asyncExecDeploy(DeployTask task) {
-        String workspace =
-                scriptsHelper.createWorkspaceForTask(
-                        getDeployerConfigWorkspace(), task.getOrderId());
-        List<File> preparedFiles =
-                scriptsHelper.prepareDeploymentScripts(
-                        workspace, task.getOcl().getDeployment(), null);
+        // apply the plan created for the policy evaluation of the order if there is one.
+        SavedDeploymentPlan savedPlan = savedDeploymentPlanManager.takePlan(task.getOrderId());
+        String workspace;
+        List<File> preparedFiles;
+        if (Objects.nonNull(savedPlan)) {
+            workspace = savedPlan.workspace();
+            preparedFiles = savedPlan.preparedFiles();
+        } else {
+            workspace =
+                    scriptsHelper.createWorkspaceForTask(
+                            getDeployerConfigWorkspace(), task.getOrderId());
+            preparedFiles =
+                    scriptsHelper.prepareDeploymentScripts(
+                            workspace, task.getOcl().getDeployment(), null);
+        }
         TerraformLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
-        // Execute the terraform command asynchronously.
-        taskExecutor.execute(
+        // Execute the terraform command with the deployment job scheduler.
+        submitJob(
+                task,
+                workspace,
                 () -> {
                     Exception exception = null;
                     try {
-                        executor.deploy();
+                        if (Objects.nonNull(savedPlan)) {
+                            executor.deployWithSavedPlan();
+                        } else {
+                            executor.deploy();
+                        }
                     } catch (Exception tfEx) {
                         log.error("Execute Terraform deploy script failed. {}", tfEx.getMessage());
                         exception = tfEx;
@@ -158,8 +175,10 @@ public class TerraformLocalDeployment implements Deployer {
                 scriptsHelper.prepareDeploymentScripts(
                         workspace, task.getOcl().getDeployment(), tfState);
         TerraformLocalExecutor executor = getExecutorForDeployTask(task, workspace, false);
-        // Execute the terraform command asynchronously.
-        taskExecutor.execute(
+        // Execute the terraform command with the deployment job scheduler.
+        submitJob(
+                task,
+                workspace,
                 () -> {
                     Exception exception = null;
                     try {
@@ -185,8 +204,10 @@ public class TerraformLocalDeployment implements Deployer {
                 scriptsHelper.prepareDeploymentScripts(
                         workspace, task.getOcl().getDeployment(), tfState);
         TerraformLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
-        // Execute the terraform command asynchronously.
-        taskExecutor.execute(
+        // Execute the terraform command with the deployment job scheduler.
+        submitJob(
+                task,
+                workspace,
                 () -> {
                     Exception exception = null;
                     try {
@@ -204,15 +225,51 @@ public class TerraformLocalDeployment implements Deployer {
                 });
     }
 
+    private void submitJob(DeployTask task, String workspace, Runnable job) {
+        try {
+            deploymentJobScheduler.submit(
+                    task, job, exception -> discardJob(task, workspace, exception));
+        } catch (DeploymentJobRejectedException e) {
+            scriptsHelper.deleteTaskWorkspace(workspace);
+            throw e;
+        }
+    }
+
+    private void discardJob(DeployTask task, String workspace, Exception exception) {
+        TerraformResult terraformResult = new TerraformResult();
+        terraformResult.setRequestId(task.getOrderId());
+        terraformResult.setCommandSuccessful(false);
+        terraformResult.setCommandStdError(exception.getMessage());
+        try {
+            terraformResultCallbackManager.orderCallback(task.getOrderId(), terraformResult);
+        } finally {
+            scriptsHelper.deleteTaskWorkspace(workspace);
+        }
+    }
+
     @Override
     public String getDeploymentPlanAsJson(DeployTask task) {
         String workspace =
                 scriptsHelper.createWorkspaceForTask(
                         getDeployerConfigWorkspace(), task.getOrderId());
-        scriptsHelper.prepareDeploymentScripts(workspace, task.getOcl().getDeployment(), null);
-        // Execute the terraform command.
-        TerraformLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
-        return executor.getTerraformPlanAsJson();
+        try {
+            List<File> preparedFiles =
+                    scriptsHelper.prepareDeploymentScripts(
+                            workspace, task.getOcl().getDeployment(), null);
+            // Execute the terraform command.
+            TerraformLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
+            String planJson = executor.getTerraformPlanAsJson();
+            if (savedDeploymentPlanManager.isSavedPlanEnabled()) {
+                // keep the initialized workspace and the plan for the deployment of the order.
+                savedDeploymentPlanManager.savePlan(task.getOrderId(), workspace, preparedFiles);
+            } else {
+                scriptsHelper.deleteTaskWorkspace(workspace);
+            }
+            return planJson;
+        } catch (RuntimeException e) {
+            scriptsHelper.deleteTaskWorkspace(workspace);
+            throw e;
+        }
     }
 
     /**
@@ -244,11 +301,13 @@ public class TerraformLocalDeployment implements Deployer {
         String executorPath =
                 terraformInstaller.getExecutorPathThatMatchesRequiredVersion(
                         deployment.getDeployerTool().getVersion());
+        envVariables.putAll(pluginCacheManager.getPluginCacheEnv(DeployerKind.TERRAFORM));
         return new TerraformLocalExecutor(
                 executorPath,
                 envVariables,
                 inputVariables,
-                scriptsHelper.getScriptsLocationInWorkspace(workspace, deployment));
+                scriptsHelper.getScriptsLocationInWorkspace(workspace, deployment),
+                pluginCacheManager);
     }
 
     /** Get the deployer kind. */
@@ -263,13 +322,17 @@ public class TerraformLocalDeployment implements Deployer {
         String workspace =
                 scriptsHelper.createWorkspaceForTask(
                         getDeployerConfigWorkspace(), UUID.randomUUID());
-        scriptsHelper.prepareDeploymentScripts(workspace, deployment, null);
-        TerraformLocalExecutor executor =
-                getExecutor(new HashMap<>(), new HashMap<>(), workspace, deployment);
-        DeploymentScriptValidationResult validationResult = executor.tfValidate();
-        validationResult.setDeployerVersionUsed(
-                terraformInstaller.getExactVersionOfTerraform(executor.getExecutorPath()));
-        return validationResult;
+        try {
+            scriptsHelper.prepareDeploymentScripts(workspace, deployment, null);
+            TerraformLocalExecutor executor =
+                    getExecutor(new HashMap<>(), new HashMap<>(), workspace, deployment);
+            DeploymentScriptValidationResult validationResult = executor.tfValidate();
+            validationResult.setDeployerVersionUsed(
+                    terraformInstaller.getExactVersionOfTerraform(executor.getExecutorPath()));
+            return validationResult;
+        } finally {
+            scriptsHelper.deleteTaskWorkspace(workspace);
+        }
     }
 
     private String getDeployerConfigWorkspace() {
@@ -6,18 +6,16 @@
 
 package org.eclipse.xpanse.modules.deployment.deployers.terraform.utils;
 
-import static org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper.TF_STATE_FILE_NAME;
-
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.tfstate.TfStateContentUtils;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfStateResourceInstance;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.ServiceNotDeployedException;
-import org.springframework.util.CollectionUtils;
 
 /** Utils Define methods to transform TfResource into DeployResource. */
 @Slf4j
@@ -42,6 +40,20 @@ public class TfResourceTransUtils {
         if (Objects.isNull(instanceAttributes) || instanceAttributes.isEmpty()) {
             return;
         }
+        fillDeployResource(instanceAttributes, deployResource, keyProperties);
+    }
+
+    /**
+     * Fill DeployResource by getting the value of key property from the attributes of an instance.
+     *
+     * @param instanceAttributes attributes of the instance, at least the key properties.
+     * @param deployResource DeployResource
+     * @param keyProperties important properties from the instanceAttributes that must be recorded.
+     */
+    public static void fillDeployResource(
+            Map<String, Object> instanceAttributes,
+            DeployResource deployResource,
+            Map<String, String> keyProperties) {
         String resourceId = getValue(instanceAttributes, "id");
         deployResource.setResourceId(resourceId);
         String resourceName = getValue(instanceAttributes, "name");
@@ -76,15 +88,12 @@ public class TfResourceTransUtils {
      * @return returns the resource state stored in the database.
      */
     public static String getStoredStateContent(ServiceDeploymentEntity serviceDeploymentEntity) {
-        if (Objects.isNull(serviceDeploymentEntity)
-                || CollectionUtils.isEmpty(serviceDeploymentEntity.getDeploymentGeneratedFiles())
-                || StringUtils.isEmpty(
-                        serviceDeploymentEntity
-                                .getDeploymentGeneratedFiles()
-                                .get(TF_STATE_FILE_NAME))) {
+        String storedStateContent =
+                TfStateContentUtils.getStoredTfStateContent(serviceDeploymentEntity);
+        if (StringUtils.isEmpty(storedStateContent)) {
             throw new ServiceNotDeployedException(
                     "Can't find valid state context in stored deployed service.");
         }
-        return serviceDeploymentEntity.getDeploymentGeneratedFiles().get(TF_STATE_FILE_NAME);
+        return storedStateContent;
     }
 }
@@ -0,0 +1,293 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.terraform.utils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.exceptions.TerraformExecutorException;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResult;
+import org.eclipse.xpanse.modules.orchestrator.deployment.DeployResourceProperties;
+
+/**
+ * Extracts the outputs and the deployed resources from a terraform state with a streaming parser.
+ * Only the instances of the supported resource types are read, and of their attributes only the id,
+ * the name and the key properties. All other parts of the state are skipped without building a tree
+ * of them.
+ */
+@Slf4j
+public final class TfStateResourcesExtractor {
+
+    private static final ObjectMapper OBJECT_MAPPER =
+            new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private static final String PARSE_FAILED_MESSAGE = "Parse terraform state content failed.";
+
+    private TfStateResourcesExtractor() {
+        // private constructor to block instantiation.
+    }
+
+    /**
+     * Extract the outputs and the resources from the terraform state content of the deploy result.
+     *
+     * @param deployResult deploy result with the terraform state content.
+     * @param supportedTypes terraform resource types to convert to deployed resources.
+     * @param propertiesGetter getter of the properties of a supported resource type.
+     */
+    public static void extract(
+            DeployResult deployResult,
+            Set<String> supportedTypes,
+            Function<String, DeployResourceProperties> propertiesGetter) {
+        String stateContent = deployResult.getTfStateContent();
+        if (Objects.isNull(stateContent)) {
+            log.error(PARSE_FAILED_MESSAGE);
+            throw new TerraformExecutorException(PARSE_FAILED_MESSAGE);
+        }
+        try (JsonParser parser = OBJECT_MAPPER.createParser(stateContent)) {
+            extract(parser, deployResult, supportedTypes, propertiesGetter);
+        } catch (IOException ex) {
+            log.error(PARSE_FAILED_MESSAGE);
+            throw new TerraformExecutorException(PARSE_FAILED_MESSAGE, ex);
+        }
+    }
+
+    /**
+     * Extract the outputs and the resources from a terraform state stream into the deploy result.
+     *
+     * @param stateStream stream of the terraform state, it is not closed.
+     * @param deployResult deploy result to fill.
+     * @param supportedTypes terraform resource types to convert to deployed resources.
+     * @param propertiesGetter getter of the properties of a supported resource type.
+     */
+    public static void extract(
+            InputStream stateStream,
+            DeployResult deployResult,
+            Set<String> supportedTypes,
+            Function<String, DeployResourceProperties> propertiesGetter) {
+        try (JsonParser parser = OBJECT_MAPPER.createParser(stateStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            extract(parser, deployResult, supportedTypes, propertiesGetter);
+        } catch (IOException ex) {
+            log.error(PARSE_FAILED_MESSAGE);
+            throw new TerraformExecutorException(PARSE_FAILED_MESSAGE, ex);
+        }
+    }
+
+    private static void extract(
+            JsonParser parser,
+            DeployResult deployResult,
+            Set<String> supportedTypes,
+            Function<String, DeployResourceProperties> propertiesGetter)
+            throws IOException {
+        StateReader stateReader = new StateReader(supportedTypes, propertiesGetter);
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if ("outputs".equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                    readOutputs(parser, deployResult.getOutputProperties());
+                } else if ("resources".equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                        if (token == JsonToken.START_OBJECT) {
+                            stateReader.readResource(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else if (token != JsonToken.VALUE_NULL) {
+            throw new JsonParseException(parser, "The terraform state is not a json object.");
+        }
+        if (!stateReader.unsupportedTypes.isEmpty()) {
+            log.info(
+                    "The tf resource types {} are unsupported to parse.",
+                    stateReader.unsupportedTypes);
+        }
+        deployResult.setResources(stateReader.deployResources);
+    }
+
+    private static void readOutputs(JsonParser parser, Map<String, String> outputProperties)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String outputKey = parser.currentName();
+            String outputValue = null;
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.currentName();
+                    parser.nextToken();
+                    if ("value".equals(fieldName)) {
+                        Object value = parser.readValueAs(Object.class);
+                        outputValue =
+                                value instanceof String stringValue
+                                        ? stringValue
+                                        : OBJECT_MAPPER.writeValueAsString(value);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+            outputProperties.put(outputKey, outputValue);
+        }
+    }
+
+    /** Read the attributes of the instances. An instance without attributes is returned as null. */
+    private static List<Map<String, Object>> readInstances(
+            JsonParser parser, Set<String> attributeKeys) throws IOException {
+        List<Map<String, Object>> instancesAttributes = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return instancesAttributes;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            Map<String, Object> attributes = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if ("attributes".equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                    attributes = readAttributes(parser, attributeKeys);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            instancesAttributes.add(attributes);
+        }
+        return instancesAttributes;
+    }
+
+    private static Map<String, Object> readAttributes(JsonParser parser, Set<String> attributeKeys)
+            throws IOException {
+        Map<String, Object> attributes = new HashMap<>();
+        boolean empty = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            empty = false;
+            String attributeKey = parser.currentName();
+            parser.nextToken();
+            if (attributeKeys.contains(attributeKey)) {
+                attributes.put(attributeKey, parser.readValueAs(Object.class));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return empty ? null : attributes;
+    }
+
+    /** Reader of the resources of one state, the properties of each type are looked up once. */
+    private static class StateReader {
+
+        private final Set<String> supportedTypes;
+        private final Function<String, DeployResourceProperties> propertiesGetter;
+        private final Map<String, DeployResourceProperties> propertiesByType = new HashMap<>();
+        private final Map<String, Set<String>> attributeKeysByType = new HashMap<>();
+        private final Set<String> unsupportedTypes = new LinkedHashSet<>();
+        private final List<DeployResource> deployResources = new ArrayList<>();
+
+        private StateReader(
+                Set<String> supportedTypes,
+                Function<String, DeployResourceProperties> propertiesGetter) {
+            this.supportedTypes = supportedTypes;
+            this.propertiesGetter = propertiesGetter;
+        }
+
+        private void readResource(JsonParser parser) throws IOException {
+            String type = null;
+            String name = null;
+            List<Map<String, Object>> instancesAttributes = null;
+            TokenBuffer bufferedInstances = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if ("type".equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                    type = parser.getText();
+                } else if ("name".equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                    name = parser.getText();
+                } else if ("instances".equals(fieldName) && isSupported(type)) {
+                    instancesAttributes = readInstances(parser, getAttributeKeys(type));
+                } else if ("instances".equals(fieldName) && Objects.isNull(type)) {
+                    // the type is not known yet, keep the instances until the end of the resource.
+                    bufferedInstances = TokenBuffer.asCopyOfValue(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (!isSupported(type)) {
+                unsupportedTypes.add(type);
+                return;
+            }
+            if (Objects.nonNull(bufferedInstances)) {
+                try (JsonParser bufferedParser = bufferedInstances.asParserOnFirstToken()) {
+                    instancesAttributes = readInstances(bufferedParser, getAttributeKeys(type));
+                }
+            }
+            if (Objects.isNull(instancesAttributes)) {
+                return;
+            }
+            DeployResourceProperties deployResourceProperties = getProperties(type);
+            for (Map<String, Object> attributes : instancesAttributes) {
+                DeployResource deployResource = new DeployResource();
+                deployResource.setGroupType(type);
+                deployResource.setGroupName(name);
+                deployResource.setResourceKind(deployResourceProperties.getResourceKind());
+                if (Objects.nonNull(attributes)) {
+                    TfResourceTransUtils.fillDeployResource(
+                            attributes,
+                            deployResource,
+                            deployResourceProperties.getResourceProperties());
+                }
+                deployResources.add(deployResource);
+            }
+        }
+
+        private boolean isSupported(String type) {
+            return Objects.nonNull(type) && supportedTypes.contains(type);
+        }
+
+        private DeployResourceProperties getProperties(String type) {
+            return propertiesByType.computeIfAbsent(type, propertiesGetter);
+        }
+
+        private Set<String> getAttributeKeys(String type) {
+            return attributeKeysByType.computeIfAbsent(
+                    type,
+                    key -> {
+                        Set<String> attributeKeys = new HashSet<>();
+                        attributeKeys.add("id");
+                        attributeKeys.add("name");
+                        Map<String, String> keyProperties =
+                                getProperties(key).getResourceProperties();
+                        if (Objects.nonNull(keyProperties)) {
+                            attributeKeys.addAll(keyProperties.values());
+                        }
+                        return attributeKeys;
+                    });
+        }
+    }
+}
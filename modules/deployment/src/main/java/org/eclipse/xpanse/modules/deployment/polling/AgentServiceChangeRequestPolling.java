@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import jakarta.annotation.Resource;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.deployment.ServiceChangeManager;
+import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * Bean implements long-polling for agents to wait for pending service change requests. Waiting
+ * agents are woken up when requests are queued for their resource instead of polling in a fixed
+ * interval, and the database is queried only when the resource has pending requests.
+ */
+@Slf4j
+@Component
+public class AgentServiceChangeRequestPolling {
+
+    private static final int WAITING = 0;
+    private static final int CLAIMING = 1;
+    private static final int DONE = 2;
+
+    @Value("${agent.poll.long.polling.wait.time.in.seconds:30}")
+    private int pollingWaitPeriod;
+
+    @Resource private ServiceChangeManager serviceChangeManager;
+    @Resource private PendingServiceChangeRequestIndex pendingServiceChangeRequestIndex;
+
+    /**
+     * Wait for the oldest pending service change request of the resource. The result is completed
+     * with the request as soon as one is queued, or with no content when there is no request in the
+     * configured period of time.
+     *
+     * @param serviceId id of the service.
+     * @param resourceName name of the resource of the service.
+     * @return deferred result of the pending service change request.
+     */
+    public DeferredResult<ResponseEntity<ServiceChangeRequest>> waitForPendingServiceChangeRequest(
+            UUID serviceId, String resourceName) {
+        final DeferredResult<ResponseEntity<ServiceChangeRequest>> deferredResult =
+                new DeferredResult<>(
+                        TimeUnit.SECONDS.toMillis(pollingWaitPeriod + 10L), noContent());
+        PendingRequestWaiter waiter =
+                new PendingRequestWaiter(serviceId, resourceName, deferredResult);
+        // subscribe before the first check to not miss requests queued in between.
+        waiter.unsubscribe.set(
+                pendingServiceChangeRequestIndex.subscribe(
+                        serviceId,
+                        resourceName,
+                        () -> Thread.ofVirtual().start(() -> claimPendingRequest(waiter))));
+        deferredResult.onCompletion(waiter::cancelSubscription);
+        claimPendingRequest(waiter);
+        pendingServiceChangeRequestIndex.schedule(() -> expire(waiter), pollingWaitPeriod);
+        return deferredResult;
+    }
+
+    /**
+     * Claim the pending request for the waiting agent. A claimed request is moved to processing, so
+     * the result is set only by the claim and never by the expiry in parallel.
+     */
+    private void claimPendingRequest(PendingRequestWaiter waiter) {
+        if (!waiter.state.compareAndSet(WAITING, CLAIMING)) {
+            return;
+        }
+        ResponseEntity<ServiceChangeRequest> response;
+        try {
+            response =
+                    serviceChangeManager.getIndexedPendingServiceChangeRequest(
+                            waiter.serviceId, waiter.resourceName);
+        } catch (Exception e) {
+            log.error(
+                    "Failed to get pending service change request of resource {} of service {}.",
+                    waiter.resourceName,
+                    waiter.serviceId,
+                    e);
+            waiter.state.set(DONE);
+            waiter.cancelSubscription();
+            waiter.deferredResult.setErrorResult(e);
+            return;
+        }
+        if (response.getStatusCode() == HttpStatus.OK) {
+            waiter.state.set(DONE);
+            waiter.cancelSubscription();
+            if (!waiter.deferredResult.setResult(response)) {
+                returnToPending(waiter, response.getBody());
+            }
+            return;
+        }
+        waiter.state.set(WAITING);
+        if (waiter.expired.get()) {
+            expire(waiter);
+        }
+    }
+
+    /**
+     * The result was already completed by the timeout of the request or the disconnect of the
+     * agent, so the claimed request must be claimed again by the next poll.
+     */
+    private void returnToPending(PendingRequestWaiter waiter, ServiceChangeRequest request) {
+        log.warn(
+                "Agent of resource {} of service {} is gone before receiving service change"
+                        + " request {}.",
+                waiter.resourceName,
+                waiter.serviceId,
+                request.getChangeId());
+        try {
+            serviceChangeManager.returnServiceChangeRequestToPending(request.getChangeId());
+        } catch (Exception e) {
+            log.error(
+                    "Failed to return service change request {} to pending.",
+                    request.getChangeId(),
+                    e);
+        }
+    }
+
+    private void expire(PendingRequestWaiter waiter) {
+        waiter.expired.set(true);
+        if (waiter.state.compareAndSet(WAITING, DONE)) {
+            waiter.cancelSubscription();
+            waiter.deferredResult.setResult(noContent());
+        }
+    }
+
+    private static ResponseEntity<ServiceChangeRequest> noContent() {
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).body(null);
+    }
+
+    /** State of an agent waiting for a pending service change request. */
+    private static class PendingRequestWaiter {
+
+        private final UUID serviceId;
+        private final String resourceName;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final AtomicBoolean expired = new AtomicBoolean(false);
+        private final AtomicReference<Runnable> unsubscribe = new AtomicReference<>(() -> {});
+        private final DeferredResult<ResponseEntity<ServiceChangeRequest>> deferredResult;
+
+        PendingRequestWaiter(
+                UUID serviceId,
+                String resourceName,
+                DeferredResult<ResponseEntity<ServiceChangeRequest>> deferredResult) {
+            this.serviceId = serviceId;
+            this.resourceName = resourceName;
+            this.deferredResult = deferredResult;
+        }
+
+        void cancelSubscription() {
+            unsubscribe.get().run();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import jakarta.annotation.Resource;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestStorage;
+import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeRequestsQueuedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory index of the resources of services which may have pending service change requests.
+ * Resources are added when requests are queued for them and removed when a poll of their agent
+ * finds no pending request in the database, so idle polls of agents don't query the database. The
+ * index is reloaded from the database periodically to pick up requests queued on other nodes when
+ * the events are not relayed between the nodes, or when relaying an event failed.
+ */
+@Slf4j
+@Component
+public class PendingServiceChangeRequestIndex {
+
+    /** Generation of the resources which are not known yet because the index is not loaded. */
+    public static final long UNKNOWN_GENERATION = 0L;
+
+    private final Map<PendingChangeKey, Long> pendingKeys = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong(UNKNOWN_GENERATION);
+    private final StatusChangeSubscriptions<PendingChangeKey, Boolean> subscriptions =
+            new StatusChangeSubscriptions<>();
+    private volatile boolean loaded;
+
+    @Value("${enable.redis.distributed.cache:false}")
+    private boolean relayedBetweenNodes;
+
+    @Resource private ServiceChangeRequestStorage serviceChangeRequestStorage;
+
+    /**
+     * Get the generation of the pending mark of the resource. The generation must be passed to
+     * {@link #clearPending} when no pending request is found in the database.
+     *
+     * @param serviceId id of the service.
+     * @param resourceName name of the resource.
+     * @return generation of the pending mark, null if the resource has no pending requests.
+     */
+    public Long getPendingGeneration(UUID serviceId, String resourceName) {
+        Long generation = pendingKeys.get(PendingChangeKey.of(serviceId, resourceName));
+        if (generation == null && !loaded) {
+            return UNKNOWN_GENERATION;
+        }
+        return generation;
+    }
+
+    /**
+     * Check if the requests queued on the other nodes are added to the index immediately, because
+     * the queued events are relayed between the nodes with Redis.
+     *
+     * @return true if the queued events are relayed between the nodes.
+     */
+    public boolean isRelayedBetweenNodes() {
+        return relayedBetweenNodes;
+    }
+
+    /**
+     * Remove the pending mark of the resource, unless it was marked again after the generation was
+     * read.
+     *
+     * @param serviceId id of the service.
+     * @param resourceName name of the resource.
+     * @param generation generation of the pending mark read before the database was queried.
+     */
+    public void clearPending(UUID serviceId, String resourceName, long generation) {
+        pendingKeys.remove(PendingChangeKey.of(serviceId, resourceName), generation);
+    }
+
+    /**
+     * Mark the resources of the queued requests as pending and wake up their waiting agents.
+     *
+     * @param event service change requests queued event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceChangeRequestsQueued(ServiceChangeRequestsQueuedEvent event) {
+        for (String resourceName : event.getResourceNames()) {
+            PendingChangeKey key = PendingChangeKey.of(event.getServiceId(), resourceName);
+            pendingKeys.put(key, generations.incrementAndGet());
+            subscriptions.publish(key, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Reload the resources with pending requests from the database. Marks added after the reload
+     * started are kept even if the query doesn't return them.
+     */
+    @Scheduled(
+            initialDelay = 0,
+            fixedDelayString = "${agent.poll.pending.requests.index.reload.interval.in.seconds:60}",
+            timeUnit = TimeUnit.SECONDS)
+    public void reloadFromDatabase() {
+        try {
+            long startGeneration = generations.get();
+            Set<PendingChangeKey> keys = new HashSet<>();
+            serviceChangeRequestStorage
+                    .getResourceNamesWithPendingRequests()
+                    .forEach(
+                            (serviceId, resourceNames) ->
+                                    resourceNames.forEach(
+                                            resourceName ->
+                                                    keys.add(
+                                                            PendingChangeKey.of(
+                                                                    serviceId, resourceName))));
+            for (PendingChangeKey key : keys) {
+                if (!pendingKeys.containsKey(key)) {
+                    pendingKeys.putIfAbsent(key, generations.incrementAndGet());
+                    subscriptions.publish(key, Boolean.TRUE);
+                }
+            }
+            pendingKeys
+                    .entrySet()
+                    .removeIf(
+                            entry ->
+                                    entry.getValue() <= startGeneration
+                                            && !keys.contains(entry.getKey()));
+            loaded = true;
+        } catch (Exception e) {
+            log.error("Failed to reload pending service change requests. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Subscribe to the requests queued for the resource.
+     *
+     * @param serviceId id of the service.
+     * @param resourceName name of the resource.
+     * @param onQueued called when requests are queued for the resource.
+     * @return handle to cancel the subscription.
+     */
+    Runnable subscribe(UUID serviceId, String resourceName, Runnable onQueued) {
+        return subscriptions.subscribe(
+                PendingChangeKey.of(serviceId, resourceName), queued -> onQueued.run());
+    }
+
+    /**
+     * Runs the task on a virtual thread after the delay.
+     *
+     * @param task task to run.
+     * @param delayInSeconds delay in seconds.
+     */
+    void schedule(Runnable task, long delayInSeconds) {
+        subscriptions.schedule(task, delayInSeconds);
+    }
+
+    /** Resource names are compared case-insensitive like in the database queries. */
+    private record PendingChangeKey(UUID serviceId, String resourceName) {
+
+        static PendingChangeKey of(UUID serviceId, String resourceName) {
+            return new PendingChangeKey(serviceId, resourceName.toLowerCase(Locale.ROOT));
+        }
+    }
+}
@@ -6,25 +6,32 @@
 package org.eclipse.xpanse.modules.deployment.polling;
 
 import jakarta.annotation.Resource;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
-import org.awaitility.Awaitility;
-import org.awaitility.core.ConditionTimeoutException;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
 import org.eclipse.xpanse.modules.models.service.deployment.DeploymentStatusUpdate;
+import org.eclipse.xpanse.modules.models.service.deployment.ServiceDeploymentStatusChangedEvent;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.ServiceNotDeployedException;
 import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-/** Bean implements long-polling mechanism to return the status of the order. */
+/**
+ * Bean implements long-polling and server-sent events mechanism to return the status of the service
+ * deployment. Waiting clients are notified by the service deployment status change events instead
+ * of polling the database.
+ */
 @Slf4j
 @Component
 public class ServiceDeploymentStatusChangePolling {
@@ -40,64 +47,142 @@ public class ServiceDeploymentStatusChangePolling {
                     ServiceDeploymentState.ROLLBACK_FAILED,
                     ServiceDeploymentState.MANUAL_CLEANUP_REQUIRED);
 
-    @Value("${service.status.long.polling.interval.in.seconds:5}")
-    private int pollingInterval;
+    private final StatusChangeSubscriptions<UUID, ServiceDeploymentState> subscriptions =
+            new StatusChangeSubscriptions<>();
 
     @Value("${service.status.long.polling.wait.time.in.seconds:30}")
     private int pollingWaitPeriod;
 
+    @Value("${service.status.sse.wait.time.in.seconds:600}")
+    private int sseWaitPeriod;
+
     @Resource private ServiceDeploymentStorage serviceDeploymentStorage;
 
     /**
-     * Method to fetch order status by polling database for a fixed period of time.
+     * Method to fetch service deployment status. The current status is read once from the database
+     * and the result is completed by the status change events. When there is no change in the
+     * configured period of time, the status is read once again from the database.
      *
      * @param deferredResult DeferredResult object from the original HTTP thread to which the result
      *     object must be set.
      * @param serviceId ID of the service.
      * @param previousKnownServiceDeploymentState previously known state of the service deployment
-     *     to client. If not null, the poller will wait as long as there is a change to this.
+     *     to client. If not null, the result will wait as long as there is a change to this.
      */
     public void fetchServiceDeploymentStatusWithPolling(
             DeferredResult<DeploymentStatusUpdate> deferredResult,
             UUID serviceId,
             ServiceDeploymentState previousKnownServiceDeploymentState) {
-        AtomicReference<DeploymentStatusUpdate> ref =
-                new AtomicReference<>(
-                        new DeploymentStatusUpdate(
-                                previousKnownServiceDeploymentState,
-                                FINAL_SERVICE_DEPLOYMENT_STATES.contains(
-                                        previousKnownServiceDeploymentState)));
+        AtomicReference<Runnable> unsubscribe = new AtomicReference<>(() -> {});
+        // subscribe before reading the current state to not miss changes in between.
+        unsubscribe.set(
+                subscriptions.subscribe(
+                        serviceId,
+                        state -> {
+                            if (isStateChanged(previousKnownServiceDeploymentState, state)) {
+                                unsubscribe.get().run();
+                                deferredResult.setResult(getStatusUpdate(state));
+                            }
+                        }));
         try {
-            Awaitility.await()
-                    .atMost(pollingWaitPeriod, TimeUnit.SECONDS)
-                    .pollDelay(0, TimeUnit.SECONDS) // first check runs without wait.
-                    .pollInterval(pollingInterval, TimeUnit.SECONDS)
-                    .until(
-                            () -> {
-                                ServiceDeploymentEntity serviceDeploymentEntity =
-                                        serviceDeploymentStorage.findServiceDeploymentById(
-                                                serviceId);
-                                if (Objects.isNull(serviceDeploymentEntity)) {
-                                    throw new ServiceNotDeployedException(
-                                            "Service with id " + serviceId + " not found");
-                                }
-                                ref.set(
-                                        new DeploymentStatusUpdate(
-                                                serviceDeploymentEntity.getServiceDeploymentState(),
-                                                FINAL_SERVICE_DEPLOYMENT_STATES.contains(
-                                                        serviceDeploymentEntity
-                                                                .getServiceDeploymentState())));
-                                return Objects.isNull(previousKnownServiceDeploymentState)
-                                        || FINAL_SERVICE_DEPLOYMENT_STATES.contains(
-                                                serviceDeploymentEntity.getServiceDeploymentState())
-                                        || serviceDeploymentEntity.getServiceDeploymentState()
-                                                != previousKnownServiceDeploymentState;
-                            });
-        } catch (ConditionTimeoutException conditionTimeoutException) {
-            log.info("No change to service deployment status yet.");
+            ServiceDeploymentState currentState = getCurrentServiceDeploymentState(serviceId);
+            if (isStateChanged(previousKnownServiceDeploymentState, currentState)) {
+                unsubscribe.get().run();
+                deferredResult.setResult(getStatusUpdate(currentState));
+                return;
+            }
         } catch (Exception exception) {
+            unsubscribe.get().run();
             deferredResult.setErrorResult(exception);
+            return;
+        }
+        subscriptions.schedule(
+                () -> {
+                    unsubscribe.get().run();
+                    if (deferredResult.isSetOrExpired()) {
+                        return;
+                    }
+                    log.info("No change to service deployment status yet.");
+                    try {
+                        deferredResult.setResult(
+                                getStatusUpdate(getCurrentServiceDeploymentState(serviceId)));
+                    } catch (Exception exception) {
+                        deferredResult.setErrorResult(exception);
+                    }
+                },
+                pollingWaitPeriod);
+    }
+
+    /**
+     * Streams the status changes of the service deployment as server-sent events. The current
+     * status is sent immediately and the stream is completed when a final state is reached.
+     *
+     * @param serviceId ID of the service.
+     * @return emitter of the status updates.
+     */
+    public SseEmitter streamServiceDeploymentStatus(UUID serviceId) {
+        final ServiceDeploymentState currentState = getCurrentServiceDeploymentState(serviceId);
+        SseEmitter emitter = new SseEmitter(TimeUnit.SECONDS.toMillis(sseWaitPeriod));
+        AtomicReference<Runnable> unsubscribe = new AtomicReference<>(() -> {});
+        // the status updates are sent in order without blocking the threads which publish them.
+        Executor clientExecutor = subscriptions.newClientExecutor();
+        clientExecutor.execute(() -> sendStatusUpdate(emitter, currentState, unsubscribe.get()));
+        unsubscribe.set(
+                subscriptions.subscribe(
+                        serviceId,
+                        state ->
+                                clientExecutor.execute(
+                                        () ->
+                                                sendStatusUpdate(
+                                                        emitter, state, unsubscribe.get()))));
+        emitter.onCompletion(() -> unsubscribe.get().run());
+        emitter.onTimeout(() -> unsubscribe.get().run());
+        emitter.onError(throwable -> unsubscribe.get().run());
+        return emitter;
+    }
+
+    /**
+     * Dispatches the stored service deployment state to the waiting clients.
+     *
+     * @param event service deployment status changed event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceDeploymentStatusChanged(ServiceDeploymentStatusChangedEvent event) {
+        subscriptions.publish(event.getServiceId(), event.getServiceDeploymentState());
+    }
+
+    private void sendStatusUpdate(
+            SseEmitter emitter, ServiceDeploymentState state, Runnable unsubscribe) {
+        try {
+            emitter.send(getStatusUpdate(state));
+            if (FINAL_SERVICE_DEPLOYMENT_STATES.contains(state)) {
+                unsubscribe.run();
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Sending service deployment status to client failed. {}", e.getMessage());
+            unsubscribe.run();
+            emitter.completeWithError(e);
+        }
+    }
+
+    private ServiceDeploymentState getCurrentServiceDeploymentState(UUID serviceId) {
+        ServiceDeploymentEntity serviceDeploymentEntity =
+                serviceDeploymentStorage.findServiceDeploymentById(serviceId);
+        if (Objects.isNull(serviceDeploymentEntity)) {
+            throw new ServiceNotDeployedException("Service with id " + serviceId + " not found");
         }
-        deferredResult.setResult(ref.get());
+        return serviceDeploymentEntity.getServiceDeploymentState();
+    }
+
+    private boolean isStateChanged(
+            ServiceDeploymentState previousKnownState, ServiceDeploymentState currentState) {
+        return Objects.isNull(previousKnownState)
+                || FINAL_SERVICE_DEPLOYMENT_STATES.contains(currentState)
+                || currentState != previousKnownState;
+    }
+
+    private DeploymentStatusUpdate getStatusUpdate(ServiceDeploymentState state) {
+        return new DeploymentStatusUpdate(state, FINAL_SERVICE_DEPLOYMENT_STATES.contains(state));
     }
 }
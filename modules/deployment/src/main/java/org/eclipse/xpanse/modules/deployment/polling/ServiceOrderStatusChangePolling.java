@@ -6,24 +6,31 @@
 package org.eclipse.xpanse.modules.deployment.polling;
 
 import jakarta.annotation.Resource;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
-import org.awaitility.Awaitility;
-import org.awaitility.core.ConditionTimeoutException;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
 import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrderStatusChangedEvent;
 import org.eclipse.xpanse.modules.models.service.order.ServiceOrderStatusUpdate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-/** Bean implements long-polling mechanism to return the task status of the service order. */
+/**
+ * Bean implements long-polling and server-sent events mechanism to return the task status of the
+ * service order. Waiting clients are notified by the service order status change events instead of
+ * polling the database.
+ */
 @Slf4j
 @Component
 public class ServiceOrderStatusChangePolling {
@@ -31,64 +38,150 @@ public class ServiceOrderStatusChangePolling {
     private static final List<OrderStatus> FINAL_TASK_STATUS =
             Arrays.asList(OrderStatus.FAILED, OrderStatus.SUCCESSFUL);
 
-    @Value("${service.order.status.long.polling.interval.in.seconds:5}")
-    private int pollingInterval;
+    private final StatusChangeSubscriptions<UUID, ServiceOrderStatusUpdate> subscriptions =
+            new StatusChangeSubscriptions<>();
 
     @Value("${service.order.status.long.polling.wait.time.in.seconds:60}")
     private int pollingWaitPeriod;
 
+    @Value("${service.status.sse.wait.time.in.seconds:600}")
+    private int sseWaitPeriod;
+
     @Resource private ServiceOrderStorage orderStorage;
 
     /**
-     * Fetch status of the service order by polling database for a fixed period of time.
+     * Fetch status of the service order. The current status is read once from the database and the
+     * result is completed by the status change events. When there is no change in the configured
+     * period of time, the status is read once again from the database.
      *
      * @param deferredResult deferredResult object from the original HTTP thread to which the result
      *     object must be set.
      * @param orderId id of the service order.
      * @param previousKnownOrderStatus previously known task status of the service order to the
-     *     client. the poller will wait as long as there is a change to this.
+     *     client. the result will wait as long as there is a change to this.
      */
     public void fetchServiceOrderStatusWithPolling(
             DeferredResult<ServiceOrderStatusUpdate> deferredResult,
             UUID orderId,
             OrderStatus previousKnownOrderStatus) {
-        log.info("Start polling for service order status with order id: {}", orderId);
-        AtomicReference<ServiceOrderStatusUpdate> ref =
-                new AtomicReference<>(
-                        new ServiceOrderStatusUpdate(
-                                previousKnownOrderStatus,
-                                FINAL_TASK_STATUS.contains(previousKnownOrderStatus),
-                                null));
+        log.info("Start waiting for service order status with order id: {}", orderId);
+        AtomicReference<Runnable> unsubscribe = new AtomicReference<>(() -> {});
+        // subscribe before reading the current status to not miss changes in between.
+        unsubscribe.set(
+                subscriptions.subscribe(
+                        orderId,
+                        statusUpdate -> {
+                            if (isStatusChanged(previousKnownOrderStatus, statusUpdate)) {
+                                unsubscribe.get().run();
+                                deferredResult.setResult(statusUpdate);
+                            }
+                        }));
         try {
-            Awaitility.await()
-                    .atMost(pollingWaitPeriod, TimeUnit.SECONDS)
-                    .pollDelay(0, TimeUnit.SECONDS) // first check runs without wait.
-                    .pollInterval(pollingInterval, TimeUnit.SECONDS)
-                    .until(
-                            () -> {
-                                ServiceOrderEntity serviceOrderEntity =
-                                        orderStorage.getEntityById(orderId);
-                                OrderStatus orderStatus = serviceOrderEntity.getOrderStatus();
-                                boolean isOrderCompleted = FINAL_TASK_STATUS.contains(orderStatus);
-                                ref.set(
-                                        new ServiceOrderStatusUpdate(
-                                                orderStatus,
-                                                isOrderCompleted,
-                                                serviceOrderEntity.getErrorResponse()));
-                                boolean statusIsChanged =
-                                        Objects.nonNull(previousKnownOrderStatus)
-                                                && orderStatus != previousKnownOrderStatus;
-                                return isOrderCompleted || statusIsChanged;
-                            });
-        } catch (ConditionTimeoutException conditionTimeoutException) {
-            log.error("The service order is not completed or status not changed yet.");
+            ServiceOrderStatusUpdate currentStatus = getCurrentServiceOrderStatus(orderId);
+            if (isStatusChanged(previousKnownOrderStatus, currentStatus)) {
+                unsubscribe.get().run();
+                deferredResult.setResult(currentStatus);
+                return;
+            }
         } catch (Exception exception) {
             log.error(
-                    "Error occurred while polling for service order status with order id: {}",
+                    "Error occurred while fetching service order status with order id: {}",
                     orderId,
                     exception);
+            unsubscribe.get().run();
             deferredResult.setErrorResult(exception);
+            return;
         }
-        deferredResult.setResult(ref.get());
+        subscriptions.schedule(
+                () -> {
+                    unsubscribe.get().run();
+                    if (deferredResult.isSetOrExpired()) {
+                        return;
+                    }
+                    log.error("The service order is not completed or status not changed yet.");
+                    try {
+                        deferredResult.setResult(getCurrentServiceOrderStatus(orderId));
+                    } catch (Exception exception) {
+                        deferredResult.setErrorResult(exception);
+                    }
+                },
+                pollingWaitPeriod);
+    }
+
+    /**
+     * Streams the status changes of the service order as server-sent events. The current status is
+     * sent immediately and the stream is completed when the order is completed.
+     *
+     * @param orderId id of the service order.
+     * @return emitter of the status updates.
+     */
+    public SseEmitter streamServiceOrderStatus(UUID orderId) {
+        final ServiceOrderStatusUpdate currentStatus = getCurrentServiceOrderStatus(orderId);
+        SseEmitter emitter = new SseEmitter(TimeUnit.SECONDS.toMillis(sseWaitPeriod));
+        AtomicReference<Runnable> unsubscribe = new AtomicReference<>(() -> {});
+        // the status updates are sent in order without blocking the threads which publish them.
+        Executor clientExecutor = subscriptions.newClientExecutor();
+        clientExecutor.execute(() -> sendStatusUpdate(emitter, currentStatus, unsubscribe.get()));
+        unsubscribe.set(
+                subscriptions.subscribe(
+                        orderId,
+                        statusUpdate ->
+                                clientExecutor.execute(
+                                        () ->
+                                                sendStatusUpdate(
+                                                        emitter,
+                                                        statusUpdate,
+                                                        unsubscribe.get()))));
+        emitter.onCompletion(() -> unsubscribe.get().run());
+        emitter.onTimeout(() -> unsubscribe.get().run());
+        emitter.onError(throwable -> unsubscribe.get().run());
+        return emitter;
+    }
+
+    /**
+     * Dispatches the stored service order status to the waiting clients.
+     *
+     * @param event service order status changed event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceOrderStatusChanged(ServiceOrderStatusChangedEvent event) {
+        subscriptions.publish(
+                event.getOrderId(),
+                new ServiceOrderStatusUpdate(
+                        event.getOrderStatus(),
+                        FINAL_TASK_STATUS.contains(event.getOrderStatus()),
+                        event.getErrorResponse()));
+    }
+
+    private void sendStatusUpdate(
+            SseEmitter emitter, ServiceOrderStatusUpdate statusUpdate, Runnable unsubscribe) {
+        try {
+            emitter.send(statusUpdate);
+            if (statusUpdate.getIsOrderCompleted()) {
+                unsubscribe.run();
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Sending service order status to client failed. {}", e.getMessage());
+            unsubscribe.run();
+            emitter.completeWithError(e);
+        }
+    }
+
+    private ServiceOrderStatusUpdate getCurrentServiceOrderStatus(UUID orderId) {
+        ServiceOrderEntity serviceOrderEntity = orderStorage.getEntityById(orderId);
+        OrderStatus orderStatus = serviceOrderEntity.getOrderStatus();
+        return new ServiceOrderStatusUpdate(
+                orderStatus,
+                FINAL_TASK_STATUS.contains(orderStatus),
+                serviceOrderEntity.getErrorResponse());
+    }
+
+    private boolean isStatusChanged(
+            OrderStatus previousKnownOrderStatus, ServiceOrderStatusUpdate currentStatus) {
+        boolean statusIsChanged =
+                Objects.nonNull(previousKnownOrderStatus)
+                        && currentStatus.getOrderStatus() != previousKnownOrderStatus;
+        return currentStatus.getIsOrderCompleted() || statusIsChanged;
     }
 }
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory registry of clients waiting for status changes of services or orders. Status change
+ * events are dispatched only to the subscribers of the changed key, so waiting clients don't need
+ * to poll the database.
+ *
+ * @param <K> type of the key, for example the service ID or the order ID.
+ * @param <S> type of the status.
+ */
+@Slf4j
+class StatusChangeSubscriptions<K, S> {
+
+    // waiting for the clients and reading the database must not block the committing threads.
+    private static final ExecutorService STATUS_CHANGE_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("status-change-", 0).factory());
+
+    private final Map<K, Set<Consumer<S>>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Subscribes to status changes of the key.
+     *
+     * @param key key to subscribe to.
+     * @param subscriber subscriber called with the new status.
+     * @return handle to cancel the subscription.
+     */
+    Runnable subscribe(K key, Consumer<S> subscriber) {
+        subscribers.compute(
+                key,
+                (k, keySubscribers) -> {
+                    Set<Consumer<S>> updated =
+                            Objects.isNull(keySubscribers)
+                                    ? ConcurrentHashMap.newKeySet()
+                                    : keySubscribers;
+                    updated.add(subscriber);
+                    return updated;
+                });
+        return () ->
+                subscribers.computeIfPresent(
+                        key,
+                        (k, keySubscribers) -> {
+                            keySubscribers.remove(subscriber);
+                            return keySubscribers.isEmpty() ? null : keySubscribers;
+                        });
+    }
+
+    /**
+     * Dispatches the status change to all subscribers of the key.
+     *
+     * @param key key of which the status is changed.
+     * @param status new status.
+     */
+    void publish(K key, S status) {
+        Set<Consumer<S>> keySubscribers = subscribers.get(key);
+        if (Objects.isNull(keySubscribers)) {
+            return;
+        }
+        for (Consumer<S> subscriber : keySubscribers) {
+            try {
+                subscriber.accept(status);
+            } catch (RuntimeException e) {
+                log.error("Notifying status change of {} failed.", key, e);
+            }
+        }
+    }
+
+    /**
+     * Runs the task on a virtual thread after the delay.
+     *
+     * @param task task to run.
+     * @param delayInSeconds delay in seconds.
+     */
+    void schedule(Runnable task, long delayInSeconds) {
+        CompletableFuture.delayedExecutor(delayInSeconds, TimeUnit.SECONDS, STATUS_CHANGE_EXECUTOR)
+                .execute(task);
+    }
+
+    /**
+     * Get an executor which runs the tasks of one client on virtual threads one after another in
+     * the order they are submitted, so the status changes are sent to the client in order without
+     * blocking the threads which publish them.
+     *
+     * @return executor of the tasks of one client.
+     */
+    Executor newClientExecutor() {
+        return new SerialExecutor();
+    }
+
+    /**
+     * Get number of keys which have subscribers.
+     *
+     * @return number of subscribed keys.
+     */
+    int getSubscribedKeysCount() {
+        return subscribers.size();
+    }
+
+    /** Executor which runs the tasks one after another with the status change executor. */
+    private static final class SerialExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private Runnable activeTask;
+
+        @Override
+        public synchronized void execute(@Nonnull Runnable task) {
+            tasks.add(
+                    () -> {
+                        try {
+                            task.run();
+                        } finally {
+                            runNextTask();
+                        }
+                    });
+            if (Objects.isNull(activeTask)) {
+                runNextTask();
+            }
+        }
+
+        private synchronized void runNextTask() {
+            activeTask = tasks.poll();
+            if (Objects.nonNull(activeTask)) {
+                STATUS_CHANGE_EXECUTOR.execute(activeTask);
+            }
+        }
+    }
+}
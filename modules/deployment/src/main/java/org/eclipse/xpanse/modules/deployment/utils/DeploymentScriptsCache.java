@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import jakarta.annotation.Resource;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.deployment.utils.FileCacheUtils.CachedEntry;
+import org.eclipse.xpanse.modules.models.service.deployment.DeploymentFileCacheUsedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to manage the local cache of the deployment scripts of the service templates. The script
+ * files of a template version are written once into a directory named by the hash of the scripts,
+ * from which the files are hard linked into the task workspaces. Files which are written in place
+ * by xpanse or the deployer tools are copied instead. The least recently used entries are evicted
+ * when the cache grows beyond the configured size.
+ */
+@Slf4j
+@Component
+public class DeploymentScriptsCache {
+
+    private static final String CACHE_NAME = "deployment-scripts";
+
+    private final ReadWriteLock evictionLock = new ReentrantReadWriteLock();
+
+    @Resource private ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${deployment.scripts.cache.enabled:true}")
+    private boolean deploymentScriptsCacheEnabled;
+
+    @Value("${deployment.scripts.cache.directory:xpanse_deployment_scripts_cache}")
+    private String deploymentScriptsCacheDirectory;
+
+    @Value("${deployment.scripts.cache.max.size.in.mb:512}")
+    private long deploymentScriptsCacheMaxSizeInMb;
+
+    /**
+     * Check if the deployment scripts are materialized from the cache.
+     *
+     * @return true if the cache is enabled.
+     */
+    public boolean isCacheEnabled() {
+        return deploymentScriptsCacheEnabled;
+    }
+
+    /**
+     * Materializes the script files into the workspace from the cache. The script files are written
+     * into the cache first when they are not cached yet.
+     *
+     * @param workspace directory of the task where the script files must be created.
+     * @param scriptFiles script files by file name.
+     * @return files created in the workspace.
+     * @throws IOException if the cache can't be updated or the workspace can't be written.
+     */
+    public List<File> materializeScripts(Path workspace, Map<String, String> scriptFiles)
+            throws IOException {
+        Map<String, String> validScriptFiles = new TreeMap<>();
+        scriptFiles.forEach(
+                (scriptName, scriptContent) -> {
+                    if (StringUtils.isNotBlank(scriptName)
+                            && StringUtils.isNotBlank(scriptContent)) {
+                        validScriptFiles.put(scriptName, scriptContent);
+                    }
+                });
+        Path entryDir =
+                FileCacheUtils.getCacheRootDir(deploymentScriptsCacheDirectory)
+                        .resolve(getScriptsHash(validScriptFiles));
+        evictionLock.readLock().lock();
+        try {
+            boolean cacheHit = Files.isDirectory(entryDir);
+            if (cacheHit) {
+                log.info("Using cached deployment scripts {}.", entryDir.getFileName());
+            } else {
+                writeEntry(entryDir, validScriptFiles);
+            }
+            applicationEventPublisher.publishEvent(
+                    new DeploymentFileCacheUsedEvent(
+                            CACHE_NAME, cacheHit ? 1 : 0, cacheHit ? 0 : 1, 0));
+            FileCacheUtils.markAsUsed(entryDir);
+            List<File> files = new ArrayList<>();
+            for (String scriptName : validScriptFiles.keySet()) {
+                Path target = resolveScriptFile(workspace, scriptName);
+                Files.deleteIfExists(target);
+                FileCacheUtils.linkOrCopyFile(resolveScriptFile(entryDir, scriptName), target);
+                files.add(target.toFile());
+            }
+            return files;
+        } finally {
+            evictionLock.readLock().unlock();
+        }
+    }
+
+    /** Evicts the least recently used entries of the cache. Runs once an hour. */
+    @Scheduled(cron = "0 50 * * * ?")
+    public void evictLeastRecentlyUsedEntries() {
+        Path rootDir = FileCacheUtils.getCacheRootDir(deploymentScriptsCacheDirectory);
+        if (!deploymentScriptsCacheEnabled || !Files.isDirectory(rootDir)) {
+            return;
+        }
+        evictionLock.writeLock().lock();
+        try (Stream<Path> entryDirs = Files.list(rootDir)) {
+            List<CachedEntry> cachedEntries = new ArrayList<>();
+            for (Path entryDir : entryDirs.filter(Files::isDirectory).toList()) {
+                cachedEntries.add(FileCacheUtils.getCachedEntry(entryDir));
+            }
+            int evictedEntries =
+                    FileCacheUtils.evictLeastRecentlyUsedEntries(
+                            cachedEntries,
+                            deploymentScriptsCacheMaxSizeInMb * 1024 * 1024,
+                            entryDir -> {
+                                boolean deleted = FileCacheUtils.deleteDirectory(entryDir);
+                                if (deleted) {
+                                    log.info("Evicted {} from deployment scripts cache.", entryDir);
+                                }
+                                return deleted;
+                            });
+            if (evictedEntries > 0) {
+                applicationEventPublisher.publishEvent(
+                        new DeploymentFileCacheUsedEvent(CACHE_NAME, 0, 0, evictedEntries));
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Reading deployment scripts cache {} failed.", rootDir, e);
+        } finally {
+            evictionLock.writeLock().unlock();
+        }
+    }
+
+    private void writeEntry(Path entryDir, Map<String, String> scriptFiles) throws IOException {
+        Path tempDir = entryDir.resolveSibling(entryDir.getFileName() + "." + UUID.randomUUID());
+        Files.createDirectories(tempDir);
+        try {
+            for (Map.Entry<String, String> entry : scriptFiles.entrySet()) {
+                Files.writeString(
+                        resolveScriptFile(tempDir, entry.getKey()),
+                        entry.getValue(),
+                        StandardCharsets.UTF_8);
+            }
+            Files.move(tempDir, entryDir, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Cached deployment scripts {}.", entryDir.getFileName());
+        } catch (IOException | RuntimeException e) {
+            FileCacheUtils.deleteDirectory(tempDir);
+            // the entry may have been written by a concurrent task with the same scripts.
+            if (!Files.isDirectory(entryDir)) {
+                throw e;
+            }
+        }
+    }
+
+    private Path resolveScriptFile(Path directory, String scriptName) throws IOException {
+        Path scriptFile = directory.resolve(scriptName).normalize();
+        if (!directory.equals(scriptFile.getParent())) {
+            throw new IOException("Invalid deployment script file name " + scriptName);
+        }
+        return scriptFile;
+    }
+
+    private String getScriptsHash(Map<String, String> sortedScriptFiles) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            for (Map.Entry<String, String> entry : sortedScriptFiles.entrySet()) {
+                messageDigest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                messageDigest.update((byte) 0);
+                messageDigest.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                messageDigest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
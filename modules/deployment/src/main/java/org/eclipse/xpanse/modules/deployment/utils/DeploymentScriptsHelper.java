@@ -24,13 +24,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.awaitility.Awaitility;
 import org.awaitility.core.ConditionTimeoutException;
+import org.eclipse.xpanse.modules.database.tfstate.TfStateContentUtils;
 import org.eclipse.xpanse.modules.deployment.exceptions.DeploymentScriptsCreationFailedException;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.FileLockedException;
 import org.eclipse.xpanse.modules.models.servicetemplate.Deployment;
@@ -44,10 +47,11 @@ public class DeploymentScriptsHelper {
 
     public static final String TF_SCRIPT_FILE_EXTENSION = ".tf";
     public static final String TF_VARS_FILE_NAME = "variables.tfvars.json";
-    public static final String TF_STATE_FILE_NAME = "terraform.tfstate";
+    public static final String TF_STATE_FILE_NAME = TfStateContentUtils.TF_STATE_FILE_NAME;
     private static final List<String> EXCLUDED_FILE_SUFFIX_LIST =
             Arrays.asList(".tf", ".tfstate", ".binary", ".hcl");
     private static final String MODE = "rw";
+    private static final String WORKSPACE_MANIFEST_FILE_NAME = ".xpanse_workspace_manifest";
 
     @Value("${wait.time.for.deploy.result.file.lock.in.seconds}")
     private int awaitAtMost;
@@ -59,6 +63,7 @@ public class DeploymentScriptsHelper {
     private boolean cleanWorkspaceAfterDeploymentEnabled;
 
     @Resource private ScriptsGitRepoManage scriptsGitRepoManage;
+    @Resource private DeploymentScriptsCache deploymentScriptsCache;
 
     /**
      * Create workspace directory for a deployment task.
@@ -117,6 +122,7 @@ public class DeploymentScriptsHelper {
                 files.add(stateFile);
             }
         }
+        writeWorkspaceManifest(ws.toPath(), files);
         return files;
     }
 
@@ -141,7 +147,9 @@ public class DeploymentScriptsHelper {
     }
 
     /**
-     * Reads the contents of the other generated file in the workspace for the task.
+     * Reads the contents of the other generated file in the workspace for the task. The prepared
+     * files are read from the manifest of the workspace, the given prepared files are only used
+     * when the workspace has no manifest.
      *
      * @return Map fileName as key, contents as value.
      */
@@ -150,13 +158,23 @@ public class DeploymentScriptsHelper {
         Map<String, String> fileContentMap = new HashMap<>();
         File workPath = new File(taskWorkspace);
         if (workPath.isDirectory() && workPath.exists()) {
+            Set<String> preparedFileNames = readWorkspaceManifest(workPath.toPath());
+            if (Objects.isNull(preparedFileNames)) {
+                preparedFileNames =
+                        preparedFiles.stream()
+                                .map(file -> getRelativePath(workPath.toPath(), file))
+                                .collect(Collectors.toSet());
+            }
+            final Set<String> excludedFileNames = preparedFileNames;
             File[] files = workPath.listFiles();
             if (Objects.nonNull(files)) {
                 Arrays.stream(files)
                         .filter(
                                 file ->
-                                        !preparedFiles.contains(file)
-                                                && file.isFile()
+                                        file.isFile()
+                                                && !excludedFileNames.contains(file.getName())
+                                                && !WORKSPACE_MANIFEST_FILE_NAME.equals(
+                                                        file.getName())
                                                 && !isExcludedFile(file.getName()))
                         .forEach(
                                 file -> {
@@ -213,6 +231,16 @@ public class DeploymentScriptsHelper {
     }
 
     private List<File> createScriptFiles(String taskWorkspace, Map<String, String> scriptsMap) {
+        if (deploymentScriptsCache.isCacheEnabled()) {
+            try {
+                return deploymentScriptsCache.materializeScripts(
+                        Path.of(taskWorkspace), scriptsMap);
+            } catch (IOException e) {
+                log.warn(
+                        "Materializing deployment scripts from cache failed, writing them. {}",
+                        e.getMessage());
+            }
+        }
         List<File> files = new ArrayList<>();
         for (Map.Entry<String, String> entry : scriptsMap.entrySet()) {
             String scriptName = entry.getKey();
@@ -250,6 +278,37 @@ public class DeploymentScriptsHelper {
         }
     }
 
+    private void writeWorkspaceManifest(Path taskWorkspace, List<File> preparedFiles) {
+        List<String> preparedFileNames =
+                preparedFiles.stream().map(file -> getRelativePath(taskWorkspace, file)).toList();
+        try {
+            Files.write(taskWorkspace.resolve(WORKSPACE_MANIFEST_FILE_NAME), preparedFileNames);
+        } catch (IOException e) {
+            log.warn("Writing manifest of workspace {} failed.", taskWorkspace, e);
+        }
+    }
+
+    private Set<String> readWorkspaceManifest(Path taskWorkspace) {
+        Path manifest = taskWorkspace.resolve(WORKSPACE_MANIFEST_FILE_NAME);
+        if (!Files.isRegularFile(manifest)) {
+            return null;
+        }
+        try {
+            return Set.copyOf(Files.readAllLines(manifest));
+        } catch (IOException e) {
+            log.warn("Reading manifest of workspace {} failed.", taskWorkspace, e);
+            return null;
+        }
+    }
+
+    private String getRelativePath(Path taskWorkspace, File file) {
+        Path filePath = file.toPath().toAbsolutePath().normalize();
+        Path workspacePath = taskWorkspace.toAbsolutePath().normalize();
+        return filePath.startsWith(workspacePath)
+                ? workspacePath.relativize(filePath).toString()
+                : filePath.toString();
+    }
+
     private boolean isExcludedFile(String fileName) {
         if (StringUtils.isNotBlank(fileName) && fileName.contains(".")) {
             String fileSuffix = fileName.substring(fileName.lastIndexOf("."));
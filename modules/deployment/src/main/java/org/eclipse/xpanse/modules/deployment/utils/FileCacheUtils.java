@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import static org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper.TF_STATE_FILE_NAME;
+import static org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper.TF_VARS_FILE_NAME;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Utils of the local file caches of the deployments. The cached directories are hard linked into
+ * the task workspaces and the least recently used ones are evicted when a cache grows beyond its
+ * maximum size.
+ */
+@Slf4j
+public final class FileCacheUtils {
+
+    // files written in place by xpanse or the deployer tools must not share data with the cache.
+    private static final Set<String> COPIED_FILE_NAMES =
+            Set.of(
+                    TF_STATE_FILE_NAME,
+                    TF_STATE_FILE_NAME + ".backup",
+                    TF_VARS_FILE_NAME,
+                    ".terraform.lock.hcl");
+
+    private FileCacheUtils() {
+        // utility class
+    }
+
+    /**
+     * Get the root directory of a cache. Relative directories are resolved in the temp directory.
+     *
+     * @param cacheDirectory configured directory of the cache.
+     * @return absolute path of the root directory.
+     */
+    public static Path getCacheRootDir(String cacheDirectory) {
+        File rootDir = new File(cacheDirectory);
+        if (!rootDir.isAbsolute()) {
+            rootDir = new File(System.getProperty("java.io.tmpdir"), cacheDirectory);
+        }
+        return rootDir.toPath().toAbsolutePath();
+    }
+
+    /**
+     * Hard links a cached file into a workspace. Files written in place are copied instead, as well
+     * as files which can't be hard linked.
+     *
+     * @param source cached file.
+     * @param target file in the workspace.
+     * @throws IOException if the file can't be linked or copied.
+     */
+    public static void linkOrCopyFile(Path source, Path target) throws IOException {
+        if (!COPIED_FILE_NAMES.contains(source.getFileName().toString())) {
+            try {
+                Files.createLink(target, source);
+                return;
+            } catch (IOException | UnsupportedOperationException e) {
+                log.debug("Hard link of {} not possible, copying it.", source);
+            }
+        }
+        Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES);
+    }
+
+    /**
+     * Marks a cached directory as used now, its modification time is the last usage for the LRU
+     * eviction.
+     *
+     * @param directory cached directory.
+     * @throws IOException if the modification time can't be set.
+     */
+    public static void markAsUsed(Path directory) throws IOException {
+        Files.setLastModifiedTime(directory, FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    /**
+     * Get a cached directory with its last usage and size.
+     *
+     * @param directory cached directory.
+     * @return cached entry of the directory.
+     * @throws IOException if the directory can't be read.
+     */
+    public static CachedEntry getCachedEntry(Path directory) throws IOException {
+        return new CachedEntry(
+                directory, Files.getLastModifiedTime(directory), getDirectorySize(directory));
+    }
+
+    /**
+     * Evicts the least recently used entries until the total size of the entries is not beyond the
+     * maximum size.
+     *
+     * @param cachedEntries all entries of the cache.
+     * @param maxSizeInBytes maximum size of the cache.
+     * @param evictor evicts an entry, returns false if the entry is kept.
+     * @return number of evicted entries.
+     */
+    public static int evictLeastRecentlyUsedEntries(
+            List<CachedEntry> cachedEntries, long maxSizeInBytes, Predicate<Path> evictor) {
+        long totalSize = cachedEntries.stream().mapToLong(CachedEntry::size).sum();
+        int evictedEntries = 0;
+        List<CachedEntry> sortedEntries =
+                cachedEntries.stream().sorted(Comparator.comparing(CachedEntry::lastUsed)).toList();
+        for (CachedEntry cachedEntry : sortedEntries) {
+            if (totalSize <= maxSizeInBytes) {
+                break;
+            }
+            if (evictor.test(cachedEntry.path())) {
+                totalSize -= cachedEntry.size();
+                evictedEntries++;
+            }
+        }
+        return evictedEntries;
+    }
+
+    /**
+     * Deletes a cached directory with all its files.
+     *
+     * @param directory cached directory.
+     * @return true if the directory is deleted.
+     */
+    public static boolean deleteDirectory(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+            return true;
+        } catch (IOException e) {
+            log.error("Deleting cached directory {} failed.", directory, e);
+            return false;
+        }
+    }
+
+    private static long getDirectorySize(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.map(FileCacheUtils::getFileAttributes)
+                    .filter(attributes -> Objects.nonNull(attributes) && attributes.isRegularFile())
+                    .mapToLong(BasicFileAttributes::size)
+                    .sum();
+        }
+    }
+
+    private static BasicFileAttributes getFileAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // the file may have been deleted meanwhile.
+            return null;
+        }
+    }
+
+    /**
+     * Cached directory with its last usage and size.
+     *
+     * @param path path of the directory.
+     * @param lastUsed last usage of the directory.
+     * @param size total size of the files of the directory.
+     */
+    public record CachedEntry(Path path, FileTime lastUsed, long size) {}
+}
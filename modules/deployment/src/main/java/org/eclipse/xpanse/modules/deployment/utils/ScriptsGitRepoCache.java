@@ -0,0 +1,362 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import jakarta.annotation.Resource;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectLoader;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.xpanse.modules.deployment.utils.FileCacheUtils.CachedEntry;
+import org.eclipse.xpanse.modules.models.common.exceptions.GitRepoCloneException;
+import org.eclipse.xpanse.modules.models.service.deployment.DeploymentFileCacheUsedEvent;
+import org.eclipse.xpanse.modules.models.servicetemplate.ScriptsRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to manage the local cache of the scripts repos. Each repo URL gets a shallow bare clone,
+ * which is updated with incremental fetches of the checked out branch or tag only. The tree of
+ * every checked out commit is extracted once into a snapshot directory, from which the files are
+ * hard linked into the task workspaces. The branch or tag is always resolved with a lookup of the
+ * remote refs, so a task workspace is prepared without fetching or cloning the repo when the branch
+ * has not changed since the last checkout. The least recently used snapshots and clones are evicted
+ * when the cache grows beyond the configured size.
+ */
+@Slf4j
+@Component
+public class ScriptsGitRepoCache {
+
+    private static final String REPO_DIR_NAME = "repo.git";
+    private static final String SNAPSHOTS_DIR_NAME = "snapshots";
+    private static final String LOCK_FILE_NAME = ".lock";
+
+    private static final String CACHE_NAME = "scripts-repo";
+
+    private final Map<String, Lock> repoLocks = new ConcurrentHashMap<>();
+
+    @Resource private ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${scripts.repo.cache.enabled:true}")
+    private boolean scriptsRepoCacheEnabled;
+
+    @Value("${scripts.repo.cache.directory:xpanse_scripts_repo_cache}")
+    private String scriptsRepoCacheDirectory;
+
+    @Value("${scripts.repo.cache.max.size.in.mb:2048}")
+    private long scriptsRepoCacheMaxSizeInMb;
+
+    @Value("${scripts.repo.cache.fetch.depth:1}")
+    private int fetchDepth;
+
+    @Value("${git.command.timeout.seconds:10}")
+    private int gitCommandTimeoutSeconds;
+
+    /**
+     * Check if the scripts repos are checked out from the cache.
+     *
+     * @return true if the cache is enabled.
+     */
+    public boolean isCacheEnabled() {
+        return scriptsRepoCacheEnabled;
+    }
+
+    /**
+     * Checks out the scripts repo into the workspace from the cache. The branch or tag is resolved
+     * to its current commit first, the repo is only fetched when this commit is not cached yet.
+     *
+     * @param workspace directory of the task where the scripts repo must be checked out.
+     * @param scriptsRepo scripts repo to be checked out.
+     * @return id of the checked out commit.
+     * @throws GitAPIException if the scripts repo can't be read.
+     * @throws IOException if the cache can't be updated or the workspace can't be written.
+     */
+    public String checkoutScripts(Path workspace, ScriptsRepo scriptsRepo)
+            throws GitAPIException, IOException {
+        Ref remoteRef = resolveRemoteRef(scriptsRepo);
+        ObjectId remoteCommitId =
+                Objects.nonNull(remoteRef.getPeeledObjectId())
+                        ? remoteRef.getPeeledObjectId()
+                        : remoteRef.getObjectId();
+        Path repoCacheDir = getRepoCacheDir(scriptsRepo.getRepoUrl());
+        Lock lock = repoLocks.computeIfAbsent(repoCacheDir.toString(), dir -> new ReentrantLock());
+        boolean cacheMissed = false;
+        lock.lock();
+        try (FileChannel ignored = lockRepoCacheDir(repoCacheDir)) {
+            Path snapshotDir = getSnapshotDir(repoCacheDir, remoteCommitId);
+            if (Files.isDirectory(snapshotDir)) {
+                log.info(
+                        "Using cached commit {} of scripts repo {}.",
+                        remoteCommitId.name(),
+                        scriptsRepo.getRepoUrl());
+            } else {
+                cacheMissed = true;
+                ObjectId commitId = fetchRef(repoCacheDir, scriptsRepo, remoteRef.getName());
+                snapshotDir = getSnapshotDir(repoCacheDir, commitId);
+                if (!Files.isDirectory(snapshotDir)) {
+                    extractSnapshot(repoCacheDir, commitId, snapshotDir);
+                }
+            }
+            applicationEventPublisher.publishEvent(
+                    new DeploymentFileCacheUsedEvent(
+                            CACHE_NAME, cacheMissed ? 0 : 1, cacheMissed ? 1 : 0, 0));
+            FileCacheUtils.markAsUsed(snapshotDir);
+            linkSnapshot(snapshotDir, workspace);
+            return snapshotDir.getFileName().toString();
+        } finally {
+            lock.unlock();
+            if (cacheMissed) {
+                evictLeastRecentlyUsedEntries();
+            }
+        }
+    }
+
+    /** Evicts the least recently used snapshots and clones of the cache. Runs once an hour. */
+    @Scheduled(cron = "0 40 * * * ?")
+    public void evictLeastRecentlyUsedEntries() {
+        Path rootDir = FileCacheUtils.getCacheRootDir(scriptsRepoCacheDirectory);
+        if (!scriptsRepoCacheEnabled || !Files.isDirectory(rootDir)) {
+            return;
+        }
+        List<CachedEntry> cachedEntries = new ArrayList<>();
+        try (Stream<Path> repoCacheDirs = Files.list(rootDir)) {
+            for (Path repoCacheDir : repoCacheDirs.filter(Files::isDirectory).toList()) {
+                cachedEntries.addAll(getCachedEntries(repoCacheDir));
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Reading scripts repo cache {} failed.", rootDir, e);
+            return;
+        }
+        int evictedEntries =
+                FileCacheUtils.evictLeastRecentlyUsedEntries(
+                        cachedEntries, scriptsRepoCacheMaxSizeInMb * 1024 * 1024, this::evictEntry);
+        if (evictedEntries > 0) {
+            applicationEventPublisher.publishEvent(
+                    new DeploymentFileCacheUsedEvent(CACHE_NAME, 0, 0, evictedEntries));
+        }
+    }
+
+    private Ref resolveRemoteRef(ScriptsRepo scriptsRepo) throws GitAPIException {
+        Collection<Ref> remoteRefs =
+                Git.lsRemoteRepository()
+                        .setRemote(scriptsRepo.getRepoUrl())
+                        .setHeads(true)
+                        .setTags(true)
+                        .setTimeout(getTimeoutSeconds())
+                        .call();
+        String branch = scriptsRepo.getBranch();
+        // same lookup order as a clone of the branch, which may also be a tag.
+        for (String refName :
+                List.of(branch, Constants.R_HEADS + branch, Constants.R_TAGS + branch)) {
+            for (Ref remoteRef : remoteRefs) {
+                if (remoteRef.getName().equals(refName)) {
+                    return remoteRef;
+                }
+            }
+        }
+        throw new GitRepoCloneException(
+                String.format("Branch %s not found in repo %s.", branch, scriptsRepo.getRepoUrl()));
+    }
+
+    private ObjectId fetchRef(Path repoCacheDir, ScriptsRepo scriptsRepo, String refName)
+            throws GitAPIException, IOException {
+        File repoDir = repoCacheDir.resolve(REPO_DIR_NAME).toFile();
+        if (!new File(repoDir, Constants.HEAD).exists()) {
+            Git.init().setBare(true).setDirectory(repoDir).call().close();
+        }
+        try (Git git = Git.open(repoDir)) {
+            git.fetch()
+                    .setRemote(scriptsRepo.getRepoUrl())
+                    .setRefSpecs(new RefSpec("+" + refName + ":" + refName))
+                    .setDepth(Math.max(fetchDepth, 1))
+                    .setTimeout(getTimeoutSeconds())
+                    .call();
+            ObjectId commitId =
+                    git.getRepository().resolve(refName + "^{" + Constants.TYPE_COMMIT + "}");
+            if (Objects.isNull(commitId)) {
+                throw new GitRepoCloneException(
+                        String.format(
+                                "Branch %s not fetched from repo %s.",
+                                scriptsRepo.getBranch(), scriptsRepo.getRepoUrl()));
+            }
+            FileCacheUtils.markAsUsed(repoDir.toPath());
+            return commitId;
+        }
+    }
+
+    private void extractSnapshot(Path repoCacheDir, ObjectId commitId, Path snapshotDir)
+            throws IOException {
+        Path tempDir =
+                snapshotDir.resolveSibling(snapshotDir.getFileName() + "." + UUID.randomUUID());
+        Files.createDirectories(tempDir);
+        try (Repository repository =
+                        new FileRepositoryBuilder()
+                                .setGitDir(repoCacheDir.resolve(REPO_DIR_NAME).toFile())
+                                .setMustExist(true)
+                                .build();
+                RevWalk revWalk = new RevWalk(repository);
+                TreeWalk treeWalk = new TreeWalk(repository)) {
+            RevCommit commit = revWalk.parseCommit(commitId);
+            treeWalk.addTree(commit.getTree());
+            treeWalk.setRecursive(true);
+            while (treeWalk.next()) {
+                FileMode fileMode = treeWalk.getFileMode(0);
+                Path target = tempDir.resolve(treeWalk.getPathString()).normalize();
+                if (!target.startsWith(tempDir) || FileMode.GITLINK.equals(fileMode)) {
+                    // submodules are not checked out, same as with a clone of the repo.
+                    continue;
+                }
+                Files.createDirectories(target.getParent());
+                ObjectLoader loader = repository.open(treeWalk.getObjectId(0));
+                if (FileMode.SYMLINK.equals(fileMode)) {
+                    Files.createSymbolicLink(
+                            target, Path.of(new String(loader.getBytes(), StandardCharsets.UTF_8)));
+                    continue;
+                }
+                try (OutputStream outputStream = Files.newOutputStream(target)) {
+                    loader.copyTo(outputStream);
+                }
+                if (FileMode.EXECUTABLE_FILE.equals(fileMode)) {
+                    target.toFile().setExecutable(true);
+                }
+            }
+            Files.move(tempDir, snapshotDir, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            FileCacheUtils.deleteDirectory(tempDir);
+            throw e;
+        }
+    }
+
+    private void linkSnapshot(Path snapshotDir, Path workspace) throws IOException {
+        List<Path> sourcePaths;
+        try (Stream<Path> paths = Files.walk(snapshotDir)) {
+            sourcePaths = paths.toList();
+        }
+        for (Path sourcePath : sourcePaths) {
+            Path target = workspace.resolve(snapshotDir.relativize(sourcePath).toString());
+            if (Files.isSymbolicLink(sourcePath)) {
+                Files.deleteIfExists(target);
+                Files.createSymbolicLink(target, Files.readSymbolicLink(sourcePath));
+            } else if (Files.isDirectory(sourcePath)) {
+                Files.createDirectories(target);
+            } else {
+                Files.deleteIfExists(target);
+                FileCacheUtils.linkOrCopyFile(sourcePath, target);
+            }
+        }
+    }
+
+    private List<CachedEntry> getCachedEntries(Path repoCacheDir) throws IOException {
+        List<CachedEntry> cachedEntries = new ArrayList<>();
+        Path repoDir = repoCacheDir.resolve(REPO_DIR_NAME);
+        if (Files.isDirectory(repoDir)) {
+            cachedEntries.add(FileCacheUtils.getCachedEntry(repoDir));
+        }
+        Path snapshotsDir = repoCacheDir.resolve(SNAPSHOTS_DIR_NAME);
+        if (Files.isDirectory(snapshotsDir)) {
+            try (Stream<Path> snapshotDirs = Files.list(snapshotsDir)) {
+                for (Path snapshotDir : snapshotDirs.filter(Files::isDirectory).toList()) {
+                    cachedEntries.add(FileCacheUtils.getCachedEntry(snapshotDir));
+                }
+            }
+        }
+        return cachedEntries;
+    }
+
+    private boolean evictEntry(Path entryDir) {
+        // the clone is <repoCacheDir>/repo.git and the snapshots <repoCacheDir>/snapshots/<id>.
+        Path repoCacheDir =
+                REPO_DIR_NAME.equals(entryDir.getFileName().toString())
+                        ? entryDir.getParent()
+                        : entryDir.getParent().getParent();
+        Lock lock = repoLocks.computeIfAbsent(repoCacheDir.toString(), dir -> new ReentrantLock());
+        lock.lock();
+        try (FileChannel ignored = lockRepoCacheDir(repoCacheDir)) {
+            boolean deleted = FileCacheUtils.deleteDirectory(entryDir);
+            if (deleted) {
+                log.info("Evicted {} from scripts repo cache.", entryDir);
+            }
+            return deleted;
+        } catch (IOException e) {
+            log.error("Releasing lock of scripts repo cache {} failed.", entryDir, e);
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Path getSnapshotDir(Path repoCacheDir, ObjectId commitId) {
+        return repoCacheDir.resolve(SNAPSHOTS_DIR_NAME).resolve(commitId.name());
+    }
+
+    private Path getRepoCacheDir(String repoUrl) {
+        try {
+            byte[] digest =
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(repoUrl.getBytes(StandardCharsets.UTF_8));
+            return FileCacheUtils.getCacheRootDir(scriptsRepoCacheDirectory)
+                    .resolve(HexFormat.of().formatHex(digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int getTimeoutSeconds() {
+        return gitCommandTimeoutSeconds > 0 ? gitCommandTimeoutSeconds : 10;
+    }
+
+    private FileChannel lockRepoCacheDir(Path repoCacheDir) {
+        try {
+            Files.createDirectories(repoCacheDir.resolve(SNAPSHOTS_DIR_NAME));
+            FileChannel channel =
+                    FileChannel.open(
+                            repoCacheDir.resolve(LOCK_FILE_NAME),
+                            StandardOpenOption.CREATE,
+                            StandardOpenOption.WRITE);
+            channel.lock();
+            return channel;
+        } catch (IOException e) {
+            // still guarded by the lock within this JVM.
+            log.warn("Locking scripts repo cache {} failed. {}", repoCacheDir, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -7,7 +7,9 @@ package org.eclipse.xpanse.modules.deployment.utils;
 
 import static org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper.TF_SCRIPT_FILE_EXTENSION;
 
+import jakarta.annotation.Resource;
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -35,6 +37,8 @@ public class ScriptsGitRepoManage {
     @Value("${git.command.timeout.seconds:10}")
     private int gitCommandTimeoutSeconds;
 
+    @Resource private ScriptsGitRepoCache scriptsGitRepoCache;
+
     /**
      * Method to check out scripts from a GIT repo.
      *
@@ -49,36 +53,66 @@ public class ScriptsGitRepoManage {
         File workspaceDirectory = new File(workspace);
         FileRepositoryBuilder repositoryBuilder = new FileRepositoryBuilder();
         repositoryBuilder.findGitDir(workspaceDirectory);
-        if (Objects.isNull(repositoryBuilder.getGitDir())) {
-            int timeoutSeconds = gitCommandTimeoutSeconds > 0 ? gitCommandTimeoutSeconds : 10;
-            CloneCommand cloneCommand = new CloneCommand();
-            cloneCommand.setURI(scriptsRepo.getRepoUrl());
-            cloneCommand.setProgressMonitor(null);
-            cloneCommand.setDirectory(workspaceDirectory);
-            cloneCommand.setBranch(scriptsRepo.getBranch());
-            cloneCommand.setTimeout(timeoutSeconds);
-            try (Git git = cloneCommand.call()) {
-                git.checkout();
-            } catch (GitAPIException e) {
-                String errorMsg =
-                        String.format(
-                                "Clone scripts from branch %s of repo %s error. %s",
-                                scriptsRepo.getBranch(), scriptsRepo.getRepoUrl(), e.getMessage());
-                int retryCount =
-                        Objects.isNull(RetrySynchronizationManager.getContext())
-                                ? 0
-                                : RetrySynchronizationManager.getContext().getRetryCount();
-                log.error(errorMsg + " Retry count:" + retryCount);
-                throw new GitRepoCloneException(errorMsg);
-            }
-        } else {
+        if (Objects.nonNull(repositoryBuilder.getGitDir())) {
             log.info("Scripts repo is already cloned in the workspace.");
+        } else if (scriptsGitRepoCache.isCacheEnabled()) {
+            checkoutScriptsFromCache(workspaceDirectory, scriptsRepo);
+        } else {
+            cloneScriptsRepo(workspaceDirectory, scriptsRepo);
         }
         List<File> files = getSourceFiles(workspace, scriptsRepo);
         validateIfFolderContainsTerraformScripts(files, scriptsRepo);
         return files;
     }
 
+    private void checkoutScriptsFromCache(File workspaceDirectory, ScriptsRepo scriptsRepo) {
+        try {
+            String commitId =
+                    scriptsGitRepoCache.checkoutScripts(workspaceDirectory.toPath(), scriptsRepo);
+            log.info(
+                    "Checked out commit {} of scripts repo {} from cache.",
+                    commitId,
+                    scriptsRepo.getRepoUrl());
+        } catch (GitAPIException e) {
+            throw getGitRepoCloneException(scriptsRepo, e);
+        } catch (IOException e) {
+            log.warn(
+                    "Check out scripts repo {} from cache failed, cloning it. {}",
+                    scriptsRepo.getRepoUrl(),
+                    e.getMessage());
+            cloneScriptsRepo(workspaceDirectory, scriptsRepo);
+        }
+    }
+
+    private void cloneScriptsRepo(File workspaceDirectory, ScriptsRepo scriptsRepo) {
+        int timeoutSeconds = gitCommandTimeoutSeconds > 0 ? gitCommandTimeoutSeconds : 10;
+        CloneCommand cloneCommand = new CloneCommand();
+        cloneCommand.setURI(scriptsRepo.getRepoUrl());
+        cloneCommand.setProgressMonitor(null);
+        cloneCommand.setDirectory(workspaceDirectory);
+        cloneCommand.setBranch(scriptsRepo.getBranch());
+        cloneCommand.setTimeout(timeoutSeconds);
+        try (Git git = cloneCommand.call()) {
+            git.checkout();
+        } catch (GitAPIException e) {
+            throw getGitRepoCloneException(scriptsRepo, e);
+        }
+    }
+
+    private GitRepoCloneException getGitRepoCloneException(
+            ScriptsRepo scriptsRepo, GitAPIException e) {
+        String errorMsg =
+                String.format(
+                        "Clone scripts from branch %s of repo %s error. %s",
+                        scriptsRepo.getBranch(), scriptsRepo.getRepoUrl(), e.getMessage());
+        int retryCount =
+                Objects.isNull(RetrySynchronizationManager.getContext())
+                        ? 0
+                        : RetrySynchronizationManager.getContext().getRetryCount();
+        log.error(errorMsg + " Retry count:" + retryCount);
+        return new GitRepoCloneException(errorMsg);
+    }
+
     private List<File> getSourceFiles(String workspace, ScriptsRepo scriptsRepo) {
         List<File> sourceFiles = new ArrayList<>();
         File directory =
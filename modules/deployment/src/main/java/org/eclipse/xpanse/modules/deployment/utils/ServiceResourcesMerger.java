@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import org.eclipse.xpanse.modules.database.resource.ServiceResourceEntity;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+
+/**
+ * Merges the resources of a deployment result into the stored resources of the service. Resources
+ * are matched by group type and resource id, so that matched resources keep their rows and only
+ * their changed columns and properties are written. Only added and removed resources cause inserts
+ * and deletes. Resources without a resource id or with a key used by several resources are never
+ * matched, they are replaced by new rows.
+ */
+public final class ServiceResourcesMerger {
+
+    private ServiceResourcesMerger() {}
+
+    /**
+     * Merge the resources into the service.
+     *
+     * @param serviceDeploymentEntity service to update.
+     * @param deployResources all resources of the service after the task.
+     * @return ids of the resources which were added or removed.
+     */
+    public static Set<String> mergeDeployResources(
+            ServiceDeploymentEntity serviceDeploymentEntity, List<DeployResource> deployResources) {
+        List<DeployResource> newResources =
+                Objects.nonNull(deployResources) ? deployResources : List.of();
+        List<ServiceResourceEntity> storedResources =
+                Objects.nonNull(serviceDeploymentEntity.getDeployResources())
+                        ? serviceDeploymentEntity.getDeployResources()
+                        : List.of();
+        Map<ResourceKey, DeployResource> matchableResources =
+                getResourcesWithUniqueKey(newResources, ServiceResourcesMerger::getResourceKey);
+        Map<ResourceKey, ServiceResourceEntity> matchableEntities =
+                getResourcesWithUniqueKey(storedResources, ServiceResourcesMerger::getResourceKey);
+        Set<String> changedResourceIds = new HashSet<>();
+        List<ServiceResourceEntity> mergedResources = new ArrayList<>();
+        Set<DeployResource> matchedResources = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ServiceResourceEntity resourceEntity : storedResources) {
+            ResourceKey key = getResourceKey(resourceEntity);
+            DeployResource deployResource =
+                    matchableEntities.get(key) == resourceEntity
+                            ? matchableResources.get(key)
+                            : null;
+            if (Objects.isNull(deployResource)) {
+                changedResourceIds.add(resourceEntity.getResourceId());
+            } else {
+                updateResourceEntity(resourceEntity, deployResource);
+                mergedResources.add(resourceEntity);
+                matchedResources.add(deployResource);
+            }
+        }
+        for (DeployResource deployResource : newResources) {
+            if (matchedResources.contains(deployResource)) {
+                continue;
+            }
+            // resources without a unique key are always stored as rows of their own.
+            ServiceResourceEntity resourceEntity = new ServiceResourceEntity();
+            resourceEntity.setServiceDeploymentEntity(serviceDeploymentEntity);
+            updateResourceEntity(resourceEntity, deployResource);
+            mergedResources.add(resourceEntity);
+            changedResourceIds.add(deployResource.getResourceId());
+        }
+        if (Objects.isNull(serviceDeploymentEntity.getDeployResources())) {
+            serviceDeploymentEntity.setDeployResources(mergedResources);
+        } else {
+            // the collection is kept, as it is owned by the entity with orphan removal.
+            serviceDeploymentEntity.getDeployResources().clear();
+            serviceDeploymentEntity.getDeployResources().addAll(mergedResources);
+        }
+        return changedResourceIds;
+    }
+
+    private static void updateResourceEntity(
+            ServiceResourceEntity resourceEntity, DeployResource deployResource) {
+        resourceEntity.setGroupType(deployResource.getGroupType());
+        resourceEntity.setGroupName(deployResource.getGroupName());
+        resourceEntity.setResourceId(deployResource.getResourceId());
+        resourceEntity.setResourceName(deployResource.getResourceName());
+        resourceEntity.setResourceKind(deployResource.getResourceKind());
+        Map<String, String> properties =
+                Objects.nonNull(deployResource.getProperties())
+                        ? deployResource.getProperties()
+                        : Map.of();
+        if (Objects.isNull(resourceEntity.getProperties())) {
+            resourceEntity.setProperties(new HashMap<>(properties));
+        } else if (!resourceEntity.getProperties().equals(properties)) {
+            // the stored map is changed in place, so that only the changed rows are written.
+            resourceEntity.getProperties().keySet().retainAll(properties.keySet());
+            resourceEntity.getProperties().putAll(properties);
+        }
+    }
+
+    /**
+     * Get the resources by their keys. Resources without a resource id and resources whose key is
+     * not unique can't be matched and are left out.
+     */
+    private static <T> Map<ResourceKey, T> getResourcesWithUniqueKey(
+            List<T> resources, Function<T, ResourceKey> keyFunction) {
+        Map<ResourceKey, T> resourcesByKey = new HashMap<>();
+        Set<ResourceKey> duplicateKeys = new HashSet<>();
+        for (T resource : resources) {
+            ResourceKey key = keyFunction.apply(resource);
+            if (Objects.nonNull(key.resourceId())
+                    && Objects.nonNull(resourcesByKey.putIfAbsent(key, resource))) {
+                duplicateKeys.add(key);
+            }
+        }
+        resourcesByKey.keySet().removeAll(duplicateKeys);
+        return resourcesByKey;
+    }
+
+    private static ResourceKey getResourceKey(DeployResource deployResource) {
+        return new ResourceKey(deployResource.getGroupType(), deployResource.getResourceId());
+    }
+
+    private static ResourceKey getResourceKey(ServiceResourceEntity resourceEntity) {
+        return new ResourceKey(resourceEntity.getGroupType(), resourceEntity.getResourceId());
+    }
+
+    private record ResourceKey(String groupType, String resourceId) {}
+}
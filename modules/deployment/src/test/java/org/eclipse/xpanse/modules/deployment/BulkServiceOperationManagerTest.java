@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.deployment.exceptions.InvalidServiceStateException;
+import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
+import org.eclipse.xpanse.modules.models.service.order.BulkServiceOperationProgress;
+import org.eclipse.xpanse.modules.models.service.order.BulkServiceOperationRequest;
+import org.eclipse.xpanse.modules.models.service.order.BulkServiceOperationResult;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrderDetails;
+import org.eclipse.xpanse.modules.models.service.order.enums.BulkServiceOperation;
+import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
+import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingType;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRequest;
+import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class BulkServiceOperationManagerTest {
+
+    @Mock private ServiceDeploymentStorage serviceDeploymentStorage;
+    @Mock private ServiceStateManager serviceStateManager;
+    @Mock private DeployService deployService;
+    @Mock private ServiceOrderManager serviceOrderManager;
+    @Mock private PluginManager pluginManager;
+    @Mock private UserServiceHelper userServiceHelper;
+    @Mock private OrchestratorPlugin plugin;
+    @InjectMocks private BulkServiceOperationManager bulkServiceOperationManager;
+
+    @BeforeEach
+    void setUp() {
+        Executor executor = Runnable::run;
+        ReflectionTestUtils.setField(bulkServiceOperationManager, "taskExecutor", executor);
+        ReflectionTestUtils.setField(bulkServiceOperationManager, "maxServices", 6);
+        ReflectionTestUtils.setField(bulkServiceOperationManager, "batchSize", 2);
+        ReflectionTestUtils.setField(bulkServiceOperationManager, "maxConcurrency", 2);
+    }
+
+    @Test
+    void testExecuteBulkOperationToStopServices() {
+        // Setup
+        ServiceDeploymentEntity first = getService("region-1");
+        ServiceDeploymentEntity locked = getService("region-1");
+        ServiceDeploymentEntity second = getService("region-1");
+        ServiceDeploymentEntity third = getService("region-1");
+        ServiceDeploymentEntity other = getService("region-2");
+        UUID missingId = UUID.randomUUID();
+        List<ServiceDeploymentEntity> services = List.of(first, locked, second, third, other);
+        when(serviceDeploymentStorage.findServiceDeploymentsByIds(anyList())).thenReturn(services);
+        doAnswer(
+                        invocation -> {
+                            if (locked.equals(invocation.getArgument(0))) {
+                                throw new InvalidServiceStateException("locked");
+                            }
+                            return null;
+                        })
+                .when(serviceStateManager)
+                .validateServiceState(any(), eq(ServiceOrderType.SERVICE_STOP));
+        when(serviceStateManager.getServiceManagerRequest(any()))
+                .thenReturn(new ServiceStateManageRequest());
+        when(userServiceHelper.getCurrentUserId()).thenReturn("userId");
+        when(pluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD)).thenReturn(plugin);
+        List<List<BulkServiceOrder>> stoppedChunks = new ArrayList<>();
+        doAnswer(
+                        invocation -> {
+                            stoppedChunks.add(invocation.getArgument(2));
+                            return null;
+                        })
+                .when(serviceStateManager)
+                .manageServicesState(eq(ServiceOrderType.SERVICE_STOP), eq(plugin), anyList());
+        doAnswer(
+                        invocation -> {
+                            List<BulkServiceOrder> bulkOrders = invocation.getArgument(0);
+                            bulkOrders.forEach(
+                                    bulkOrder -> {
+                                        ServiceOrderEntity orderEntity = new ServiceOrderEntity();
+                                        orderEntity.setOrderId(UUID.randomUUID());
+                                        bulkOrder.setOrderEntity(orderEntity);
+                                        bulkOrder.getTask().setOrderId(orderEntity.getOrderId());
+                                    });
+                            return null;
+                        })
+                .when(serviceOrderManager)
+                .storeNewServiceOrderEntities(anyList());
+        BulkServiceOperationRequest request = new BulkServiceOperationRequest();
+        request.setOperation(BulkServiceOperation.STOP);
+        request.setServiceIds(
+                List.of(
+                        first.getId(),
+                        locked.getId(),
+                        second.getId(),
+                        first.getId(),
+                        third.getId(),
+                        missingId,
+                        other.getId()));
+
+        // Run the test
+        BulkServiceOperationResult result =
+                bulkServiceOperationManager.executeBulkOperation(request);
+
+        // Verify the results
+        assertEquals(4, result.getOrders().size());
+        assertEquals(
+                List.of(first.getId(), second.getId(), third.getId(), other.getId()),
+                result.getOrders().stream().map(order -> order.getServiceId()).toList());
+        assertEquals(
+                List.of(locked.getId(), missingId),
+                result.getRejectedServices().stream()
+                        .map(rejected -> rejected.getServiceId())
+                        .toList());
+        assertEquals("locked", result.getRejectedServices().getFirst().getErrorMessage());
+        verify(serviceOrderManager, times(1)).storeNewServiceOrderEntities(anyList());
+        assertEquals(
+                List.of(
+                        List.of(first.getId(), second.getId()),
+                        List.of(third.getId()),
+                        List.of(other.getId())),
+                stoppedChunks.stream()
+                        .map(
+                                chunk ->
+                                        chunk.stream()
+                                                .map(bulkOrder -> bulkOrder.getService().getId())
+                                                .toList())
+                        .toList());
+        assertTrue(
+                stoppedChunks.stream()
+                        .flatMap(List::stream)
+                        .allMatch(
+                                bulkOrder ->
+                                        result.getBatchId()
+                                                .equals(bulkOrder.getTask().getBatchId())));
+    }
+
+    @Test
+    void testExecuteBulkOperationWithTooManyServices() {
+        BulkServiceOperationRequest request = new BulkServiceOperationRequest();
+        request.setOperation(BulkServiceOperation.START);
+        request.setServiceIds(Stream.generate(UUID::randomUUID).limit(7).toList());
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> bulkServiceOperationManager.executeBulkOperation(request));
+        verify(serviceOrderManager, never()).storeNewServiceOrderEntities(anyList());
+    }
+
+    @Test
+    void testGetBulkOperationProgress() {
+        UUID batchId = UUID.randomUUID();
+        when(serviceOrderManager.listServiceOrdersOfBatch(batchId))
+                .thenReturn(
+                        List.of(
+                                getOrderDetails(OrderStatus.SUCCESSFUL),
+                                getOrderDetails(OrderStatus.IN_PROGRESS),
+                                getOrderDetails(OrderStatus.FAILED)));
+
+        BulkServiceOperationProgress progress =
+                bulkServiceOperationManager.getBulkOperationProgress(batchId);
+
+        assertEquals(3, progress.getTotalOrders());
+        assertEquals(
+                Map.of(
+                        OrderStatus.CREATED,
+                        0L,
+                        OrderStatus.IN_PROGRESS,
+                        1L,
+                        OrderStatus.SUCCESSFUL,
+                        1L,
+                        OrderStatus.FAILED,
+                        1L),
+                progress.getOrderStatusCounts());
+        assertFalse(progress.getCompleted());
+    }
+
+    private ServiceDeploymentEntity getService(String regionName) {
+        Region region = new Region();
+        region.setName(regionName);
+        ServiceDeploymentEntity service = new ServiceDeploymentEntity();
+        service.setId(UUID.randomUUID());
+        service.setCsp(Csp.HUAWEI_CLOUD);
+        service.setRegion(region);
+        service.setUserId("userId");
+        service.setServiceHostingType(ServiceHostingType.SELF);
+        return service;
+    }
+
+    private ServiceOrderDetails getOrderDetails(OrderStatus orderStatus) {
+        ServiceOrderDetails orderDetails = new ServiceOrderDetails();
+        orderDetails.setOrderId(UUID.randomUUID());
+        orderDetails.setOrderStatus(orderStatus);
+        return orderDetails;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
+import org.eclipse.xpanse.modules.deployment.cluster.ClusterLeaseManager;
+import org.eclipse.xpanse.modules.models.service.enums.Handler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceOrderResultReFetchSweeperTest {
+
+    @Mock private ServiceOrderStorage serviceOrderStorage;
+    @Mock private ServiceResultReFetchManager serviceResultReFetchManager;
+    @Mock private ClusterLeaseManager clusterLeaseManager;
+    @InjectMocks private ServiceOrderResultReFetchSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        Executor executor = Runnable::run;
+        ReflectionTestUtils.setField(sweeper, "taskExecutor", executor);
+        ReflectionTestUtils.setField(sweeper, "maxServiceOrderProcessingDuration", 180);
+        ReflectionTestUtils.setField(sweeper, "pageSize", 3);
+        ReflectionTestUtils.setField(sweeper, "batchSize", 2);
+        ReflectionTestUtils.setField(sweeper, "maxConcurrency", 2);
+    }
+
+    @Test
+    void testSweepStuckOrders() {
+        List<ServiceOrderEntity> orders = IntStream.range(0, 5).mapToObj(this::getOrder).toList();
+        Set<ServiceOrderEntity> otherNodeOrders = Set.of(orders.get(1));
+        when(serviceOrderStorage.listInProgressOrdersStartedBefore(
+                        any(),
+                        eq(ServiceResultReFetchManager.RE_FETCHABLE_HANDLERS),
+                        isNull(),
+                        eq(3)))
+                .thenReturn(orders.subList(0, 3));
+        when(serviceOrderStorage.listInProgressOrdersStartedBefore(
+                        any(),
+                        eq(ServiceResultReFetchManager.RE_FETCHABLE_HANDLERS),
+                        eq(orders.get(2)),
+                        eq(3)))
+                .thenReturn(orders.subList(3, 5));
+        when(clusterLeaseManager.isAssignedToCurrentNode(any()))
+                .thenAnswer(
+                        invocation ->
+                                otherNodeOrders.stream()
+                                        .noneMatch(
+                                                order ->
+                                                        order.getOrderId()
+                                                                .equals(
+                                                                        invocation.getArgument(
+                                                                                0))));
+        List<List<ServiceOrderEntity>> batches = new ArrayList<>();
+        doAnswer(
+                        invocation -> {
+                            batches.add(invocation.getArgument(0));
+                            return null;
+                        })
+                .when(serviceResultReFetchManager)
+                .batchReFetchResultsOfOrdersFromDeployers(anyList());
+
+        sweeper.sweepStuckOrders();
+
+        assertEquals(
+                List.of(
+                        List.of(orders.get(0), orders.get(2)),
+                        List.of(orders.get(3), orders.get(4))),
+                batches);
+    }
+
+    @Test
+    void testSweepWithoutStuckOrders() {
+        when(serviceOrderStorage.listInProgressOrdersStartedBefore(any(), any(), isNull(), eq(3)))
+                .thenReturn(List.of());
+
+        sweeper.sweepStuckOrders();
+
+        verify(serviceResultReFetchManager, never())
+                .batchReFetchResultsOfOrdersFromDeployers(any());
+    }
+
+    private ServiceOrderEntity getOrder(int index) {
+        ServiceOrderEntity order = new ServiceOrderEntity();
+        order.setOrderId(UUID.randomUUID());
+        order.setHandler(Handler.TERRA_BOOT);
+        order.setStartedTime(OffsetDateTime.now().minusMinutes(10).plusSeconds(index));
+        return order;
+    }
+}
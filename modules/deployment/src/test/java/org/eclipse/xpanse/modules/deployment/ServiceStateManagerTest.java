@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
+import org.eclipse.xpanse.modules.models.service.enums.Handler;
+import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
+import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
+import org.eclipse.xpanse.modules.models.service.statemanagement.enums.ServiceState;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRequest;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceStateManagerTest {
+
+    @Mock private ServiceDeploymentEntityHandler serviceDeploymentHandler;
+    @Mock private ServiceOrderManager serviceOrderManager;
+    @Mock private OrchestratorPlugin plugin;
+    @InjectMocks private ServiceStateManager serviceStateManager;
+
+    @BeforeEach
+    void setUp() {
+        when(serviceOrderManager.startOrderProgress(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void testManageServicesStateMatchesResultsByServiceId() {
+        // Setup
+        BulkServiceOrder first = getBulkServiceOrder();
+        BulkServiceOrder second = getBulkServiceOrder();
+        BulkServiceOrder third = getBulkServiceOrder();
+        // the results are in another order than the requests and one of them is missing.
+        when(plugin.stopServices(anyList()))
+                .thenReturn(
+                        List.of(
+                                new ServiceStateManageResult(
+                                        second.getService().getId(), false, "error"),
+                                new ServiceStateManageResult(
+                                        first.getService().getId(), true, null)));
+
+        // Run the test
+        serviceStateManager.manageServicesState(
+                ServiceOrderType.SERVICE_STOP, plugin, List.of(first, second, third));
+
+        // Verify the results
+        assertEquals(ServiceState.STOPPED, first.getService().getServiceState());
+        assertEquals(ServiceState.RUNNING, second.getService().getServiceState());
+        assertEquals(ServiceState.RUNNING, third.getService().getServiceState());
+        verify(serviceOrderManager)
+                .completeOrderProgress(
+                        eq(first.getOrderEntity().getOrderId()), eq(OrderStatus.SUCCESSFUL), any());
+        verify(serviceOrderManager)
+                .completeOrderProgress(
+                        eq(second.getOrderEntity().getOrderId()), eq(OrderStatus.FAILED), any());
+        verify(serviceOrderManager)
+                .completeOrderProgress(
+                        eq(third.getOrderEntity().getOrderId()), eq(OrderStatus.FAILED), any());
+    }
+
+    @Test
+    void testManageServicesStateFailsAllOrdersWhenPluginFails() {
+        // Setup
+        BulkServiceOrder first = getBulkServiceOrder();
+        BulkServiceOrder second = getBulkServiceOrder();
+        when(plugin.startServices(anyList())).thenThrow(new IllegalStateException("error"));
+        first.getService().setServiceState(ServiceState.STOPPED);
+        second.getService().setServiceState(ServiceState.STOPPED);
+
+        // Run the test
+        serviceStateManager.manageServicesState(
+                ServiceOrderType.SERVICE_START, plugin, List.of(first, second));
+
+        // Verify the results
+        for (BulkServiceOrder bulkOrder : List.of(first, second)) {
+            assertEquals(ServiceState.STOPPED, bulkOrder.getService().getServiceState());
+            verify(serviceOrderManager)
+                    .completeOrderProgress(
+                            eq(bulkOrder.getOrderEntity().getOrderId()),
+                            eq(OrderStatus.FAILED),
+                            any());
+        }
+    }
+
+    private BulkServiceOrder getBulkServiceOrder() {
+        ServiceDeploymentEntity service = new ServiceDeploymentEntity();
+        service.setId(UUID.randomUUID());
+        service.setServiceState(ServiceState.RUNNING);
+        BulkServiceOrder bulkOrder =
+                new BulkServiceOrder(new DeployTask(), service, Handler.PLUGIN);
+        ServiceStateManageRequest request = new ServiceStateManageRequest();
+        request.setServiceId(service.getId());
+        bulkOrder.setStateManageRequest(request);
+        ServiceOrderEntity orderEntity = new ServiceOrderEntity();
+        orderEntity.setOrderId(UUID.randomUUID());
+        bulkOrder.setOrderEntity(orderEntity);
+        return bulkOrder;
+    }
+}
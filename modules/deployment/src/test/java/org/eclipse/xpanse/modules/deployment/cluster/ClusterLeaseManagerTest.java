@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.eclipse.xpanse.modules.database.lease.DistributedLeaseStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterLeaseManagerTest {
+
+    @Mock private DistributedLeaseStorage distributedLeaseStorage;
+    private ClusterLeaseManager clusterLeaseManager;
+
+    @BeforeEach
+    void setUp() {
+        clusterLeaseManager = new ClusterLeaseManager(distributedLeaseStorage, "node-1");
+        ReflectionTestUtils.setField(clusterLeaseManager, "memberTtlInSeconds", 30L);
+    }
+
+    @Test
+    void testRunOncePerCluster() {
+        AtomicInteger runs = new AtomicInteger();
+        when(distributedLeaseStorage.tryAcquire(
+                        "scheduled-job:job", "node-1", Duration.ofMinutes(5)))
+                .thenReturn(true, false);
+
+        assertTrue(
+                clusterLeaseManager.runOncePerCluster(
+                        "job", Duration.ofMinutes(5), runs::incrementAndGet));
+        assertFalse(
+                clusterLeaseManager.runOncePerCluster(
+                        "job", Duration.ofMinutes(5), runs::incrementAndGet));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testTryAcquireLeaseWhenStorageFails() {
+        when(distributedLeaseStorage.tryAcquire(eq("lease"), eq("node-1"), any()))
+                .thenThrow(new IllegalStateException("database not available"));
+
+        assertFalse(clusterLeaseManager.tryAcquireLease("lease", Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void testIsAssignedToCurrentNode() {
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(100).toList();
+        assertTrue(ids.stream().allMatch(clusterLeaseManager::isAssignedToCurrentNode));
+
+        when(distributedLeaseStorage.listOwnersOfActiveLeases("cluster-member:"))
+                .thenReturn(List.of("node-0", "node-1", "node-2"));
+        clusterLeaseManager.heartbeat();
+
+        verify(distributedLeaseStorage)
+                .tryAcquire("cluster-member:node-1", "node-1", Duration.ofSeconds(30));
+        long assigned = ids.stream().filter(clusterLeaseManager::isAssignedToCurrentNode).count();
+        assertTrue(assigned > 0 && assigned < ids.size());
+        ClusterLeaseManager otherNode = new ClusterLeaseManager(distributedLeaseStorage, "node-2");
+        ReflectionTestUtils.setField(
+                otherNode, "liveMembers", List.of("node-0", "node-1", "node-2"));
+        assertTrue(
+                ids.stream()
+                        .noneMatch(
+                                id ->
+                                        clusterLeaseManager.isAssignedToCurrentNode(id)
+                                                && otherNode.isAssignedToCurrentNode(id)));
+    }
+}
@@ -0,0 +1,159 @@
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class DeployerExecutorRegistryTest {
+
+    private static final String PREFIX = "terraform-";
+    private static final Pattern PATTERN = Pattern.compile("^Terraform\\s+v(\\S+)");
+    @TempDir private Path installDir;
+    @Mock private DeployerToolUtils deployerToolUtils;
+    @InjectMocks private DeployerExecutorRegistry deployerExecutorRegistry;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(deployerExecutorRegistry, "watchEnabled", false);
+        when(deployerToolUtils.getExactVersionOfExecutor(anyString(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            String path = invocation.getArgument(0);
+                            return path.substring(path.lastIndexOf(PREFIX) + PREFIX.length());
+                        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        deployerExecutorRegistry.close();
+    }
+
+    @Test
+    void testExecutorsAreVerifiedOnce() throws IOException {
+        createExecutor("1.5.0");
+        createExecutor("1.6.2");
+        createExecutor("1.7.0");
+
+        String path1 = getExecutorPath(">=", "1.6.0");
+        String path2 = getExecutorPath("<=", "1.6.5");
+        String version = deployerExecutorRegistry.getExactVersionOfExecutor(path1, PATTERN);
+
+        assertEquals(installDir.resolve(PREFIX + "1.6.2").toString(), path1);
+        assertEquals(path1, path2);
+        assertEquals("1.6.2", version);
+        assertNull(getExecutorPath("=", "1.8.0"));
+        verify(deployerToolUtils, times(3)).getExactVersionOfExecutor(anyString(), any());
+    }
+
+    @Test
+    void testNewAndRemovedExecutorsArePickedUp() throws IOException {
+        File executor = createExecutor("1.5.0");
+        assertEquals(executor.getAbsolutePath(), getExecutorPath(">=", "1.0.0"));
+
+        createExecutor("1.6.0");
+        Files.delete(executor.toPath());
+
+        assertEquals(
+                installDir.resolve(PREFIX + "1.6.0").toString(), getExecutorPath(">=", "1.0.0"));
+    }
+
+    @Test
+    void testWatchedInstallationDirIsRefreshedAfterChange() throws Exception {
+        ReflectionTestUtils.setField(deployerExecutorRegistry, "watchEnabled", true);
+        deployerExecutorRegistry.registerInstallationDir(PREFIX, PATTERN, installDir.toString());
+        assertNull(getExecutorPath(">=", "1.0.0"));
+
+        File executor = createExecutor("1.6.0");
+
+        String path = null;
+        for (int i = 0; i < 100 && path == null; i++) {
+            Thread.sleep(100);
+            path = getExecutorPath(">=", "1.0.0");
+        }
+        assertEquals(executor.getAbsolutePath(), path);
+    }
+
+    @Test
+    void testConcurrentInstallationsOfSameVersionAreDoneOnce() throws Exception {
+        AtomicInteger installations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<File>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 4; i++) {
+                results.add(
+                        executor.submit(
+                                () ->
+                                        deployerExecutorRegistry.installExecutorOnce(
+                                                PREFIX,
+                                                PATTERN,
+                                                installDir.toString(),
+                                                "1.6.0",
+                                                () -> {
+                                                    installations.incrementAndGet();
+                                                    try {
+                                                        release.await(10, TimeUnit.SECONDS);
+                                                        return createExecutor("1.6.0");
+                                                    } catch (Exception e) {
+                                                        throw new IllegalStateException(e);
+                                                    }
+                                                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<File> result : results) {
+                assertEquals(
+                        installDir.resolve(PREFIX + "1.6.0").toFile(),
+                        result.get(10, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, installations.get());
+        deployerExecutorRegistry.installExecutorOnce(
+                PREFIX,
+                PATTERN,
+                installDir.toString(),
+                "1.6.0",
+                () -> {
+                    throw new IllegalStateException("must not install again");
+                });
+    }
+
+    private String getExecutorPath(String operator, String number) {
+        return deployerExecutorRegistry.getExecutorPathMatchedRequiredVersion(
+                PREFIX, PATTERN, installDir.toString(), operator, number);
+    }
+
+    private File createExecutor(String version) throws IOException {
+        File executor = installDir.resolve(PREFIX + version).toFile();
+        Files.writeString(executor.toPath(), "#!/bin/sh");
+        executor.setExecutable(true);
+        return executor;
+    }
+}
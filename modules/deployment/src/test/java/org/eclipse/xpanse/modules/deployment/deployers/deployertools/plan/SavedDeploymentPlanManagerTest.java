@@ -0,0 +1,92 @@
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SavedDeploymentPlanManagerTest {
+
+    private final UUID orderId = UUID.randomUUID();
+    private final String workspace = "/tmp/workspace/" + orderId;
+    @Mock private DeploymentScriptsHelper scriptsHelper;
+    @InjectMocks private SavedDeploymentPlanManager savedDeploymentPlanManager;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(savedDeploymentPlanManager, "savedPlanEnabled", true);
+        ReflectionTestUtils.setField(
+                savedDeploymentPlanManager, "savedPlanExpireTimeInMinutes", 30L);
+    }
+
+    @Test
+    void testPlanIsTakenOnce() {
+        List<File> preparedFiles = List.of(new File(workspace, "main.tf"));
+        savedDeploymentPlanManager.savePlan(orderId, workspace, preparedFiles);
+
+        SavedDeploymentPlan savedPlan = savedDeploymentPlanManager.takePlan(orderId);
+
+        assertEquals(workspace, savedPlan.workspace());
+        assertEquals(preparedFiles, savedPlan.preparedFiles());
+        assertNull(savedDeploymentPlanManager.takePlan(orderId));
+        verify(scriptsHelper, never()).deleteTaskWorkspace(workspace);
+    }
+
+    @Test
+    void testExpiredPlanIsDeleted() {
+        savedDeploymentPlanManager.savePlan(orderId, workspace, List.of());
+        expireSavedPlan();
+
+        savedDeploymentPlanManager.deleteExpiredPlans();
+
+        verify(scriptsHelper).deleteTaskWorkspace(workspace);
+        assertNull(savedDeploymentPlanManager.takePlan(orderId));
+    }
+
+    @Test
+    void testExpiredPlanIsNotTaken() {
+        savedDeploymentPlanManager.savePlan(orderId, workspace, List.of());
+        expireSavedPlan();
+
+        assertNull(savedDeploymentPlanManager.takePlan(orderId));
+        verify(scriptsHelper).deleteTaskWorkspace(workspace);
+    }
+
+    @Test
+    void testDiscardPlan() {
+        savedDeploymentPlanManager.savePlan(orderId, workspace, List.of());
+
+        savedDeploymentPlanManager.discardPlan(orderId);
+
+        verify(scriptsHelper).deleteTaskWorkspace(workspace);
+        assertNull(savedDeploymentPlanManager.takePlan(orderId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expireSavedPlan() {
+        Map<UUID, SavedDeploymentPlan> savedPlans =
+                (Map<UUID, SavedDeploymentPlan>)
+                        ReflectionTestUtils.getField(savedDeploymentPlanManager, "savedPlans");
+        SavedDeploymentPlan savedPlan = savedPlans.get(orderId);
+        savedPlans.put(
+                orderId,
+                new SavedDeploymentPlan(
+                        savedPlan.workspace(),
+                        savedPlan.preparedFiles(),
+                        System.currentTimeMillis() - 31 * 60 * 1000L));
+    }
+}
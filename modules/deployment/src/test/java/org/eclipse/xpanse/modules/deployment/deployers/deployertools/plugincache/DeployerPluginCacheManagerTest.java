@@ -0,0 +1,168 @@
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools.plugincache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.xpanse.common.systemcmd.SystemCmdResult;
+import org.eclipse.xpanse.modules.models.service.deployment.DeploymentFileCacheUsedEvent;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class DeployerPluginCacheManagerTest {
+
+    private final List<DeploymentFileCacheUsedEvent> publishedEvents = new ArrayList<>();
+    @TempDir private Path tempDir;
+    private DeployerPluginCacheManager pluginCacheManager;
+
+    @BeforeEach
+    void setUp() {
+        pluginCacheManager = new DeployerPluginCacheManager();
+        ReflectionTestUtils.setField(pluginCacheManager, "pluginCacheEnabled", true);
+        ReflectionTestUtils.setField(
+                pluginCacheManager, "pluginCacheDirectory", tempDir.toString());
+        ReflectionTestUtils.setField(pluginCacheManager, "pluginCacheMaxSizeInMb", 1L);
+        ReflectionTestUtils.setField(pluginCacheManager, "pluginMirrorDirectory", "");
+        ReflectionTestUtils.setField(
+                pluginCacheManager,
+                "applicationEventPublisher",
+                (ApplicationEventPublisher)
+                        event -> publishedEvents.add((DeploymentFileCacheUsedEvent) event));
+    }
+
+    @Test
+    void testGetPluginCacheEnv() {
+        Map<String, String> env = pluginCacheManager.getPluginCacheEnv(DeployerKind.TERRAFORM);
+
+        Path pluginCacheDir = tempDir.resolve(DeployerKind.TERRAFORM.toValue());
+        assertEquals(
+                pluginCacheDir.toString(), env.get(DeployerPluginCacheManager.TF_PLUGIN_CACHE_DIR));
+        assertTrue(Files.isDirectory(pluginCacheDir));
+        assertFalse(env.containsKey(DeployerPluginCacheManager.TF_CLI_CONFIG_FILE));
+    }
+
+    @Test
+    void testGetPluginCacheEnvWithMirror() throws IOException {
+        ReflectionTestUtils.setField(
+                pluginCacheManager, "pluginMirrorDirectory", tempDir.resolve("mirror").toString());
+
+        Map<String, String> env = pluginCacheManager.getPluginCacheEnv(DeployerKind.OPEN_TOFU);
+
+        Path cliConfigFile = Path.of(env.get(DeployerPluginCacheManager.TF_CLI_CONFIG_FILE));
+        assertTrue(Files.readString(cliConfigFile).contains("filesystem_mirror"));
+    }
+
+    @Test
+    void testGetPluginCacheEnvWhenDisabled() {
+        ReflectionTestUtils.setField(pluginCacheManager, "pluginCacheEnabled", false);
+
+        assertTrue(pluginCacheManager.getPluginCacheEnv(DeployerKind.TERRAFORM).isEmpty());
+    }
+
+    @Test
+    void testExecuteInitCountsHitsAndMisses() {
+        SystemCmdResult expectedResult = new SystemCmdResult();
+
+        SystemCmdResult result =
+                pluginCacheManager.executeInit(
+                        DeployerKind.TERRAFORM,
+                        tempDir.resolve("workspace").toString(),
+                        outputSink -> {
+                            outputSink.onStdOutLine("- Finding hashicorp/aws versions matching");
+                            outputSink.onStdOutLine(
+                                    "- Using hashicorp/aws v5.31.0 from the shared cache"
+                                            + " directory");
+                            outputSink.onStdOutLine("- Installing hashicorp/random v3.6.0...");
+                            outputSink.onStdOutLine(
+                                    "- Installed hashicorp/random v3.6.0 (signed by HashiCorp)");
+                            return expectedResult;
+                        });
+
+        assertEquals(expectedResult, result);
+        assertEquals(1, pluginCacheManager.getHitCount());
+        assertEquals(1, pluginCacheManager.getMissCount());
+        assertEquals(
+                List.of(new DeploymentFileCacheUsedEvent("terraform-plugins", 1, 1, 0)),
+                publishedEvents);
+    }
+
+    @Test
+    void testEvictLeastRecentlyUsedPlugins() throws IOException {
+        Path pluginCacheDir = pluginCacheManager.getPluginCacheDir(DeployerKind.TERRAFORM);
+        Path oldPlugin = createCachedPlugin(pluginCacheDir, "aws", "5.30.0", 1000);
+        Path newPlugin = createCachedPlugin(pluginCacheDir, "aws", "5.31.0", 2000);
+
+        pluginCacheManager.evictLeastRecentlyUsedPlugins();
+
+        assertFalse(Files.exists(oldPlugin));
+        assertTrue(Files.exists(newPlugin));
+        assertEquals(1, pluginCacheManager.getEvictionCount());
+        assertEquals(
+                List.of(new DeploymentFileCacheUsedEvent("terraform-plugins", 0, 0, 1)),
+                publishedEvents);
+    }
+
+    @Test
+    void testEvictLeastRecentlyUsedPluginsSkipsPluginsUsedByWorkspaces() throws IOException {
+        Path pluginCacheDir = pluginCacheManager.getPluginCacheDir(DeployerKind.TERRAFORM);
+        Path usedPlugin = createCachedPlugin(pluginCacheDir, "aws", "5.30.0", 1000);
+        Path unusedPlugin = createCachedPlugin(pluginCacheDir, "aws", "5.31.0", 2000);
+        Path workspace = Files.createDirectories(tempDir.resolve("workspace"));
+        Files.writeString(
+                workspace.resolve(".terraform.lock.hcl"),
+                """
+                provider "registry.terraform.io/hashicorp/aws" {
+                  version     = "5.30.0"
+                  constraints = "~> 5.0"
+                  hashes = [
+                    "h1:abc=",
+                  ]
+                }
+                """);
+        SystemCmdResult expectedResult = new SystemCmdResult();
+
+        SystemCmdResult result =
+                pluginCacheManager.executeInit(
+                        DeployerKind.TERRAFORM,
+                        workspace.toString(),
+                        outputSink -> {
+                            outputSink.onStdOutLine(
+                                    "- Using hashicorp/aws v5.30.0 from the shared cache"
+                                            + " directory");
+                            return expectedResult;
+                        });
+        // the last usage is set back to make the plugin the least recently used one.
+        Files.setLastModifiedTime(usedPlugin, FileTime.fromMillis(1000));
+        pluginCacheManager.evictLeastRecentlyUsedPlugins();
+
+        assertEquals(expectedResult, result);
+        assertTrue(Files.exists(usedPlugin));
+        assertFalse(Files.exists(unusedPlugin));
+        assertEquals(1, pluginCacheManager.getEvictionCount());
+    }
+
+    private Path createCachedPlugin(
+            Path pluginCacheDir, String type, String version, long lastUsedMillis)
+            throws IOException {
+        Path versionDir =
+                pluginCacheDir.resolve(
+                        Path.of("registry.terraform.io", "hashicorp", type, version));
+        Path binary =
+                Files.createDirectories(versionDir.resolve("linux_amd64"))
+                        .resolve("terraform-provider-" + type);
+        Files.write(binary, new byte[700 * 1024]);
+        Files.setLastModifiedTime(versionDir, FileTime.fromMillis(lastUsedMillis));
+        return versionDir;
+    }
+}
@@ -0,0 +1,242 @@
+package org.eclipse.xpanse.modules.deployment.deployers.deployertools.scheduler;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployRequest;
+import org.eclipse.xpanse.modules.models.service.deployment.DeploymentJobQueueChangedEvent;
+import org.eclipse.xpanse.modules.models.service.deployment.exceptions.DeploymentJobRejectedException;
+import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
+import org.eclipse.xpanse.modules.models.servicetemplate.DeployerTool;
+import org.eclipse.xpanse.modules.models.servicetemplate.Deployment;
+import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
+import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class DeploymentJobSchedulerTest {
+
+    private final List<String> startedJobs = new CopyOnWriteArrayList<>();
+    private final CountDownLatch releaseBlockingJob = new CountDownLatch(1);
+    @Mock private ApplicationEventPublisher applicationEventPublisher;
+    @InjectMocks private DeploymentJobScheduler deploymentJobScheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(deploymentJobScheduler, "maxConcurrentJobs", 1);
+        ReflectionTestUtils.setField(deploymentJobScheduler, "maxConcurrentJobsPerCsp", 10);
+        ReflectionTestUtils.setField(deploymentJobScheduler, "maxConcurrentJobsPerUser", 5);
+        ReflectionTestUtils.setField(
+                deploymentJobScheduler, "maxConcurrentJobsPerDeployerKind", 10);
+        ReflectionTestUtils.setField(deploymentJobScheduler, "maxQueuedJobs", 10);
+        ReflectionTestUtils.setField(deploymentJobScheduler, "maxQueuedHighPriorityJobs", 10);
+        ReflectionTestUtils.setField(deploymentJobScheduler, "shutdownWaitTime", 10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseBlockingJob.countDown();
+        deploymentJobScheduler.shutdown();
+    }
+
+    @Test
+    void testDestroyJobsAreStartedBeforeDeployJobs() throws Exception {
+        submitBlockingJob("user1");
+        submitJob("deploy", "user1", ServiceOrderType.DEPLOY);
+        submitJob("destroy", "user1", ServiceOrderType.DESTROY);
+
+        releaseBlockingJob.countDown();
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> startedJobs.size() == 3);
+        assertEquals(List.of("blocking", "destroy", "deploy"), startedJobs);
+    }
+
+    @Test
+    void testJobsOfUsersAreStartedRoundRobin() throws Exception {
+        submitBlockingJob("user1");
+        submitJob("user1-job1", "user1", ServiceOrderType.DEPLOY);
+        submitJob("user1-job2", "user1", ServiceOrderType.DEPLOY);
+        submitJob("user2-job1", "user2", ServiceOrderType.DEPLOY);
+
+        releaseBlockingJob.countDown();
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> startedJobs.size() == 4);
+        assertEquals(List.of("blocking", "user1-job1", "user2-job1", "user1-job2"), startedJobs);
+    }
+
+    @Test
+    void testJobsOfOtherUsersAreStartedWhenUserLimitIsReached() throws Exception {
+        ReflectionTestUtils.setField(deploymentJobScheduler, "maxConcurrentJobs", 2);
+        ReflectionTestUtils.setField(deploymentJobScheduler, "maxConcurrentJobsPerUser", 1);
+        submitBlockingJob("user1");
+        CountDownLatch user2JobStarted = new CountDownLatch(1);
+        submitJob("user1-job1", "user1", ServiceOrderType.DEPLOY);
+        deploymentJobScheduler.submit(
+                getDeployTask("user2", ServiceOrderType.DEPLOY),
+                user2JobStarted::countDown,
+                e -> {});
+
+        assertTrue(user2JobStarted.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of("blocking"), startedJobs);
+    }
+
+    @Test
+    void testDeployJobsAreRejectedWhenQueueIsFull() throws Exception {
+        ReflectionTestUtils.setField(deploymentJobScheduler, "maxQueuedJobs", 1);
+        submitBlockingJob("user1");
+        submitJob("deploy", "user1", ServiceOrderType.DEPLOY);
+
+        DeployTask modifyTask = getDeployTask("user2", ServiceOrderType.MODIFY);
+        assertThrows(
+                DeploymentJobRejectedException.class,
+                () -> deploymentJobScheduler.reserveJob(modifyTask));
+        assertThrows(
+                DeploymentJobRejectedException.class,
+                () -> deploymentJobScheduler.submit(modifyTask, () -> {}, e -> {}));
+        assertDoesNotThrow(() -> submitJob("rollback", "user2", ServiceOrderType.ROLLBACK));
+        verify(applicationEventPublisher, atLeastOnce())
+                .publishEvent(any(DeploymentJobQueueChangedEvent.class));
+    }
+
+    @Test
+    void testHighPriorityJobsAreRejectedWhenQueueIsFull() throws Exception {
+        ReflectionTestUtils.setField(deploymentJobScheduler, "maxQueuedHighPriorityJobs", 1);
+        submitBlockingJob("user1");
+        submitJob("destroy", "user1", ServiceOrderType.DESTROY);
+
+        DeployTask purgeTask = getDeployTask("user2", ServiceOrderType.PURGE);
+        assertThrows(
+                DeploymentJobRejectedException.class,
+                () -> deploymentJobScheduler.reserveJob(purgeTask));
+        assertDoesNotThrow(() -> submitJob("deploy", "user2", ServiceOrderType.DEPLOY));
+    }
+
+    @Test
+    void testReservedJobsAreNotRejected() throws Exception {
+        ReflectionTestUtils.setField(deploymentJobScheduler, "maxQueuedJobs", 1);
+        submitBlockingJob("user1");
+        DeployTask reservedTask = getDeployTask("user1", ServiceOrderType.DEPLOY);
+        deploymentJobScheduler.reserveJob(reservedTask);
+
+        DeployTask otherTask = getDeployTask("user2", ServiceOrderType.DEPLOY);
+        assertThrows(
+                DeploymentJobRejectedException.class,
+                () -> deploymentJobScheduler.reserveJob(otherTask));
+        assertThrows(
+                DeploymentJobRejectedException.class,
+                () -> deploymentJobScheduler.submit(otherTask, () -> {}, e -> {}));
+        assertDoesNotThrow(
+                () ->
+                        deploymentJobScheduler.submit(
+                                reservedTask, () -> startedJobs.add("reserved"), e -> {}));
+
+        releaseBlockingJob.countDown();
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> startedJobs.size() == 2);
+        deploymentJobScheduler.releaseJob(otherTask.getOrderId());
+        assertDoesNotThrow(() -> submitJob("other", "user2", ServiceOrderType.DEPLOY));
+    }
+
+    @Test
+    void testReleasedReservationsAreAvailableAgain() {
+        ReflectionTestUtils.setField(deploymentJobScheduler, "maxQueuedJobs", 1);
+        DeployTask reservedTask = getDeployTask("user1", ServiceOrderType.DEPLOY);
+        deploymentJobScheduler.reserveJob(reservedTask);
+        DeployTask otherTask = getDeployTask("user2", ServiceOrderType.DEPLOY);
+        assertThrows(
+                DeploymentJobRejectedException.class,
+                () -> deploymentJobScheduler.reserveJob(otherTask));
+
+        deploymentJobScheduler.releaseJob(reservedTask.getOrderId());
+
+        assertDoesNotThrow(() -> deploymentJobScheduler.reserveJob(otherTask));
+    }
+
+    @Test
+    void testQueuedJobsAreDiscardedOnShutdown() throws Exception {
+        submitBlockingJob("user1");
+        List<UUID> discardedOrders = new CopyOnWriteArrayList<>();
+        DeployTask deployTask = getDeployTask("user1", ServiceOrderType.DEPLOY);
+        DeployTask destroyTask = getDeployTask("user2", ServiceOrderType.DESTROY);
+        deploymentJobScheduler.submit(
+                deployTask,
+                () -> startedJobs.add("deploy"),
+                e -> discardedOrders.add(deployTask.getOrderId()));
+        deploymentJobScheduler.submit(
+                destroyTask,
+                () -> startedJobs.add("destroy"),
+                e -> discardedOrders.add(destroyTask.getOrderId()));
+
+        deploymentJobScheduler.onContextClosed(null);
+        releaseBlockingJob.countDown();
+        deploymentJobScheduler.shutdown();
+
+        assertEquals(List.of("blocking"), startedJobs);
+        assertEquals(List.of(destroyTask.getOrderId(), deployTask.getOrderId()), discardedOrders);
+        DeployTask lateTask = getDeployTask("user1", ServiceOrderType.DESTROY);
+        assertThrows(
+                DeploymentJobRejectedException.class,
+                () -> deploymentJobScheduler.submit(lateTask, () -> {}, e -> {}));
+    }
+
+    private void submitBlockingJob(String userId) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        deploymentJobScheduler.submit(
+                getDeployTask(userId, ServiceOrderType.DEPLOY),
+                () -> {
+                    startedJobs.add("blocking");
+                    started.countDown();
+                    try {
+                        releaseBlockingJob.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                },
+                e -> {});
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+    }
+
+    private void submitJob(String name, String userId, ServiceOrderType taskType) {
+        deploymentJobScheduler.submit(
+                getDeployTask(userId, taskType), () -> startedJobs.add(name), e -> {});
+    }
+
+    private DeployTask getDeployTask(String userId, ServiceOrderType taskType) {
+        DeployerTool deployerTool = new DeployerTool();
+        deployerTool.setKind(DeployerKind.TERRAFORM);
+        Deployment deployment = new Deployment();
+        deployment.setDeployerTool(deployerTool);
+        Ocl ocl = new Ocl();
+        ocl.setDeployment(deployment);
+        DeployRequest deployRequest = new DeployRequest();
+        deployRequest.setCsp(Csp.HUAWEI_CLOUD);
+        DeployTask deployTask = new DeployTask();
+        deployTask.setOrderId(UUID.randomUUID());
+        deployTask.setUserId(userId);
+        deployTask.setTaskType(taskType);
+        deployTask.setOcl(ocl);
+        deployTask.setDeployRequest(deployRequest);
+        return deployTask;
+    }
+}
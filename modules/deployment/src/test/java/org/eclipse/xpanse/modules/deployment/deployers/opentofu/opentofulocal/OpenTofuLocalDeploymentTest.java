@@ -21,18 +21,22 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.deployment.DeployService;
 import org.eclipse.xpanse.modules.deployment.ServiceDeploymentEntityHandler;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.plan.SavedDeploymentPlanManager;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.plugincache.DeployerPluginCacheManager;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.scheduler.DeploymentJobScheduler;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.callbacks.OpenTofuDeploymentResultCallbackManager;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.exceptions.OpenTofuExecutorException;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.opentofulocal.config.OpenTofuLocalConfig;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.utils.TfResourceTransUtils;
 import org.eclipse.xpanse.modules.deployment.utils.DeployEnvironments;
+import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsCache;
 import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper;
+import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoCache;
 import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoManage;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployRequest;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResult;
@@ -78,10 +82,14 @@ class OpenTofuLocalDeploymentTest {
     @Mock OpenTofuInstaller openTofuInstaller;
     @InjectMocks ScriptsGitRepoManage scriptsGitRepoManage;
     @InjectMocks OpenTofuLocalConfig openTofuLocalConfig;
+    @InjectMocks DeployerPluginCacheManager pluginCacheManager;
     @Mock DeployEnvironments deployEnvironments;
     @Mock PluginManager pluginManager;
     @Mock DeployService deployService;
-    @Mock Executor taskExecutor;
+    @Mock DeploymentJobScheduler deploymentJobScheduler;
+    @Mock ScriptsGitRepoCache scriptsGitRepoCache;
+    @Mock DeploymentScriptsCache deploymentScriptsCache;
+    @Mock SavedDeploymentPlanManager savedDeploymentPlanManager;
     @Mock OpenTofuDeploymentResultCallbackManager openTofuDeploymentResultCallbackManager;
     @Mock ServiceDeploymentEntityHandler serviceDeploymentEntityHandler;
     private Ocl ocl;
@@ -96,6 +104,8 @@ class OpenTofuLocalDeploymentTest {
         ReflectionTestUtils.setField(
                 openTofuLocalDeployment, "openTofuLocalConfig", openTofuLocalConfig);
         ReflectionTestUtils.setField(openTofuLocalDeployment, "scriptsHelper", scriptsHelper);
+        ReflectionTestUtils.setField(
+                openTofuLocalDeployment, "pluginCacheManager", pluginCacheManager);
         OclLoader oclLoader = new OclLoader();
         ocl =
                 oclLoader.getOcl(
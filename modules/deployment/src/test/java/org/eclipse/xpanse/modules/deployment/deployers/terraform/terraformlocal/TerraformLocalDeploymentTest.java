@@ -20,17 +20,21 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.deployment.DeployService;
 import org.eclipse.xpanse.modules.deployment.ServiceDeploymentEntityHandler;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.plan.SavedDeploymentPlanManager;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.plugincache.DeployerPluginCacheManager;
+import org.eclipse.xpanse.modules.deployment.deployers.deployertools.scheduler.DeploymentJobScheduler;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.exceptions.TerraformExecutorException;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformlocal.config.TerraformLocalConfig;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.utils.TfResourceTransUtils;
 import org.eclipse.xpanse.modules.deployment.utils.DeployEnvironments;
+import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsCache;
 import org.eclipse.xpanse.modules.deployment.utils.DeploymentScriptsHelper;
+import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoCache;
 import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoManage;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployRequest;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResult;
@@ -74,11 +78,15 @@ class TerraformLocalDeploymentTest {
     @InjectMocks TerraformLocalDeployment terraformLocalDeployment;
     @InjectMocks DeploymentScriptsHelper scriptsHelper;
     @InjectMocks TerraformLocalConfig terraformLocalConfig;
+    @InjectMocks DeployerPluginCacheManager pluginCacheManager;
     @InjectMocks ScriptsGitRepoManage scriptsGitRepoManage;
     @Mock DeployEnvironments deployEnvironments;
     @Mock PluginManager pluginManager;
     @Mock DeployService deployService;
-    @Mock Executor taskExecutor;
+    @Mock DeploymentJobScheduler deploymentJobScheduler;
+    @Mock ScriptsGitRepoCache scriptsGitRepoCache;
+    @Mock DeploymentScriptsCache deploymentScriptsCache;
+    @Mock SavedDeploymentPlanManager savedDeploymentPlanManager;
     @Mock ServiceDeploymentEntityHandler serviceDeploymentEntityHandler;
     @Mock TerraformInstaller terraformInstaller;
 
@@ -94,6 +102,8 @@ class TerraformLocalDeploymentTest {
         ReflectionTestUtils.setField(
                 terraformLocalDeployment, "terraformLocalConfig", terraformLocalConfig);
         ReflectionTestUtils.setField(terraformLocalDeployment, "scriptsHelper", scriptsHelper);
+        ReflectionTestUtils.setField(
+                terraformLocalDeployment, "pluginCacheManager", pluginCacheManager);
         OclLoader oclLoader = new OclLoader();
         ocl =
                 oclLoader.getOcl(
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.terraform.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfState;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfStateResource;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfStateResourceInstance;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResult;
+import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
+import org.eclipse.xpanse.modules.orchestrator.deployment.DeployResourceProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the streaming extraction of a terraform state with the conversion of the whole state
+ * tree. Run with the main method from the test classpath, and add "-prof gc" to the options to see
+ * the allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TfStateResourcesExtractorBenchmark {
+
+    private static final String VM_TYPE = "huaweicloud_compute_instance";
+    private static final Set<String> SUPPORTED_TYPES = Set.of(VM_TYPE);
+
+    private static final DeployResourceProperties VM_PROPERTIES =
+            new DeployResourceProperties() {
+                @Override
+                public DeployResourceKind getResourceKind() {
+                    return DeployResourceKind.VM;
+                }
+
+                @Override
+                public Map<String, String> getResourceProperties() {
+                    return Map.of("ip", "access_ip_v4", "region", "region");
+                }
+            };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Param({"500", "5000"})
+    private int resourceCount;
+
+    private String stateContent;
+
+    /** Run the benchmark. */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(TfStateResourcesExtractorBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+
+    /** Create a synthetic state, half of the resources are of an unsupported type. */
+    @Setup
+    public void setUp() throws Exception {
+        List<Map<String, Object>> resources = new ArrayList<>();
+        for (int i = 0; i < resourceCount; i++) {
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            attributes.put("id", "id-" + i);
+            attributes.put("name", "name-" + i);
+            attributes.put("access_ip_v4", "192.168.0." + (i % 255));
+            attributes.put("region", "eu-west-101");
+            for (int j = 0; j < 30; j++) {
+                attributes.put("attribute_" + j, "value-" + i + "-" + j);
+            }
+            attributes.put(
+                    "network",
+                    List.of(Map.of("uuid", "network-" + i, "fixed_ip_v4", "192.168.0.1")));
+            attributes.put("tags", Map.of("owner", "xpanse", "index", String.valueOf(i)));
+            Map<String, Object> resource = new LinkedHashMap<>();
+            resource.put("mode", "managed");
+            resource.put("type", i % 2 == 0 ? VM_TYPE : "huaweicloud_networking_secgroup_rule");
+            resource.put("name", "resource-" + i);
+            resource.put(
+                    "instances", List.of(Map.of("schema_version", 0, "attributes", attributes)));
+            resources.add(resource);
+        }
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("version", 4);
+        state.put("outputs", Map.of("admin_passwd", Map.of("value", "secret", "type", "string")));
+        state.put("resources", resources);
+        stateContent = objectMapper.writeValueAsString(state);
+    }
+
+    /** Extract the resources with the streaming parser. */
+    @Benchmark
+    public DeployResult streaming() {
+        DeployResult deployResult = new DeployResult();
+        deployResult.setTfStateContent(stateContent);
+        TfStateResourcesExtractor.extract(deployResult, SUPPORTED_TYPES, type -> VM_PROPERTIES);
+        return deployResult;
+    }
+
+    /** Extract the resources from the whole state tree. */
+    @Benchmark
+    public DeployResult tree() throws Exception {
+        DeployResult deployResult = new DeployResult();
+        TfState tfState = objectMapper.readValue(stateContent, TfState.class);
+        tfState.getOutputs()
+                .forEach(
+                        (key, output) ->
+                                deployResult.getOutputProperties().put(key, output.getValue()));
+        List<DeployResource> deployResources = new ArrayList<>();
+        for (TfStateResource tfStateResource : tfState.getResources()) {
+            if (!SUPPORTED_TYPES.contains(tfStateResource.getType())) {
+                continue;
+            }
+            for (TfStateResourceInstance instance : tfStateResource.getInstances()) {
+                DeployResource deployResource = new DeployResource();
+                deployResource.setGroupType(tfStateResource.getType());
+                deployResource.setGroupName(tfStateResource.getName());
+                deployResource.setResourceKind(VM_PROPERTIES.getResourceKind());
+                TfResourceTransUtils.fillDeployResource(
+                        instance, deployResource, VM_PROPERTIES.getResourceProperties());
+                deployResources.add(deployResource);
+            }
+        }
+        deployResult.setResources(deployResources);
+        return deployResult;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.terraform.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.exceptions.TerraformExecutorException;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfState;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfStateResource;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfStateResourceInstance;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResult;
+import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
+import org.eclipse.xpanse.modules.orchestrator.deployment.DeployResourceProperties;
+import org.junit.jupiter.api.Test;
+
+class TfStateResourcesExtractorTest {
+
+    private static final String PASSWORD_TYPE = "random_password";
+
+    private final DeployResourceProperties passwordProperties =
+            new DeployResourceProperties() {
+                @Override
+                public DeployResourceKind getResourceKind() {
+                    return DeployResourceKind.UNKNOWN;
+                }
+
+                @Override
+                public Map<String, String> getResourceProperties() {
+                    return Map.of("length", "length", "special", "special", "missing", "none");
+                }
+            };
+
+    @Test
+    void testExtractMatchesTfStateConversion() throws Exception {
+        String stateContent = Files.readString(Path.of("src/test/resources/terraform.tfstate"));
+        DeployResult deployResult = new DeployResult();
+        deployResult.setTfStateContent(stateContent);
+
+        TfStateResourcesExtractor.extract(
+                deployResult, Set.of(PASSWORD_TYPE), type -> passwordProperties);
+
+        DeployResult expectedResult = convertWithTfState(stateContent);
+        assertEquals(expectedResult.getOutputProperties(), deployResult.getOutputProperties());
+        assertEquals(expectedResult.getResources(), deployResult.getResources());
+        assertEquals(1, deployResult.getResources().size());
+        assertEquals("12", deployResult.getResources().getFirst().getProperties().get("length"));
+        assertEquals("", deployResult.getResources().getFirst().getProperties().get("missing"));
+    }
+
+    @Test
+    void testExtractFromStream() throws Exception {
+        DeployResult deployResult = new DeployResult();
+        try (InputStream stateStream =
+                Files.newInputStream(Path.of("src/test/resources/terraform.tfstate"))) {
+            TfStateResourcesExtractor.extract(
+                    stateStream, deployResult, Set.of(PASSWORD_TYPE), type -> passwordProperties);
+        }
+
+        assertEquals(1, deployResult.getResources().size());
+        assertEquals("none", deployResult.getResources().getFirst().getResourceId());
+        assertEquals("KU@iwX%A0CHE", deployResult.getOutputProperties().get("admin_passwd"));
+    }
+
+    @Test
+    void testExtractWithInstancesBeforeType() {
+        String stateContent =
+                """
+                {"outputs": {"ips": {"value": ["a", "b"]}, "empty": {"value": null}},
+                 "resources": [
+                   {"instances": [{"attributes": {"id": "1", "length": 8}}, {"attributes": {}}],
+                    "name": "first", "type": "random_password"},
+                   {"type": "random_string", "name": "other",
+                    "instances": [{"attributes": {"id": "2"}}]}
+                 ]}
+                """;
+        DeployResult deployResult = new DeployResult();
+        deployResult.setTfStateContent(stateContent);
+
+        TfStateResourcesExtractor.extract(
+                deployResult, Set.of(PASSWORD_TYPE), type -> passwordProperties);
+
+        assertEquals(convertWithTfState(stateContent).getResources(), deployResult.getResources());
+        List<DeployResource> resources = deployResult.getResources();
+        assertEquals(2, resources.size());
+        assertEquals("first", resources.getFirst().getGroupName());
+        assertEquals("8", resources.getFirst().getProperties().get("length"));
+        assertNull(resources.get(1).getResourceId());
+        assertEquals("[\"a\",\"b\"]", deployResult.getOutputProperties().get("ips"));
+        assertEquals("null", deployResult.getOutputProperties().get("empty"));
+    }
+
+    @Test
+    void testExtractWithEmptyState() {
+        DeployResult deployResult = new DeployResult();
+        deployResult.setTfStateContent("null");
+
+        TfStateResourcesExtractor.extract(
+                deployResult, Set.of(PASSWORD_TYPE), type -> passwordProperties);
+
+        assertTrue(deployResult.getResources().isEmpty());
+        assertTrue(deployResult.getOutputProperties().isEmpty());
+    }
+
+    @Test
+    void testExtractWithInvalidState() {
+        DeployResult deployResult = new DeployResult();
+        deployResult.setTfStateContent("{\"resources\": [");
+        assertThrows(
+                TerraformExecutorException.class,
+                () ->
+                        TfStateResourcesExtractor.extract(
+                                deployResult, Set.of(PASSWORD_TYPE), type -> passwordProperties));
+
+        InputStream arrayStream = new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8));
+        assertThrows(
+                TerraformExecutorException.class,
+                () ->
+                        TfStateResourcesExtractor.extract(
+                                arrayStream,
+                                new DeployResult(),
+                                Set.of(PASSWORD_TYPE),
+                                type -> passwordProperties));
+
+        deployResult.setTfStateContent(null);
+        assertThrows(
+                TerraformExecutorException.class,
+                () ->
+                        TfStateResourcesExtractor.extract(
+                                deployResult, Set.of(PASSWORD_TYPE), type -> passwordProperties));
+    }
+
+    private DeployResult convertWithTfState(String stateContent) {
+        TfState tfState;
+        try {
+            tfState = new ObjectMapper().readValue(stateContent, TfState.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        DeployResult deployResult = new DeployResult();
+        tfState.getOutputs()
+                .forEach(
+                        (key, output) ->
+                                deployResult.getOutputProperties().put(key, output.getValue()));
+        List<DeployResource> deployResources = new ArrayList<>();
+        for (TfStateResource tfStateResource : tfState.getResources()) {
+            if (!PASSWORD_TYPE.equals(tfStateResource.getType())) {
+                continue;
+            }
+            for (TfStateResourceInstance instance : tfStateResource.getInstances()) {
+                DeployResource deployResource = new DeployResource();
+                deployResource.setGroupType(tfStateResource.getType());
+                deployResource.setGroupName(tfStateResource.getName());
+                deployResource.setResourceKind(passwordProperties.getResourceKind());
+                TfResourceTransUtils.fillDeployResource(
+                        instance, deployResource, passwordProperties.getResourceProperties());
+                deployResources.add(deployResource);
+            }
+        }
+        deployResult.setResources(deployResources);
+        return deployResult;
+    }
+}
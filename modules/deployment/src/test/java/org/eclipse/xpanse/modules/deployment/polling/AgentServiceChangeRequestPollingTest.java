@@ -0,0 +1,141 @@
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestStorage;
+import org.eclipse.xpanse.modules.deployment.ServiceChangeManager;
+import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeRequest;
+import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeRequestsQueuedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@ExtendWith(MockitoExtension.class)
+class AgentServiceChangeRequestPollingTest {
+
+    private final UUID serviceId = UUID.randomUUID();
+    private final String resourceName = "zookeeper";
+    private final PendingServiceChangeRequestIndex pendingServiceChangeRequestIndex =
+            new PendingServiceChangeRequestIndex();
+    @Mock private ServiceChangeManager mockServiceChangeManager;
+    @Mock private ServiceChangeRequestStorage mockServiceChangeRequestStorage;
+    @InjectMocks private AgentServiceChangeRequestPolling pollingUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(
+                pendingServiceChangeRequestIndex,
+                "serviceChangeRequestStorage",
+                mockServiceChangeRequestStorage);
+        ReflectionTestUtils.setField(
+                pollingUnderTest,
+                "pendingServiceChangeRequestIndex",
+                pendingServiceChangeRequestIndex);
+        ReflectionTestUtils.setField(pollingUnderTest, "pollingWaitPeriod", 60);
+        when(mockServiceChangeRequestStorage.getResourceNamesWithPendingRequests())
+                .thenReturn(Map.of());
+        pendingServiceChangeRequestIndex.reloadFromDatabase();
+    }
+
+    @Test
+    void testPendingRequestIsClaimedImmediately() {
+        ResponseEntity<ServiceChangeRequest> response = ok(UUID.randomUUID());
+        when(mockServiceChangeManager.getIndexedPendingServiceChangeRequest(
+                        serviceId, resourceName))
+                .thenReturn(response);
+
+        DeferredResult<ResponseEntity<ServiceChangeRequest>> deferredResult =
+                pollingUnderTest.waitForPendingServiceChangeRequest(serviceId, resourceName);
+
+        assertEquals(response, deferredResult.getResult());
+    }
+
+    @Test
+    void testPendingRequestIsClaimedWhenQueued() {
+        ResponseEntity<ServiceChangeRequest> response = ok(UUID.randomUUID());
+        when(mockServiceChangeManager.getIndexedPendingServiceChangeRequest(
+                        serviceId, resourceName))
+                .thenReturn(noContent())
+                .thenReturn(response);
+
+        DeferredResult<ResponseEntity<ServiceChangeRequest>> deferredResult =
+                pollingUnderTest.waitForPendingServiceChangeRequest(serviceId, resourceName);
+        assertFalse(deferredResult.hasResult());
+
+        pendingServiceChangeRequestIndex.onServiceChangeRequestsQueued(
+                new ServiceChangeRequestsQueuedEvent(serviceId, List.of(resourceName)));
+
+        await().atMost(10, TimeUnit.SECONDS).until(deferredResult::hasResult);
+        assertEquals(response, deferredResult.getResult());
+        verify(mockServiceChangeManager, never()).returnServiceChangeRequestToPending(any());
+    }
+
+    @Test
+    void testNoContentIsReturnedWhenWaitTimeEnds() {
+        ReflectionTestUtils.setField(pollingUnderTest, "pollingWaitPeriod", 1);
+        when(mockServiceChangeManager.getIndexedPendingServiceChangeRequest(
+                        serviceId, resourceName))
+                .thenReturn(noContent());
+
+        DeferredResult<ResponseEntity<ServiceChangeRequest>> deferredResult =
+                pollingUnderTest.waitForPendingServiceChangeRequest(serviceId, resourceName);
+        assertFalse(deferredResult.hasResult());
+
+        await().atMost(10, TimeUnit.SECONDS).until(deferredResult::hasResult);
+        assertEquals(noContent(), deferredResult.getResult());
+    }
+
+    @Test
+    void testClaimedRequestIsReturnedToPendingWhenAgentIsGone() {
+        UUID changeId = UUID.randomUUID();
+        AtomicReference<DeferredResult<ResponseEntity<ServiceChangeRequest>>> resultOfAgent =
+                new AtomicReference<>();
+        when(mockServiceChangeManager.getIndexedPendingServiceChangeRequest(
+                        serviceId, resourceName))
+                .thenReturn(noContent())
+                .thenAnswer(
+                        invocation -> {
+                            // the agent disconnects while the request is claimed.
+                            resultOfAgent.get().setErrorResult(new IOException("Broken pipe"));
+                            return ok(changeId);
+                        });
+
+        resultOfAgent.set(
+                pollingUnderTest.waitForPendingServiceChangeRequest(serviceId, resourceName));
+        pendingServiceChangeRequestIndex.onServiceChangeRequestsQueued(
+                new ServiceChangeRequestsQueuedEvent(serviceId, List.of(resourceName)));
+
+        verify(mockServiceChangeManager, timeout(10000))
+                .returnServiceChangeRequestToPending(changeId);
+    }
+
+    private ResponseEntity<ServiceChangeRequest> ok(UUID changeId) {
+        ServiceChangeRequest request = new ServiceChangeRequest();
+        request.setChangeId(changeId);
+        return ResponseEntity.status(HttpStatus.OK).body(request);
+    }
+
+    private ResponseEntity<ServiceChangeRequest> noContent() {
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).body(null);
+    }
+}
@@ -0,0 +1,83 @@
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.xpanse.modules.database.servicechange.ServiceChangeRequestStorage;
+import org.eclipse.xpanse.modules.models.servicechange.ServiceChangeRequestsQueuedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PendingServiceChangeRequestIndexTest {
+
+    private final UUID serviceId = UUID.randomUUID();
+    @Mock private ServiceChangeRequestStorage mockServiceChangeRequestStorage;
+    @InjectMocks private PendingServiceChangeRequestIndex indexUnderTest;
+
+    @Test
+    void testGenerationIsUnknownBeforeIndexIsLoaded() {
+        assertEquals(
+                PendingServiceChangeRequestIndex.UNKNOWN_GENERATION,
+                indexUnderTest.getPendingGeneration(serviceId, "zookeeper"));
+    }
+
+    @Test
+    void testReloadFromDatabase() {
+        when(mockServiceChangeRequestStorage.getResourceNamesWithPendingRequests())
+                .thenReturn(Map.of(serviceId, Set.of("Zookeeper")));
+
+        indexUnderTest.reloadFromDatabase();
+
+        assertNotNull(indexUnderTest.getPendingGeneration(serviceId, "zookeeper"));
+        assertNull(indexUnderTest.getPendingGeneration(serviceId, "kafka"));
+
+        // resources without pending requests in the database are removed by the next reload.
+        when(mockServiceChangeRequestStorage.getResourceNamesWithPendingRequests())
+                .thenReturn(Map.of());
+        indexUnderTest.reloadFromDatabase();
+        assertNull(indexUnderTest.getPendingGeneration(serviceId, "zookeeper"));
+    }
+
+    @Test
+    void testQueuedEventMarksResourceAndWakesUpSubscribers() {
+        when(mockServiceChangeRequestStorage.getResourceNamesWithPendingRequests())
+                .thenReturn(Map.of());
+        indexUnderTest.reloadFromDatabase();
+        AtomicInteger notified = new AtomicInteger();
+        Runnable unsubscribe =
+                indexUnderTest.subscribe(serviceId, "zookeeper", notified::incrementAndGet);
+
+        indexUnderTest.onServiceChangeRequestsQueued(
+                new ServiceChangeRequestsQueuedEvent(serviceId, List.of("kafka")));
+        assertEquals(0, notified.get());
+        indexUnderTest.onServiceChangeRequestsQueued(
+                new ServiceChangeRequestsQueuedEvent(serviceId, List.of("zookeeper")));
+        assertEquals(1, notified.get());
+        unsubscribe.run();
+
+        Long generation = indexUnderTest.getPendingGeneration(serviceId, "zookeeper");
+        assertNotNull(generation);
+        // mark added after the generation was read must not be cleared.
+        indexUnderTest.onServiceChangeRequestsQueued(
+                new ServiceChangeRequestsQueuedEvent(serviceId, List.of("zookeeper")));
+        indexUnderTest.clearPending(serviceId, "zookeeper", generation);
+        Long newGeneration = indexUnderTest.getPendingGeneration(serviceId, "zookeeper");
+        assertNotNull(newGeneration);
+        assertTrue(newGeneration > generation);
+
+        indexUnderTest.clearPending(serviceId, "zookeeper", newGeneration);
+        assertNull(indexUnderTest.getPendingGeneration(serviceId, "zookeeper"));
+    }
+}
@@ -0,0 +1,98 @@
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
+import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrderStatusChangedEvent;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrderStatusUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceOrderStatusChangePollingTest {
+
+    private final UUID orderId = UUID.randomUUID();
+    @Mock private ServiceOrderStorage mockOrderStorage;
+    @InjectMocks private ServiceOrderStatusChangePolling pollingUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pollingUnderTest, "pollingWaitPeriod", 60);
+    }
+
+    private void mockStoredOrderStatus(OrderStatus orderStatus) {
+        ServiceOrderEntity serviceOrderEntity = new ServiceOrderEntity();
+        serviceOrderEntity.setOrderId(orderId);
+        serviceOrderEntity.setOrderStatus(orderStatus);
+        when(mockOrderStorage.getEntityById(orderId)).thenReturn(serviceOrderEntity);
+    }
+
+    @Test
+    void testResultIsSetImmediatelyWhenStatusIsChanged() {
+        mockStoredOrderStatus(OrderStatus.IN_PROGRESS);
+        DeferredResult<ServiceOrderStatusUpdate> deferredResult = new DeferredResult<>();
+
+        pollingUnderTest.fetchServiceOrderStatusWithPolling(
+                deferredResult, orderId, OrderStatus.CREATED);
+
+        ServiceOrderStatusUpdate result = (ServiceOrderStatusUpdate) deferredResult.getResult();
+        assertEquals(OrderStatus.IN_PROGRESS, result.getOrderStatus());
+        assertFalse(result.getIsOrderCompleted());
+    }
+
+    @Test
+    void testResultIsSetByStatusChangedEvent() {
+        mockStoredOrderStatus(OrderStatus.IN_PROGRESS);
+        DeferredResult<ServiceOrderStatusUpdate> deferredResult = new DeferredResult<>();
+
+        pollingUnderTest.fetchServiceOrderStatusWithPolling(
+                deferredResult, orderId, OrderStatus.IN_PROGRESS);
+        assertNull(deferredResult.getResult());
+
+        // event of another order must not complete the result.
+        pollingUnderTest.onServiceOrderStatusChanged(
+                new ServiceOrderStatusChangedEvent(UUID.randomUUID(), OrderStatus.FAILED, null));
+        assertNull(deferredResult.getResult());
+
+        pollingUnderTest.onServiceOrderStatusChanged(
+                new ServiceOrderStatusChangedEvent(orderId, OrderStatus.SUCCESSFUL, null));
+        ServiceOrderStatusUpdate result = (ServiceOrderStatusUpdate) deferredResult.getResult();
+        assertEquals(OrderStatus.SUCCESSFUL, result.getOrderStatus());
+        assertTrue(result.getIsOrderCompleted());
+        // the database is read only once.
+        verify(mockOrderStorage, times(1)).getEntityById(orderId);
+    }
+
+    @Test
+    void testResultIsSetWithCurrentStatusAfterWaitPeriod() throws InterruptedException {
+        ReflectionTestUtils.setField(pollingUnderTest, "pollingWaitPeriod", 1);
+        mockStoredOrderStatus(OrderStatus.IN_PROGRESS);
+        DeferredResult<ServiceOrderStatusUpdate> deferredResult = new DeferredResult<>();
+
+        pollingUnderTest.fetchServiceOrderStatusWithPolling(
+                deferredResult, orderId, OrderStatus.IN_PROGRESS);
+
+        long endTime = System.currentTimeMillis() + 10000;
+        while (!deferredResult.hasResult() && System.currentTimeMillis() < endTime) {
+            Thread.sleep(100);
+        }
+        ServiceOrderStatusUpdate result = (ServiceOrderStatusUpdate) deferredResult.getResult();
+        assertEquals(OrderStatus.IN_PROGRESS, result.getOrderStatus());
+        assertFalse(result.getIsOrderCompleted());
+    }
+}
@@ -0,0 +1,60 @@
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class StatusChangeSubscriptionsTest {
+
+    private final StatusChangeSubscriptions<String, Integer> subscriptions =
+            new StatusChangeSubscriptions<>();
+
+    @Test
+    void testClientExecutorSendsStatusChangesInOrderOnVirtualThreads() throws Exception {
+        Executor clientExecutor = subscriptions.newClientExecutor();
+        List<Integer> sentStatuses = new CopyOnWriteArrayList<>();
+        List<Boolean> virtualThreads = new CopyOnWriteArrayList<>();
+        CountDownLatch allSent = new CountDownLatch(100);
+        Runnable unsubscribe =
+                subscriptions.subscribe(
+                        "key",
+                        status ->
+                                clientExecutor.execute(
+                                        () -> {
+                                            sentStatuses.add(status);
+                                            virtualThreads.add(Thread.currentThread().isVirtual());
+                                            allSent.countDown();
+                                        }));
+
+        IntStream.range(0, 100).forEach(status -> subscriptions.publish("key", status));
+
+        assertTrue(allSent.await(10, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 100).boxed().toList(), sentStatuses);
+        assertTrue(virtualThreads.stream().allMatch(Boolean::booleanValue));
+        unsubscribe.run();
+        assertEquals(0, subscriptions.getSubscribedKeysCount());
+    }
+
+    @Test
+    void testScheduledTaskRunsOnVirtualThread() throws Exception {
+        CountDownLatch executed = new CountDownLatch(1);
+        List<Boolean> virtualThreads = new CopyOnWriteArrayList<>();
+
+        subscriptions.schedule(
+                () -> {
+                    virtualThreads.add(Thread.currentThread().isVirtual());
+                    executed.countDown();
+                },
+                0);
+
+        assertTrue(executed.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(true), virtualThreads);
+    }
+}
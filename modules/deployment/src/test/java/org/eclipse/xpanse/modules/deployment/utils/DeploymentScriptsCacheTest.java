@@ -0,0 +1,123 @@
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import org.eclipse.xpanse.modules.models.service.deployment.DeploymentFileCacheUsedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class DeploymentScriptsCacheTest {
+
+    private final DeploymentScriptsCache deploymentScriptsCache = new DeploymentScriptsCache();
+    private final Map<String, String> scriptFiles =
+            Map.of(
+                    "main.tf", "resource \"null_resource\" \"a\" {}",
+                    "variables.tf", "variable \"name\" {}",
+                    "empty.tf", "");
+    private final List<DeploymentFileCacheUsedEvent> publishedEvents = new ArrayList<>();
+    @TempDir private Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(deploymentScriptsCache, "deploymentScriptsCacheEnabled", true);
+        ReflectionTestUtils.setField(
+                deploymentScriptsCache,
+                "deploymentScriptsCacheDirectory",
+                tempDir.resolve("cache").toString());
+        ReflectionTestUtils.setField(
+                deploymentScriptsCache, "deploymentScriptsCacheMaxSizeInMb", 1L);
+        ReflectionTestUtils.setField(
+                deploymentScriptsCache,
+                "applicationEventPublisher",
+                (ApplicationEventPublisher)
+                        event -> publishedEvents.add((DeploymentFileCacheUsedEvent) event));
+    }
+
+    @Test
+    void testMaterializeScriptsUsesCachedScripts() throws Exception {
+        Path workspace1 = Files.createDirectories(tempDir.resolve("ws1"));
+        Path workspace2 = Files.createDirectories(tempDir.resolve("ws2"));
+
+        List<File> files1 = deploymentScriptsCache.materializeScripts(workspace1, scriptFiles);
+        List<File> files2 = deploymentScriptsCache.materializeScripts(workspace2, scriptFiles);
+
+        assertEquals(2, files1.size());
+        assertEquals(2, files2.size());
+        assertEquals(1, sumOfEvents(DeploymentFileCacheUsedEvent::getMisses));
+        assertEquals(1, sumOfEvents(DeploymentFileCacheUsedEvent::getHits));
+        assertEquals(scriptFiles.get("main.tf"), Files.readString(workspace2.resolve("main.tf")));
+        assertTrue(Files.isSameFile(workspace1.resolve("main.tf"), workspace2.resolve("main.tf")));
+        assertFalse(Files.exists(workspace1.resolve("empty.tf")));
+    }
+
+    @Test
+    void testChangedScriptsAreCachedSeparately() throws Exception {
+        deploymentScriptsCache.materializeScripts(
+                Files.createDirectories(tempDir.resolve("ws1")), scriptFiles);
+        Path workspace2 = Files.createDirectories(tempDir.resolve("ws2"));
+
+        deploymentScriptsCache.materializeScripts(
+                workspace2, Map.of("main.tf", "resource \"null_resource\" \"b\" {}"));
+
+        assertEquals(2, sumOfEvents(DeploymentFileCacheUsedEvent::getMisses));
+        assertTrue(Files.readString(workspace2.resolve("main.tf")).contains("\"b\""));
+    }
+
+    @Test
+    void testStateFileIsNotSharedWithCache() throws Exception {
+        Map<String, String> scriptsWithState = Map.of("main.tf", "{}", "terraform.tfstate", "{}");
+        Path workspace1 = Files.createDirectories(tempDir.resolve("ws1"));
+        deploymentScriptsCache.materializeScripts(workspace1, scriptsWithState);
+
+        Files.writeString(workspace1.resolve("terraform.tfstate"), "changed");
+        Path workspace2 = Files.createDirectories(tempDir.resolve("ws2"));
+        deploymentScriptsCache.materializeScripts(workspace2, scriptsWithState);
+
+        assertEquals("{}", Files.readString(workspace2.resolve("terraform.tfstate")));
+    }
+
+    @Test
+    void testInvalidScriptFileName() throws IOException {
+        Path workspace = Files.createDirectories(tempDir.resolve("ws1"));
+
+        assertThrows(
+                IOException.class,
+                () ->
+                        deploymentScriptsCache.materializeScripts(
+                                workspace, Map.of("../a.tf", "{}")));
+    }
+
+    @Test
+    void testEvictLeastRecentlyUsedEntries() throws Exception {
+        Path workspace = Files.createDirectories(tempDir.resolve("ws1"));
+        deploymentScriptsCache.materializeScripts(workspace, scriptFiles);
+
+        ReflectionTestUtils.setField(
+                deploymentScriptsCache, "deploymentScriptsCacheMaxSizeInMb", 0L);
+        deploymentScriptsCache.evictLeastRecentlyUsedEntries();
+        deploymentScriptsCache.materializeScripts(
+                Files.createDirectories(tempDir.resolve("ws2")), scriptFiles);
+
+        assertEquals(2, sumOfEvents(DeploymentFileCacheUsedEvent::getMisses));
+        assertEquals(1, sumOfEvents(DeploymentFileCacheUsedEvent::getEvictions));
+        assertTrue(Files.exists(workspace.resolve("main.tf")));
+    }
+
+    private long sumOfEvents(ToLongFunction<DeploymentFileCacheUsedEvent> count) {
+        return publishedEvents.stream().mapToLong(count).sum();
+    }
+}
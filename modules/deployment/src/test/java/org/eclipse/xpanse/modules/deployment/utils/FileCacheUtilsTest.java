@@ -0,0 +1,76 @@
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.eclipse.xpanse.modules.deployment.utils.FileCacheUtils.CachedEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileCacheUtilsTest {
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void testEvictLeastRecentlyUsedEntries() throws IOException {
+        CachedEntry oldEntry = createCachedEntry("old", 1000);
+        CachedEntry keptEntry = createCachedEntry("kept", 2000);
+        CachedEntry newEntry = createCachedEntry("new", 3000);
+
+        // the kept entry is skipped, evicting the least recently used entry is enough.
+        int evictedEntries =
+                FileCacheUtils.evictLeastRecentlyUsedEntries(
+                        List.of(newEntry, keptEntry, oldEntry),
+                        keptEntry.size() + newEntry.size(),
+                        path ->
+                                !path.equals(keptEntry.path())
+                                        && FileCacheUtils.deleteDirectory(path));
+
+        assertEquals(1, evictedEntries);
+        assertFalse(Files.exists(oldEntry.path()));
+        assertTrue(Files.exists(keptEntry.path()));
+        assertTrue(Files.exists(newEntry.path()));
+    }
+
+    @Test
+    void testEvictLeastRecentlyUsedEntriesWithinMaxSize() throws IOException {
+        CachedEntry entry = createCachedEntry("entry", 1000);
+
+        assertEquals(
+                0,
+                FileCacheUtils.evictLeastRecentlyUsedEntries(
+                        List.of(entry), entry.size(), FileCacheUtils::deleteDirectory));
+        assertTrue(Files.exists(entry.path()));
+    }
+
+    @Test
+    void testLinkOrCopyFile() throws IOException {
+        Path cacheDir = Files.createDirectories(tempDir.resolve("cache"));
+        Path workspace = Files.createDirectories(tempDir.resolve("workspace"));
+        Files.writeString(cacheDir.resolve("main.tf"), "{}");
+        Files.writeString(cacheDir.resolve("terraform.tfstate"), "{}");
+
+        FileCacheUtils.linkOrCopyFile(cacheDir.resolve("main.tf"), workspace.resolve("main.tf"));
+        FileCacheUtils.linkOrCopyFile(
+                cacheDir.resolve("terraform.tfstate"), workspace.resolve("terraform.tfstate"));
+
+        assertTrue(Files.isSameFile(cacheDir.resolve("main.tf"), workspace.resolve("main.tf")));
+        assertFalse(
+                Files.isSameFile(
+                        cacheDir.resolve("terraform.tfstate"),
+                        workspace.resolve("terraform.tfstate")));
+    }
+
+    private CachedEntry createCachedEntry(String name, long lastUsedMillis) throws IOException {
+        Path directory = Files.createDirectories(tempDir.resolve(name));
+        Files.writeString(directory.resolve("main.tf"), "resource \"null_resource\" \"a\" {}");
+        Files.setLastModifiedTime(directory, FileTime.fromMillis(lastUsedMillis));
+        return FileCacheUtils.getCachedEntry(directory);
+    }
+}
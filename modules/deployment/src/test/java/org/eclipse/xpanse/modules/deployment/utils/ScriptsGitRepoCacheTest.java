@@ -0,0 +1,156 @@
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.xpanse.modules.models.common.exceptions.GitRepoCloneException;
+import org.eclipse.xpanse.modules.models.service.deployment.DeploymentFileCacheUsedEvent;
+import org.eclipse.xpanse.modules.models.servicetemplate.ScriptsRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ScriptsGitRepoCacheTest {
+
+    private final ScriptsGitRepoCache scriptsGitRepoCache = new ScriptsGitRepoCache();
+    private final List<DeploymentFileCacheUsedEvent> publishedEvents = new ArrayList<>();
+    @TempDir private Path tempDir;
+    private Git sourceRepo;
+    private ScriptsRepo scriptsRepo;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(scriptsGitRepoCache, "scriptsRepoCacheEnabled", true);
+        ReflectionTestUtils.setField(
+                scriptsGitRepoCache,
+                "scriptsRepoCacheDirectory",
+                tempDir.resolve("cache").toString());
+        ReflectionTestUtils.setField(scriptsGitRepoCache, "scriptsRepoCacheMaxSizeInMb", 1L);
+        ReflectionTestUtils.setField(scriptsGitRepoCache, "fetchDepth", 1);
+        ReflectionTestUtils.setField(scriptsGitRepoCache, "gitCommandTimeoutSeconds", 10);
+        ReflectionTestUtils.setField(
+                scriptsGitRepoCache,
+                "applicationEventPublisher",
+                (ApplicationEventPublisher)
+                        event -> publishedEvents.add((DeploymentFileCacheUsedEvent) event));
+        sourceRepo =
+                Git.init()
+                        .setDirectory(tempDir.resolve("source").toFile())
+                        .setInitialBranch("main")
+                        .call();
+        commitFile("scripts/main.tf", "resource \"null_resource\" \"a\" {}");
+        scriptsRepo = new ScriptsRepo();
+        scriptsRepo.setRepoUrl(tempDir.resolve("source").toUri().toString());
+        scriptsRepo.setBranch("main");
+        scriptsRepo.setScriptsPath("scripts");
+    }
+
+    @AfterEach
+    void tearDown() {
+        sourceRepo.close();
+    }
+
+    @Test
+    void testCheckoutScriptsUsesCachedCommit() throws Exception {
+        Path workspace1 = tempDir.resolve("ws1");
+        Path workspace2 = tempDir.resolve("ws2");
+
+        String commitId1 = scriptsGitRepoCache.checkoutScripts(workspace1, scriptsRepo);
+        String commitId2 = scriptsGitRepoCache.checkoutScripts(workspace2, scriptsRepo);
+
+        assertEquals(commitId1, commitId2);
+        assertEquals(1, sumOfEvents(DeploymentFileCacheUsedEvent::getMisses));
+        assertEquals(1, sumOfEvents(DeploymentFileCacheUsedEvent::getHits));
+        assertTrue(Files.exists(workspace1.resolve("scripts/main.tf")));
+        assertTrue(Files.exists(workspace2.resolve("scripts/main.tf")));
+        assertFalse(Files.exists(workspace2.resolve(".git")));
+    }
+
+    @Test
+    void testCheckoutScriptsFetchesNewCommitOfBranch() throws Exception {
+        Path workspace1 = tempDir.resolve("ws1");
+        Path workspace2 = tempDir.resolve("ws2");
+        String commitId1 = scriptsGitRepoCache.checkoutScripts(workspace1, scriptsRepo);
+
+        commitFile("scripts/main.tf", "resource \"null_resource\" \"b\" {}");
+        String commitId2 = scriptsGitRepoCache.checkoutScripts(workspace2, scriptsRepo);
+
+        assertNotEquals(commitId1, commitId2);
+        assertEquals(2, sumOfEvents(DeploymentFileCacheUsedEvent::getMisses));
+        assertTrue(Files.readString(workspace1.resolve("scripts/main.tf")).contains("\"a\""));
+        assertTrue(Files.readString(workspace2.resolve("scripts/main.tf")).contains("\"b\""));
+    }
+
+    @Test
+    void testCheckoutScriptsOfTag() throws Exception {
+        sourceRepo.tag().setName("v1.0").setAnnotated(true).setMessage("release").call();
+        scriptsRepo.setBranch("v1.0");
+
+        scriptsGitRepoCache.checkoutScripts(tempDir.resolve("ws1"), scriptsRepo);
+
+        assertTrue(Files.exists(tempDir.resolve("ws1/scripts/main.tf")));
+    }
+
+    @Test
+    void testCheckoutScriptsWithUnknownBranch() {
+        scriptsRepo.setBranch("unknown");
+
+        assertThrows(
+                GitRepoCloneException.class,
+                () -> scriptsGitRepoCache.checkoutScripts(tempDir.resolve("ws1"), scriptsRepo));
+    }
+
+    @Test
+    void testStateFileIsNotSharedWithCache() throws Exception {
+        commitFile("scripts/terraform.tfstate", "{}");
+        Path workspace1 = tempDir.resolve("ws1");
+        scriptsGitRepoCache.checkoutScripts(workspace1, scriptsRepo);
+
+        Files.writeString(workspace1.resolve("scripts/terraform.tfstate"), "changed");
+        Path workspace2 = tempDir.resolve("ws2");
+        scriptsGitRepoCache.checkoutScripts(workspace2, scriptsRepo);
+
+        assertEquals("{}", Files.readString(workspace2.resolve("scripts/terraform.tfstate")));
+    }
+
+    @Test
+    void testEvictLeastRecentlyUsedEntries() throws Exception {
+        Path workspace = tempDir.resolve("ws1");
+        scriptsGitRepoCache.checkoutScripts(workspace, scriptsRepo);
+
+        ReflectionTestUtils.setField(scriptsGitRepoCache, "scriptsRepoCacheMaxSizeInMb", 0L);
+        scriptsGitRepoCache.evictLeastRecentlyUsedEntries();
+        scriptsGitRepoCache.checkoutScripts(tempDir.resolve("ws2"), scriptsRepo);
+
+        assertEquals(2, sumOfEvents(DeploymentFileCacheUsedEvent::getMisses));
+        // the clone and the snapshot.
+        assertTrue(sumOfEvents(DeploymentFileCacheUsedEvent::getEvictions) >= 2);
+        assertTrue(Files.exists(workspace.resolve("scripts/main.tf")));
+    }
+
+    private void commitFile(String path, String content) throws IOException, GitAPIException {
+        Path file = sourceRepo.getRepository().getWorkTree().toPath().resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        sourceRepo.add().addFilepattern(".").call();
+        sourceRepo.commit().setMessage("update " + path).setSign(false).call();
+    }
+
+    private long sumOfEvents(ToLongFunction<DeploymentFileCacheUsedEvent> count) {
+        return publishedEvents.stream().mapToLong(count).sum();
+    }
+}
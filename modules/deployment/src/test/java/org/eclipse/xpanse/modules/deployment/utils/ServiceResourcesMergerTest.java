@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.resource.ServiceResourceEntity;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
+import org.junit.jupiter.api.Test;
+
+class ServiceResourcesMergerTest {
+
+    @Test
+    void testMergeDeployResources() {
+        // Setup
+        ServiceDeploymentEntity service = new ServiceDeploymentEntity();
+        ServiceResourceEntity unchanged =
+                getResourceEntity(service, "vm", "vm-1", Map.of("ip", "1"));
+        ServiceResourceEntity changed = getResourceEntity(service, "vm", "vm-2", Map.of("ip", "2"));
+        ServiceResourceEntity removed = getResourceEntity(service, "vm", "vm-3", Map.of());
+        service.setDeployResources(new ArrayList<>(List.of(unchanged, changed, removed)));
+        final Map<String, String> changedProperties = changed.getProperties();
+
+        List<DeployResource> deployResources =
+                List.of(
+                        getDeployResource("vm", "vm-1", Map.of("ip", "1")),
+                        getDeployResource("vm", "vm-2", Map.of("ip", "22", "az", "a")),
+                        getDeployResource("vm", "vm-4", Map.of("ip", "4")));
+
+        // Run the test
+        Set<String> result = ServiceResourcesMerger.mergeDeployResources(service, deployResources);
+
+        // Verify the results
+        assertEquals(Set.of("vm-3", "vm-4"), result);
+        List<ServiceResourceEntity> resources = service.getDeployResources();
+        assertEquals(3, resources.size());
+        assertSame(unchanged, resources.get(0));
+        assertSame(changed, resources.get(1));
+        assertSame(changedProperties, changed.getProperties());
+        assertEquals(Map.of("ip", "22", "az", "a"), changed.getProperties());
+        ServiceResourceEntity added = resources.get(2);
+        assertEquals("vm-4", added.getResourceId());
+        assertSame(service, added.getServiceDeploymentEntity());
+        assertEquals(Map.of("ip", "4"), added.getProperties());
+    }
+
+    @Test
+    void testMergeDeployResourcesWithoutResources() {
+        // Setup
+        ServiceDeploymentEntity service = new ServiceDeploymentEntity();
+        ServiceResourceEntity removed = getResourceEntity(service, "vm", "vm-1", Map.of());
+        service.setDeployResources(new ArrayList<>(List.of(removed)));
+
+        // Run the test
+        Set<String> result = ServiceResourcesMerger.mergeDeployResources(service, null);
+
+        // Verify the results
+        assertEquals(Set.of("vm-1"), result);
+        assertTrue(service.getDeployResources().isEmpty());
+    }
+
+    @Test
+    void testMergeDeployResourcesWithoutUniqueKeys() {
+        // Setup
+        ServiceDeploymentEntity service = new ServiceDeploymentEntity();
+        ServiceResourceEntity withoutId = getResourceEntity(service, "vm", null, Map.of());
+        ServiceResourceEntity duplicate = getResourceEntity(service, "vm", "vm-2", Map.of());
+        service.setDeployResources(new ArrayList<>(List.of(withoutId, duplicate)));
+
+        List<DeployResource> deployResources =
+                List.of(
+                        getDeployResource("vm", null, Map.of("ip", "1")),
+                        getDeployResource("vm", null, Map.of("ip", "2")),
+                        getDeployResource("vm", "vm-2", Map.of("ip", "3")),
+                        getDeployResource("vm", "vm-2", Map.of("ip", "4")));
+
+        // Run the test
+        ServiceResourcesMerger.mergeDeployResources(service, deployResources);
+
+        // Verify the results
+        List<ServiceResourceEntity> resources = service.getDeployResources();
+        assertEquals(4, resources.size());
+        for (int i = 0; i < resources.size(); i++) {
+            assertNull(resources.get(i).getId());
+            assertEquals(deployResources.get(i).getProperties(), resources.get(i).getProperties());
+        }
+    }
+
+    private ServiceResourceEntity getResourceEntity(
+            ServiceDeploymentEntity service,
+            String groupType,
+            String resourceId,
+            Map<String, String> properties) {
+        ServiceResourceEntity resourceEntity = new ServiceResourceEntity();
+        resourceEntity.setId(UUID.randomUUID());
+        resourceEntity.setServiceDeploymentEntity(service);
+        resourceEntity.setGroupType(groupType);
+        resourceEntity.setGroupName(groupType);
+        resourceEntity.setResourceId(resourceId);
+        resourceEntity.setResourceName(resourceId);
+        resourceEntity.setResourceKind(DeployResourceKind.VM);
+        resourceEntity.setProperties(new HashMap<>(properties));
+        return resourceEntity;
+    }
+
+    private DeployResource getDeployResource(
+            String groupType, String resourceId, Map<String, String> properties) {
+        DeployResource deployResource = new DeployResource();
+        deployResource.setGroupType(groupType);
+        deployResource.setGroupName(groupType);
+        deployResource.setResourceId(resourceId);
+        deployResource.setResourceName(resourceId);
+        deployResource.setResourceKind(DeployResourceKind.VM);
+        deployResource.setProperties(properties);
+        return deployResource;
+    }
+}
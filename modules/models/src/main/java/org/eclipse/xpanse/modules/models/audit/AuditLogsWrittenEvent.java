@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Event published when a batch of queued audit logs is written to the plugins. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditLogsWrittenEvent {
+
+    /** Number of audit logs in the batch. */
+    private int writtenAuditLogs;
+
+    /** Number of audit logs of the batch which the plugins failed to write. */
+    private int failedAuditLogs;
+
+    /** Number of audit logs dropped as the queue was full since the previous batch. */
+    private long droppedAuditLogs;
+
+    /** Number of audit logs waiting in the queue after the batch. */
+    private int queuedAuditLogs;
+
+    /** Time taken to write the batch. */
+    private long writeTimeInMillis;
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.common.pagination;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Page of a cursor-based list.
+ *
+ * @param <T> type of the items.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+
+    /** Items of the page. */
+    private List<T> items;
+
+    /** Cursor to read the next page. Null when this is the last page. */
+    private String nextCursor;
+
+    /** Total number of items matching the query. Null when it was not requested. */
+    private Long totalCount;
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.common.pagination;
+
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request of a page of a cursor-based list. The cursor is the opaque position after the last item
+ * of the previous page, so the next page is read with an index seek instead of an offset.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageRequest {
+
+    /** Maximum allowed page size. */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /** Maximum number of items of the page. All items are returned when not set. */
+    private Integer pageSize;
+
+    /** Cursor returned with the previous page. The first page is returned when not set. */
+    private String cursor;
+
+    /** Whether the total number of items matching the query must be counted. */
+    private boolean includeTotalCount;
+
+    /**
+     * Request of all items without paging.
+     *
+     * @return request without page size and cursor.
+     */
+    public static CursorPageRequest unpaged() {
+        return new CursorPageRequest(null, null, false);
+    }
+
+    /**
+     * Check if the request limits the number of items.
+     *
+     * @return true if the page size is set.
+     */
+    public boolean isPaged() {
+        return Objects.nonNull(pageSize);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.credential;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+
+/** Event published when a credential is stored, updated or deleted. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CredentialChangedEvent {
+
+    /** Cloud service provider of the credential. */
+    private Csp csp;
+
+    /** Site of the cloud service provider. */
+    private String site;
+
+    /** Id of the user who owns the credential. Null for credentials of the provider. */
+    private String userId;
+}
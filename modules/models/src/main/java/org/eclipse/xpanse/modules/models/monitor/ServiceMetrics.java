@@ -0,0 +1,25 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+
+/** Defines the metrics of a service. */
+@Data
+public class ServiceMetrics {
+
+    @NotNull
+    @Schema(description = "ID of the service.")
+    private UUID serviceId;
+
+    @NotNull
+    @Schema(description = "Metrics of the resources of the service.")
+    private List<Metric> metrics;
+}
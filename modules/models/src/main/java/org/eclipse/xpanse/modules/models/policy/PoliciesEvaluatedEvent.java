@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.models.policy;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Event published when a deployment plan was evaluated with policies. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PoliciesEvaluatedEvent {
+
+    /** Number of policies the plan was evaluated with. */
+    private int numberOfPolicies;
+
+    /** Time the evaluation took, including the lookup of the cached result. */
+    private long evaluationTimeInMillis;
+
+    /** If the plan passed all policies. */
+    private boolean successful;
+}
@@ -87,7 +87,8 @@ public enum ErrorType {
     SERVICE_ACTION_CHANGE_ORDER_ALREADY_EXISTS("Service Action Change Order Already Exists"),
     INVALID_SERVICE_OBJECT_REQUEST("Invalid Service Object Request"),
     SERVICE_OBJECT_NOT_FOUND("Service Object Not Found"),
-    SERVICE_OBJECT_CHANGE_ORDER_ALREADY_EXISTS("Service Object Change Order Already Exists");
+    SERVICE_OBJECT_CHANGE_ORDER_ALREADY_EXISTS("Service Object Change Order Already Exists"),
+    DEPLOYMENT_JOB_QUEUE_FULL("Deployment Job Queue Full");
 
     private final String value;
 
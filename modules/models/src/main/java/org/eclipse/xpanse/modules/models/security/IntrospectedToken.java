@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.models.security;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Cached result of the introspection of an opaque token. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IntrospectedToken implements Serializable {
+
+    @Serial private static final long serialVersionUID = 4327810912557368413L;
+
+    /** If the token is active. */
+    private boolean active;
+
+    /** Claims returned by the authorization server. Empty when the token is not active. */
+    private Map<String, Object> claims;
+
+    /** Names of the authorities converted from the claims. */
+    private Set<String> authorities;
+
+    /** Time after which the cached result must not be used anymore. */
+    private Instant expiresAt;
+}
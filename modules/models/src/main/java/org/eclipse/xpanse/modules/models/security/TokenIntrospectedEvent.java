@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.models.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Event published when an opaque token was introspected with the authorization server. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenIntrospectedEvent {
+
+    /** Time the request to the authorization server took. */
+    private long introspectionTimeInMillis;
+
+    /** If the authorization server answered the request. */
+    private boolean successful;
+
+    /** If the token is active. */
+    private boolean active;
+}
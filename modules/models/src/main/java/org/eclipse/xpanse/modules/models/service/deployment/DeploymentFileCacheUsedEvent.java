@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.service.deployment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Event published when a local file cache of the deployments is used or entries of it are evicted.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeploymentFileCacheUsedEvent {
+
+    /** Name of the file cache. */
+    private String cacheName;
+
+    /** Number of entries found in the cache. */
+    private long hits;
+
+    /** Number of entries which had to be added to the cache. */
+    private long misses;
+
+    /** Number of entries evicted from the cache. */
+    private long evictions;
+}
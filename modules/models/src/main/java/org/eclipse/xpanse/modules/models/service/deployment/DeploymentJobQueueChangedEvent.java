@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.service.deployment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
+
+/** Event published when a deployment job is queued, started, completed or rejected. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeploymentJobQueueChangedEvent {
+
+    /** Deployer kind of the job which changed the queue. */
+    private DeployerKind deployerKind;
+
+    /** Number of jobs waiting in the queue after the change. */
+    private int queuedJobs;
+
+    /** Number of jobs running after the change. */
+    private int runningJobs;
+
+    /** Time the job waited in the queue. Null when the job was not started with this change. */
+    private Long jobWaitTimeInMillis;
+
+    /** If the job was rejected because the queue is full. */
+    private boolean jobRejected;
+}
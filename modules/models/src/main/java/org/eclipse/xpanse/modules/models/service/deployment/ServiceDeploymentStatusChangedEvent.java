@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.service.deployment;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+
+/** Event published when the deployment state of a service is stored. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ServiceDeploymentStatusChangedEvent {
+
+    private UUID serviceId;
+
+    private ServiceDeploymentState serviceDeploymentState;
+
+    /** ID of the node which published the event. Null when the event was published locally. */
+    private String sourceNodeId;
+
+    public ServiceDeploymentStatusChangedEvent(
+            UUID serviceId, ServiceDeploymentState serviceDeploymentState) {
+        this(serviceId, serviceDeploymentState, null);
+    }
+}
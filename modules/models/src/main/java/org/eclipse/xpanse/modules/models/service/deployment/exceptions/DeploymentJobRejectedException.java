@@ -0,0 +1,13 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.service.deployment.exceptions;
+
+/** Exception thrown when the deployment job queue is full and new jobs are not accepted. */
+public class DeploymentJobRejectedException extends RuntimeException {
+    public DeploymentJobRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.service.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Data;
+import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
+
+/** Progress of the orders of a bulk service operation. */
+@Data
+public class BulkServiceOperationProgress {
+
+    @NotNull
+    @Schema(description = "The id of the batch.")
+    private UUID batchId;
+
+    @NotNull
+    @Schema(description = "The number of orders in the batch.")
+    private Integer totalOrders;
+
+    @NotNull
+    @Schema(description = "The number of orders by order status.")
+    private Map<OrderStatus, Long> orderStatusCounts;
+
+    @NotNull
+    @Schema(description = "Whether all orders of the batch are completed.")
+    private Boolean completed;
+
+    @NotNull
+    @Schema(description = "The orders of the batch.")
+    private List<ServiceOrderDetails> orders;
+}
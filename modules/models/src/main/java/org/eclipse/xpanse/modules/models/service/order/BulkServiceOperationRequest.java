@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.service.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+import org.eclipse.xpanse.modules.models.service.order.enums.BulkServiceOperation;
+
+/** Request to execute an operation on many services at once. */
+@Data
+public class BulkServiceOperationRequest {
+
+    @NotNull
+    @Schema(description = "The operation to execute on the services.")
+    private BulkServiceOperation operation;
+
+    @NotNull
+    @Size(min = 1)
+    @Schema(description = "The ids of the services.")
+    private List<UUID> serviceIds;
+}
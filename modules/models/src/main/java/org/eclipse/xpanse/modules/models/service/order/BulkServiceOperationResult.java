@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.service.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+import org.eclipse.xpanse.modules.models.service.order.enums.BulkServiceOperation;
+
+/** Result of the submission of a bulk service operation. */
+@Data
+public class BulkServiceOperationResult {
+
+    @NotNull
+    @Schema(description = "The id of the batch to track the progress of the orders.")
+    private UUID batchId;
+
+    @NotNull
+    @Schema(description = "The operation executed on the services.")
+    private BulkServiceOperation operation;
+
+    @NotNull
+    @Schema(description = "The orders created for the accepted services.")
+    private List<ServiceOrder> orders;
+
+    @NotNull
+    @Schema(description = "The services for which the operation was rejected.")
+    private List<RejectedServiceOperation> rejectedServices;
+}
@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.service.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Service of a bulk operation for which no order was created. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RejectedServiceOperation {
+
+    @NotNull
+    @Schema(description = "The id of the service.")
+    private UUID serviceId;
+
+    @NotNull
+    @Schema(description = "The reason why the operation was rejected for the service.")
+    private String errorMessage;
+}
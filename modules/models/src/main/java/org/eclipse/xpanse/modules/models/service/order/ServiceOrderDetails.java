@@ -48,6 +48,9 @@ public class ServiceOrderDetails {
     @Schema(description = "The id of the workflow.")
     private String workflowId;
 
+    @Schema(description = "The id of the batch of bulk service operations of the service order.")
+    private UUID batchId;
+
     @Schema(description = "The error response if the service order task failed.")
     private ErrorResponse errorResponse;
 
@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.service.order;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.xpanse.modules.models.response.ErrorResponse;
+import org.eclipse.xpanse.modules.models.service.enums.OrderStatus;
+
+/** Event published when the status of a service order is stored. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ServiceOrderStatusChangedEvent {
+
+    private UUID orderId;
+
+    private OrderStatus orderStatus;
+
+    private ErrorResponse errorResponse;
+
+    /** ID of the node which published the event. Null when the event was published locally. */
+    private String sourceNodeId;
+
+    public ServiceOrderStatusChangedEvent(
+            UUID orderId, OrderStatus orderStatus, ErrorResponse errorResponse) {
+        this(orderId, orderStatus, errorResponse, null);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.service.order.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.models.common.exceptions.UnsupportedEnumValueException;
+
+/** Enumeration class for operations which can be executed on many services at once. */
+public enum BulkServiceOperation {
+    START("start", ServiceOrderType.SERVICE_START),
+    STOP("stop", ServiceOrderType.SERVICE_STOP),
+    RESTART("restart", ServiceOrderType.SERVICE_RESTART),
+    DESTROY("destroy", ServiceOrderType.DESTROY),
+    PURGE("purge", ServiceOrderType.PURGE);
+
+    private final String operation;
+    private final ServiceOrderType orderType;
+
+    BulkServiceOperation(String operation, ServiceOrderType orderType) {
+        this.operation = operation;
+        this.orderType = orderType;
+    }
+
+    /** For BulkServiceOperation deserialize. */
+    @JsonCreator
+    public static BulkServiceOperation getByValue(String operation) {
+        for (BulkServiceOperation item : values()) {
+            if (StringUtils.equalsIgnoreCase(operation, item.operation)) {
+                return item;
+            }
+        }
+        throw new UnsupportedEnumValueException(
+                String.format("BulkServiceOperation operation %s is not supported.", operation));
+    }
+
+    /** For BulkServiceOperation serialize. */
+    @JsonValue
+    public String toValue() {
+        return this.operation;
+    }
+
+    /** Get the type of the orders created for the operation. */
+    public ServiceOrderType getOrderType() {
+        return this.orderType;
+    }
+}
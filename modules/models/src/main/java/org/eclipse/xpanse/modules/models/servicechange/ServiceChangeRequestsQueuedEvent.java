@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.servicechange;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Event published when service change requests are queued for the agents of a service. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ServiceChangeRequestsQueuedEvent {
+
+    private UUID serviceId;
+
+    /** Names of the resources whose agents must handle the queued requests. */
+    private List<String> resourceNames;
+
+    /** ID of the node which published the event. Null when the event was published locally. */
+    private String sourceNodeId;
+
+    public ServiceChangeRequestsQueuedEvent(UUID serviceId, List<String> resourceNames) {
+        this(serviceId, resourceNames, null);
+    }
+}
@@ -28,6 +28,7 @@ class ServiceOrderDetailsTest {
     private final UUID originalServiceId = UUID.fromString("4caabd86-1967-4351-aedc-b18cbab3ab62");
     private final UUID parentOrderId = UUID.fromString("4caabd86-1967-4351-aedc-b18cbab3ab63");
     private final String workflowId = "workflowId";
+    private final UUID batchId = UUID.fromString("4caabd86-1967-4351-aedc-b18cbab3ab64");
     private final ErrorResponse errorResponse = new ErrorResponse();
     private final String userId = "userId";
     private final OrderStatus orderStatus = OrderStatus.SUCCESSFUL;
@@ -45,6 +46,7 @@ class ServiceOrderDetailsTest {
         test.setOriginalServiceId(originalServiceId);
         test.setParentOrderId(parentOrderId);
         test.setWorkflowId(workflowId);
+        test.setBatchId(batchId);
         test.setTaskType(taskType);
         test.setUserId(userId);
         test.setStartedTime(startedTime);
@@ -62,6 +64,7 @@ class ServiceOrderDetailsTest {
         assertThat(test.getOriginalServiceId()).isEqualTo(originalServiceId);
         assertThat(test.getParentOrderId()).isEqualTo(parentOrderId);
         assertThat(test.getWorkflowId()).isEqualTo(workflowId);
+        assertThat(test.getBatchId()).isEqualTo(batchId);
         assertThat(test.getTaskType()).isEqualTo(taskType);
         assertThat(test.getUserId()).isEqualTo(userId);
         assertThat(test.getOrderStatus()).isEqualTo(orderStatus);
@@ -104,6 +107,8 @@ class ServiceOrderDetailsTest {
                         + parentOrderId
                         + ", workflowId="
                         + workflowId
+                        + ", batchId="
+                        + batchId
                         + ", errorResponse="
                         + errorResponse
                         + ", userId="
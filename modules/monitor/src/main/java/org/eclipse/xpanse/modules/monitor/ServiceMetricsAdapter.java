@@ -7,7 +7,9 @@
 package org.eclipse.xpanse.modules.monitor;
 
 import jakarta.annotation.Resource;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
@@ -15,22 +17,19 @@ import org.eclipse.xpanse.modules.database.resource.ServiceResourceEntity;
 import org.eclipse.xpanse.modules.database.resource.ServiceResourceStorage;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
-import org.eclipse.xpanse.modules.database.utils.EntityTranslationUtils;
+import org.eclipse.xpanse.modules.database.service.ServiceDeploymentSummary;
 import org.eclipse.xpanse.modules.models.common.enums.UserOperation;
 import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.eclipse.xpanse.modules.models.monitor.ServiceMetrics;
 import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
 import org.eclipse.xpanse.modules.models.monitor.exceptions.ResourceNotFoundException;
 import org.eclipse.xpanse.modules.models.monitor.exceptions.ResourceNotSupportedForMonitoringException;
 import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.ServiceNotDeployedException;
 import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
-import org.eclipse.xpanse.modules.models.servicetemplate.Region;
-import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
-import org.eclipse.xpanse.modules.orchestrator.PluginManager;
-import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
-import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
 import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
@@ -40,12 +39,14 @@ import org.springframework.util.CollectionUtils;
 @Service
 public class ServiceMetricsAdapter {
 
-    private static final long FIVE_MINUTES_MILLISECONDS = 5 * 60 * 1000;
     @Resource private ServiceDeploymentStorage serviceDeploymentStorage;
     @Resource private ServiceResourceStorage serviceResourceStorage;
-    @Resource private PluginManager pluginManager;
+    @Resource private ServiceMetricsQueryEngine serviceMetricsQueryEngine;
     @Resource private UserServiceHelper userServiceHelper;
 
+    @Value("${service.metrics.bulk.query.max.services:200}")
+    private int bulkQueryMaxServices;
+
     /** Get metrics of the service instance. */
     public List<Metric> getMetricsByServiceId(
             UUID serviceId,
@@ -55,34 +56,19 @@ public class ServiceMetricsAdapter {
             Integer granularity,
             boolean onlyLastKnownMetric) {
         validateToAndFromValues(from, to);
-        ServiceDeploymentEntity serviceEntity = findDeployServiceEntity(serviceId);
-        List<ServiceResourceEntity> vmEntities =
-                serviceEntity.getDeployResources().stream()
-                        .filter(entity -> entity.getResourceKind().equals(DeployResourceKind.VM))
-                        .toList();
-        if (CollectionUtils.isEmpty(vmEntities)) {
+        ServiceDeploymentSummary summary = findServiceSummaries(List.of(serviceId)).getFirst();
+        List<DeployResource> vmResources =
+                serviceResourceStorage
+                        .getDeployResourcesOfServices(List.of(serviceId), DeployResourceKind.VM)
+                        .getOrDefault(serviceId, List.of());
+        if (CollectionUtils.isEmpty(vmResources)) {
             throw new ResourceNotFoundException("No resource found in the service.");
         }
-
-        checkPermission(serviceEntity);
-
-        OrchestratorPlugin orchestratorPlugin =
-                pluginManager.getOrchestratorPlugin(serviceEntity.getCsp());
-        Region region = serviceEntity.getRegion();
-        List<DeployResource> vmResources =
-                EntityTranslationUtils.transToDeployResources(vmEntities);
-        ServiceMetricsRequest serviceMetricRequest =
-                getServiceMetricRequest(
-                        serviceId,
-                        region,
-                        vmResources,
-                        monitorType,
-                        from,
-                        to,
-                        granularity,
-                        onlyLastKnownMetric,
-                        serviceEntity.getUserId());
-        return orchestratorPlugin.getMetricsForService(serviceMetricRequest);
+        ServiceMetricsTarget target = getServiceMetricsTarget(summary, vmResources);
+        return serviceMetricsQueryEngine
+                .getMetrics(
+                        List.of(target), monitorType, from, to, granularity, onlyLastKnownMetric)
+                .get(serviceId);
     }
 
     /** Get metrics of the resource instance. */
@@ -108,114 +94,105 @@ public class ServiceMetricsAdapter {
         }
         DeployResource deployResource = new DeployResource();
         BeanUtils.copyProperties(resourceEntity, deployResource);
-        ServiceDeploymentEntity serviceEntity =
-                findDeployServiceEntity(resourceEntity.getServiceDeploymentEntity().getId());
-
-        OrchestratorPlugin orchestratorPlugin =
-                pluginManager.getOrchestratorPlugin(serviceEntity.getCsp());
-        Region region = serviceEntity.getRegion();
-        ResourceMetricsRequest resourceMetricRequest =
-                getResourceMetricRequest(
-                        resourceEntity.getServiceDeploymentEntity().getId(),
-                        region,
-                        deployResource,
-                        monitorType,
-                        from,
-                        to,
-                        granularity,
-                        onlyLastKnownMetric,
-                        serviceEntity.getUserId());
-        return orchestratorPlugin.getMetricsForResource(resourceMetricRequest);
-    }
-
-    private ServiceDeploymentEntity findDeployServiceEntity(UUID id) {
-        ServiceDeploymentEntity serviceEntity =
-                serviceDeploymentStorage.findServiceDeploymentById(id);
+        ServiceDeploymentEntity serviceEntity = resourceEntity.getServiceDeploymentEntity();
         if (Objects.isNull(serviceEntity)) {
             throw new ServiceNotDeployedException("Service not found.");
         }
-        checkPermission(serviceEntity);
-        return serviceEntity;
+        checkPermission(serviceEntity.getUserId());
+        ServiceMetricsTarget target =
+                new ServiceMetricsTarget(
+                        serviceEntity.getId(),
+                        serviceEntity.getCsp(),
+                        serviceEntity.getRegion(),
+                        serviceEntity.getUserId(),
+                        List.of(deployResource));
+        return serviceMetricsQueryEngine
+                .getMetrics(
+                        List.of(target), monitorType, from, to, granularity, onlyLastKnownMetric)
+                .get(serviceEntity.getId());
     }
 
-    private void checkPermission(ServiceDeploymentEntity serviceEntity) {
-        boolean currentUserIsOwner =
-                userServiceHelper.currentUserIsOwner(serviceEntity.getUserId());
-        if (!currentUserIsOwner) {
-            String errorMsg =
-                    String.format(
-                            "No permission to %s owned by other users.",
-                            UserOperation.VIEW_METRICS_OF_SERVICE.toValue());
-            log.error(errorMsg);
-            throw new AccessDeniedException(errorMsg);
-        }
-    }
-
-    private ResourceMetricsRequest getResourceMetricRequest(
-            UUID serviceId,
-            Region region,
-            DeployResource deployResource,
+    /**
+     * Get metrics of multiple service instances. The resources of services of the same provider,
+     * region and user are queried together when the provider supports it.
+     */
+    public List<ServiceMetrics> getMetricsOfServices(
+            List<UUID> serviceIds,
             MonitorResourceType monitorType,
             Long from,
             Long to,
             Integer granularity,
-            boolean onlyLastKnownMetric,
-            String userId) {
-        if (onlyLastKnownMetric) {
-            from = null;
-            to = null;
-        } else {
-            if (Objects.isNull(from)) {
-                from = System.currentTimeMillis() - FIVE_MINUTES_MILLISECONDS;
-            }
-            if (Objects.isNull(to)) {
-                to = System.currentTimeMillis();
-            }
+            boolean onlyLastKnownMetric) {
+        validateToAndFromValues(from, to);
+        List<UUID> uniqueServiceIds = serviceIds.stream().distinct().toList();
+        if (uniqueServiceIds.size() > bulkQueryMaxServices) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Metrics of at most %d services can be queried at once.",
+                            bulkQueryMaxServices));
+        }
+        List<ServiceDeploymentSummary> summaries = findServiceSummaries(uniqueServiceIds);
+        Map<UUID, List<DeployResource>> vmResourcesOfServices =
+                serviceResourceStorage.getDeployResourcesOfServices(
+                        uniqueServiceIds, DeployResourceKind.VM);
+        List<ServiceMetricsTarget> targets =
+                summaries.stream()
+                        .map(
+                                summary ->
+                                        getServiceMetricsTarget(
+                                                summary,
+                                                vmResourcesOfServices.getOrDefault(
+                                                        summary.getId(), List.of())))
+                        .toList();
+        Map<UUID, List<Metric>> metricsOfServices =
+                serviceMetricsQueryEngine.getMetrics(
+                        targets, monitorType, from, to, granularity, onlyLastKnownMetric);
+        List<ServiceMetrics> serviceMetricsList = new ArrayList<>();
+        for (UUID serviceId : uniqueServiceIds) {
+            ServiceMetrics serviceMetrics = new ServiceMetrics();
+            serviceMetrics.setServiceId(serviceId);
+            serviceMetrics.setMetrics(metricsOfServices.getOrDefault(serviceId, List.of()));
+            serviceMetricsList.add(serviceMetrics);
         }
+        return serviceMetricsList;
+    }
 
-        return new ResourceMetricsRequest(
-                serviceId,
-                region,
-                deployResource,
-                monitorType,
-                from,
-                to,
-                granularity,
-                onlyLastKnownMetric,
-                userId);
+    private List<ServiceDeploymentSummary> findServiceSummaries(List<UUID> serviceIds) {
+        List<ServiceDeploymentSummary> summaries =
+                serviceDeploymentStorage.findServiceSummariesByIds(serviceIds);
+        if (summaries.size() < serviceIds.size()) {
+            List<UUID> foundIds = summaries.stream().map(ServiceDeploymentSummary::getId).toList();
+            List<UUID> missingIds =
+                    serviceIds.stream().filter(id -> !foundIds.contains(id)).toList();
+            throw new ServiceNotDeployedException(
+                    serviceIds.size() == 1
+                            ? "Service not found."
+                            : String.format("Services %s not found.", missingIds));
+        }
+        summaries.forEach(summary -> checkPermission(summary.getUserId()));
+        return summaries;
     }
 
-    private ServiceMetricsRequest getServiceMetricRequest(
-            UUID serviceId,
-            Region region,
-            List<DeployResource> deployResources,
-            MonitorResourceType monitorType,
-            Long from,
-            Long to,
-            Integer granularity,
-            boolean onlyLastKnownMetric,
-            String userId) {
-        if (onlyLastKnownMetric) {
-            from = null;
-            to = null;
-        } else {
-            if (Objects.isNull(from)) {
-                from = System.currentTimeMillis() - FIVE_MINUTES_MILLISECONDS;
-            }
-            if (Objects.isNull(to)) {
-                to = System.currentTimeMillis();
-            }
+    private ServiceMetricsTarget getServiceMetricsTarget(
+            ServiceDeploymentSummary summary, List<DeployResource> vmResources) {
+        return new ServiceMetricsTarget(
+                summary.getId(),
+                summary.getCsp(),
+                summary.getRegion(),
+                summary.getUserId(),
+                vmResources);
+    }
+
+    private void checkPermission(String userId) {
+        boolean currentUserIsOwner = userServiceHelper.currentUserIsOwner(userId);
+        if (!currentUserIsOwner) {
+            String errorMsg =
+                    String.format(
+                            "No permission to %s owned by other users.",
+                            UserOperation.VIEW_METRICS_OF_SERVICE.toValue());
+            log.error(errorMsg);
+            throw new AccessDeniedException(errorMsg);
         }
-        return new ServiceMetricsRequest(
-                serviceId,
-                region,
-                deployResources,
-                monitorType,
-                from,
-                to,
-                granularity,
-                onlyLastKnownMetric,
-                userId);
     }
 
     private void validateToAndFromValues(Long from, Long to) {
@@ -0,0 +1,420 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.monitor;
+
+import jakarta.annotation.Resource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.cache.exceptions.CacheNotFoundException;
+import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsStore;
+import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsWindow;
+import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsWindowKey;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.eclipse.xpanse.modules.models.monitor.MetricItem;
+import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Engine to query the metrics of services with as few calls of the cloud providers as possible.
+ *
+ * <ul>
+ *   <li>Concurrent identical calls of a provider are coalesced into one call. The default time
+ *       windows are aligned, so the same queries of different clients are identical.
+ *   <li>The resources of services of the same provider, region and user are queried with one call
+ *       when the provider supports it.
+ *   <li>The metrics of the last time window of each resource are stored. When the next window
+ *       overlaps with it, only the new part of the window is queried from the provider.
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ServiceMetricsQueryEngine {
+
+    private static final long FIVE_MINUTES_MILLISECONDS = 5 * 60 * 1000;
+    private static final String RESOURCE_ID_LABEL = "id";
+
+    private final Map<ProviderCallKey, CompletableFuture<List<Metric>>> inFlightCalls =
+            new ConcurrentHashMap<>();
+
+    @Resource private PluginManager pluginManager;
+    @Resource private MonitorMetricsStore monitorMetricsStore;
+
+    @Value("${service.metrics.query.incremental.enabled:true}")
+    private boolean incrementalQueryEnabled;
+
+    @Value("${service.metrics.query.window.alignment.in.seconds:10}")
+    private long windowAlignmentInSeconds;
+
+    @Value("${service.metrics.query.refetch.margin.in.seconds:60}")
+    private long refetchMarginInSeconds;
+
+    /**
+     * Get metrics of the resources of the services.
+     *
+     * @param targets services whose metrics are queried.
+     * @param monitorType type of the metrics. Null to query all types.
+     * @param from start UNIX timestamp in milliseconds. Null for five minutes ago.
+     * @param to end UNIX timestamp in milliseconds. Null for the current time.
+     * @param granularity granularity of the metrics.
+     * @param onlyLastKnownMetric true to return only the last known metrics.
+     * @return metrics by ID of the service.
+     */
+    public Map<UUID, List<Metric>> getMetrics(
+            List<ServiceMetricsTarget> targets,
+            MonitorResourceType monitorType,
+            Long from,
+            Long to,
+            Integer granularity,
+            boolean onlyLastKnownMetric) {
+        MetricsQuery query =
+                getMetricsQuery(monitorType, from, to, granularity, onlyLastKnownMetric);
+        Map<UUID, List<Metric>> metricsOfServices = new LinkedHashMap<>();
+        targets.forEach(target -> metricsOfServices.put(target.serviceId(), new ArrayList<>()));
+        for (List<ServiceMetricsTarget> batch : getBatches(targets)) {
+            if (onlyLastKnownMetric || !incrementalQueryEnabled) {
+                queryBatch(batch, query, metricsOfServices);
+            } else {
+                queryBatchIncrementally(batch, query, metricsOfServices);
+            }
+        }
+        return metricsOfServices;
+    }
+
+    private MetricsQuery getMetricsQuery(
+            MonitorResourceType monitorType,
+            Long from,
+            Long to,
+            Integer granularity,
+            boolean onlyLastKnownMetric) {
+        if (onlyLastKnownMetric) {
+            return new MetricsQuery(monitorType, null, null, granularity, true);
+        }
+        long now = System.currentTimeMillis();
+        long alignment = Math.max(windowAlignmentInSeconds * 1000, 1);
+        // aligned, so that the default windows of concurrent queries are identical.
+        long alignedNow = now - now % alignment;
+        return new MetricsQuery(
+                monitorType,
+                Objects.nonNull(from) ? from : alignedNow - FIVE_MINUTES_MILLISECONDS,
+                Objects.nonNull(to) ? to : alignedNow,
+                granularity,
+                false);
+    }
+
+    private List<List<ServiceMetricsTarget>> getBatches(List<ServiceMetricsTarget> targets) {
+        Map<BatchKey, List<ServiceMetricsTarget>> batches = new LinkedHashMap<>();
+        for (ServiceMetricsTarget target : targets) {
+            if (CollectionUtils.isEmpty(target.deployResources())) {
+                continue;
+            }
+            boolean batched =
+                    pluginManager
+                            .getOrchestratorPlugin(target.csp())
+                            .supportsBatchedServiceMetrics();
+            BatchKey batchKey =
+                    new BatchKey(
+                            target.csp(),
+                            target.region(),
+                            target.userId(),
+                            batched ? null : target.serviceId());
+            batches.computeIfAbsent(batchKey, key -> new ArrayList<>()).add(target);
+        }
+        return new ArrayList<>(batches.values());
+    }
+
+    private void queryBatch(
+            List<ServiceMetricsTarget> batch,
+            MetricsQuery query,
+            Map<UUID, List<Metric>> metricsOfServices) {
+        List<DeployResource> deployResources =
+                batch.stream().flatMap(target -> target.deployResources().stream()).toList();
+        List<Metric> metrics = callProvider(batch, deployResources, query, query.from());
+        Map<String, UUID> serviceIdsOfResources = getServiceIdsOfResources(batch);
+        for (Metric metric : metrics) {
+            UUID serviceId =
+                    batch.size() == 1
+                            ? batch.getFirst().serviceId()
+                            : serviceIdsOfResources.get(getResourceId(metric));
+            if (Objects.nonNull(serviceId)) {
+                metricsOfServices.get(serviceId).add(metric);
+            } else {
+                log.warn("Metric {} can't be assigned to a service.", metric.getName());
+            }
+        }
+    }
+
+    private void queryBatchIncrementally(
+            List<ServiceMetricsTarget> batch,
+            MetricsQuery query,
+            Map<UUID, List<Metric>> metricsOfServices) {
+        Csp csp = batch.getFirst().csp();
+        List<MonitorResourceType> monitorTypes =
+                Objects.isNull(query.monitorType())
+                        ? List.of(MonitorResourceType.values())
+                        : List.of(query.monitorType());
+        Map<MonitorMetricsWindowKey, MonitorMetricsWindow> storedWindows = new HashMap<>();
+        Map<String, Long> fetchStartOfResources = new HashMap<>();
+        Map<Long, List<DeployResource>> resourcesByFetchStart = new TreeMap<>();
+        for (ServiceMetricsTarget target : batch) {
+            for (DeployResource deployResource : target.deployResources()) {
+                Long fetchStart = null;
+                for (MonitorResourceType monitorType : monitorTypes) {
+                    MonitorMetricsWindowKey key =
+                            getWindowKey(csp, deployResource, monitorType, query);
+                    MonitorMetricsWindow window = getStoredWindow(key, query);
+                    long typeFetchStart;
+                    if (Objects.isNull(window)) {
+                        typeFetchStart = query.from();
+                    } else if (window.to() >= query.to()) {
+                        storedWindows.put(key, window);
+                        continue;
+                    } else {
+                        storedWindows.put(key, window);
+                        // the last values of the stored window may not have been complete.
+                        typeFetchStart =
+                                Math.max(query.from(), window.to() - refetchMarginInSeconds * 1000);
+                    }
+                    fetchStart =
+                            Objects.isNull(fetchStart)
+                                    ? typeFetchStart
+                                    : Math.min(fetchStart, typeFetchStart);
+                }
+                if (Objects.nonNull(fetchStart)) {
+                    fetchStartOfResources.put(deployResource.getResourceId(), fetchStart);
+                    resourcesByFetchStart
+                            .computeIfAbsent(fetchStart, start -> new ArrayList<>())
+                            .add(deployResource);
+                }
+            }
+        }
+        Map<String, Metric> fetchedMetrics = new HashMap<>();
+        resourcesByFetchStart.forEach(
+                (fetchStart, deployResources) -> {
+                    for (Metric metric : callProvider(batch, deployResources, query, fetchStart)) {
+                        String resourceId =
+                                deployResources.size() == 1
+                                        ? deployResources.getFirst().getResourceId()
+                                        : getResourceId(metric);
+                        fetchedMetrics.put(
+                                getMetricKey(resourceId, metric.getMonitorResourceType()), metric);
+                    }
+                });
+        for (ServiceMetricsTarget target : batch) {
+            for (DeployResource deployResource : target.deployResources()) {
+                String resourceId = deployResource.getResourceId();
+                for (MonitorResourceType monitorType : monitorTypes) {
+                    MonitorMetricsWindowKey key =
+                            getWindowKey(csp, deployResource, monitorType, query);
+                    MonitorMetricsWindow storedWindow = storedWindows.get(key);
+                    Metric metric;
+                    if (fetchStartOfResources.containsKey(resourceId)) {
+                        metric =
+                                mergeMetric(
+                                        storedWindow,
+                                        fetchedMetrics.get(getMetricKey(resourceId, monitorType)),
+                                        fetchStartOfResources.get(resourceId),
+                                        query);
+                        storeWindow(
+                                key, new MonitorMetricsWindow(query.from(), query.to(), metric));
+                    } else {
+                        metric = getMetricInWindow(storedWindow.metric(), query);
+                    }
+                    if (Objects.nonNull(metric)) {
+                        metricsOfServices.get(target.serviceId()).add(metric);
+                    }
+                }
+            }
+        }
+    }
+
+    private Metric mergeMetric(
+            MonitorMetricsWindow storedWindow,
+            Metric fetchedMetric,
+            long fetchStart,
+            MetricsQuery query) {
+        Metric storedMetric = Objects.nonNull(storedWindow) ? storedWindow.metric() : null;
+        Metric baseMetric = Objects.nonNull(fetchedMetric) ? fetchedMetric : storedMetric;
+        if (Objects.isNull(baseMetric)) {
+            return null;
+        }
+        TreeMap<Long, MetricItem> items = new TreeMap<>();
+        if (Objects.nonNull(storedMetric) && Objects.nonNull(storedMetric.getMetrics())) {
+            for (MetricItem item : storedMetric.getMetrics()) {
+                if (Objects.nonNull(item.getTimeStamp())
+                        && (Objects.isNull(fetchedMetric) || item.getTimeStamp() < fetchStart)) {
+                    items.put(item.getTimeStamp(), item);
+                }
+            }
+        }
+        if (Objects.nonNull(fetchedMetric) && Objects.nonNull(fetchedMetric.getMetrics())) {
+            for (MetricItem item : fetchedMetric.getMetrics()) {
+                if (Objects.nonNull(item.getTimeStamp())) {
+                    items.put(item.getTimeStamp(), item);
+                }
+            }
+        }
+        return copyMetric(
+                baseMetric,
+                new ArrayList<>(items.subMap(query.from(), true, query.to(), true).values()));
+    }
+
+    private Metric getMetricInWindow(Metric metric, MetricsQuery query) {
+        if (Objects.isNull(metric) || Objects.isNull(metric.getMetrics())) {
+            return metric;
+        }
+        return copyMetric(
+                metric,
+                metric.getMetrics().stream()
+                        .filter(
+                                item ->
+                                        Objects.nonNull(item.getTimeStamp())
+                                                && item.getTimeStamp() >= query.from()
+                                                && item.getTimeStamp() <= query.to())
+                        .toList());
+    }
+
+    private Metric copyMetric(Metric metric, List<MetricItem> items) {
+        Metric copy = new Metric();
+        copy.setName(metric.getName());
+        copy.setDescription(metric.getDescription());
+        copy.setType(metric.getType());
+        copy.setMonitorResourceType(metric.getMonitorResourceType());
+        copy.setUnit(metric.getUnit());
+        copy.setLabels(metric.getLabels());
+        copy.setMetrics(items);
+        return copy;
+    }
+
+    private List<Metric> callProvider(
+            List<ServiceMetricsTarget> batch,
+            List<DeployResource> deployResources,
+            MetricsQuery query,
+            Long from) {
+        ServiceMetricsTarget first = batch.getFirst();
+        ServiceMetricsRequest request =
+                new ServiceMetricsRequest(
+                        first.serviceId(),
+                        first.region(),
+                        deployResources,
+                        query.monitorType(),
+                        from,
+                        query.to(),
+                        query.granularity(),
+                        query.onlyLastKnownMetric(),
+                        first.userId());
+        ProviderCallKey callKey = new ProviderCallKey(first.csp(), request);
+        CompletableFuture<List<Metric>> newCall = new CompletableFuture<>();
+        CompletableFuture<List<Metric>> call = inFlightCalls.putIfAbsent(callKey, newCall);
+        if (Objects.isNull(call)) {
+            try {
+                OrchestratorPlugin plugin = pluginManager.getOrchestratorPlugin(first.csp());
+                List<Metric> metrics = plugin.getMetricsForService(request);
+                newCall.complete(Objects.nonNull(metrics) ? metrics : List.of());
+            } catch (RuntimeException e) {
+                newCall.completeExceptionally(e);
+            } finally {
+                inFlightCalls.remove(callKey, newCall);
+            }
+            call = newCall;
+        } else {
+            log.debug("Joined in-flight metrics query of service {}.", first.serviceId());
+        }
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private MonitorMetricsWindow getStoredWindow(MonitorMetricsWindowKey key, MetricsQuery query) {
+        try {
+            MonitorMetricsWindow window = monitorMetricsStore.getMonitorMetricsWindow(key);
+            // only a window which overlaps with the queried window can be reused.
+            if (Objects.nonNull(window)
+                    && window.from() <= query.from()
+                    && window.to() >= query.from()) {
+                return window;
+            }
+        } catch (CacheNotFoundException e) {
+            log.debug(e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Get metrics window with key {} failed. {}", key, e.getMessage());
+        }
+        return null;
+    }
+
+    private void storeWindow(MonitorMetricsWindowKey key, MonitorMetricsWindow window) {
+        try {
+            monitorMetricsStore.storeMonitorMetricsWindow(key, window);
+        } catch (RuntimeException e) {
+            log.error("Store metrics window with key {} failed. {}", key, e.getMessage());
+        }
+    }
+
+    private MonitorMetricsWindowKey getWindowKey(
+            Csp csp,
+            DeployResource deployResource,
+            MonitorResourceType monitorType,
+            MetricsQuery query) {
+        return new MonitorMetricsWindowKey(
+                csp, deployResource.getResourceId(), monitorType, query.granularity());
+    }
+
+    private Map<String, UUID> getServiceIdsOfResources(List<ServiceMetricsTarget> batch) {
+        Map<String, UUID> serviceIdsOfResources = new HashMap<>();
+        for (ServiceMetricsTarget target : batch) {
+            target.deployResources()
+                    .forEach(
+                            resource ->
+                                    serviceIdsOfResources.put(
+                                            resource.getResourceId(), target.serviceId()));
+        }
+        return serviceIdsOfResources;
+    }
+
+    private String getResourceId(Metric metric) {
+        return Objects.nonNull(metric.getLabels())
+                ? metric.getLabels().get(RESOURCE_ID_LABEL)
+                : null;
+    }
+
+    private String getMetricKey(String resourceId, MonitorResourceType monitorType) {
+        return resourceId + "/" + monitorType;
+    }
+
+    private record MetricsQuery(
+            MonitorResourceType monitorType,
+            Long from,
+            Long to,
+            Integer granularity,
+            boolean onlyLastKnownMetric) {}
+
+    private record BatchKey(Csp csp, Region region, String userId, UUID serviceId) {}
+
+    private record ProviderCallKey(Csp csp, ServiceMetricsRequest request) {}
+}
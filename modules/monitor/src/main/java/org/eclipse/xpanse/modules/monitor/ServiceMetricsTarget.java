@@ -0,0 +1,29 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.monitor;
+
+import java.util.List;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+
+/**
+ * Service whose metrics are queried.
+ *
+ * @param serviceId ID of the service.
+ * @param csp cloud service provider of the service.
+ * @param region region of the service.
+ * @param userId ID of the user who owns the service.
+ * @param deployResources resources of the service whose metrics are queried.
+ */
+public record ServiceMetricsTarget(
+        UUID serviceId,
+        Csp csp,
+        Region region,
+        String userId,
+        List<DeployResource> deployResources) {}
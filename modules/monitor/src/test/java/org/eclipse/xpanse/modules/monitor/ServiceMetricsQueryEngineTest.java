@@ -0,0 +1,237 @@
+package org.eclipse.xpanse.modules.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.xpanse.modules.cache.exceptions.CacheNotFoundException;
+import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsStore;
+import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsWindow;
+import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsWindowKey;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.eclipse.xpanse.modules.models.monitor.MetricItem;
+import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ServiceMetricsQueryEngineTest {
+
+    private static final MonitorResourceType TYPE = MonitorResourceType.CPU;
+    private final Map<MonitorMetricsWindowKey, MonitorMetricsWindow> windows = new HashMap<>();
+    private final Region region = new Region();
+    @Mock private PluginManager pluginManager;
+    @Mock private MonitorMetricsStore monitorMetricsStore;
+    @Mock private OrchestratorPlugin orchestratorPlugin;
+    @InjectMocks private ServiceMetricsQueryEngine serviceMetricsQueryEngine;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(serviceMetricsQueryEngine, "incrementalQueryEnabled", true);
+        ReflectionTestUtils.setField(serviceMetricsQueryEngine, "windowAlignmentInSeconds", 10L);
+        ReflectionTestUtils.setField(serviceMetricsQueryEngine, "refetchMarginInSeconds", 60L);
+        region.setName("region");
+        when(pluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD)).thenReturn(orchestratorPlugin);
+        when(orchestratorPlugin.supportsBatchedServiceMetrics()).thenReturn(true);
+        when(monitorMetricsStore.getMonitorMetricsWindow(any()))
+                .thenAnswer(
+                        invocation -> {
+                            MonitorMetricsWindow window = windows.get(invocation.getArgument(0));
+                            if (window == null) {
+                                throw new CacheNotFoundException("not found");
+                            }
+                            return window;
+                        });
+        doAnswer(
+                        invocation -> {
+                            windows.put(invocation.getArgument(0), invocation.getArgument(1));
+                            return invocation.getArgument(1);
+                        })
+                .when(monitorMetricsStore)
+                .storeMonitorMetricsWindow(any(), any());
+    }
+
+    @Test
+    void testServicesOfSameRegionAndUserAreQueriedTogether() {
+        ServiceMetricsTarget target1 = getTarget("user", "vm-1");
+        ServiceMetricsTarget target2 = getTarget("user", "vm-2");
+        ServiceMetricsTarget target3 = getTarget("other", "vm-3");
+        when(orchestratorPlugin.getMetricsForService(any()))
+                .thenAnswer(
+                        invocation -> {
+                            ServiceMetricsRequest request = invocation.getArgument(0);
+                            return request.getDeployResources().stream()
+                                    .map(resource -> getMetric(resource.getResourceId(), 1000L))
+                                    .toList();
+                        });
+
+        Map<UUID, List<Metric>> result =
+                serviceMetricsQueryEngine.getMetrics(
+                        List.of(target1, target2, target3), TYPE, 0L, 2000L, null, false);
+
+        verify(orchestratorPlugin, times(2)).getMetricsForService(any());
+        assertEquals("vm-1", result.get(target1.serviceId()).getFirst().getLabels().get("id"));
+        assertEquals("vm-2", result.get(target2.serviceId()).getFirst().getLabels().get("id"));
+        assertEquals("vm-3", result.get(target3.serviceId()).getFirst().getLabels().get("id"));
+    }
+
+    @Test
+    void testServicesAreQueriedSeparatelyWhenBatchIsNotSupported() {
+        when(orchestratorPlugin.supportsBatchedServiceMetrics()).thenReturn(false);
+        when(orchestratorPlugin.getMetricsForService(any())).thenReturn(List.of());
+
+        serviceMetricsQueryEngine.getMetrics(
+                List.of(getTarget("user", "vm-1"), getTarget("user", "vm-2")),
+                TYPE,
+                null,
+                null,
+                null,
+                true);
+
+        verify(orchestratorPlugin, times(2)).getMetricsForService(any());
+    }
+
+    @Test
+    void testOnlyNewPartOfOverlappingWindowIsQueried() {
+        ServiceMetricsTarget target = getTarget("user", "vm-1");
+        when(orchestratorPlugin.getMetricsForService(any()))
+                .thenReturn(List.of(getMetric("vm-1", 100_000L, 200_000L)))
+                .thenReturn(List.of(getMetric("vm-1", 200_000L, 250_000L, 300_000L)));
+
+        serviceMetricsQueryEngine.getMetrics(List.of(target), TYPE, 0L, 240_000L, null, false);
+        List<Metric> metrics =
+                serviceMetricsQueryEngine
+                        .getMetrics(List.of(target), TYPE, 150_000L, 300_000L, null, false)
+                        .get(target.serviceId());
+
+        ArgumentCaptor<ServiceMetricsRequest> captor =
+                ArgumentCaptor.forClass(ServiceMetricsRequest.class);
+        verify(orchestratorPlugin, times(2)).getMetricsForService(captor.capture());
+        assertEquals(180_000L, captor.getAllValues().get(1).getFrom());
+        assertEquals(
+                List.of(200_000L, 250_000L, 300_000L),
+                metrics.getFirst().getMetrics().stream().map(MetricItem::getTimeStamp).toList());
+    }
+
+    @Test
+    void testCoveredWindowIsAnsweredFromStoredWindow() {
+        ServiceMetricsTarget target = getTarget("user", "vm-1");
+        when(orchestratorPlugin.getMetricsForService(any()))
+                .thenReturn(List.of(getMetric("vm-1", 100_000L, 200_000L)));
+
+        serviceMetricsQueryEngine.getMetrics(List.of(target), TYPE, 0L, 240_000L, null, false);
+        List<Metric> metrics =
+                serviceMetricsQueryEngine
+                        .getMetrics(List.of(target), TYPE, 150_000L, 240_000L, null, false)
+                        .get(target.serviceId());
+
+        verify(orchestratorPlugin, times(1)).getMetricsForService(any());
+        assertEquals(1, metrics.getFirst().getMetrics().size());
+    }
+
+    @Test
+    void testConcurrentIdenticalQueriesAreCoalesced() throws Exception {
+        ServiceMetricsTarget target = getTarget("user", "vm-1");
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        when(orchestratorPlugin.getMetricsForService(any()))
+                .thenAnswer(
+                        invocation -> {
+                            calls.incrementAndGet();
+                            release.await(10, TimeUnit.SECONDS);
+                            return List.of(getMetric("vm-1", 1000L));
+                        });
+        List<Future<Map<UUID, List<Metric>>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 4; i++) {
+                results.add(
+                        executor.submit(
+                                () ->
+                                        serviceMetricsQueryEngine.getMetrics(
+                                                List.of(target), TYPE, null, null, null, true)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<Map<UUID, List<Metric>>> result : results) {
+                assertEquals(1, result.get(10, TimeUnit.SECONDS).get(target.serviceId()).size());
+            }
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testFailedStoreOfWindowDoesNotFailQuery() {
+        ServiceMetricsTarget target = getTarget("user", "vm-1");
+        when(orchestratorPlugin.getMetricsForService(any()))
+                .thenReturn(List.of(getMetric("vm-1", 1000L)));
+        doThrow(new IllegalStateException("cache unavailable"))
+                .when(monitorMetricsStore)
+                .storeMonitorMetricsWindow(any(), any());
+
+        List<Metric> metrics =
+                serviceMetricsQueryEngine
+                        .getMetrics(List.of(target), TYPE, 0L, 2000L, null, false)
+                        .get(target.serviceId());
+
+        assertEquals(1, metrics.size());
+        verify(monitorMetricsStore).storeMonitorMetricsWindow(eq(getKey("vm-1")), any());
+    }
+
+    private ServiceMetricsTarget getTarget(String userId, String resourceId) {
+        DeployResource deployResource = new DeployResource();
+        deployResource.setResourceId(resourceId);
+        return new ServiceMetricsTarget(
+                UUID.randomUUID(), Csp.HUAWEI_CLOUD, region, userId, List.of(deployResource));
+    }
+
+    private MonitorMetricsWindowKey getKey(String resourceId) {
+        return new MonitorMetricsWindowKey(Csp.HUAWEI_CLOUD, resourceId, TYPE, null);
+    }
+
+    private Metric getMetric(String resourceId, Long... timeStamps) {
+        Metric metric = new Metric();
+        metric.setName("cpu_usage");
+        metric.setMonitorResourceType(TYPE);
+        metric.setLabels(Map.of("id", resourceId));
+        List<MetricItem> items = new ArrayList<>();
+        for (Long timeStamp : timeStamps) {
+            MetricItem item = new MetricItem();
+            item.setTimeStamp(timeStamp);
+            item.setValue(1);
+            items.add(item);
+        }
+        metric.setMetrics(items);
+        return metric;
+    }
+}
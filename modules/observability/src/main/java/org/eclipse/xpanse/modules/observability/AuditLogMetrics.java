@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.observability;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.xpanse.modules.models.audit.AuditLogsWrittenEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to publish the queue depth, the written, failed and dropped audit logs and the batch write
+ * time of the audit log queue as OpenTelemetry metrics.
+ */
+@Component
+public class AuditLogMetrics {
+
+    private static final String INSTRUMENTATION_SCOPE = "org.eclipse.xpanse.audit";
+
+    private final AtomicLong queuedAuditLogs = new AtomicLong();
+    private LongCounter writtenAuditLogs;
+    private LongCounter failedAuditLogs;
+    private LongCounter droppedAuditLogs;
+    private DoubleHistogram batchWriteTime;
+
+    @Resource private ObjectProvider<OpenTelemetry> openTelemetryProvider;
+
+    /** Registers the instruments of the audit log metrics. */
+    @PostConstruct
+    public void registerInstruments() {
+        Meter meter =
+                openTelemetryProvider
+                        .getIfAvailable(OpenTelemetry::noop)
+                        .getMeter(INSTRUMENTATION_SCOPE);
+        meter.gaugeBuilder("xpanse.audit.logs.queued")
+                .setDescription("Number of audit logs waiting in the queue.")
+                .setUnit("{log}")
+                .ofLongs()
+                .buildWithCallback(measurement -> measurement.record(queuedAuditLogs.get()));
+        writtenAuditLogs =
+                meter.counterBuilder("xpanse.audit.logs.written")
+                        .setDescription("Number of audit logs written to the plugins.")
+                        .setUnit("{log}")
+                        .build();
+        failedAuditLogs =
+                meter.counterBuilder("xpanse.audit.logs.failed")
+                        .setDescription("Number of audit logs which the plugins failed to write.")
+                        .setUnit("{log}")
+                        .build();
+        droppedAuditLogs =
+                meter.counterBuilder("xpanse.audit.logs.dropped")
+                        .setDescription("Number of audit logs dropped as the queue is full.")
+                        .setUnit("{log}")
+                        .build();
+        batchWriteTime =
+                meter.histogramBuilder("xpanse.audit.logs.batch.write.time")
+                        .setDescription("Time taken to write a batch of audit logs.")
+                        .setUnit("ms")
+                        .build();
+    }
+
+    /**
+     * Records the metrics of the written batch of audit logs.
+     *
+     * @param event audit logs written event.
+     */
+    @EventListener
+    public void onAuditLogsWritten(AuditLogsWrittenEvent event) {
+        queuedAuditLogs.set(event.getQueuedAuditLogs());
+        writtenAuditLogs.add(event.getWrittenAuditLogs() - event.getFailedAuditLogs());
+        if (event.getFailedAuditLogs() > 0) {
+            failedAuditLogs.add(event.getFailedAuditLogs());
+        }
+        if (event.getDroppedAuditLogs() > 0) {
+            droppedAuditLogs.add(event.getDroppedAuditLogs());
+        }
+        batchWriteTime.record(event.getWriteTimeInMillis());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.observability;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.modules.cache.twolevel.TwoLevelCache;
+import org.eclipse.xpanse.modules.cache.twolevel.TwoLevelCacheManager;
+import org.eclipse.xpanse.modules.cache.twolevel.TwoLevelCacheStatistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/** Bean to publish the hits, misses and load times of the caches as OpenTelemetry metrics. */
+@Component
+public class CacheMetrics {
+
+    private static final String INSTRUMENTATION_SCOPE = "org.eclipse.xpanse.cache";
+    private static final AttributeKey<String> CACHE_NAME = AttributeKey.stringKey("cache.name");
+    private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+    @Resource private ObjectProvider<OpenTelemetry> openTelemetryProvider;
+    @Resource private ObjectProvider<TwoLevelCacheManager> cacheManagerProvider;
+
+    /** Registers the instruments of the cache metrics. */
+    @PostConstruct
+    public void registerInstruments() {
+        Meter meter =
+                openTelemetryProvider
+                        .getIfAvailable(OpenTelemetry::noop)
+                        .getMeter(INSTRUMENTATION_SCOPE);
+        meter.counterBuilder("xpanse.cache.gets")
+                .setDescription("Number of cache lookups by result.")
+                .setUnit("{get}")
+                .buildWithCallback(this::recordGets);
+        meter.counterBuilder("xpanse.cache.loads")
+                .setDescription("Number of values loaded from the source by result.")
+                .setUnit("{load}")
+                .buildWithCallback(this::recordLoads);
+        meter.counterBuilder("xpanse.cache.load.time")
+                .setDescription("Total time spent loading values from the source.")
+                .setUnit("ms")
+                .buildWithCallback(this::recordLoadTime);
+    }
+
+    private void recordGets(ObservableLongMeasurement measurement) {
+        forEachCache(
+                (cacheName, statistics) -> {
+                    measurement.record(
+                            statistics.getLocalHitCount(), getAttributes(cacheName, "local_hit"));
+                    measurement.record(
+                            statistics.getRemoteHitCount(), getAttributes(cacheName, "remote_hit"));
+                    measurement.record(statistics.getMissCount(), getAttributes(cacheName, "miss"));
+                });
+    }
+
+    private void recordLoads(ObservableLongMeasurement measurement) {
+        forEachCache(
+                (cacheName, statistics) -> {
+                    measurement.record(
+                            statistics.getLoadSuccessCount(), getAttributes(cacheName, "success"));
+                    measurement.record(
+                            statistics.getLoadFailureCount(), getAttributes(cacheName, "failure"));
+                    measurement.record(
+                            statistics.getRefreshCount(), getAttributes(cacheName, "refresh"));
+                });
+    }
+
+    private void recordLoadTime(ObservableLongMeasurement measurement) {
+        forEachCache(
+                (cacheName, statistics) ->
+                        measurement.record(
+                                TimeUnit.NANOSECONDS.toMillis(statistics.getTotalLoadTimeNanos()),
+                                Attributes.of(CACHE_NAME, cacheName)));
+    }
+
+    private void forEachCache(CacheStatisticsConsumer consumer) {
+        TwoLevelCacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (Objects.isNull(cacheManager)) {
+            return;
+        }
+        for (String cacheName : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(cacheName) instanceof TwoLevelCache cache) {
+                consumer.accept(cacheName, cache.getStatistics());
+            }
+        }
+    }
+
+    private Attributes getAttributes(String cacheName, String result) {
+        return Attributes.of(CACHE_NAME, cacheName, RESULT, result);
+    }
+
+    /** Consumer of the statistics of one cache. */
+    private interface CacheStatisticsConsumer {
+        void accept(String cacheName, TwoLevelCacheStatistics statistics);
+    }
+}
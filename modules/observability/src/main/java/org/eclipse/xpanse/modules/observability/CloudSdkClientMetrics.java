@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.observability;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.modules.cache.sdkclient.CloudSdkClientCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/** Bean to publish the creations and reuses of the cloud SDK clients as OpenTelemetry metrics. */
+@Component
+public class CloudSdkClientMetrics {
+
+    private static final String INSTRUMENTATION_SCOPE = "org.eclipse.xpanse.cloud.sdk";
+    private static final AttributeKey<String> CSP = AttributeKey.stringKey("csp");
+    private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+    @Resource private ObjectProvider<OpenTelemetry> openTelemetryProvider;
+    @Resource private ObjectProvider<CloudSdkClientCache> cloudSdkClientCacheProvider;
+
+    /** Registers the instruments of the cloud SDK client metrics. */
+    @PostConstruct
+    public void registerInstruments() {
+        Meter meter =
+                openTelemetryProvider
+                        .getIfAvailable(OpenTelemetry::noop)
+                        .getMeter(INSTRUMENTATION_SCOPE);
+        meter.counterBuilder("xpanse.cloud.sdk.client.gets")
+                .setDescription("Number of cloud SDK client lookups by result.")
+                .setUnit("{get}")
+                .buildWithCallback(this::recordGets);
+        meter.counterBuilder("xpanse.cloud.sdk.client.creation.time")
+                .setDescription("Total time spent creating cloud SDK clients.")
+                .setUnit("ms")
+                .buildWithCallback(this::recordCreationTime);
+        meter.gaugeBuilder("xpanse.cloud.sdk.client.cached")
+                .ofLongs()
+                .setDescription("Number of cached cloud SDK clients.")
+                .setUnit("{client}")
+                .buildWithCallback(this::recordCachedClients);
+    }
+
+    private void recordGets(ObservableLongMeasurement measurement) {
+        CloudSdkClientCache cache = cloudSdkClientCacheProvider.getIfAvailable();
+        if (Objects.isNull(cache)) {
+            return;
+        }
+        cache.getStatistics()
+                .forEach(
+                        (csp, statistics) -> {
+                            measurement.record(
+                                    statistics.hitCount(),
+                                    Attributes.of(CSP, csp.toValue(), RESULT, "hit"));
+                            measurement.record(
+                                    statistics.creationCount(),
+                                    Attributes.of(CSP, csp.toValue(), RESULT, "created"));
+                        });
+    }
+
+    private void recordCreationTime(ObservableLongMeasurement measurement) {
+        CloudSdkClientCache cache = cloudSdkClientCacheProvider.getIfAvailable();
+        if (Objects.isNull(cache)) {
+            return;
+        }
+        cache.getStatistics()
+                .forEach(
+                        (csp, statistics) ->
+                                measurement.record(
+                                        TimeUnit.NANOSECONDS.toMillis(
+                                                statistics.totalCreationTimeNanos()),
+                                        Attributes.of(CSP, csp.toValue())));
+    }
+
+    private void recordCachedClients(ObservableLongMeasurement measurement) {
+        CloudSdkClientCache cache = cloudSdkClientCacheProvider.getIfAvailable();
+        if (Objects.nonNull(cache)) {
+            measurement.record(cache.getCachedClientCount());
+        }
+    }
+}
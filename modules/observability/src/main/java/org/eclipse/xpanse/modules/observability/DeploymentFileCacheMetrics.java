@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.observability;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import org.eclipse.xpanse.modules.models.service.deployment.DeploymentFileCacheUsedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to publish the hits, misses and evictions of the local file caches of the deployments as
+ * OpenTelemetry metrics.
+ */
+@Component
+public class DeploymentFileCacheMetrics {
+
+    private static final String INSTRUMENTATION_SCOPE = "org.eclipse.xpanse.deployment";
+    private static final AttributeKey<String> CACHE_NAME = AttributeKey.stringKey("cache.name");
+    private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+    private LongCounter gets;
+    private LongCounter evictions;
+
+    @Resource private ObjectProvider<OpenTelemetry> openTelemetryProvider;
+
+    /** Registers the instruments of the deployment file cache metrics. */
+    @PostConstruct
+    public void registerInstruments() {
+        Meter meter =
+                openTelemetryProvider
+                        .getIfAvailable(OpenTelemetry::noop)
+                        .getMeter(INSTRUMENTATION_SCOPE);
+        gets =
+                meter.counterBuilder("xpanse.deployment.file.cache.gets")
+                        .setDescription("Number of deployment file cache lookups by result.")
+                        .setUnit("{get}")
+                        .build();
+        evictions =
+                meter.counterBuilder("xpanse.deployment.file.cache.evictions")
+                        .setDescription(
+                                "Number of entries evicted from the deployment file caches.")
+                        .setUnit("{entry}")
+                        .build();
+    }
+
+    /**
+     * Records the metrics of the used deployment file cache.
+     *
+     * @param event deployment file cache used event.
+     */
+    @EventListener
+    public void onDeploymentFileCacheUsed(DeploymentFileCacheUsedEvent event) {
+        if (event.getHits() > 0) {
+            gets.add(
+                    event.getHits(),
+                    Attributes.of(CACHE_NAME, event.getCacheName(), RESULT, "hit"));
+        }
+        if (event.getMisses() > 0) {
+            gets.add(
+                    event.getMisses(),
+                    Attributes.of(CACHE_NAME, event.getCacheName(), RESULT, "miss"));
+        }
+        if (event.getEvictions() > 0) {
+            evictions.add(event.getEvictions(), Attributes.of(CACHE_NAME, event.getCacheName()));
+        }
+    }
+}
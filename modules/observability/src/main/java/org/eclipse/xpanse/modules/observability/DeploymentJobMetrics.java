@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.observability;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.xpanse.modules.models.service.deployment.DeploymentJobQueueChangedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to publish the queue depth and wait time of the deployment jobs as OpenTelemetry metrics.
+ */
+@Component
+public class DeploymentJobMetrics {
+
+    private static final String INSTRUMENTATION_SCOPE = "org.eclipse.xpanse.deployment";
+    private static final AttributeKey<String> DEPLOYER_KIND =
+            AttributeKey.stringKey("deployer.kind");
+
+    private final AtomicLong queuedJobs = new AtomicLong();
+    private final AtomicLong runningJobs = new AtomicLong();
+    private DoubleHistogram jobWaitTime;
+    private LongCounter rejectedJobs;
+
+    @Resource private ObjectProvider<OpenTelemetry> openTelemetryProvider;
+
+    /** Registers the instruments of the deployment job metrics. */
+    @PostConstruct
+    public void registerInstruments() {
+        Meter meter =
+                openTelemetryProvider
+                        .getIfAvailable(OpenTelemetry::noop)
+                        .getMeter(INSTRUMENTATION_SCOPE);
+        meter.gaugeBuilder("xpanse.deployment.jobs.queued")
+                .setDescription("Number of deployment jobs waiting in the queue.")
+                .setUnit("{job}")
+                .ofLongs()
+                .buildWithCallback(measurement -> measurement.record(queuedJobs.get()));
+        meter.gaugeBuilder("xpanse.deployment.jobs.running")
+                .setDescription("Number of running deployment jobs.")
+                .setUnit("{job}")
+                .ofLongs()
+                .buildWithCallback(measurement -> measurement.record(runningJobs.get()));
+        jobWaitTime =
+                meter.histogramBuilder("xpanse.deployment.jobs.wait.time")
+                        .setDescription("Time the deployment jobs waited in the queue.")
+                        .setUnit("ms")
+                        .build();
+        rejectedJobs =
+                meter.counterBuilder("xpanse.deployment.jobs.rejected")
+                        .setDescription("Number of deployment jobs rejected as the queue is full.")
+                        .setUnit("{job}")
+                        .build();
+    }
+
+    /**
+     * Records the metrics of the changed deployment job queue.
+     *
+     * @param event deployment job queue changed event.
+     */
+    @EventListener
+    public void onDeploymentJobQueueChanged(DeploymentJobQueueChangedEvent event) {
+        queuedJobs.set(event.getQueuedJobs());
+        runningJobs.set(event.getRunningJobs());
+        Attributes attributes =
+                Objects.isNull(event.getDeployerKind())
+                        ? Attributes.empty()
+                        : Attributes.of(DEPLOYER_KIND, event.getDeployerKind().toValue());
+        if (Objects.nonNull(event.getJobWaitTimeInMillis())) {
+            jobWaitTime.record(event.getJobWaitTimeInMillis(), attributes);
+        }
+        if (event.isJobRejected()) {
+            rejectedJobs.add(1, attributes);
+        }
+    }
+}
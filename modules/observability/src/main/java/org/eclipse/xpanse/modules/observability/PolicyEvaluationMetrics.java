@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.observability;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import org.eclipse.xpanse.modules.models.policy.PoliciesEvaluatedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to publish the latency of the policy evaluations as OpenTelemetry metrics. The hit rate of
+ * the cached evaluation results is published with the metrics of the caches.
+ */
+@Component
+public class PolicyEvaluationMetrics {
+
+    private static final String INSTRUMENTATION_SCOPE = "org.eclipse.xpanse.policy";
+    private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+    private DoubleHistogram evaluationTime;
+
+    @Resource private ObjectProvider<OpenTelemetry> openTelemetryProvider;
+
+    /** Registers the instruments of the policy evaluation metrics. */
+    @PostConstruct
+    public void registerInstruments() {
+        Meter meter =
+                openTelemetryProvider
+                        .getIfAvailable(OpenTelemetry::noop)
+                        .getMeter(INSTRUMENTATION_SCOPE);
+        evaluationTime =
+                meter.histogramBuilder("xpanse.policy.evaluation.time")
+                        .setDescription("Time taken to evaluate deployment plans with policies.")
+                        .setUnit("ms")
+                        .build();
+    }
+
+    /**
+     * Records the metrics of the policy evaluation.
+     *
+     * @param event policies evaluated event.
+     */
+    @EventListener
+    public void onPoliciesEvaluated(PoliciesEvaluatedEvent event) {
+        evaluationTime.record(
+                event.getEvaluationTimeInMillis(),
+                Attributes.of(RESULT, event.isSuccessful() ? "passed" : "failed"));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.observability;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import org.eclipse.xpanse.modules.models.security.TokenIntrospectedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to publish the latency of the opaque token introspections as OpenTelemetry metrics. The hit
+ * rate of the cached introspection results is published with the metrics of the caches.
+ */
+@Component
+public class TokenIntrospectionMetrics {
+
+    private static final String INSTRUMENTATION_SCOPE = "org.eclipse.xpanse.security";
+    private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+    private DoubleHistogram introspectionTime;
+
+    @Resource private ObjectProvider<OpenTelemetry> openTelemetryProvider;
+
+    /** Registers the instruments of the token introspection metrics. */
+    @PostConstruct
+    public void registerInstruments() {
+        Meter meter =
+                openTelemetryProvider
+                        .getIfAvailable(OpenTelemetry::noop)
+                        .getMeter(INSTRUMENTATION_SCOPE);
+        introspectionTime =
+                meter.histogramBuilder("xpanse.token.introspection.time")
+                        .setDescription(
+                                "Time taken to introspect opaque tokens with the authorization"
+                                        + " server.")
+                        .setUnit("ms")
+                        .build();
+    }
+
+    /**
+     * Records the metrics of the token introspection.
+     *
+     * @param event token introspected event.
+     */
+    @EventListener
+    public void onTokenIntrospected(TokenIntrospectedEvent event) {
+        String result = "failed";
+        if (event.isSuccessful()) {
+            result = event.isActive() ? "active" : "inactive";
+        }
+        introspectionTime.record(
+                event.getIntrospectionTimeInMillis(), Attributes.of(RESULT, result));
+    }
+}
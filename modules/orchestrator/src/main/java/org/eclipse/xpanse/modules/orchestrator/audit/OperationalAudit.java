@@ -6,10 +6,21 @@
 package org.eclipse.xpanse.modules.orchestrator.audit;
 
 import jakarta.validation.constraints.NotNull;
+import java.util.List;
 
 /** The interface for the Operational Audit. */
 public interface OperationalAudit {
 
     /** Audit all API requests of the POST, PUT, and DELETE methods. */
     void auditApiRequest(@NotNull AuditLog auditLog);
+
+    /**
+     * Audit a batch of API requests. Plugins with a sink which accepts batches can override it, by
+     * default the audit logs are written one by one.
+     *
+     * @param auditLogs audit logs of the same cloud service provider in the order of the requests.
+     */
+    default void auditApiRequests(@NotNull List<AuditLog> auditLogs) {
+        auditLogs.forEach(this::auditApiRequest);
+    }
 }
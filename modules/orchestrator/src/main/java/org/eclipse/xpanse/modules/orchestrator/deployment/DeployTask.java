@@ -37,6 +37,9 @@ public class DeployTask {
     /** The id of the workflow instance of service porting or service redeployment. */
     private String workflowId;
 
+    /** The id of the batch of bulk service operations which the order task belongs to. */
+    private UUID batchId;
+
     /** ServiceVendor of the user who registered service template. */
     private String serviceVendor;
 
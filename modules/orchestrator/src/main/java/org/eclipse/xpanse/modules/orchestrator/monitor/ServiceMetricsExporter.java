@@ -27,4 +27,15 @@ public interface ServiceMetricsExporter {
      * @return Returns list of metric result.
      */
     List<Metric> getMetricsForService(ServiceMetricsRequest serviceMetricRequest);
+
+    /**
+     * Check if the resources of several services can be queried with one service metrics request.
+     * This is only possible when the metrics API of the provider is accessed with the credentials
+     * of the user in the region, independent of the service.
+     *
+     * @return true if the metrics of several services can be queried together.
+     */
+    default boolean supportsBatchedServiceMetrics() {
+        return false;
+    }
 }
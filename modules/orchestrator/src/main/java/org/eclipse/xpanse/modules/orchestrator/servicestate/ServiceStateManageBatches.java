@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.servicestate;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.database.resource.ServiceResourceEntity;
+
+/** Utils to execute the state management of many services. */
+@Slf4j
+public final class ServiceStateManageBatches {
+
+    private static final String FAILED_MESSAGE = "Manage the state of the service failed.";
+
+    private ServiceStateManageBatches() {
+        // private constructor to block instantiation.
+    }
+
+    /**
+     * Execute the state management of each service with its own request.
+     *
+     * @param requests requests of the services.
+     * @param action action to execute with one request.
+     * @return results of the services in the order of the requests.
+     */
+    public static List<ServiceStateManageResult> executeEach(
+            List<ServiceStateManageRequest> requests, Predicate<ServiceStateManageRequest> action) {
+        List<ServiceStateManageResult> results = new ArrayList<>(requests.size());
+        for (ServiceStateManageRequest request : requests) {
+            results.add(execute(request, action));
+        }
+        return results;
+    }
+
+    /**
+     * Execute the state management of the services with one request per region and user. The
+     * servers of all services of the same region and user are merged into one request. When the
+     * merged request fails, the services of it are managed one by one to find the failed ones.
+     *
+     * @param requests requests of the services.
+     * @param action action to execute with one request.
+     * @return results of the services in the order of the requests.
+     */
+    public static List<ServiceStateManageResult> executeMerged(
+            List<ServiceStateManageRequest> requests, Predicate<ServiceStateManageRequest> action) {
+        Map<List<String>, List<ServiceStateManageRequest>> requestsGroups = new LinkedHashMap<>();
+        for (ServiceStateManageRequest request : requests) {
+            List<String> groupKey =
+                    List.of(
+                            Objects.toString(request.getRegion().getSite(), ""),
+                            Objects.toString(request.getRegion().getName(), ""),
+                            Objects.toString(request.getUserId(), ""));
+            requestsGroups.computeIfAbsent(groupKey, key -> new ArrayList<>()).add(request);
+        }
+        Map<ServiceStateManageRequest, ServiceStateManageResult> resultsMap =
+                new IdentityHashMap<>();
+        for (List<ServiceStateManageRequest> requestsGroup : requestsGroups.values()) {
+            if (requestsGroup.size() == 1) {
+                ServiceStateManageRequest request = requestsGroup.getFirst();
+                resultsMap.put(request, execute(request, action));
+                continue;
+            }
+            ServiceStateManageResult mergedResult = execute(mergeRequests(requestsGroup), action);
+            if (mergedResult.successful()) {
+                requestsGroup.forEach(
+                        request ->
+                                resultsMap.put(
+                                        request,
+                                        new ServiceStateManageResult(
+                                                request.getServiceId(), true, null)));
+            } else {
+                log.warn(
+                        "Manage the state of {} services with one request failed, manage them"
+                                + " one by one.",
+                        requestsGroup.size());
+                requestsGroup.forEach(request -> resultsMap.put(request, execute(request, action)));
+            }
+        }
+        return requests.stream().map(resultsMap::get).toList();
+    }
+
+    private static ServiceStateManageRequest mergeRequests(
+            List<ServiceStateManageRequest> requests) {
+        ServiceStateManageRequest first = requests.getFirst();
+        ServiceStateManageRequest mergedRequest = new ServiceStateManageRequest();
+        mergedRequest.setServiceId(first.getServiceId());
+        mergedRequest.setUserId(first.getUserId());
+        mergedRequest.setRegion(first.getRegion());
+        List<ServiceResourceEntity> resources = new ArrayList<>();
+        requests.forEach(request -> resources.addAll(request.getServiceResourceEntityList()));
+        mergedRequest.setServiceResourceEntityList(resources);
+        return mergedRequest;
+    }
+
+    private static ServiceStateManageResult execute(
+            ServiceStateManageRequest request, Predicate<ServiceStateManageRequest> action) {
+        try {
+            boolean result = action.test(request);
+            return new ServiceStateManageResult(
+                    request.getServiceId(), result, result ? null : FAILED_MESSAGE);
+        } catch (Exception e) {
+            log.error(
+                    "Manage the state of service {} failed. {}",
+                    request.getServiceId(),
+                    e.getMessage());
+            return new ServiceStateManageResult(
+                    request.getServiceId(),
+                    false,
+                    Objects.toString(e.getMessage(), FAILED_MESSAGE));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.servicestate;
+
+import java.util.UUID;
+
+/**
+ * Result of the state management of one service in a batch.
+ *
+ * @param serviceId id of the service.
+ * @param successful whether the state of the service was changed.
+ * @param errorMessage error message when the state management failed.
+ */
+public record ServiceStateManageResult(UUID serviceId, boolean successful, String errorMessage) {}
@@ -6,6 +6,8 @@
 
 package org.eclipse.xpanse.modules.orchestrator.servicestate;
 
+import java.util.List;
+
 /** Service management interface. */
 public interface ServiceStateManager {
 
@@ -14,4 +16,42 @@ public interface ServiceStateManager {
     boolean stopService(ServiceStateManageRequest serviceStateManageRequest);
 
     boolean restartService(ServiceStateManageRequest serviceStateManageRequest);
+
+    /**
+     * Start many services. By default, the services are started one by one. Plugins which can start
+     * the servers of many services with one request override it.
+     *
+     * @param serviceStateManageRequests requests of the services.
+     * @return results of the services in the order of the requests.
+     */
+    default List<ServiceStateManageResult> startServices(
+            List<ServiceStateManageRequest> serviceStateManageRequests) {
+        return ServiceStateManageBatches.executeEach(
+                serviceStateManageRequests, this::startService);
+    }
+
+    /**
+     * Stop many services. By default, the services are stopped one by one. Plugins which can stop
+     * the servers of many services with one request override it.
+     *
+     * @param serviceStateManageRequests requests of the services.
+     * @return results of the services in the order of the requests.
+     */
+    default List<ServiceStateManageResult> stopServices(
+            List<ServiceStateManageRequest> serviceStateManageRequests) {
+        return ServiceStateManageBatches.executeEach(serviceStateManageRequests, this::stopService);
+    }
+
+    /**
+     * Restart many services. By default, the services are restarted one by one. Plugins which can
+     * restart the servers of many services with one request override it.
+     *
+     * @param serviceStateManageRequests requests of the services.
+     * @return results of the services in the order of the requests.
+     */
+    default List<ServiceStateManageResult> restartServices(
+            List<ServiceStateManageRequest> serviceStateManageRequests) {
+        return ServiceStateManageBatches.executeEach(
+                serviceStateManageRequests, this::restartService);
+    }
 }
@@ -35,6 +35,7 @@ class DeployTaskTest {
         test.setServiceId(uuid);
         test.setOriginalServiceId(uuid);
         test.setWorkflowId(uuid.toString());
+        test.setBatchId(uuid);
         test.setTaskType(taskType);
         test.setUserId(userId);
         test.setServiceVendor(serviceVendor);
@@ -51,6 +52,7 @@ class DeployTaskTest {
         assertThat(test.getServiceId()).isEqualTo(uuid);
         assertThat(test.getOriginalServiceId()).isEqualTo(uuid);
         assertThat(test.getWorkflowId()).isEqualTo(uuid.toString());
+        assertThat(test.getBatchId()).isEqualTo(uuid);
         assertThat(test.getTaskType()).isEqualTo(taskType);
         assertThat(test.getUserId()).isEqualTo(userId);
         assertThat(test.getServiceVendor()).isEqualTo(serviceVendor);
@@ -92,6 +94,8 @@ class DeployTaskTest {
                         + uuid
                         + ", workflowId="
                         + uuid
+                        + ", batchId="
+                        + uuid
                         + ", serviceVendor="
                         + serviceVendor
                         + ", deployRequest="
@@ -0,0 +1,97 @@
+package org.eclipse.xpanse.modules.orchestrator.servicestate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.resource.ServiceResourceEntity;
+import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.junit.jupiter.api.Test;
+
+class ServiceStateManageBatchesTest {
+
+    @Test
+    void testExecuteMergedWithOneRequestPerRegion() {
+        ServiceStateManageRequest first = getRequest("region-1", "vm-1");
+        ServiceStateManageRequest second = getRequest("region-2", "vm-2");
+        ServiceStateManageRequest third = getRequest("region-1", "vm-3");
+        List<List<String>> executedResources = new ArrayList<>();
+
+        List<ServiceStateManageResult> results =
+                ServiceStateManageBatches.executeMerged(
+                        List.of(first, second, third),
+                        request -> {
+                            executedResources.add(getResourceIds(request));
+                            return true;
+                        });
+
+        assertEquals(List.of(List.of("vm-1", "vm-3"), List.of("vm-2")), executedResources);
+        assertEquals(
+                List.of(first.getServiceId(), second.getServiceId(), third.getServiceId()),
+                results.stream().map(ServiceStateManageResult::serviceId).toList());
+        assertTrue(results.stream().allMatch(ServiceStateManageResult::successful));
+    }
+
+    @Test
+    void testExecuteMergedFallsBackToEachRequest() {
+        ServiceStateManageRequest first = getRequest("region-1", "vm-1");
+        ServiceStateManageRequest second = getRequest("region-1", "vm-2");
+        List<List<String>> executedResources = new ArrayList<>();
+
+        List<ServiceStateManageResult> results =
+                ServiceStateManageBatches.executeMerged(
+                        List.of(first, second),
+                        request -> {
+                            List<String> resourceIds = getResourceIds(request);
+                            executedResources.add(resourceIds);
+                            if (resourceIds.contains("vm-2")) {
+                                throw new IllegalStateException("vm-2 failed");
+                            }
+                            return true;
+                        });
+
+        assertEquals(
+                List.of(List.of("vm-1", "vm-2"), List.of("vm-1"), List.of("vm-2")),
+                executedResources);
+        assertTrue(results.get(0).successful());
+        assertFalse(results.get(1).successful());
+        assertEquals("vm-2 failed", results.get(1).errorMessage());
+    }
+
+    @Test
+    void testExecuteEach() {
+        ServiceStateManageRequest first = getRequest("region-1", "vm-1");
+        ServiceStateManageRequest second = getRequest("region-1", "vm-2");
+
+        List<ServiceStateManageResult> results =
+                ServiceStateManageBatches.executeEach(
+                        List.of(first, second),
+                        request -> getResourceIds(request).contains("vm-1"));
+
+        assertTrue(results.get(0).successful());
+        assertFalse(results.get(1).successful());
+        assertEquals(second.getServiceId(), results.get(1).serviceId());
+    }
+
+    private ServiceStateManageRequest getRequest(String regionName, String resourceId) {
+        Region region = new Region();
+        region.setName(regionName);
+        ServiceResourceEntity resource = new ServiceResourceEntity();
+        resource.setResourceId(resourceId);
+        ServiceStateManageRequest request = new ServiceStateManageRequest();
+        request.setServiceId(UUID.randomUUID());
+        request.setUserId("userId");
+        request.setRegion(region);
+        request.setServiceResourceEntityList(List.of(resource));
+        return request;
+    }
+
+    private List<String> getResourceIds(ServiceStateManageRequest request) {
+        return request.getServiceResourceEntityList().stream()
+                .map(ServiceResourceEntity::getResourceId)
+                .toList();
+    }
+}
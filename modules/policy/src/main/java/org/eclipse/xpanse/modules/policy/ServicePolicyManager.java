@@ -26,6 +26,7 @@ import org.eclipse.xpanse.modules.models.policy.servicepolicy.ServicePolicy;
 import org.eclipse.xpanse.modules.models.policy.servicepolicy.ServicePolicyCreateRequest;
 import org.eclipse.xpanse.modules.models.policy.servicepolicy.ServicePolicyUpdateRequest;
 import org.eclipse.xpanse.modules.models.service.deployment.exceptions.FlavorInvalidException;
+import org.eclipse.xpanse.modules.policy.evaluation.PolicySetCache;
 import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
 import org.springframework.beans.BeanUtils;
 import org.springframework.security.access.AccessDeniedException;
@@ -46,6 +47,8 @@ public class ServicePolicyManager {
 
     @Resource private ServiceTemplateStorage serviceTemplateStorage;
 
+    @Resource private PolicySetCache policySetCache;
+
     /**
      * List policies owned by the registered service template.
      *
@@ -80,6 +83,7 @@ public class ServicePolicyManager {
                 getServicePolicyToCreate(createRequest, existingServiceTemplate);
 
         ServicePolicyEntity storedPolicy = servicePolicyStorage.storeAndFlush(newPolicy);
+        policySetCache.evictServicePolicySet(existingServiceTemplate.getId());
         return conventToServicePolicy(storedPolicy);
     }
 
@@ -118,6 +122,7 @@ public class ServicePolicyManager {
         ServicePolicyEntity policyToUpdate =
                 getServicePolicyToUpdate(updateRequest, existingPolicy);
         ServicePolicyEntity updatedPolicy = servicePolicyStorage.storeAndFlush(policyToUpdate);
+        policySetCache.evictServicePolicySet(existingPolicy.getServiceTemplate().getId());
         return conventToServicePolicy(updatedPolicy);
     }
 
@@ -155,8 +160,10 @@ public class ServicePolicyManager {
      * @param policyId the id of policy.
      */
     public void deleteServicePolicy(UUID policyId) {
-        getServicePolicyEntity(policyId, UserOperation.DELETE_POLICY_OF_SERVICE_TEMPLATE);
+        ServicePolicyEntity existingPolicy =
+                getServicePolicyEntity(policyId, UserOperation.DELETE_POLICY_OF_SERVICE_TEMPLATE);
         servicePolicyStorage.deletePolicyById(policyId);
+        policySetCache.evictServicePolicySet(existingPolicy.getServiceTemplate().getId());
     }
 
     private ServicePolicyEntity getServicePolicyEntity(UUID policyId, UserOperation operation) {
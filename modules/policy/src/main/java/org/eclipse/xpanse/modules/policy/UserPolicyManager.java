@@ -23,6 +23,7 @@ import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicy;
 import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyCreateRequest;
 import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyQueryRequest;
 import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyUpdateRequest;
+import org.eclipse.xpanse.modules.policy.evaluation.PolicySetCache;
 import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
 import org.springframework.beans.BeanUtils;
 import org.springframework.security.access.AccessDeniedException;
@@ -38,6 +39,7 @@ public class UserPolicyManager {
 
     @Resource private UserServiceHelper userServiceHelper;
     @Resource private UserPolicyStorage userPolicyStorage;
+    @Resource private PolicySetCache policySetCache;
 
     /**
      * Get the query model for listing policies.
@@ -84,6 +86,7 @@ public class UserPolicyManager {
         checkIfUserPolicyIsDuplicate(createRequest.getCsp(), createRequest.getPolicy());
         UserPolicyEntity newPolicy = conventToUserPolicyEntity(createRequest);
         UserPolicyEntity userPolicyEntity = userPolicyStorage.storeAndFlush(newPolicy);
+        policySetCache.evictUserPolicySet(newPolicy.getUserId(), newPolicy.getCsp());
         return conventToUserPolicy(userPolicyEntity);
     }
 
@@ -98,6 +101,10 @@ public class UserPolicyManager {
                 getUserPolicyEntity(userPolicyId, UserOperation.UPDATE_USER_POLICY);
         UserPolicyEntity policyToUpdate = getUserPolicyToUpdate(updateRequest, existingEntity);
         UserPolicyEntity updatedPolicy = userPolicyStorage.storeAndFlush(policyToUpdate);
+        policySetCache.evictUserPolicySet(existingEntity.getUserId(), existingEntity.getCsp());
+        if (!Objects.equals(existingEntity.getCsp(), policyToUpdate.getCsp())) {
+            policySetCache.evictUserPolicySet(policyToUpdate.getUserId(), policyToUpdate.getCsp());
+        }
         return conventToUserPolicy(updatedPolicy);
     }
 
@@ -139,8 +146,10 @@ public class UserPolicyManager {
      * @param userPolicyId the id of the user policy.
      */
     public void deleteUserPolicy(UUID userPolicyId) {
-        getUserPolicyEntity(userPolicyId, UserOperation.DELETE_USER_POLICY);
+        UserPolicyEntity existingEntity =
+                getUserPolicyEntity(userPolicyId, UserOperation.DELETE_USER_POLICY);
         userPolicyStorage.deleteUserPolicyById(userPolicyId);
+        policySetCache.evictUserPolicySet(existingEntity.getUserId(), existingEntity.getCsp());
     }
 
     private void checkIfUserPolicyIsDuplicate(Csp csp, String policy) {
@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.policy.evaluation;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Enabled policy in a cached policy set.
+ *
+ * @param policyId id of the service or user policy.
+ * @param policy content of the policy.
+ * @param flavorNameList flavors the service policy applies to. Empty for all flavors.
+ */
+public record CachedPolicy(UUID policyId, String policy, List<String> flavorNameList)
+        implements Serializable {}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.policy.evaluation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.Resource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.policy.PoliciesEvaluatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to evaluate deployment plans with policies. Results are cached by the hash of the policies
+ * and the plan, so the same plan evaluated with the same policies is not sent to policy-man again.
+ */
+@Slf4j
+@Component
+public class PolicyEvaluationManager {
+
+    /** Field of the plan which changes with every plan, but is not relevant for policies. */
+    private static final String PLAN_TIMESTAMP_FIELD = "timestamp";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${policy.evaluation.result.cache.enabled:true}")
+    private boolean evaluationResultCacheEnabled;
+
+    @Resource private PolicyEvaluationResultCache policyEvaluationResultCache;
+    @Resource private ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Evaluate the deployment plan with all policies in one call.
+     *
+     * @param policies policies to evaluate.
+     * @param planJson deployment plan as json.
+     * @return result of the evaluation.
+     */
+    public PolicyEvaluationResult evaluatePolicies(List<String> policies, String planJson) {
+        return evaluatePolicies(getPoliciesVersion(policies), policies, planJson);
+    }
+
+    /**
+     * Evaluate the deployment plan with all policies in one call. The version is used for the cache
+     * key instead of the content of the policies.
+     *
+     * @param policiesVersion version of the policies, changes whenever one of the policies changes.
+     * @param policies policies to evaluate.
+     * @param planJson deployment plan as json.
+     * @return result of the evaluation.
+     */
+    public PolicyEvaluationResult evaluatePolicies(
+            String policiesVersion, List<String> policies, String planJson) {
+        long startTime = System.nanoTime();
+        PolicyEvaluationResult evaluationResult;
+        if (evaluationResultCacheEnabled) {
+            evaluationResult =
+                    policyEvaluationResultCache.getEvaluationResult(
+                            getCacheKey(policiesVersion, planJson), policies, planJson);
+        } else {
+            evaluationResult = policyEvaluationResultCache.evaluate(policies, planJson);
+        }
+        long evaluationTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        log.info(
+                "Evaluated deployment plan with {} policies in {} ms, successful: {}.",
+                policies.size(),
+                evaluationTimeInMillis,
+                evaluationResult.successful());
+        applicationEventPublisher.publishEvent(
+                new PoliciesEvaluatedEvent(
+                        policies.size(), evaluationTimeInMillis, evaluationResult.successful()));
+        return evaluationResult;
+    }
+
+    private String getPoliciesVersion(List<String> policies) {
+        MessageDigest messageDigest = getMessageDigest();
+        for (String policy : policies) {
+            messageDigest.update(policy.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private String getCacheKey(String policiesVersion, String planJson) {
+        MessageDigest messageDigest = getMessageDigest();
+        messageDigest.update(policiesVersion.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+        messageDigest.update(getNormalizedPlan(planJson).getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String getNormalizedPlan(String planJson) {
+        try {
+            JsonNode plan = objectMapper.readTree(planJson);
+            if (plan instanceof ObjectNode planObject && planObject.has(PLAN_TIMESTAMP_FIELD)) {
+                planObject.remove(PLAN_TIMESTAMP_FIELD);
+                return objectMapper.writeValueAsString(planObject);
+            }
+        } catch (JsonProcessingException e) {
+            log.debug("Deployment plan is not valid json, using it as is for the cache key.");
+        }
+        return planJson;
+    }
+}
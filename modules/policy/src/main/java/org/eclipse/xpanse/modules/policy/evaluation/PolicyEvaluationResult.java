@@ -0,0 +1,18 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.policy.evaluation;
+
+import java.io.Serializable;
+
+/**
+ * Result of the evaluation of an input with policies.
+ *
+ * @param successful if the input passed all policies.
+ * @param failedPolicy content of the policy which the input failed, null when successful.
+ */
+public record PolicyEvaluationResult(boolean successful, String failedPolicy)
+        implements Serializable {}
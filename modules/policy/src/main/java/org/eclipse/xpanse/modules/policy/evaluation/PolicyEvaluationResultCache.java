@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.policy.evaluation;
+
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.POLICY_EVALUATION_RESULT_CACHE_NAME;
+
+import jakarta.annotation.Resource;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.policy.PolicyManager;
+import org.eclipse.xpanse.modules.policy.policyman.generated.model.EvalResult;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/** Bean to cache the results of the policy evaluations by the hash of the policies and input. */
+@Slf4j
+@Component
+public class PolicyEvaluationResultCache {
+
+    @Resource private PolicyManager policyManager;
+
+    /**
+     * Get the result of the evaluation of the input with the policies. The policies are evaluated
+     * by policy-man only when there is no cached result for the same policies and input.
+     *
+     * @param cacheKey hash of the policies and the input.
+     * @param policies policies to evaluate.
+     * @param input input to evaluate.
+     * @return result of the evaluation.
+     */
+    @Cacheable(value = POLICY_EVALUATION_RESULT_CACHE_NAME, key = "#cacheKey", sync = true)
+    public PolicyEvaluationResult getEvaluationResult(
+            String cacheKey, List<String> policies, String input) {
+        return evaluate(policies, input);
+    }
+
+    /**
+     * Evaluate the input with the policies by policy-man without using the cache.
+     *
+     * @param policies policies to evaluate.
+     * @param input input to evaluate.
+     * @return result of the evaluation.
+     */
+    public PolicyEvaluationResult evaluate(List<String> policies, String input) {
+        EvalResult evalResult = policyManager.evaluatePolicies(policies, input);
+        boolean successful = Boolean.TRUE.equals(evalResult.getIsSuccessful());
+        return new PolicyEvaluationResult(successful, successful ? null : evalResult.getPolicy());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.policy.evaluation;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Enabled policies of a service template or of a user.
+ *
+ * @param version version of the policy set, changes whenever a policy of the set changes.
+ * @param policies enabled policies.
+ */
+public record PolicySet(String version, List<CachedPolicy> policies) implements Serializable {
+
+    /**
+     * Create the policy set with the version computed from the content of the policies.
+     *
+     * @param policies enabled policies.
+     * @return policy set.
+     */
+    public static PolicySet of(List<CachedPolicy> policies) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            for (CachedPolicy cachedPolicy : policies) {
+                messageDigest.update(
+                        String.valueOf(cachedPolicy.policyId()).getBytes(StandardCharsets.UTF_8));
+                messageDigest.update((byte) 0);
+                messageDigest.update(cachedPolicy.policy().getBytes(StandardCharsets.UTF_8));
+                messageDigest.update((byte) 0);
+                if (Objects.nonNull(cachedPolicy.flavorNameList())) {
+                    messageDigest.update(
+                            String.join(",", cachedPolicy.flavorNameList())
+                                    .getBytes(StandardCharsets.UTF_8));
+                }
+                messageDigest.update((byte) 0);
+            }
+            return new PolicySet(
+                    HexFormat.of().formatHex(messageDigest.digest()), List.copyOf(policies));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Check if the set contains no policies.
+     *
+     * @return true if there are no enabled policies.
+     */
+    public boolean isEmpty() {
+        return policies.isEmpty();
+    }
+}
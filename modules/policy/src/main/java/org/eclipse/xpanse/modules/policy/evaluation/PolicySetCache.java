@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.policy.evaluation;
+
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_POLICY_SET_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.USER_POLICY_SET_CACHE_NAME;
+
+import jakarta.annotation.Resource;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
+import org.eclipse.xpanse.modules.database.userpolicy.UserPolicyStorage;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyQueryRequest;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to cache the enabled policies of the service templates and of the users. The cached policy
+ * sets are evicted whenever a policy of the set is created, updated or deleted.
+ */
+@Slf4j
+@Component
+public class PolicySetCache {
+
+    private static final String FLAVOR_NAMES_SEPARATOR = ",";
+
+    @Resource private ServiceTemplateStorage serviceTemplateStorage;
+    @Resource private UserPolicyStorage userPolicyStorage;
+
+    /**
+     * Get the enabled policies of the service template.
+     *
+     * @param serviceTemplateId id of the service template.
+     * @return policy set of the service template.
+     */
+    @Cacheable(value = SERVICE_POLICY_SET_CACHE_NAME, key = "#serviceTemplateId", sync = true)
+    public PolicySet getServicePolicySet(UUID serviceTemplateId) {
+        ServiceTemplateEntity serviceTemplate =
+                serviceTemplateStorage.getServiceTemplateById(serviceTemplateId);
+        if (Objects.isNull(serviceTemplate)
+                || Objects.isNull(serviceTemplate.getServicePolicyList())) {
+            return PolicySet.of(Collections.emptyList());
+        }
+        List<CachedPolicy> policies =
+                serviceTemplate.getServicePolicyList().stream()
+                        .filter(
+                                servicePolicy ->
+                                        Boolean.TRUE.equals(servicePolicy.getEnabled())
+                                                && StringUtils.isNotBlank(
+                                                        servicePolicy.getPolicy()))
+                        .map(
+                                servicePolicy ->
+                                        new CachedPolicy(
+                                                servicePolicy.getId(),
+                                                servicePolicy.getPolicy(),
+                                                getFlavorNameList(servicePolicy.getFlavorNames())))
+                        .toList();
+        log.info(
+                "Loaded {} enabled policies of service template {}.",
+                policies.size(),
+                serviceTemplateId);
+        return PolicySet.of(policies);
+    }
+
+    /**
+     * Get the enabled policies of the user for the cloud service provider.
+     *
+     * @param userId id of the user.
+     * @param csp cloud service provider.
+     * @return policy set of the user.
+     */
+    @Cacheable(value = USER_POLICY_SET_CACHE_NAME, key = "#userId + ':' + #csp", sync = true)
+    public PolicySet getUserPolicySet(String userId, Csp csp) {
+        UserPolicyQueryRequest queryRequest = new UserPolicyQueryRequest();
+        queryRequest.setUserId(userId);
+        queryRequest.setCsp(csp);
+        queryRequest.setEnabled(true);
+        List<CachedPolicy> policies =
+                userPolicyStorage.listUserPolicies(queryRequest).stream()
+                        .map(
+                                userPolicy ->
+                                        new CachedPolicy(
+                                                userPolicy.getId(),
+                                                userPolicy.getPolicy(),
+                                                Collections.emptyList()))
+                        .toList();
+        log.info("Loaded {} enabled policies of user {} for csp {}.", policies.size(), userId, csp);
+        return PolicySet.of(policies);
+    }
+
+    /**
+     * Evict the cached policy set of the service template.
+     *
+     * @param serviceTemplateId id of the service template.
+     */
+    @CacheEvict(value = SERVICE_POLICY_SET_CACHE_NAME, key = "#serviceTemplateId")
+    public void evictServicePolicySet(UUID serviceTemplateId) {
+        log.info("Evicted cached policy set of service template {}.", serviceTemplateId);
+    }
+
+    /**
+     * Evict the cached policy set of the user for the cloud service provider.
+     *
+     * @param userId id of the user.
+     * @param csp cloud service provider.
+     */
+    @CacheEvict(value = USER_POLICY_SET_CACHE_NAME, key = "#userId + ':' + #csp")
+    public void evictUserPolicySet(String userId, Csp csp) {
+        log.info("Evicted cached policy set of user {} for csp {}.", userId, csp);
+    }
+
+    private List<String> getFlavorNameList(String flavorNames) {
+        if (StringUtils.isBlank(flavorNames)) {
+            return Collections.emptyList();
+        }
+        return List.copyOf(Arrays.asList(StringUtils.split(flavorNames, FLAVOR_NAMES_SEPARATOR)));
+    }
+}
@@ -0,0 +1,111 @@
+package org.eclipse.xpanse.modules.policy.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.eclipse.xpanse.modules.models.policy.PoliciesEvaluatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PolicyEvaluationManagerTest {
+
+    private final List<String> policies = List.of("policy-1", "policy-2");
+    @Mock private PolicyEvaluationResultCache mockPolicyEvaluationResultCache;
+    @Mock private ApplicationEventPublisher mockApplicationEventPublisher;
+    @InjectMocks private PolicyEvaluationManager policyEvaluationManager;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(policyEvaluationManager, "evaluationResultCacheEnabled", true);
+    }
+
+    @Test
+    void testPlansWhichOnlyDifferInTimestampHaveSameCacheKey() {
+        when(mockPolicyEvaluationResultCache.getEvaluationResult(anyString(), any(), anyString()))
+                .thenReturn(new PolicyEvaluationResult(true, null));
+
+        policyEvaluationManager.evaluatePolicies(
+                policies, "{\"timestamp\":\"2025-01-01T00:00:00Z\",\"resource_changes\":[]}");
+        policyEvaluationManager.evaluatePolicies(
+                policies, "{\"timestamp\":\"2025-01-02T00:00:00Z\",\"resource_changes\":[]}");
+        policyEvaluationManager.evaluatePolicies(
+                policies, "{\"timestamp\":\"2025-01-02T00:00:00Z\",\"resource_changes\":[1]}");
+
+        ArgumentCaptor<String> cacheKeys = ArgumentCaptor.forClass(String.class);
+        verify(mockPolicyEvaluationResultCache, times(3))
+                .getEvaluationResult(cacheKeys.capture(), eq(policies), anyString());
+        assertEquals(cacheKeys.getAllValues().get(0), cacheKeys.getAllValues().get(1));
+        assertNotEquals(cacheKeys.getAllValues().get(1), cacheKeys.getAllValues().get(2));
+    }
+
+    @Test
+    void testPoliciesArePartOfCacheKey() {
+        String planJson = "{\"resource_changes\":[]}";
+        when(mockPolicyEvaluationResultCache.getEvaluationResult(anyString(), any(), anyString()))
+                .thenReturn(new PolicyEvaluationResult(true, null));
+
+        policyEvaluationManager.evaluatePolicies(policies, planJson);
+        policyEvaluationManager.evaluatePolicies(List.of("policy-1"), planJson);
+
+        ArgumentCaptor<String> cacheKeys = ArgumentCaptor.forClass(String.class);
+        verify(mockPolicyEvaluationResultCache, times(2))
+                .getEvaluationResult(cacheKeys.capture(), any(), eq(planJson));
+        assertNotEquals(cacheKeys.getAllValues().get(0), cacheKeys.getAllValues().get(1));
+    }
+
+    @Test
+    void testPoliciesVersionIsPartOfCacheKey() {
+        String planJson = "{\"resource_changes\":[]}";
+        when(mockPolicyEvaluationResultCache.getEvaluationResult(anyString(), any(), anyString()))
+                .thenReturn(new PolicyEvaluationResult(true, null));
+
+        policyEvaluationManager.evaluatePolicies("version-1", policies, planJson);
+        policyEvaluationManager.evaluatePolicies("version-1", policies, planJson);
+        policyEvaluationManager.evaluatePolicies("version-2", policies, planJson);
+
+        ArgumentCaptor<String> cacheKeys = ArgumentCaptor.forClass(String.class);
+        verify(mockPolicyEvaluationResultCache, times(3))
+                .getEvaluationResult(cacheKeys.capture(), eq(policies), eq(planJson));
+        assertEquals(cacheKeys.getAllValues().get(0), cacheKeys.getAllValues().get(1));
+        assertNotEquals(cacheKeys.getAllValues().get(1), cacheKeys.getAllValues().get(2));
+    }
+
+    @Test
+    void testEvaluatePoliciesWithoutCache() {
+        ReflectionTestUtils.setField(
+                policyEvaluationManager, "evaluationResultCacheEnabled", false);
+        String planJson = "{\"resource_changes\":[]}";
+        when(mockPolicyEvaluationResultCache.evaluate(policies, planJson))
+                .thenReturn(new PolicyEvaluationResult(false, "policy-2"));
+
+        PolicyEvaluationResult result =
+                policyEvaluationManager.evaluatePolicies(policies, planJson);
+
+        assertFalse(result.successful());
+        assertEquals("policy-2", result.failedPolicy());
+        verify(mockPolicyEvaluationResultCache, never())
+                .getEvaluationResult(anyString(), any(), anyString());
+        ArgumentCaptor<PoliciesEvaluatedEvent> event =
+                ArgumentCaptor.forClass(PoliciesEvaluatedEvent.class);
+        verify(mockApplicationEventPublisher).publishEvent(event.capture());
+        assertEquals(2, event.getValue().getNumberOfPolicies());
+        assertFalse(event.getValue().isSuccessful());
+    }
+}
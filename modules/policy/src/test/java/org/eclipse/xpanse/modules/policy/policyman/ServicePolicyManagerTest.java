@@ -31,6 +31,7 @@ import org.eclipse.xpanse.modules.models.servicetemplate.ServiceFlavorWithPrice;
 import org.eclipse.xpanse.modules.models.servicetemplate.exceptions.ServiceTemplateNotRegistered;
 import org.eclipse.xpanse.modules.policy.PolicyManager;
 import org.eclipse.xpanse.modules.policy.ServicePolicyManager;
+import org.eclipse.xpanse.modules.policy.evaluation.PolicySetCache;
 import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -52,6 +53,7 @@ class ServicePolicyManagerTest {
     @Mock private UserServiceHelper mockUserServiceHelper;
     @Mock private ServicePolicyStorage mockServicePolicyStorage;
     @Mock private ServiceTemplateStorage mockServiceTemplateStorage;
+    @Mock private PolicySetCache mockPolicySetCache;
 
     @InjectMocks private ServicePolicyManager test;
 
@@ -22,6 +22,7 @@ import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyQueryReques
 import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyUpdateRequest;
 import org.eclipse.xpanse.modules.policy.PolicyManager;
 import org.eclipse.xpanse.modules.policy.UserPolicyManager;
+import org.eclipse.xpanse.modules.policy.evaluation.PolicySetCache;
 import org.eclipse.xpanse.modules.security.auth.UserServiceHelper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +39,7 @@ class UserPolicyManagerTest {
     @Mock private PolicyManager mockPolicyManager;
     @Mock private UserServiceHelper mockUserServiceHelper;
     @Mock private UserPolicyStorage mockUserPolicyStorage;
+    @Mock private PolicySetCache mockPolicySetCache;
     @InjectMocks private UserPolicyManager userPolicyManagerUnderTest;
 
     @Test
@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.security.auth;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import org.eclipse.xpanse.modules.cache.twolevel.TwoLevelCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+/**
+ * Configuration to refresh the values of the two-level caches in the security context of the
+ * callers who loaded them, as the refreshes run in the background threads of the caches.
+ */
+@Configuration
+public class CacheRefreshSecurityContextConfig {
+
+    @Resource private ObjectProvider<TwoLevelCacheManager> twoLevelCacheManager;
+
+    /** Propagate the security context of the callers to the refreshes of their values. */
+    @PostConstruct
+    public void propagateSecurityContextToCacheRefreshes() {
+        twoLevelCacheManager.ifAvailable(
+                cacheManager ->
+                        cacheManager.setValueLoaderDecorator(
+                                DelegatingSecurityContextRunnable::new));
+    }
+}
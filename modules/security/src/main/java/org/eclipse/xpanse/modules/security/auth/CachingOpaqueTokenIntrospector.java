@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.security.auth;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.xpanse.modules.models.security.IntrospectedToken;
+import org.eclipse.xpanse.modules.models.security.TokenIntrospectedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.core.OAuth2TokenIntrospectionClaimNames;
+import org.springframework.security.oauth2.server.resource.introspection.BadOpaqueTokenException;
+import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenIntrospector;
+
+/**
+ * Introspector of opaque tokens which caches the introspection results by the SHA-256 hash of the
+ * tokens, so repeated requests with the same token don't wait for the authorization server. Results
+ * of active tokens are cached until the token expires, but not longer than the max time to live.
+ * Results of inactive tokens are cached for a short time. The authorities are converted from the
+ * claims once per introspection and are returned with the principal.
+ */
+@Slf4j
+public class CachingOpaqueTokenIntrospector implements OpaqueTokenIntrospector {
+
+    private final OpaqueTokenIntrospector delegate;
+    private final Converter<Map<String, Object>, Collection<GrantedAuthority>> authoritiesConverter;
+    private final Cache cache;
+    private final Duration maxTimeToLive;
+    private final Duration inactiveTimeToLive;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Constructor for CachingOpaqueTokenIntrospector.
+     *
+     * @param delegate introspector which calls the authorization server.
+     * @param authoritiesConverter converter of the claims to the authorities.
+     * @param cache cache of the introspection results. Null to disable caching.
+     * @param maxTimeToLive max time the results of active tokens are cached.
+     * @param inactiveTimeToLive time the results of inactive tokens are cached.
+     * @param eventPublisher publisher of the token introspected events.
+     */
+    public CachingOpaqueTokenIntrospector(
+            OpaqueTokenIntrospector delegate,
+            Converter<Map<String, Object>, Collection<GrantedAuthority>> authoritiesConverter,
+            @Nullable Cache cache,
+            Duration maxTimeToLive,
+            Duration inactiveTimeToLive,
+            ApplicationEventPublisher eventPublisher) {
+        this.delegate = delegate;
+        this.authoritiesConverter = authoritiesConverter;
+        this.cache = cache;
+        this.maxTimeToLive = maxTimeToLive;
+        this.inactiveTimeToLive = inactiveTimeToLive;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public OAuth2AuthenticatedPrincipal introspect(String token) {
+        IntrospectedToken introspectedToken =
+                Objects.nonNull(cache)
+                        ? getCachedIntrospection(token)
+                        : introspectWithServer(token);
+        if (!introspectedToken.isActive()) {
+            throw new BadOpaqueTokenException("Provided token isn't active");
+        }
+        return new IntrospectedTokenPrincipal(introspectedToken);
+    }
+
+    private IntrospectedToken getCachedIntrospection(String token) {
+        try {
+            return cache.get(DigestUtils.sha256Hex(token), () -> introspectWithServer(token));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private IntrospectedToken introspectWithServer(String token) {
+        long startTime = System.nanoTime();
+        try {
+            OAuth2AuthenticatedPrincipal principal = delegate.introspect(token);
+            Map<String, Object> claims = new HashMap<>(principal.getAttributes());
+            Collection<GrantedAuthority> grantedAuthorities = authoritiesConverter.convert(claims);
+            Set<String> authorities =
+                    Objects.isNull(grantedAuthorities)
+                            ? Set.of()
+                            : grantedAuthorities.stream()
+                                    .map(GrantedAuthority::getAuthority)
+                                    .collect(Collectors.toSet());
+            publishTokenIntrospectedEvent(startTime, true, true);
+            return new IntrospectedToken(true, claims, authorities, getExpiresAt(claims));
+        } catch (BadOpaqueTokenException e) {
+            publishTokenIntrospectedEvent(startTime, true, false);
+            return new IntrospectedToken(
+                    false, Map.of(), Set.of(), Instant.now().plus(inactiveTimeToLive));
+        } catch (RuntimeException e) {
+            // errors of the authorization server are not cached.
+            publishTokenIntrospectedEvent(startTime, false, false);
+            log.error("Introspect token with authorization server failed. {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    private Instant getExpiresAt(Map<String, Object> claims) {
+        Instant maxExpiresAt = Instant.now().plus(maxTimeToLive);
+        if (claims.get(OAuth2TokenIntrospectionClaimNames.EXP) instanceof Instant expiresAt
+                && expiresAt.isBefore(maxExpiresAt)) {
+            return expiresAt;
+        }
+        return maxExpiresAt;
+    }
+
+    private void publishTokenIntrospectedEvent(long startTime, boolean successful, boolean active) {
+        eventPublisher.publishEvent(
+                new TokenIntrospectedEvent(
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime),
+                        successful,
+                        active));
+    }
+}
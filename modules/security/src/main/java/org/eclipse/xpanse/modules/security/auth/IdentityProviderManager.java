@@ -13,10 +13,13 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.security.auth.common.CurrentUserInfo;
 import org.eclipse.xpanse.modules.security.auth.common.CurrentUserInfoHolder;
+import org.eclipse.xpanse.modules.security.auth.common.CurrentUserPrincipal;
+import org.eclipse.xpanse.modules.security.auth.common.XpanseAuthentication;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
@@ -71,4 +74,22 @@ public class IdentityProviderManager implements ApplicationListener<ContextRefre
         }
         return null;
     }
+
+    /**
+     * Get the immutable view of the current login user. The view is resolved once per
+     * authentication of the request.
+     *
+     * @return view of the current login user, null if no user is logged in.
+     */
+    public CurrentUserPrincipal getCurrentUserPrincipal() {
+        if (Objects.isNull(activeIdentityProviderService)) {
+            return null;
+        }
+        if (SecurityContextHolder.getContext().getAuthentication()
+                instanceof XpanseAuthentication authentication) {
+            return authentication.getCurrentUserPrincipal(
+                    () -> CurrentUserPrincipal.of(getCurrentUserInfo()));
+        }
+        return CurrentUserPrincipal.of(getCurrentUserInfo());
+    }
 }
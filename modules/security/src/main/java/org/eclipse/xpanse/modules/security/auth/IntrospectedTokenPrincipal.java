@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.security.auth;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import org.eclipse.xpanse.modules.models.security.IntrospectedToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.core.OAuth2TokenIntrospectionClaimNames;
+
+/** Principal of an active opaque token with the authorities converted from the claims. */
+public class IntrospectedTokenPrincipal implements OAuth2AuthenticatedPrincipal, Serializable {
+
+    @Serial private static final long serialVersionUID = -5162733946358711090L;
+    private final Map<String, Object> attributes;
+    private final Collection<GrantedAuthority> authorities;
+
+    /**
+     * Constructor for IntrospectedTokenPrincipal.
+     *
+     * @param introspectedToken result of the introspection of the token.
+     */
+    public IntrospectedTokenPrincipal(IntrospectedToken introspectedToken) {
+        this.attributes = Collections.unmodifiableMap(introspectedToken.getClaims());
+        this.authorities =
+                introspectedToken.getAuthorities().stream()
+                        .map(authority -> (GrantedAuthority) new SimpleGrantedAuthority(authority))
+                        .toList();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return this.attributes;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return this.authorities;
+    }
+
+    @Override
+    public String getName() {
+        return (String) this.attributes.get(OAuth2TokenIntrospectionClaimNames.SUB);
+    }
+}
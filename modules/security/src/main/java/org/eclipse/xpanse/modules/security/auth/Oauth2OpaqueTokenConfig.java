@@ -6,11 +6,19 @@
 
 package org.eclipse.xpanse.modules.security.auth;
 
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.TOKEN_INTROSPECTION_CACHE_NAME;
+
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.security.auth.common.XpanseAuthentication;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -18,8 +26,11 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
 import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenIntrospector;
+import org.springframework.security.oauth2.server.resource.introspection.SpringOpaqueTokenIntrospector;
 
 /** Beans necessary to manage Oauth2 with OpaqueToken. */
+@Slf4j
 @Configuration
 @Profile("oauth")
 public class Oauth2OpaqueTokenConfig {
@@ -27,6 +38,21 @@ public class Oauth2OpaqueTokenConfig {
     @Value("${authorization.userid.key}")
     private String userIdKey;
 
+    @Value("${spring.security.oauth2.resourceserver.opaquetoken.introspection-uri}")
+    private String introspectionUri;
+
+    @Value("${spring.security.oauth2.resourceserver.opaquetoken.client-id}")
+    private String clientId;
+
+    @Value("${spring.security.oauth2.resourceserver.opaquetoken.client-secret}")
+    private String clientSecret;
+
+    @Value("${authorization.token.introspection.cache.max.ttl.in.seconds:300}")
+    private long introspectionCacheMaxTimeToLive;
+
+    @Value("${authorization.token.introspection.cache.inactive.ttl.in.seconds:10}")
+    private long introspectionCacheInactiveTimeToLive;
+
     /*
      * OpaqueTokenAuthenticationConverter must be exposed as a bean to be
      * picked by @WithOpaqueToken in tests.
@@ -37,8 +63,11 @@ public class Oauth2OpaqueTokenConfig {
             Converter<Map<String, Object>, Collection<GrantedAuthority>> authoritiesConverter) {
         return (String introspectedToken, OAuth2AuthenticatedPrincipal authenticatedPrincipal) -> {
             final var username = (String) authenticatedPrincipal.getAttributes().get(userIdKey);
-            final var authorities =
-                    authoritiesConverter.convert(authenticatedPrincipal.getAttributes());
+            // authorities of introspected tokens are already converted from the claims.
+            final Collection<? extends GrantedAuthority> authorities =
+                    authenticatedPrincipal instanceof IntrospectedTokenPrincipal
+                            ? authenticatedPrincipal.getAuthorities()
+                            : authoritiesConverter.convert(authenticatedPrincipal.getAttributes());
             return new XpanseAuthentication(
                     username,
                     authorities,
@@ -46,4 +75,35 @@ public class Oauth2OpaqueTokenConfig {
                     introspectedToken);
         };
     }
+
+    /**
+     * Introspector of the opaque tokens which caches the results of the authorization server.
+     *
+     * @param authoritiesConverter converter of the claims to the authorities.
+     * @param cacheManager cache manager.
+     * @param eventPublisher publisher of the token introspected events.
+     * @return opaqueTokenIntrospector
+     */
+    @Bean
+    @ConditionalOnProperty(name = "authorization.token.type", havingValue = "OpaqueToken")
+    OpaqueTokenIntrospector opaqueTokenIntrospector(
+            Converter<Map<String, Object>, Collection<GrantedAuthority>> authoritiesConverter,
+            CacheManager cacheManager,
+            ApplicationEventPublisher eventPublisher) {
+        Cache cache = null;
+        if (introspectionCacheMaxTimeToLive > 0) {
+            cache = cacheManager.getCache(TOKEN_INTROSPECTION_CACHE_NAME);
+        }
+        log.info(
+                "Introspect opaque tokens with cache enabled: {}, max time to live: {} seconds.",
+                Objects.nonNull(cache),
+                introspectionCacheMaxTimeToLive);
+        return new CachingOpaqueTokenIntrospector(
+                new SpringOpaqueTokenIntrospector(introspectionUri, clientId, clientSecret),
+                authoritiesConverter,
+                cache,
+                Duration.ofSeconds(introspectionCacheMaxTimeToLive),
+                Duration.ofSeconds(Math.max(0, introspectionCacheInactiveTimeToLive)),
+                eventPublisher);
+    }
 }
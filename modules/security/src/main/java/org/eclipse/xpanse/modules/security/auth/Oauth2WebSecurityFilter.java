@@ -24,7 +24,6 @@ import org.eclipse.xpanse.modules.models.response.ErrorType;
 import org.eclipse.xpanse.modules.models.response.OrderFailedErrorResponse;
 import org.eclipse.xpanse.modules.security.auth.common.XpanseAuthentication;
 import org.slf4j.MDC;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -39,7 +38,7 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenAuthenticationConverter;
-import org.springframework.security.oauth2.server.resource.introspection.SpringOpaqueTokenIntrospector;
+import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenIntrospector;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.header.writers.frameoptions.XFrameOptionsHeaderWriter;
 import org.springframework.security.web.servlet.util.matcher.MvcRequestMatcher;
@@ -59,20 +58,12 @@ public class Oauth2WebSecurityFilter {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    @Value("${spring.security.oauth2.resourceserver.opaquetoken.introspection-uri}")
-    private String introspectionUri;
-
-    @Value("${spring.security.oauth2.resourceserver.opaquetoken.client-id}")
-    private String clientId;
-
-    @Value("${spring.security.oauth2.resourceserver.opaquetoken.client-secret}")
-    private String clientSecret;
-
     private void configureHttpSecurity(
             HttpSecurity http,
             HandlerMappingIntrospector introspector,
             @Nullable Converter<Jwt, XpanseAuthentication> jwtAuthenticationConverter,
-            @Nullable OpaqueTokenAuthenticationConverter opaqueTokenAuthenticationConverter)
+            @Nullable OpaqueTokenAuthenticationConverter opaqueTokenAuthenticationConverter,
+            @Nullable OpaqueTokenIntrospector opaqueTokenIntrospector)
             throws Exception {
         // accept cors requests and allow preflight checks
         http.cors(
@@ -112,17 +103,14 @@ public class Oauth2WebSecurityFilter {
                                     printWriter.close();
                                 }));
 
-        if (Objects.nonNull(opaqueTokenAuthenticationConverter)) {
+        if (Objects.nonNull(opaqueTokenAuthenticationConverter)
+                && Objects.nonNull(opaqueTokenIntrospector)) {
             // Config custom OpaqueTokenIntrospect
             http.oauth2ResourceServer(
                     oauth2 ->
                             oauth2.opaqueToken(
                                     opaque ->
-                                            opaque.introspector(
-                                                            new SpringOpaqueTokenIntrospector(
-                                                                    introspectionUri,
-                                                                    clientId,
-                                                                    clientSecret))
+                                            opaque.introspector(opaqueTokenIntrospector)
                                                     .authenticationConverter(
                                                             opaqueTokenAuthenticationConverter)));
         }
@@ -180,14 +168,16 @@ public class Oauth2WebSecurityFilter {
                 HttpSecurity http,
                 HandlerMappingIntrospector introspector,
                 @Nullable Converter<Jwt, XpanseAuthentication> jwtAuthenticationConverter,
-                @Nullable OpaqueTokenAuthenticationConverter opaqueTokenAuthenticationConverter)
+                @Nullable OpaqueTokenAuthenticationConverter opaqueTokenAuthenticationConverter,
+                @Nullable OpaqueTokenIntrospector opaqueTokenIntrospector)
                 throws Exception {
             log.info("Enable web security without method authorization.");
             configureHttpSecurity(
                     http,
                     introspector,
                     jwtAuthenticationConverter,
-                    opaqueTokenAuthenticationConverter);
+                    opaqueTokenAuthenticationConverter,
+                    opaqueTokenIntrospector);
             return http.build();
         }
     }
@@ -208,14 +198,16 @@ public class Oauth2WebSecurityFilter {
                 HttpSecurity http,
                 HandlerMappingIntrospector introspector,
                 @Nullable Converter<Jwt, XpanseAuthentication> jwtAuthenticationConverter,
-                @Nullable OpaqueTokenAuthenticationConverter opaqueTokenAuthenticationConverter)
+                @Nullable OpaqueTokenAuthenticationConverter opaqueTokenAuthenticationConverter,
+                @Nullable OpaqueTokenIntrospector opaqueTokenIntrospector)
                 throws Exception {
             log.info("Enable web security with method authorization.");
             configureHttpSecurity(
                     http,
                     introspector,
                     jwtAuthenticationConverter,
-                    opaqueTokenAuthenticationConverter);
+                    opaqueTokenAuthenticationConverter,
+                    opaqueTokenIntrospector);
             return http.build();
         }
     }
@@ -13,14 +13,13 @@ import org.apache.commons.lang3.StringUtils;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.common.exceptions.UnsupportedEnumValueException;
 import org.eclipse.xpanse.modules.models.common.exceptions.UserNotLoggedInException;
-import org.eclipse.xpanse.modules.security.auth.common.CurrentUserInfo;
+import org.eclipse.xpanse.modules.security.auth.common.CurrentUserPrincipal;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.CollectionUtils;
 
 /** The service helper provider methods to get all info of the current user. */
 @Slf4j
@@ -50,10 +49,9 @@ public class UserServiceHelper {
         if (!roleProtectionIsEnabled) {
             return true;
         }
-        CurrentUserInfo currentUserInfo = getCurrentUserInfo();
-        return Objects.nonNull(currentUserInfo)
-                && !CollectionUtils.isEmpty(currentUserInfo.getRoles())
-                && currentUserInfo.getRoles().contains(role);
+        CurrentUserPrincipal currentUserPrincipal =
+                identityProviderManager.getCurrentUserPrincipal();
+        return Objects.nonNull(currentUserPrincipal) && currentUserPrincipal.hasRole(role);
     }
 
     /**
@@ -100,20 +98,21 @@ public class UserServiceHelper {
         if (!webSecurityIsEnabled) {
             return NO_AUTH_DEFAULT_USER_ID;
         }
-        return getCurrentUserInfo().getUserId();
+        return getCurrentUserPrincipal().userId();
     }
 
     /**
-     * Get id of current login user.
+     * Get the immutable view of the current login user. The view is resolved once per request.
      *
-     * @return current login user id.
+     * @return view of the current login user.
      */
-    private CurrentUserInfo getCurrentUserInfo() {
-        CurrentUserInfo currentUserInfo = identityProviderManager.getCurrentUserInfo();
-        if (Objects.isNull(currentUserInfo)) {
+    public CurrentUserPrincipal getCurrentUserPrincipal() {
+        CurrentUserPrincipal currentUserPrincipal =
+                identityProviderManager.getCurrentUserPrincipal();
+        if (Objects.isNull(currentUserPrincipal)) {
             throw new UserNotLoggedInException("Unable to get current login information");
         }
-        return currentUserInfo;
+        return currentUserPrincipal;
     }
 
     /** Get the service vendor managed by the current user . */
@@ -121,9 +120,9 @@ public class UserServiceHelper {
         if (!webSecurityIsEnabled) {
             return null;
         }
-        CurrentUserInfo userInfo = getCurrentUserInfo();
-        if (StringUtils.isNotBlank(userInfo.getIsv())) {
-            return userInfo.getIsv();
+        CurrentUserPrincipal userPrincipal = getCurrentUserPrincipal();
+        if (StringUtils.isNotBlank(userPrincipal.isv())) {
+            return userPrincipal.isv();
         }
         throw new AccessDeniedException("Current user's isv is null, please set it first.");
     }
@@ -146,13 +145,15 @@ public class UserServiceHelper {
         if (!webSecurityIsEnabled) {
             return null;
         }
-        CurrentUserInfo currentUserInfo = getCurrentUserInfo();
-        if (StringUtils.isNotBlank(currentUserInfo.getCsp())) {
+        CurrentUserPrincipal currentUserPrincipal = getCurrentUserPrincipal();
+        if (StringUtils.isNotBlank(currentUserPrincipal.csp())) {
             try {
-                return Csp.getByValue(currentUserInfo.getCsp());
+                return Csp.getByValue(currentUserPrincipal.csp());
             } catch (UnsupportedEnumValueException e) {
                 String errorMsg =
-                        "Unsupported csp value: " + currentUserInfo.getCsp() + " of current user.";
+                        "Unsupported csp value: "
+                                + currentUserPrincipal.csp()
+                                + " of current user.";
                 throw new AccessDeniedException(errorMsg);
             }
         }
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.security.auth.common;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable view of the current user. The view is resolved once from the claims of the
+ * authentication of the request and is shared by all checks of the request.
+ *
+ * @param userId id of the user.
+ * @param userName name of the user.
+ * @param roles roles granted to the user.
+ * @param metadata decoded metadata of the user.
+ * @param isv service vendor managed by the user.
+ * @param csp cloud service provider managed by the user.
+ * @param token token of the request.
+ */
+public record CurrentUserPrincipal(
+        String userId,
+        String userName,
+        Set<String> roles,
+        Map<String, String> metadata,
+        String isv,
+        String csp,
+        String token) {
+
+    /** Constructor for CurrentUserPrincipal with unmodifiable copies of the roles and metadata. */
+    public CurrentUserPrincipal {
+        roles = Objects.isNull(roles) ? Set.of() : Set.copyOf(roles);
+        metadata = Objects.isNull(metadata) ? Map.of() : Map.copyOf(metadata);
+    }
+
+    /**
+     * Create the view of the user info.
+     *
+     * @param currentUserInfo user info resolved by the identity provider.
+     * @return view of the user, null if no user is logged in.
+     */
+    public static CurrentUserPrincipal of(CurrentUserInfo currentUserInfo) {
+        if (Objects.isNull(currentUserInfo)) {
+            return null;
+        }
+        return new CurrentUserPrincipal(
+                currentUserInfo.getUserId(),
+                currentUserInfo.getUserName(),
+                Objects.isNull(currentUserInfo.getRoles())
+                        ? null
+                        : Set.copyOf(currentUserInfo.getRoles()),
+                currentUserInfo.getMetadata(),
+                currentUserInfo.getIsv(),
+                currentUserInfo.getCsp(),
+                currentUserInfo.getToken());
+    }
+
+    /**
+     * Check if the user has the role.
+     *
+     * @param role the role.
+     * @return true if the user has the role.
+     */
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+
+    @Override
+    public String toString() {
+        // the token must not be written to the logs.
+        return "CurrentUserPrincipal(userId="
+                + userId
+                + ", userName="
+                + userName
+                + ", roles="
+                + roles
+                + ", isv="
+                + isv
+                + ", csp="
+                + csp
+                + ")";
+    }
+}
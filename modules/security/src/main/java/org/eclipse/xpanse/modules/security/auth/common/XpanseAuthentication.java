@@ -11,6 +11,8 @@ import java.security.Principal;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 import lombok.Getter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
@@ -25,6 +27,7 @@ public class XpanseAuthentication extends AbstractAuthenticationToken {
     @Getter private final Map<String, Object> claims;
     private final Principal principal;
     @Getter private final String token;
+    private transient volatile CurrentUserPrincipal currentUserPrincipal;
 
     /**
      * Constructor to create Xpanse Authentication objects.
@@ -55,4 +58,20 @@ public class XpanseAuthentication extends AbstractAuthenticationToken {
     public Principal getPrincipal() {
         return principal;
     }
+
+    /**
+     * Get the view of the current user of this authentication. The view is resolved at the first
+     * call, later calls of the same request return the same view.
+     *
+     * @param resolver resolves the view from the claims.
+     * @return view of the current user.
+     */
+    public CurrentUserPrincipal getCurrentUserPrincipal(Supplier<CurrentUserPrincipal> resolver) {
+        CurrentUserPrincipal userPrincipal = this.currentUserPrincipal;
+        if (Objects.isNull(userPrincipal)) {
+            userPrincipal = resolver.get();
+            this.currentUserPrincipal = userPrincipal;
+        }
+        return userPrincipal;
+    }
 }
@@ -6,7 +6,6 @@
 
 package org.eclipse.xpanse.modules.security.auth.zitadel;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.Resource;
 import java.nio.charset.StandardCharsets;
@@ -19,7 +18,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.eclipse.xpanse.modules.models.security.TokenResponse;
 import org.eclipse.xpanse.modules.models.system.BackendSystemStatus;
 import org.eclipse.xpanse.modules.models.system.enums.BackendSystemType;
@@ -164,27 +162,11 @@ public class ZitadelIdentityProviderService implements IdentityProviderService {
             currentUserInfo.setRoles(roles);
 
             if (claimsMap.containsKey(metadataKey)) {
-                Object metadataObject = claimsMap.get(metadataKey);
-                if (Objects.nonNull(metadataObject)) {
-                    Map<String, String> metadataMap =
-                            OBJECT_MAPPER.convertValue(metadataObject, new TypeReference<>() {});
-                    if (!metadataMap.isEmpty()) {
-                        Map<String, String> userMetadata = new HashMap<>();
-                        for (String key : metadataMap.keySet()) {
-                            String value =
-                                    new String(
-                                            Base64.getDecoder().decode(metadataMap.get(key)),
-                                            StandardCharsets.UTF_8);
-                            userMetadata.put(key, value);
-                            if (StringUtils.equals(isvKey, key)) {
-                                currentUserInfo.setIsv(value);
-                            }
-                            if (StringUtils.equals(cspKey, key)) {
-                                currentUserInfo.setCsp(value);
-                            }
-                        }
-                        currentUserInfo.setMetadata(userMetadata);
-                    }
+                Map<String, String> userMetadata = decodeMetadata(claimsMap.get(metadataKey));
+                if (!userMetadata.isEmpty()) {
+                    currentUserInfo.setIsv(userMetadata.get(isvKey));
+                    currentUserInfo.setCsp(userMetadata.get(cspKey));
+                    currentUserInfo.setMetadata(userMetadata);
                 }
             }
             currentUserInfo.setToken(authentication.getToken());
@@ -193,6 +175,33 @@ public class ZitadelIdentityProviderService implements IdentityProviderService {
         return null;
     }
 
+    /**
+     * Decode the Base64 encoded values of the metadata claim. The claim is read directly when it is
+     * a map already, other representations are converted with the object mapper first.
+     *
+     * @param metadataObject metadata claim.
+     * @return decoded metadata.
+     */
+    static Map<String, String> decodeMetadata(Object metadataObject) {
+        if (Objects.isNull(metadataObject)) {
+            return new HashMap<>();
+        }
+        Map<?, ?> metadataMap =
+                metadataObject instanceof Map<?, ?> map
+                        ? map
+                        : OBJECT_MAPPER.convertValue(metadataObject, Map.class);
+        Base64.Decoder decoder = Base64.getDecoder();
+        Map<String, String> userMetadata = HashMap.newHashMap(metadataMap.size());
+        for (Map.Entry<?, ?> entry : metadataMap.entrySet()) {
+            userMetadata.put(
+                    String.valueOf(entry.getKey()),
+                    new String(
+                            decoder.decode(String.valueOf(entry.getValue())),
+                            StandardCharsets.UTF_8));
+        }
+        return userMetadata;
+    }
+
     @Override
     public String getAuthorizeUrl() {
         StringBuilder stringBuilder = new StringBuilder();
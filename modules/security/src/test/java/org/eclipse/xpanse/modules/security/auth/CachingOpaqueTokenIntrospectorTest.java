@@ -0,0 +1,114 @@
+package org.eclipse.xpanse.modules.security.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.xpanse.modules.models.security.IntrospectedToken;
+import org.eclipse.xpanse.modules.models.security.TokenIntrospectedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.server.resource.introspection.BadOpaqueTokenException;
+import org.springframework.security.oauth2.server.resource.introspection.OAuth2IntrospectionAuthenticatedPrincipal;
+import org.springframework.security.oauth2.server.resource.introspection.OAuth2IntrospectionException;
+import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenIntrospector;
+
+@ExtendWith(MockitoExtension.class)
+class CachingOpaqueTokenIntrospectorTest {
+
+    private static final String TOKEN = "opaque-token";
+    private final ConcurrentMapCache cache = new ConcurrentMapCache("test");
+    @Mock private OpaqueTokenIntrospector mockDelegate;
+
+    @Mock
+    private Converter<Map<String, Object>, Collection<GrantedAuthority>> mockAuthoritiesConverter;
+
+    @Mock private ApplicationEventPublisher mockEventPublisher;
+    private CachingOpaqueTokenIntrospector introspectorUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        introspectorUnderTest =
+                new CachingOpaqueTokenIntrospector(
+                        mockDelegate,
+                        mockAuthoritiesConverter,
+                        cache,
+                        Duration.ofMinutes(5),
+                        Duration.ofSeconds(10),
+                        mockEventPublisher);
+    }
+
+    @Test
+    void testIntrospectActiveTokenIsCachedByTokenHash() {
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        Map<String, Object> claims = Map.of("sub", "userId", "exp", expiresAt);
+        when(mockDelegate.introspect(TOKEN))
+                .thenReturn(new OAuth2IntrospectionAuthenticatedPrincipal(claims, List.of()));
+        when(mockAuthoritiesConverter.convert(claims))
+                .thenReturn(List.of(new SimpleGrantedAuthority("admin")));
+
+        OAuth2AuthenticatedPrincipal first = introspectorUnderTest.introspect(TOKEN);
+        OAuth2AuthenticatedPrincipal second = introspectorUnderTest.introspect(TOKEN);
+
+        assertEquals("userId", first.getName());
+        assertEquals(List.of(new SimpleGrantedAuthority("admin")), second.getAuthorities());
+        assertEquals(claims, second.getAttributes());
+        verify(mockDelegate, times(1)).introspect(TOKEN);
+        verify(mockAuthoritiesConverter, times(1)).convert(any());
+        verify(mockEventPublisher, times(1)).publishEvent(any(TokenIntrospectedEvent.class));
+        // the token itself is not stored, and the entry expires with the token.
+        IntrospectedToken cached =
+                (IntrospectedToken) cache.get(DigestUtils.sha256Hex(TOKEN)).get();
+        assertTrue(cached.isActive());
+        assertEquals(expiresAt, cached.getExpiresAt());
+        assertFalse(cache.getNativeCache().containsKey(TOKEN));
+    }
+
+    @Test
+    void testIntrospectInactiveTokenIsCached() {
+        when(mockDelegate.introspect(TOKEN)).thenThrow(new BadOpaqueTokenException("inactive"));
+
+        assertThrows(BadOpaqueTokenException.class, () -> introspectorUnderTest.introspect(TOKEN));
+        assertThrows(BadOpaqueTokenException.class, () -> introspectorUnderTest.introspect(TOKEN));
+
+        verify(mockDelegate, times(1)).introspect(TOKEN);
+        IntrospectedToken cached =
+                (IntrospectedToken) cache.get(DigestUtils.sha256Hex(TOKEN)).get();
+        assertFalse(cached.isActive());
+        assertTrue(cached.getExpiresAt().isBefore(Instant.now().plusSeconds(11)));
+    }
+
+    @Test
+    void testIntrospectionErrorIsNotCached() {
+        when(mockDelegate.introspect(TOKEN))
+                .thenThrow(new OAuth2IntrospectionException("server not available"));
+
+        assertThrows(
+                OAuth2IntrospectionException.class, () -> introspectorUnderTest.introspect(TOKEN));
+        assertThrows(
+                OAuth2IntrospectionException.class, () -> introspectorUnderTest.introspect(TOKEN));
+
+        verify(mockDelegate, times(2)).introspect(TOKEN);
+        assertTrue(cache.getNativeCache().isEmpty());
+    }
+}
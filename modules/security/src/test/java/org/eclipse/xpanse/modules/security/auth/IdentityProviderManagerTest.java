@@ -1,18 +1,24 @@
 package org.eclipse.xpanse.modules.security.auth;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Map;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.security.auth.common.CurrentUserInfo;
+import org.eclipse.xpanse.modules.security.auth.common.CurrentUserPrincipal;
+import org.eclipse.xpanse.modules.security.auth.common.XpanseAuthentication;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationContext;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -62,6 +68,33 @@ class IdentityProviderManagerTest {
         assertThat(result).isEqualTo(expectedResult);
     }
 
+    @Test
+    void testGetCurrentUserPrincipalIsResolvedOncePerAuthentication() {
+        when(mockActiveIdentityProviderService.getCurrentUserInfo())
+                .thenReturn(getMockCurrentUserInfo());
+        SecurityContextHolder.getContext()
+                .setAuthentication(
+                        new XpanseAuthentication(
+                                "userId",
+                                List.of(new SimpleGrantedAuthority("admin")),
+                                Map.of("sub", "userId"),
+                                "token"));
+        try {
+            final CurrentUserPrincipal first =
+                    identityProviderManagerUnderTest.getCurrentUserPrincipal();
+            final CurrentUserPrincipal second =
+                    identityProviderManagerUnderTest.getCurrentUserPrincipal();
+
+            assertThat(first).isSameAs(second);
+            assertThat(first.userId()).isEqualTo("userId");
+            assertThat(first.hasRole("isv")).isTrue();
+            assertThat(first.csp()).isEqualTo(Csp.HUAWEI_CLOUD.toValue());
+            verify(mockActiveIdentityProviderService, times(1)).getCurrentUserInfo();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
     @Test
     void testGetActiveIdentityProviderService() {
         assertThat(identityProviderManagerUnderTest.getActiveIdentityProviderService())
@@ -9,6 +9,7 @@ import java.util.Map;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.common.exceptions.UserNotLoggedInException;
 import org.eclipse.xpanse.modules.security.auth.common.CurrentUserInfo;
+import org.eclipse.xpanse.modules.security.auth.common.CurrentUserPrincipal;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -64,7 +65,8 @@ class UserServiceHelperTest {
         final CurrentUserInfo currentUserInfo = new CurrentUserInfo();
         currentUserInfo.setUserId("userId");
         currentUserInfo.setRoles(List.of("user"));
-        when(mockIdentityProviderManager.getCurrentUserInfo()).thenReturn(currentUserInfo);
+        when(mockIdentityProviderManager.getCurrentUserPrincipal())
+                .thenReturn(CurrentUserPrincipal.of(currentUserInfo));
         // Run the test
         final boolean result2 = userServiceHelperUnderTest.currentUserHasRole("user");
         // Verify the results
@@ -77,7 +79,8 @@ class UserServiceHelperTest {
 
     @Test
     void testCurrentUserIsOwner() {
-        when(mockIdentityProviderManager.getCurrentUserInfo()).thenReturn(getMockCurrentUserInfo());
+        when(mockIdentityProviderManager.getCurrentUserPrincipal())
+                .thenReturn(CurrentUserPrincipal.of(getMockCurrentUserInfo()));
         // Setup without auth
         setUpSecurityConfig(false, true);
         // Run the test
@@ -99,7 +102,7 @@ class UserServiceHelperTest {
 
     @Test
     void testCurrentUserIsOwner_IdentityProviderManagerReturnsAbsent() {
-        when(mockIdentityProviderManager.getCurrentUserInfo()).thenReturn(null);
+        when(mockIdentityProviderManager.getCurrentUserPrincipal()).thenReturn(null);
         // Setup without auth
         setUpSecurityConfig(false, true);
         // Run the test
@@ -134,7 +137,8 @@ class UserServiceHelperTest {
 
         // Setup
         setUpSecurityConfig(true, true);
-        when(mockIdentityProviderManager.getCurrentUserInfo()).thenReturn(getMockCurrentUserInfo());
+        when(mockIdentityProviderManager.getCurrentUserPrincipal())
+                .thenReturn(CurrentUserPrincipal.of(getMockCurrentUserInfo()));
         // Run the test
         final boolean result2 = userServiceHelperUnderTest.currentUserCanManageIsv(isv);
         // Verify the results
@@ -147,7 +151,7 @@ class UserServiceHelperTest {
 
     @Test
     void testCurrentUserCanManageIsv_IdentityProviderManagerReturnsAbsent() {
-        when(mockIdentityProviderManager.getCurrentUserInfo()).thenReturn(null);
+        when(mockIdentityProviderManager.getCurrentUserPrincipal()).thenReturn(null);
         // Setup without auth
         setUpSecurityConfig(false, true);
         // Run the test
@@ -168,7 +172,8 @@ class UserServiceHelperTest {
 
     @Test
     void testCurrentUserCanManageCsp() {
-        when(mockIdentityProviderManager.getCurrentUserInfo()).thenReturn(getMockCurrentUserInfo());
+        when(mockIdentityProviderManager.getCurrentUserPrincipal())
+                .thenReturn(CurrentUserPrincipal.of(getMockCurrentUserInfo()));
         // Setup without auth
         setUpSecurityConfig(false, true);
         // Run the test
@@ -197,7 +202,7 @@ class UserServiceHelperTest {
 
     @Test
     void testCurrentUserCanManageCsp_IdentityProviderManagerReturnsAbsent() {
-        when(mockIdentityProviderManager.getCurrentUserInfo()).thenReturn(null);
+        when(mockIdentityProviderManager.getCurrentUserPrincipal()).thenReturn(null);
         // Setup without auth
         setUpSecurityConfig(false, true);
         // Run the test
@@ -220,7 +225,8 @@ class UserServiceHelperTest {
 
     @Test
     void testGetCurrentUserId() {
-        when(mockIdentityProviderManager.getCurrentUserInfo()).thenReturn(getMockCurrentUserInfo());
+        when(mockIdentityProviderManager.getCurrentUserPrincipal())
+                .thenReturn(CurrentUserPrincipal.of(getMockCurrentUserInfo()));
         // Setup without auth
         setUpSecurityConfig(false, true);
         // Run the test
@@ -241,7 +247,7 @@ class UserServiceHelperTest {
     @Test
     void testGetCurrentUserId_IdentityProviderManagerReturnsAbsent() {
         // Setup
-        when(mockIdentityProviderManager.getCurrentUserInfo()).thenReturn(null);
+        when(mockIdentityProviderManager.getCurrentUserPrincipal()).thenReturn(null);
         // Setup without auth
         setUpSecurityConfig(false, true);
         // Run the test
@@ -259,7 +265,8 @@ class UserServiceHelperTest {
 
     @Test
     void testGetIsvManagedByCurrentUser() {
-        when(mockIdentityProviderManager.getCurrentUserInfo()).thenReturn(getMockCurrentUserInfo());
+        when(mockIdentityProviderManager.getCurrentUserPrincipal())
+                .thenReturn(CurrentUserPrincipal.of(getMockCurrentUserInfo()));
         // Setup without auth
         setUpSecurityConfig(false, true);
         // Run the test
@@ -279,7 +286,7 @@ class UserServiceHelperTest {
     @Test
     void testGetIsvManagedByCurrentUser_IdentityProviderManagerReturnsAbsent() {
         // Setup
-        when(mockIdentityProviderManager.getCurrentUserInfo()).thenReturn(null);
+        when(mockIdentityProviderManager.getCurrentUserPrincipal()).thenReturn(null);
 
         // Setup without auth
         setUpSecurityConfig(false, true);
@@ -298,7 +305,8 @@ class UserServiceHelperTest {
     @Test
     void testGetCspManagedByCurrentUser() {
         Csp csp = Csp.HUAWEI_CLOUD;
-        when(mockIdentityProviderManager.getCurrentUserInfo()).thenReturn(getMockCurrentUserInfo());
+        when(mockIdentityProviderManager.getCurrentUserPrincipal())
+                .thenReturn(CurrentUserPrincipal.of(getMockCurrentUserInfo()));
         // Setup without auth
         setUpSecurityConfig(false, true);
         // Run the test
@@ -318,7 +326,7 @@ class UserServiceHelperTest {
     @Test
     void testGetCspManagedByCurrentUser_IdentityProviderManagerReturnsAbsent() {
         // Setup
-        when(mockIdentityProviderManager.getCurrentUserInfo()).thenReturn(null);
+        when(mockIdentityProviderManager.getCurrentUserPrincipal()).thenReturn(null);
 
         // Setup without auth
         setUpSecurityConfig(false, true);
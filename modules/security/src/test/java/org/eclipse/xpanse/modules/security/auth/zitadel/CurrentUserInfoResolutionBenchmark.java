@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.security.auth.zitadel;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.modules.security.auth.IdentityProviderManager;
+import org.eclipse.xpanse.modules.security.auth.common.CurrentUserInfo;
+import org.eclipse.xpanse.modules.security.auth.common.CurrentUserPrincipal;
+import org.eclipse.xpanse.modules.security.auth.common.XpanseAuthentication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Compares the resolution of the current user from the claims with the view resolved once per
+ * authentication, and the decoding of the metadata claim with and without the object mapper. Run
+ * with the main method from the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrentUserInfoResolutionBenchmark {
+
+    private static final String METADATA_KEY = "urn:zitadel:iam:user:metadata";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Param({"2", "20"})
+    private int metadataEntries;
+
+    private final ZitadelIdentityProviderService identityProviderService =
+            new ZitadelIdentityProviderService();
+    private final IdentityProviderManager identityProviderManager = new IdentityProviderManager();
+    private Map<String, Object> claims;
+
+    /** Run the benchmark. */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(CurrentUserInfoResolutionBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+
+    /** Create the claims of a user with metadata and set the authentication of the thread. */
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.setField(identityProviderService, "userIdKey", "sub");
+        ReflectionTestUtils.setField(identityProviderService, "usernameKey", "name");
+        ReflectionTestUtils.setField(identityProviderService, "metadataKey", METADATA_KEY);
+        ReflectionTestUtils.setField(identityProviderService, "isvKey", "isv");
+        ReflectionTestUtils.setField(identityProviderService, "cspKey", "csp");
+        ReflectionTestUtils.setField(
+                identityProviderManager, "activeIdentityProviderService", identityProviderService);
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("isv", encode("ISV-A"));
+        metadata.put("csp", encode("HuaweiCloud"));
+        for (int i = 2; i < metadataEntries; i++) {
+            metadata.put("key-" + i, encode("value-" + i));
+        }
+        claims = new HashMap<>();
+        claims.put("sub", "userId");
+        claims.put("name", "userName");
+        claims.put(METADATA_KEY, metadata);
+        SecurityContextHolder.getContext()
+                .setAuthentication(
+                        new XpanseAuthentication(
+                                "userId",
+                                List.of(
+                                        new SimpleGrantedAuthority("user"),
+                                        new SimpleGrantedAuthority("isv")),
+                                claims,
+                                "token"));
+    }
+
+    /** Clear the authentication of the thread. */
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /** Resolve the user from the claims, as done before by every permission check. */
+    @Benchmark
+    public CurrentUserInfo resolveFromClaims() {
+        return identityProviderService.getCurrentUserInfo();
+    }
+
+    /** Get the view which is resolved once per authentication. */
+    @Benchmark
+    public CurrentUserPrincipal resolveOncePerAuthentication() {
+        return identityProviderManager.getCurrentUserPrincipal();
+    }
+
+    /** Decode the metadata claim after converting it with the object mapper. */
+    @Benchmark
+    public Map<String, String> decodeMetadataWithObjectMapper() {
+        Map<String, String> metadataMap =
+                OBJECT_MAPPER.convertValue(claims.get(METADATA_KEY), new TypeReference<>() {});
+        Map<String, String> userMetadata = new HashMap<>();
+        for (Map.Entry<String, String> entry : metadataMap.entrySet()) {
+            userMetadata.put(
+                    entry.getKey(),
+                    new String(
+                            Base64.getDecoder().decode(entry.getValue()), StandardCharsets.UTF_8));
+        }
+        return userMetadata;
+    }
+
+    /** Decode the metadata claim directly. */
+    @Benchmark
+    public Map<String, String> decodeMetadata() {
+        return ZitadelIdentityProviderService.decodeMetadata(claims.get(METADATA_KEY));
+    }
+
+    private static String encode(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
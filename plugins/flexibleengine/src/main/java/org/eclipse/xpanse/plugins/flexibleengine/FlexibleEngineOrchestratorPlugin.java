@@ -41,7 +41,9 @@ import org.eclipse.xpanse.modules.orchestrator.deployment.DeployResourceHandler;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.price.ServiceFlavorPriceRequest;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageBatches;
 import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRequest;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageResult;
 import org.eclipse.xpanse.plugins.flexibleengine.common.FlexibleEngineConstants;
 import org.eclipse.xpanse.plugins.flexibleengine.manage.FlexibleEngineResourceManager;
 import org.eclipse.xpanse.plugins.flexibleengine.manage.FlexibleEngineVmStateManager;
@@ -88,7 +90,7 @@ public class FlexibleEngineOrchestratorPlugin implements OrchestratorPlugin {
     }
 
     @Override
-    @Cacheable(cacheNames = REGION_AZS_CACHE_NAME)
+    @Cacheable(cacheNames = REGION_AZS_CACHE_NAME, sync = true)
     public List<String> getAvailabilityZonesOfRegion(
             String site, String region, String userId, UUID serviceId, UUID serviceTemplateId) {
         return resourceManager.getAvailabilityZonesOfRegion(site, region, userId);
@@ -242,6 +244,11 @@ public class FlexibleEngineOrchestratorPlugin implements OrchestratorPlugin {
         return metricsService.getMetricsByService(serviceMetricRequest);
     }
 
+    @Override
+    public boolean supportsBatchedServiceMetrics() {
+        return true;
+    }
+
     @Override
     public boolean startService(ServiceStateManageRequest serviceStateManageRequest) {
         return vmStateManager.startService(serviceStateManageRequest);
@@ -257,13 +264,34 @@ public class FlexibleEngineOrchestratorPlugin implements OrchestratorPlugin {
         return vmStateManager.restartService(serviceStateManageRequest);
     }
 
+    @Override
+    public List<ServiceStateManageResult> startServices(
+            List<ServiceStateManageRequest> serviceStateManageRequests) {
+        return ServiceStateManageBatches.executeMerged(
+                serviceStateManageRequests, vmStateManager::startService);
+    }
+
+    @Override
+    public List<ServiceStateManageResult> stopServices(
+            List<ServiceStateManageRequest> serviceStateManageRequests) {
+        return ServiceStateManageBatches.executeMerged(
+                serviceStateManageRequests, vmStateManager::stopService);
+    }
+
+    @Override
+    public List<ServiceStateManageResult> restartServices(
+            List<ServiceStateManageRequest> serviceStateManageRequests) {
+        return ServiceStateManageBatches.executeMerged(
+                serviceStateManageRequests, vmStateManager::restartService);
+    }
+
     @Override
     public void auditApiRequest(AuditLog auditLog) {
         log.info(auditLog.toString());
     }
 
     @Override
-    @Cacheable(cacheNames = SERVICE_FLAVOR_PRICE_CACHE_NAME, key = "#request")
+    @Cacheable(cacheNames = SERVICE_FLAVOR_PRICE_CACHE_NAME, key = "#request", sync = true)
     public FlavorPriceResult getServiceFlavorPrice(ServiceFlavorPriceRequest request) {
         return pricingCalculator.getServiceFlavorPrice(request);
     }
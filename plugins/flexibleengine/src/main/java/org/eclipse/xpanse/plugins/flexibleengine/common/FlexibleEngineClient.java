@@ -31,15 +31,22 @@ import com.huaweicloud.sdk.vpc.v2.VpcClient;
 import jakarta.annotation.Resource;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.cache.sdkclient.CloudSdkClientCache;
+import org.eclipse.xpanse.modules.cache.sdkclient.CloudSdkClientKey;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.common.exceptions.ClientApiCallFailedException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-/** FlexibleEngine Service Client. */
+/**
+ * FlexibleEngine Service Client. The clients and the project ids of the regions are reused for the
+ * same credential and region.
+ */
 @Slf4j
 @Component
 public class FlexibleEngineClient extends FlexibleEngineCredentials {
@@ -48,6 +55,7 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
     private boolean sdkHttpDebugLogsEnabled;
 
     @Resource private FlexibleEngineRetryStrategy flexibleEngineRetryStrategy;
+    @Resource private CloudSdkClientCache cloudSdkClientCache;
 
     /**
      * Get client for service ECS.
@@ -57,8 +65,12 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service ECS.
      */
     public EcsClient getEcsClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, ECS_ENDPOINT_PREFIX, regionName);
-        return new EcsClient(hcClient);
+        return getCachedClient(
+                credential,
+                regionName,
+                "ecs",
+                EcsClient.class,
+                () -> new EcsClient(getHcClient(credential, ECS_ENDPOINT_PREFIX, regionName)));
     }
 
     /**
@@ -69,8 +81,12 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service CES.
      */
     public CesClient getCesClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, CES_ENDPOINT_PREFIX, regionName);
-        return new CesClient(hcClient);
+        return getCachedClient(
+                credential,
+                regionName,
+                "ces",
+                CesClient.class,
+                () -> new CesClient(getHcClient(credential, CES_ENDPOINT_PREFIX, regionName)));
     }
 
     /**
@@ -81,8 +97,12 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service VPC.
      */
     public VpcClient getVpcClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, VPC_ENDPOINT_PREFIX, regionName);
-        return new VpcClient(hcClient);
+        return getCachedClient(
+                credential,
+                regionName,
+                "vpc",
+                VpcClient.class,
+                () -> new VpcClient(getHcClient(credential, VPC_ENDPOINT_PREFIX, regionName)));
     }
 
     /**
@@ -93,8 +113,12 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service EIP.
      */
     public EipClient getEipClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, EIP_ENDPOINT_PREFIX, regionName);
-        return new EipClient(hcClient);
+        return getCachedClient(
+                credential,
+                regionName,
+                "eip",
+                EipClient.class,
+                () -> new EipClient(getHcClient(credential, EIP_ENDPOINT_PREFIX, regionName)));
     }
 
     /**
@@ -105,8 +129,12 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service EVS.
      */
     public EvsClient getEvsClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, EVS_ENDPOINT_PREFIX, regionName);
-        return new EvsClient(hcClient);
+        return getCachedClient(
+                credential,
+                regionName,
+                "evs",
+                EvsClient.class,
+                () -> new EvsClient(getHcClient(credential, EVS_ENDPOINT_PREFIX, regionName)));
     }
 
     private HcClient getHcClient(ICredential credential, String servicePrefix, String regionName) {
@@ -117,7 +145,43 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
         return hcClient;
     }
 
+    private <T> T getCachedClient(
+            ICredential credential,
+            String regionName,
+            String service,
+            Class<T> clientType,
+            Supplier<T> clientCreator) {
+        CloudSdkClientKey key =
+                new CloudSdkClientKey(
+                        Csp.FLEXIBLE_ENGINE,
+                        getCredentialFingerprint(credential),
+                        regionName,
+                        service);
+        return cloudSdkClientCache.getClient(key, clientType, clientCreator);
+    }
+
+    private String getCredentialFingerprint(ICredential credential) {
+        if (credential instanceof BasicCredentials basicCredentials) {
+            return CloudSdkClientCache.fingerprint(
+                    basicCredentials.getAk(),
+                    basicCredentials.getSk(),
+                    basicCredentials.getProjectId());
+        }
+        // other credentials are not cached.
+        return null;
+    }
+
     private ICredential getCredentialWithProjectId(ICredential credential, String regionName) {
+        // the project id of the region is looked up once for all services.
+        return getCachedClient(
+                credential,
+                regionName,
+                "iam-project",
+                ICredential.class,
+                () -> createCredentialWithProjectId(credential, regionName));
+    }
+
+    private ICredential createCredentialWithProjectId(ICredential credential, String regionName) {
         String projectId = getProjectId(credential, regionName);
         if (Objects.nonNull(credential)
                 && StringUtils.isNotBlank(projectId)
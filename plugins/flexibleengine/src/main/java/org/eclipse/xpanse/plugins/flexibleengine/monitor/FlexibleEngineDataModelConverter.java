@@ -31,6 +31,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.cache.monitor.MetricDescriptor;
 import org.eclipse.xpanse.modules.models.monitor.Metric;
 import org.eclipse.xpanse.modules.models.monitor.MetricItem;
 import org.eclipse.xpanse.modules.models.monitor.enums.MetricItemType;
@@ -85,6 +87,51 @@ public class FlexibleEngineDataModelConverter {
                 .withDim0(FlexibleEngineMonitorConstants.DIM0_PREFIX + resourceId);
     }
 
+    /** Build ListMetricsRequest to list a page of the metrics in the namespace. */
+    public ListMetricsRequest buildListMetricsRequest(String namespace, String start, int limit) {
+        ListMetricsRequest request =
+                new ListMetricsRequest().withNamespace(namespace).withLimit(limit);
+        if (StringUtils.isNotBlank(start)) {
+            request.withStart(start);
+        }
+        return request;
+    }
+
+    /** Convert MetricInfoList to the descriptor stored in the metric catalog. */
+    public MetricDescriptor convertMetricInfoListToMetricDescriptor(MetricInfoList metricInfoList) {
+        List<MetricDescriptor.Dimension> dimensions = new ArrayList<>();
+        if (Objects.nonNull(metricInfoList.getDimensions())) {
+            for (MetricsDimension dimension : metricInfoList.getDimensions()) {
+                dimensions.add(
+                        new MetricDescriptor.Dimension(dimension.getName(), dimension.getValue()));
+            }
+        }
+        return new MetricDescriptor(
+                metricInfoList.getNamespace(),
+                metricInfoList.getMetricName(),
+                metricInfoList.getUnit(),
+                dimensions);
+    }
+
+    /** Convert the descriptor stored in the metric catalog to MetricInfoList. */
+    public MetricInfoList convertMetricDescriptorToMetricInfoList(
+            MetricDescriptor metricDescriptor) {
+        List<MetricsDimension> dimensions = new ArrayList<>();
+        if (Objects.nonNull(metricDescriptor.dimensions())) {
+            for (MetricDescriptor.Dimension dimension : metricDescriptor.dimensions()) {
+                dimensions.add(
+                        new MetricsDimension()
+                                .withName(dimension.name())
+                                .withValue(dimension.value()));
+            }
+        }
+        return new MetricInfoList()
+                .withNamespace(metricDescriptor.namespace())
+                .withMetricName(metricDescriptor.metricName())
+                .withUnit(metricDescriptor.unit())
+                .withDimensions(dimensions);
+    }
+
     /** Build ShowMetricDataRequest for FlexibleEngine Monitor client. */
     public ShowMetricDataRequest buildShowMetricDataRequest(
             ResourceMetricsRequest resourceMetricRequest, MetricInfoList metricInfoList) {
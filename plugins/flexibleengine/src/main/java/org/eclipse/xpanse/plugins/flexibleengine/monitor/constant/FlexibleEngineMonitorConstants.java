@@ -12,6 +12,8 @@ import org.eclipse.xpanse.plugins.flexibleengine.common.FlexibleEngineConstants;
 public class FlexibleEngineMonitorConstants extends FlexibleEngineConstants {
 
     public static final String DIM0_PREFIX = "instance_id,";
+    public static final int LIST_METRICS_PAGE_LIMIT = 1000;
+    public static final int LIST_METRICS_MAX_PAGES = 10;
     public static final String METRIC_PATH = "metric-data";
     public static final String BATCH_METRIC_PATH = "batch-query-metric-data";
     public static final String LIST_METRICS_PATH = "metrics";
@@ -6,6 +6,7 @@ import com.huaweicloud.sdk.core.auth.ICredential;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.eclipse.xpanse.modules.cache.sdkclient.CloudSdkClientCache;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
 import org.eclipse.xpanse.modules.models.credential.CredentialVariable;
@@ -16,6 +17,7 @@ import org.eclipse.xpanse.plugins.flexibleengine.monitor.constant.FlexibleEngine
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 class FlexibleEngineClientTest {
 
@@ -24,6 +26,8 @@ class FlexibleEngineClientTest {
     @BeforeEach
     void setUp() {
         testClient = new FlexibleEngineClient();
+        ReflectionTestUtils.setField(
+                testClient, "cloudSdkClientCache", new CloudSdkClientCache(10, 30, 60));
     }
 
     @Test
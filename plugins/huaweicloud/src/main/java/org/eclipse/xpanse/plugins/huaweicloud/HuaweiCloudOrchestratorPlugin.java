@@ -38,7 +38,9 @@ import org.eclipse.xpanse.modules.orchestrator.deployment.DeployResourceHandler;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.price.ServiceFlavorPriceRequest;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageBatches;
 import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRequest;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageResult;
 import org.eclipse.xpanse.plugins.huaweicloud.common.HuaweiCloudConstants;
 import org.eclipse.xpanse.plugins.huaweicloud.manage.HuaweiCloudResourceManager;
 import org.eclipse.xpanse.plugins.huaweicloud.manage.HuaweiCloudVmStateManager;
@@ -80,7 +82,7 @@ public class HuaweiCloudOrchestratorPlugin implements OrchestratorPlugin {
     }
 
     @Override
-    @Cacheable(cacheNames = REGION_AZS_CACHE_NAME)
+    @Cacheable(cacheNames = REGION_AZS_CACHE_NAME, sync = true)
     public List<String> getAvailabilityZonesOfRegion(
             String siteName,
             String regionName,
@@ -221,6 +223,11 @@ public class HuaweiCloudOrchestratorPlugin implements OrchestratorPlugin {
         return metricsService.getMetricsByService(serviceMetricRequest);
     }
 
+    @Override
+    public boolean supportsBatchedServiceMetrics() {
+        return true;
+    }
+
     @Override
     public boolean startService(ServiceStateManageRequest serviceStateManageRequest) {
         return vmStateManager.startService(serviceStateManageRequest);
@@ -236,13 +243,34 @@ public class HuaweiCloudOrchestratorPlugin implements OrchestratorPlugin {
         return vmStateManager.restartService(serviceStateManageRequest);
     }
 
+    @Override
+    public List<ServiceStateManageResult> startServices(
+            List<ServiceStateManageRequest> serviceStateManageRequests) {
+        return ServiceStateManageBatches.executeMerged(
+                serviceStateManageRequests, vmStateManager::startService);
+    }
+
+    @Override
+    public List<ServiceStateManageResult> stopServices(
+            List<ServiceStateManageRequest> serviceStateManageRequests) {
+        return ServiceStateManageBatches.executeMerged(
+                serviceStateManageRequests, vmStateManager::stopService);
+    }
+
+    @Override
+    public List<ServiceStateManageResult> restartServices(
+            List<ServiceStateManageRequest> serviceStateManageRequests) {
+        return ServiceStateManageBatches.executeMerged(
+                serviceStateManageRequests, vmStateManager::restartService);
+    }
+
     @Override
     public void auditApiRequest(AuditLog auditLog) {
         log.info(auditLog.toString());
     }
 
     @Override
-    @Cacheable(cacheNames = SERVICE_FLAVOR_PRICE_CACHE_NAME, key = "#request")
+    @Cacheable(cacheNames = SERVICE_FLAVOR_PRICE_CACHE_NAME, key = "#request", sync = true)
     public FlavorPriceResult getServiceFlavorPrice(ServiceFlavorPriceRequest request) {
         return priceCalculator.getServiceFlavorPrice(request);
     }
@@ -13,6 +13,8 @@ import com.huaweicloud.sdk.bssintl.v2.region.BssintlRegion;
 import com.huaweicloud.sdk.ces.v1.CesClient;
 import com.huaweicloud.sdk.ces.v1.region.CesRegion;
 import com.huaweicloud.sdk.core.HttpListener;
+import com.huaweicloud.sdk.core.auth.BasicCredentials;
+import com.huaweicloud.sdk.core.auth.GlobalCredentials;
 import com.huaweicloud.sdk.core.auth.ICredential;
 import com.huaweicloud.sdk.core.http.HttpConfig;
 import com.huaweicloud.sdk.ecs.v2.EcsClient;
@@ -25,14 +27,19 @@ import com.huaweicloud.sdk.iam.v3.IamClient;
 import com.huaweicloud.sdk.iam.v3.region.IamRegion;
 import com.huaweicloud.sdk.vpc.v2.VpcClient;
 import com.huaweicloud.sdk.vpc.v2.region.VpcRegion;
+import jakarta.annotation.Resource;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.common.proxy.ProxyConfigurationManager;
+import org.eclipse.xpanse.modules.cache.sdkclient.CloudSdkClientCache;
+import org.eclipse.xpanse.modules.cache.sdkclient.CloudSdkClientKey;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-/** HuaweiCloud Service Client. */
+/** HuaweiCloud Service Client. The clients are reused for the same credential and region. */
 @Slf4j
 @Component
 public class HuaweiCloudClient extends HuaweiCloudCredentials {
@@ -41,6 +48,7 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
     private boolean sdkHttpDebugLogsEnabled;
 
     @Autowired private ProxyConfigurationManager proxyConfigurationManager;
+    @Resource private CloudSdkClientCache cloudSdkClientCache;
 
     /**
      * Get HuaweiCloud CES Client.
@@ -49,11 +57,17 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public CesClient getCesClient(ICredential credential, String regionName) {
-        return CesClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(credential)
-                .withRegion(CesRegion.valueOf(regionName))
-                .build();
+        return getCachedClient(
+                credential,
+                regionName,
+                "ces",
+                CesClient.class,
+                () ->
+                        CesClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(credential)
+                                .withRegion(CesRegion.valueOf(regionName))
+                                .build());
     }
 
     /**
@@ -63,10 +77,16 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public EcsClient getEcsClient(ICredential credential, String regionName) {
-        return EcsClient.newBuilder()
-                .withCredential(credential)
-                .withRegion(EcsRegion.valueOf(regionName))
-                .build();
+        return getCachedClient(
+                credential,
+                regionName,
+                "ecs",
+                EcsClient.class,
+                () ->
+                        EcsClient.newBuilder()
+                                .withCredential(credential)
+                                .withRegion(EcsRegion.valueOf(regionName))
+                                .build());
     }
 
     /**
@@ -76,11 +96,17 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public VpcClient getVpcClient(ICredential credential, String regionName) {
-        return VpcClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(credential)
-                .withRegion(VpcRegion.valueOf(regionName))
-                .build();
+        return getCachedClient(
+                credential,
+                regionName,
+                "vpc",
+                VpcClient.class,
+                () ->
+                        VpcClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(credential)
+                                .withRegion(VpcRegion.valueOf(regionName))
+                                .build());
     }
 
     /**
@@ -90,11 +116,17 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public EipClient getEipClient(ICredential credential, String regionName) {
-        return EipClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(credential)
-                .withRegion(EipRegion.valueOf(regionName))
-                .build();
+        return getCachedClient(
+                credential,
+                regionName,
+                "eip",
+                EipClient.class,
+                () ->
+                        EipClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(credential)
+                                .withRegion(EipRegion.valueOf(regionName))
+                                .build());
     }
 
     /**
@@ -104,11 +136,17 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public EvsClient getEvsClient(ICredential credential, String regionName) {
-        return EvsClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(credential)
-                .withRegion(EvsRegion.valueOf(regionName))
-                .build();
+        return getCachedClient(
+                credential,
+                regionName,
+                "evs",
+                EvsClient.class,
+                () ->
+                        EvsClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(credential)
+                                .withRegion(EvsRegion.valueOf(regionName))
+                                .build());
     }
 
     /**
@@ -118,11 +156,17 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public IamClient getIamClient(ICredential globalCredential, String regionName) {
-        return IamClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(globalCredential)
-                .withRegion(IamRegion.valueOf(regionName))
-                .build();
+        return getCachedClient(
+                globalCredential,
+                regionName,
+                "iam",
+                IamClient.class,
+                () ->
+                        IamClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(globalCredential)
+                                .withRegion(IamRegion.valueOf(regionName))
+                                .build());
     }
 
     /**
@@ -131,12 +175,19 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param globalCredential ICredential
      */
     public BssClient getBssClient(ICredential globalCredential) {
-        return BssClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(globalCredential)
-                // The fixed BssRegion maps the endpoint 'https://bss.myhuaweicloud.com'
-                .withRegion(BssRegion.CN_NORTH_1)
-                .build();
+        return getCachedClient(
+                globalCredential,
+                "global",
+                "bss",
+                BssClient.class,
+                () ->
+                        BssClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(globalCredential)
+                                // The fixed BssRegion maps the endpoint
+                                // 'https://bss.myhuaweicloud.com'
+                                .withRegion(BssRegion.CN_NORTH_1)
+                                .build());
     }
 
     /**
@@ -145,12 +196,53 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param globalCredential ICredential
      */
     public BssintlClient getBssintlClient(ICredential globalCredential) {
-        return BssintlClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(globalCredential)
-                // The fixed BssintlRegion maps the endpoint 'https://bss-intl.myhuaweicloud.com'.
-                .withRegion(BssintlRegion.AP_SOUTHEAST_1)
-                .build();
+        return getCachedClient(
+                globalCredential,
+                "global",
+                "bssintl",
+                BssintlClient.class,
+                () ->
+                        BssintlClient.newBuilder()
+                                .withHttpConfig(getHttpConfig())
+                                .withCredential(globalCredential)
+                                // The fixed BssintlRegion maps the endpoint
+                                // 'https://bss-intl.myhuaweicloud.com'.
+                                .withRegion(BssintlRegion.AP_SOUTHEAST_1)
+                                .build());
+    }
+
+    private <T> T getCachedClient(
+            ICredential credential,
+            String regionName,
+            String service,
+            Class<T> clientType,
+            Supplier<T> clientCreator) {
+        CloudSdkClientKey key =
+                new CloudSdkClientKey(
+                        Csp.HUAWEI_CLOUD,
+                        getCredentialFingerprint(credential),
+                        regionName,
+                        service);
+        return cloudSdkClientCache.getClient(key, clientType, clientCreator);
+    }
+
+    private String getCredentialFingerprint(ICredential credential) {
+        if (credential instanceof BasicCredentials basicCredentials) {
+            return CloudSdkClientCache.fingerprint(
+                    "basic",
+                    basicCredentials.getAk(),
+                    basicCredentials.getSk(),
+                    basicCredentials.getProjectId());
+        }
+        if (credential instanceof GlobalCredentials globalCredentials) {
+            return CloudSdkClientCache.fingerprint(
+                    "global",
+                    globalCredentials.getAk(),
+                    globalCredentials.getSk(),
+                    globalCredentials.getDomainId());
+        }
+        // other credentials are not cached.
+        return null;
     }
 
     private HttpConfig getHttpConfig() {
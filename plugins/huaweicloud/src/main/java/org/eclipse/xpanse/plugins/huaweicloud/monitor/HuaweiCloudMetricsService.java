@@ -12,17 +12,23 @@ import com.huaweicloud.sdk.ces.v1.model.BatchListMetricDataResponse;
 import com.huaweicloud.sdk.ces.v1.model.ListMetricsRequest;
 import com.huaweicloud.sdk.ces.v1.model.ListMetricsResponse;
 import com.huaweicloud.sdk.ces.v1.model.MetricInfoList;
+import com.huaweicloud.sdk.ces.v1.model.MetricsDimension;
 import com.huaweicloud.sdk.ces.v1.model.ShowMetricDataRequest;
 import com.huaweicloud.sdk.ces.v1.model.ShowMetricDataResponse;
 import com.huaweicloud.sdk.core.auth.ICredential;
 import jakarta.annotation.Resource;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.cache.monitor.MetricCatalogKey;
+import org.eclipse.xpanse.modules.cache.monitor.MetricDescriptor;
 import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsCacheKey;
 import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsStore;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
@@ -35,12 +41,17 @@ import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
 import org.eclipse.xpanse.plugins.huaweicloud.common.HuaweiCloudClient;
 import org.eclipse.xpanse.plugins.huaweicloud.common.HuaweiCloudRetryStrategy;
+import org.eclipse.xpanse.plugins.huaweicloud.monitor.constant.HuaweiCloudMonitorConstants;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
-/** Class to encapsulate all Metric related public methods for HuaweiCloud plugin. */
+/**
+ * Class to encapsulate all Metric related public methods for HuaweiCloud plugin. The metrics which
+ * exist for a resource are kept in the metric catalog, so that they are only listed again after the
+ * catalog expired or the resources of the service changed.
+ */
 @Slf4j
 @Component
 public class HuaweiCloudMetricsService {
@@ -72,8 +83,13 @@ public class HuaweiCloudMetricsService {
             ICredential icredential =
                     huaweiCloudClient.getBasicCredential(siteName, regionName, userId);
             CesClient client = huaweiCloudClient.getCesClient(icredential, regionName);
+            Map<String, List<MetricInfoList>> metricCatalogs =
+                    getMetricCatalogs(List.of(deployResource), client);
             Map<MonitorResourceType, MetricInfoList> targetMetricsMap =
-                    getTargetMetricsMap(deployResource, monitorResourceType, client);
+                    getTargetMetricsMap(
+                            deployResource,
+                            monitorResourceType,
+                            metricCatalogs.get(deployResource.getResourceId()));
             for (Map.Entry<MonitorResourceType, MetricInfoList> entry :
                     targetMetricsMap.entrySet()) {
                 ShowMetricDataRequest showMetricDataRequest =
@@ -123,10 +139,15 @@ public class HuaweiCloudMetricsService {
             ICredential icredential =
                     huaweiCloudClient.getBasicCredential(siteName, regionName, userId);
             CesClient client = huaweiCloudClient.getCesClient(icredential, regionName);
+            Map<String, List<MetricInfoList>> metricCatalogs =
+                    getMetricCatalogs(deployResources, client);
             Map<String, List<MetricInfoList>> deployResourceMetricInfoMap = new HashMap<>();
             for (DeployResource deployResource : deployResources) {
                 Map<MonitorResourceType, MetricInfoList> targetMetricsMap =
-                        getTargetMetricsMap(deployResource, monitorResourceType, client);
+                        getTargetMetricsMap(
+                                deployResource,
+                                monitorResourceType,
+                                metricCatalogs.get(deployResource.getResourceId()));
                 List<MetricInfoList> targetMetricInfoList =
                         targetMetricsMap.values().stream().toList();
                 deployResourceMetricInfoMap.put(
@@ -272,22 +293,168 @@ public class HuaweiCloudMetricsService {
         }
     }
 
+    /**
+     * Get the metric catalogs of the resources, from the cache or listed from the cloud. Catalogs
+     * are cached only when all metrics of the resource are listed.
+     */
+    Map<String, List<MetricInfoList>> getMetricCatalogs(
+            List<DeployResource> deployResources, CesClient client) {
+        Map<String, List<MetricInfoList>> metricCatalogs = new HashMap<>();
+        List<DeployResource> uncachedResources = new ArrayList<>();
+        for (DeployResource deployResource : deployResources) {
+            List<MetricDescriptor> metricDescriptors =
+                    getCachedMetricCatalog(deployResource.getResourceId());
+            if (Objects.nonNull(metricDescriptors)) {
+                metricCatalogs.put(
+                        deployResource.getResourceId(),
+                        metricDescriptors.stream()
+                                .map(
+                                        huaweiCloudDataModelConverter
+                                                ::convertMetricDescriptorToMetricInfoList)
+                                .toList());
+            } else {
+                uncachedResources.add(deployResource);
+            }
+        }
+        if (uncachedResources.size() > 1) {
+            listMetricsOfResources(uncachedResources, client).ifPresent(metricCatalogs::putAll);
+        }
+        for (DeployResource deployResource : uncachedResources) {
+            String resourceId = deployResource.getResourceId();
+            List<MetricInfoList> metricInfoLists = metricCatalogs.get(resourceId);
+            if (CollectionUtils.isEmpty(metricInfoLists)) {
+                metricInfoLists = listMetricsOfResource(deployResource, client);
+                metricCatalogs.put(resourceId, metricInfoLists);
+            }
+            storeMetricCatalog(resourceId, metricInfoLists);
+        }
+        return metricCatalogs;
+    }
+
+    private List<MetricDescriptor> getCachedMetricCatalog(String resourceId) {
+        try {
+            return monitorMetricsStore.getMetricCatalog(
+                    new MetricCatalogKey(Csp.HUAWEI_CLOUD, resourceId));
+        } catch (Exception e) {
+            // the metrics of the resource are not listed yet.
+            return null;
+        }
+    }
+
+    private void storeMetricCatalog(String resourceId, List<MetricInfoList> metricInfoLists) {
+        // metrics of new resources are only available after some minutes.
+        if (CollectionUtils.isEmpty(metricInfoLists)) {
+            return;
+        }
+        try {
+            monitorMetricsStore.storeMetricCatalog(
+                    new MetricCatalogKey(Csp.HUAWEI_CLOUD, resourceId),
+                    metricInfoLists.stream()
+                            .map(
+                                    huaweiCloudDataModelConverter
+                                            ::convertMetricInfoListToMetricDescriptor)
+                            .toList());
+        } catch (Exception e) {
+            log.error("Update metric catalog cache data error.{}", e.getMessage());
+        }
+    }
+
+    private List<MetricInfoList> listMetricsOfResource(
+            DeployResource deployResource, CesClient client) {
+        ListMetricsRequest request =
+                huaweiCloudDataModelConverter.buildListMetricsRequest(deployResource);
+        ListMetricsResponse listMetricsResponse = listMetrics(client, request);
+        if (Objects.isNull(listMetricsResponse)
+                || CollectionUtils.isEmpty(listMetricsResponse.getMetrics())) {
+            return new ArrayList<>();
+        }
+        return listMetricsResponse.getMetrics();
+    }
+
+    /**
+     * List the metrics of the namespaces of the VMs once for all resources. The metrics can't be
+     * filtered by several resources, so the namespaces are listed page by page.
+     *
+     * @return metrics of the resources, empty if the listing stopped at the page limit and the
+     *     metrics of the resources may be incomplete.
+     */
+    private Optional<Map<String, List<MetricInfoList>>> listMetricsOfResources(
+            List<DeployResource> deployResources, CesClient client) {
+        Set<String> resourceIds = new HashSet<>();
+        deployResources.forEach(deployResource -> resourceIds.add(deployResource.getResourceId()));
+        Map<String, List<MetricInfoList>> metricCatalogs = new HashMap<>();
+        for (HuaweiCloudNameSpaceKind nameSpaceKind : HuaweiCloudNameSpaceKind.values()) {
+            String start = null;
+            int pages = 0;
+            do {
+                if (pages++ == HuaweiCloudMonitorConstants.LIST_METRICS_MAX_PAGES) {
+                    log.warn(
+                            "Listing metrics of namespace {} stopped after {} pages, metrics are"
+                                    + " listed per resource.",
+                            nameSpaceKind.toValue(),
+                            HuaweiCloudMonitorConstants.LIST_METRICS_MAX_PAGES);
+                    return Optional.empty();
+                }
+                ListMetricsRequest request =
+                        huaweiCloudDataModelConverter.buildListMetricsRequest(
+                                nameSpaceKind.toValue(),
+                                start,
+                                HuaweiCloudMonitorConstants.LIST_METRICS_PAGE_LIMIT);
+                ListMetricsResponse listMetricsResponse = listMetrics(client, request);
+                if (Objects.isNull(listMetricsResponse)
+                        || CollectionUtils.isEmpty(listMetricsResponse.getMetrics())) {
+                    break;
+                }
+                for (MetricInfoList metricInfo : listMetricsResponse.getMetrics()) {
+                    String resourceId = getResourceIdOfMetric(metricInfo, resourceIds);
+                    if (Objects.nonNull(resourceId)) {
+                        metricCatalogs
+                                .computeIfAbsent(resourceId, id -> new ArrayList<>())
+                                .add(metricInfo);
+                    }
+                }
+                String marker =
+                        Objects.nonNull(listMetricsResponse.getMetaData())
+                                ? listMetricsResponse.getMetaData().getMarker()
+                                : null;
+                start =
+                        StringUtils.isNotBlank(marker)
+                                        && listMetricsResponse.getMetrics().size()
+                                                >= HuaweiCloudMonitorConstants
+                                                        .LIST_METRICS_PAGE_LIMIT
+                                ? marker
+                                : null;
+            } while (Objects.nonNull(start));
+        }
+        return Optional.of(metricCatalogs);
+    }
+
+    /** List the metrics with the retry strategy of the plugin. */
+    ListMetricsResponse listMetrics(CesClient client, ListMetricsRequest request) {
+        return client.listMetricsInvoker(request)
+                .retryTimes(huaweiCloudRetryStrategy.getRetryMaxAttempts())
+                .retryCondition(huaweiCloudRetryStrategy::matchRetryCondition)
+                .backoffStrategy(huaweiCloudRetryStrategy)
+                .invoke();
+    }
+
+    private String getResourceIdOfMetric(MetricInfoList metricInfo, Set<String> resourceIds) {
+        if (Objects.isNull(metricInfo.getDimensions())) {
+            return null;
+        }
+        return metricInfo.getDimensions().stream()
+                .map(MetricsDimension::getValue)
+                .filter(resourceIds::contains)
+                .findFirst()
+                .orElse(null);
+    }
+
     private Map<MonitorResourceType, MetricInfoList> getTargetMetricsMap(
             DeployResource deployResource,
             MonitorResourceType monitorResourceType,
-            CesClient client) {
+            List<MetricInfoList> metricInfoLists) {
         Map<MonitorResourceType, MetricInfoList> targetMetricsMap = new HashMap<>();
-        ListMetricsRequest request =
-                huaweiCloudDataModelConverter.buildListMetricsRequest(deployResource);
-        ListMetricsResponse listMetricsResponse =
-                client.listMetricsInvoker(request)
-                        .retryTimes(huaweiCloudRetryStrategy.getRetryMaxAttempts())
-                        .retryCondition(huaweiCloudRetryStrategy::matchRetryCondition)
-                        .backoffStrategy(huaweiCloudRetryStrategy)
-                        .invoke();
-        if (Objects.nonNull(listMetricsResponse)
-                && !CollectionUtils.isEmpty(listMetricsResponse.getMetrics())) {
-            List<MetricInfoList> metricInfoLists = listMetricsResponse.getMetrics();
+        if (!CollectionUtils.isEmpty(metricInfoLists)) {
             if (Objects.isNull(monitorResourceType)) {
                 for (MonitorResourceType type : MonitorResourceType.values()) {
                     MetricInfoList targetMetricInfo =
@@ -25,6 +25,12 @@ public class HuaweiCloudMonitorConstants extends HuaweiCloudConstants {
     /** Dim0 prefix to query ECS data for monitoring resources. */
     public static final String DIM0_PREFIX = "instance_id,";
 
+    /** Maximum number of metrics in one page of the metrics list. */
+    public static final int LIST_METRICS_PAGE_LIMIT = 1000;
+
+    /** Maximum number of pages of the metrics list of a namespace which are read at once. */
+    public static final int LIST_METRICS_MAX_PAGES = 10;
+
     /** Aggregation time period of indicator monitoring data: real-time. */
     public static final int PERIOD_REAL_TIME_INT = 1;
 
@@ -0,0 +1,212 @@
+package org.eclipse.xpanse.plugins.huaweicloud.monitor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.huaweicloud.sdk.ces.v1.CesClient;
+import com.huaweicloud.sdk.ces.v1.model.ListMetricsRequest;
+import com.huaweicloud.sdk.ces.v1.model.ListMetricsResponse;
+import com.huaweicloud.sdk.ces.v1.model.MetaData;
+import com.huaweicloud.sdk.ces.v1.model.MetricInfoList;
+import com.huaweicloud.sdk.ces.v1.model.MetricsDimension;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import org.eclipse.xpanse.modules.cache.monitor.MetricCatalogKey;
+import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsStore;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.deployment.DeployResource;
+import org.eclipse.xpanse.plugins.huaweicloud.monitor.constant.HuaweiCloudMonitorConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HuaweiCloudMetricsServiceTest {
+
+    private static final String RESOURCE_ID_1 = "ca0f0cf6-16ef-4e7e-bb39-419d7791d3fd";
+    private static final String RESOURCE_ID_2 = "a6bfca5f-cd37-4e8c-9e88-8b4b1b2a7c41";
+    private static final String OTHER_RESOURCE_ID = "other-resource";
+
+    @Mock private CesClient mockCesClient;
+    @Mock private MonitorMetricsStore mockMonitorMetricsStore;
+    @Spy private HuaweiCloudDataModelConverter huaweiCloudDataModelConverter;
+    @Spy @InjectMocks private HuaweiCloudMetricsService metricsServiceUnderTest;
+
+    private final List<DeployResource> deployResources = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        deployResources.add(getDeployResource(RESOURCE_ID_1));
+        deployResources.add(getDeployResource(RESOURCE_ID_2));
+    }
+
+    @Test
+    void testGetMetricCatalogsListsAllPagesOfNamespaces() {
+        mockListMetrics(
+                request -> {
+                    if (Objects.nonNull(request.getDim0())) {
+                        return getResponse(List.of(), null);
+                    }
+                    if (HuaweiCloudNameSpaceKind.ECS_SYS.toValue().equals(request.getNamespace())
+                            && Objects.isNull(request.getStart())) {
+                        List<MetricInfoList> fullPage = new ArrayList<>();
+                        fullPage.add(getMetricInfo("SYS.ECS", "cpu_util", RESOURCE_ID_1));
+                        while (fullPage.size()
+                                < HuaweiCloudMonitorConstants.LIST_METRICS_PAGE_LIMIT) {
+                            fullPage.add(getMetricInfo("SYS.ECS", "cpu_util", OTHER_RESOURCE_ID));
+                        }
+                        return getResponse(fullPage, "marker");
+                    }
+                    if (HuaweiCloudNameSpaceKind.ECS_SYS.toValue().equals(request.getNamespace())) {
+                        return getResponse(
+                                List.of(getMetricInfo("SYS.ECS", "cpu_util", RESOURCE_ID_2)),
+                                "last");
+                    }
+                    return getResponse(
+                            List.of(getMetricInfo("AGT.ECS", "mem_usedPercent", RESOURCE_ID_1)),
+                            null);
+                });
+
+        Map<String, List<MetricInfoList>> result =
+                metricsServiceUnderTest.getMetricCatalogs(deployResources, mockCesClient);
+
+        assertThat(result.get(RESOURCE_ID_1))
+                .extracting(MetricInfoList::getMetricName)
+                .containsExactly("cpu_util", "mem_usedPercent");
+        assertThat(result.get(RESOURCE_ID_2))
+                .extracting(MetricInfoList::getMetricName)
+                .containsExactly("cpu_util");
+        // two pages of SYS.ECS and one page of AGT.ECS.
+        verify(metricsServiceUnderTest, times(3)).listMetrics(eq(mockCesClient), any());
+        verify(mockMonitorMetricsStore)
+                .storeMetricCatalog(
+                        eq(new MetricCatalogKey(Csp.HUAWEI_CLOUD, RESOURCE_ID_1)), anyList());
+        verify(mockMonitorMetricsStore)
+                .storeMetricCatalog(
+                        eq(new MetricCatalogKey(Csp.HUAWEI_CLOUD, RESOURCE_ID_2)), anyList());
+    }
+
+    @Test
+    void testGetMetricCatalogsListsMetricsPerResourceWhenPageLimitIsReached() {
+        mockListMetrics(
+                request -> {
+                    if (Objects.nonNull(request.getDim0())) {
+                        String resourceId =
+                                request.getDim0()
+                                        .substring(
+                                                HuaweiCloudMonitorConstants.DIM0_PREFIX.length());
+                        return getResponse(
+                                List.of(
+                                        getMetricInfo("SYS.ECS", "cpu_util", resourceId),
+                                        getMetricInfo("AGT.ECS", "mem_usedPercent", resourceId)),
+                                null);
+                    }
+                    List<MetricInfoList> fullPage = new ArrayList<>();
+                    fullPage.add(getMetricInfo("SYS.ECS", "cpu_util", RESOURCE_ID_1));
+                    while (fullPage.size() < HuaweiCloudMonitorConstants.LIST_METRICS_PAGE_LIMIT) {
+                        fullPage.add(getMetricInfo("SYS.ECS", "cpu_util", OTHER_RESOURCE_ID));
+                    }
+                    return getResponse(fullPage, "marker");
+                });
+
+        Map<String, List<MetricInfoList>> result =
+                metricsServiceUnderTest.getMetricCatalogs(deployResources, mockCesClient);
+
+        // the truncated listing is not used, the catalogs are listed per resource.
+        assertThat(result.get(RESOURCE_ID_1))
+                .extracting(MetricInfoList::getMetricName)
+                .containsExactly("cpu_util", "mem_usedPercent");
+        assertThat(result.get(RESOURCE_ID_2))
+                .extracting(MetricInfoList::getMetricName)
+                .containsExactly("cpu_util", "mem_usedPercent");
+        verify(metricsServiceUnderTest, times(HuaweiCloudMonitorConstants.LIST_METRICS_MAX_PAGES))
+                .listMetrics(
+                        eq(mockCesClient), argThat(request -> Objects.isNull(request.getDim0())));
+        verify(metricsServiceUnderTest, times(2))
+                .listMetrics(
+                        eq(mockCesClient), argThat(request -> Objects.nonNull(request.getDim0())));
+        verify(mockMonitorMetricsStore, times(2)).storeMetricCatalog(any(), anyList());
+    }
+
+    @Test
+    void testGetMetricCatalogsListsMissingResourcesPerResource() {
+        mockListMetrics(
+                request -> {
+                    if (Objects.nonNull(request.getDim0())) {
+                        return getResponse(List.of(), null);
+                    }
+                    return getResponse(
+                            List.of(
+                                    getMetricInfo(
+                                            request.getNamespace(), "cpu_util", RESOURCE_ID_1)),
+                            null);
+                });
+
+        Map<String, List<MetricInfoList>> result =
+                metricsServiceUnderTest.getMetricCatalogs(deployResources, mockCesClient);
+
+        assertThat(result.get(RESOURCE_ID_1)).hasSize(2);
+        // metrics of new resources are not available yet, so the empty catalog is not stored.
+        assertThat(result.get(RESOURCE_ID_2)).isEmpty();
+        verify(metricsServiceUnderTest)
+                .listMetrics(
+                        eq(mockCesClient),
+                        argThat(
+                                request ->
+                                        Objects.equals(
+                                                HuaweiCloudMonitorConstants.DIM0_PREFIX
+                                                        + RESOURCE_ID_2,
+                                                request.getDim0())));
+        verify(mockMonitorMetricsStore)
+                .storeMetricCatalog(
+                        eq(new MetricCatalogKey(Csp.HUAWEI_CLOUD, RESOURCE_ID_1)), anyList());
+        verify(mockMonitorMetricsStore, never())
+                .storeMetricCatalog(
+                        eq(new MetricCatalogKey(Csp.HUAWEI_CLOUD, RESOURCE_ID_2)), anyList());
+    }
+
+    private void mockListMetrics(Function<ListMetricsRequest, ListMetricsResponse> responses) {
+        doAnswer(invocation -> responses.apply(invocation.getArgument(1)))
+                .when(metricsServiceUnderTest)
+                .listMetrics(eq(mockCesClient), any());
+    }
+
+    private ListMetricsResponse getResponse(List<MetricInfoList> metrics, String marker) {
+        return new ListMetricsResponse()
+                .withMetrics(metrics)
+                .withMetaData(new MetaData().withCount(metrics.size()).withMarker(marker));
+    }
+
+    private MetricInfoList getMetricInfo(String namespace, String metricName, String resourceId) {
+        return new MetricInfoList()
+                .withNamespace(namespace)
+                .withMetricName(metricName)
+                .withUnit("%")
+                .withDimensions(
+                        List.of(
+                                new MetricsDimension()
+                                        .withName("instance_id")
+                                        .withValue(resourceId)));
+    }
+
+    private DeployResource getDeployResource(String resourceId) {
+        DeployResource deployResource = new DeployResource();
+        deployResource.setResourceId(resourceId);
+        deployResource.setResourceName(resourceId);
+        return deployResource;
+    }
+}
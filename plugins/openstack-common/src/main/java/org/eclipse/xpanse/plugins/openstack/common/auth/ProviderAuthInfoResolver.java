@@ -8,12 +8,16 @@ package org.eclipse.xpanse.plugins.openstack.common.auth;
 import jakarta.annotation.Resource;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.cache.sdkclient.CloudSdkClientCache;
 import org.eclipse.xpanse.modules.credential.CredentialCenter;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentEntity;
 import org.eclipse.xpanse.modules.database.service.ServiceDeploymentStorage;
@@ -23,9 +27,13 @@ import org.eclipse.xpanse.modules.deployment.utils.DeployEnvironments;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.common.exceptions.ClientAuthenticationFailedException;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
+import org.eclipse.xpanse.modules.models.credential.CredentialVariable;
+import org.eclipse.xpanse.modules.models.credential.CredentialVariables;
 import org.eclipse.xpanse.modules.models.credential.enums.CredentialType;
 import org.eclipse.xpanse.plugins.openstack.common.auth.constants.OpenstackCommonEnvironmentConstants;
 import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.OpenstackKeystoneManager;
+import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.OpenstackTokenCache;
+import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.OpenstackTokenKey;
 import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.ScsKeystoneManager;
 import org.openstack4j.api.OSClient;
 import org.openstack4j.api.exceptions.AuthenticationException;
@@ -46,6 +54,7 @@ public class ProviderAuthInfoResolver {
     @Resource private ServiceTemplateStorage serviceTemplateStorage;
     @Resource private OpenstackKeystoneManager openstackKeystoneManager;
     @Resource private ScsKeystoneManager scsKeystoneManager;
+    @Resource private OpenstackTokenCache openstackTokenCache;
 
     /**
      * Get the mapping key of the env variable OS_AUTH_URL by csp.
@@ -64,7 +73,8 @@ public class ProviderAuthInfoResolver {
     }
 
     /**
-     * Get the authenticated client for csp.
+     * Get the authenticated client for csp. The Keystone token of the same auth url and credential
+     * is reused until shortly before it expires.
      *
      * @param csp cloud service provider
      * @return authenticated client
@@ -73,11 +83,9 @@ public class ProviderAuthInfoResolver {
             Csp csp, String site, String userId, UUID serviceId, UUID serviceTemplateId) {
         String authUrl = getProviderAuthUrl(csp, serviceId, serviceTemplateId);
         AbstractCredentialInfo credential = getAuthCredential(csp, site, userId);
-        return switch (csp) {
-            case PLUS_SERVER, REGIO_CLOUD ->
-                    scsKeystoneManager.getAuthenticatedClient(authUrl, credential);
-            default -> openstackKeystoneManager.getAuthenticatedClient(authUrl, credential);
-        };
+        return openstackTokenCache.getClient(
+                getTokenKey(csp, site, authUrl, credential),
+                () -> authenticate(csp, authUrl, credential));
     }
 
     /**
@@ -131,6 +139,41 @@ public class ProviderAuthInfoResolver {
         return credentialCenter.getCredential(csp, site, CredentialType.VARIABLES, userId);
     }
 
+    private OSClient.OSClientV3 authenticate(
+            Csp csp, String authUrl, AbstractCredentialInfo credential) {
+        return switch (csp) {
+            case PLUS_SERVER, REGIO_CLOUD ->
+                    scsKeystoneManager.getAuthenticatedClient(authUrl, credential);
+            default -> openstackKeystoneManager.getAuthenticatedClient(authUrl, credential);
+        };
+    }
+
+    private OpenstackTokenKey getTokenKey(
+            Csp csp, String site, String authUrl, AbstractCredentialInfo credential) {
+        String project = null;
+        List<String> parts = new ArrayList<>();
+        parts.add(authUrl);
+        parts.add(credential.getType().toValue());
+        if (credential instanceof CredentialVariables credentialVariables
+                && Objects.nonNull(credentialVariables.getVariables())) {
+            List<CredentialVariable> variables =
+                    new ArrayList<>(credentialVariables.getVariables());
+            variables.sort(
+                    Comparator.comparing(
+                            CredentialVariable::getName,
+                            Comparator.nullsFirst(Comparator.naturalOrder())));
+            for (CredentialVariable variable : variables) {
+                parts.add(variable.getName());
+                parts.add(variable.getValue());
+                if (OpenstackCommonEnvironmentConstants.PROJECT.equals(variable.getName())) {
+                    project = variable.getValue();
+                }
+            }
+        }
+        return new OpenstackTokenKey(
+                csp, site, project, CloudSdkClientCache.fingerprint(parts.toArray(String[]::new)));
+    }
+
     /**
      * Get the auth url from deployment variables.
      *
@@ -194,6 +237,8 @@ public class ProviderAuthInfoResolver {
             int statusCode = authenticationException.getStatus();
             if (statusCode == HttpStatus.UNAUTHORIZED.value()
                     || statusCode == HttpStatus.FORBIDDEN.value()) {
+                // cached tokens may have been revoked.
+                openstackTokenCache.evictAllTokens();
                 throw new ClientAuthenticationFailedException(ex.getMessage());
             }
         }
@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.plugins.openstack.common.auth.keystone;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.credential.CredentialChangedEvent;
+import org.openstack4j.api.OSClient;
+import org.openstack4j.core.transport.Config;
+import org.openstack4j.model.identity.v3.Token;
+import org.openstack4j.openstack.OSFactory;
+import org.openstack4j.openstack.internal.OSClientSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to cache the Keystone tokens of the Openstack clients. The clients of openstack4j are bound
+ * to the thread which authenticated them, so the tokens and the configurations of the clients are
+ * cached instead, and each call gets a new client of its own thread from the cached token. Tokens
+ * are used until shortly before they expire and are authenticated again in the background when they
+ * are close to the expiry. Tokens of a cloud service provider and site are evicted when one of its
+ * credentials is changed.
+ */
+@Slf4j
+@Component
+public class OpenstackTokenCache {
+
+    private final Cache<OpenstackTokenKey, CachedToken> tokens;
+    private final ExecutorService refreshExecutor =
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("xpanse-openstack-token-refresh-", 0).factory());
+    private final Duration expiryMargin;
+    private final Duration refreshBeforeExpiry;
+
+    /**
+     * Constructor of OpenstackTokenCache.
+     *
+     * @param maxSize maximum number of cached tokens.
+     * @param expiryMarginInSeconds seconds before the expiry after which a token is not used.
+     * @param refreshBeforeExpiryInSeconds seconds before the expiry after which a token is
+     *     authenticated again in the background.
+     */
+    public OpenstackTokenCache(
+            @Value("${openstack.keystone.token.cache.max.size:1000}") long maxSize,
+            @Value("${openstack.keystone.token.cache.expiry.margin.in.seconds:60}")
+                    long expiryMarginInSeconds,
+            @Value("${openstack.keystone.token.cache.refresh.before.expiry.in.seconds:300}")
+                    long refreshBeforeExpiryInSeconds) {
+        this.expiryMargin = Duration.ofSeconds(expiryMarginInSeconds);
+        this.refreshBeforeExpiry = Duration.ofSeconds(refreshBeforeExpiryInSeconds);
+        this.tokens =
+                Caffeine.newBuilder().maximumSize(maxSize).expireAfter(new TokenExpiry()).build();
+    }
+
+    /**
+     * Get the authenticated client with the cached token or authenticate it. Concurrent lookups of
+     * the same key authenticate only once. Tokens which expire within the margin are not cached.
+     *
+     * @param key key of the token.
+     * @param authenticator authenticates a new client with Keystone.
+     * @return the authenticated client bound to the current thread.
+     */
+    public OSClient.OSClientV3 getClient(
+            OpenstackTokenKey key, Supplier<OSClient.OSClientV3> authenticator) {
+        CachedToken cachedToken = tokens.getIfPresent(key);
+        if (Objects.nonNull(cachedToken)) {
+            if (cachedToken.isRefreshDue(refreshBeforeExpiry)) {
+                refreshInBackground(key, cachedToken, authenticator);
+            }
+            return OSFactory.clientFromToken(cachedToken.token(), cachedToken.config());
+        }
+        OSClient.OSClientV3[] authenticatedClient = new OSClient.OSClientV3[1];
+        cachedToken =
+                tokens.get(
+                        key,
+                        k -> {
+                            authenticatedClient[0] = authenticator.get();
+                            return toCachedToken(k, authenticatedClient[0]);
+                        });
+        if (Objects.nonNull(authenticatedClient[0])) {
+            // the client authenticated by this call is already bound to the current thread.
+            return authenticatedClient[0];
+        }
+        return OSFactory.clientFromToken(cachedToken.token(), cachedToken.config());
+    }
+
+    /**
+     * Evicts the cached tokens of the cloud service provider and site.
+     *
+     * @param csp cloud service provider.
+     * @param site site of the cloud service provider, all sites when null.
+     */
+    public void evictTokens(Csp csp, String site) {
+        tokens.asMap()
+                .keySet()
+                .removeIf(
+                        key ->
+                                key.csp() == csp
+                                        && (Objects.isNull(site) || site.equals(key.site())));
+        log.info("Evicted cached Keystone tokens of {} site {}.", csp, site);
+    }
+
+    /** Evicts all cached tokens. */
+    public void evictAllTokens() {
+        tokens.invalidateAll();
+    }
+
+    /**
+     * Evicts the cached tokens of the cloud service provider and site of the changed credential.
+     *
+     * @param event event of the changed credential.
+     */
+    @EventListener
+    public void onCredentialChanged(CredentialChangedEvent event) {
+        if (Objects.nonNull(event.getCsp())) {
+            evictTokens(event.getCsp(), event.getSite());
+        }
+    }
+
+    private void refreshInBackground(
+            OpenstackTokenKey key,
+            CachedToken cachedToken,
+            Supplier<OSClient.OSClientV3> authenticator) {
+        if (!cachedToken.refreshing().compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(
+                () -> {
+                    try {
+                        CachedToken refreshedToken = toCachedToken(key, authenticator.get());
+                        if (Objects.nonNull(refreshedToken)) {
+                            // the token is not replaced if it was evicted during the refresh.
+                            tokens.asMap().replace(key, cachedToken, refreshedToken);
+                            log.debug("Refreshed Keystone token {}.", key);
+                        }
+                    } catch (Exception e) {
+                        cachedToken.refreshing().set(false);
+                        log.warn("Refresh Keystone token {} failed. {}", key, e.getMessage());
+                    }
+                });
+    }
+
+    private CachedToken toCachedToken(OpenstackTokenKey key, OSClient.OSClientV3 client) {
+        Token token = client.getToken();
+        if (Objects.isNull(token)
+                || Objects.isNull(token.getExpires())
+                || !token.getExpires().toInstant().minus(expiryMargin).isAfter(Instant.now())) {
+            log.debug("Keystone token {} is not cached as it expires soon.", key);
+            return null;
+        }
+        Config config =
+                client instanceof OSClientSession<?, ?> session ? session.getConfig() : null;
+        return new CachedToken(
+                token,
+                Objects.isNull(config) ? Config.DEFAULT : config,
+                token.getExpires().toInstant(),
+                new AtomicBoolean());
+    }
+
+    /**
+     * Cached token with the configuration of the client it was authenticated with.
+     *
+     * @param token Keystone token.
+     * @param config configuration of the client.
+     * @param expiresAt time when the token expires.
+     * @param refreshing if the token is being authenticated again in the background.
+     */
+    private record CachedToken(
+            Token token, Config config, Instant expiresAt, AtomicBoolean refreshing) {
+
+        private boolean isRefreshDue(Duration refreshBeforeExpiry) {
+            return !refreshing.get() && Instant.now().isAfter(expiresAt.minus(refreshBeforeExpiry));
+        }
+    }
+
+    /** Expires the cached tokens the margin before the tokens expire. */
+    private final class TokenExpiry implements Expiry<OpenstackTokenKey, CachedToken> {
+
+        @Override
+        public long expireAfterCreate(OpenstackTokenKey key, CachedToken value, long currentTime) {
+            return getTimeToLive(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                OpenstackTokenKey key, CachedToken value, long currentTime, long currentDuration) {
+            return getTimeToLive(value);
+        }
+
+        @Override
+        public long expireAfterRead(
+                OpenstackTokenKey key, CachedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long getTimeToLive(CachedToken value) {
+            return Math.max(
+                    0,
+                    Duration.between(Instant.now(), value.expiresAt().minus(expiryMargin))
+                            .toNanos());
+        }
+    }
+}
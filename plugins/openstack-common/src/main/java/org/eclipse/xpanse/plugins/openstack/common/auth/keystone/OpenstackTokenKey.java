@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.plugins.openstack.common.auth.keystone;
+
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+
+/**
+ * Key of a cached Keystone token.
+ *
+ * @param csp cloud service provider.
+ * @param site site of the cloud service provider.
+ * @param project project the token is scoped to.
+ * @param credentialFingerprint hash of the auth url and the credential of the token.
+ */
+public record OpenstackTokenKey(
+        Csp csp, String site, String project, String credentialFingerprint) {
+
+    @Override
+    public String toString() {
+        // the fingerprint is not logged.
+        return csp + ":" + site + ":" + project;
+    }
+}
@@ -0,0 +1,66 @@
+package org.eclipse.xpanse.plugins.openstack.common.auth.keystone;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.credential.CredentialChangedEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openstack4j.api.OSClient;
+import org.openstack4j.model.identity.v3.Token;
+import org.openstack4j.openstack.internal.OSClientSession;
+
+class OpenstackTokenCacheTest {
+
+    private final OpenstackTokenKey key =
+            new OpenstackTokenKey(Csp.OPENSTACK_TESTLAB, "default", "service", "fingerprint");
+    private final OpenstackTokenCache cacheUnderTest = new OpenstackTokenCache(10, 60, 300);
+    private final AtomicInteger authentications = new AtomicInteger();
+
+    @Test
+    void testGetClientReusesTokenUntilCredentialChanged() {
+        Token token = getToken(Instant.now().plusSeconds(3600));
+
+        OSClient.OSClientV3 first = cacheUnderTest.getClient(key, () -> authenticate(token));
+        OSClient.OSClientV3 second = cacheUnderTest.getClient(key, () -> authenticate(token));
+
+        Assertions.assertEquals(1, authentications.get());
+        assertSame(token, first.getToken());
+        // the cached token is used with a new client of the current thread.
+        assertSame(token, second.getToken());
+        assertSame(second, OSClientSession.getCurrent());
+
+        cacheUnderTest.onCredentialChanged(
+                new CredentialChangedEvent(Csp.OPENSTACK_TESTLAB, "default", "userId"));
+        cacheUnderTest.getClient(key, () -> authenticate(token));
+        Assertions.assertEquals(2, authentications.get());
+    }
+
+    @Test
+    void testGetClientDoesNotCacheTokenWhichExpiresSoon() {
+        Token token = getToken(Instant.now().plusSeconds(30));
+
+        cacheUnderTest.getClient(key, () -> authenticate(token));
+        cacheUnderTest.getClient(key, () -> authenticate(token));
+
+        Assertions.assertEquals(2, authentications.get());
+    }
+
+    private Token getToken(Instant expiresAt) {
+        Token token = mock(Token.class);
+        when(token.getExpires()).thenReturn(Date.from(expiresAt));
+        return token;
+    }
+
+    private OSClient.OSClientV3 authenticate(Token token) {
+        authentications.incrementAndGet();
+        OSClient.OSClientV3 client = mock(OSClient.OSClientV3.class);
+        when(client.getToken()).thenReturn(token);
+        return client;
+    }
+}
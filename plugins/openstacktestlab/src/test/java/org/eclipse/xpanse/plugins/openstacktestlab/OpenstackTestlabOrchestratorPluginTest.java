@@ -72,6 +72,7 @@ import org.eclipse.xpanse.modules.security.secrets.SecretsManager;
 import org.eclipse.xpanse.plugins.openstack.common.auth.ProviderAuthInfoResolver;
 import org.eclipse.xpanse.plugins.openstack.common.auth.constants.OpenstackCommonEnvironmentConstants;
 import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.OpenstackKeystoneManager;
+import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.OpenstackTokenCache;
 import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.ScsKeystoneManager;
 import org.eclipse.xpanse.plugins.openstack.common.manage.OpenstackResourceManager;
 import org.eclipse.xpanse.plugins.openstack.common.manage.OpenstackServersManager;
@@ -119,7 +120,8 @@ import org.springframework.test.util.ReflectionTestUtils;
             OpenstackResourceManager.class,
             OpenstackServicePriceCalculator.class,
             ProviderAuthInfoResolver.class,
-            ProxyConfigurationManager.class
+            ProxyConfigurationManager.class,
+            OpenstackTokenCache.class
         })
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestPropertySource(
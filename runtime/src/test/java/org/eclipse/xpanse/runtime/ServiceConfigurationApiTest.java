@@ -13,7 +13,6 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -86,7 +85,7 @@ class ServiceConfigurationApiTest extends ApisTestCommon {
     @MockitoBean private PolicyValidator mockPolicyValidator;
 
     void mockDeploymentWitPolicies() {
-        doNothing().when(mockPolicyValidator).validateDeploymentWithPolicies(any());
+        when(mockPolicyValidator.validateDeploymentWithPolicies(any())).thenReturn(null);
     }
 
     @Test
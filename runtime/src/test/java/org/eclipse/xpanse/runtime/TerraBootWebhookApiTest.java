@@ -9,7 +9,7 @@ package org.eclipse.xpanse.runtime;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -58,7 +58,7 @@ public class TerraBootWebhookApiTest extends ApisTestCommon {
     @MockitoBean private PolicyValidator mockPolicyValidator;
 
     void mockDeploymentWitPolicies() {
-        doNothing().when(mockPolicyValidator).validateDeploymentWithPolicies(any());
+        when(mockPolicyValidator.validateDeploymentWithPolicies(any())).thenReturn(null);
     }
 
     @Test